@@ -123,11 +123,21 @@ public class Schedule {
      * <p>schedule</p>
      */
     public void schedule() {
+        schedule(0L);
+    }
+
+    /**
+     * Schedules the first run after the given delay.
+     *
+     * @param startDelay the delay in milliseconds
+     * @see ScheduleTimer#getStartDelay(long)
+     */
+    public void schedule(long startDelay) {
         m_scheduled = true;
-        schedule(0);
+        scheduleEntry(startDelay);
     }
 
-    private void schedule(long interval) {
+    private void scheduleEntry(long interval) {
         if (interval >= 0 && m_scheduled)
             m_timer.schedule(interval, new ScheduleEntry(++m_currentExpirationCode));
     }
@@ -143,7 +153,7 @@ public class Schedule {
      * <p>adjustSchedule</p>
      */
     public void adjustSchedule() {
-        schedule(m_interval.getInterval());
+        scheduleEntry(m_interval.getInterval());
     }
 
     /**
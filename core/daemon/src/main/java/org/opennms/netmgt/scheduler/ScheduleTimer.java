@@ -38,4 +38,15 @@ public interface ScheduleTimer extends Timer {
      */
     public void schedule(long interval, ReadyRunnable schedule);
 
+    /**
+     * Returns the delay for the first run of a new schedule with the given interval.
+     * Timers can use this to spread the start of schedules created at the same time.
+     *
+     * @param interval the interval of the schedule
+     * @return the delay in milliseconds, 0 by default
+     */
+    default long getStartDelay(long interval) {
+        return 0;
+    }
+
 }
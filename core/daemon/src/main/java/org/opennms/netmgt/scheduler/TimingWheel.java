@@ -0,0 +1,187 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel, measuring time in ticks.
+ *
+ * Every level of the wheel has the same number of buckets. A bucket on level 0 holds the nodes due in
+ * a single tick, a bucket on level {@code n} covers {@code size^n} ticks. Nodes are added to the lowest level
+ * on which they fall into a different bucket than the current tick, so adding and removing nodes takes
+ * constant time. When the current tick enters the range of a bucket on a higher level, its nodes are
+ * moved down to the lower levels. Levels are added as needed.
+ *
+ * This class is not thread-safe.
+ */
+class TimingWheel {
+
+    static class Node {
+        private long m_dueTick;
+        private Node m_prev;
+        private Node m_next;
+        private int m_level = -1;
+        private int m_index;
+
+        long getDueTick() {
+            return m_dueTick;
+        }
+
+        void setDueTick(long dueTick) {
+            m_dueTick = dueTick;
+        }
+
+        boolean isScheduled() {
+            return m_level >= 0;
+        }
+    }
+
+    private final int m_size;
+    private final List<Node[]> m_levels = new ArrayList<>();
+    private final List<Long> m_ticksPerBucket = new ArrayList<>();
+    private long m_currentTick = 0;
+    private int m_count = 0;
+
+    TimingWheel(int size) {
+        m_size = size;
+        addLevel();
+    }
+
+    long getCurrentTick() {
+        return m_currentTick;
+    }
+
+    int size() {
+        return m_count;
+    }
+
+    private void addLevel() {
+        m_levels.add(new Node[m_size]);
+        m_ticksPerBucket.add(m_levels.size() == 1 ? 1L : m_ticksPerBucket.get(m_levels.size() - 2) * m_size);
+    }
+
+    /**
+     * Adds the node to the wheel. Nodes that are due in the current or previous ticks are added to the next tick.
+     */
+    void add(Node node) {
+        if (node.isScheduled()) {
+            remove(node);
+        }
+        final long dueTick = Math.max(node.m_dueTick, m_currentTick + 1);
+
+        int level = 0;
+        long ticksPerBucket = 1;
+        // Find the lowest level on which the node and the current tick share a bucket on the next higher level
+        while (ticksPerBucket <= Long.MAX_VALUE / m_size
+                && dueTick / (ticksPerBucket * m_size) != m_currentTick / (ticksPerBucket * m_size)) {
+            level++;
+            ticksPerBucket *= m_size;
+        }
+        while (level >= m_levels.size()) {
+            addLevel();
+        }
+
+        final int index = (int) ((dueTick / ticksPerBucket) % m_size);
+        final Node[] buckets = m_levels.get(level);
+        node.m_level = level;
+        node.m_index = index;
+        node.m_prev = null;
+        node.m_next = buckets[index];
+        if (node.m_next != null) {
+            node.m_next.m_prev = node;
+        }
+        buckets[index] = node;
+        m_count++;
+    }
+
+    /**
+     * Removes the node from the wheel, if it is scheduled.
+     */
+    void remove(Node node) {
+        if (!node.isScheduled()) {
+            return;
+        }
+        if (node.m_prev != null) {
+            node.m_prev.m_next = node.m_next;
+        } else {
+            m_levels.get(node.m_level)[node.m_index] = node.m_next;
+        }
+        if (node.m_next != null) {
+            node.m_next.m_prev = node.m_prev;
+        }
+        node.m_prev = null;
+        node.m_next = null;
+        node.m_level = -1;
+        m_count--;
+    }
+
+    /**
+     * Advances the wheel up to the given tick.
+     *
+     * @param tick the new current tick
+     * @param due receives the removed nodes that are due
+     */
+    void advance(long tick, List<Node> due) {
+        while (m_currentTick < tick) {
+            m_currentTick++;
+            // Move the nodes down, starting with the highest level
+            for (int level = m_levels.size() - 1; level >= 0; level--) {
+                final long ticksPerBucket = m_ticksPerBucket.get(level);
+                if (m_currentTick % ticksPerBucket == 0) {
+                    flush(level, (int) ((m_currentTick / ticksPerBucket) % m_size), due);
+                }
+            }
+        }
+    }
+
+    private void flush(int level, int index, List<Node> due) {
+        final Node[] buckets = m_levels.get(level);
+        Node node = buckets[index];
+        buckets[index] = null;
+        while (node != null) {
+            final Node next = node.m_next;
+            node.m_prev = null;
+            node.m_next = null;
+            node.m_level = -1;
+            m_count--;
+            if (node.m_dueTick <= m_currentTick) {
+                due.add(node);
+            } else {
+                add(node);
+            }
+            node = next;
+        }
+    }
+
+    void forEach(Consumer<Node> consumer) {
+        for (Node[] buckets : m_levels) {
+            for (Node head : buckets) {
+                for (Node node = head; node != null; node = node.m_next) {
+                    consumer.accept(node);
+                }
+            }
+        }
+    }
+}
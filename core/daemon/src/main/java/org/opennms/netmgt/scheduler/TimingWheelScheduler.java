@@ -0,0 +1,458 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.opennms.core.concurrent.LogPreservingThreadFactory;
+import org.opennms.core.fiber.PausableFiber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.jmx.JmxReporter;
+
+/**
+ * A scheduler backed by a hierarchical timing wheel.
+ *
+ * Unlike the {@link LegacyScheduler}, which repeatedly checks the head of every interval queue,
+ * scheduling and cancelling a runnable are constant time operations and the worker thread only
+ * touches the runnables that are due in the current tick. Runnables are never started before
+ * their interval has expired, but may be started up to one tick later. Due runnables that are not
+ * {@link ReadyRunnable#isReady() ready} are checked again after {@link #NOT_READY_DELAY_MS_SYS_PROP}.
+ *
+ * The first run of new schedules is spread across their interval, see {@link #getStartDelay(long)},
+ * and the time between the expiry of the interval and the actual start of every runnable is
+ * tracked in the "lateness" histogram, which is exposed via JMX.
+ */
+public class TimingWheelScheduler implements Runnable, PausableFiber, Scheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimingWheelScheduler.class);
+
+    /**
+     * The value used by the daemons to select this scheduler.
+     */
+    public static final String TYPE = "timing-wheel";
+
+    public static final String TICK_MS_SYS_PROP = "org.opennms.netmgt.scheduler.timingWheel.tickMs";
+    public static final String WHEEL_SIZE_SYS_PROP = "org.opennms.netmgt.scheduler.timingWheel.wheelSize";
+    public static final String MAX_START_DELAY_MS_SYS_PROP = "org.opennms.netmgt.scheduler.timingWheel.maxStartDelayMs";
+    public static final String NOT_READY_DELAY_MS_SYS_PROP = "org.opennms.netmgt.scheduler.timingWheel.notReadyDelayMs";
+
+    private static final String METRICS_DOMAIN = "org.opennms.netmgt.scheduler";
+
+    private final String m_name;
+    private final long m_tickMs;
+    private final long m_maxStartDelayMs;
+    private final long m_notReadyDelayMs;
+    private final long m_epochNanos = System.nanoTime();
+
+    /**
+     * Guarded by the monitor of the scheduler.
+     */
+    private final TimingWheel m_wheel;
+
+    private final ExecutorService m_runner;
+
+    private final MetricRegistry m_metrics = new MetricRegistry();
+    private final Histogram m_lateness;
+    private final Histogram m_dispatchLateness;
+    private JmxReporter m_reporter;
+
+    private volatile int m_status;
+    private volatile Thread m_worker;
+    private volatile long m_numTasksExecuted = 0;
+
+    /**
+     * Constructs a new scheduler using the wheel configuration from the system properties.
+     *
+     * @param parent
+     *            String prepended to "Scheduler" to create fiber name
+     * @param maxSize
+     *            The maximum size of the thread pool.
+     */
+    public TimingWheelScheduler(final String parent, final int maxSize) {
+        this(parent, maxSize,
+                Long.getLong(TICK_MS_SYS_PROP, 100),
+                Integer.getInteger(WHEEL_SIZE_SYS_PROP, 512),
+                Long.getLong(MAX_START_DELAY_MS_SYS_PROP, TimeUnit.MINUTES.toMillis(5)),
+                Long.getLong(NOT_READY_DELAY_MS_SYS_PROP, 1000));
+    }
+
+    /**
+     * Constructs a new scheduler.
+     *
+     * @param parent
+     *            String prepended to "Scheduler" to create fiber name
+     * @param maxSize
+     *            The maximum size of the thread pool.
+     * @param tickMs
+     *            The resolution of the wheel in milliseconds.
+     * @param wheelSize
+     *            The number of buckets on every level of the wheel.
+     * @param maxStartDelayMs
+     *            The upper bound for the delay of the first run of new schedules, 0 to disable the jitter.
+     * @param notReadyDelayMs
+     *            The time to wait before checking due runnables that are not ready again.
+     */
+    public TimingWheelScheduler(final String parent, final int maxSize, final long tickMs, final int wheelSize, final long maxStartDelayMs, final long notReadyDelayMs) {
+        Assert.isTrue(tickMs > 0, "tickMs must be positive");
+        Assert.isTrue(wheelSize > 1, "wheelSize must be greater than 1");
+        m_name = parent;
+        m_tickMs = tickMs;
+        m_maxStartDelayMs = maxStartDelayMs;
+        m_notReadyDelayMs = Math.max(notReadyDelayMs, tickMs);
+        m_wheel = new TimingWheel(wheelSize);
+        m_runner = Executors.newFixedThreadPool(maxSize, new LogPreservingThreadFactory(parent, maxSize));
+        m_status = START_PENDING;
+
+        m_lateness = m_metrics.histogram(MetricRegistry.name(parent, "lateness"));
+        m_dispatchLateness = m_metrics.histogram(MetricRegistry.name(parent, "dispatchLateness"));
+        m_metrics.register(MetricRegistry.name(parent, "scheduled"), (Gauge<Integer>) this::getScheduled);
+        m_metrics.register(MetricRegistry.name(parent, "queued"), (Gauge<Integer>) () ->
+                m_runner instanceof ThreadPoolExecutor ? ((ThreadPoolExecutor) m_runner).getQueue().size() : 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void schedule(final long interval, final ReadyRunnable runnable) {
+        scheduleEntry(interval, runnable);
+    }
+
+    /**
+     * Schedules the runnable and returns the handle that can be used to cancel it.
+     *
+     * @param interval milliseconds to wait before running the runnable
+     * @param runnable the runnable
+     * @return the scheduled entry
+     */
+    public Entry scheduleEntry(final long interval, final ReadyRunnable runnable) {
+        LOG.debug("schedule: Adding ready runnable {} at interval {}", runnable, interval);
+        // Round the current time up, so that the runnable is never started early
+        final long now = ceilDiv(System.nanoTime() - m_epochNanos, TimeUnit.MILLISECONDS.toNanos(1));
+        final Entry entry = new Entry(runnable, getCurrentTime() + interval, now + interval);
+        synchronized (this) {
+            add(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns a random delay for the first run of a schedule with the given interval, spreading
+     * schedules that are created at the same time (i.e. when the daemon starts) over their interval.
+     */
+    @Override
+    public long getStartDelay(final long interval) {
+        final long bound = Math.min(interval, m_maxStartDelayMs);
+        return bound > 0 ? ThreadLocalRandom.current().nextLong(bound) : 0;
+    }
+
+    private void add(final Entry entry) {
+        entry.setDueTick(ceilDiv(entry.m_deadline, m_tickMs));
+        m_wheel.add(entry);
+    }
+
+    private static long ceilDiv(final long x, final long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private long getMonotonicTime() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - m_epochNanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void start() {
+        Assert.state(m_worker == null, "The fiber has already run or is running");
+
+        m_reporter = JmxReporter.forRegistry(m_metrics).inDomain(METRICS_DOMAIN).build();
+        m_reporter.start();
+
+        m_worker = new Thread(this, getName());
+        m_worker.start();
+        m_status = STARTING;
+
+        LOG.info("start: scheduler started");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void stop() {
+        Assert.state(m_worker != null, "The fiber has never been started");
+
+        m_status = STOP_PENDING;
+        m_worker.interrupt();
+        m_runner.shutdown();
+        if (m_reporter != null) {
+            m_reporter.stop();
+            m_reporter = null;
+        }
+
+        LOG.info("stop: scheduler stopped");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void pause() {
+        Assert.state(m_worker != null, "The fiber has never been started");
+        Assert.state(m_status != STOPPED && m_status != STOP_PENDING, "The fiber is not running or a stop is pending");
+
+        if (m_status == PAUSED) {
+            return;
+        }
+
+        m_status = PAUSE_PENDING;
+        notifyAll();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void resume() {
+        Assert.state(m_worker != null, "The fiber has never been started");
+        Assert.state(m_status != STOPPED && m_status != STOP_PENDING, "The fiber is not running or a stop is pending");
+
+        if (m_status == RUNNING) {
+            return;
+        }
+
+        m_status = RESUME_PENDING;
+        notifyAll();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized int getStatus() {
+        if (m_worker != null && m_worker.isAlive() == false) {
+            m_status = STOPPED;
+        }
+        return m_status;
+    }
+
+    /**
+     * Returns the name of this fiber.
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    @Override
+    public String getName() {
+        return m_name + "-TimingWheelScheduler";
+    }
+
+    /**
+     * Returns total number of elements currently scheduled.
+     */
+    public synchronized int getScheduled() {
+        return m_wheel.size();
+    }
+
+    /**
+     * Returns the pool of threads that are used to executed the runnable
+     * instances scheduled by the class' instance.
+     *
+     * @return thread pool
+     */
+    public ExecutorService getRunner() {
+        return m_runner;
+    }
+
+    /**
+     * Returns a copy of all of the scheduled entries.
+     */
+    public synchronized List<Entry> getScheduledEntries() {
+        final List<Entry> entries = new ArrayList<>(m_wheel.size());
+        m_wheel.forEach(node -> entries.add((Entry) node));
+        return entries;
+    }
+
+    public MetricRegistry getMetricRegistry() {
+        return m_metrics;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getNumTasksExecuted() {
+        return m_numTasksExecuted;
+    }
+
+    /**
+     * The main method of the scheduler. Advances the wheel once per tick and hands the due runnables to the thread pool.
+     */
+    @Override
+    public void run() {
+        synchronized (this) {
+            m_status = RUNNING;
+        }
+
+        LOG.debug("run: scheduler running");
+
+        final List<TimingWheel.Node> due = new ArrayList<>();
+        try {
+            for (;;) {
+                synchronized (this) {
+                    if (m_status != RUNNING && m_status != PAUSED && m_status != PAUSE_PENDING && m_status != RESUME_PENDING) {
+                        LOG.debug("run: status = {}, time to exit", m_status);
+                        break;
+                    }
+
+                    // if paused or pause pending then block
+                    while (m_status == PAUSE_PENDING || m_status == PAUSED) {
+                        if (m_status == PAUSE_PENDING) {
+                            LOG.debug("run: pausing.");
+                        }
+                        m_status = PAUSED;
+                        wait();
+                    }
+
+                    if (m_status == RESUME_PENDING) {
+                        LOG.debug("run: resuming.");
+                        m_status = RUNNING;
+                    }
+
+                    final long now = getMonotonicTime();
+                    final long tick = Math.floorDiv(now, m_tickMs);
+                    if (tick <= m_wheel.getCurrentTick()) {
+                        wait((m_wheel.getCurrentTick() + 1) * m_tickMs - now);
+                        continue;
+                    }
+                    m_wheel.advance(tick, due);
+                }
+
+                dispatch(due);
+                due.clear();
+            }
+        } catch (InterruptedException e) {
+            LOG.debug("run: interrupted");
+        } catch (RejectedExecutionException e) {
+            LOG.debug("run: thread pool no longer accepts runnables");
+        }
+
+        LOG.debug("run: scheduler exiting, state = STOPPED");
+        synchronized (this) {
+            m_status = STOPPED;
+        }
+    }
+
+    private void dispatch(final List<TimingWheel.Node> due) {
+        List<Entry> notReady = null;
+        for (final TimingWheel.Node node : due) {
+            final Entry entry = (Entry) node;
+            if (entry.m_cancelled) {
+                continue;
+            }
+            if (!entry.m_runnable.isReady()) {
+                if (notReady == null) {
+                    notReady = new ArrayList<>();
+                }
+                notReady.add(entry);
+                continue;
+            }
+            LOG.debug("run: found ready runnable {}", entry.m_runnable);
+            m_dispatchLateness.update(Math.max(0, getMonotonicTime() - entry.m_deadline));
+            m_runner.execute(entry);
+            m_numTasksExecuted++;
+        }
+
+        if (notReady != null) {
+            final long deadline = getMonotonicTime() + m_notReadyDelayMs;
+            synchronized (this) {
+                for (final Entry entry : notReady) {
+                    if (!entry.m_cancelled) {
+                        entry.m_deadline = deadline;
+                        add(entry);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A runnable scheduled in the wheel.
+     */
+    public class Entry extends TimingWheel.Node implements LegacyScheduler.TimeKeeper {
+        private final ReadyRunnable m_runnable;
+        private final long m_timeToRun;
+        private volatile long m_deadline;
+        private volatile boolean m_cancelled = false;
+
+        private Entry(final ReadyRunnable runnable, final long timeToRun, final long deadline) {
+            m_runnable = runnable;
+            m_timeToRun = timeToRun;
+            m_deadline = deadline;
+        }
+
+        /**
+         * Removes the runnable from the scheduler, unless it was already started.
+         */
+        public void cancel() {
+            synchronized (TimingWheelScheduler.this) {
+                m_cancelled = true;
+                m_wheel.remove(this);
+            }
+        }
+
+        public boolean isCancelled() {
+            return m_cancelled;
+        }
+
+        @Override
+        public long getTimeToRun() {
+            return m_timeToRun;
+        }
+
+        @Override
+        public ReadyRunnable getRunnable() {
+            return m_runnable;
+        }
+
+        @Override
+        public boolean isReady() {
+            return getCurrentTime() >= m_timeToRun && m_runnable.isReady();
+        }
+
+        @Override
+        public void run() {
+            m_lateness.update(Math.max(0, getMonotonicTime() - m_deadline));
+            m_runnable.run();
+        }
+
+        @Override
+        public String toString() {
+            return m_runnable.toString() + " (ready in " + Math.max(0, m_timeToRun - getCurrentTime()) + "ms)";
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class TimingWheelSchedulerTest {
+
+    private TimingWheelScheduler scheduler;
+
+    @After
+    public void tearDown() {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+    }
+
+    private static class TestNode extends TimingWheel.Node {
+        private final long expectedTick;
+
+        private TestNode(long expectedTick) {
+            this.expectedTick = expectedTick;
+            setDueTick(expectedTick);
+        }
+    }
+
+    /**
+     * Verifies that every node is returned exactly at its due tick, across all of the levels of the wheel.
+     */
+    @Test
+    public void canAdvanceWheelTickByTick() {
+        final Random random = new Random(42);
+        final TimingWheel wheel = new TimingWheel(8);
+        final List<TestNode> removed = new ArrayList<>();
+        int numAdded = 0;
+        int numDue = 0;
+
+        final List<TimingWheel.Node> due = new ArrayList<>();
+        for (long tick = 1; tick <= 5000; tick++) {
+            // Add some nodes with short and long delays, and remove some of the scheduled ones
+            for (int i = 0; i < 3; i++) {
+                final long delay = random.nextBoolean() ? 1 + random.nextInt(10) : 1 + random.nextInt(3000);
+                final TestNode node = new TestNode(wheel.getCurrentTick() + delay);
+                wheel.add(node);
+                numAdded++;
+                if (random.nextInt(10) == 0) {
+                    wheel.remove(node);
+                    removed.add(node);
+                }
+            }
+
+            wheel.advance(tick, due);
+            for (TimingWheel.Node node : due) {
+                assertEquals(((TestNode) node).expectedTick, tick);
+                assertFalse(removed.contains(node));
+            }
+            numDue += due.size();
+            due.clear();
+        }
+
+        wheel.advance(10000, due);
+        numDue += due.size();
+        assertEquals(0, wheel.size());
+        assertEquals(numAdded - removed.size(), numDue);
+    }
+
+    @Test
+    public void canJumpAhead() {
+        final TimingWheel wheel = new TimingWheel(4);
+        final TestNode node = new TestNode(1000);
+        wheel.add(node);
+        // Nodes that are due are added to the next tick
+        wheel.add(new TestNode(-5));
+        assertEquals(2, wheel.size());
+
+        final List<TimingWheel.Node> due = new ArrayList<>();
+        wheel.advance(999, due);
+        assertEquals(1, due.size());
+        wheel.advance(1500, due);
+        assertEquals(2, due.size());
+        assertEquals(node, due.get(1));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test(timeout = 30000)
+    public void canRunRunnablesWhenDue() throws InterruptedException {
+        scheduler = new TimingWheelScheduler("test", 4, 10, 16, 0, 10);
+        scheduler.start();
+
+        final int numRunnables = 200;
+        final CountDownLatch latch = new CountDownLatch(numRunnables);
+        final ConcurrentLinkedQueue<Long> early = new ConcurrentLinkedQueue<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < numRunnables; i++) {
+            final long interval = random.nextInt(3000);
+            final long timeToRun = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(interval);
+            scheduler.schedule(interval, new ReadyRunnable() {
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void run() {
+                    final long now = System.nanoTime();
+                    if (now < timeToRun) {
+                        early.add(timeToRun - now);
+                    }
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        assertTrue("Runnables started early: " + early, early.isEmpty());
+        // The counter is incremented after the runnable was handed to the pool
+        while (scheduler.getNumTasksExecuted() < numRunnables) {
+            Thread.sleep(10);
+        }
+        assertEquals(numRunnables, scheduler.getMetricRegistry().histogram("test.lateness").getCount());
+        assertEquals(0, scheduler.getScheduled());
+    }
+
+    @Test(timeout = 30000)
+    public void canCancelAndRetryWhenNotReady() throws InterruptedException {
+        scheduler = new TimingWheelScheduler("test", 1, 10, 16, 0, 10);
+        scheduler.start();
+
+        final AtomicInteger cancelledRuns = new AtomicInteger();
+        final TimingWheelScheduler.Entry cancelled = scheduler.scheduleEntry(200, new ReadyRunnable() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void run() {
+                cancelledRuns.incrementAndGet();
+            }
+        });
+
+        final AtomicBoolean ready = new AtomicBoolean(false);
+        final AtomicInteger readinessChecks = new AtomicInteger();
+        final CountDownLatch ran = new CountDownLatch(1);
+        scheduler.schedule(0, new ReadyRunnable() {
+            @Override
+            public boolean isReady() {
+                readinessChecks.incrementAndGet();
+                return ready.get();
+            }
+
+            @Override
+            public void run() {
+                ran.countDown();
+            }
+        });
+
+        assertEquals(2, scheduler.getScheduled());
+        cancelled.cancel();
+        assertTrue(cancelled.isCancelled());
+        assertEquals(1, scheduler.getScheduled());
+
+        // The runnable is checked again until it is ready
+        while (readinessChecks.get() < 3) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, ran.getCount());
+        ready.set(true);
+        assertTrue(ran.await(10, TimeUnit.SECONDS));
+
+        Thread.sleep(300);
+        assertEquals(0, cancelledRuns.get());
+    }
+
+    @Test
+    public void canSpreadStartTimes() {
+        scheduler = new TimingWheelScheduler("test", 1, 10, 16, 1000, 10);
+        scheduler.start();
+        assertEquals(0, scheduler.getStartDelay(0));
+        for (int i = 0; i < 100; i++) {
+            final long delay = scheduler.getStartDelay(300);
+            assertTrue(delay >= 0 && delay < 300);
+            assertTrue(scheduler.getStartDelay(60000) < 1000);
+        }
+    }
+}
@@ -403,7 +403,8 @@ public class MinionGrpcClient extends AbstractMessageDispatcherFactory<String> {
         Span minionSpan = spanBuilder.start();
         setTagsForRpc(requestProto, minionSpan);
 
-        RpcRequest rpcRequest = rpcModule.unmarshalRequest(requestProto.getRpcContent().toStringUtf8());
+        final String requestAsString = requestProto.getRpcContent().toStringUtf8();
+        RpcRequest rpcRequest = rpcModule.unmarshalRequest(requestAsString);
         CompletableFuture<RpcResponse> future = rpcModule.execute(rpcRequest);
         future.whenComplete((res, ex) -> {
             final RpcResponse rpcResponse;
@@ -419,7 +420,7 @@ public class MinionGrpcClient extends AbstractMessageDispatcherFactory<String> {
             }
             minionSpan.finish();
             // Construct response using the same rpcId;
-            String responseAsString = rpcModule.marshalResponse(rpcResponse);
+            String responseAsString = rpcModule.marshalResponse(requestAsString, rpcResponse);
             RpcResponseProto responseProto = RpcResponseProto.newBuilder()
                     .setRpcId(requestProto.getRpcId())
                     .setSystemId(minionIdentity.getId())
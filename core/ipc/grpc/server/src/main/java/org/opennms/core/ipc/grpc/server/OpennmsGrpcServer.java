@@ -600,7 +600,7 @@ public class OpennmsGrpcServer extends AbstractMessageConsumerManager implements
 
             try (Logging.MDCCloseable mdc = Logging.withContextMapCloseable(loggingContext)) {
                 if (message != null) {
-                    T response = rpcModule.unmarshalResponse(message);
+                    T response = rpcModule.unmarshalResponse(this.location, message);
                     if (response.getErrorMessage() != null) {
                         span.log(response.getErrorMessage());
                         RpcClientFactory.markFailed(getRpcMetrics(), this.location, rpcModule.getId());
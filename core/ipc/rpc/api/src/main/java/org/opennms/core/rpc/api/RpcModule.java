@@ -53,11 +53,34 @@ public interface RpcModule<S extends RpcRequest, T extends RpcResponse> extends
      */
     String marshalResponse(T response);
 
+    /**
+     * Marshals the response to the given request to a string.
+     *
+     * Modules can use the marshaled request to pick a format that is supported by
+     * the sender of the request.
+     *
+     * @param request the marshaled request, as passed to {@link #unmarshalRequest(String)}
+     * @param response the response to marshal
+     */
+    default String marshalResponse(String request, T response) {
+        return marshalResponse(response);
+    }
+
     /**
      * Unmarshals the response from a string.
      */
     T unmarshalResponse(String response);
 
+    /**
+     * Unmarshals a response that was received from the given location.
+     *
+     * Modules can use the response to learn about the formats supported at
+     * the location.
+     */
+    default T unmarshalResponse(String location, String response) {
+        return unmarshalResponse(response);
+    }
+
     /**
      * Called when the {@link RpcModule} throws an exception while executing a request.
      *
@@ -148,7 +148,7 @@ public class CamelRpcClientFactory implements RpcClientFactory {
                                 try (MDCCloseable mdc = Logging.withContextMapCloseable(clientContextMap)) {
                                     String responseAsString = exchange.getOut().getBody(String.class);
                                     responseSize.update(responseAsString.getBytes().length);
-                                    final T response = module.unmarshalResponse(responseAsString);
+                                    final T response = module.unmarshalResponse(request.getLocation(), responseAsString);
                                     if (response.getErrorMessage() != null) {
                                         future.completeExceptionally(new RemoteExecutionException(response.getErrorMessage()));
                                         span.setTag(TAG_RPC_FAILED, "true");
@@ -262,6 +262,10 @@ public class CamelRpcClientFactory implements RpcClientFactory {
         this.location = location;
     }
 
+    public long getDefaultTtlMs() {
+        return rpcExecTimeoutMs;
+    }
+
     public void start() {
         executor = Executors.newCachedThreadPool(threadFactory);
         timeLimiter = SimpleTimeLimiter.create(executor);
@@ -85,7 +85,8 @@ public class CamelRpcServerProcessor implements AsyncProcessor {
         Span minionSpan = spanBuilder.start();
         //Add custom tags to minion span.
         tracingInfo.forEach(minionSpan::setTag);
-        final RpcRequest request = module.unmarshalRequest(exchange.getIn().getBody(String.class));
+        final String requestAsString = exchange.getIn().getBody(String.class);
+        final RpcRequest request = module.unmarshalRequest(requestAsString);
         minionSpan.setTag(TAG_LOCATION, request.getLocation());
         if(request.getSystemId() != null) {
             minionSpan.setTag(TAG_SYSTEM_ID, request.getSystemId());
@@ -107,7 +108,7 @@ public class CamelRpcServerProcessor implements AsyncProcessor {
                 // Received response, finish minion span.
                 minionSpan.finish();
                 try {
-                    exchange.getOut().setBody(module.marshalResponse(response), String.class);
+                    exchange.getOut().setBody(module.marshalResponse(requestAsString, response), String.class);
                     postProcess(exchange);
                 }  catch (Throwable t) {
                     LOG.error("Marshalling a response in RPC module {} failed.", module, t);
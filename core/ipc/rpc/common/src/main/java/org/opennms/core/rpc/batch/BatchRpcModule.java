@@ -0,0 +1,139 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.rpc.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.opennms.core.rpc.api.RemoteExecutionException;
+import org.opennms.core.rpc.api.RpcModule;
+import org.opennms.core.rpc.api.RpcRequest;
+import org.opennms.core.rpc.api.RpcResponse;
+import org.opennms.core.rpc.xml.AbstractXmlRpcModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the requests of a {@link BatchRpcRequest} using the {@link RpcModule}s
+ * that are registered on the Minion.
+ *
+ * All of the requests are started before waiting for any of them to complete, the
+ * modules run the executions in their own thread pools. The response is returned
+ * once every request has completed, or has exceeded its own time-to-live, so that
+ * a single slow request does not hold back the responses to the others.
+ */
+public class BatchRpcModule extends AbstractXmlRpcModule<BatchRpcRequest, BatchRpcResponse> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchRpcModule.class);
+
+    public static final String RPC_MODULE_ID = "Batch";
+
+    private final Map<String, RpcModule<RpcRequest, RpcResponse>> modulesById = new ConcurrentHashMap<>();
+
+    public BatchRpcModule() {
+        super(BatchRpcRequest.class, BatchRpcResponse.class);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void bind(RpcModule module) {
+        if (module != null && !RPC_MODULE_ID.equals(module.getId())) {
+            modulesById.put(module.getId(), (RpcModule<RpcRequest, RpcResponse>) module);
+        }
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    public void unbind(RpcModule module) {
+        if (module != null) {
+            modulesById.remove(module.getId(), module);
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchRpcResponse> execute(final BatchRpcRequest request) {
+        final List<BatchRpcRequest.Entry> entries = request.getRequests();
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<BatchRpcResponse.Entry>[] futures = new CompletableFuture[entries.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = execute(entries.get(i));
+        }
+
+        return CompletableFuture.allOf(futures).thenApply(v -> {
+            final BatchRpcResponse response = new BatchRpcResponse();
+            for (CompletableFuture<BatchRpcResponse.Entry> future : futures) {
+                response.addResponse(future.join());
+            }
+            return response;
+        });
+    }
+
+    private CompletableFuture<BatchRpcResponse.Entry> execute(final BatchRpcRequest.Entry entry) {
+        final RpcModule<RpcRequest, RpcResponse> module = modulesById.get(entry.getModule());
+        if (module == null) {
+            return CompletableFuture.completedFuture(BatchRpcResponse.Entry.withError(entry.getId(),
+                    "No RPC module with id '" + entry.getModule() + "' is available."));
+        }
+
+        CompletableFuture<RpcResponse> future;
+        try {
+            future = module.execute(module.unmarshalRequest(entry.getRequest()));
+        } catch (Throwable t) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(t);
+        }
+
+        final CompletableFuture<BatchRpcResponse.Entry> entryFuture = future.handle((res, ex) -> {
+            try {
+                final RpcResponse response;
+                if (ex != null) {
+                    // An exception occurred, store the exception in a new response
+                    LOG.warn("An error occured while executing a call in {}.", module.getId(), ex);
+                    response = module.createResponseWithException(ex);
+                } else {
+                    response = res;
+                }
+                return new BatchRpcResponse.Entry(entry.getId(), module.marshalResponse(entry.getRequest(), response));
+            } catch (Throwable t) {
+                LOG.error("Marshalling response in RPC module {} failed.", module.getId(), t);
+                return BatchRpcResponse.Entry.withError(entry.getId(), RemoteExecutionException.toErrorMessage(t));
+            }
+        });
+
+        final Long ttl = entry.getTimeToLiveMs();
+        if (ttl == null) {
+            return entryFuture;
+        }
+        return entryFuture.completeOnTimeout(BatchRpcResponse.Entry.timedOut(entry.getId(), ttl), ttl, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public String getId() {
+        return RPC_MODULE_ID;
+    }
+
+    @Override
+    public BatchRpcResponse createResponseWithException(Throwable ex) {
+        return new BatchRpcResponse(ex);
+    }
+}
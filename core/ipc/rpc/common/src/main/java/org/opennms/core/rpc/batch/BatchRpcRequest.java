@@ -0,0 +1,195 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.rpc.batch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlValue;
+
+import org.opennms.core.rpc.api.RpcRequest;
+
+import io.opentracing.Span;
+
+/**
+ * Envelope for several marshaled requests that are sent to the same location,
+ * and system, as a single RPC.
+ */
+@XmlRootElement(name="batch-request")
+@XmlAccessorType(XmlAccessType.NONE)
+public class BatchRpcRequest implements RpcRequest {
+
+    @XmlAttribute(name="location")
+    private String location;
+
+    @XmlAttribute(name="system-id")
+    private String systemId;
+
+    @XmlElement(name="request")
+    private List<Entry> requests = new ArrayList<>();
+
+    private Long timeToLiveMs;
+
+    private Map<String, String> tracingInfo = new HashMap<>();
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    @Override
+    public String getLocation() {
+        return location;
+    }
+
+    public void setSystemId(String systemId) {
+        this.systemId = systemId;
+    }
+
+    @Override
+    public String getSystemId() {
+        return systemId;
+    }
+
+    public void setTimeToLiveMs(Long timeToLiveMs) {
+        this.timeToLiveMs = timeToLiveMs;
+    }
+
+    @Override
+    public Long getTimeToLiveMs() {
+        return timeToLiveMs;
+    }
+
+    @Override
+    public Map<String, String> getTracingInfo() {
+        return tracingInfo;
+    }
+
+    @Override
+    public Span getSpan() {
+        return null;
+    }
+
+    public List<Entry> getRequests() {
+        return requests;
+    }
+
+    public void addRequest(int id, String module, String request, Long timeToLiveMs) {
+        requests.add(new Entry(id, module, request, timeToLiveMs));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(location, systemId, requests);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final BatchRpcRequest other = (BatchRpcRequest) obj;
+        return Objects.equals(this.location, other.location) &&
+                Objects.equals(this.systemId, other.systemId) &&
+                Objects.equals(this.requests, other.requests);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchRpcRequest[location=%s, systemId=%s, requests=%d]",
+                location, systemId, requests.size());
+    }
+
+    /**
+     * A single request, marshaled by the module that executes it, and its own time-to-live.
+     */
+    @XmlAccessorType(XmlAccessType.NONE)
+    public static class Entry {
+
+        @XmlAttribute(name="id")
+        private int id;
+
+        @XmlAttribute(name="module")
+        private String module;
+
+        @XmlAttribute(name="ttl")
+        private Long timeToLiveMs;
+
+        @XmlValue
+        private String request;
+
+        public Entry() { }
+
+        public Entry(int id, String module, String request, Long timeToLiveMs) {
+            this.id = id;
+            this.module = module;
+            this.request = request;
+            this.timeToLiveMs = timeToLiveMs;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getModule() {
+            return module;
+        }
+
+        public String getRequest() {
+            return request;
+        }
+
+        public Long getTimeToLiveMs() {
+            return timeToLiveMs;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, module, request, timeToLiveMs);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (obj == null)
+                return false;
+            if (getClass() != obj.getClass())
+                return false;
+            final Entry other = (Entry) obj;
+            return this.id == other.id &&
+                    Objects.equals(this.module, other.module) &&
+                    Objects.equals(this.request, other.request) &&
+                    Objects.equals(this.timeToLiveMs, other.timeToLiveMs);
+        }
+    }
+}
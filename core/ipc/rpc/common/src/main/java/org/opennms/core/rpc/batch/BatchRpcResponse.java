@@ -0,0 +1,170 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.rpc.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlValue;
+
+import org.opennms.core.rpc.api.RemoteExecutionException;
+import org.opennms.core.rpc.api.RpcResponse;
+
+/**
+ * Envelope for the marshaled responses of a {@link BatchRpcRequest}.
+ */
+@XmlRootElement(name="batch-response")
+@XmlAccessorType(XmlAccessType.NONE)
+public class BatchRpcResponse implements RpcResponse {
+
+    @XmlAttribute(name="error")
+    private String error;
+
+    @XmlElement(name="response")
+    private List<Entry> responses = new ArrayList<>();
+
+    public BatchRpcResponse() { }
+
+    public BatchRpcResponse(Throwable t) {
+        this.error = RemoteExecutionException.toErrorMessage(t);
+    }
+
+    @Override
+    public String getErrorMessage() {
+        return error;
+    }
+
+    public List<Entry> getResponses() {
+        return responses;
+    }
+
+    public void addResponse(Entry response) {
+        responses.add(response);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(error, responses);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final BatchRpcResponse other = (BatchRpcResponse) obj;
+        return Objects.equals(this.error, other.error) &&
+                Objects.equals(this.responses, other.responses);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchRpcResponse[error=%s, responses=%d]", error, responses.size());
+    }
+
+    /**
+     * The response to the request with the same id, marshaled by the module
+     * that executed it. The error is only set if the module could not
+     * provide a response itself, i.e. if it is not available or the request
+     * did not complete within its time-to-live.
+     */
+    @XmlAccessorType(XmlAccessType.NONE)
+    public static class Entry {
+
+        @XmlAttribute(name="id")
+        private int id;
+
+        @XmlAttribute(name="error")
+        private String error;
+
+        @XmlAttribute(name="timed-out")
+        private Boolean timedOut;
+
+        @XmlValue
+        private String response;
+
+        public Entry() { }
+
+        public Entry(int id, String response) {
+            this.id = id;
+            this.response = response;
+        }
+
+        public static Entry withError(int id, String error) {
+            final Entry entry = new Entry();
+            entry.id = id;
+            entry.error = error;
+            return entry;
+        }
+
+        public static Entry timedOut(int id, long timeToLiveMs) {
+            final Entry entry = withError(id, "The request did not complete within " + timeToLiveMs + "ms.");
+            entry.timedOut = true;
+            return entry;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public String getResponse() {
+            return response;
+        }
+
+        public boolean isTimedOut() {
+            return Boolean.TRUE.equals(timedOut);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, error, timedOut, response);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (obj == null)
+                return false;
+            if (getClass() != obj.getClass())
+                return false;
+            final Entry other = (Entry) obj;
+            return this.id == other.id &&
+                    Objects.equals(this.error, other.error) &&
+                    Objects.equals(this.timedOut, other.timedOut) &&
+                    Objects.equals(this.response, other.response);
+        }
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.rpc.batch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.opennms.core.rpc.api.RemoteExecutionException;
+import org.opennms.core.rpc.api.RequestTimedOutException;
+import org.opennms.core.rpc.api.RpcClient;
+import org.opennms.core.rpc.api.RpcClientFactory;
+import org.opennms.core.rpc.api.RpcModule;
+import org.opennms.core.rpc.api.RpcRequest;
+import org.opennms.core.rpc.api.RpcResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Strings;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * {@link RpcClientFactory} that coalesces the requests of the configured modules.
+ *
+ * Requests to the same location, and system, are collected for up to
+ * {@link #setLingerMs(long)} milliseconds, or until {@link #setMaxBatchSize(int)}
+ * requests were collected, and are then sent to the Minion as a single
+ * {@link BatchRpcRequest}. The Minion executes them with the {@link BatchRpcModule}.
+ *
+ * Requests for the local location, and modules that are not configured, are
+ * passed through to the delegate.
+ */
+public class BatchingRpcClientFactory implements RpcClientFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingRpcClientFactory.class);
+
+    /**
+     * Comma-separated list of the ids of the modules that use batching, i.e. "Poller,Collect,Detect".
+     */
+    public static final String MODULES_SYS_PROP = "org.opennms.core.ipc.rpc.batch.modules";
+
+    public static final String LINGER_MS_SYS_PROP = "org.opennms.core.ipc.rpc.batch.lingerMs";
+
+    public static final String MAX_BATCH_SIZE_SYS_PROP = "org.opennms.core.ipc.rpc.batch.maxSize";
+
+    /**
+     * Added to the time-to-live of a batch, and its requests, so that the responses to
+     * requests which timed out on the Minion still make it back before they expire here.
+     */
+    public static final String TTL_GRACE_MS_SYS_PROP = "org.opennms.core.ipc.rpc.batch.ttlGraceMs";
+
+    public static final long DEFAULT_LINGER_MS = 10;
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    public static final long DEFAULT_TTL_GRACE_MS = 5000;
+
+    /**
+     * Used for the requests without a time-to-live, matches the default of the JMS and Kafka clients.
+     */
+    public static final long DEFAULT_TTL_MS = 20000;
+
+    private final RpcClientFactory delegate;
+
+    private final BatchRpcModule batchModule = new BatchRpcModule();
+
+    private final Supplier<RpcClient<BatchRpcRequest, BatchRpcResponse>> batchClient;
+
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+            .setNameFormat("rpc-batch-scheduler-%d")
+            .setDaemon(true)
+            .build());
+
+    private String location;
+
+    private Set<String> modules;
+
+    private long lingerMs;
+
+    private int maxBatchSize;
+
+    private long ttlGraceMs;
+
+    private long defaultTtlMs = DEFAULT_TTL_MS;
+
+    public BatchingRpcClientFactory(RpcClientFactory delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+        // Every batched request schedules a timeout that is cancelled once it completes, drop these right away
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.batchClient = Suppliers.memoize(() -> delegate.getClient(batchModule));
+        setModules(System.getProperty(MODULES_SYS_PROP));
+        setLingerMs(Long.getLong(LINGER_MS_SYS_PROP, DEFAULT_LINGER_MS));
+        setMaxBatchSize(Integer.getInteger(MAX_BATCH_SIZE_SYS_PROP, DEFAULT_MAX_BATCH_SIZE));
+        setTtlGraceMs(Long.getLong(TTL_GRACE_MS_SYS_PROP, DEFAULT_TTL_GRACE_MS));
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public void setModules(String modules) {
+        if (Strings.isNullOrEmpty(modules)) {
+            this.modules = Collections.emptySet();
+        } else {
+            this.modules = Arrays.stream(modules.split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    public void setLingerMs(long lingerMs) {
+        this.lingerMs = lingerMs;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public void setTtlGraceMs(long ttlGraceMs) {
+        this.ttlGraceMs = ttlGraceMs;
+    }
+
+    /**
+     * Sets the time-to-live of the requests that have none, this should be the default of the delegate.
+     */
+    public void setDefaultTtlMs(long defaultTtlMs) {
+        this.defaultTtlMs = defaultTtlMs;
+    }
+
+    int getScheduledTaskCount() {
+        return scheduler.getQueue().size();
+    }
+
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public <R extends RpcRequest, S extends RpcResponse> RpcClient<R, S> getClient(RpcModule<R, S> module) {
+        final RpcClient<R, S> client = delegate.getClient(module);
+        if (!modules.contains(module.getId())) {
+            return client;
+        }
+        LOG.info("Batching requests for RPC module {} with a linger time of {}ms and at most {} requests per batch.",
+                module.getId(), lingerMs, maxBatchSize);
+        return new BatchingRpcClient<>(module, client);
+    }
+
+    private class BatchingRpcClient<R extends RpcRequest, S extends RpcResponse> implements RpcClient<R, S> {
+
+        private final RpcModule<R, S> module;
+
+        private final RpcClient<R, S> client;
+
+        private final Map<BatchKey, Batch<R, S>> pendingBatches = new HashMap<>();
+
+        private BatchingRpcClient(RpcModule<R, S> module, RpcClient<R, S> client) {
+            this.module = Objects.requireNonNull(module);
+            this.client = Objects.requireNonNull(client);
+        }
+
+        @Override
+        public CompletableFuture<S> execute(R request) {
+            if (request.getLocation() == null || request.getLocation().equals(location)) {
+                // The request is executed locally, there is nothing to gain from batching it
+                return client.execute(request);
+            }
+
+            final PendingRequest<R, S> pendingRequest = new PendingRequest<>(request);
+            final BatchKey key = new BatchKey(request.getLocation(), request.getSystemId());
+            Batch<R, S> fullBatch = null;
+            synchronized (pendingBatches) {
+                Batch<R, S> batch = pendingBatches.get(key);
+                if (batch == null) {
+                    final Batch<R, S> newBatch = new Batch<>(key);
+                    pendingBatches.put(key, newBatch);
+                    scheduler.schedule(() -> flush(newBatch), lingerMs, TimeUnit.MILLISECONDS);
+                    batch = newBatch;
+                }
+                batch.requests.add(pendingRequest);
+                if (batch.requests.size() >= maxBatchSize) {
+                    pendingBatches.remove(key);
+                    fullBatch = batch;
+                }
+            }
+            if (fullBatch != null) {
+                send(fullBatch);
+            }
+            return pendingRequest.future;
+        }
+
+        private void flush(Batch<R, S> batch) {
+            synchronized (pendingBatches) {
+                // The batch may already have been sent because it was full
+                if (!pendingBatches.remove(batch.key, batch)) {
+                    return;
+                }
+            }
+            send(batch);
+        }
+
+        private void send(Batch<R, S> batch) {
+            try {
+                doSend(batch);
+            } catch (Throwable t) {
+                LOG.warn("Sending a batch of {} requests to {} failed.", batch.requests.size(), batch.key, t);
+                for (PendingRequest<R, S> pendingRequest : batch.requests) {
+                    pendingRequest.future.completeExceptionally(t);
+                }
+            }
+        }
+
+        private void doSend(Batch<R, S> batch) {
+            if (batch.requests.size() == 1) {
+                // Don't wrap a single request in an envelope
+                final PendingRequest<R, S> pendingRequest = batch.requests.get(0);
+                client.execute(pendingRequest.request).whenComplete(pendingRequest::complete);
+                return;
+            }
+
+            final BatchRpcRequest batchRequest = new BatchRpcRequest();
+            batchRequest.setLocation(batch.key.location);
+            batchRequest.setSystemId(batch.key.systemId);
+            batchRequest.setTimeToLiveMs(batch.getTimeToLiveMs(defaultTtlMs) + ttlGraceMs);
+            for (int i = 0; i < batch.requests.size(); i++) {
+                final PendingRequest<R, S> pendingRequest = batch.requests.get(i);
+                // The Minion answers for every request once its own time-to-live expired
+                final long ttl = pendingRequest.getTimeToLiveMs(defaultTtlMs);
+                batchRequest.addRequest(i, module.getId(), module.marshalRequest(pendingRequest.request), ttl);
+
+                // The Minion reports the request as timed out once its time-to-live expired, we only give up
+                // on our own if that report does not arrive, i.e. if the Minion is unreachable
+                final ScheduledFuture<?> timeout = scheduler.schedule(() -> pendingRequest.future.completeExceptionally(
+                        new RequestTimedOutException(new TimeoutException())), ttl + ttlGraceMs, TimeUnit.MILLISECONDS);
+                pendingRequest.future.whenComplete((response, ex) -> timeout.cancel(false));
+            }
+
+            LOG.debug("Sending a batch of {} requests for module {} to {}.", batch.requests.size(), module.getId(), batch.key);
+            batchClient.get().execute(batchRequest).whenComplete((batchResponse, ex) -> {
+                if (ex != null) {
+                    for (PendingRequest<R, S> pendingRequest : batch.requests) {
+                        pendingRequest.future.completeExceptionally(ex);
+                    }
+                    return;
+                }
+
+                for (BatchRpcResponse.Entry entry : batchResponse.getResponses()) {
+                    if (entry.getId() < 0 || entry.getId() >= batch.requests.size()) {
+                        LOG.warn("Ignoring response with unknown id {} in batch for {}.", entry.getId(), batch.key);
+                        continue;
+                    }
+                    final PendingRequest<R, S> pendingRequest = batch.requests.get(entry.getId());
+                    if (entry.isTimedOut()) {
+                        pendingRequest.future.completeExceptionally(new RequestTimedOutException(new TimeoutException(entry.getError())));
+                        continue;
+                    }
+                    if (entry.getError() != null) {
+                        pendingRequest.future.completeExceptionally(new RemoteExecutionException(entry.getError()));
+                        continue;
+                    }
+                    try {
+                        final S response = module.unmarshalResponse(batch.key.location, entry.getResponse());
+                        if (response.getErrorMessage() != null) {
+                            pendingRequest.future.completeExceptionally(new RemoteExecutionException(response.getErrorMessage()));
+                        } else {
+                            pendingRequest.future.complete(response);
+                        }
+                    } catch (Throwable t) {
+                        pendingRequest.future.completeExceptionally(t);
+                    }
+                }
+
+                // Should not happen, but never leave a caller waiting
+                for (PendingRequest<R, S> pendingRequest : batch.requests) {
+                    pendingRequest.future.completeExceptionally(new RemoteExecutionException("No response was returned for the request in the batch."));
+                }
+            });
+        }
+    }
+
+    private static class BatchKey {
+        private final String location;
+        private final String systemId;
+
+        private BatchKey(String location, String systemId) {
+            this.location = location;
+            this.systemId = systemId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(location, systemId);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (obj == null)
+                return false;
+            if (getClass() != obj.getClass())
+                return false;
+            final BatchKey other = (BatchKey) obj;
+            return Objects.equals(this.location, other.location) &&
+                    Objects.equals(this.systemId, other.systemId);
+        }
+
+        @Override
+        public String toString() {
+            return systemId == null ? location : location + "/" + systemId;
+        }
+    }
+
+    private static class Batch<R extends RpcRequest, S extends RpcResponse> {
+        private final BatchKey key;
+        private final List<PendingRequest<R, S>> requests = new ArrayList<>();
+
+        private Batch(BatchKey key) {
+            this.key = key;
+        }
+
+        /**
+         * The batch lives as long as the longest living request.
+         */
+        private long getTimeToLiveMs(long defaultTtlMs) {
+            long ttl = 0;
+            for (PendingRequest<R, S> pendingRequest : requests) {
+                ttl = Math.max(ttl, pendingRequest.getTimeToLiveMs(defaultTtlMs));
+            }
+            return ttl;
+        }
+    }
+
+    private static class PendingRequest<R extends RpcRequest, S extends RpcResponse> {
+        private final R request;
+        private final CompletableFuture<S> future = new CompletableFuture<>();
+
+        private PendingRequest(R request) {
+            this.request = request;
+        }
+
+        private long getTimeToLiveMs(long defaultTtlMs) {
+            final Long ttl = request.getTimeToLiveMs();
+            return ttl != null && ttl > 0 ? ttl : defaultTtlMs;
+        }
+
+        private void complete(S response, Throwable ex) {
+            if (ex != null) {
+                future.completeExceptionally(ex);
+            } else {
+                future.complete(response);
+            }
+        }
+    }
+}
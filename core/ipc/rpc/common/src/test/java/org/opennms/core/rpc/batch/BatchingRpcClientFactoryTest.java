@@ -0,0 +1,274 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.rpc.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.core.rpc.api.RemoteExecutionException;
+import org.opennms.core.rpc.api.RequestTimedOutException;
+import org.opennms.core.rpc.api.RpcClient;
+import org.opennms.core.rpc.api.RpcClientFactory;
+import org.opennms.core.rpc.api.RpcModule;
+import org.opennms.core.rpc.api.RpcRequest;
+import org.opennms.core.rpc.api.RpcResponse;
+import org.opennms.core.rpc.echo.EchoRequest;
+import org.opennms.core.rpc.echo.EchoResponse;
+import org.opennms.core.rpc.echo.EchoRpcModule;
+
+public class BatchingRpcClientFactoryTest {
+
+    private static final String LOCAL = "Default";
+
+    private static final String REMOTE = "Remote";
+
+    /**
+     * Executes the requests of remote locations with the modules registered at
+     * the "Minion", marshaling the requests and responses like a real transport.
+     */
+    private final RpcClientFactory transport = new RpcClientFactory() {
+        @Override
+        public <R extends RpcRequest, S extends RpcResponse> RpcClient<R, S> getClient(RpcModule<R, S> module) {
+            return request -> {
+                if (LOCAL.equals(request.getLocation())) {
+                    return module.execute(request);
+                }
+                sentByModule(module.getId()).incrementAndGet();
+                final RpcModule<R, S> remoteModule = BatchRpcModule.RPC_MODULE_ID.equals(module.getId()) ? cast(minionBatchModule) : module;
+                return remoteModule.execute(remoteModule.unmarshalRequest(module.marshalRequest(request)))
+                        .thenApply(res -> module.unmarshalResponse(remoteModule.marshalResponse(res)));
+            };
+        }
+    };
+
+    private final AtomicInteger echoSent = new AtomicInteger();
+
+    private final AtomicInteger batchSent = new AtomicInteger();
+
+    private final BatchRpcModule minionBatchModule = new BatchRpcModule();
+
+    private BatchingRpcClientFactory factory;
+
+    @Before
+    public void setUp() {
+        minionBatchModule.bind(EchoRpcModule.INSTANCE);
+        factory = new BatchingRpcClientFactory(transport);
+        factory.setLocation(LOCAL);
+        factory.setModules(EchoRpcModule.RPC_MODULE_ID);
+        factory.setLingerMs(50);
+        factory.setMaxBatchSize(100);
+    }
+
+    @After
+    public void tearDown() {
+        factory.destroy();
+    }
+
+    @Test
+    public void canBatchRequests() throws Exception {
+        final RpcClient<EchoRequest, EchoResponse> client = factory.getClient(EchoRpcModule.INSTANCE);
+
+        final List<CompletableFuture<EchoResponse>> futures = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            futures.add(client.execute(createRequest(REMOTE, i, false)));
+        }
+        for (long i = 0; i < 10; i++) {
+            final EchoResponse response = futures.get((int) i).get(5, TimeUnit.SECONDS);
+            assertEquals(Long.valueOf(i), response.getId());
+            assertEquals("Hello " + i, response.getMessage());
+        }
+
+        assertEquals(1, batchSent.get());
+        assertEquals(0, echoSent.get());
+    }
+
+    @Test
+    public void canFailIndividualRequests() throws Exception {
+        final RpcClient<EchoRequest, EchoResponse> client = factory.getClient(EchoRpcModule.INSTANCE);
+
+        final CompletableFuture<EchoResponse> success = client.execute(createRequest(REMOTE, 1, false));
+        final CompletableFuture<EchoResponse> failure = client.execute(createRequest(REMOTE, 2, true));
+
+        assertEquals("Hello 1", success.get(5, TimeUnit.SECONDS).getMessage());
+        try {
+            failure.get(5, TimeUnit.SECONDS);
+            fail("Expected the request to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RemoteExecutionException);
+            assertTrue(e.getCause().getMessage().contains("Hello 2"));
+        }
+        assertEquals(1, batchSent.get());
+    }
+
+    @Test
+    public void slowRequestsDoNotHoldBackTheBatch() throws Exception {
+        final RpcClient<EchoRequest, EchoResponse> client = factory.getClient(EchoRpcModule.INSTANCE);
+
+        final EchoRequest slowRequest = createRequest(REMOTE, 1, false);
+        slowRequest.setDelay(TimeUnit.SECONDS.toMillis(30));
+        slowRequest.setTimeToLiveMs(500L);
+        final EchoRequest fastRequest = createRequest(REMOTE, 2, false);
+        fastRequest.setTimeToLiveMs(500L);
+
+        final long start = System.currentTimeMillis();
+        final CompletableFuture<EchoResponse> slow = client.execute(slowRequest);
+        final CompletableFuture<EchoResponse> fast = client.execute(fastRequest);
+
+        assertEquals("Hello 2", fast.get(5, TimeUnit.SECONDS).getMessage());
+        try {
+            slow.get(5, TimeUnit.SECONDS);
+            fail("Expected the request to time out");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RequestTimedOutException);
+        }
+        assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(5));
+        assertEquals(1, batchSent.get());
+    }
+
+    @Test
+    public void usesDefaultTtlForRequestsWithoutTtl() throws Exception {
+        factory.setDefaultTtlMs(500);
+        final RpcClient<EchoRequest, EchoResponse> client = factory.getClient(EchoRpcModule.INSTANCE);
+
+        final EchoRequest slowRequest = createRequest(REMOTE, 1, false);
+        slowRequest.setDelay(TimeUnit.SECONDS.toMillis(30));
+        slowRequest.setTimeToLiveMs(null);
+        final EchoRequest fastRequest = createRequest(REMOTE, 2, false);
+
+        final CompletableFuture<EchoResponse> slow = client.execute(slowRequest);
+        assertEquals("Hello 2", client.execute(fastRequest).get(5, TimeUnit.SECONDS).getMessage());
+        try {
+            slow.get(5, TimeUnit.SECONDS);
+            fail("Expected the request to time out");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RequestTimedOutException);
+        }
+    }
+
+    @Test
+    public void cancelsTimeoutsOfCompletedRequests() throws Exception {
+        final RpcClient<EchoRequest, EchoResponse> client = factory.getClient(EchoRpcModule.INSTANCE);
+
+        final List<CompletableFuture<EchoResponse>> futures = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            futures.add(client.execute(createRequest(REMOTE, i, false)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        // The timeouts of the requests would otherwise stay queued for 35 seconds, they are cancelled by the
+        // thread that completes the requests which may still be at it
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (factory.getScheduledTaskCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, factory.getScheduledTaskCount());
+    }
+
+    @Test
+    public void minionTimesOutIndividualRequests() throws Exception {
+        final EchoRequest slowRequest = createRequest(REMOTE, 1, false);
+        slowRequest.setDelay(TimeUnit.SECONDS.toMillis(30));
+        final EchoRequest fastRequest = createRequest(REMOTE, 2, false);
+
+        final BatchRpcRequest batch = new BatchRpcRequest();
+        batch.setLocation(REMOTE);
+        batch.addRequest(0, EchoRpcModule.RPC_MODULE_ID, EchoRpcModule.INSTANCE.marshalRequest(slowRequest), 200L);
+        batch.addRequest(1, EchoRpcModule.RPC_MODULE_ID, EchoRpcModule.INSTANCE.marshalRequest(fastRequest), 200L);
+
+        // The response must not wait for the slow request to complete
+        final BatchRpcResponse response = minionBatchModule.execute(batch).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, response.getResponses().size());
+        assertTrue(response.getResponses().get(0).isTimedOut());
+        assertFalse(response.getResponses().get(1).isTimedOut());
+        assertEquals("Hello 2", EchoRpcModule.INSTANCE.unmarshalResponse(response.getResponses().get(1).getResponse()).getMessage());
+    }
+
+    @Test
+    public void canSendFullBatchesWithoutWaiting() throws Exception {
+        factory.setLingerMs(TimeUnit.MINUTES.toMillis(1));
+        factory.setMaxBatchSize(5);
+        final RpcClient<EchoRequest, EchoResponse> client = factory.getClient(EchoRpcModule.INSTANCE);
+
+        final List<CompletableFuture<EchoResponse>> futures = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            futures.add(client.execute(createRequest(REMOTE, i, false)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, batchSent.get());
+    }
+
+    @Test
+    public void doesNotBatchSingleOrLocalRequests() throws Exception {
+        final RpcClient<EchoRequest, EchoResponse> client = factory.getClient(EchoRpcModule.INSTANCE);
+
+        assertEquals("Hello 1", client.execute(createRequest(LOCAL, 1, false)).get(5, TimeUnit.SECONDS).getMessage());
+        assertEquals("Hello 2", client.execute(createRequest(REMOTE, 2, false)).get(5, TimeUnit.SECONDS).getMessage());
+
+        assertEquals(0, batchSent.get());
+        assertEquals(1, echoSent.get());
+    }
+
+    @Test
+    public void doesNotBatchOtherModules() throws Exception {
+        factory.setModules("Poller");
+        final RpcClient<EchoRequest, EchoResponse> client = factory.getClient(EchoRpcModule.INSTANCE);
+
+        final CompletableFuture<EchoResponse> first = client.execute(createRequest(REMOTE, 1, false));
+        final CompletableFuture<EchoResponse> second = client.execute(createRequest(REMOTE, 2, false));
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, batchSent.get());
+        assertEquals(2, echoSent.get());
+    }
+
+    private static EchoRequest createRequest(String location, long id, boolean shouldThrow) {
+        final EchoRequest request = new EchoRequest("Hello " + id);
+        request.setId(id);
+        request.setLocation(location);
+        request.setTimeToLiveMs(TimeUnit.SECONDS.toMillis(30));
+        request.shouldThrow(shouldThrow);
+        return request;
+    }
+
+    private AtomicInteger sentByModule(String moduleId) {
+        return BatchRpcModule.RPC_MODULE_ID.equals(moduleId) ? batchSent : echoSent;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R extends RpcRequest, S extends RpcResponse> RpcModule<R, S> cast(RpcModule<?, ?> module) {
+        return (RpcModule<R, S>) module;
+    }
+}
@@ -287,6 +287,10 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
         this.location = location;
     }
 
+    public long getDefaultTtlMs() {
+        return defaultTTL;
+    }
+
     public void setTracerRegistry(TracerRegistry tracerRegistry) {
         this.tracerRegistry = tracerRegistry;
     }
@@ -404,7 +408,7 @@ public class KafkaRpcClientFactory implements RpcClientFactory {
             try (MDCCloseable mdc = Logging.withContextMapCloseable(loggingContext)) {
                 // When message is not null, it's called from kafka consumer otherwise it is from timeout tracker.
                 if (message != null) {
-                    T response = rpcModule.unmarshalResponse(message);
+                    T response = rpcModule.unmarshalResponse(location, message);
                     if (response.getErrorMessage() != null) {
                         responseFuture.completeExceptionally(new RemoteExecutionException(response.getErrorMessage()));
                         span.log(response.getErrorMessage());
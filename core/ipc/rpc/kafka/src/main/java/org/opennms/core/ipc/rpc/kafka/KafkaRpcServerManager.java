@@ -359,7 +359,8 @@ public class KafkaRpcServerManager {
             Tracer.SpanBuilder spanBuilder = buildSpanFromRpcMessage(rpcRequestProto);
             Span minionSpan = spanBuilder.start();
 
-            RpcRequest request = module.unmarshalRequest(rpcContent.toStringUtf8());
+            final String requestAsString = rpcContent.toStringUtf8();
+            RpcRequest request = module.unmarshalRequest(requestAsString);
             setTagsOnMinion(rpcRequestProto, request, minionSpan);
             // Modules may run the execution in their own thread pool.
             CompletableFuture<RpcResponse> future = module.execute(request);
@@ -382,16 +383,16 @@ public class KafkaRpcServerManager {
                 // Finish minion Span
                 minionSpan.finish();
                 uncheckBulkhead();
-                sendResponse(rpcRequestProto.getRpcId(), response, module);
+                sendResponse(rpcRequestProto.getRpcId(), requestAsString, response, module);
             });
         }
 
 
         @SuppressWarnings("unchecked")
-        private void sendResponse(String rpcId, RpcResponse response, RpcModule module) {
+        private void sendResponse(String rpcId, String request, RpcResponse response, RpcModule module) {
             try {
                 String responseTopic = kafkaRpcTopicProvider.getResponseTopic(module.getId());
-                final String responseAsString = module.marshalResponse(response);
+                final String responseAsString = module.marshalResponse(request, response);
                 final byte[] messageInBytes = responseAsString.getBytes();
                 int totalChunks = IntMath.divide(messageInBytes.length, maxBufferSize, RoundingMode.UP);
 
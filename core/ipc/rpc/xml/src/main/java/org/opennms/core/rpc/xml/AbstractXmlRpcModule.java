@@ -21,7 +21,14 @@
  */
 package org.opennms.core.rpc.xml;
 
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.opennms.core.rpc.api.RpcModule;
 import org.opennms.core.rpc.api.RpcRequest;
@@ -33,15 +40,71 @@ import org.slf4j.LoggerFactory;
 /**
  * {@link RpcModule} that uses JaxbUtils for marshaling and unmarshaling requests.
  *
+ * Modules can optionally provide {@link RpcMessageCodec}s for a more compact
+ * binary representation, which is used when enabled by a system property and
+ * supported by the receiver.
+ *
+ * Every message advertises the codec version its sender is able to decode for
+ * the messages sent in the opposite direction. A Minion only answers in the
+ * binary format when the request it answers advertised it, and OpenNMS only
+ * sends binary requests to a location while all Minions that recently answered
+ * from there advertised it.
+ *
  * @author jwhite
  */
 public abstract class AbstractXmlRpcModule<S extends RpcRequest,T extends RpcResponse> implements RpcModule<S, T>  {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractXmlRpcModule.class);
 
+    /**
+     * Selects the wire format used for the messages sent by this JVM, i.e.
+     * <code>org.opennms.core.ipc.rpc.Poller.codec=protobuf</code>. On OpenNMS this
+     * applies to the requests, on a Minion to the responses. Defaults to XML.
+     * Unmarshalling always accepts both formats.
+     */
+    public static final String CODEC_SYS_PROP_PREFIX = "org.opennms.core.ipc.rpc.";
+    public static final String CODEC_SYS_PROP_SUFFIX = ".codec";
+    public static final String CODEC_XML = "xml";
+    public static final String CODEC_PROTOBUF = "protobuf";
+
+    /**
+     * Binary payloads are Base64 encoded and prefixed with a marker, which can
+     * never start a well-formed XML document, followed by the codec version.
+     */
+    private static final String BINARY_PREFIX = "!ON";
+    private static final char BINARY_VERSION_SEPARATOR = ':';
+
+    /**
+     * The codec version a sender accepts is appended to its messages as a processing
+     * instruction, which is valid after the root element of an XML document and
+     * ignored by the receivers that do not know about it. The version is followed
+     * by the ID of the sending JVM.
+     */
+    private static final String ACCEPT_PREFIX = "<?opennms-codec " + CODEC_PROTOBUF + BINARY_VERSION_SEPARATOR;
+    private static final char ACCEPT_SENDER_SEPARATOR = ' ';
+    private static final String ACCEPT_SUFFIX = "?>";
+    private static final int NOT_ACCEPTED = 0;
+
+    /**
+     * Tells the Minions at a location apart, independently of the transport, which does
+     * not always report the system ID of the Minion that answered. Older Minions do not
+     * send an ID and are tracked as {@link #UNKNOWN_SENDER}.
+     */
+    private static final String SENDER_ID = UUID.randomUUID().toString();
+    private static final String UNKNOWN_SENDER = "";
+
+    /**
+     * Minions that did not answer for this long are forgotten, i.e. after they were
+     * stopped or upgraded.
+     */
+    private static final long ADVERTISEMENT_EXPIRY_MS = TimeUnit.MINUTES.toMillis(10);
+
     private final Class<S> requestClazz;
     private final Class<T> responseClazz;
 
+    private final RpcMessageCodec<S> requestCodec;
+    private final RpcMessageCodec<T> responseCodec;
+
     /**
      * Store a thread-local reference to the {@link XmlHandler} because 
      * Unmarshalers are not thread-safe.
@@ -49,31 +112,227 @@ public abstract class AbstractXmlRpcModule<S extends RpcRequest,T extends RpcRes
     private final ThreadLocal<XmlHandler<S>> requestXmlHandler = new ThreadLocal<>();
     private final ThreadLocal<XmlHandler<T>> responseXmlHandler = new ThreadLocal<>();
 
+    /**
+     * Versions of the request codec accepted by the Minions at a given location, by
+     * sender ID, as advertised by their most recent responses.
+     */
+    private final Map<String, Map<String, Advertisement>> advertisementsByLocation = new ConcurrentHashMap<>();
+
+    /**
+     * Locations whose binary responses could not be decoded. These are no longer
+     * offered the binary format, so that the Minions fall back to XML.
+     */
+    private final Set<String> locationsWithUndecodableResponses = ConcurrentHashMap.newKeySet();
+
     public AbstractXmlRpcModule(Class<S> requestClazz, Class<T> responseClazz) {
+        this(requestClazz, responseClazz, null, null);
+    }
+
+    /**
+     * @param requestCodec binary codec for the requests, or null if these are always sent as XML
+     * @param responseCodec binary codec for the responses, or null if these are always sent as XML
+     */
+    public AbstractXmlRpcModule(Class<S> requestClazz, Class<T> responseClazz,
+            RpcMessageCodec<S> requestCodec, RpcMessageCodec<T> responseCodec) {
         this.requestClazz = Objects.requireNonNull(requestClazz);
         this.responseClazz = Objects.requireNonNull(responseClazz);
+        this.requestCodec = requestCodec;
+        this.responseCodec = responseCodec;
     }
 
     @Override
     public String marshalRequest(S request) {
-        return getRequestXmlHandler().marshal(request);
+        final String location = toKey(request.getLocation());
+        final String payload;
+        if (requestCodec != null && isBinaryCodecEnabled() && isAcceptedAt(location, requestCodec.getVersion())) {
+            payload = encode(requestCodec, request);
+        } else {
+            payload = getRequestXmlHandler().marshal(request);
+        }
+        if (responseCodec == null || locationsWithUndecodableResponses.contains(location)) {
+            return payload;
+        }
+        return accept(payload, responseCodec);
     }
 
     @Override
     public S unmarshalRequest(String requestXml) {
+        if (isBinary(requestXml)) {
+            return decode(requestCodec, requestXml);
+        }
         return getRequestXmlHandler().unmarshal(requestXml);
     }
 
+    /**
+     * Always marshals the response as XML, since the formats accepted by the
+     * receiver are unknown. Use {@link #marshalResponse(String, RpcResponse)}
+     * to answer in the binary format.
+     */
     @Override
     public String marshalResponse(T response) {
-        return getResponseXmlHandler().marshal(response);
+        return accept(getResponseXmlHandler().marshal(response), requestCodec);
+    }
+
+    @Override
+    public String marshalResponse(String request, T response) {
+        final String payload;
+        if (responseCodec != null && isBinaryCodecEnabled() && getAcceptedVersion(request) >= responseCodec.getVersion()) {
+            payload = encode(responseCodec, response);
+        } else {
+            payload = getResponseXmlHandler().marshal(response);
+        }
+        return accept(payload, requestCodec);
     }
 
     @Override
     public T unmarshalResponse(String response) {
+        if (isBinary(response)) {
+            return decode(responseCodec, response);
+        }
+        return getResponseXmlHandler().unmarshal(response);
+    }
+
+    @Override
+    public T unmarshalResponse(String location, String response) {
+        final String key = toKey(location);
+        if (requestCodec != null) {
+            advertisementsByLocation.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                    .put(getSender(response), new Advertisement(getAcceptedVersion(response), System.currentTimeMillis()));
+        }
+        if (isBinary(response)) {
+            try {
+                return decode(responseCodec, response);
+            } catch (IllegalStateException e) {
+                if (locationsWithUndecodableResponses.add(key)) {
+                    LOG.warn("Failed to decode a binary {} response from location {}. Further responses from this location will be requested as XML.",
+                            getId(), location, e);
+                }
+                throw e;
+            }
+        }
         return getResponseXmlHandler().unmarshal(response);
     }
 
+    /**
+     * Returns true when messages sent by this JVM are marshalled using the binary
+     * codecs instead of XML. The setting is looked up on every call, so that it can
+     * be changed at runtime.
+     */
+    protected boolean isBinaryCodecEnabled() {
+        return CODEC_PROTOBUF.equalsIgnoreCase(System.getProperty(CODEC_SYS_PROP_PREFIX + getId() + CODEC_SYS_PROP_SUFFIX, CODEC_XML));
+    }
+
+    private static String toKey(String location) {
+        return location == null ? "" : location;
+    }
+
+    /**
+     * Returns true if all Minions which recently answered from the given location
+     * accept the given codec version.
+     */
+    private boolean isAcceptedAt(String location, int version) {
+        final Map<String, Advertisement> advertisements = advertisementsByLocation.get(location);
+        if (advertisements == null) {
+            return false;
+        }
+        final long expired = System.currentTimeMillis() - ADVERTISEMENT_EXPIRY_MS;
+        advertisements.values().removeIf(advertisement -> advertisement.lastSeen < expired);
+        if (advertisements.isEmpty()) {
+            return false;
+        }
+        for (Advertisement advertisement : advertisements.values()) {
+            if (advertisement.version < version) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String accept(String payload, RpcMessageCodec<?> codec) {
+        if (codec == null) {
+            return payload;
+        }
+        return payload + ACCEPT_PREFIX + codec.getVersion() + ACCEPT_SENDER_SEPARATOR + SENDER_ID + ACCEPT_SUFFIX;
+    }
+
+    /**
+     * Returns the codec version advertised by the sender of the given payload,
+     * or {@link #NOT_ACCEPTED} if it only accepts XML.
+     */
+    private static int getAcceptedVersion(String payload) {
+        final int start = getAcceptStart(payload);
+        if (start < 0) {
+            return NOT_ACCEPTED;
+        }
+        final int end = getAcceptSenderSeparator(payload, start);
+        try {
+            return Integer.parseInt(payload, start, end < 0 ? payload.length() - ACCEPT_SUFFIX.length() : end, 10);
+        } catch (NumberFormatException e) {
+            return NOT_ACCEPTED;
+        }
+    }
+
+    /**
+     * Returns the ID of the JVM that sent the given payload, or {@link #UNKNOWN_SENDER}.
+     */
+    private static String getSender(String payload) {
+        final int start = getAcceptStart(payload);
+        final int separator = start < 0 ? -1 : getAcceptSenderSeparator(payload, start);
+        if (separator < 0) {
+            return UNKNOWN_SENDER;
+        }
+        return payload.substring(separator + 1, payload.length() - ACCEPT_SUFFIX.length());
+    }
+
+    /**
+     * Returns the index of the version in the advertisement, or -1 if there is none.
+     */
+    private static int getAcceptStart(String payload) {
+        if (payload == null || !payload.endsWith(ACCEPT_SUFFIX)) {
+            return -1;
+        }
+        final int start = payload.lastIndexOf(ACCEPT_PREFIX);
+        return start < 0 ? -1 : start + ACCEPT_PREFIX.length();
+    }
+
+    private static int getAcceptSenderSeparator(String payload, int start) {
+        final int separator = payload.indexOf(ACCEPT_SENDER_SEPARATOR, start);
+        return separator < payload.length() - ACCEPT_SUFFIX.length() ? separator : -1;
+    }
+
+    private static <W> String encode(RpcMessageCodec<W> codec, W message) {
+        return BINARY_PREFIX + codec.getVersion() + BINARY_VERSION_SEPARATOR
+                + Base64.getEncoder().encodeToString(codec.encode(message));
+    }
+
+    private <W> W decode(RpcMessageCodec<W> codec, String payload) {
+        final int separator = payload.indexOf(BINARY_VERSION_SEPARATOR, BINARY_PREFIX.length());
+        if (codec == null) {
+            throw new IllegalStateException(String.format("Received a binary payload for module %s, which only supports XML.", getId()));
+        }
+        final int version;
+        try {
+            version = Integer.parseInt(payload.substring(BINARY_PREFIX.length(), separator));
+        } catch (IndexOutOfBoundsException|NumberFormatException e) {
+            throw new IllegalStateException(String.format("Received a binary payload for module %s without a valid version.", getId()), e);
+        }
+        if (version > codec.getVersion()) {
+            throw new IllegalStateException(String.format("Received a binary payload for module %s with version %d, but only versions up to %d are supported.",
+                    getId(), version, codec.getVersion()));
+        }
+        final int accept = payload.endsWith(ACCEPT_SUFFIX) ? payload.lastIndexOf(ACCEPT_PREFIX) : -1;
+        final int end = accept < 0 ? payload.length() : accept;
+        try {
+            return codec.decode(Base64.getDecoder().decode(payload.substring(separator + 1, end)));
+        } catch (IOException|IllegalArgumentException e) {
+            throw new IllegalStateException(String.format("Failed to decode binary payload for module %s.", getId()), e);
+        }
+    }
+
+    private static boolean isBinary(String payload) {
+        return payload != null && payload.startsWith(BINARY_PREFIX);
+    }
+
     private XmlHandler<S> getRequestXmlHandler() {
         XmlHandler<S> xmlHandler = requestXmlHandler.get();
         if (xmlHandler == null) {
@@ -104,4 +363,14 @@ public abstract class AbstractXmlRpcModule<S extends RpcRequest,T extends RpcRes
             return new XmlHandler<>(clazz);
         }
     }
+
+    private static class Advertisement {
+        private final int version;
+        private final long lastSeen;
+
+        private Advertisement(int version, long lastSeen) {
+            this.version = version;
+            this.lastSeen = lastSeen;
+        }
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.rpc.xml;
+
+import java.io.IOException;
+
+/**
+ * Binary alternative to the XML representation used by {@link AbstractXmlRpcModule}
+ * for either the requests or the responses of a module.
+ *
+ * Since RPC payloads are exchanged as strings, the encoded bytes are wrapped in a
+ * text header carrying the codec version, which lets the receiving side tell them
+ * apart from XML and reject versions it does not understand.
+ *
+ * @param <T> the request or response type
+ */
+public interface RpcMessageCodec<T> {
+
+    /**
+     * Version of the wire format written by {@link #encode(Object)}. Receivers
+     * accept any payload with a version less than or equal to their own.
+     */
+    int getVersion();
+
+    byte[] encode(T message);
+
+    T decode(byte[] bytes) throws IOException;
+}
@@ -59,4 +59,34 @@ public interface AsyncPolicy {
      * should block when the queue is full
      */
     boolean isBlockWhenFull();
+
+    /**
+     * Maximum number of messages that a single dispatch thread
+     * will take from the queue and hand to the synchronous dispatcher
+     * in one call to {@link SyncDispatcher#sendBatch(java.util.List)}.
+     *
+     * A value of 1 (the default) dispatches the messages one at a time.
+     * Can be overridden per module with the
+     * <code>org.opennms.core.ipc.sink.&lt;module&gt;.batchSize</code> system property.
+     *
+     * @return the maximum batch size
+     */
+    default int getBatchSize() {
+        return 1;
+    }
+
+    /**
+     * Maximum amount of time, in milliseconds, that a dispatch thread
+     * will wait for a batch to fill up once it has received the first
+     * message of the batch.
+     *
+     * Only used when {@link #getBatchSize()} is greater than 1.
+     * Can be overridden per module with the
+     * <code>org.opennms.core.ipc.sink.&lt;module&gt;.batchTimeoutMs</code> system property.
+     *
+     * @return the batch timeout in milliseconds
+     */
+    default long getBatchTimeoutMs() {
+        return 0;
+    }
 }
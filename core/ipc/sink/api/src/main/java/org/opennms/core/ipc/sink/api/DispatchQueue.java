@@ -21,7 +21,10 @@
  */
 package org.opennms.core.ipc.sink.api;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public interface DispatchQueue<T> {
 
@@ -37,6 +40,24 @@ public interface DispatchQueue<T> {
      */
     Map.Entry<String, T> dequeue() throws InterruptedException;
 
+    /**
+     * Retrieves and removes up to {@code maxEntries} entries from the head of this queue, waiting if necessary until
+     * the first entry becomes available and then for at most the given timeout for additional entries to arrive.
+     * <p>
+     * The default implementation only ever returns a single entry. Implementations that are able to drain several
+     * entries at once should override this method.
+     *
+     * @param maxEntries the maximum number of entries to return, must be greater than 0
+     * @param timeout how long to wait for additional entries once the first one was retrieved
+     * @param unit the unit of the timeout argument
+     * @return a non-empty list of entries in queue order
+     * @throws InterruptedException if interrupted while waiting for the first entry
+     */
+    default List<Map.Entry<String, T>> dequeueBatch(int maxEntries, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return Collections.singletonList(dequeue());
+    }
+
     /**
      * @return true if the queue has no more capacity, false otherwise
      */
@@ -21,6 +21,8 @@
  */
 package org.opennms.core.ipc.sink.api;
 
+import java.util.List;
+
 /**
  * Used to synchronously dispatch messages.
  *
@@ -29,4 +31,19 @@ package org.opennms.core.ipc.sink.api;
  * @author jwhite
  */
 public interface SyncDispatcher<S extends Message> extends MessageDispatcher<S> {
+
+    /**
+     * Dispatches all of the given messages, returning once they have all been sent.
+     *
+     * Implementations that are able to write several messages at once (i.e. a single
+     * round trip to the broker) should override this method. The default implementation
+     * simply sends the messages one at a time.
+     *
+     * @param messages the messages to dispatch, in order
+     */
+    default void sendBatch(List<S> messages) {
+        for (S message : messages) {
+            send(message);
+        }
+    }
 }
@@ -33,10 +33,14 @@ import org.opennms.core.ipc.sink.api.SinkModule;
  */
 public abstract class AggregatingMessageProducer<S, T> implements MessageDispatcher<S> {
 
-    private final Aggregator<S,T> aggregator;
+    private final MessageAggregator<S,T> aggregator;
 
     public AggregatingMessageProducer(String id, AggregationPolicy<S,T,?> policy) {
-        aggregator = new Aggregator<S,T>(id, policy, this);
+        if (ShardedAggregator.isEnabled()) {
+            aggregator = new ShardedAggregator<S,T>(id, policy, this);
+        } else {
+            aggregator = new Aggregator<S,T>(id, policy, this);
+        }
     }
 
     @Override
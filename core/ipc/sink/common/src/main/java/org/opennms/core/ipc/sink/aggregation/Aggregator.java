@@ -49,7 +49,7 @@ import com.google.common.util.concurrent.Striped;
  * @param <S> individual message
  * @param <T> aggregated message (i.e. bucket)
  */
-public class Aggregator<S, T> implements AutoCloseable, Runnable {
+public class Aggregator<S, T> implements MessageAggregator<S, T>, Runnable {
 
     private static final Logger LOG = LoggerFactory.getLogger(Aggregator.class);
 
@@ -108,14 +108,7 @@ public class Aggregator<S, T> implements AutoCloseable, Runnable {
         }
     }
 
-    /**
-     * Aggregates the given messages into a bucket and returns
-     * the bucket if it is ready to be dispatched.
-     *
-     * @param message the message to aggregated
-     * @return the bucket if it is ready to be dispatched, or <code>null</code>
-     * if nothing is ready to be dispatched
-     */
+    @Override
     public T aggregate(S message) {
         // Compute the key
         final Object key = aggregationPolicy.key(message);
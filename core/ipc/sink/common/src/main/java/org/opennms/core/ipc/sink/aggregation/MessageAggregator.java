@@ -0,0 +1,44 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.aggregation;
+
+import org.opennms.core.ipc.sink.api.AggregationPolicy;
+
+/**
+ * Accumulates individual messages into buckets according to an {@link AggregationPolicy}.
+ *
+ * @param <S> individual message
+ * @param <T> aggregated message (i.e. bucket)
+ */
+public interface MessageAggregator<S, T> extends AutoCloseable {
+
+    /**
+     * Aggregates the given messages into a bucket and returns
+     * the bucket if it is ready to be dispatched.
+     *
+     * @param message the message to aggregated
+     * @return the bucket if it is ready to be dispatched, or <code>null</code>
+     * if nothing is ready to be dispatched
+     */
+    T aggregate(S message);
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.aggregation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.opennms.core.ipc.sink.api.AggregationPolicy;
+import org.opennms.core.sysprops.SystemProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A lock-free alternative to the {@link Aggregator}.
+ *
+ * Instead of guarding a single set of buckets with stripe locks, the buckets are spread
+ * over a fixed number of shards (one per core by default) and every producer thread is
+ * pinned to a home shard. Each bucket carries its own state which is only ever changed
+ * with a compare-and-swap:
+ * <ul>
+ *     <li>a producer claims an idle bucket before accumulating into it and releases it afterwards,</li>
+ *     <li>a bucket that is complete (by size or by time) is retired with a single CAS, after which
+ *     it is removed from its shard and never touched again.</li>
+ * </ul>
+ * When the bucket for a key is busy in the home shard, the producer moves on to the next shard
+ * instead of waiting, so the same key may be accumulated in several shards at once. If the buckets for
+ * the key are busy in all of the shards, the producer spins for a short while and then parks with an
+ * increasing back-off, so that a slow aggregation does not keep the other producers busy.
+ *
+ * @param <S> individual message
+ * @param <T> aggregated message (i.e. bucket)
+ */
+public class ShardedAggregator<S, T> implements MessageAggregator<S, T>, Runnable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShardedAggregator.class);
+
+    /**
+     * System property used to enable the sharded aggregator in place of the {@link Aggregator}.
+     */
+    public static final String ENABLED_SYS_PROP = "org.opennms.ipc.sink.aggregation.sharded";
+
+    /**
+     * System property used to override the default number of shards.
+     */
+    public static final String NUM_SHARDS_SYS_PROP = "org.opennms.ipc.sink.aggregation.shards";
+
+    public static final int DEFAULT_NUM_SHARDS = Runtime.getRuntime().availableProcessors();
+
+    private static final AtomicInteger NEXT_HOME_SHARD = new AtomicInteger(0);
+
+    /**
+     * Assigns the shards to the producer threads in a round-robin fashion.
+     */
+    private static final ThreadLocal<Integer> HOME_SHARD = ThreadLocal.withInitial(() -> NEXT_HOME_SHARD.getAndIncrement() & Integer.MAX_VALUE);
+
+    /**
+     * Number of busy buckets a producer skips before it starts parking.
+     */
+    private static final int MAX_SPINS = 64;
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final int IDLE = 0;
+    private static final int BUSY = 1;
+    private static final int RETIRED = 2;
+
+    private final AggregationPolicy<S,T,Object> aggregationPolicy;
+
+    private final AggregatingMessageProducer<S,T> messageProducer;
+
+    private final int completionSize;
+
+    private final long completionIntervalMs;
+
+    private final Timer flushTimer;
+
+    private final List<Map<Object, Bucket>> shards;
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_SYS_PROP);
+    }
+
+    public ShardedAggregator(String id, AggregationPolicy<S,T,?> policy, AggregatingMessageProducer<S,T> messageProducer) {
+        this(id, policy, messageProducer, SystemProperties.getInteger(NUM_SHARDS_SYS_PROP, DEFAULT_NUM_SHARDS));
+    }
+
+    @SuppressWarnings("unchecked")
+    public ShardedAggregator(String id, AggregationPolicy<S,T,?> policy, AggregatingMessageProducer<S,T> messageProducer, int numShards) {
+        aggregationPolicy = (AggregationPolicy<S,T,Object>)Objects.requireNonNull(policy);
+        this.messageProducer = Objects.requireNonNull(messageProducer);
+        if (numShards < 1) {
+            throw new IllegalArgumentException("The number of shards must be greater than 0");
+        }
+        completionSize = aggregationPolicy.getCompletionSize();
+        completionIntervalMs = aggregationPolicy.getCompletionIntervalMs();
+
+        shards = new ArrayList<>(numShards);
+        for (int i = 0; i < numShards; i++) {
+            shards.add(new ConcurrentHashMap<>());
+        }
+
+        if (completionIntervalMs > 0) {
+            // Periodically verify the buckets, and flush those that are older than completionIntervalMs
+            flushTimer = new Timer(String.format("ShardedAggregatorFlush-%s", id));
+            flushTimer.scheduleAtFixedRate(new TimerTask() {
+                @Override
+                public void run() {
+                    try {
+                        ShardedAggregator.this.run();
+                    } catch (Throwable t) {
+                        // The timer may abort if we throw, so we catch here to make
+                        // sure that the timer keeps running
+                        LOG.error("An error occurred while flushing one or more aggregates in module '{}'.", id, t);
+                    }
+                }
+            }, completionIntervalMs, completionIntervalMs);
+        } else {
+            flushTimer = null;
+        }
+    }
+
+    @Override
+    public T aggregate(S message) {
+        // Compute the key
+        final Object key = aggregationPolicy.key(message);
+        final int numShards = shards.size();
+        int shardIndex = HOME_SHARD.get() % numShards;
+        int spins = 0;
+        long parkNanos = MIN_PARK_NANOS;
+        while (true) {
+            final Map<Object, Bucket> shard = shards.get(shardIndex);
+            // Obtain the bucket, creating a new one if it doesn't already exist
+            final Bucket bucket = shard.computeIfAbsent(key, k -> new Bucket());
+            if (!bucket.state.compareAndSet(IDLE, BUSY)) {
+                if (bucket.state.get() == RETIRED) {
+                    // The bucket was flushed after we retrieved it, make sure it's gone and try again
+                    shard.remove(key, bucket);
+                } else {
+                    // Another producer is accumulating into this bucket, move on to the next shard
+                    shardIndex = (shardIndex + 1) % numShards;
+                    if (++spins < MAX_SPINS) {
+                        Thread.onSpinWait();
+                    } else {
+                        LockSupport.parkNanos(this, parkNanos);
+                        parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+                    }
+                }
+                continue;
+            }
+
+            // Accumulate into the bucket
+            final T accumulator = bucket.accumulate(message);
+            if (accumulator != null) {
+                // The bucket is ready to be dispatched
+                bucket.state.set(RETIRED);
+                shard.remove(key, bucket);
+                return accumulator;
+            }
+            // The bucket is NOT ready to be dispatched
+            bucket.state.set(IDLE);
+            return null;
+        }
+    }
+
+    @Override
+    public void run() {
+        final List<T> messagesReadyForDispatch = new ArrayList<>();
+        final long cutOff = System.currentTimeMillis() - completionIntervalMs;
+        for (final Map<Object, Bucket> shard : shards) {
+            for (final Map.Entry<Object, Bucket> entry : shard.entrySet()) {
+                final Bucket bucket = entry.getValue();
+                // Only retire buckets which are not currently being accumulated into, we'll get
+                // the busy ones on the next run, or the producer will flush them itself
+                if (bucket.isOlderThan(cutOff) && bucket.state.compareAndSet(IDLE, RETIRED)) {
+                    shard.remove(entry.getKey(), bucket);
+                    messagesReadyForDispatch.add(bucket.getValue());
+                }
+            }
+        }
+
+        // Dispatch!
+        for (T message : messagesReadyForDispatch) {
+            messageProducer.dispatch(message);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (flushTimer != null) {
+            flushTimer.cancel();
+        }
+    }
+
+    protected class Bucket {
+        private final AtomicInteger state = new AtomicInteger(IDLE);
+        private Object accumulator;
+        private int count = 0;
+        private volatile long firstTimeMillis = -1;
+
+        public T accumulate(S message) {
+            accumulator = aggregationPolicy.aggregate(accumulator, message);
+            count++;
+            if (count >= completionSize) {
+                // We're ready!
+                return aggregationPolicy.build(accumulator);
+            } else if (completionIntervalMs > 0) {
+                final long now = System.currentTimeMillis();
+                if (firstTimeMillis < 0) {
+                    firstTimeMillis = now;
+                } else if (now - firstTimeMillis >= completionIntervalMs) {
+                    // We're ready!
+                    return aggregationPolicy.build(accumulator);
+                }
+            }
+            // We're NOT ready yet...
+            return null;
+        }
+
+        public T getValue() {
+            return aggregationPolicy.build(accumulator);
+        }
+
+        private boolean isOlderThan(long cutOff) {
+            final long first = firstTimeMillis;
+            return first >= 0 && first <= cutOff;
+        }
+    }
+}
@@ -23,6 +23,7 @@ package org.opennms.core.ipc.sink.common;
 
 import java.util.Dictionary;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Objects;
 
 import org.opennms.core.ipc.sink.aggregation.AggregatingSinkMessageProducer;
@@ -62,6 +63,18 @@ public abstract class AbstractMessageDispatcherFactory<W> implements MessageDisp
 
     public abstract <S extends Message, T extends Message> void dispatch(SinkModule<S, T> module, W metadata, T message);
 
+    /**
+     * Dispatches several messages at once.
+     *
+     * Implementations that can write a batch of messages more efficiently than
+     * one at a time (i.e. by only waiting for the broker once) should override this.
+     */
+    public <S extends Message, T extends Message> void dispatchBatch(SinkModule<S, T> module, W metadata, List<T> messages) {
+        for (T message : messages) {
+            dispatch(module, metadata, message);
+        }
+    }
+
     public abstract String getMetricDomain();
 
     public abstract BundleContext getBundleContext();
@@ -80,6 +93,16 @@ public abstract class AbstractMessageDispatcherFactory<W> implements MessageDisp
         }
     }
 
+    /**
+     * Invokes dispatchBatch within a timer context.
+     */
+    private <S extends Message, T extends Message> void timedDispatchBatch(DispatcherState<W, S,T> state, List<T> messages) {
+        try (Context ctx = state.getDispatchTimer().time();
+             Scope scope = getTracer().buildSpan(state.getModule().getId()).startActive(true)) {
+            dispatchBatch(state.getModule(), state.getMetaData(), messages);
+        }
+    }
+
     /**
      * Optionally build meta-data or state information for the module which will
      * be passed on all the calls to {@link #dispatch}.
@@ -147,6 +170,12 @@ public abstract class AbstractMessageDispatcherFactory<W> implements MessageDisp
             AbstractMessageDispatcherFactory.this.timedDispatch(state, (T) message);
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public void sendBatch(List<S> messages) {
+            AbstractMessageDispatcherFactory.this.timedDispatchBatch(state, (List<T>) messages);
+        }
+
         @Override
         public void close() throws Exception {
             state.close();
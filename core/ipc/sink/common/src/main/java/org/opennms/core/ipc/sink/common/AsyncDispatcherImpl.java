@@ -23,6 +23,8 @@ package org.opennms.core.ipc.sink.common;
 
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -34,6 +36,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
@@ -54,6 +57,7 @@ import org.slf4j.LoggerFactory;
 
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import com.swrve.ratelimitedlogger.RateLimitedLog;
@@ -61,9 +65,21 @@ import com.swrve.ratelimitedlogger.RateLimitedLog;
 public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implements AsyncDispatcher<S> {
 
     private static final Logger LOG = LoggerFactory.getLogger(AsyncDispatcherImpl.class);
+
+    /**
+     * System properties used to override the batch size and timeout of the {@link AsyncPolicy} of a module, i.e.
+     * <code>org.opennms.core.ipc.sink.Trap.batchSize</code>.
+     */
+    public static final String SYS_PROP_PREFIX = "org.opennms.core.ipc.sink.";
+    public static final String BATCH_SIZE_SYS_PROP_SUFFIX = ".batchSize";
+    public static final String BATCH_TIMEOUT_SYS_PROP_SUFFIX = ".batchTimeoutMs";
+
     private final SyncDispatcher<S> syncDispatcher;
     private final AsyncPolicy asyncPolicy;
+    private final int batchSize;
+    private final long batchTimeoutMs;
     private final Counter droppedCounter;
+    private final Histogram batchSizeHistogram;
     private final DispatcherState<W, S, T> state;
 
     private final Map<String, CompletableFuture<DispatchStatus>> futureMap = new ConcurrentHashMap<>();
@@ -87,6 +103,10 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
         this.syncDispatcher = syncDispatcher;
         this.asyncPolicy = asyncPolicy;
         SinkModule<S, T> sinkModule = state.getModule();
+        this.batchSize = Math.max(1, Integer.getInteger(SYS_PROP_PREFIX + sinkModule.getId() + BATCH_SIZE_SYS_PROP_SUFFIX,
+                asyncPolicy.getBatchSize()));
+        this.batchTimeoutMs = Math.max(0, Long.getLong(SYS_PROP_PREFIX + sinkModule.getId() + BATCH_TIMEOUT_SYS_PROP_SUFFIX,
+                asyncPolicy.getBatchTimeoutMs()));
         Optional<DispatchQueueFactory> factory = DispatchQueueServiceLoader.getDispatchQueueFactory();
 
         DispatchQueue<S> dispatchQueue;
@@ -104,6 +124,7 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
         state.getMetrics().register(queueSizeMetricName(), (Gauge<Integer>) activeDispatchers::get);
 
         droppedCounter = state.getMetrics().counter(MetricRegistry.name(state.getModule().getId(), "dropped"));
+        batchSizeHistogram = state.getMetrics().histogram(batchSizeMetricName());
 
         executor = Executors.newFixedThreadPool(asyncPolicy.getNumThreads(),
                 new LogPreservingThreadFactory(SystemInfoUtils.DEFAULT_INSTANCE_ID + ".Sink.AsyncDispatcher." +
@@ -115,7 +136,16 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
         return MetricRegistry.name(state.getModule().getId(), "queue-size");
     }
 
+    private String batchSizeMetricName() {
+        return MetricRegistry.name(state.getModule().getId(), "batch-size");
+    }
+
     private void dispatchFromQueue() {
+        if (batchSize > 1) {
+            dispatchBatchesFromQueue();
+            return;
+        }
+
         while (true) {
             try {
                 LOG.trace("Asking dispatch queue for the next entry...");
@@ -125,23 +155,44 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
                 LOG.trace("Sending message {} via sync dispatcher", messageEntry);
                 syncDispatcher.send(messageEntry.getValue());
                 LOG.trace("Successfully sent message {}", messageEntry);
+                batchSizeHistogram.update(1);
+
+                completeFuture(messageEntry);
 
-                if (messageEntry.getKey() != null) {
-                    LOG.trace("Attempting to complete future for message {}", messageEntry);
-                    CompletableFuture<DispatchStatus> messageFuture = futureMap.remove(messageEntry.getKey());
+                activeDispatchers.decrementAndGet();
+            } catch (InterruptedException e) {
+                break;
+            } catch (Exception e) {
+                RATE_LIMITED_LOGGER.warn("Encountered exception while taking from dispatch queue", e);
+            }
+        }
+    }
 
-                    if (messageFuture != null) {
-                        messageFuture.complete(DispatchStatus.DISPATCHED);
-                        LOG.trace("Completed future for message {}", messageEntry);
-                    } else {
-                        RATE_LIMITED_LOGGER.warn("No future found for message {}", messageEntry);
-                        missedFutures.incrementAndGet();
+    /**
+     * Drains the queue in batches of up to {@link #batchSize} entries and hands each batch to the
+     * sync dispatcher in a single call, completing all of the futures of the batch once it was sent.
+     */
+    private void dispatchBatchesFromQueue() {
+        while (true) {
+            try {
+                LOG.trace("Asking dispatch queue for the next batch of up to {} entries...", batchSize);
+                List<Map.Entry<String, S>> messageEntries = atomicResultQueue.dequeueBatch(batchSize,
+                        batchTimeoutMs);
+                LOG.trace("Received {} message entries from dispatch queue", messageEntries.size());
+                activeDispatchers.incrementAndGet();
+                try {
+                    final List<S> messages = new ArrayList<>(messageEntries.size());
+                    for (Map.Entry<String, S> messageEntry : messageEntries) {
+                        messages.add(messageEntry.getValue());
                     }
-                } else {
-                    LOG.trace("Dequeued an entry with a null key");
-                }
+                    syncDispatcher.sendBatch(messages);
+                    LOG.trace("Successfully sent batch of {} messages", messages.size());
+                    batchSizeHistogram.update(messages.size());
 
-                activeDispatchers.decrementAndGet();
+                    messageEntries.forEach(this::completeFuture);
+                } finally {
+                    activeDispatchers.decrementAndGet();
+                }
             } catch (InterruptedException e) {
                 break;
             } catch (Exception e) {
@@ -150,6 +201,23 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
         }
     }
 
+    private void completeFuture(Map.Entry<String, S> messageEntry) {
+        if (messageEntry.getKey() != null) {
+            LOG.trace("Attempting to complete future for message {}", messageEntry);
+            CompletableFuture<DispatchStatus> messageFuture = futureMap.remove(messageEntry.getKey());
+
+            if (messageFuture != null) {
+                messageFuture.complete(DispatchStatus.DISPATCHED);
+                LOG.trace("Completed future for message {}", messageEntry);
+            } else {
+                RATE_LIMITED_LOGGER.warn("No future found for message {}", messageEntry);
+                missedFutures.incrementAndGet();
+            }
+        } else {
+            LOG.trace("Dequeued an entry with a null key");
+        }
+    }
+
     private void startDrainingQueue() {
         for (int i = 0; i < asyncPolicy.getNumThreads(); i++) {
             executor.execute(this::dispatchFromQueue);
@@ -230,6 +298,23 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
             return messageEntry;
         }
 
+        List<Map.Entry<String, T>> dequeueBatch(int maxEntries, long timeoutMs) throws InterruptedException {
+            List<Map.Entry<String, T>> messageEntries = dispatchQueue.dequeueBatch(maxEntries, timeoutMs,
+                    TimeUnit.MILLISECONDS);
+
+            for (Map.Entry<String, T> messageEntry : messageEntries) {
+                if (messageEntry.getKey() == null) {
+                    continue;
+                }
+                CountDownLatch resultRecorded = resultRecordedMap.remove(messageEntry.getKey());
+                if (resultRecorded != null) {
+                    resultRecorded.await();
+                }
+            }
+
+            return messageEntries;
+        }
+
         boolean isFull() {
             return dispatchQueue.isFull();
         }
@@ -247,6 +332,7 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
     @Override
     public void close() throws Exception {
         state.getMetrics().remove(queueSizeMetricName());
+        state.getMetrics().remove(batchSizeMetricName());
         syncDispatcher.close();
         executor.shutdown();
     }
@@ -277,6 +363,29 @@ public class AsyncDispatcherImpl<W, S extends Message, T extends Message> implem
             return queue.take();
         }
 
+        @Override
+        public List<Map.Entry<String, T>> dequeueBatch(int maxEntries, long timeout, TimeUnit unit)
+                throws InterruptedException {
+            final List<Map.Entry<String, T>> entries = new ArrayList<>(maxEntries);
+            entries.add(queue.take());
+            queue.drainTo(entries, maxEntries - entries.size());
+
+            final long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (entries.size() < maxEntries) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                final Map.Entry<String, T> entry = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (entry == null) {
+                    break;
+                }
+                entries.add(entry);
+                queue.drainTo(entries, maxEntries - entries.size());
+            }
+            return entries;
+        }
+
         @Override
         public boolean isFull() {
             return queue.remainingCapacity() <= 0;
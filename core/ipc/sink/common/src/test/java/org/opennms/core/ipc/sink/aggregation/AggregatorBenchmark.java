@@ -0,0 +1,143 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.aggregation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.opennms.core.ipc.sink.api.AggregationPolicy;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare the striped-lock {@link Aggregator}
+ * with the {@link ShardedAggregator}.
+ * <p>
+ * The benchmark is run once for every number of producer threads in {@link #THREADS}.
+ */
+public class AggregatorBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    public static void main(String[] args) throws Exception {
+        for (int threads : THREADS) {
+            final Options opt = new OptionsBuilder()
+                    .include(AggregatorBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(opt).run();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({"striped", "sharded"})
+        public String aggregator;
+
+        // the number of distinct bucket keys, i.e. the number of exporters or agents
+        @Param({"1", "64"})
+        public int numKeys;
+
+        private AggregatingMessageProducer<Integer, List<Integer>> producer;
+
+        private final LongAdder dispatched = new LongAdder();
+
+        @Setup
+        public void setup() {
+            if ("sharded".equals(aggregator)) {
+                System.setProperty(ShardedAggregator.ENABLED_SYS_PROP, "true");
+            } else {
+                System.clearProperty(ShardedAggregator.ENABLED_SYS_PROP);
+            }
+            producer = new AggregatingMessageProducer<Integer, List<Integer>>("benchmark", new ListAggregationPolicy(numKeys)) {
+                @Override
+                public void dispatch(List<Integer> message) {
+                    dispatched.add(message.size());
+                }
+            };
+        }
+
+        @TearDown
+        public void tearDown() throws Exception {
+            producer.close();
+            System.clearProperty(ShardedAggregator.ENABLED_SYS_PROP);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public void aggregate(BState state) {
+        state.producer.send(ThreadLocalRandom.current().nextInt());
+    }
+
+    private static class ListAggregationPolicy implements AggregationPolicy<Integer, List<Integer>, List<Integer>> {
+        private final int numKeys;
+
+        private ListAggregationPolicy(int numKeys) {
+            this.numKeys = numKeys;
+        }
+
+        @Override
+        public int getCompletionSize() {
+            return 1000;
+        }
+
+        @Override
+        public int getCompletionIntervalMs() {
+            return 500;
+        }
+
+        @Override
+        public Object key(Integer message) {
+            return Math.floorMod(message, numKeys);
+        }
+
+        @Override
+        public List<Integer> aggregate(List<Integer> accumulator, Integer message) {
+            if (accumulator == null) {
+                accumulator = new ArrayList<>(getCompletionSize());
+            }
+            accumulator.add(message);
+            return accumulator;
+        }
+
+        @Override
+        public List<Integer> build(List<Integer> accumulator) {
+            return accumulator;
+        }
+    }
+}
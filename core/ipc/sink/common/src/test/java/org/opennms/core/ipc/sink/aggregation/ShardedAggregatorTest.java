@@ -0,0 +1,262 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.aggregation;
+
+import static org.awaitility.Awaitility.await;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.core.ipc.sink.api.AggregationPolicy;
+
+public class ShardedAggregatorTest {
+
+    private static final int COMPLETION_SIZE = 10;
+
+    private final Queue<List<Integer>> dispatched = new ConcurrentLinkedQueue<>();
+
+    @Before
+    public void setUp() {
+        System.setProperty(ShardedAggregator.ENABLED_SYS_PROP, "true");
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(ShardedAggregator.ENABLED_SYS_PROP);
+        System.clearProperty(ShardedAggregator.NUM_SHARDS_SYS_PROP);
+    }
+
+    @Test
+    public void aggregateBySizeOnSingleThread() throws Exception {
+        try (CapturingProducer producer = new CapturingProducer(new ListAggregationPolicy(2, 0))) {
+            for (int i = 0; i < 10 * COMPLETION_SIZE; i++) {
+                producer.send(i);
+            }
+            // 2 keys, completing every 10 messages
+            assertThat(dispatched, hasSize(10));
+            for (List<Integer> bucket : dispatched) {
+                assertEquals(COMPLETION_SIZE, bucket.size());
+                // All the messages in the bucket must have the same key
+                final int key = bucket.get(0) % 2;
+                bucket.forEach(m -> assertEquals(key, m % 2));
+            }
+        }
+    }
+
+    @Test
+    public void aggregateByInterval() throws Exception {
+        try (CapturingProducer producer = new CapturingProducer(new ListAggregationPolicy(1, 100))) {
+            producer.send(1);
+            producer.send(2);
+            await().atMost(2, SECONDS)
+                .pollDelay(50, MILLISECONDS)
+                .until(() -> dispatched, hasSize(1));
+            assertEquals(2, dispatched.peek().size());
+        }
+    }
+
+    @Test
+    public void noMessagesAreLostWithConcurrentProducers() throws Exception {
+        final int numThreads = 16;
+        final int messagesPerThread = 10000;
+        try (CapturingProducer producer = new CapturingProducer(new ListAggregationPolicy(4, 1))) {
+            final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+            final CountDownLatch done = new CountDownLatch(numThreads);
+            for (int t = 0; t < numThreads; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < messagesPerThread; i++) {
+                        producer.send(i);
+                    }
+                    done.countDown();
+                });
+            }
+            done.await();
+            executor.shutdown();
+
+            // Whatever is left over gets flushed by the timer
+            await().atMost(10, SECONDS)
+                .pollDelay(10, MILLISECONDS)
+                .until(() -> dispatched.stream().mapToInt(List::size).sum(), equalTo(numThreads * messagesPerThread));
+        }
+    }
+
+    @Test
+    public void busyBucketsAreNotFlushed() throws Exception {
+        final CountDownLatch inAggregate = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final ListAggregationPolicy policy = new ListAggregationPolicy(1, 50) {
+            @Override
+            public Object aggregate(Object accumulator, Integer message) {
+                if (calls.incrementAndGet() == 2) {
+                    inAggregate.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.aggregate(accumulator, message);
+            }
+        };
+        try (CapturingProducer producer = new CapturingProducer(policy, 1)) {
+            producer.send(1);
+            final Thread t = new Thread(() -> producer.send(2));
+            t.start();
+            inAggregate.await();
+
+            // The flush timer fires several times while the bucket is being accumulated into
+            Thread.sleep(200);
+            assertThat(dispatched, hasSize(0));
+
+            // The producer notices that the bucket is due and flushes it itself
+            release.countDown();
+            t.join();
+            assertThat(dispatched, hasSize(1));
+            assertEquals(2, dispatched.peek().size());
+        }
+    }
+
+    @Test
+    public void waitingProducersDoNotSpin() throws Exception {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        final CountDownLatch inAggregate = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final ListAggregationPolicy policy = new ListAggregationPolicy(1, 0) {
+            @Override
+            public Object aggregate(Object accumulator, Integer message) {
+                if (calls.incrementAndGet() == 1) {
+                    inAggregate.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.aggregate(accumulator, message);
+            }
+        };
+        try (CapturingProducer producer = new CapturingProducer(policy, 1)) {
+            final Thread busy = new Thread(() -> producer.send(1));
+            busy.start();
+            inAggregate.await();
+
+            // The only bucket for the key is busy, so the second producer has to wait for it
+            final Thread waiting = new Thread(() -> producer.send(2));
+            waiting.start();
+            Thread.sleep(500);
+            assertThat(calls.get(), equalTo(1));
+            assertThat(threadMXBean.getThreadCpuTime(waiting.getId()), lessThan(MILLISECONDS.toNanos(250)));
+
+            release.countDown();
+            busy.join();
+            waiting.join();
+            assertThat(calls.get(), equalTo(2));
+        }
+    }
+
+    /**
+     * Uses the {@link AggregatingMessageProducer} so that we also verify
+     * that the sharded aggregator is picked up when enabled.
+     */
+    private class CapturingProducer extends AggregatingMessageProducer<Integer, List<Integer>> {
+
+        public CapturingProducer(ListAggregationPolicy policy) {
+            this(policy, 4);
+        }
+
+        public CapturingProducer(ListAggregationPolicy policy, int numShards) {
+            super("test", withShards(policy, numShards));
+        }
+
+        @Override
+        public void dispatch(List<Integer> message) {
+            dispatched.add(message);
+        }
+    }
+
+    private static ListAggregationPolicy withShards(ListAggregationPolicy policy, int numShards) {
+        System.setProperty(ShardedAggregator.NUM_SHARDS_SYS_PROP, Integer.toString(numShards));
+        return policy;
+    }
+
+    private static class ListAggregationPolicy implements AggregationPolicy<Integer, List<Integer>, Object> {
+        private final int numKeys;
+        private final int interval;
+
+        private ListAggregationPolicy(int numKeys, int interval) {
+            this.numKeys = numKeys;
+            this.interval = interval;
+        }
+
+        @Override
+        public int getCompletionSize() {
+            return COMPLETION_SIZE;
+        }
+
+        @Override
+        public int getCompletionIntervalMs() {
+            return interval;
+        }
+
+        @Override
+        public Object key(Integer message) {
+            return message % numKeys;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Object aggregate(Object accumulator, Integer message) {
+            List<Integer> list = (List<Integer>) accumulator;
+            if (list == null) {
+                list = new ArrayList<>();
+            }
+            list.add(message);
+            return list;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public List<Integer> build(Object accumulator) {
+            return (List<Integer>) accumulator;
+        }
+    }
+}
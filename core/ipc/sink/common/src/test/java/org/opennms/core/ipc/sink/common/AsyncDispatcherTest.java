@@ -26,8 +26,11 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -377,5 +380,118 @@ public class AsyncDispatcherTest {
 
         asyncDispatcher.close();
     }
-    
+
+    @Test(timeout=3*60*1000)
+    public void canDispatchInBatches() throws Exception {
+        final int batchSize = 10;
+        final int totalToSend = 95;
+        DispatchQueueFactory dispatchQueueFactory = new QueueFileOffHeapDispatchQueueFactory(QUEUE_SIZE, batchSize,
+                null, folder.newFolder().toPath().toString());
+        DispatchQueueServiceLoader.setDispatchQueue(dispatchQueueFactory);
+
+        when(module.getAsyncPolicy()).thenReturn(new AsyncPolicy() {
+            @Override
+            public int getQueueSize() {
+                return QUEUE_SIZE;
+            }
+
+            @Override
+            public int getNumThreads() {
+                return 1;
+            }
+
+            @Override
+            public boolean isBlockWhenFull() {
+                return true;
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            @Override
+            public long getBatchTimeoutMs() {
+                return 10;
+            }
+        });
+
+        final AsyncDispatcher<MyMessage> asyncDispatcher = blockableDispatcherFactory.createAsyncDispatcher(module);
+        BlockableSyncDispatcher<MyMessage> blockableSyncDispatcher =
+                blockableDispatcherFactory.getBlockableSyncDispatcher();
+        final List<CompletableFuture<AsyncDispatcher.DispatchStatus>> futures = new ArrayList<>();
+
+        // Park the single dispatch thread so that the remaining messages pile up in the queue
+        blockableSyncDispatcher.block();
+        for (int i = 0; i < totalToSend; i++) {
+            futures.add(asyncDispatcher.send(new MyMessage(Integer.toString(i))));
+        }
+        await().atMost(1, MINUTES).until(blockableSyncDispatcher::getBlockedThreadCount, equalTo(1));
+
+        blockableSyncDispatcher.unblock();
+
+        await().atMost(1, MINUTES).until(() -> blockableSyncDispatcher.getNumMessageDispatched(),
+                equalTo(totalToSend));
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[]{})).get();
+
+        // The backlog should have been drained in full batches
+        List<Integer> batchSizes = blockableSyncDispatcher.getDispatchedBatchSizes();
+        assertThat(batchSizes, everyItem(lessThanOrEqualTo(batchSize)));
+        assertThat(batchSizes.size(), lessThanOrEqualTo(totalToSend / 2));
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).max().getAsInt(), greaterThan(1));
+        assertThat(((AsyncDispatcherImpl) asyncDispatcher).getMissedFutures(), equalTo(0L));
+
+        asyncDispatcher.close();
+    }
+
+    @Test(timeout=3*60*1000)
+    public void canEnableBatchingWithSystemProperties() throws Exception {
+        final int totalToSend = 50;
+        DispatchQueueFactory dispatchQueueFactory = new QueueFileOffHeapDispatchQueueFactory(QUEUE_SIZE, 10,
+                null, folder.newFolder().toPath().toString());
+        DispatchQueueServiceLoader.setDispatchQueue(dispatchQueueFactory);
+
+        // The policy itself does not batch
+        when(module.getAsyncPolicy()).thenReturn(new AsyncPolicy() {
+            @Override
+            public int getQueueSize() {
+                return QUEUE_SIZE;
+            }
+
+            @Override
+            public int getNumThreads() {
+                return 1;
+            }
+
+            @Override
+            public boolean isBlockWhenFull() {
+                return true;
+            }
+        });
+
+        System.setProperty(AsyncDispatcherImpl.SYS_PROP_PREFIX + "myModule" + AsyncDispatcherImpl.BATCH_SIZE_SYS_PROP_SUFFIX, "25");
+        final AsyncDispatcher<MyMessage> asyncDispatcher;
+        try {
+            asyncDispatcher = blockableDispatcherFactory.createAsyncDispatcher(module);
+        } finally {
+            System.clearProperty(AsyncDispatcherImpl.SYS_PROP_PREFIX + "myModule" + AsyncDispatcherImpl.BATCH_SIZE_SYS_PROP_SUFFIX);
+        }
+        BlockableSyncDispatcher<MyMessage> blockableSyncDispatcher =
+                blockableDispatcherFactory.getBlockableSyncDispatcher();
+
+        blockableSyncDispatcher.block();
+        for (int i = 0; i < totalToSend; i++) {
+            asyncDispatcher.send(new MyMessage(Integer.toString(i)));
+        }
+        await().atMost(1, MINUTES).until(blockableSyncDispatcher::getBlockedThreadCount, equalTo(1));
+        blockableSyncDispatcher.unblock();
+
+        await().atMost(1, MINUTES).until(() -> blockableSyncDispatcher.getNumMessageDispatched(),
+                equalTo(totalToSend));
+        List<Integer> batchSizes = blockableSyncDispatcher.getDispatchedBatchSizes();
+        assertThat(batchSizes, everyItem(lessThanOrEqualTo(25)));
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).max().getAsInt(), greaterThan(1));
+
+        asyncDispatcher.close();
+    }
 }
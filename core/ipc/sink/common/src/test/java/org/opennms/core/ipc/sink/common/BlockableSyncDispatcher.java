@@ -35,6 +35,7 @@ public class BlockableSyncDispatcher<S extends Message> implements SyncDispatche
     private final AtomicInteger blockedThreads = new AtomicInteger(0);
     private final AtomicInteger numDispatched = new AtomicInteger(0);
     private final List<S> dispatchedMessages = new CopyOnWriteArrayList<>();
+    private final List<Integer> dispatchedBatchSizes = new CopyOnWriteArrayList<>();
 
     @Override
     public void send(S message) {
@@ -45,6 +46,12 @@ public class BlockableSyncDispatcher<S extends Message> implements SyncDispatche
         blockedThreads.decrementAndGet();
     }
 
+    @Override
+    public void sendBatch(List<S> messages) {
+        dispatchedBatchSizes.add(messages.size());
+        SyncDispatcher.super.sendBatch(messages);
+    }
+
     @Override
     public void close() {
         // pass
@@ -70,6 +77,10 @@ public class BlockableSyncDispatcher<S extends Message> implements SyncDispatche
         return Collections.unmodifiableList(dispatchedMessages);
     }
 
+    public List<Integer> getDispatchedBatchSizes() {
+        return Collections.unmodifiableList(dispatchedBatchSizes);
+    }
+
     private static class DispatchThreadLatch {
         private boolean blocked = false;
 
@@ -28,6 +28,8 @@ import static org.opennms.core.ipc.sink.api.Message.SINK_METRIC_PRODUCER_DOMAIN;
 
 import java.io.IOException;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
@@ -111,6 +113,68 @@ public class KafkaRemoteMessageDispatcherFactory extends AbstractMessageDispatch
         }
     }
 
+    /**
+     * Sends all of the messages that fit in a single chunk without waiting for the individual acknowledgements,
+     * and then waits for all of them at once. Messages that need to be split into several chunks are sent
+     * individually via {@link #dispatch} since their chunks need to end up on the same partition. The messages before
+     * them are acknowledged first, so that the order of the batch is kept.
+     * <p>
+     * Records that timed out are sent again one by one, in the order of the batch, once the earlier records were
+     * acknowledged. The producer expires the records of a partition in the order they were sent, so the records
+     * following a timed out record on the same partition usually time out as well and keep their order. If a later
+     * record was acknowledged nonetheless, the record sent again ends up after it. Consumers of the sink messages
+     * must not rely on the order across a timeout, as with the retries of the producer itself.
+     */
+    @Override
+    public <S extends Message, T extends Message> void dispatchBatch(SinkModule<S, T> module, String topic, List<T> messages) {
+        try (MDCCloseable mdc = Logging.withPrefixCloseable(MessageConsumerManager.LOG_PREFIX)) {
+            LOG.trace("dispatchBatch({}): sending {} messages", topic, messages.size());
+            final List<ProducerRecord<String, byte[]>> records = new ArrayList<>(messages.size());
+            final List<Future<RecordMetadata>> futures = new ArrayList<>(messages.size());
+            for (T message : messages) {
+                byte[] sinkMessageContent = module.marshal(message);
+                if (sinkMessageContent.length > maxBufferSize) {
+                    // Keep the order of the batch: the records sent so far must be acknowledged first
+                    awaitRecords(topic, records, futures);
+                    dispatch(module, topic, message);
+                    continue;
+                }
+                String messageId = UUID.randomUUID().toString();
+                final String messageKey = module.getRoutingKey(message).orElse(messageId);
+                byte[] messageInBytes = wrapMessageToProto(messageId, 0, 1, sinkMessageContent);
+                final ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, messageKey, messageInBytes);
+                records.add(record);
+                futures.add(producer.send(record));
+            }
+            awaitRecords(topic, records, futures);
+        }
+    }
+
+    private void awaitRecords(String topic, List<ProducerRecord<String, byte[]>> records, List<Future<RecordMetadata>> futures) {
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (InterruptedException e) {
+                    LOG.warn("Interrupted while sending batch to topic {}.", topic, e);
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (ExecutionException e) {
+                    if (e.getCause() != null && e.getCause() instanceof TimeoutException) {
+                        // Fall back to the blocking retry loop for this record
+                        LOG.warn("Timeout occured while sending message to topic {}, it will be attempted again.", topic);
+                        sendMessageChunkToKafka(topic, records.get(i));
+                    } else {
+                        LOG.error("Exception occured while sending message to topic {} ", topic, e);
+                    }
+                }
+            }
+        } finally {
+            records.clear();
+            futures.clear();
+        }
+    }
+
     /**
      * This method will divide message into chunks and send each chunk to kafka.
      * This will return false by default. If this is large buffer (total chunks > 1) and if different chunks have
@@ -172,7 +236,7 @@ public class KafkaRemoteMessageDispatcherFactory extends AbstractMessageDispatch
                 if (e.getCause() != null && e.getCause() instanceof TimeoutException) {
                     LOG.warn("Timeout occured while sending message to topic {}, it will be attempted again.", topic);
                 } else {
-                    LOG.error("Exception occured while sending message to topic {} ", e);
+                    LOG.error("Exception occured while sending message to topic {} ", topic, e);
                     break;
                 }
             }
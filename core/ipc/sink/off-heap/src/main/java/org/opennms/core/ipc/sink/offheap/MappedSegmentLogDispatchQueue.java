@@ -0,0 +1,501 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.offheap;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+import org.opennms.core.ipc.sink.api.QueueCreateFailedException;
+import org.opennms.core.ipc.sink.api.WriteFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.swrve.ratelimitedlogger.RateLimitedLog;
+
+/**
+ * A {@link DispatchQueue} backed by an append-only log of fixed-size, memory-mapped segment files.
+ * <p>
+ * Every entry is written straight into the mapped tail segment as a length-prefixed record, and read back from
+ * the mapped head segment, so enqueueing and dequeueing do not issue any system calls. The position of the read
+ * cursor is kept in a small, memory-mapped checkpoint file which is updated on every dequeue and used to resume
+ * reading after a restart. The operating system is responsible for writing dirty pages back to disk, segments are
+ * only explicitly forced to disk when the log rolls over to a new segment.
+ * <p>
+ * Entries are considered to be acknowledged once they were dequeued. A segment file is deleted as soon as the read
+ * cursor moves past its last entry.
+ * <p>
+ * All entries are written to disk, so {@link #enqueue} always returns {@link EnqueueResult#DEFERRED} and the keys are
+ * not retained. The queue is full once the log reached its maximum number of segments, i.e. once no further bytes
+ * can be allocated on disk. {@link #enqueue} then blocks as soon as the tail segment runs out of space, until the
+ * head segment was fully read.
+ *
+ * @param <T> the type being queued
+ */
+public class MappedSegmentLogDispatchQueue<T> implements DispatchQueue<T>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedSegmentLogDispatchQueue.class);
+    private final RateLimitedLog RATE_LIMITED_LOGGER = RateLimitedLog
+            .withRateLimit(LOG)
+            .maxRate(5)
+            .every(Duration.ofSeconds(30))
+            .build();
+
+    private static final String DIRECTORY_EXTENSION = ".segments";
+    private static final String SEGMENT_EXTENSION = ".seg";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    // Every record is prefixed with its length plus one, so that empty records can be told apart from unwritten
+    // space, which reads as 0 since new files are zero-filled
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES;
+    private static final int NO_RECORD = 0;
+    // Written in place of a record header when the remainder of the segment is unused
+    private static final int END_OF_SEGMENT = -1;
+    // The checkpoint holds the id of the segment and the offset of the read cursor
+    private static final int CHECKPOINT_SIZE = Long.BYTES + Integer.BYTES;
+
+    // Used to unmap segments, see unmap()
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.warn("Mapped segments cannot be unmapped explicitly, they are released by the garbage collector", e);
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final Function<T, byte[]> serializer;
+    private final Function<byte[], T> deserializer;
+    private final String moduleName;
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    // Guarded by the lock, the head is being read from and the tail is being written to
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private int readOffset;
+    private int writeOffset;
+    private final MappedByteBuffer checkpoint;
+    private final FileChannel checkpointChannel;
+
+    private final AtomicInteger size = new AtomicInteger(0);
+    // Mirrors segments.size() so that isFull() does not need to take the lock
+    private volatile int segmentCount;
+
+    /**
+     * @param serializer used to turn the messages into bytes
+     * @param deserializer used to turn the bytes back into messages
+     * @param moduleName name of the module, used to name the directory holding the segments
+     * @param filePath the directory in which the segment directory is created
+     * @param segmentSize size of the individual segment files in bytes, every entry must fit in a single segment
+     * @param maxFileSizeInBytes maximum number of bytes used by all of the segments combined
+     * @throws QueueCreateFailedException if the segments could not be created or restored
+     */
+    public MappedSegmentLogDispatchQueue(Function<T, byte[]> serializer, Function<byte[], T> deserializer,
+                                         String moduleName, Path filePath, int segmentSize,
+                                         long maxFileSizeInBytes) throws QueueCreateFailedException {
+        this.serializer = Objects.requireNonNull(serializer);
+        this.deserializer = Objects.requireNonNull(deserializer);
+        this.moduleName = Objects.requireNonNull(moduleName);
+        Objects.requireNonNull(filePath);
+
+        if (segmentSize <= RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size must be greater than " + RECORD_HEADER_SIZE + " bytes");
+        }
+
+        if (maxFileSizeInBytes < segmentSize) {
+            throw new IllegalArgumentException("Max file size must be greater than or equal to the segment size");
+        }
+
+        this.segmentSize = segmentSize;
+        // We always need at least one segment to read from, and one to write to
+        this.maxSegments = (int) Math.max(2, Math.min(Integer.MAX_VALUE, maxFileSizeInBytes / segmentSize));
+
+        directory = Paths.get(filePath.toString(), moduleName + DIRECTORY_EXTENSION);
+        try {
+            Files.createDirectories(directory);
+            checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            checkpoint = checkpointChannel.map(FileChannel.MapMode.READ_WRITE, 0, CHECKPOINT_SIZE);
+            restore();
+        } catch (IOException e) {
+            throw new QueueCreateFailedException(e);
+        }
+
+        LOG.info("Restored {} entries in {} segments for module {}", size.get(), segments.size(), moduleName);
+    }
+
+    /**
+     * Re-opens the existing segments, drops the ones that were fully read according to the checkpoint and counts
+     * the remaining entries to find the position of the write cursor.
+     */
+    private void restore() throws IOException {
+        final List<Long> ids;
+        try (Stream<Path> files = Files.list(directory)) {
+            ids = files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_EXTENSION))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_EXTENSION.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        final long checkpointId = checkpoint.getLong(0);
+        final int checkpointOffset = checkpoint.getInt(Long.BYTES);
+
+        for (Long id : ids) {
+            if (id < checkpointId) {
+                LOG.debug("Deleting segment {} which was already read for module {}", id, moduleName);
+                Files.deleteIfExists(segmentPath(id));
+            } else {
+                segments.addLast(new Segment(id));
+            }
+        }
+
+        if (segments.isEmpty()) {
+            segments.addLast(new Segment(Math.max(checkpointId, ids.isEmpty() ? 0 : ids.get(ids.size() - 1) + 1)));
+            readOffset = 0;
+        } else if (segments.getFirst().id == checkpointId) {
+            readOffset = Math.max(0, Math.min(checkpointOffset, segmentSize));
+        } else {
+            readOffset = 0;
+        }
+        segmentCount = segments.size();
+        writeCheckpoint();
+
+        // Count the entries, the write cursor ends up after the last valid record of the tail segment
+        int count = 0;
+        int offset = readOffset;
+        for (Segment segment : segments) {
+            while (true) {
+                final int length = segment.lengthAt(offset);
+                if (length < 0) {
+                    break;
+                }
+                count++;
+                offset += RECORD_HEADER_SIZE + length;
+            }
+            writeOffset = offset;
+            offset = 0;
+        }
+        size.set(count);
+    }
+
+    @Override
+    public EnqueueResult enqueue(T message, String key) throws WriteFailedException {
+        final byte[] bytes = serializer.apply(message);
+        final int recordSize = RECORD_HEADER_SIZE + bytes.length;
+        if (recordSize > segmentSize) {
+            throw new WriteFailedException(new IllegalArgumentException("Entry of " + bytes.length
+                    + " bytes does not fit in a segment of " + segmentSize + " bytes"));
+        }
+
+        try {
+            lock.lockInterruptibly();
+        } catch (InterruptedException e) {
+            throw new WriteFailedException(e);
+        }
+        try {
+            while (writeOffset + recordSize > segmentSize) {
+                rollSegment();
+            }
+
+            final Segment tail = segments.getLast();
+            // Write the payload before the header so that an incomplete record is never read back
+            tail.put(writeOffset + RECORD_HEADER_SIZE, bytes);
+            tail.buffer.putInt(writeOffset, bytes.length + 1);
+            writeOffset += recordSize;
+
+            size.incrementAndGet();
+            notEmpty.signal();
+        } catch (InterruptedException e) {
+            throw new WriteFailedException(e);
+        } catch (IOException e) {
+            RATE_LIMITED_LOGGER.warn("Failed to create a new segment for module {}", moduleName, e);
+            throw new WriteFailedException(e);
+        } finally {
+            lock.unlock();
+        }
+
+        return EnqueueResult.DEFERRED;
+    }
+
+    /**
+     * Seals the tail segment and appends a new one. If the log is already at its maximum size we wait for the head
+     * segment to be consumed instead, the caller must then check whether it still needs to roll since another
+     * writer may have done so in the meantime.
+     */
+    private void rollSegment() throws InterruptedException, IOException {
+        if (segments.size() >= maxSegments) {
+            notFull.await();
+            return;
+        }
+
+        final Segment tail = segments.getLast();
+        if (writeOffset + RECORD_HEADER_SIZE <= segmentSize) {
+            tail.buffer.putInt(writeOffset, END_OF_SEGMENT);
+        }
+        // This is the only time we explicitly write to disk
+        tail.buffer.force();
+
+        segments.addLast(new Segment(tail.id + 1));
+        segmentCount = segments.size();
+        writeOffset = 0;
+    }
+
+    @Override
+    public Map.Entry<String, T> dequeue() throws InterruptedException {
+        final byte[] bytes;
+        lock.lockInterruptibly();
+        try {
+            while (size.get() == 0) {
+                notEmpty.await();
+            }
+            bytes = readNext();
+        } finally {
+            lock.unlock();
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(null, deserializer.apply(bytes));
+    }
+
+    @Override
+    public List<Map.Entry<String, T>> dequeueBatch(int maxEntries, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        final List<byte[]> records = new ArrayList<>(maxEntries);
+        long remaining = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size.get() == 0) {
+                notEmpty.await();
+            }
+            while (records.size() < maxEntries) {
+                if (size.get() > 0) {
+                    records.add(readNext());
+                } else if (remaining > 0) {
+                    remaining = notEmpty.awaitNanos(remaining);
+                } else {
+                    break;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // Deserialize outside of the lock
+        final List<Map.Entry<String, T>> entries = new ArrayList<>(records.size());
+        for (byte[] bytes : records) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(null, deserializer.apply(bytes)));
+        }
+        return entries;
+    }
+
+    /**
+     * Reads the record at the read cursor, moving on to the next segment when the end of the head segment is
+     * reached. Must be called while holding the lock and when there is at least one entry in the log.
+     */
+    private byte[] readNext() {
+        Segment head = segments.getFirst();
+        int length = head.lengthAt(readOffset);
+        while (length < 0) {
+            // We're at the end of the head segment and it was entirely read, delete it
+            segments.removeFirst();
+            segmentCount = segments.size();
+            head.delete();
+            notFull.signalAll();
+            head = segments.getFirst();
+            readOffset = 0;
+            length = head.lengthAt(readOffset);
+        }
+
+        final byte[] bytes = new byte[length];
+        head.get(readOffset + RECORD_HEADER_SIZE, bytes);
+        readOffset += RECORD_HEADER_SIZE + length;
+        size.decrementAndGet();
+        writeCheckpoint();
+        return bytes;
+    }
+
+    private void writeCheckpoint() {
+        checkpoint.putLong(0, segments.getFirst().id);
+        checkpoint.putInt(Long.BYTES, readOffset);
+    }
+
+    /**
+     * The queue is full once all of the segments were allocated. The entry being enqueued may still fit in the tail
+     * segment, but reporting the queue as full up front guarantees that {@link #enqueue} never blocks a caller which
+     * only enqueues while the queue is not full.
+     */
+    @Override
+    public boolean isFull() {
+        return segmentCount >= maxSegments;
+    }
+
+    @Override
+    public int getSize() {
+        return size.get();
+    }
+
+    @VisibleForTesting
+    public int getSegmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces all of the segments and the checkpoint to disk and closes the files. The queue must not be used
+     * afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            for (Segment segment : segments) {
+                segment.buffer.force();
+                unmap(segment.buffer);
+                segment.channel.close();
+            }
+            checkpoint.force();
+            unmap(checkpoint);
+            checkpointChannel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the mapping right away instead of waiting for the buffer to be garbage collected, so that the memory
+     * and the file are freed once the segment is deleted. The buffer must not be accessed afterwards.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.warn("Failed to unmap buffer", e);
+        }
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%020d%s", id, SEGMENT_EXTENSION));
+    }
+
+    private class Segment {
+        private final long id;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+
+        private Segment(long id) throws IOException {
+            this.id = id;
+            channel = FileChannel.open(segmentPath(id), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+
+        /**
+         * @return the length of the record at the given offset, or a negative value if there is none
+         */
+        private int lengthAt(int offset) {
+            if (offset + RECORD_HEADER_SIZE > segmentSize) {
+                return END_OF_SEGMENT;
+            }
+            final int header = buffer.getInt(offset);
+            if (header == NO_RECORD || header == END_OF_SEGMENT) {
+                return END_OF_SEGMENT;
+            }
+            final int length = header - 1;
+            if (length < 0 || length > segmentSize - offset - RECORD_HEADER_SIZE) {
+                // Corrupted header, treat the rest of the segment as unused
+                RATE_LIMITED_LOGGER.warn("Invalid record length {} at offset {} of segment {} for module {}",
+                        length, offset, id, moduleName);
+                return END_OF_SEGMENT;
+            }
+            return length;
+        }
+
+        private void put(int offset, byte[] bytes) {
+            final ByteBuffer view = buffer.duplicate();
+            view.position(offset);
+            view.put(bytes);
+        }
+
+        private void get(int offset, byte[] bytes) {
+            final ByteBuffer view = buffer.duplicate();
+            view.position(offset);
+            view.get(bytes);
+        }
+
+        private void delete() {
+            try {
+                // Unmap before deleting, the mapping would otherwise keep the file alive until the next GC
+                unmap(buffer);
+                channel.close();
+                Files.deleteIfExists(segmentPath(id));
+            } catch (IOException e) {
+                RATE_LIMITED_LOGGER.warn("Failed to delete segment {} for module {}", id, moduleName, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.offheap;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.opennms.core.ipc.sink.api.AsyncPolicy;
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+import org.opennms.core.ipc.sink.api.DispatchQueueFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates a {@link MappedSegmentLogDispatchQueue} per module.
+ */
+public class MappedSegmentLogDispatchQueueFactory implements DispatchQueueFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedSegmentLogDispatchQueueFactory.class);
+
+    private final int segmentSize;
+    private final long offHeapSize;
+    private final Path baseFilePath;
+
+    private final Map<String, DispatchQueue<?>> queues = new ConcurrentHashMap<>();
+
+    public MappedSegmentLogDispatchQueueFactory(String segmentSize, String offHeapSize, String baseFilePath) {
+        final long segmentSizeInBytes = QueueFileOffHeapDispatchQueueFactory.convertToBytes(segmentSize);
+        if (segmentSizeInBytes <= 0 || segmentSizeInBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid segment size " + segmentSize + ". The segment size must be" +
+                    " greater than 0 and less than 2GB");
+        }
+        this.segmentSize = (int) segmentSizeInBytes;
+        this.offHeapSize = QueueFileOffHeapDispatchQueueFactory.convertToBytes(offHeapSize);
+
+        if (baseFilePath == null || baseFilePath.length() == 0) {
+            this.baseFilePath = Paths.get(System.getProperty("karaf.data"));
+        } else {
+            this.baseFilePath = Paths.get(baseFilePath);
+        }
+
+        LOG.info("DispatchQueue factory initialized with segment size: {}, off-heap size: {}, and file path: {}",
+                this.segmentSize, this.offHeapSize, this.baseFilePath);
+    }
+
+    @Override
+    public <T> DispatchQueue<T> getQueue(AsyncPolicy asyncPolicy, String moduleName, Function<T, byte[]> serializer,
+                                         Function<byte[], T> deserializer) {
+        return (DispatchQueue<T>) queues.computeIfAbsent(moduleName, (k) ->
+                new MappedSegmentLogDispatchQueue<>(serializer, deserializer, k, baseFilePath, segmentSize,
+                        offHeapSize));
+    }
+
+    /**
+     * Used by the blueprint to choose between the available off-heap queue implementations.
+     *
+     * The segment log is only used when an off-heap size is set, otherwise we fall back to the in-memory
+     * queue of the {@link QueueFileOffHeapDispatchQueueFactory}.
+     *
+     * @param queueType either <code>queue-file</code> or <code>segment-log</code>
+     */
+    public static DispatchQueueFactory create(String queueType, int inMemoryEntrySize, int batchSize,
+                                              String offHeapSize, String baseFilePath, String segmentSize) {
+        if ("segment-log".equalsIgnoreCase(queueType) && QueueFileOffHeapDispatchQueueFactory.convertToBytes(offHeapSize) > 0) {
+            return new MappedSegmentLogDispatchQueueFactory(segmentSize, offHeapSize, baseFilePath);
+        } else if (queueType != null && queueType.length() > 0 && !"queue-file".equalsIgnoreCase(queueType)) {
+            LOG.warn("Unknown off-heap queue type '{}', using 'queue-file' instead.", queueType);
+        }
+        return new QueueFileOffHeapDispatchQueueFactory(inMemoryEntrySize, batchSize, offHeapSize, baseFilePath);
+    }
+}
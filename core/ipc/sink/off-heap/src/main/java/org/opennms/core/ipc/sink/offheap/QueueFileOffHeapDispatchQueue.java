@@ -43,6 +43,7 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
@@ -361,6 +362,38 @@ public class QueueFileOffHeapDispatchQueue<T> implements DispatchQueue<T> {
         return inMemoryQueue.take();
     }
 
+    /**
+     * Dequeues the first entry via {@link #dequeue()}, which takes care of moving entries from off-heap to the
+     * in-memory queue, and then drains as many additional entries as are available from the in-memory queue.
+     * <p>
+     * We intentionally do not wait on the timeout while entries remain off-heap since they will be moved in-memory
+     * on the next call.
+     */
+    @Override
+    public List<Map.Entry<String, T>> dequeueBatch(int maxEntries, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        final List<Map.Entry<String, T>> entries = new ArrayList<>(maxEntries);
+        entries.add(dequeue());
+        inMemoryQueue.drainTo(entries, maxEntries - entries.size());
+
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (entries.size() < maxEntries && getSize() == inMemoryQueue.size()) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            final Map.Entry<String, T> entry = inMemoryQueue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (entry == null) {
+                break;
+            }
+            entries.add(entry);
+            inMemoryQueue.drainTo(entries, maxEntries - entries.size());
+        }
+
+        LOG.trace("Dequeued a batch of {} entries", entries.size());
+        return entries;
+    }
+
     @Override
     public boolean isFull() {
         if (offHeapQueue == null) {
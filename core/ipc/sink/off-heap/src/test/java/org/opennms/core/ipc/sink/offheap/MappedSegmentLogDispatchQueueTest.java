@@ -0,0 +1,234 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.offheap;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.awaitility.core.ConditionTimeoutException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+import org.opennms.core.ipc.sink.api.WriteFailedException;
+
+public class MappedSegmentLogDispatchQueueTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void canQueueAndDequeue() throws Exception {
+        try (MappedSegmentLogDispatchQueue<String> queue = new MappedSegmentLogDispatchQueue<>(String::getBytes,
+                String::new, "canQueueAndDequeue", folder.newFolder().toPath(), 1024, 1024 * 1024)) {
+            assertThat(queue.enqueue("msg1", "key1"), equalTo(DispatchQueue.EnqueueResult.DEFERRED));
+            queue.enqueue("msg2", "key2");
+
+            assertThat(queue.getSize(), equalTo(2));
+            assertThat(queue.dequeue().getValue(), equalTo("msg1"));
+            assertThat(queue.dequeue().getValue(), equalTo("msg2"));
+            assertThat(queue.getSize(), equalTo(0));
+        }
+    }
+
+    @Test
+    public void canRollAndDeleteSegments() throws Exception {
+        // Every record takes 4 bytes for the header and 4 bytes for the payload, so 4 records fit per segment
+        try (MappedSegmentLogDispatchQueue<String> queue = new MappedSegmentLogDispatchQueue<>(String::getBytes,
+                String::new, "canRollAndDeleteSegments", folder.newFolder().toPath(), 32, 1024)) {
+            for (int i = 0; i < 10; i++) {
+                queue.enqueue("m" + String.format("%03d", i), null);
+            }
+            assertThat(queue.getSize(), equalTo(10));
+            assertThat(queue.getSegmentCount(), equalTo(3));
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(queue.dequeue().getValue(), equalTo("m" + String.format("%03d", i)));
+            }
+            // The first segment was fully read
+            assertThat(queue.getSegmentCount(), equalTo(2));
+
+            final List<Map.Entry<String, String>> batch = queue.dequeueBatch(10, 0, TimeUnit.MILLISECONDS);
+            assertThat(batch.size(), equalTo(5));
+            for (int i = 0; i < 5; i++) {
+                assertThat(batch.get(i).getValue(), equalTo("m" + String.format("%03d", i + 5)));
+            }
+            assertThat(queue.getSize(), equalTo(0));
+        }
+    }
+
+    @Test
+    public void canRestoreFromCheckpoint() throws Exception {
+        final Path path = folder.newFolder().toPath();
+        try (MappedSegmentLogDispatchQueue<String> queue = new MappedSegmentLogDispatchQueue<>(String::getBytes,
+                String::new, "canRestoreFromCheckpoint", path, 64, 1024)) {
+            for (int i = 0; i < 20; i++) {
+                queue.enqueue("msg" + i, null);
+            }
+            for (int i = 0; i < 7; i++) {
+                assertThat(queue.dequeue().getValue(), equalTo("msg" + i));
+            }
+        }
+
+        // Re-open the queue, we should continue where we left off
+        try (MappedSegmentLogDispatchQueue<String> queue = new MappedSegmentLogDispatchQueue<>(String::getBytes,
+                String::new, "canRestoreFromCheckpoint", path, 64, 1024)) {
+            assertThat(queue.getSize(), equalTo(13));
+            queue.enqueue("msg20", null);
+            for (int i = 7; i < 21; i++) {
+                assertThat(queue.dequeue().getValue(), equalTo("msg" + i));
+            }
+            assertThat(queue.getSize(), equalTo(0));
+        }
+    }
+
+    @Test
+    public void blocksWhenFull() throws Exception {
+        try (MappedSegmentLogDispatchQueue<String> queue = new MappedSegmentLogDispatchQueue<>(String::getBytes,
+                String::new, "blocksWhenFull", folder.newFolder().toPath(), 8, 16)) {
+            // Two segments holding a single record each
+            queue.enqueue("msg1", null);
+            queue.enqueue("msg2", null);
+
+            final AtomicBoolean didEnqueue = new AtomicBoolean(false);
+            CompletableFuture.runAsync(() -> {
+                try {
+                    queue.enqueue("msg3", null);
+                    didEnqueue.set(true);
+                } catch (WriteFailedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            try {
+                await().pollDelay(10, TimeUnit.MILLISECONDS)
+                        .atMost(100, TimeUnit.MILLISECONDS)
+                        .until(didEnqueue::get);
+                fail("Should not have enqueued yet");
+            } catch (ConditionTimeoutException expected) {
+            }
+            assertThat(queue.isFull(), is(true));
+
+            assertThat(queue.dequeue().getValue(), equalTo("msg1"));
+            // Reading the second entry releases the first segment
+            assertThat(queue.dequeue().getValue(), equalTo("msg2"));
+            await().atMost(1, TimeUnit.SECONDS).until(didEnqueue::get);
+            // msg3 was written to a newly allocated segment
+            assertThat(queue.isFull(), is(true));
+            assertThat(queue.dequeue().getValue(), equalTo("msg3"));
+            assertThat(queue.isFull(), is(false));
+        }
+    }
+
+    @Test
+    public void isFullBeforeEnqueueBlocks() throws Exception {
+        try (MappedSegmentLogDispatchQueue<String> queue = new MappedSegmentLogDispatchQueue<>(String::getBytes,
+                String::new, "isFullBeforeEnqueueBlocks", folder.newFolder().toPath(), 16, 32)) {
+            // Two segments holding two records each
+            queue.enqueue("msg1", null);
+            queue.enqueue("msg2", null);
+            assertThat(queue.isFull(), is(false));
+
+            // Allocates the last segment, callers which do not want to block must stop here
+            queue.enqueue("msg3", null);
+            assertThat(queue.isFull(), is(true));
+
+            // Once the first segment was read, it is released again
+            assertThat(queue.dequeue().getValue(), equalTo("msg1"));
+            assertThat(queue.dequeue().getValue(), equalTo("msg2"));
+            assertThat(queue.dequeue().getValue(), equalTo("msg3"));
+            assertThat(queue.isFull(), is(false));
+        }
+    }
+
+    @Test
+    public void canQueueEmptyEntries() throws Exception {
+        final Path path = folder.newFolder().toPath();
+        try (MappedSegmentLogDispatchQueue<String> queue = new MappedSegmentLogDispatchQueue<>(String::getBytes,
+                String::new, "canQueueEmptyEntries", path, 1024, 1024 * 1024)) {
+            queue.enqueue("", null);
+            queue.enqueue("msg1", null);
+            queue.enqueue("", null);
+            queue.enqueue("msg2", null);
+            assertThat(queue.dequeue().getValue(), equalTo(""));
+        }
+
+        // The empty entry must not be mistaken for the end of the segment when restoring either
+        try (MappedSegmentLogDispatchQueue<String> queue = new MappedSegmentLogDispatchQueue<>(String::getBytes,
+                String::new, "canQueueEmptyEntries", path, 1024, 1024 * 1024)) {
+            assertThat(queue.getSize(), equalTo(3));
+            assertThat(queue.dequeue().getValue(), equalTo("msg1"));
+            assertThat(queue.dequeue().getValue(), equalTo(""));
+            assertThat(queue.dequeue().getValue(), equalTo("msg2"));
+            assertThat(queue.getSize(), equalTo(0));
+        }
+    }
+
+    @Test
+    public void unmapsDeletedSegments() throws Exception {
+        final BufferPoolMXBean mapped = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> "mapped".equals(pool.getName()))
+                .findFirst()
+                .orElseThrow();
+        final Path path = folder.newFolder().toPath();
+        try (MappedSegmentLogDispatchQueue<String> queue = new MappedSegmentLogDispatchQueue<>(String::getBytes,
+                String::new, "unmapsDeletedSegments", path, 8, 1024)) {
+            // One segment per record
+            for (int i = 0; i < 10; i++) {
+                queue.enqueue("msg" + i, null);
+            }
+            final long mappedBefore = mapped.getCount();
+            for (int i = 0; i < 10; i++) {
+                queue.dequeue();
+            }
+            assertThat(queue.getSegmentCount(), equalTo(1));
+            // All but the tail segment were deleted and unmapped, without waiting for a GC
+            assertThat(mapped.getCount(), equalTo(mappedBefore - 9));
+            try (Stream<Path> files = Files.list(path.resolve("unmapsDeletedSegments.segments"))) {
+                assertThat(files.filter(file -> file.toString().endsWith(".seg")).count(), equalTo(1L));
+            }
+        }
+    }
+
+    @Test(expected = WriteFailedException.class)
+    public void rejectsEntriesLargerThanASegment() throws Exception {
+        try (MappedSegmentLogDispatchQueue<String> queue = new MappedSegmentLogDispatchQueue<>(String::getBytes,
+                String::new, "rejectsEntriesLargerThanASegment", Paths.get(folder.newFolder().toURI()), 8, 16)) {
+            queue.enqueue("too large", null);
+        }
+    }
+}
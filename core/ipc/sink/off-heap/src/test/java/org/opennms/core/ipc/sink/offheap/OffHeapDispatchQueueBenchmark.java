@@ -0,0 +1,151 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.sink.offheap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opennms.core.ipc.sink.api.DispatchQueue;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare the off-heap {@link DispatchQueue} implementations.
+ * <p>
+ * The throughput benchmark enqueues and then dequeues a backlog of entries, which is what happens when a Minion
+ * loses and then regains its connection to the broker. The recovery benchmark measures how long it takes to re-open
+ * a queue holding a backlog and to drain it.
+ */
+public class OffHeapDispatchQueueBenchmark {
+
+    private static final int BACKLOG_SIZE = 100_000;
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({"queue-file", "data-blocks", "segment-log"})
+        public String implementation;
+
+        // size of the individual messages in bytes, i.e. a syslog message or a batch of flows
+        @Param({"256", "4096"})
+        public int messageSize;
+
+        private Path path;
+        private DispatchQueue<byte[]> queue;
+        private byte[] message;
+
+        @Setup(Level.Iteration)
+        public void setup() throws IOException {
+            path = Files.createTempDirectory("offheap-benchmark");
+            message = new byte[messageSize];
+            ThreadLocalRandom.current().nextBytes(message);
+            queue = open();
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws Exception {
+            close();
+            try (Stream<Path> files = Files.walk(path)) {
+                files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+
+        DispatchQueue<byte[]> open() throws IOException {
+            switch (implementation) {
+                case "queue-file":
+                    return new QueueFileOffHeapDispatchQueue<>(b -> b, b -> b, "benchmark", path, 1000, 100,
+                            8L * 1024 * 1024 * 1024);
+                case "data-blocks":
+                    return new DataBlocksOffHeapQueue<>(b -> b, b -> b, "benchmark", path, 1000, 100,
+                            8L * 1024 * 1024 * 1024);
+                case "segment-log":
+                    return new MappedSegmentLogDispatchQueue<>(b -> b, b -> b, "benchmark", path, 64 * 1024 * 1024,
+                            8L * 1024 * 1024 * 1024);
+                default:
+                    throw new IllegalArgumentException(implementation);
+            }
+        }
+
+        void close() throws Exception {
+            if (queue instanceof MappedSegmentLogDispatchQueue) {
+                ((MappedSegmentLogDispatchQueue<byte[]>) queue).close();
+            } else if (queue instanceof DataBlocksOffHeapQueue) {
+                ((DataBlocksOffHeapQueue<byte[]>) queue).shutdown();
+            }
+        }
+
+        void reopen() throws Exception {
+            close();
+            queue = open();
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    @OperationsPerInvocation(BACKLOG_SIZE)
+    public void enqueueAndDrain(BState state, Blackhole blackhole) throws Exception {
+        for (int i = 0; i < BACKLOG_SIZE; i++) {
+            state.queue.enqueue(state.message, null);
+        }
+        while (state.queue.getSize() > 0) {
+            blackhole.consume(state.queue.dequeue());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public void recoverAndDrain(BState state, Blackhole blackhole) throws Exception {
+        for (int i = 0; i < BACKLOG_SIZE; i++) {
+            state.queue.enqueue(state.message, null);
+        }
+        // Only the entries that were persisted survive, the in-memory portions of the queues are lost
+        state.reopen();
+        while (state.queue.getSize() > 0) {
+            blackhole.consume(state.queue.dequeue());
+        }
+    }
+}
@@ -21,6 +21,7 @@
  */
 package org.opennms.core.ipc.sink.xml;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
@@ -34,8 +35,27 @@ public abstract class AbstractXmlSinkModule<S extends Message, T extends Message
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractXmlSinkModule.class);
 
+    /**
+     * Selects the wire format used when marshalling messages of a module, i.e.
+     * <code>org.opennms.core.ipc.sink.Trap.codec=protobuf</code>. Defaults to XML.
+     * Unmarshalling always accepts both formats.
+     */
+    public static final String CODEC_SYS_PROP_PREFIX = "org.opennms.core.ipc.sink.";
+    public static final String CODEC_SYS_PROP_SUFFIX = ".codec";
+    public static final String CODEC_XML = "xml";
+    public static final String CODEC_PROTOBUF = "protobuf";
+
+    /**
+     * Binary payloads start with a NUL byte, which can never start a well-formed
+     * XML document, followed by a marker and the codec version.
+     */
+    private static final byte[] BINARY_MAGIC = new byte[] { 0x00, 'O', 'N' };
+    private static final int BINARY_HEADER_LENGTH = BINARY_MAGIC.length + 1;
+
     private final Class<T> messageClazz;
 
+    private final SinkMessageCodec<T> codec;
+
     /**
      * Store a thread-local reference to the {@link XmlHandler} because 
      * Unmarshalers are not thread-safe.
@@ -44,19 +64,67 @@ public abstract class AbstractXmlSinkModule<S extends Message, T extends Message
 
 
     public AbstractXmlSinkModule(Class<T> messageClazz) {
+        this(messageClazz, null);
+    }
+
+    public AbstractXmlSinkModule(Class<T> messageClazz, SinkMessageCodec<T> codec) {
         this.messageClazz = Objects.requireNonNull(messageClazz);
+        this.codec = codec;
     }
 
     @Override
     public byte[] marshal(T message) {
+        if (isBinaryCodecEnabled()) {
+            final byte[] payload = codec.encode(message);
+            final byte[] bytes = new byte[BINARY_HEADER_LENGTH + payload.length];
+            System.arraycopy(BINARY_MAGIC, 0, bytes, 0, BINARY_MAGIC.length);
+            bytes[BINARY_MAGIC.length] = (byte) codec.getVersion();
+            System.arraycopy(payload, 0, bytes, BINARY_HEADER_LENGTH, payload.length);
+            return bytes;
+        }
         return getXmlHandler().marshal(message).getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
     public T unmarshal(byte[] bytes) {
+        if (isBinary(bytes)) {
+            final int version = bytes[BINARY_MAGIC.length] & 0xFF;
+            if (codec == null) {
+                throw new IllegalStateException(String.format("Received a binary payload for module %s, which only supports XML.", getId()));
+            }
+            if (version > codec.getVersion()) {
+                throw new IllegalStateException(String.format("Received a binary payload for module %s with version %d, but only versions up to %d are supported.",
+                        getId(), version, codec.getVersion()));
+            }
+            try {
+                return codec.decode(bytes, BINARY_HEADER_LENGTH, bytes.length - BINARY_HEADER_LENGTH);
+            } catch (IOException e) {
+                throw new IllegalStateException(String.format("Failed to decode binary payload for module %s.", getId()), e);
+            }
+        }
         return getXmlHandler().unmarshal(new String(bytes, StandardCharsets.UTF_8));
     }
 
+    /**
+     * Returns true when messages are marshalled using the binary codec instead of XML.
+     * The setting is looked up on every call, so that it can be changed at runtime.
+     */
+    protected boolean isBinaryCodecEnabled() {
+        return codec != null && CODEC_PROTOBUF.equalsIgnoreCase(System.getProperty(CODEC_SYS_PROP_PREFIX + getId() + CODEC_SYS_PROP_SUFFIX, CODEC_XML));
+    }
+
+    private static boolean isBinary(byte[] bytes) {
+        if (bytes.length < BINARY_HEADER_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < BINARY_MAGIC.length; i++) {
+            if (bytes[i] != BINARY_MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public byte[] marshalSingleMessage(S message) {
         return marshal((T)getAggregationPolicy().aggregate(null, message));
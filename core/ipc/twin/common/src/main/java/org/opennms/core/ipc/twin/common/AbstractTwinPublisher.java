@@ -63,6 +63,20 @@ public abstract class AbstractTwinPublisher implements TwinPublisher {
     private static final String SINK_UPDATE_SENT = "sinkUpdateSent";
     private static final String TWIN_RESPONSE_SENT = "twinResponseSent";
     private static final String TWIN_EMPTY_RESPONSE_SENT = "twinEmptyResponseSent";
+    private static final String SNAPSHOT_ENCODED = "snapshotEncoded";
+    private static final String SNAPSHOT_CACHE_HIT = "snapshotCacheHit";
+    private static final String SNAPSHOT_SIZE = "snapshotSize";
+    private static final String DELTA_SIZE = "deltaSize";
+
+    /**
+     * System property selecting the encoding of published twin objects, either {@link #ENCODING_JSON} or
+     * {@link #ENCODING_BINARY}. Binary encoded objects can only be decoded by subscribers of the same or a later
+     * version, so this must only be enabled when all Minions have been upgraded.
+     */
+    public static final String ENCODING_SYS_PROP = "org.opennms.core.ipc.twin.encoding";
+    public static final String ENCODING_JSON = "json";
+    public static final String ENCODING_BINARY = "binary";
+
     private final Map<SessionKey, TwinTracker> twinTrackerMap = new HashMap<>();
     protected final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -106,10 +120,19 @@ public abstract class AbstractTwinPublisher implements TwinPublisher {
             updateCounter(MetricRegistry.name(twinRequest.location, twinRequest.getKey(), TWIN_EMPTY_RESPONSE_SENT));
         } else {
             // Fill TwinUpdate fields from TwinTracker.
-            twinUpdate = new TwinUpdate(twinRequest.getKey(), twinRequest.getLocation(), twinTracker.getObj());
-            twinUpdate.setPatch(false);
-            twinUpdate.setVersion(twinTracker.getVersion());
-            twinUpdate.setSessionId(twinTracker.getSessionId());
+            synchronized (twinTracker) {
+                // Only answer with the binary snapshot if the subscriber is able to decode it
+                if (twinRequest.isAcceptsBinary() && isBinaryEncodingEnabled()) {
+                    twinUpdate = new TwinUpdate(twinRequest.getKey(), twinRequest.getLocation(),
+                            getBinarySnapshot(twinTracker, twinRequest.getLocation(), twinRequest.getKey()));
+                    twinUpdate.setBinary(true);
+                } else {
+                    twinUpdate = new TwinUpdate(twinRequest.getKey(), twinRequest.getLocation(), twinTracker.getObj());
+                }
+                twinUpdate.setPatch(false);
+                twinUpdate.setVersion(twinTracker.getVersion());
+                twinUpdate.setSessionId(twinTracker.getSessionId());
+            }
             // JMX Metrics
             updateCounter(MetricRegistry.name(twinRequest.location, twinRequest.getKey(), TWIN_RESPONSE_SENT));
         }
@@ -138,6 +161,7 @@ public abstract class AbstractTwinPublisher implements TwinPublisher {
             builder.setTwinObject(ByteString.copyFrom(twinUpdate.getObject()));
         }
         builder.setIsPatchObject(twinUpdate.isPatch());
+        builder.setIsBinaryObject(twinUpdate.isBinary());
         builder.setVersion(twinUpdate.getVersion());
         twinUpdate.getTracingInfo().forEach(builder::putTracingInfo);
         return builder.build();
@@ -151,6 +175,7 @@ public abstract class AbstractTwinPublisher implements TwinPublisher {
             if (!Strings.isNullOrEmpty(twinRequestProto.getLocation())) {
                 twinRequest.setLocation(twinRequestProto.getLocation());
             }
+            twinRequest.setAcceptsBinary(twinRequestProto.getAcceptsBinaryObject());
             twinRequestProto.getTracingInfoMap().forEach(twinRequest::addTracingInfo);
         } catch (InvalidProtocolBufferException e) {
             LOG.warn("Failed to parse protobuf for the request", e);
@@ -172,6 +197,35 @@ public abstract class AbstractTwinPublisher implements TwinPublisher {
         counter.inc();
     }
 
+    private static String metricName(String location, String key, String name) {
+        return location != null ? MetricRegistry.name(location, key, name) : MetricRegistry.name(key, name);
+    }
+
+    protected boolean isBinaryEncodingEnabled() {
+        return ENCODING_BINARY.equalsIgnoreCase(System.getProperty(ENCODING_SYS_PROP, ENCODING_JSON));
+    }
+
+    /**
+     * Returns the compressed snapshot of the current version of the tracked object. The snapshot is encoded once per
+     * version and shared by all subscribers requesting the object.
+     */
+    private byte[] getBinarySnapshot(TwinTracker twinTracker, String location, String key) {
+        synchronized (twinTracker) {
+            byte[] snapshot = twinTracker.getBinarySnapshot();
+            if (snapshot != null) {
+                // JMX Metrics
+                updateCounter(metricName(location, key, SNAPSHOT_CACHE_HIT));
+                return snapshot;
+            }
+            snapshot = BinaryTwinCodec.encodeSnapshot(twinTracker.getObj());
+            twinTracker.setBinarySnapshot(snapshot);
+            // JMX Metrics
+            updateCounter(metricName(location, key, SNAPSHOT_ENCODED));
+            metrics.histogram(metricName(location, key, SNAPSHOT_SIZE)).update(snapshot.length);
+            return snapshot;
+        }
+    }
+
     public static String generateTracingOperationKey(String location, String key) {
         return location != null ? key + "@" + location : key;
     }
@@ -180,18 +234,34 @@ public abstract class AbstractTwinPublisher implements TwinPublisher {
         TwinTracker twinTracker = getTwinTracker(sessionKey.key, sessionKey.location);
         if (twinTracker == null || !Arrays.equals(twinTracker.getObj(), updatedObj)) {
             TwinUpdate twinUpdate = new TwinUpdate(sessionKey.key, sessionKey.location, updatedObj);
+            final boolean binary = isBinaryEncodingEnabled();
+            byte[] patchValue = null;
             if (twinTracker == null) {
                 twinTracker = new TwinTracker(updatedObj);
             } else {
-                // Generate patch and update response with patch.
-                byte[] patchValue = getPatchValue(twinTracker.getObj(), updatedObj, sessionKey);
-                if (patchValue != null) {
-                    twinUpdate.setObject(patchValue);
-                    twinUpdate.setPatch(true);
+                // Generate patch once for all subscribers and update response with patch.
+                if (binary) {
+                    patchValue = BinaryTwinCodec.encodeDelta(twinTracker.getObj(), updatedObj);
+                    metrics.histogram(metricName(sessionKey.location, sessionKey.key, DELTA_SIZE)).update(patchValue.length);
+                } else {
+                    patchValue = getPatchValue(twinTracker.getObj(), updatedObj, sessionKey);
                 }
                 // Update Twin tracker with updated obj.
                 twinTracker.update(updatedObj);
             }
+            if (binary) {
+                // Fall back to the snapshot if the object changed so much that the delta doesn't pay off.
+                byte[] snapshot = getBinarySnapshot(twinTracker, sessionKey.location, sessionKey.key);
+                if (patchValue == null || patchValue.length >= snapshot.length) {
+                    patchValue = null;
+                    twinUpdate.setObject(snapshot);
+                }
+                twinUpdate.setBinary(true);
+            }
+            if (patchValue != null) {
+                twinUpdate.setObject(patchValue);
+                twinUpdate.setPatch(true);
+            }
             twinTrackerMap.put(sessionKey, twinTracker);
             twinUpdate.setVersion(twinTracker.getVersion());
             twinUpdate.setSessionId(twinTracker.getSessionId());
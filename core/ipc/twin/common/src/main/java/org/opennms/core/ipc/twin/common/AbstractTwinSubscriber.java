@@ -163,6 +163,7 @@ public abstract class AbstractTwinSubscriber implements TwinSubscriber {
                 twinUpdate.setObject(twinResponseProto.getTwinObject().toByteArray());
             }
             twinUpdate.setPatch(twinResponseProto.getIsPatchObject());
+            twinUpdate.setBinary(twinResponseProto.getIsBinaryObject());
             twinUpdate.setVersion(twinResponseProto.getVersion());
             twinResponseProto.getTracingInfoMap().forEach(twinUpdate::addTracingInfo);
             return twinUpdate;
@@ -176,7 +177,8 @@ public abstract class AbstractTwinSubscriber implements TwinSubscriber {
         TwinRequestProto.Builder builder = TwinRequestProto.newBuilder();
         builder.setConsumerKey(twinRequest.getKey())
                .setLocation(getIdentity().getLocation())
-               .setSystemId(getIdentity().getId());
+               .setSystemId(getIdentity().getId())
+               .setAcceptsBinaryObject(true);
         twinRequest.getTracingInfo().forEach(builder::putTracingInfo);
         return builder.build();
     }
@@ -208,12 +210,19 @@ public abstract class AbstractTwinSubscriber implements TwinSubscriber {
 
         public final JsonNode value;
 
+        /**
+         * The JSON the value was parsed from, only retained for binary updates as following deltas are applied to it.
+         */
+        public final byte[] json;
+
         private Value(final String sessionId,
                       final int version,
-                      final JsonNode value) {
+                      final JsonNode value,
+                      final byte[] json) {
             this.sessionId = Objects.requireNonNull(sessionId);
             this.version = version;
             this.value = Objects.requireNonNull(value);
+            this.json = json;
         }
     }
 
@@ -317,6 +326,20 @@ public abstract class AbstractTwinSubscriber implements TwinSubscriber {
             span.setTag(TracerConstants.TAG_SYSTEM_ID, getIdentity().getId());
         }
 
+        private Value snapshot(final TwinUpdate update) throws IOException {
+            if (update.isBinary()) {
+                final var json = BinaryTwinCodec.decodeSnapshot(update.getObject());
+                return new Value(update.getSessionId(),
+                                 update.getVersion(),
+                                 AbstractTwinSubscriber.this.objectMapper.readTree(json),
+                                 json);
+            }
+            return new Value(update.getSessionId(),
+                             update.getVersion(),
+                             AbstractTwinSubscriber.this.objectMapper.readTree(update.getObject()),
+                             null);
+        }
+
         public synchronized void update(final TwinUpdate update) throws IOException {
             // Cancel outstanding retry
             if (this.retry != null) {
@@ -328,9 +351,7 @@ public abstract class AbstractTwinSubscriber implements TwinSubscriber {
                 // Either there was no previous known value or the session has restarted
 
                 if (!update.isPatch()) {
-                    this.accept(new Value(update.getSessionId(),
-                                          update.getVersion(),
-                                          AbstractTwinSubscriber.this.objectMapper.readTree(update.getObject())));
+                    this.accept(this.snapshot(update));
                 } else {
                     // JMX Metrics
                     updateCounter(MetricRegistry.name(this.key, TWIN_UPDATE_DROPPED));
@@ -346,19 +367,29 @@ public abstract class AbstractTwinSubscriber implements TwinSubscriber {
                 }
 
                 if (!update.isPatch()) {
-                    this.accept(new Value(update.getSessionId(),
-                                          update.getVersion(),
-                                          AbstractTwinSubscriber.this.objectMapper.readTree(update.getObject())));
+                    this.accept(this.snapshot(update));
                 } else {
                     if (update.getVersion() == this.value.version + 1) {
                         // Version advanced - apply path
+                        if (update.isBinary()) {
+                            if (this.value.json == null) {
+                                throw new IOException("Unable to apply binary delta without binary snapshot");
+                            }
+                            final var json = BinaryTwinCodec.decodeDelta(this.value.json, update.getObject());
+                            this.accept(new Value(update.getSessionId(),
+                                                  update.getVersion(),
+                                                  AbstractTwinSubscriber.this.objectMapper.readTree(json),
+                                                  json));
+                            return;
+                        }
+
                         try {
                             final var patchObj = AbstractTwinSubscriber.this.objectMapper.readTree(update.getObject());
                             final var patch = JsonPatch.fromJson(patchObj);
 
                             final var value = patch.apply(this.value.value);
 
-                            this.accept(new Value(update.getSessionId(), update.getVersion(), value));
+                            this.accept(new Value(update.getSessionId(), update.getVersion(), value, null));
 
                         } catch (JsonPatchException e) {
                             throw new IOException("Unable to apply patch", e);
@@ -0,0 +1,226 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.twin.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary encoding of twin objects.
+ *
+ * Snapshots are the deflate compressed JSON of the twin object. Deltas describe the JSON of a version as a sequence
+ * of ranges copied from the JSON of the previous version and literal inserts and are deflate compressed as well.
+ * Computing a delta only compares bytes and is a lot cheaper than building and diffing the JSON trees.
+ */
+public final class BinaryTwinCodec {
+
+    /**
+     * Size of the blocks of the source that are indexed. Shorter matches are sent as inserts.
+     */
+    private static final int BLOCK_SIZE = 16;
+
+    private static final int HASH_MULTIPLIER = 31;
+
+    private static final byte OP_COPY = 0;
+    private static final byte OP_INSERT = 1;
+
+    private BinaryTwinCodec() {
+    }
+
+    public static byte[] encodeSnapshot(final byte[] json) {
+        return compress(json);
+    }
+
+    public static byte[] decodeSnapshot(final byte[] snapshot) throws IOException {
+        return decompress(snapshot);
+    }
+
+    public static byte[] encodeDelta(final byte[] source, final byte[] target) {
+        return compress(diff(source, target));
+    }
+
+    public static byte[] decodeDelta(final byte[] source, final byte[] delta) throws IOException {
+        return patch(source, decompress(delta));
+    }
+
+    static byte[] diff(final byte[] source, final byte[] target) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, target.length / 8));
+        writeVarInt(out, target.length);
+
+        if (source.length < BLOCK_SIZE || target.length < BLOCK_SIZE) {
+            writeInsert(out, target, 0, target.length);
+            return out.toByteArray();
+        }
+
+        // Index the blocks of the source by their hash, later blocks win on collisions
+        final int[] index = new int[Integer.highestOneBit(Math.max(1, source.length / BLOCK_SIZE)) << 2];
+        final int mask = index.length - 1;
+        for (int offset = 0; offset + BLOCK_SIZE <= source.length; offset += BLOCK_SIZE) {
+            index[spread(hash(source, offset)) & mask] = offset + 1;
+        }
+
+        int power = 1;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            power *= HASH_MULTIPLIER;
+        }
+
+        // Roll over the target and look for blocks matching the source
+        int pending = 0;
+        int position = 0;
+        int hash = hash(target, 0);
+        while (position + BLOCK_SIZE <= target.length) {
+            final int candidate = index[spread(hash) & mask] - 1;
+            if (candidate >= 0 && Arrays.equals(source, candidate, candidate + BLOCK_SIZE, target, position, position + BLOCK_SIZE)) {
+                // Extend the match in both directions
+                int start = position;
+                int offset = candidate;
+                while (start > pending && offset > 0 && source[offset - 1] == target[start - 1]) {
+                    start--;
+                    offset--;
+                }
+                int end = position + BLOCK_SIZE;
+                int sourceEnd = candidate + BLOCK_SIZE;
+                while (end < target.length && sourceEnd < source.length && source[sourceEnd] == target[end]) {
+                    end++;
+                    sourceEnd++;
+                }
+
+                writeInsert(out, target, pending, start);
+                out.write(OP_COPY);
+                writeVarInt(out, offset);
+                writeVarInt(out, end - start);
+
+                pending = end;
+                position = end;
+                if (position + BLOCK_SIZE <= target.length) {
+                    hash = hash(target, position);
+                }
+            } else {
+                if (position + BLOCK_SIZE < target.length) {
+                    hash = (hash - (target[position] & 0xff) * power) * HASH_MULTIPLIER + (target[position + BLOCK_SIZE] & 0xff);
+                }
+                position++;
+            }
+        }
+        writeInsert(out, target, pending, target.length);
+        return out.toByteArray();
+    }
+
+    static byte[] patch(final byte[] source, final byte[] delta) throws IOException {
+        final ByteArrayInputStream in = new ByteArrayInputStream(delta);
+        final byte[] target = new byte[readVarInt(in)];
+
+        int position = 0;
+        int op;
+        while ((op = in.read()) != -1) {
+            if (op == OP_COPY) {
+                final int offset = readVarInt(in);
+                final int length = readVarInt(in);
+                if (length > source.length - offset || length > target.length - position) {
+                    throw new IOException("Invalid twin delta: copy exceeds bounds");
+                }
+                System.arraycopy(source, offset, target, position, length);
+                position += length;
+            } else if (op == OP_INSERT) {
+                final int length = readVarInt(in);
+                if (length > target.length - position || in.readNBytes(target, position, length) != length) {
+                    throw new IOException("Invalid twin delta: insert exceeds bounds");
+                }
+                position += length;
+            } else {
+                throw new IOException("Invalid twin delta: unknown operation " + op);
+            }
+        }
+
+        if (position != target.length) {
+            throw new IOException("Invalid twin delta: expected " + target.length + " bytes but got " + position);
+        }
+        return target;
+    }
+
+    private static int hash(final byte[] bytes, final int offset) {
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = hash * HASH_MULTIPLIER + (bytes[i] & 0xff);
+        }
+        return hash;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static void writeInsert(final ByteArrayOutputStream out, final byte[] bytes, final int from, final int to) {
+        if (to > from) {
+            out.write(OP_INSERT);
+            writeVarInt(out, to - from);
+            out.write(bytes, from, to - from);
+        }
+    }
+
+    private static void writeVarInt(final ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7f) != 0) {
+            out.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(final ByteArrayInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int b = in.read();
+            if (b == -1) {
+                throw new IOException("Invalid twin delta: truncated");
+            }
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Invalid twin delta: negative length");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Invalid twin delta: malformed length");
+    }
+
+    private static byte[] compress(final byte[] bytes) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(bytes);
+        } catch (IOException e) {
+            // Can not happen when writing to memory
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(final byte[] bytes) throws IOException {
+        try (InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return inflater.readAllBytes();
+        }
+    }
+}
@@ -31,6 +31,8 @@ public class TwinRequest {
 
     protected String location;
 
+    private boolean acceptsBinary;
+
     private Map<String, String> tracingInfo = new HashMap<>();
 
     public TwinRequest(String key, String location) {
@@ -57,6 +59,14 @@ public class TwinRequest {
         this.location = location;
     }
 
+    public boolean isAcceptsBinary() {
+        return acceptsBinary;
+    }
+
+    public void setAcceptsBinary(boolean acceptsBinary) {
+        this.acceptsBinary = acceptsBinary;
+    }
+
     public Map<String, String> getTracingInfo() {
         return tracingInfo;
     }
@@ -37,6 +37,7 @@ public class TwinTracker {
 
     private final AtomicInteger version;
     private byte[] obj;
+    private byte[] binarySnapshot;
     private final String sessionId;
 
     public TwinTracker(byte[] obj) {
@@ -52,17 +53,29 @@ public class TwinTracker {
         return version.get();
     }
 
-    public byte[] getObj() {
+    public synchronized byte[] getObj() {
         return obj;
     }
 
+    /**
+     * @return the compressed snapshot of the current version or {@code null} if it was not encoded yet.
+     */
+    public synchronized byte[] getBinarySnapshot() {
+        return binarySnapshot;
+    }
+
+    public synchronized void setBinarySnapshot(byte[] binarySnapshot) {
+        this.binarySnapshot = binarySnapshot;
+    }
+
     public String getSessionId() {
         return sessionId;
     }
 
 
-    public int update(byte[] obj) {
+    public synchronized int update(byte[] obj) {
         this.obj = obj;
+        this.binarySnapshot = null;
         return version.incrementAndGet();
     }
 }
@@ -40,6 +40,8 @@ public class TwinUpdate {
 
     private boolean isPatch;
 
+    private boolean isBinary;
+
     private String sessionId;
 
     private Map<String, String> tracingInfo = new HashMap<>();
@@ -91,6 +93,14 @@ public class TwinUpdate {
         isPatch = patch;
     }
 
+    public boolean isBinary() {
+        return isBinary;
+    }
+
+    public void setBinary(boolean binary) {
+        isBinary = binary;
+    }
+
     public void setLocation(String location) {
         twinRequest.setLocation(location);
     }
@@ -120,7 +130,7 @@ public class TwinUpdate {
         if (this == o) return true;
         if (!(o instanceof TwinUpdate)) return false;
         TwinUpdate that = (TwinUpdate) o;
-        return version == that.version && isPatch == that.isPatch
+        return version == that.version && isPatch == that.isPatch && isBinary == that.isBinary
                 && Objects.equal(twinRequest, that.twinRequest)
                 && Objects.equal(object, that.object)
                 && Objects.equal(sessionId, that.sessionId);
@@ -128,7 +138,7 @@ public class TwinUpdate {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(twinRequest, object, version, isPatch, sessionId);
+        return Objects.hashCode(twinRequest, object, version, isPatch, isBinary, sessionId);
     }
 
     @Override
@@ -138,6 +148,7 @@ public class TwinUpdate {
                 .add("object=" + Arrays.toString(object))
                 .add("version=" + version)
                 .add("isPatch=" + isPatch)
+                .add("isBinary=" + isBinary)
                 .add("sessionId='" + sessionId + "'")
                 .toString();
     }
@@ -64,39 +64,33 @@ public final class TwinMessageProto {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\022twin-message.proto\"\273\001\n\020TwinRequestProt" +
+      "\n\022twin-message.proto\"\332\001\n\020TwinRequestProt" +
       "o\022\024\n\014consumer_key\030\001 \001(\t\022\021\n\tsystem_id\030\002 \001" +
       "(\t\022\020\n\010location\030\003 \001(\t\0228\n\014tracing_info\030\004 \003" +
-      "(\0132\".TwinRequestProto.TracingInfoEntry\0322" +
-      "\n\020TracingInfoEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value" +
-      "\030\002 \001(\t:\0028\001\"\220\002\n\021TwinResponseProto\022\024\n\014cons" +
-      "umer_key\030\001 \001(\t\022\023\n\013twin_object\030\002 \001(\014\022\021\n\ts" +
-      "ystem_id\030\003 \001(\t\022\020\n\010location\030\004 \001(\t\022\027\n\017is_p" +
-      "atch_object\030\005 \001(\010\022\022\n\nsession_id\030\006 \001(\t\022\017\n" +
-      "\007version\030\007 \001(\005\0229\n\014tracing_info\030\010 \003(\0132#.T" +
-      "winResponseProto.TracingInfoEntry\0322\n\020Tra" +
-      "cingInfoEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(" +
-      "\t:\0028\001B5\n\037org.opennms.core.ipc.twin.model" +
-      "B\020TwinMessageProtoP\001b\006proto3"
+      "(\0132\".TwinRequestProto.TracingInfoEntry\022\035" +
+      "\n\025accepts_binary_object\030\005 \001(\010\0322\n\020Tracing" +
+      "InfoEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028" +
+      "\001\"\252\002\n\021TwinResponseProto\022\024\n\014consumer_key\030" +
+      "\001 \001(\t\022\023\n\013twin_object\030\002 \001(\014\022\021\n\tsystem_id\030" +
+      "\003 \001(\t\022\020\n\010location\030\004 \001(\t\022\027\n\017is_patch_obje" +
+      "ct\030\005 \001(\010\022\022\n\nsession_id\030\006 \001(\t\022\017\n\007version\030" +
+      "\007 \001(\005\0229\n\014tracing_info\030\010 \003(\0132#.TwinRespon" +
+      "seProto.TracingInfoEntry\022\030\n\020is_binary_ob" +
+      "ject\030\t \001(\010\0322\n\020TracingInfoEntry\022\013\n\003key\030\001 " +
+      "\001(\t\022\r\n\005value\030\002 \001(\t:\0028\001B5\n\037org.opennms.co" +
+      "re.ipc.twin.modelB\020TwinMessageProtoP\001b\006p" +
+      "roto3"
     };
-    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
-          public com.google.protobuf.ExtensionRegistry assignDescriptors(
-              com.google.protobuf.Descriptors.FileDescriptor root) {
-            descriptor = root;
-            return null;
-          }
-        };
-    com.google.protobuf.Descriptors.FileDescriptor
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
-        }, assigner);
+        });
     internal_static_TwinRequestProto_descriptor =
       getDescriptor().getMessageTypes().get(0);
     internal_static_TwinRequestProto_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_TwinRequestProto_descriptor,
-        new java.lang.String[] { "ConsumerKey", "SystemId", "Location", "TracingInfo", });
+        new java.lang.String[] { "ConsumerKey", "SystemId", "Location", "TracingInfo", "AcceptsBinaryObject", });
     internal_static_TwinRequestProto_TracingInfoEntry_descriptor =
       internal_static_TwinRequestProto_descriptor.getNestedTypes().get(0);
     internal_static_TwinRequestProto_TracingInfoEntry_fieldAccessorTable = new
@@ -108,7 +102,7 @@ public final class TwinMessageProto {
     internal_static_TwinResponseProto_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_TwinResponseProto_descriptor,
-        new java.lang.String[] { "ConsumerKey", "TwinObject", "SystemId", "Location", "IsPatchObject", "SessionId", "Version", "TracingInfo", });
+        new java.lang.String[] { "ConsumerKey", "TwinObject", "SystemId", "Location", "IsPatchObject", "SessionId", "Version", "TracingInfo", "IsBinaryObject", });
     internal_static_TwinResponseProto_TracingInfoEntry_descriptor =
       internal_static_TwinResponseProto_descriptor.getNestedTypes().get(0);
     internal_static_TwinResponseProto_TracingInfoEntry_fieldAccessorTable = new
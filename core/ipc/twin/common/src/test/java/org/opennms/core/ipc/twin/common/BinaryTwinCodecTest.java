@@ -0,0 +1,98 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.core.ipc.twin.common;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BinaryTwinCodecTest {
+
+    private static byte[] json(final int entries, final int changed) {
+        final StringBuilder sb = new StringBuilder("{\"entries\":[");
+        for (int i = 0; i < entries; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i)
+              .append(",\"name\":\"entry-").append(i == changed ? "changed" : Integer.toString(i))
+              .append("\",\"enabled\":true}");
+        }
+        return sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void canRoundTripSnapshots() throws IOException {
+        final byte[] json = json(1000, -1);
+        final byte[] snapshot = BinaryTwinCodec.encodeSnapshot(json);
+
+        assertTrue(snapshot.length < json.length / 4);
+        assertArrayEquals(json, BinaryTwinCodec.decodeSnapshot(snapshot));
+    }
+
+    @Test
+    public void canRoundTripDeltas() throws IOException {
+        final byte[] source = json(1000, -1);
+
+        // Changed, appended, removed and entirely new content
+        final byte[][] targets = new byte[][] {
+                json(1000, 500),
+                json(1010, 0),
+                json(990, -1),
+                json(1, -1),
+                "{}".getBytes(StandardCharsets.UTF_8),
+                new byte[0],
+        };
+        for (final byte[] target : targets) {
+            final byte[] delta = BinaryTwinCodec.encodeDelta(source, target);
+            assertArrayEquals(target, BinaryTwinCodec.decodeDelta(source, delta));
+        }
+
+        // Random bytes don't share any blocks with the source
+        final byte[] random = new byte[4096];
+        new Random(42).nextBytes(random);
+        assertArrayEquals(random, BinaryTwinCodec.decodeDelta(source, BinaryTwinCodec.encodeDelta(source, random)));
+        assertArrayEquals(source, BinaryTwinCodec.decodeDelta(random, BinaryTwinCodec.encodeDelta(random, source)));
+    }
+
+    @Test
+    public void deltaIsSmallerThanSnapshot() {
+        final byte[] source = json(10000, -1);
+        final byte[] target = json(10000, 5000);
+
+        final byte[] delta = BinaryTwinCodec.encodeDelta(source, target);
+        final byte[] snapshot = BinaryTwinCodec.encodeSnapshot(target);
+
+        assertTrue(delta.length * 10 < snapshot.length);
+    }
+
+    @Test(expected = IOException.class)
+    public void failsOnDeltaForOtherSource() throws IOException {
+        final byte[] delta = BinaryTwinCodec.encodeDelta(json(1000, -1), json(1000, 10));
+        BinaryTwinCodec.decodeDelta(json(10, -1), delta);
+    }
+}
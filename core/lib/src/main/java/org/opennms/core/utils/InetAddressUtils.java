@@ -219,6 +219,48 @@ public abstract class InetAddressUtils {
         return new IPAddress(dottedNotation).toOctets();
     }
 
+    /**
+     * Parses an IPv4 address in dotted-quad notation without allocating any objects.
+     * Leading and trailing whitespace is ignored.
+     *
+     * @param dottedNotation a {@link java.lang.String} object.
+     * @return the address in network byte order, i.e. <code>0x0a000001</code> for <code>10.0.0.1</code>,
+     * or -1 if the string is not an IPv4 address
+     */
+    public static long toIpv4Long(final String dottedNotation) {
+        int start = 0;
+        int end = dottedNotation.length();
+        while (start < end && Character.isWhitespace(dottedNotation.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(dottedNotation.charAt(end - 1))) {
+            end--;
+        }
+
+        long address = 0;
+        int octet = -1;
+        int dots = 0;
+        for (int i = start; i < end; i++) {
+            final char c = dottedNotation.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && octet >= 0 && dots < 3) {
+                address = (address << 8) | octet;
+                octet = -1;
+                dots++;
+            } else {
+                return -1;
+            }
+        }
+        if (dots != 3 || octet < 0) {
+            return -1;
+        }
+        return (address << 8) | octet;
+    }
+
     /**
      * <p>toIpAddrString</p>
      *
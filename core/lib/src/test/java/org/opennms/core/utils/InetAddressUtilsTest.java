@@ -70,6 +70,17 @@ public class InetAddressUtilsTest {
         }
     }
     
+    @Test
+    public void testToIpv4Long() throws Exception {
+        assertEquals(0x0a000001L, InetAddressUtils.toIpv4Long("10.0.0.1"));
+        assertEquals(0xffffffffL, InetAddressUtils.toIpv4Long("255.255.255.255"));
+        assertEquals(0L, InetAddressUtils.toIpv4Long(" 0.0.0.0\t"));
+        assertEquals(0xc0a80164L, InetAddressUtils.toIpv4Long("192.168.1.100"));
+        for (final String invalid : new String[] { "", "10.0.0", "10.0.0.1.2", "10.0.0.256", "10..0.1", "10.0.0.", ".10.0.0", "::1", "fe80::1", "10.0.0.1a", "1 0.0.0.1" }) {
+            assertEquals(invalid, -1L, InetAddressUtils.toIpv4Long(invalid));
+        }
+    }
+
     @Test
     public void testNMS4972() throws Exception {
         String ip1 = "1.1.1.1";
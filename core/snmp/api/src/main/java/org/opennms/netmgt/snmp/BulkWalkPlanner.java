@@ -0,0 +1,394 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plans the size of the bulk requests used to walk an agent.
+ *
+ * <p>All trackers that are due for an agent are walked as a single {@link AggregateTracker}. The planner decides how
+ * many variable bindings the agent is asked to return per response and splits this budget into max-vars-per-pdu and
+ * max-repetitions for the columns being walked. The budget grows slowly while the agent keeps answering and is
+ * halved whenever the agent answers with tooBig, so that large tables on big chassis are walked in as few round trips
+ * as the agent can handle. A walk that times out after the agent already answered part of it also halves the budget,
+ * but never below the configured max-repetitions.</p>
+ *
+ * <p>The learned limits are kept per agent address and port and are persisted in a properties file, so that they
+ * survive restarts. Reductions caused by timeouts are not persisted, as they may be caused by a temporary outage.
+ * Changes are written by a background thread at most once every {@value #STORE_DELAY_MS} milliseconds, so that walks
+ * never wait for the file system.</p>
+ */
+public class BulkWalkPlanner {
+    private static final Logger LOG = LoggerFactory.getLogger(BulkWalkPlanner.class);
+
+    public static final String ENABLED_PROPERTY = "org.opennms.snmp.bulkWalkPlanner.enabled";
+    public static final String STATE_FILE_PROPERTY = "org.opennms.snmp.bulkWalkPlanner.stateFile";
+    public static final String MAX_VAR_BINDS_PROPERTY = "org.opennms.snmp.bulkWalkPlanner.maxVarBindsPerResponse";
+
+    public static final int DEFAULT_MAX_VAR_BINDS_PER_RESPONSE = 500;
+
+    /**
+     * Conservative estimate of the encoded size of a single variable binding in a response, used to derive an upper
+     * bound for the number of variable bindings from the max-request-size of the agent.
+     */
+    static final int ESTIMATED_VAR_BIND_SIZE = 64;
+
+    /**
+     * Number of consecutive successful walks before the budget of an agent is raised.
+     */
+    static final int SUCCESSES_BEFORE_GROWTH = 3;
+
+    /**
+     * Delay after the first change before the learned limits are written, further changes in this period are
+     * written together.
+     */
+    static final long STORE_DELAY_MS = 10000;
+
+    private static final ScheduledExecutorService s_storeExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread thread = new Thread(r, "BulkWalkPlanner-Store");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static BulkWalkPlanner s_instance;
+
+    private final ConcurrentMap<SnmpAgentAddress, Limits> m_limits = new ConcurrentHashMap<>();
+    private final Path m_stateFile;
+    private final int m_maxVarBindsPerResponse;
+    private final long m_storeDelayMs;
+    private final AtomicBoolean m_storePending = new AtomicBoolean();
+
+    public BulkWalkPlanner(final Path stateFile, final int maxVarBindsPerResponse) {
+        this(stateFile, maxVarBindsPerResponse, STORE_DELAY_MS);
+    }
+
+    BulkWalkPlanner(final Path stateFile, final int maxVarBindsPerResponse, final long storeDelayMs) {
+        m_stateFile = stateFile;
+        m_maxVarBindsPerResponse = maxVarBindsPerResponse;
+        m_storeDelayMs = storeDelayMs;
+        load();
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Returns the planner shared by all walks in this JVM. The learned limits are stored in the file given by
+     * {@value #STATE_FILE_PROPERTY} or in the Karaf data directory, if the property is not set.
+     */
+    public static synchronized BulkWalkPlanner getInstance() {
+        if (s_instance == null) {
+            Path stateFile = null;
+            if (System.getProperty(STATE_FILE_PROPERTY) != null) {
+                stateFile = Paths.get(System.getProperty(STATE_FILE_PROPERTY));
+            } else if (System.getProperty("karaf.data") != null) {
+                stateFile = Paths.get(System.getProperty("karaf.data"), "snmp-agent-limits.properties");
+            }
+            s_instance = new BulkWalkPlanner(stateFile, Integer.getInteger(MAX_VAR_BINDS_PROPERTY, DEFAULT_MAX_VAR_BINDS_PER_RESPONSE));
+            // write the changes that are still pending when the JVM goes down
+            Runtime.getRuntime().addShutdownHook(new Thread(s_instance::flush, "BulkWalkPlanner-Shutdown"));
+        }
+        return s_instance;
+    }
+
+    /**
+     * Plans the walk of the given number of columns.
+     *
+     * @param agentConfig the configuration of the agent, the configured max-vars-per-pdu and max-repetitions are
+     *                    used as long as nothing was learned about the agent
+     * @param columns the number of columns (repeaters) being walked
+     */
+    public Plan plan(final SnmpAgentConfig agentConfig, final int columns) {
+        final SnmpAgentAddress agent = new SnmpAgentAddress(agentConfig.getAddress(), agentConfig.getPort());
+        final int configuredVars = Math.max(1, agentConfig.getMaxVarsPerPdu());
+        final int configuredRepetitions = Math.max(1, agentConfig.getMaxRepetitions());
+        final int configuredVarBinds = configuredVars * configuredRepetitions;
+
+        final Limits limits = m_limits.get(agent);
+        final int maxVarsPerPdu = Math.min(configuredVars, limits != null ? limits.maxVarsPerPdu : configuredVars);
+
+        if (agentConfig.getVersion() == SnmpAgentConfig.VERSION1) {
+            // GETNEXT only, there is nothing to repeat
+            return new Plan(agent, maxVarsPerPdu, 1, maxVarsPerPdu, maxVarsPerPdu, maxVarsPerPdu);
+        }
+
+        // never plan below the configured request size unless the agent told us to do so
+        final int ceiling = Math.max(configuredVarBinds,
+                Math.min(m_maxVarBindsPerResponse, agentConfig.getMaxRequestSize() / ESTIMATED_VAR_BIND_SIZE));
+        final int varBinds = Math.min(ceiling, limits != null ? limits.varBindsPerResponse : configuredVarBinds);
+
+        final int repeaters = Math.max(1, Math.min(maxVarsPerPdu, columns));
+        final int maxRepetitions = Math.max(1, varBinds / repeaters);
+        final int floor = Math.min(varBinds, repeaters * configuredRepetitions);
+
+        return new Plan(agent, maxVarsPerPdu, maxRepetitions, varBinds, ceiling, floor);
+    }
+
+    /**
+     * Called when the agent answered a request of the plan with tooBig.
+     */
+    public void tooBig(final Plan plan) {
+        update(plan, limits -> {
+            final int varBinds = Math.max(1, plan.getVarBindsPerResponse() / 2);
+            if (plan.getMaxRepetitions() > 1) {
+                return new Limits(limits.maxVarsPerPdu, varBinds, varBinds, 0);
+            } else {
+                return new Limits(Math.max(1, plan.getMaxVarsPerPdu() / 2), varBinds, varBinds, 0);
+            }
+        });
+    }
+
+    /**
+     * Called when the agent did not answer a request of the plan. Some agents silently drop responses that do not
+     * fit, so the budget is reduced if the agent answered earlier requests of the same walk. An agent that did not
+     * answer at all is most likely down, which says nothing about the size of the responses it can handle.
+     *
+     * @param answered whether the agent answered any request of the walk before the timeout
+     */
+    public void timedOut(final Plan plan, final boolean answered) {
+        if (!answered || plan.getMaxRepetitions() <= 1) {
+            return;
+        }
+        final int varBinds = Math.max(plan.getFloor(), plan.getVarBindsPerResponse() / 2);
+        if (varBinds >= plan.getVarBindsPerResponse()) {
+            return;
+        }
+        update(plan, limits -> new Limits(limits.maxVarsPerPdu, varBinds, limits.storedVarBindsPerResponse, 0));
+    }
+
+    /**
+     * Called when the walk completed without errors.
+     */
+    public void succeeded(final Plan plan) {
+        update(plan, limits -> {
+            if (plan.getVarBindsPerResponse() >= plan.getCeiling()) {
+                return limits.successes == 0 ? limits : new Limits(limits.maxVarsPerPdu, limits.varBindsPerResponse, limits.storedVarBindsPerResponse, 0);
+            }
+            if (limits.successes + 1 < SUCCESSES_BEFORE_GROWTH) {
+                return new Limits(limits.maxVarsPerPdu, limits.varBindsPerResponse, limits.storedVarBindsPerResponse, limits.successes + 1);
+            }
+            final int grown = Math.min(plan.getCeiling(), plan.getVarBindsPerResponse() + Math.max(1, plan.getVarBindsPerResponse() / 4));
+            return new Limits(limits.maxVarsPerPdu, grown, Math.max(grown, limits.storedVarBindsPerResponse), 0);
+        });
+    }
+
+    private void update(final Plan plan, final UnaryOperator<Limits> updater) {
+        final Limits initial = new Limits(plan.getMaxVarsPerPdu(), plan.getVarBindsPerResponse(), plan.getVarBindsPerResponse(), 0);
+        final Limits[] change = new Limits[2];
+        m_limits.compute(plan.getAgent(), (agent, current) -> {
+            final Limits previous = current != null ? current : initial;
+            final Limits next = updater.apply(previous);
+            change[0] = previous;
+            change[1] = next;
+            return next;
+        });
+
+        if (!change[0].sameLimits(change[1])) {
+            LOG.debug("Limits for {} changed from {} to {}", plan.getAgent(), change[0], change[1]);
+        }
+        if (!change[0].sameStoredLimits(change[1])) {
+            scheduleStore();
+        }
+    }
+
+    private void scheduleStore() {
+        if (m_stateFile != null && m_storePending.compareAndSet(false, true)) {
+            s_storeExecutor.schedule(this::flush, m_storeDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the learned limits now, if they changed since they were last written.
+     */
+    void flush() {
+        // clear the flag before taking the snapshot, so that changes made while writing schedule another write
+        if (m_storePending.getAndSet(false)) {
+            store();
+        }
+    }
+
+    Limits getLimits(final InetAddress address, final int port) {
+        return m_limits.get(new SnmpAgentAddress(address, port));
+    }
+
+    private void load() {
+        if (m_stateFile == null || !Files.exists(m_stateFile)) {
+            return;
+        }
+        final Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(m_stateFile)) {
+            properties.load(in);
+        } catch (final IOException e) {
+            LOG.warn("Failed to load the learned SNMP agent limits from {}", m_stateFile, e);
+            return;
+        }
+        for (final String key : properties.stringPropertyNames()) {
+            try {
+                final int separator = key.lastIndexOf(':');
+                final SnmpAgentAddress agent = new SnmpAgentAddress(InetAddrUtils.addr(key.substring(0, separator)),
+                        Integer.parseInt(key.substring(separator + 1)));
+                final String[] values = properties.getProperty(key).split(",");
+                final int varBinds = Integer.parseInt(values[1].trim());
+                m_limits.put(agent, new Limits(Integer.parseInt(values[0].trim()), varBinds, varBinds, 0));
+            } catch (final RuntimeException e) {
+                LOG.warn("Ignoring invalid SNMP agent limits entry {}={}", key, properties.getProperty(key));
+            }
+        }
+        LOG.info("Loaded learned limits for {} SNMP agents from {}", m_limits.size(), m_stateFile);
+    }
+
+    private synchronized void store() {
+        if (m_stateFile == null) {
+            return;
+        }
+        final Properties properties = new Properties();
+        for (final Map.Entry<SnmpAgentAddress, Limits> entry : m_limits.entrySet()) {
+            properties.setProperty(entry.getKey().toString(), entry.getValue().maxVarsPerPdu + "," + entry.getValue().storedVarBindsPerResponse);
+        }
+        try {
+            final Path tmp = m_stateFile.resolveSibling(m_stateFile.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, "Learned SNMP agent limits: <max-vars-per-pdu>,<var-binds-per-response>");
+            }
+            Files.move(tmp, m_stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            LOG.warn("Failed to store the learned SNMP agent limits in {}", m_stateFile, e);
+        }
+    }
+
+    static final class Limits {
+        final int maxVarsPerPdu;
+        final int varBindsPerResponse;
+        /**
+         * The budget without the reductions caused by timeouts, which is persisted.
+         */
+        final int storedVarBindsPerResponse;
+        final int successes;
+
+        Limits(final int maxVarsPerPdu, final int varBindsPerResponse, final int storedVarBindsPerResponse, final int successes) {
+            this.maxVarsPerPdu = maxVarsPerPdu;
+            this.varBindsPerResponse = varBindsPerResponse;
+            this.storedVarBindsPerResponse = storedVarBindsPerResponse;
+            this.successes = successes;
+        }
+
+        boolean sameLimits(final Limits other) {
+            return maxVarsPerPdu == other.maxVarsPerPdu && varBindsPerResponse == other.varBindsPerResponse;
+        }
+
+        boolean sameStoredLimits(final Limits other) {
+            return maxVarsPerPdu == other.maxVarsPerPdu && storedVarBindsPerResponse == other.storedVarBindsPerResponse;
+        }
+
+        @Override
+        public String toString() {
+            return "Limits[maxVarsPerPdu=" + maxVarsPerPdu + ", varBindsPerResponse=" + varBindsPerResponse
+                    + ", storedVarBindsPerResponse=" + storedVarBindsPerResponse + "]";
+        }
+    }
+
+    /**
+     * The request sizes planned for a single walk of an agent.
+     */
+    public static final class Plan {
+        private final SnmpAgentAddress m_agent;
+        private final int m_maxVarsPerPdu;
+        private final int m_maxRepetitions;
+        private final int m_varBindsPerResponse;
+        private final int m_ceiling;
+        private final int m_floor;
+
+        private Plan(final SnmpAgentAddress agent, final int maxVarsPerPdu, final int maxRepetitions, final int varBindsPerResponse, final int ceiling, final int floor) {
+            m_agent = Objects.requireNonNull(agent);
+            m_maxVarsPerPdu = maxVarsPerPdu;
+            m_maxRepetitions = maxRepetitions;
+            m_varBindsPerResponse = varBindsPerResponse;
+            m_ceiling = ceiling;
+            m_floor = floor;
+        }
+
+        public SnmpAgentAddress getAgent() {
+            return m_agent;
+        }
+
+        public int getMaxVarsPerPdu() {
+            return m_maxVarsPerPdu;
+        }
+
+        public int getMaxRepetitions() {
+            return m_maxRepetitions;
+        }
+
+        public int getVarBindsPerResponse() {
+            return m_varBindsPerResponse;
+        }
+
+        int getCeiling() {
+            return m_ceiling;
+        }
+
+        /**
+         * The budget below which timeouts do not reduce the plan, based on the configured max-repetitions.
+         */
+        int getFloor() {
+            return m_floor;
+        }
+
+        /**
+         * Returns a copy of the given agent configuration using the planned request sizes.
+         */
+        public SnmpAgentConfig apply(final SnmpAgentConfig agentConfig) {
+            final SnmpAgentConfig planned = SnmpAgentConfig.fromMap(agentConfig.toMap());
+            planned.setMaxVarsPerPdu(m_maxVarsPerPdu);
+            planned.setMaxRepetitions(m_maxRepetitions);
+            return planned;
+        }
+
+        @Override
+        public String toString() {
+            return "Plan[agent=" + m_agent + ", maxVarsPerPdu=" + m_maxVarsPerPdu + ", maxRepetitions=" + m_maxRepetitions
+                    + ", varBindsPerResponse=" + m_varBindsPerResponse + "]";
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BulkWalkPlannerTest {
+
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+
+    private static SnmpAgentConfig agent(final int version) {
+        final SnmpAgentConfig config = new SnmpAgentConfig(InetAddress.getLoopbackAddress());
+        config.setVersion(version);
+        config.setMaxVarsPerPdu(10);
+        config.setMaxRepetitions(2);
+        config.setMaxRequestSize(65535);
+        return config;
+    }
+
+    @Test
+    public void testConfiguredSizesAreUsedInitially() {
+        final BulkWalkPlanner planner = new BulkWalkPlanner(null, 500);
+
+        BulkWalkPlanner.Plan plan = planner.plan(agent(SnmpAgentConfig.VERSION2C), 20);
+        assertEquals(10, plan.getMaxVarsPerPdu());
+        assertEquals(2, plan.getMaxRepetitions());
+        assertEquals(20, plan.getVarBindsPerResponse());
+
+        // fewer columns than vars per PDU get more repetitions for the same response size
+        plan = planner.plan(agent(SnmpAgentConfig.VERSION2C), 4);
+        assertEquals(5, plan.getMaxRepetitions());
+
+        plan = planner.plan(agent(SnmpAgentConfig.VERSION1), 4);
+        assertEquals(10, plan.getMaxVarsPerPdu());
+        assertEquals(1, plan.getMaxRepetitions());
+
+        final SnmpAgentConfig planned = plan.apply(agent(SnmpAgentConfig.VERSION1));
+        assertEquals(10, planned.getMaxVarsPerPdu());
+        assertEquals(1, planned.getMaxRepetitions());
+    }
+
+    @Test
+    public void testBudgetGrowsUpToCeiling() {
+        final BulkWalkPlanner planner = new BulkWalkPlanner(null, 100);
+        final SnmpAgentConfig agent = agent(SnmpAgentConfig.VERSION2C);
+
+        int previous = 20;
+        for (int i = 0; i < 100; i++) {
+            final BulkWalkPlanner.Plan plan = planner.plan(agent, 10);
+            assertEquals(plan.getVarBindsPerResponse() / 10, plan.getMaxRepetitions());
+            if (i > 0 && i % BulkWalkPlanner.SUCCESSES_BEFORE_GROWTH == 0 && previous < 100) {
+                assertEquals(Math.min(100, previous + previous / 4), plan.getVarBindsPerResponse());
+            }
+            previous = plan.getVarBindsPerResponse();
+            planner.succeeded(plan);
+        }
+        assertEquals(100, planner.plan(agent, 10).getVarBindsPerResponse());
+        assertEquals(10, planner.plan(agent, 10).getMaxRepetitions());
+
+        // the ceiling is derived from the max request size of the agent
+        agent.setMaxRequestSize(64 * 40);
+        assertEquals(40, planner.plan(agent, 10).getVarBindsPerResponse());
+    }
+
+    @Test
+    public void testTooBigAndTimeoutShrinkTheBudget() {
+        final BulkWalkPlanner planner = new BulkWalkPlanner(null, 500);
+        final SnmpAgentConfig agent = agent(SnmpAgentConfig.VERSION2C);
+
+        planner.tooBig(planner.plan(agent, 10));
+        BulkWalkPlanner.Plan plan = planner.plan(agent, 10);
+        assertEquals(10, plan.getMaxVarsPerPdu());
+        assertEquals(10, plan.getVarBindsPerResponse());
+        assertEquals(1, plan.getMaxRepetitions());
+
+        // a single repetition is already too big, reduce the number of vars
+        planner.tooBig(plan);
+        plan = planner.plan(agent, 10);
+        assertEquals(5, plan.getMaxVarsPerPdu());
+        assertEquals(1, plan.getMaxRepetitions());
+
+        // timeouts with a single repetition do not affect the limits
+        planner.timedOut(plan, true);
+        assertEquals(5, planner.plan(agent, 10).getMaxVarsPerPdu());
+        assertEquals(5, planner.plan(agent, 10).getVarBindsPerResponse());
+
+        final SnmpAgentConfig other = agent(SnmpAgentConfig.VERSION2C);
+        other.setPort(1161);
+        planner.timedOut(planner.plan(other, 2), true);
+        assertEquals(10, planner.plan(other, 2).getVarBindsPerResponse());
+        assertEquals(5, planner.plan(other, 2).getMaxRepetitions());
+    }
+
+    @Test
+    public void testTimeoutsOnlyShrinkTheBudgetOfAnsweringAgents() throws Exception {
+        final Path stateFile = m_folder.getRoot().toPath().resolve("limits.properties");
+        final BulkWalkPlanner planner = new BulkWalkPlanner(stateFile, 500);
+        final SnmpAgentConfig agent = agent(SnmpAgentConfig.VERSION2C);
+        agent.setMaxRepetitions(5);
+
+        // an agent that did not answer at all is down and keeps its budget
+        planner.timedOut(planner.plan(agent, 2), false);
+        assertEquals(50, planner.plan(agent, 2).getVarBindsPerResponse());
+
+        // timeouts never shrink the budget below the configured max-repetitions
+        planner.timedOut(planner.plan(agent, 2), true);
+        assertEquals(25, planner.plan(agent, 2).getVarBindsPerResponse());
+        planner.timedOut(planner.plan(agent, 2), true);
+        assertEquals(12, planner.plan(agent, 2).getVarBindsPerResponse());
+        planner.timedOut(planner.plan(agent, 2), true);
+        assertEquals(10, planner.plan(agent, 2).getVarBindsPerResponse());
+        assertEquals(5, planner.plan(agent, 2).getMaxRepetitions());
+        planner.timedOut(planner.plan(agent, 2), true);
+        assertEquals(10, planner.plan(agent, 2).getVarBindsPerResponse());
+
+        // the reductions are not persisted
+        planner.flush();
+        final BulkWalkPlanner restarted = new BulkWalkPlanner(stateFile, 500);
+        assertNull(restarted.getLimits(InetAddress.getLoopbackAddress(), 161));
+        assertEquals(50, restarted.plan(agent, 2).getVarBindsPerResponse());
+    }
+
+    @Test
+    public void testLimitsArePersisted() throws Exception {
+        final Path stateFile = m_folder.getRoot().toPath().resolve("limits.properties");
+        final SnmpAgentConfig agent = agent(SnmpAgentConfig.VERSION2C);
+
+        final BulkWalkPlanner planner = new BulkWalkPlanner(stateFile, 500);
+        planner.tooBig(planner.plan(agent, 10));
+        planner.tooBig(planner.plan(agent, 10));
+        planner.flush();
+
+        final BulkWalkPlanner restarted = new BulkWalkPlanner(stateFile, 500);
+        final BulkWalkPlanner.Limits limits = restarted.getLimits(InetAddress.getLoopbackAddress(), 161);
+        assertNotNull(limits);
+        assertEquals(5, limits.maxVarsPerPdu);
+        assertEquals(5, limits.varBindsPerResponse);
+        assertEquals(5, restarted.plan(agent, 10).getMaxVarsPerPdu());
+        assertNull(restarted.getLimits(InetAddress.getLoopbackAddress(), 1161));
+    }
+
+    @Test
+    public void testLimitsAreStoredInTheBackground() throws Exception {
+        final Path stateFile = m_folder.getRoot().toPath().resolve("limits.properties");
+        final SnmpAgentConfig agent = agent(SnmpAgentConfig.VERSION2C);
+
+        final BulkWalkPlanner planner = new BulkWalkPlanner(stateFile, 500, 200);
+        planner.tooBig(planner.plan(agent, 10));
+        planner.tooBig(planner.plan(agent, 10));
+        // the walk does not wait for the file to be written
+        assertFalse(Files.exists(stateFile));
+
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (!Files.exists(stateFile) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        final BulkWalkPlanner restarted = new BulkWalkPlanner(stateFile, 500);
+        final BulkWalkPlanner.Limits limits = restarted.getLimits(InetAddress.getLoopbackAddress(), 161);
+        assertNotNull(limits);
+        assertEquals(5, limits.varBindsPerResponse);
+    }
+}
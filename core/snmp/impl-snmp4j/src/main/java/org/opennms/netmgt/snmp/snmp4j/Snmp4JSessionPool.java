@@ -0,0 +1,256 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.snmp4j.MessageDispatcherImpl;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.Target;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.event.ResponseListener;
+import org.snmp4j.mp.MPv1;
+import org.snmp4j.mp.MPv2c;
+import org.snmp4j.smi.Address;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+import org.snmp4j.util.MultiThreadedMessageDispatcher;
+import org.snmp4j.util.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A small, fixed set of long-lived SNMP sessions that is shared by all SNMPv1 and SNMPv2c requests.
+ * <p>
+ * Each session owns one UDP transport (one socket and one listener thread) and a timer thread for retries and
+ * timeouts. Responses are matched to their
+ * requests by SNMP4J using the request ID, so any number of requests to any number of agents can be in flight on
+ * a single session. Responses are processed by a shared pool of worker threads instead of the listener threads.
+ * <p>
+ * The number of requests in flight per agent can be limited. Requests above the limit are queued and sent as soon as
+ * a previous request to the same agent completed or timed out.
+ * <p>
+ * SNMPv3 requests are not handled by the pool because the USM users are configured per agent.
+ * <p>
+ * The statistics of the pool are exposed via JMX under {@link #OBJECT_NAME}.
+ */
+public class Snmp4JSessionPool implements Snmp4JSessionPoolMBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Snmp4JSessionPool.class);
+
+    public static final String OBJECT_NAME = "OpenNMS:Name=Snmp4JSessionPool";
+
+    private final List<Snmp> m_sessions;
+    private final ThreadPool m_workers;
+    private final int m_workerThreads;
+    private final int m_maxInFlightPerAgent;
+
+    private final AtomicInteger m_next = new AtomicInteger();
+    private final ConcurrentHashMap<Address, AgentState> m_agents = new ConcurrentHashMap<>();
+
+    private final AtomicLong m_inFlight = new AtomicLong();
+    private final AtomicLong m_queued = new AtomicLong();
+    private final LongAdder m_requests = new LongAdder();
+    private final LongAdder m_timeouts = new LongAdder();
+    private final LongAdder m_latencyNanos = new LongAdder();
+    private final LongAccumulator m_maxLatencyNanos = new LongAccumulator(Long::max, 0);
+
+    private static class AgentState {
+        private int inFlight;
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+    }
+
+    public Snmp4JSessionPool(final int sessions, final int workerThreads, final int maxInFlightPerAgent) throws IOException {
+        if (sessions < 1) {
+            throw new IllegalArgumentException("At least one session is required");
+        }
+        m_maxInFlightPerAgent = maxInFlightPerAgent;
+        m_workerThreads = Math.max(1, workerThreads);
+        m_workers = ThreadPool.create("SNMP4J-Shared-Session-Worker", m_workerThreads);
+
+        final List<Snmp> snmps = new ArrayList<>(sessions);
+        try {
+            for (int i = 0; i < sessions; i++) {
+                final MultiThreadedMessageDispatcher dispatcher = new MultiThreadedMessageDispatcher(m_workers, new MessageDispatcherImpl());
+                dispatcher.addMessageProcessingModel(new MPv1());
+                dispatcher.addMessageProcessingModel(new MPv2c());
+                final Snmp snmp = new Snmp(dispatcher, new DefaultUdpTransportMapping());
+                Snmp4JStrategy.trackSession(snmp);
+                snmps.add(snmp);
+                snmp.listen();
+            }
+        } catch (final IOException e) {
+            snmps.forEach(Snmp4JStrategy::closeQuietly);
+            m_workers.stop();
+            throw e;
+        }
+        m_sessions = Collections.unmodifiableList(snmps);
+
+        LOG.info("Created {} shared SNMP sessions with {} worker threads and at most {} requests in flight per agent",
+                sessions, m_workerThreads, maxInFlightPerAgent > 0 ? maxInFlightPerAgent : "unlimited");
+    }
+
+    /**
+     * Sends a request. The listener is always called, either with the response, with a timeout (no response) or
+     * with the error that prevented sending the request.
+     * <p>
+     * The listener must not cancel the request on the session - this is done by the pool.
+     */
+    public void send(final PDU pdu, final Target target, final ResponseListener listener) {
+        final Address address = target.getAddress();
+        final Snmp session = m_sessions.get(Math.floorMod(m_next.getAndIncrement(), m_sessions.size()));
+
+        final Runnable task = () -> {
+            m_inFlight.incrementAndGet();
+            final long start = System.nanoTime();
+            final ResponseListener wrapper = new ResponseListener() {
+                @Override
+                public void onResponse(final ResponseEvent event) {
+                    // Must be cancelled, otherwise SNMP4J keeps the request around
+                    session.cancel(event.getRequest(), this);
+                    if (event.getResponse() == null && event.getError() == null) {
+                        m_timeouts.increment();
+                    }
+                    completed(address, start);
+                    listener.onResponse(event);
+                }
+            };
+            try {
+                session.send(pdu, target, null, wrapper);
+            } catch (final IOException | RuntimeException e) {
+                LOG.debug("Failed to send PDU to {}", address, e);
+                completed(address, start);
+                listener.onResponse(new ResponseEvent(this, address, pdu, null, null, e));
+            }
+        };
+
+        final boolean[] sendNow = { false };
+        m_agents.compute(address, (a, state) -> {
+            if (state == null) {
+                state = new AgentState();
+            }
+            if (m_maxInFlightPerAgent <= 0 || state.inFlight < m_maxInFlightPerAgent) {
+                state.inFlight++;
+                sendNow[0] = true;
+            } else {
+                state.pending.add(task);
+                m_queued.incrementAndGet();
+            }
+            return state;
+        });
+        if (sendNow[0]) {
+            task.run();
+        }
+    }
+
+    private void completed(final Address address, final long start) {
+        final long latency = System.nanoTime() - start;
+        m_requests.increment();
+        m_latencyNanos.add(latency);
+        m_maxLatencyNanos.accumulate(latency);
+        m_inFlight.decrementAndGet();
+
+        // Hand the slot of the completed request over to the next queued request, if any
+        final Runnable[] next = { null };
+        m_agents.computeIfPresent(address, (a, state) -> {
+            next[0] = state.pending.poll();
+            if (next[0] != null) {
+                m_queued.decrementAndGet();
+                return state;
+            }
+            state.inFlight--;
+            return state.inFlight > 0 ? state : null;
+        });
+        if (next[0] != null) {
+            next[0].run();
+        }
+    }
+
+    public void close() {
+        m_sessions.forEach(Snmp4JStrategy::closeQuietly);
+        m_workers.stop();
+    }
+
+    /**
+     * The number of UDP sockets used by the pool.
+     */
+    @Override
+    public int getSocketCount() {
+        return m_sessions.size();
+    }
+
+    /**
+     * The number of threads used by the pool: a listener and a timeout timer thread per session plus the worker
+     * threads.
+     */
+    @Override
+    public int getThreadCount() {
+        return 2 * m_sessions.size() + m_workerThreads;
+    }
+
+    @Override
+    public long getInFlight() {
+        return m_inFlight.get();
+    }
+
+    @Override
+    public long getQueued() {
+        return m_queued.get();
+    }
+
+    @Override
+    public long getRequestCount() {
+        return m_requests.sum();
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return m_timeouts.sum();
+    }
+
+    @Override
+    public double getMeanLatencyMs() {
+        final long requests = m_requests.sum();
+        return requests == 0 ? 0.0 : m_latencyNanos.sum() / 1_000_000.0 / requests;
+    }
+
+    @Override
+    public double getMaxLatencyMs() {
+        return m_maxLatencyNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Snmp4JSessionPool[sockets=%d, threads=%d, inFlight=%d, queued=%d, requests=%d, timeouts=%d, meanLatencyMs=%.3f, maxLatencyMs=%.3f]",
+                getSocketCount(), getThreadCount(), getInFlight(), getQueued(), getRequestCount(), getTimeoutCount(), getMeanLatencyMs(), getMaxLatencyMs());
+    }
+}
@@ -22,6 +22,7 @@
 package org.opennms.netmgt.snmp.snmp4j;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.net.InetAddress;
 import java.net.SocketException;
 import java.net.UnknownHostException;
@@ -43,6 +44,9 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
+
 import org.opennms.core.logging.Logging;
 import org.opennms.core.sysprops.SystemProperties;
 import org.opennms.core.utils.SystemInfoUtils;
@@ -135,6 +139,14 @@ public class Snmp4JStrategy implements SnmpStrategy {
     private static long s_trackSummaryDelay = SystemProperties.getLong("org.opennms.core.snmp.trackSummaryDelay", 60);
     private static long s_trackSummaryLimit = SystemProperties.getLong("org.opennms.core.snmp.trackSummaryLimit", 10);
 
+    // Number of long-lived sessions shared by all SNMPv1/v2c requests, 0 creates a session per request
+    private static int s_sharedSessions = SystemProperties.getInteger("org.opennms.snmp.snmp4j.sharedSessions", 0);
+    private static int s_sharedSessionWorkers = SystemProperties.getInteger("org.opennms.snmp.snmp4j.sharedSessionWorkers", Runtime.getRuntime().availableProcessors());
+    private static int s_maxInFlightPerAgent = SystemProperties.getInteger("org.opennms.snmp.snmp4j.maxInFlightPerAgent", 10);
+    private static Snmp4JSessionPool s_sessionPool;
+    private static boolean s_sessionPoolFailed = false;
+    private static boolean s_sessionPoolShutdownHook = false;
+
     /**
      * Initialize for v3 communications
      */
@@ -322,6 +334,18 @@ public class Snmp4JStrategy implements SnmpStrategy {
     }
 
     private void send(Snmp4JAgentConfig agentConfig, PDU pdu, boolean expectResponse, CompletableFuture<SnmpValue[]> future) {
+        final Snmp4JSessionPool sessionPool = expectResponse ? getSessionPool(agentConfig) : null;
+        if (sessionPool != null) {
+            sessionPool.send(pdu, agentConfig.getTarget(), responseEvent -> {
+                try {
+                    future.complete(processResponse(agentConfig, responseEvent, pdu));
+                } catch (final Exception e) {
+                    future.completeExceptionally(new SnmpException(e));
+                }
+            });
+            return;
+        }
+
         Snmp session;
 
         try {
@@ -386,6 +410,69 @@ public class Snmp4JStrategy implements SnmpStrategy {
         }
     }
 
+    /**
+     * Returns the pool of shared sessions if shared sessions are enabled and the agent can use them.
+     *
+     * @return <code>null</code> if a dedicated session must be created for the request
+     */
+    static Snmp4JSessionPool getSessionPool(final Snmp4JAgentConfig agentConfig) {
+        if (s_sharedSessions <= 0 || agentConfig.isSnmpV3()) {
+            return null;
+        }
+        return getSessionPool();
+    }
+
+    static synchronized Snmp4JSessionPool getSessionPool() {
+        if (s_sessionPool == null && !s_sessionPoolFailed && s_sharedSessions > 0) {
+            try {
+                s_sessionPool = new Snmp4JSessionPool(s_sharedSessions, s_sharedSessionWorkers, s_maxInFlightPerAgent);
+            } catch (final IOException e) {
+                // fall back to dedicated sessions
+                LOG.error("Could not create shared SNMP sessions, using a session per request", e);
+                s_sessionPoolFailed = true;
+                return null;
+            }
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(s_sessionPool, new ObjectName(Snmp4JSessionPool.OBJECT_NAME));
+            } catch (final JMException e) {
+                LOG.warn("Could not register the shared SNMP sessions with JMX", e);
+            }
+            // The activator closes the pool when the bundle is stopped, outside of OSGi we close it on shutdown
+            if (!s_sessionPoolShutdownHook) {
+                Runtime.getRuntime().addShutdownHook(new Thread(Snmp4JStrategy::closeSessionPool, "SNMP4J-Shared-Session-Shutdown"));
+                s_sessionPoolShutdownHook = true;
+            }
+        }
+        return s_sessionPool;
+    }
+
+    /**
+     * Closes the shared sessions, if any. Requests that are sent afterwards create the sessions again.
+     */
+    public static synchronized void closeSessionPool() {
+        if (s_sessionPool == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(Snmp4JSessionPool.OBJECT_NAME));
+        } catch (final JMException e) {
+            LOG.debug("Could not unregister the shared SNMP sessions from JMX", e);
+        }
+        s_sessionPool.close();
+        s_sessionPool = null;
+    }
+
+    /**
+     * Enables (sessions > 0) or disables shared sessions. Should only be used for testing.
+     */
+    static synchronized void setSharedSessions(final int sessions, final int workers, final int maxInFlightPerAgent) {
+        closeSessionPool();
+        s_sessionPoolFailed = false;
+        s_sharedSessions = sessions;
+        s_sharedSessionWorkers = workers;
+        s_maxInFlightPerAgent = maxInFlightPerAgent;
+    }
+
     protected static PDU buildPdu(Snmp4JAgentConfig agentConfig, int pduType, SnmpObjId[] oids, SnmpValue[] values) {
         PDU pdu = agentConfig.createPdu(pduType);
         
@@ -822,7 +909,7 @@ public class Snmp4JStrategy implements SnmpStrategy {
 
     }
 
-    private static void closeQuietly(Snmp session) {
+    static void closeQuietly(Snmp session) {
         if (session == null) {
             return;
         }
@@ -156,7 +156,11 @@ public class Snmp4JWalker extends SnmpWalker {
         @Override
         public void onResponse(ResponseEvent responseEvent) {
             // need to cancel the request here otherwise SNMP4J Keeps it around forever... go figure
-            m_session.cancel(responseEvent.getRequest(), this);
+            // (shared sessions cancel the request by themselves)
+            final Snmp session = m_session;
+            if (session != null) {
+                session.cancel(responseEvent.getRequest(), this);
+            }
 
             // Check to see if we got an interrupted exception
             if (responseEvent.getError() instanceof InterruptedException) {
@@ -213,6 +217,14 @@ public class Snmp4JWalker extends SnmpWalker {
         @Override
     protected void sendNextPdu(WalkerPduBuilder pduBuilder) throws SnmpException {
         Snmp4JPduBuilder snmp4JPduBuilder = (Snmp4JPduBuilder)pduBuilder;
+
+        final Snmp4JSessionPool sessionPool = Snmp4JStrategy.getSessionPool(m_agentConfig);
+        if (sessionPool != null) {
+            LOG.debug("Sending tracker pdu of size {} using a shared session", snmp4JPduBuilder.getPdu().size());
+            sessionPool.send(snmp4JPduBuilder.getPdu(), m_tgt, m_listener);
+            return;
+        }
+
         try {
             if (m_session == null) {
                 m_session = m_agentConfig.createSnmpSession();
@@ -0,0 +1,157 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageDispatcherImpl;
+import org.snmp4j.MessageException;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.mp.MPv1;
+import org.snmp4j.mp.MPv2c;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+/**
+ * A minimal SNMPv1/v2c agent on the loopback interface that answers from a static MIB with a system description
+ * and {@link #INTERFACES} interface descriptions.
+ */
+class MockSnmpAgent implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MockSnmpAgent.class);
+
+    static final String IF_DESCR = ".1.3.6.1.2.1.2.2.1.2";
+    static final int INTERFACES = 50;
+
+    private final Snmp m_agent;
+    private final int m_port;
+    private final AtomicInteger m_requests = new AtomicInteger();
+
+    MockSnmpAgent() throws IOException {
+        final TreeMap<OID, Variable> mib = new TreeMap<>();
+        mib.put(new OID(".1.3.6.1.2.1.1.1.0"), new OctetString("Mock Agent"));
+        for (int i = 1; i <= INTERFACES; i++) {
+            mib.put(new OID(IF_DESCR + "." + i), new OctetString("eth" + i));
+        }
+        mib.put(new OID(".1.3.6.1.2.1.2.2.1.3.1"), new OctetString("after"));
+
+        final MessageDispatcherImpl dispatcher = new MessageDispatcherImpl();
+        dispatcher.addMessageProcessingModel(new MPv1());
+        dispatcher.addMessageProcessingModel(new MPv2c());
+        final DefaultUdpTransportMapping transport = new DefaultUdpTransportMapping(new UdpAddress(InetAddress.getLoopbackAddress(), 0));
+        m_agent = new Snmp(dispatcher, transport);
+        m_agent.addCommandResponder(new MockResponder(mib));
+        m_agent.listen();
+        m_port = transport.getListenAddress().getPort();
+    }
+
+    int getPort() {
+        return m_port;
+    }
+
+    int getRequestCount() {
+        return m_requests.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        m_agent.close();
+    }
+
+    /**
+     * Answers GET, GETNEXT and GETBULK requests from a static MIB.
+     */
+    private class MockResponder implements CommandResponder {
+        private final TreeMap<OID, Variable> m_mib;
+
+        private MockResponder(final TreeMap<OID, Variable> mib) {
+            m_mib = mib;
+        }
+
+        @Override
+        public void processPdu(final CommandResponderEvent event) {
+            m_requests.incrementAndGet();
+            final PDU request = event.getPDU();
+            final PDU response = new PDU();
+            response.setType(PDU.RESPONSE);
+            response.setRequestID(request.getRequestID());
+
+            switch (request.getType()) {
+                case PDU.GET:
+                    for (final VariableBinding vb : request.getVariableBindings()) {
+                        final Variable value = m_mib.get(vb.getOid());
+                        response.add(new VariableBinding(vb.getOid(), value != null ? value : Null.noSuchObject));
+                    }
+                    break;
+                case PDU.GETNEXT:
+                    for (final VariableBinding vb : request.getVariableBindings()) {
+                        response.add(next(vb.getOid()));
+                    }
+                    break;
+                case PDU.GETBULK:
+                    for (final VariableBinding vb : request.getVariableBindings()) {
+                        OID oid = vb.getOid();
+                        for (int i = 0; i < Math.max(1, request.getMaxRepetitions()); i++) {
+                            final VariableBinding next = next(oid);
+                            response.add(next);
+                            if (next.getVariable() == Null.endOfMibView) {
+                                break;
+                            }
+                            oid = next.getOid();
+                        }
+                    }
+                    break;
+                default:
+                    return;
+            }
+
+            try {
+                event.getMessageDispatcher().returnResponsePdu(event.getMessageProcessingModel(), event.getSecurityModel(),
+                        event.getSecurityName(), event.getSecurityLevel(), response, event.getMaxSizeResponsePDU(),
+                        event.getStateReference(), new StatusInformation());
+            } catch (final MessageException e) {
+                LOG.warn("Could not send response", e);
+            }
+            event.setProcessed(true);
+        }
+
+        private VariableBinding next(final OID oid) {
+            final Map.Entry<OID, Variable> next = m_mib.higherEntry(oid);
+            return next != null ? new VariableBinding(next.getKey(), next.getValue()) : new VariableBinding(oid, Null.endOfMibView);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import static org.opennms.netmgt.snmp.snmp4j.MockSnmpAgent.IF_DESCR;
+import static org.opennms.netmgt.snmp.snmp4j.MockSnmpAgent.INTERFACES;
+
+import java.net.InetAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.netmgt.snmp.SnmpAgentConfig;
+import org.opennms.netmgt.snmp.SnmpObjId;
+import org.opennms.netmgt.snmp.SnmpValue;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare batches of concurrent gets against an agent on the
+ * loopback interface using a session per request (0 shared sessions) and shared sessions.
+ */
+public class Snmp4JSessionPoolBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({"0", "2"})
+        public int sharedSessions;
+
+        @Param({"100"})
+        public int batchSize;
+
+        private final Snmp4JStrategy strategy = new Snmp4JStrategy();
+        private MockSnmpAgent agent;
+        private SnmpAgentConfig agentConfig;
+
+        @Setup
+        public void setup() throws Exception {
+            agent = new MockSnmpAgent();
+            agentConfig = new SnmpAgentConfig(InetAddress.getLoopbackAddress());
+            agentConfig.setPort(agent.getPort());
+            agentConfig.setVersion(SnmpAgentConfig.VERSION2C);
+            agentConfig.setReadCommunity("public");
+            agentConfig.setTimeout(2000);
+            agentConfig.setRetries(1);
+            Snmp4JStrategy.setSharedSessions(sharedSessions, sharedSessions, 10);
+        }
+
+        @TearDown
+        public void tearDown() throws Exception {
+            Snmp4JStrategy.setSharedSessions(0, 0, 0);
+            agent.close();
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public void get(BState state) throws Exception {
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<SnmpValue[]>[] futures = new CompletableFuture[state.batchSize];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = state.strategy.getAsync(state.agentConfig, new SnmpObjId[]{SnmpObjId.get(IF_DESCR + "." + (1 + i % INTERFACES))});
+        }
+        CompletableFuture.allOf(futures).get(30, TimeUnit.SECONDS);
+    }
+}
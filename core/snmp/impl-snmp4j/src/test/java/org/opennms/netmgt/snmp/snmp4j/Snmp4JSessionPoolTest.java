@@ -0,0 +1,171 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.snmp4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.opennms.netmgt.snmp.snmp4j.MockSnmpAgent.IF_DESCR;
+import static org.opennms.netmgt.snmp.snmp4j.MockSnmpAgent.INTERFACES;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.netmgt.snmp.ColumnTracker;
+import org.opennms.netmgt.snmp.SnmpAgentConfig;
+import org.opennms.netmgt.snmp.SnmpObjId;
+import org.opennms.netmgt.snmp.SnmpResult;
+import org.opennms.netmgt.snmp.SnmpValue;
+import org.opennms.netmgt.snmp.SnmpWalker;
+
+/**
+ * Verifies requests and walks over shared sessions against a minimal agent on the loopback interface.
+ * {@link Snmp4JSessionPoolBenchmark} compares the latency of shared and dedicated sessions.
+ */
+public class Snmp4JSessionPoolTest {
+
+    private final Snmp4JStrategy m_strategy = new Snmp4JStrategy();
+
+    private MockSnmpAgent m_agent;
+    private int m_agentPort;
+
+    @Before
+    public void setUp() throws IOException {
+        m_agent = new MockSnmpAgent();
+        m_agentPort = m_agent.getPort();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Snmp4JStrategy.setSharedSessions(0, 0, 0);
+        m_agent.close();
+    }
+
+    private SnmpAgentConfig agentConfig() {
+        final SnmpAgentConfig config = new SnmpAgentConfig(InetAddress.getLoopbackAddress());
+        config.setPort(m_agentPort);
+        config.setVersion(SnmpAgentConfig.VERSION2C);
+        config.setReadCommunity("public");
+        config.setTimeout(2000);
+        config.setRetries(1);
+        return config;
+    }
+
+    @Test
+    public void testConcurrentGetsOverSharedSessions() throws Exception {
+        Snmp4JStrategy.setSharedSessions(2, 2, 4);
+
+        final List<CompletableFuture<SnmpValue[]>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final int ifIndex = 1 + i % INTERFACES;
+            futures.add(m_strategy.getAsync(agentConfig(), new SnmpObjId[]{SnmpObjId.get(IF_DESCR + "." + ifIndex)}));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            final SnmpValue[] values = futures.get(i).get(10, TimeUnit.SECONDS);
+            assertEquals("eth" + (1 + i % INTERFACES), values[0].toDisplayString());
+        }
+
+        final Snmp4JSessionPool pool = Snmp4JStrategy.getSessionPool();
+        assertEquals(2, pool.getSocketCount());
+        assertEquals(1000, pool.getRequestCount());
+        assertEquals(0, pool.getInFlight());
+        assertEquals(0, pool.getQueued());
+        assertEquals(0, pool.getTimeoutCount());
+
+        // the synchronous API uses the shared sessions as well
+        assertEquals("Mock Agent", m_strategy.get(agentConfig(), SnmpObjId.get(".1.3.6.1.2.1.1.1.0")).toDisplayString());
+        assertEquals(1001, pool.getRequestCount());
+    }
+
+    @Test
+    public void testWalkOverSharedSessions() throws Exception {
+        Snmp4JStrategy.setSharedSessions(1, 1, 1);
+
+        final List<SnmpResult> results = new ArrayList<>();
+        final ColumnTracker tracker = new ColumnTracker(SnmpObjId.get(IF_DESCR)) {
+            @Override
+            protected void storeResult(final SnmpResult res) {
+                synchronized (results) {
+                    results.add(res);
+                }
+            }
+        };
+
+        try (SnmpWalker walker = m_strategy.createWalker(agentConfig(), "ifDescr", tracker)) {
+            walker.start();
+            assertTrue(walker.waitFor(10000));
+            assertFalse(walker.failed());
+        }
+
+        assertEquals(INTERFACES, results.size());
+        assertEquals("eth1", results.get(0).getValue().toDisplayString());
+        assertTrue(Snmp4JStrategy.getSessionPool().getRequestCount() > 0);
+    }
+
+    @Test
+    public void testTimeoutReleasesAgentSlot() throws Exception {
+        Snmp4JStrategy.setSharedSessions(1, 1, 1);
+
+        final SnmpAgentConfig unreachable = agentConfig();
+        unreachable.setPort(m_agentPort == 65535 ? m_agentPort - 1 : m_agentPort + 1);
+        unreachable.setTimeout(100);
+        unreachable.setRetries(0);
+
+        final CompletableFuture<SnmpValue[]> first = m_strategy.getAsync(unreachable, new SnmpObjId[]{SnmpObjId.get(".1.3.6.1.2.1.1.1.0")});
+        final CompletableFuture<SnmpValue[]> second = m_strategy.getAsync(unreachable, new SnmpObjId[]{SnmpObjId.get(".1.3.6.1.2.1.1.1.0")});
+
+        assertTrue(first.handle((v, e) -> e != null).get(10, TimeUnit.SECONDS));
+        assertTrue(second.handle((v, e) -> e != null).get(10, TimeUnit.SECONDS));
+
+        final Snmp4JSessionPool pool = Snmp4JStrategy.getSessionPool();
+        assertEquals(2, pool.getRequestCount());
+        assertEquals(2, pool.getTimeoutCount());
+        assertEquals(0, pool.getInFlight());
+        assertEquals(0, pool.getQueued());
+    }
+
+    @Test
+    public void testPoolIsRegisteredWithJmx() throws Exception {
+        Snmp4JStrategy.setSharedSessions(1, 1, 1);
+        assertEquals("Mock Agent", m_strategy.get(agentConfig(), SnmpObjId.get(".1.3.6.1.2.1.1.1.0")).toDisplayString());
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(Snmp4JSessionPool.OBJECT_NAME);
+        assertEquals(1, server.getAttribute(name, "SocketCount"));
+        assertEquals(1L, server.getAttribute(name, "RequestCount"));
+        assertEquals(0L, server.getAttribute(name, "TimeoutCount"));
+
+        Snmp4JStrategy.closeSessionPool();
+        assertFalse(server.isRegistered(name));
+    }
+}
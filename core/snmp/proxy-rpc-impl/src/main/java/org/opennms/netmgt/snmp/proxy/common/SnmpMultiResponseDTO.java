@@ -80,4 +80,8 @@ public class SnmpMultiResponseDTO implements RpcResponse {
     public String getErrorMessage() {
         return error;
     }
+
+    public void setErrorMessage(String error) {
+        this.error = error;
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.proxy.common;
+
+import java.io.IOException;
+
+import org.opennms.core.rpc.xml.RpcMessageCodec;
+import org.opennms.netmgt.snmp.SnmpInstId;
+import org.opennms.netmgt.snmp.SnmpObjId;
+import org.opennms.netmgt.snmp.SnmpResult;
+import org.opennms.netmgt.snmp.SnmpUtils;
+import org.opennms.netmgt.snmp.SnmpValue;
+import org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Protobuf representation of the {@link SnmpMultiResponseDTO}, see <code>snmp-proxy.proto</code>.
+ */
+public class SnmpMultiResponseProtobufCodec implements RpcMessageCodec<SnmpMultiResponseDTO> {
+
+    public static final int VERSION = 1;
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] encode(SnmpMultiResponseDTO multiResponse) {
+        final SnmpProxyProtos.SnmpMultiResponse.Builder builder = SnmpProxyProtos.SnmpMultiResponse.newBuilder();
+        if (multiResponse.getErrorMessage() != null) {
+            builder.setError(multiResponse.getErrorMessage());
+        }
+        for (SnmpResponseDTO response : multiResponse.getResponses()) {
+            final SnmpProxyProtos.SnmpResponse.Builder responseBuilder = SnmpProxyProtos.SnmpResponse.newBuilder();
+            if (response.getCorrelationId() != null) {
+                responseBuilder.setCorrelationId(response.getCorrelationId());
+            }
+            for (SnmpResult result : response.getResults()) {
+                responseBuilder.addResults(toProto(result));
+            }
+            builder.addResponses(responseBuilder);
+        }
+        return builder.build().toByteArray();
+    }
+
+    @Override
+    public SnmpMultiResponseDTO decode(byte[] bytes) throws IOException {
+        final SnmpProxyProtos.SnmpMultiResponse proto = SnmpProxyProtos.SnmpMultiResponse.parseFrom(bytes);
+        final SnmpMultiResponseDTO multiResponse = new SnmpMultiResponseDTO();
+        if (proto.hasError()) {
+            multiResponse.setErrorMessage(proto.getError());
+        }
+        for (SnmpProxyProtos.SnmpResponse responseProto : proto.getResponsesList()) {
+            final SnmpResponseDTO response = new SnmpResponseDTO();
+            if (responseProto.hasCorrelationId()) {
+                response.setCorrelationId(responseProto.getCorrelationId());
+            }
+            for (SnmpProxyProtos.SnmpResult resultProto : responseProto.getResultsList()) {
+                response.getResults().add(fromProto(resultProto));
+            }
+            multiResponse.getResponses().add(response);
+        }
+        return multiResponse;
+    }
+
+    private static SnmpProxyProtos.SnmpResult toProto(SnmpResult result) {
+        final SnmpProxyProtos.SnmpResult.Builder builder = SnmpProxyProtos.SnmpResult.newBuilder()
+                .setBase(toProto(result.getBase()));
+        if (result.getInstance() != null) {
+            builder.setInstance(toProto(result.getInstance()));
+        }
+        if (result.getValue() != null) {
+            final SnmpProxyProtos.SnmpValue.Builder valueBuilder = SnmpProxyProtos.SnmpValue.newBuilder()
+                    .setType(result.getValue().getType());
+            final byte[] valueBytes = result.getValue().getBytes();
+            if (valueBytes != null) {
+                valueBuilder.setBytes(ByteString.copyFrom(valueBytes));
+            }
+            builder.setValue(valueBuilder);
+        }
+        return builder.build();
+    }
+
+    private static SnmpResult fromProto(SnmpProxyProtos.SnmpResult proto) {
+        final SnmpObjId base = SnmpObjId.get(toIds(proto.getBase()));
+        final SnmpInstId instance = proto.hasInstance() ? new SnmpInstId(toIds(proto.getInstance())) : null;
+        SnmpValue value = null;
+        if (proto.hasValue()) {
+            value = SnmpUtils.getValueFactory().getValue(proto.getValue().getType(), proto.getValue().getBytes().toByteArray());
+        }
+        return new SnmpResult(base, instance, value);
+    }
+
+    private static SnmpProxyProtos.Oid toProto(SnmpObjId oid) {
+        final SnmpProxyProtos.Oid.Builder builder = SnmpProxyProtos.Oid.newBuilder();
+        for (int i = 0; i < oid.length(); i++) {
+            builder.addIds(oid.getSubIdAt(i));
+        }
+        return builder.build();
+    }
+
+    private static int[] toIds(SnmpProxyProtos.Oid oid) {
+        final int[] ids = new int[oid.getIdsCount()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = oid.getIds(i);
+        }
+        return ids;
+    }
+}
@@ -30,16 +30,20 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.opennms.core.rpc.xml.AbstractXmlRpcModule;
 import org.opennms.core.utils.LocationUtils;
 import org.opennms.features.scv.api.SecureCredentialsVault;
 import org.opennms.netmgt.snmp.AggregateTracker;
+import org.opennms.netmgt.snmp.BulkWalkPlanner;
 import org.opennms.netmgt.snmp.Collectable;
 import org.opennms.netmgt.snmp.CollectionTracker;
 import org.opennms.netmgt.snmp.ColumnTracker;
 import org.opennms.netmgt.snmp.SingleInstanceTracker;
+import org.opennms.netmgt.snmp.SnmpAgentConfig;
+import org.opennms.netmgt.snmp.SnmpAgentTimeoutException;
 import org.opennms.netmgt.snmp.SnmpInstId;
 import org.opennms.netmgt.snmp.SnmpObjId;
 import org.opennms.netmgt.snmp.SnmpResult;
@@ -73,7 +77,7 @@ public class SnmpProxyRpcModule extends AbstractXmlRpcModule<SnmpRequestDTO, Snm
     });
 
     public SnmpProxyRpcModule() {
-        super(SnmpRequestDTO.class, SnmpMultiResponseDTO.class);
+        super(SnmpRequestDTO.class, SnmpMultiResponseDTO.class, null, new SnmpMultiResponseProtobufCodec());
     }
 
     @Override
@@ -111,6 +115,7 @@ public class SnmpProxyRpcModule extends AbstractXmlRpcModule<SnmpRequestDTO, Snm
         final Map<String, SnmpResponseDTO> responsesByCorrelationId = new LinkedHashMap<>();
 
         final List<Collectable> trackers = new ArrayList<>(walks.size());
+        int columns = 0;
         for (final SnmpWalkRequestDTO walk : walks) {
             CollectionTracker tracker;
             if (walk.getInstance() != null) {
@@ -130,6 +135,7 @@ public class SnmpProxyRpcModule extends AbstractXmlRpcModule<SnmpRequestDTO, Snm
                         .map(SnmpObjId::get)
                         .map(ColumnTracker::new)
                         .collect(Collectors.toList());
+                columns += columnTrackers.size();
                 tracker = new AggregateTracker(columnTrackers) {
                     @Override
                     protected void storeResult(SnmpResult res) {
@@ -143,12 +149,37 @@ public class SnmpProxyRpcModule extends AbstractXmlRpcModule<SnmpRequestDTO, Snm
             trackers.add(tracker);
         }
 
-        AggregateTracker aggregate = new AggregateTracker(trackers);
-        final SnmpWalker walker = SnmpUtils.createWalker(request.getAgent(), request.getDescription(), aggregate);
+        // Size the requests for all walks of the agent together if the planner is enabled
+        final BulkWalkPlanner planner = BulkWalkPlanner.isEnabled() ? BulkWalkPlanner.getInstance() : null;
+        final BulkWalkPlanner.Plan plan = planner != null ? planner.plan(request.getAgent(), columns) : null;
+        final SnmpAgentConfig agentConfig = plan != null ? plan.apply(request.getAgent()) : request.getAgent();
+        if (plan != null) {
+            LOG.debug("Walking {} columns of {} with {}", columns, request.getAgent().getAddress(), plan);
+        }
+
+        final AtomicBoolean tooBig = new AtomicBoolean(false);
+        AggregateTracker aggregate = new AggregateTracker(trackers) {
+            @Override
+            protected void reportTooBigErr(String msg) {
+                tooBig.set(true);
+                super.reportTooBigErr(msg);
+            }
+        };
+        final SnmpWalker walker = SnmpUtils.createWalker(agentConfig, request.getDescription(), aggregate);
         walker.setCallback(new SnmpWalkCallback() {
             @Override
             public void complete(SnmpWalker tracker, Throwable t) {
                 try {
+                    if (plan != null) {
+                        if (tooBig.get()) {
+                            planner.tooBig(plan);
+                        } else if (t instanceof SnmpAgentTimeoutException) {
+                            // only shrink if the agent is alive and answered part of the walk
+                            planner.timedOut(plan, !responsesByCorrelationId.isEmpty());
+                        } else if (t == null) {
+                            planner.succeeded(plan);
+                        }
+                    }
                     if (t != null) {
                         future.completeExceptionally(t);
                     } else {
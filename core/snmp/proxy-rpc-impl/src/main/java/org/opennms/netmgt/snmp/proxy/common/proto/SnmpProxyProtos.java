@@ -0,0 +1,4020 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: snmp-proxy.proto
+
+package org.opennms.netmgt.snmp.proxy.common.proto;
+
+public final class SnmpProxyProtos {
+  private SnmpProxyProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface SnmpValueOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SnmpValue)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 type = 1;</code>
+     * @return The type.
+     */
+    int getType();
+
+    /**
+     * <code>bytes bytes = 2;</code>
+     * @return The bytes.
+     */
+    com.google.protobuf.ByteString getBytes();
+  }
+  /**
+   * Protobuf type {@code SnmpValue}
+   */
+  public static final class SnmpValue extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:SnmpValue)
+      SnmpValueOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SnmpValue.newBuilder() to construct.
+    private SnmpValue(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SnmpValue() {
+      bytes_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SnmpValue();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpValue_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpValue_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.class, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.Builder.class);
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private int type_ = 0;
+    /**
+     * <code>int32 type = 1;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public int getType() {
+      return type_;
+    }
+
+    public static final int BYTES_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString bytes_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes bytes = 2;</code>
+     * @return The bytes.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getBytes() {
+      return bytes_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (type_ != 0) {
+        output.writeInt32(1, type_);
+      }
+      if (!bytes_.isEmpty()) {
+        output.writeBytes(2, bytes_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (type_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, type_);
+      }
+      if (!bytes_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, bytes_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue other = (org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue) obj;
+
+      if (getType()
+          != other.getType()) return false;
+      if (!getBytes()
+          .equals(other.getBytes())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType();
+      hash = (37 * hash) + BYTES_FIELD_NUMBER;
+      hash = (53 * hash) + getBytes().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SnmpValue}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SnmpValue)
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValueOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpValue_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpValue_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.class, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        type_ = 0;
+        bytes_ = com.google.protobuf.ByteString.EMPTY;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpValue_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue getDefaultInstanceForType() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue build() {
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue buildPartial() {
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue result = new org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.bytes_ = bytes_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue) {
+          return mergeFrom((org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue other) {
+        if (other == org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.getDefaultInstance()) return this;
+        if (other.getType() != 0) {
+          setType(other.getType());
+        }
+        if (other.getBytes() != com.google.protobuf.ByteString.EMPTY) {
+          setBytes(other.getBytes());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                type_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                bytes_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int type_ ;
+      /**
+       * <code>int32 type = 1;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public int getType() {
+        return type_;
+      }
+      /**
+       * <code>int32 type = 1;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(int value) {
+
+        type_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 type = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString bytes_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes bytes = 2;</code>
+       * @return The bytes.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getBytes() {
+        return bytes_;
+      }
+      /**
+       * <code>bytes bytes = 2;</code>
+       * @param value The bytes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBytes(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        bytes_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes bytes = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBytes() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        bytes_ = getDefaultInstance().getBytes();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:SnmpValue)
+    }
+
+    // @@protoc_insertion_point(class_scope:SnmpValue)
+    private static final org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue();
+    }
+
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SnmpValue>
+        PARSER = new com.google.protobuf.AbstractParser<SnmpValue>() {
+      @java.lang.Override
+      public SnmpValue parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SnmpValue> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SnmpValue> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface OidOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Oid)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated uint32 ids = 1;</code>
+     * @return A list containing the ids.
+     */
+    java.util.List<java.lang.Integer> getIdsList();
+    /**
+     * <code>repeated uint32 ids = 1;</code>
+     * @return The count of ids.
+     */
+    int getIdsCount();
+    /**
+     * <code>repeated uint32 ids = 1;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    int getIds(int index);
+  }
+  /**
+   * Protobuf type {@code Oid}
+   */
+  public static final class Oid extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Oid)
+      OidOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Oid.newBuilder() to construct.
+    private Oid(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Oid() {
+      ids_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Oid();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_Oid_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_Oid_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.class, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.Builder.class);
+    }
+
+    public static final int IDS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList ids_;
+    /**
+     * <code>repeated uint32 ids = 1;</code>
+     * @return A list containing the ids.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getIdsList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated uint32 ids = 1;</code>
+     * @return The count of ids.
+     */
+    public int getIdsCount() {
+      return ids_.size();
+    }
+    /**
+     * <code>repeated uint32 ids = 1;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    public int getIds(int index) {
+      return ids_.getInt(index);
+    }
+    private int idsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getIdsList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(idsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < ids_.size(); i++) {
+        output.writeUInt32NoTag(ids_.getInt(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < ids_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(ids_.getInt(i));
+        }
+        size += dataSize;
+        if (!getIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        idsMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid other = (org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid) obj;
+
+      if (!getIdsList()
+          .equals(other.getIdsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getIdsCount() > 0) {
+        hash = (37 * hash) + IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getIdsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Oid}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Oid)
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_Oid_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_Oid_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.class, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        ids_ = emptyIntList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_Oid_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid getDefaultInstanceForType() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid build() {
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid buildPartial() {
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid result = new org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid result) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          ids_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.ids_ = ids_;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid) {
+          return mergeFrom((org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid other) {
+        if (other == org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.getDefaultInstance()) return this;
+        if (!other.ids_.isEmpty()) {
+          if (ids_.isEmpty()) {
+            ids_ = other.ids_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureIdsIsMutable();
+            ids_.addAll(other.ids_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                int v = input.readUInt32();
+                ensureIdsIsMutable();
+                ids_.addInt(v);
+                break;
+              } // case 8
+              case 10: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureIdsIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  ids_.addInt(input.readUInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.IntList ids_ = emptyIntList();
+      private void ensureIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          ids_ = mutableCopy(ids_);
+          bitField0_ |= 0x00000001;
+        }
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @return A list containing the ids.
+       */
+      public java.util.List<java.lang.Integer>
+          getIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(ids_) : ids_;
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @return The count of ids.
+       */
+      public int getIdsCount() {
+        return ids_.size();
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @param index The index of the element to return.
+       * @return The ids at the given index.
+       */
+      public int getIds(int index) {
+        return ids_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The ids to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIds(
+          int index, int value) {
+
+        ensureIdsIsMutable();
+        ids_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @param value The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addIds(int value) {
+
+        ensureIdsIsMutable();
+        ids_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @param values The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ids_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIds() {
+        ids_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Oid)
+    }
+
+    // @@protoc_insertion_point(class_scope:Oid)
+    private static final org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid();
+    }
+
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Oid>
+        PARSER = new com.google.protobuf.AbstractParser<Oid>() {
+      @java.lang.Override
+      public Oid parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Oid> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Oid> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SnmpResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SnmpResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.Oid base = 1;</code>
+     * @return Whether the base field is set.
+     */
+    boolean hasBase();
+    /**
+     * <code>.Oid base = 1;</code>
+     * @return The base.
+     */
+    org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid getBase();
+    /**
+     * <code>.Oid base = 1;</code>
+     */
+    org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder getBaseOrBuilder();
+
+    /**
+     * <code>optional .Oid instance = 2;</code>
+     * @return Whether the instance field is set.
+     */
+    boolean hasInstance();
+    /**
+     * <code>optional .Oid instance = 2;</code>
+     * @return The instance.
+     */
+    org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid getInstance();
+    /**
+     * <code>optional .Oid instance = 2;</code>
+     */
+    org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder getInstanceOrBuilder();
+
+    /**
+     * <code>optional .SnmpValue value = 3;</code>
+     * @return Whether the value field is set.
+     */
+    boolean hasValue();
+    /**
+     * <code>optional .SnmpValue value = 3;</code>
+     * @return The value.
+     */
+    org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue getValue();
+    /**
+     * <code>optional .SnmpValue value = 3;</code>
+     */
+    org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValueOrBuilder getValueOrBuilder();
+  }
+  /**
+   * Protobuf type {@code SnmpResult}
+   */
+  public static final class SnmpResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:SnmpResult)
+      SnmpResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SnmpResult.newBuilder() to construct.
+    private SnmpResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SnmpResult() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SnmpResult();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.class, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int BASE_FIELD_NUMBER = 1;
+    private org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid base_;
+    /**
+     * <code>.Oid base = 1;</code>
+     * @return Whether the base field is set.
+     */
+    @java.lang.Override
+    public boolean hasBase() {
+      return base_ != null;
+    }
+    /**
+     * <code>.Oid base = 1;</code>
+     * @return The base.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid getBase() {
+      return base_ == null ? org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.getDefaultInstance() : base_;
+    }
+    /**
+     * <code>.Oid base = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder getBaseOrBuilder() {
+      return base_ == null ? org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.getDefaultInstance() : base_;
+    }
+
+    public static final int INSTANCE_FIELD_NUMBER = 2;
+    private org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid instance_;
+    /**
+     * <code>optional .Oid instance = 2;</code>
+     * @return Whether the instance field is set.
+     */
+    @java.lang.Override
+    public boolean hasInstance() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional .Oid instance = 2;</code>
+     * @return The instance.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid getInstance() {
+      return instance_ == null ? org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.getDefaultInstance() : instance_;
+    }
+    /**
+     * <code>optional .Oid instance = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder getInstanceOrBuilder() {
+      return instance_ == null ? org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.getDefaultInstance() : instance_;
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 3;
+    private org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue value_;
+    /**
+     * <code>optional .SnmpValue value = 3;</code>
+     * @return Whether the value field is set.
+     */
+    @java.lang.Override
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional .SnmpValue value = 3;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue getValue() {
+      return value_ == null ? org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.getDefaultInstance() : value_;
+    }
+    /**
+     * <code>optional .SnmpValue value = 3;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValueOrBuilder getValueOrBuilder() {
+      return value_ == null ? org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.getDefaultInstance() : value_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (base_ != null) {
+        output.writeMessage(1, getBase());
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(2, getInstance());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(3, getValue());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (base_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getBase());
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getInstance());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getValue());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult other = (org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult) obj;
+
+      if (hasBase() != other.hasBase()) return false;
+      if (hasBase()) {
+        if (!getBase()
+            .equals(other.getBase())) return false;
+      }
+      if (hasInstance() != other.hasInstance()) return false;
+      if (hasInstance()) {
+        if (!getInstance()
+            .equals(other.getInstance())) return false;
+      }
+      if (hasValue() != other.hasValue()) return false;
+      if (hasValue()) {
+        if (!getValue()
+            .equals(other.getValue())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasBase()) {
+        hash = (37 * hash) + BASE_FIELD_NUMBER;
+        hash = (53 * hash) + getBase().hashCode();
+      }
+      if (hasInstance()) {
+        hash = (37 * hash) + INSTANCE_FIELD_NUMBER;
+        hash = (53 * hash) + getInstance().hashCode();
+      }
+      if (hasValue()) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SnmpResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SnmpResult)
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.class, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getBaseFieldBuilder();
+          getInstanceFieldBuilder();
+          getValueFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        base_ = null;
+        if (baseBuilder_ != null) {
+          baseBuilder_.dispose();
+          baseBuilder_ = null;
+        }
+        instance_ = null;
+        if (instanceBuilder_ != null) {
+          instanceBuilder_.dispose();
+          instanceBuilder_ = null;
+        }
+        value_ = null;
+        if (valueBuilder_ != null) {
+          valueBuilder_.dispose();
+          valueBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpResult_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult getDefaultInstanceForType() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult build() {
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult buildPartial() {
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult result = new org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.base_ = baseBuilder_ == null
+              ? base_
+              : baseBuilder_.build();
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.instance_ = instanceBuilder_ == null
+              ? instance_
+              : instanceBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.value_ = valueBuilder_ == null
+              ? value_
+              : valueBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult) {
+          return mergeFrom((org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult other) {
+        if (other == org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.getDefaultInstance()) return this;
+        if (other.hasBase()) {
+          mergeBase(other.getBase());
+        }
+        if (other.hasInstance()) {
+          mergeInstance(other.getInstance());
+        }
+        if (other.hasValue()) {
+          mergeValue(other.getValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getBaseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getInstanceFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                input.readMessage(
+                    getValueFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid base_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder> baseBuilder_;
+      /**
+       * <code>.Oid base = 1;</code>
+       * @return Whether the base field is set.
+       */
+      public boolean hasBase() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       * @return The base.
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid getBase() {
+        if (baseBuilder_ == null) {
+          return base_ == null ? org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.getDefaultInstance() : base_;
+        } else {
+          return baseBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      public Builder setBase(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid value) {
+        if (baseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          base_ = value;
+        } else {
+          baseBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      public Builder setBase(
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.Builder builderForValue) {
+        if (baseBuilder_ == null) {
+          base_ = builderForValue.build();
+        } else {
+          baseBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      public Builder mergeBase(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid value) {
+        if (baseBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            base_ != null &&
+            base_ != org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.getDefaultInstance()) {
+            getBaseBuilder().mergeFrom(value);
+          } else {
+            base_ = value;
+          }
+        } else {
+          baseBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      public Builder clearBase() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        base_ = null;
+        if (baseBuilder_ != null) {
+          baseBuilder_.dispose();
+          baseBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.Builder getBaseBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getBaseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder getBaseOrBuilder() {
+        if (baseBuilder_ != null) {
+          return baseBuilder_.getMessageOrBuilder();
+        } else {
+          return base_ == null ?
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.getDefaultInstance() : base_;
+        }
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder> 
+          getBaseFieldBuilder() {
+        if (baseBuilder_ == null) {
+          baseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder>(
+                  getBase(),
+                  getParentForChildren(),
+                  isClean());
+          base_ = null;
+        }
+        return baseBuilder_;
+      }
+
+      private org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid instance_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder> instanceBuilder_;
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       * @return Whether the instance field is set.
+       */
+      public boolean hasInstance() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       * @return The instance.
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid getInstance() {
+        if (instanceBuilder_ == null) {
+          return instance_ == null ? org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.getDefaultInstance() : instance_;
+        } else {
+          return instanceBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      public Builder setInstance(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid value) {
+        if (instanceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          instance_ = value;
+        } else {
+          instanceBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      public Builder setInstance(
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.Builder builderForValue) {
+        if (instanceBuilder_ == null) {
+          instance_ = builderForValue.build();
+        } else {
+          instanceBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      public Builder mergeInstance(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid value) {
+        if (instanceBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            instance_ != null &&
+            instance_ != org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.getDefaultInstance()) {
+            getInstanceBuilder().mergeFrom(value);
+          } else {
+            instance_ = value;
+          }
+        } else {
+          instanceBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      public Builder clearInstance() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        instance_ = null;
+        if (instanceBuilder_ != null) {
+          instanceBuilder_.dispose();
+          instanceBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.Builder getInstanceBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getInstanceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder getInstanceOrBuilder() {
+        if (instanceBuilder_ != null) {
+          return instanceBuilder_.getMessageOrBuilder();
+        } else {
+          return instance_ == null ?
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.getDefaultInstance() : instance_;
+        }
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder> 
+          getInstanceFieldBuilder() {
+        if (instanceBuilder_ == null) {
+          instanceBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.Oid.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.OidOrBuilder>(
+                  getInstance(),
+                  getParentForChildren(),
+                  isClean());
+          instance_ = null;
+        }
+        return instanceBuilder_;
+      }
+
+      private org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue value_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValueOrBuilder> valueBuilder_;
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       * @return Whether the value field is set.
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       * @return The value.
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue getValue() {
+        if (valueBuilder_ == null) {
+          return value_ == null ? org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.getDefaultInstance() : value_;
+        } else {
+          return valueBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      public Builder setValue(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue value) {
+        if (valueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+        } else {
+          valueBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      public Builder setValue(
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.Builder builderForValue) {
+        if (valueBuilder_ == null) {
+          value_ = builderForValue.build();
+        } else {
+          valueBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      public Builder mergeValue(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue value) {
+        if (valueBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+            value_ != null &&
+            value_ != org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.getDefaultInstance()) {
+            getValueBuilder().mergeFrom(value);
+          } else {
+            value_ = value;
+          }
+        } else {
+          valueBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        value_ = null;
+        if (valueBuilder_ != null) {
+          valueBuilder_.dispose();
+          valueBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.Builder getValueBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getValueFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValueOrBuilder getValueOrBuilder() {
+        if (valueBuilder_ != null) {
+          return valueBuilder_.getMessageOrBuilder();
+        } else {
+          return value_ == null ?
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.getDefaultInstance() : value_;
+        }
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValueOrBuilder> 
+          getValueFieldBuilder() {
+        if (valueBuilder_ == null) {
+          valueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValue.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpValueOrBuilder>(
+                  getValue(),
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        return valueBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:SnmpResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:SnmpResult)
+    private static final org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult();
+    }
+
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SnmpResult>
+        PARSER = new com.google.protobuf.AbstractParser<SnmpResult>() {
+      @java.lang.Override
+      public SnmpResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SnmpResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SnmpResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SnmpResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SnmpResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string correlation_id = 1;</code>
+     * @return Whether the correlationId field is set.
+     */
+    boolean hasCorrelationId();
+    /**
+     * <code>optional string correlation_id = 1;</code>
+     * @return The correlationId.
+     */
+    java.lang.String getCorrelationId();
+    /**
+     * <code>optional string correlation_id = 1;</code>
+     * @return The bytes for correlationId.
+     */
+    com.google.protobuf.ByteString
+        getCorrelationIdBytes();
+
+    /**
+     * <code>repeated .SnmpResult results = 2;</code>
+     */
+    java.util.List<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult> 
+        getResultsList();
+    /**
+     * <code>repeated .SnmpResult results = 2;</code>
+     */
+    org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult getResults(int index);
+    /**
+     * <code>repeated .SnmpResult results = 2;</code>
+     */
+    int getResultsCount();
+    /**
+     * <code>repeated .SnmpResult results = 2;</code>
+     */
+    java.util.List<? extends org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResultOrBuilder> 
+        getResultsOrBuilderList();
+    /**
+     * <code>repeated .SnmpResult results = 2;</code>
+     */
+    org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResultOrBuilder getResultsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code SnmpResponse}
+   */
+  public static final class SnmpResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:SnmpResponse)
+      SnmpResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SnmpResponse.newBuilder() to construct.
+    private SnmpResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SnmpResponse() {
+      correlationId_ = "";
+      results_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SnmpResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.class, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int CORRELATION_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object correlationId_ = "";
+    /**
+     * <code>optional string correlation_id = 1;</code>
+     * @return Whether the correlationId field is set.
+     */
+    @java.lang.Override
+    public boolean hasCorrelationId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string correlation_id = 1;</code>
+     * @return The correlationId.
+     */
+    @java.lang.Override
+    public java.lang.String getCorrelationId() {
+      java.lang.Object ref = correlationId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        correlationId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string correlation_id = 1;</code>
+     * @return The bytes for correlationId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCorrelationIdBytes() {
+      java.lang.Object ref = correlationId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        correlationId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RESULTS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult> results_;
+    /**
+     * <code>repeated .SnmpResult results = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult> getResultsList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .SnmpResult results = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResultOrBuilder> 
+        getResultsOrBuilderList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .SnmpResult results = 2;</code>
+     */
+    @java.lang.Override
+    public int getResultsCount() {
+      return results_.size();
+    }
+    /**
+     * <code>repeated .SnmpResult results = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult getResults(int index) {
+      return results_.get(index);
+    }
+    /**
+     * <code>repeated .SnmpResult results = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResultOrBuilder getResultsOrBuilder(
+        int index) {
+      return results_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, correlationId_);
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        output.writeMessage(2, results_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, correlationId_);
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, results_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse other = (org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse) obj;
+
+      if (hasCorrelationId() != other.hasCorrelationId()) return false;
+      if (hasCorrelationId()) {
+        if (!getCorrelationId()
+            .equals(other.getCorrelationId())) return false;
+      }
+      if (!getResultsList()
+          .equals(other.getResultsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasCorrelationId()) {
+        hash = (37 * hash) + CORRELATION_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getCorrelationId().hashCode();
+      }
+      if (getResultsCount() > 0) {
+        hash = (37 * hash) + RESULTS_FIELD_NUMBER;
+        hash = (53 * hash) + getResultsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SnmpResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SnmpResponse)
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.class, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        correlationId_ = "";
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+        } else {
+          results_ = null;
+          resultsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse getDefaultInstanceForType() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse build() {
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse buildPartial() {
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse result = new org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse result) {
+        if (resultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            results_ = java.util.Collections.unmodifiableList(results_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.results_ = results_;
+        } else {
+          result.results_ = resultsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.correlationId_ = correlationId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse) {
+          return mergeFrom((org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse other) {
+        if (other == org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.getDefaultInstance()) return this;
+        if (other.hasCorrelationId()) {
+          correlationId_ = other.correlationId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (resultsBuilder_ == null) {
+          if (!other.results_.isEmpty()) {
+            if (results_.isEmpty()) {
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureResultsIsMutable();
+              results_.addAll(other.results_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.results_.isEmpty()) {
+            if (resultsBuilder_.isEmpty()) {
+              resultsBuilder_.dispose();
+              resultsBuilder_ = null;
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              resultsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResultsFieldBuilder() : null;
+            } else {
+              resultsBuilder_.addAllMessages(other.results_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                correlationId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult m =
+                    input.readMessage(
+                        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.parser(),
+                        extensionRegistry);
+                if (resultsBuilder_ == null) {
+                  ensureResultsIsMutable();
+                  results_.add(m);
+                } else {
+                  resultsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object correlationId_ = "";
+      /**
+       * <code>optional string correlation_id = 1;</code>
+       * @return Whether the correlationId field is set.
+       */
+      public boolean hasCorrelationId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string correlation_id = 1;</code>
+       * @return The correlationId.
+       */
+      public java.lang.String getCorrelationId() {
+        java.lang.Object ref = correlationId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          correlationId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string correlation_id = 1;</code>
+       * @return The bytes for correlationId.
+       */
+      public com.google.protobuf.ByteString
+          getCorrelationIdBytes() {
+        java.lang.Object ref = correlationId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          correlationId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string correlation_id = 1;</code>
+       * @param value The correlationId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCorrelationId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        correlationId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string correlation_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCorrelationId() {
+        correlationId_ = getDefaultInstance().getCorrelationId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string correlation_id = 1;</code>
+       * @param value The bytes for correlationId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCorrelationIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        correlationId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult> results_ =
+        java.util.Collections.emptyList();
+      private void ensureResultsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          results_ = new java.util.ArrayList<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult>(results_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResultOrBuilder> resultsBuilder_;
+
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public java.util.List<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult> getResultsList() {
+        if (resultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(results_);
+        } else {
+          return resultsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public int getResultsCount() {
+        if (resultsBuilder_ == null) {
+          return results_.size();
+        } else {
+          return resultsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult getResults(int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);
+        } else {
+          return resultsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public Builder setResults(
+          int index, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.set(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public Builder setResults(
+          int index, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public Builder addResults(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public Builder addResults(
+          int index, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public Builder addResults(
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public Builder addResults(
+          int index, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public Builder addAllResults(
+          java.lang.Iterable<? extends org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult> values) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, results_);
+          onChanged();
+        } else {
+          resultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public Builder clearResults() {
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public Builder removeResults(int index) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.remove(index);
+          onChanged();
+        } else {
+          resultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.Builder getResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResultOrBuilder getResultsOrBuilder(
+          int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);  } else {
+          return resultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public java.util.List<? extends org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResultOrBuilder> 
+           getResultsOrBuilderList() {
+        if (resultsBuilder_ != null) {
+          return resultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(results_);
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.Builder addResultsBuilder() {
+        return getResultsFieldBuilder().addBuilder(
+            org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.Builder addResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().addBuilder(
+            index, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SnmpResult results = 2;</code>
+       */
+      public java.util.List<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.Builder> 
+           getResultsBuilderList() {
+        return getResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResultOrBuilder> 
+          getResultsFieldBuilder() {
+        if (resultsBuilder_ == null) {
+          resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResult.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResultOrBuilder>(
+                  results_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          results_ = null;
+        }
+        return resultsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:SnmpResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:SnmpResponse)
+    private static final org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse();
+    }
+
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SnmpResponse>
+        PARSER = new com.google.protobuf.AbstractParser<SnmpResponse>() {
+      @java.lang.Override
+      public SnmpResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SnmpResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SnmpResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SnmpMultiResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SnmpMultiResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string error = 1;</code>
+     * @return Whether the error field is set.
+     */
+    boolean hasError();
+    /**
+     * <code>optional string error = 1;</code>
+     * @return The error.
+     */
+    java.lang.String getError();
+    /**
+     * <code>optional string error = 1;</code>
+     * @return The bytes for error.
+     */
+    com.google.protobuf.ByteString
+        getErrorBytes();
+
+    /**
+     * <code>repeated .SnmpResponse responses = 2;</code>
+     */
+    java.util.List<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse> 
+        getResponsesList();
+    /**
+     * <code>repeated .SnmpResponse responses = 2;</code>
+     */
+    org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse getResponses(int index);
+    /**
+     * <code>repeated .SnmpResponse responses = 2;</code>
+     */
+    int getResponsesCount();
+    /**
+     * <code>repeated .SnmpResponse responses = 2;</code>
+     */
+    java.util.List<? extends org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponseOrBuilder> 
+        getResponsesOrBuilderList();
+    /**
+     * <code>repeated .SnmpResponse responses = 2;</code>
+     */
+    org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponseOrBuilder getResponsesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code SnmpMultiResponse}
+   */
+  public static final class SnmpMultiResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:SnmpMultiResponse)
+      SnmpMultiResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SnmpMultiResponse.newBuilder() to construct.
+    private SnmpMultiResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SnmpMultiResponse() {
+      error_ = "";
+      responses_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SnmpMultiResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpMultiResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpMultiResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse.class, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ERROR_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object error_ = "";
+    /**
+     * <code>optional string error = 1;</code>
+     * @return Whether the error field is set.
+     */
+    @java.lang.Override
+    public boolean hasError() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string error = 1;</code>
+     * @return The error.
+     */
+    @java.lang.Override
+    public java.lang.String getError() {
+      java.lang.Object ref = error_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        error_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string error = 1;</code>
+     * @return The bytes for error.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrorBytes() {
+      java.lang.Object ref = error_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        error_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RESPONSES_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse> responses_;
+    /**
+     * <code>repeated .SnmpResponse responses = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse> getResponsesList() {
+      return responses_;
+    }
+    /**
+     * <code>repeated .SnmpResponse responses = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponseOrBuilder> 
+        getResponsesOrBuilderList() {
+      return responses_;
+    }
+    /**
+     * <code>repeated .SnmpResponse responses = 2;</code>
+     */
+    @java.lang.Override
+    public int getResponsesCount() {
+      return responses_.size();
+    }
+    /**
+     * <code>repeated .SnmpResponse responses = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse getResponses(int index) {
+      return responses_.get(index);
+    }
+    /**
+     * <code>repeated .SnmpResponse responses = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponseOrBuilder getResponsesOrBuilder(
+        int index) {
+      return responses_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, error_);
+      }
+      for (int i = 0; i < responses_.size(); i++) {
+        output.writeMessage(2, responses_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, error_);
+      }
+      for (int i = 0; i < responses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, responses_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse other = (org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse) obj;
+
+      if (hasError() != other.hasError()) return false;
+      if (hasError()) {
+        if (!getError()
+            .equals(other.getError())) return false;
+      }
+      if (!getResponsesList()
+          .equals(other.getResponsesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasError()) {
+        hash = (37 * hash) + ERROR_FIELD_NUMBER;
+        hash = (53 * hash) + getError().hashCode();
+      }
+      if (getResponsesCount() > 0) {
+        hash = (37 * hash) + RESPONSES_FIELD_NUMBER;
+        hash = (53 * hash) + getResponsesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SnmpMultiResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SnmpMultiResponse)
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpMultiResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpMultiResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse.class, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        error_ = "";
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+        } else {
+          responses_ = null;
+          responsesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.internal_static_SnmpMultiResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse getDefaultInstanceForType() {
+        return org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse build() {
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse buildPartial() {
+        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse result = new org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse result) {
+        if (responsesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            responses_ = java.util.Collections.unmodifiableList(responses_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.responses_ = responses_;
+        } else {
+          result.responses_ = responsesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.error_ = error_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse) {
+          return mergeFrom((org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse other) {
+        if (other == org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse.getDefaultInstance()) return this;
+        if (other.hasError()) {
+          error_ = other.error_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (responsesBuilder_ == null) {
+          if (!other.responses_.isEmpty()) {
+            if (responses_.isEmpty()) {
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureResponsesIsMutable();
+              responses_.addAll(other.responses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.responses_.isEmpty()) {
+            if (responsesBuilder_.isEmpty()) {
+              responsesBuilder_.dispose();
+              responsesBuilder_ = null;
+              responses_ = other.responses_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              responsesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResponsesFieldBuilder() : null;
+            } else {
+              responsesBuilder_.addAllMessages(other.responses_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                error_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse m =
+                    input.readMessage(
+                        org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.parser(),
+                        extensionRegistry);
+                if (responsesBuilder_ == null) {
+                  ensureResponsesIsMutable();
+                  responses_.add(m);
+                } else {
+                  responsesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object error_ = "";
+      /**
+       * <code>optional string error = 1;</code>
+       * @return Whether the error field is set.
+       */
+      public boolean hasError() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @return The error.
+       */
+      public java.lang.String getError() {
+        java.lang.Object ref = error_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          error_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @return The bytes for error.
+       */
+      public com.google.protobuf.ByteString
+          getErrorBytes() {
+        java.lang.Object ref = error_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          error_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @param value The error to set.
+       * @return This builder for chaining.
+       */
+      public Builder setError(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        error_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearError() {
+        error_ = getDefaultInstance().getError();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @param value The bytes for error to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        error_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse> responses_ =
+        java.util.Collections.emptyList();
+      private void ensureResponsesIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          responses_ = new java.util.ArrayList<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse>(responses_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponseOrBuilder> responsesBuilder_;
+
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public java.util.List<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse> getResponsesList() {
+        if (responsesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(responses_);
+        } else {
+          return responsesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public int getResponsesCount() {
+        if (responsesBuilder_ == null) {
+          return responses_.size();
+        } else {
+          return responsesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse getResponses(int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);
+        } else {
+          return responsesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public Builder setResponses(
+          int index, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.set(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public Builder setResponses(
+          int index, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public Builder addResponses(org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public Builder addResponses(
+          int index, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse value) {
+        if (responsesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResponsesIsMutable();
+          responses_.add(index, value);
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public Builder addResponses(
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public Builder addResponses(
+          int index, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.Builder builderForValue) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          responsesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public Builder addAllResponses(
+          java.lang.Iterable<? extends org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse> values) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, responses_);
+          onChanged();
+        } else {
+          responsesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public Builder clearResponses() {
+        if (responsesBuilder_ == null) {
+          responses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          responsesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public Builder removeResponses(int index) {
+        if (responsesBuilder_ == null) {
+          ensureResponsesIsMutable();
+          responses_.remove(index);
+          onChanged();
+        } else {
+          responsesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.Builder getResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponseOrBuilder getResponsesOrBuilder(
+          int index) {
+        if (responsesBuilder_ == null) {
+          return responses_.get(index);  } else {
+          return responsesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public java.util.List<? extends org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponseOrBuilder> 
+           getResponsesOrBuilderList() {
+        if (responsesBuilder_ != null) {
+          return responsesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(responses_);
+        }
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.Builder addResponsesBuilder() {
+        return getResponsesFieldBuilder().addBuilder(
+            org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.Builder addResponsesBuilder(
+          int index) {
+        return getResponsesFieldBuilder().addBuilder(
+            index, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SnmpResponse responses = 2;</code>
+       */
+      public java.util.List<org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.Builder> 
+           getResponsesBuilderList() {
+        return getResponsesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponseOrBuilder> 
+          getResponsesFieldBuilder() {
+        if (responsesBuilder_ == null) {
+          responsesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponse.Builder, org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpResponseOrBuilder>(
+                  responses_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          responses_ = null;
+        }
+        return responsesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:SnmpMultiResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:SnmpMultiResponse)
+    private static final org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse();
+    }
+
+    public static org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SnmpMultiResponse>
+        PARSER = new com.google.protobuf.AbstractParser<SnmpMultiResponse>() {
+      @java.lang.Override
+      public SnmpMultiResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SnmpMultiResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SnmpMultiResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.snmp.proxy.common.proto.SnmpProxyProtos.SnmpMultiResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SnmpValue_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SnmpValue_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Oid_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Oid_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SnmpResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SnmpResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SnmpResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SnmpResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SnmpMultiResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SnmpMultiResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\020snmp-proxy.proto\"(\n\tSnmpValue\022\014\n\004type\030" +
+      "\001 \001(\005\022\r\n\005bytes\030\002 \001(\014\"\022\n\003Oid\022\013\n\003ids\030\001 \003(\r" +
+      "\"t\n\nSnmpResult\022\022\n\004base\030\001 \001(\0132\004.Oid\022\033\n\010in" +
+      "stance\030\002 \001(\0132\004.OidH\000\210\001\001\022\036\n\005value\030\003 \001(\0132\n" +
+      ".SnmpValueH\001\210\001\001B\013\n\t_instanceB\010\n\006_value\"\\" +
+      "\n\014SnmpResponse\022\033\n\016correlation_id\030\001 \001(\tH\000" +
+      "\210\001\001\022\034\n\007results\030\002 \003(\0132\013.SnmpResultB\021\n\017_co" +
+      "rrelation_id\"S\n\021SnmpMultiResponse\022\022\n\005err" +
+      "or\030\001 \001(\tH\000\210\001\001\022 \n\tresponses\030\002 \003(\0132\r.SnmpR" +
+      "esponseB\010\n\006_errorB=\n*org.opennms.netmgt." +
+      "snmp.proxy.common.protoB\017SnmpProxyProtos" +
+      "b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_SnmpValue_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_SnmpValue_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SnmpValue_descriptor,
+        new java.lang.String[] { "Type", "Bytes", });
+    internal_static_Oid_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_Oid_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Oid_descriptor,
+        new java.lang.String[] { "Ids", });
+    internal_static_SnmpResult_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_SnmpResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SnmpResult_descriptor,
+        new java.lang.String[] { "Base", "Instance", "Value", "Instance", "Value", });
+    internal_static_SnmpResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_SnmpResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SnmpResponse_descriptor,
+        new java.lang.String[] { "CorrelationId", "Results", "CorrelationId", });
+    internal_static_SnmpMultiResponse_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_SnmpMultiResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SnmpMultiResponse_descriptor,
+        new java.lang.String[] { "Error", "Responses", "Error", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
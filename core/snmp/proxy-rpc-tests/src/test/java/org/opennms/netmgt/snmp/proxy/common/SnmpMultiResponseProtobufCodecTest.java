@@ -0,0 +1,136 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.snmp.proxy.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigInteger;
+import java.net.InetAddress;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.core.rpc.xml.AbstractXmlRpcModule;
+import org.opennms.netmgt.snmp.SnmpInstId;
+import org.opennms.netmgt.snmp.SnmpObjId;
+import org.opennms.netmgt.snmp.SnmpResult;
+import org.opennms.netmgt.snmp.SnmpValueFactory;
+import org.opennms.netmgt.snmp.snmp4j.Snmp4JValueFactory;
+
+public class SnmpMultiResponseProtobufCodecTest {
+
+    private static final String CODEC_PROPERTY = AbstractXmlRpcModule.CODEC_SYS_PROP_PREFIX + SnmpProxyRpcModule.RPC_MODULE_ID + AbstractXmlRpcModule.CODEC_SYS_PROP_SUFFIX;
+
+    private final SnmpProxyRpcModule module = new SnmpProxyRpcModule();
+
+    /**
+     * The marshaled request advertises the binary format, as sent by OpenNMS.
+     */
+    private final String request = module.marshalRequest(new SnmpRequestDTO());
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CODEC_PROPERTY);
+    }
+
+    @Test
+    public void canRoundTripMultiResponse() throws Exception {
+        final SnmpMultiResponseDTO multiResponse = createMultiResponse();
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        final String marshaled = module.marshalResponse(request, multiResponse);
+        assertTrue(marshaled, marshaled.startsWith("!ON1:"));
+        assertEquals(multiResponse, module.unmarshalResponse(marshaled));
+    }
+
+    @Test
+    public void canRoundTripError() {
+        final SnmpMultiResponseDTO multiResponse = new SnmpMultiResponseDTO(new IllegalStateException("no route to agent"));
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        final SnmpMultiResponseDTO actual = module.unmarshalResponse(module.marshalResponse(request, multiResponse));
+        assertEquals(multiResponse.getErrorMessage(), actual.getErrorMessage());
+        assertEquals(0, actual.getResponses().size());
+    }
+
+    @Test
+    public void acceptsBothFormats() {
+        final SnmpMultiResponseDTO multiResponse = createMultiResponse();
+
+        final String xml = module.marshalResponse(multiResponse);
+        assertTrue(xml, xml.startsWith("<"));
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        assertEquals(multiResponse, module.unmarshalResponse(xml));
+        System.clearProperty(CODEC_PROPERTY);
+        assertEquals(multiResponse, module.unmarshalResponse(module.marshalResponse(request, multiResponse)));
+    }
+
+    @Test
+    public void rejectsNewerVersions() {
+        try {
+            module.unmarshalResponse("!ON" + (SnmpMultiResponseProtobufCodec.VERSION + 1) + ":");
+            fail("Expected the payload to be rejected.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("only versions up to " + SnmpMultiResponseProtobufCodec.VERSION));
+        }
+    }
+
+    @Test
+    public void rejectsBinaryRequests() {
+        try {
+            module.unmarshalRequest("!ON1:");
+            fail("Expected the payload to be rejected.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("only supports XML"));
+        }
+    }
+
+    private static SnmpMultiResponseDTO createMultiResponse() {
+        final SnmpValueFactory valueFactory = new Snmp4JValueFactory();
+
+        final SnmpResponseDTO walkResponse = new SnmpResponseDTO();
+        walkResponse.setCorrelationId("walk-1");
+        for (int i = 1; i <= 3; i++) {
+            walkResponse.getResults().add(new SnmpResult(SnmpObjId.get(".1.3.6.1.2.1.31.1.1.1.6"), new SnmpInstId(i),
+                    valueFactory.getCounter64(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.valueOf(i)))));
+            walkResponse.getResults().add(new SnmpResult(SnmpObjId.get(".1.3.6.1.2.1.31.1.1.1.1"), new SnmpInstId(i),
+                    valueFactory.getOctetString(("eth" + i).getBytes())));
+        }
+
+        final SnmpResponseDTO getResponse = new SnmpResponseDTO();
+        getResponse.setCorrelationId("get-1");
+        getResponse.getResults().add(new SnmpResult(SnmpObjId.get(".1.3.6.1.2.1.4.20.1.1"), new SnmpInstId(".10.0.0.1"),
+                valueFactory.getIpAddress(InetAddress.getLoopbackAddress())));
+        getResponse.getResults().add(new SnmpResult(SnmpObjId.get(".1.3.6.1.2.1.1.3"), new SnmpInstId(0),
+                valueFactory.getTimeTicks(42)));
+        getResponse.getResults().add(new SnmpResult(SnmpObjId.get(".1.3.6.1.2.1.1.99"), new SnmpInstId(0),
+                valueFactory.getNull()));
+        getResponse.getResults().add(new SnmpResult(SnmpObjId.get(".1.3.6.1.2.1.1.98"), null, null));
+
+        final SnmpMultiResponseDTO multiResponse = new SnmpMultiResponseDTO();
+        multiResponse.getResponses().add(walkResponse);
+        multiResponse.getResponses().add(getResponse);
+        return multiResponse;
+    }
+}
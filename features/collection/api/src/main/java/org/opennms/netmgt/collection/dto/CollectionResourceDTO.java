@@ -103,6 +103,14 @@ public class CollectionResourceDTO {
         return resource;
     }
 
+    /**
+     * Returns the resource as it was set, without resolving
+     * {@link DeferredGenericTypeResource} resources.
+     */
+    public Resource getUnresolvedResource() {
+        return resource;
+    }
+
     public void setResource(Resource resource) {
         this.resource = resource;
     }
@@ -138,10 +138,42 @@ public class CollectionSetDTO implements CollectionSet {
         return timestamp;
     }
 
+    public CollectionAgentDTO getCollectionAgent() {
+        return agent;
+    }
+
     public void setCollectionAgent(CollectionAgentDTO agent) {
         this.agent = agent;
     }
 
+    public void setStatus(CollectionStatus status) {
+        this.status = status;
+    }
+
+    public void setCollectionTimestamp(Date timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public List<CollectionResourceDTO> getCollectionResources() {
+        return collectionResources;
+    }
+
+    public void setCollectionResources(List<CollectionResourceDTO> collectionResources) {
+        this.collectionResources = collectionResources;
+    }
+
+    public Boolean getDisableCounterPersistence() {
+        return disableCounterPersistence;
+    }
+
+    public void setDisableCounterPersistence(Boolean disableCounterPersistence) {
+        this.disableCounterPersistence = disableCounterPersistence;
+    }
+
+    public void setSequenceNumber(Long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
     private Set<CollectionResource> buildCollectionResources() {
         final Set<CollectionResource> collectionResources = new LinkedHashSet<>();
         for (CollectionResourceDTO entry : this.collectionResources) {
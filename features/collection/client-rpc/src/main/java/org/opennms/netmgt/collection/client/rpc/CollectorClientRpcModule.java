@@ -51,7 +51,7 @@ public class CollectorClientRpcModule extends AbstractXmlRpcModule<CollectorRequ
     private Executor executor;
 
     public CollectorClientRpcModule() {
-        super(CollectorRequestDTO.class, CollectorResponseDTO.class);        
+        super(CollectorRequestDTO.class, CollectorResponseDTO.class, null, new CollectorResponseProtobufCodec());
     }
 
     @Override
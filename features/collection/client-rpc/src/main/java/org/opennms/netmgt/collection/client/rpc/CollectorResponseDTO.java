@@ -63,6 +63,10 @@ public class CollectorResponseDTO implements RpcResponse {
         return error;
     }
 
+    public void setErrorMessage(String error) {
+        this.error = error;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(error, collectionSet);
@@ -0,0 +1,310 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.collection.client.rpc;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.opennms.core.rpc.xml.RpcMessageCodec;
+import org.opennms.netmgt.collection.api.AttributeType;
+import org.opennms.netmgt.collection.api.CollectionStatus;
+import org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos;
+import org.opennms.netmgt.collection.dto.CollectionAgentDTO;
+import org.opennms.netmgt.collection.dto.CollectionResourceDTO;
+import org.opennms.netmgt.collection.dto.CollectionSetDTO;
+import org.opennms.netmgt.collection.support.builder.Attribute;
+import org.opennms.netmgt.collection.support.builder.DeferredGenericTypeResource;
+import org.opennms.netmgt.collection.support.builder.InterfaceLevelResource;
+import org.opennms.netmgt.collection.support.builder.NodeLevelResource;
+import org.opennms.netmgt.collection.support.builder.NumericAttribute;
+import org.opennms.netmgt.collection.support.builder.Resource;
+import org.opennms.netmgt.collection.support.builder.StringAttribute;
+import org.opennms.netmgt.model.ResourcePath;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * Protobuf representation of the {@link CollectorResponseDTO}, see <code>collector-rpc.proto</code>.
+ *
+ * Like the XML representation, generic type resources are sent as
+ * {@link DeferredGenericTypeResource}s and only resolved by the receiver, numeric
+ * values are sent as doubles and only string valued agent attributes are retained.
+ */
+public class CollectorResponseProtobufCodec implements RpcMessageCodec<CollectorResponseDTO> {
+
+    public static final int VERSION = 1;
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] encode(CollectorResponseDTO response) {
+        final CollectorRpcProtos.CollectorResponse.Builder builder = CollectorRpcProtos.CollectorResponse.newBuilder();
+        if (response.getErrorMessage() != null) {
+            builder.setError(response.getErrorMessage());
+        }
+        if (response.getCollectionSet() != null) {
+            builder.setCollectionSet(toProto((CollectionSetDTO)response.getCollectionSet()));
+        }
+        return builder.build().toByteArray();
+    }
+
+    @Override
+    public CollectorResponseDTO decode(byte[] bytes) throws IOException {
+        final CollectorRpcProtos.CollectorResponse proto = CollectorRpcProtos.CollectorResponse.parseFrom(bytes);
+        final CollectorResponseDTO response = new CollectorResponseDTO(proto.hasCollectionSet() ? fromProto(proto.getCollectionSet()) : null);
+        if (proto.hasError()) {
+            response.setErrorMessage(proto.getError());
+        }
+        return response;
+    }
+
+    private static CollectorRpcProtos.CollectionSet toProto(CollectionSetDTO collectionSet) {
+        final CollectorRpcProtos.CollectionSet.Builder builder = CollectorRpcProtos.CollectionSet.newBuilder();
+        if (collectionSet.getCollectionAgent() != null) {
+            builder.setAgent(toProto(collectionSet.getCollectionAgent()));
+        }
+        if (collectionSet.getStatus() != null) {
+            builder.setStatus(CollectorRpcProtos.CollectionStatus.valueOf(collectionSet.getStatus().name()));
+        }
+        if (collectionSet.getCollectionTimestamp() != null) {
+            builder.setTimestamp(collectionSet.getCollectionTimestamp().getTime());
+        }
+        for (CollectionResourceDTO collectionResource : collectionSet.getCollectionResources()) {
+            builder.addResources(toProto(collectionResource));
+        }
+        if (collectionSet.getDisableCounterPersistence() != null) {
+            builder.setDisableCounterPersistence(collectionSet.getDisableCounterPersistence());
+        }
+        collectionSet.getSequenceNumber().ifPresent(builder::setSequenceNumber);
+        return builder.build();
+    }
+
+    private static CollectionSetDTO fromProto(CollectorRpcProtos.CollectionSet proto) throws IOException {
+        final CollectionSetDTO collectionSet = new CollectionSetDTO();
+        if (proto.hasAgent()) {
+            collectionSet.setCollectionAgent(fromProto(proto.getAgent()));
+        }
+        collectionSet.setStatus(proto.hasStatus() ? CollectionStatus.valueOf(proto.getStatus().name()) : null);
+        if (proto.hasTimestamp()) {
+            collectionSet.setCollectionTimestamp(new Date(proto.getTimestamp()));
+        }
+        final List<CollectionResourceDTO> collectionResources = new ArrayList<>(proto.getResourcesCount());
+        for (CollectorRpcProtos.CollectionResource collectionResource : proto.getResourcesList()) {
+            collectionResources.add(fromProto(collectionResource));
+        }
+        collectionSet.setCollectionResources(collectionResources);
+        if (proto.hasDisableCounterPersistence()) {
+            collectionSet.setDisableCounterPersistence(proto.getDisableCounterPersistence());
+        }
+        if (proto.hasSequenceNumber()) {
+            collectionSet.setSequenceNumber(proto.getSequenceNumber());
+        }
+        return collectionSet;
+    }
+
+    private static CollectorRpcProtos.CollectionAgent toProto(CollectionAgentDTO agent) {
+        final CollectorRpcProtos.CollectionAgent.Builder builder = CollectorRpcProtos.CollectionAgent.newBuilder()
+                .setNodeId(agent.getNodeId())
+                .setSysUpTime(agent.getSavedSysUpTime());
+        for (String key : agent.getAttributeNames()) {
+            final Object value = agent.getAttribute(key);
+            if (value instanceof String) {
+                builder.addAttributes(CollectorRpcProtos.CollectionAgentAttribute.newBuilder()
+                        .setKey(key)
+                        .setValue((String)value));
+            }
+        }
+        if (agent.getAddress() != null) {
+            builder.setAddress(ByteString.copyFrom(agent.getAddress().getAddress()));
+        }
+        if (agent.isStoreByForeignSource() != null) {
+            builder.setStoreByForeignSource(agent.isStoreByForeignSource());
+        }
+        if (agent.getNodeLabel() != null) {
+            builder.setNodeLabel(agent.getNodeLabel());
+        }
+        if (agent.getForeignSource() != null) {
+            builder.setForeignSource(agent.getForeignSource());
+        }
+        if (agent.getForeignId() != null) {
+            builder.setForeignId(agent.getForeignId());
+        }
+        if (agent.getLocationName() != null) {
+            builder.setLocation(agent.getLocationName());
+        }
+        if (agent.getStorageResourcePath() != null) {
+            builder.setStorageResourcePath(ResourcePath.toString(agent.getStorageResourcePath()));
+        }
+        return builder.build();
+    }
+
+    private static CollectionAgentDTO fromProto(CollectorRpcProtos.CollectionAgent proto) throws IOException {
+        final CollectionAgentDTO agent = new CollectionAgentDTO();
+        for (CollectorRpcProtos.CollectionAgentAttribute attribute : proto.getAttributesList()) {
+            agent.setAttribute(attribute.getKey(), attribute.getValue());
+        }
+        if (proto.hasAddress()) {
+            try {
+                agent.setAddress(InetAddress.getByAddress(proto.getAddress().toByteArray()));
+            } catch (UnknownHostException e) {
+                throw new InvalidProtocolBufferException(e.getMessage());
+            }
+        }
+        if (proto.hasStoreByForeignSource()) {
+            agent.setStoreByForeignSource(proto.getStoreByForeignSource());
+        }
+        agent.setNodeId(proto.getNodeId());
+        if (proto.hasNodeLabel()) {
+            agent.setNodeLabel(proto.getNodeLabel());
+        }
+        if (proto.hasForeignSource()) {
+            agent.setForeignSource(proto.getForeignSource());
+        }
+        if (proto.hasForeignId()) {
+            agent.setForeignId(proto.getForeignId());
+        }
+        if (proto.hasLocation()) {
+            agent.setLocationName(proto.getLocation());
+        }
+        if (proto.hasStorageResourcePath()) {
+            agent.setStorageResourcePath(ResourcePath.fromString(proto.getStorageResourcePath()));
+        }
+        agent.setSavedSysUpTime(proto.getSysUpTime());
+        return agent;
+    }
+
+    private static CollectorRpcProtos.CollectionResource toProto(CollectionResourceDTO collectionResource) {
+        final CollectorRpcProtos.CollectionResource.Builder builder = CollectorRpcProtos.CollectionResource.newBuilder();
+        final Resource resource = collectionResource.getUnresolvedResource();
+        if (resource instanceof NodeLevelResource) {
+            builder.setNode(toProto((NodeLevelResource)resource));
+        } else if (resource instanceof InterfaceLevelResource) {
+            final InterfaceLevelResource interfaceResource = (InterfaceLevelResource)resource;
+            final CollectorRpcProtos.InterfaceLevelResource.Builder interfaceBuilder = CollectorRpcProtos.InterfaceLevelResource.newBuilder()
+                    .setNode(toProto(interfaceResource.getParent()))
+                    .setIfName(interfaceResource.getIfName());
+            if (interfaceResource.getTimestamp() != null) {
+                interfaceBuilder.setTimestamp(interfaceResource.getTimestamp().getTime());
+            }
+            builder.setInterface(interfaceBuilder);
+        } else if (resource instanceof DeferredGenericTypeResource) {
+            final DeferredGenericTypeResource genericResource = (DeferredGenericTypeResource)resource;
+            final CollectorRpcProtos.GenericTypeResource.Builder genericBuilder = CollectorRpcProtos.GenericTypeResource.newBuilder()
+                    .setNode(toProto(genericResource.getParent()))
+                    .setTypeName(genericResource.getTypeName())
+                    .setInstance(genericResource.getUnmodifiedInstance());
+            if (genericResource.getFallbackTypeName() != null) {
+                genericBuilder.setFallbackTypeName(genericResource.getFallbackTypeName());
+            }
+            if (genericResource.getTimestamp() != null) {
+                genericBuilder.setTimestamp(genericResource.getTimestamp().getTime());
+            }
+            builder.setGeneric(genericBuilder);
+        } else if (resource != null) {
+            throw new IllegalArgumentException("Unsupported resource type: " + resource.getClass().getName());
+        }
+        for (Attribute<?> attribute : collectionResource.getAttributes()) {
+            final CollectorRpcProtos.Attribute.Builder attributeBuilder = CollectorRpcProtos.Attribute.newBuilder()
+                    .setGroup(attribute.getGroup())
+                    .setName(attribute.getName())
+                    .setType(CollectorRpcProtos.AttributeType.valueOf(attribute.getType().name()));
+            if (attribute.getIdentifier() != null) {
+                attributeBuilder.setIdentifier(attribute.getIdentifier());
+            }
+            if (attribute instanceof StringAttribute) {
+                attributeBuilder.setStringValue(attribute.getStringValue());
+            } else {
+                attributeBuilder.setNumericValue(attribute.getNumericValue().doubleValue());
+            }
+            builder.addAttributes(attributeBuilder);
+        }
+        return builder.build();
+    }
+
+    private static CollectionResourceDTO fromProto(CollectorRpcProtos.CollectionResource proto) {
+        final Resource resource;
+        switch (proto.getResourceCase()) {
+            case NODE:
+                resource = fromProto(proto.getNode());
+                break;
+            case INTERFACE:
+                final CollectorRpcProtos.InterfaceLevelResource interfaceProto = proto.getInterface();
+                final InterfaceLevelResource interfaceResource = new InterfaceLevelResource(fromProto(interfaceProto.getNode()), interfaceProto.getIfName());
+                if (interfaceProto.hasTimestamp()) {
+                    interfaceResource.setTimestamp(new Date(interfaceProto.getTimestamp()));
+                }
+                resource = interfaceResource;
+                break;
+            case GENERIC:
+                final CollectorRpcProtos.GenericTypeResource genericProto = proto.getGeneric();
+                final DeferredGenericTypeResource genericResource = new DeferredGenericTypeResource(fromProto(genericProto.getNode()),
+                        genericProto.getTypeName(), genericProto.hasFallbackTypeName() ? genericProto.getFallbackTypeName() : null,
+                        genericProto.getInstance());
+                if (genericProto.hasTimestamp()) {
+                    genericResource.setTimestamp(new Date(genericProto.getTimestamp()));
+                }
+                resource = genericResource;
+                break;
+            default:
+                resource = null;
+        }
+        final List<Attribute<?>> attributes = new ArrayList<>(proto.getAttributesCount());
+        for (CollectorRpcProtos.Attribute attributeProto : proto.getAttributesList()) {
+            final String identifier = attributeProto.hasIdentifier() ? attributeProto.getIdentifier() : null;
+            if (attributeProto.getValueCase() == CollectorRpcProtos.Attribute.ValueCase.STRING_VALUE) {
+                attributes.add(new StringAttribute(attributeProto.getGroup(), attributeProto.getName(), attributeProto.getStringValue(), identifier));
+            } else {
+                attributes.add(new NumericAttribute(attributeProto.getGroup(), attributeProto.getName(), attributeProto.getNumericValue(),
+                        AttributeType.valueOf(attributeProto.getType().name()), identifier));
+            }
+        }
+        return new CollectionResourceDTO(resource, attributes);
+    }
+
+    private static CollectorRpcProtos.NodeLevelResource toProto(NodeLevelResource resource) {
+        final CollectorRpcProtos.NodeLevelResource.Builder builder = CollectorRpcProtos.NodeLevelResource.newBuilder()
+                .setNodeId(resource.getNodeId());
+        if (resource.getPath() != null) {
+            builder.setPath(resource.getPath());
+        }
+        if (resource.getTimestamp() != null) {
+            builder.setTimestamp(resource.getTimestamp().getTime());
+        }
+        return builder.build();
+    }
+
+    private static NodeLevelResource fromProto(CollectorRpcProtos.NodeLevelResource proto) {
+        final NodeLevelResource resource = new NodeLevelResource(proto.getNodeId(), proto.hasPath() ? proto.getPath() : null);
+        if (proto.hasTimestamp()) {
+            resource.setTimestamp(new Date(proto.getTimestamp()));
+        }
+        return resource;
+    }
+}
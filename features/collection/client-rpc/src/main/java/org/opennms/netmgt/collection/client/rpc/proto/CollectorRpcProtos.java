@@ -0,0 +1,10691 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: collector-rpc.proto
+
+package org.opennms.netmgt.collection.client.rpc.proto;
+
+public final class CollectorRpcProtos {
+  private CollectorRpcProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  /**
+   * Protobuf enum {@code CollectionStatus}
+   */
+  public enum CollectionStatus
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>UNKNOWN = 0;</code>
+     */
+    UNKNOWN(0),
+    /**
+     * <code>SUCCEEDED = 1;</code>
+     */
+    SUCCEEDED(1),
+    /**
+     * <code>FAILED = 2;</code>
+     */
+    FAILED(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>UNKNOWN = 0;</code>
+     */
+    public static final int UNKNOWN_VALUE = 0;
+    /**
+     * <code>SUCCEEDED = 1;</code>
+     */
+    public static final int SUCCEEDED_VALUE = 1;
+    /**
+     * <code>FAILED = 2;</code>
+     */
+    public static final int FAILED_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static CollectionStatus valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static CollectionStatus forNumber(int value) {
+      switch (value) {
+        case 0: return UNKNOWN;
+        case 1: return SUCCEEDED;
+        case 2: return FAILED;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<CollectionStatus>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        CollectionStatus> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<CollectionStatus>() {
+            public CollectionStatus findValueByNumber(int number) {
+              return CollectionStatus.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final CollectionStatus[] VALUES = values();
+
+    public static CollectionStatus valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private CollectionStatus(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:CollectionStatus)
+  }
+
+  /**
+   * Protobuf enum {@code AttributeType}
+   */
+  public enum AttributeType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>GAUGE = 0;</code>
+     */
+    GAUGE(0),
+    /**
+     * <code>COUNTER = 1;</code>
+     */
+    COUNTER(1),
+    /**
+     * <code>STRING = 2;</code>
+     */
+    STRING(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>GAUGE = 0;</code>
+     */
+    public static final int GAUGE_VALUE = 0;
+    /**
+     * <code>COUNTER = 1;</code>
+     */
+    public static final int COUNTER_VALUE = 1;
+    /**
+     * <code>STRING = 2;</code>
+     */
+    public static final int STRING_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static AttributeType valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static AttributeType forNumber(int value) {
+      switch (value) {
+        case 0: return GAUGE;
+        case 1: return COUNTER;
+        case 2: return STRING;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<AttributeType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        AttributeType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<AttributeType>() {
+            public AttributeType findValueByNumber(int number) {
+              return AttributeType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.getDescriptor().getEnumTypes().get(1);
+    }
+
+    private static final AttributeType[] VALUES = values();
+
+    public static AttributeType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private AttributeType(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:AttributeType)
+  }
+
+  public interface CollectionAgentAttributeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CollectionAgentAttribute)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string key = 1;</code>
+     * @return The key.
+     */
+    java.lang.String getKey();
+    /**
+     * <code>string key = 1;</code>
+     * @return The bytes for key.
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    /**
+     * <code>string value = 2;</code>
+     * @return The value.
+     */
+    java.lang.String getValue();
+    /**
+     * <code>string value = 2;</code>
+     * @return The bytes for value.
+     */
+    com.google.protobuf.ByteString
+        getValueBytes();
+  }
+  /**
+   * Protobuf type {@code CollectionAgentAttribute}
+   */
+  public static final class CollectionAgentAttribute extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:CollectionAgentAttribute)
+      CollectionAgentAttributeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CollectionAgentAttribute.newBuilder() to construct.
+    private CollectionAgentAttribute(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CollectionAgentAttribute() {
+      key_ = "";
+      value_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CollectionAgentAttribute();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionAgentAttribute_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionAgentAttribute_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.Builder.class);
+    }
+
+    public static final int KEY_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object key_ = "";
+    /**
+     * <code>string key = 1;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        key_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string key = 1;</code>
+     * @return The bytes for key.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object value_ = "";
+    /**
+     * <code>string value = 2;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        value_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string value = 2;</code>
+     * @return The bytes for value.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(key_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(value_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, value_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(key_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(value_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, value_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute other = (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute) obj;
+
+      if (!getKey()
+          .equals(other.getKey())) return false;
+      if (!getValue()
+          .equals(other.getValue())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getKey().hashCode();
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CollectionAgentAttribute}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CollectionAgentAttribute)
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttributeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionAgentAttribute_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionAgentAttribute_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        key_ = "";
+        value_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionAgentAttribute_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute getDefaultInstanceForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute build() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute buildPartial() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute result = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.key_ = key_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.value_ = value_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute) {
+          return mergeFrom((org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute other) {
+        if (other == org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.getDefaultInstance()) return this;
+        if (!other.getKey().isEmpty()) {
+          key_ = other.key_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getValue().isEmpty()) {
+          value_ = other.value_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                key_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                value_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object key_ = "";
+      /**
+       * <code>string key = 1;</code>
+       * @return The key.
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          key_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return The bytes for key.
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @param value The key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        key_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKey() {
+        key_ = getDefaultInstance().getKey();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @param value The bytes for key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        key_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object value_ = "";
+      /**
+       * <code>string value = 2;</code>
+       * @return The value.
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          value_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string value = 2;</code>
+       * @return The bytes for value.
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string value = 2;</code>
+       * @param value The value to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValue(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        value_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string value = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValue() {
+        value_ = getDefaultInstance().getValue();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string value = 2;</code>
+       * @param value The bytes for value to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        value_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:CollectionAgentAttribute)
+    }
+
+    // @@protoc_insertion_point(class_scope:CollectionAgentAttribute)
+    private static final org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute();
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CollectionAgentAttribute>
+        PARSER = new com.google.protobuf.AbstractParser<CollectionAgentAttribute>() {
+      @java.lang.Override
+      public CollectionAgentAttribute parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CollectionAgentAttribute> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CollectionAgentAttribute> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CollectionAgentOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CollectionAgent)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+     */
+    java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute> 
+        getAttributesList();
+    /**
+     * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute getAttributes(int index);
+    /**
+     * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+     */
+    int getAttributesCount();
+    /**
+     * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+     */
+    java.util.List<? extends org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttributeOrBuilder> 
+        getAttributesOrBuilderList();
+    /**
+     * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttributeOrBuilder getAttributesOrBuilder(
+        int index);
+
+    /**
+     * <code>optional bytes address = 2;</code>
+     * @return Whether the address field is set.
+     */
+    boolean hasAddress();
+    /**
+     * <code>optional bytes address = 2;</code>
+     * @return The address.
+     */
+    com.google.protobuf.ByteString getAddress();
+
+    /**
+     * <code>optional bool store_by_foreign_source = 3;</code>
+     * @return Whether the storeByForeignSource field is set.
+     */
+    boolean hasStoreByForeignSource();
+    /**
+     * <code>optional bool store_by_foreign_source = 3;</code>
+     * @return The storeByForeignSource.
+     */
+    boolean getStoreByForeignSource();
+
+    /**
+     * <code>int32 node_id = 4;</code>
+     * @return The nodeId.
+     */
+    int getNodeId();
+
+    /**
+     * <code>optional string node_label = 5;</code>
+     * @return Whether the nodeLabel field is set.
+     */
+    boolean hasNodeLabel();
+    /**
+     * <code>optional string node_label = 5;</code>
+     * @return The nodeLabel.
+     */
+    java.lang.String getNodeLabel();
+    /**
+     * <code>optional string node_label = 5;</code>
+     * @return The bytes for nodeLabel.
+     */
+    com.google.protobuf.ByteString
+        getNodeLabelBytes();
+
+    /**
+     * <code>optional string foreign_source = 6;</code>
+     * @return Whether the foreignSource field is set.
+     */
+    boolean hasForeignSource();
+    /**
+     * <code>optional string foreign_source = 6;</code>
+     * @return The foreignSource.
+     */
+    java.lang.String getForeignSource();
+    /**
+     * <code>optional string foreign_source = 6;</code>
+     * @return The bytes for foreignSource.
+     */
+    com.google.protobuf.ByteString
+        getForeignSourceBytes();
+
+    /**
+     * <code>optional string foreign_id = 7;</code>
+     * @return Whether the foreignId field is set.
+     */
+    boolean hasForeignId();
+    /**
+     * <code>optional string foreign_id = 7;</code>
+     * @return The foreignId.
+     */
+    java.lang.String getForeignId();
+    /**
+     * <code>optional string foreign_id = 7;</code>
+     * @return The bytes for foreignId.
+     */
+    com.google.protobuf.ByteString
+        getForeignIdBytes();
+
+    /**
+     * <code>optional string location = 8;</code>
+     * @return Whether the location field is set.
+     */
+    boolean hasLocation();
+    /**
+     * <code>optional string location = 8;</code>
+     * @return The location.
+     */
+    java.lang.String getLocation();
+    /**
+     * <code>optional string location = 8;</code>
+     * @return The bytes for location.
+     */
+    com.google.protobuf.ByteString
+        getLocationBytes();
+
+    /**
+     * <code>optional string storage_resource_path = 9;</code>
+     * @return Whether the storageResourcePath field is set.
+     */
+    boolean hasStorageResourcePath();
+    /**
+     * <code>optional string storage_resource_path = 9;</code>
+     * @return The storageResourcePath.
+     */
+    java.lang.String getStorageResourcePath();
+    /**
+     * <code>optional string storage_resource_path = 9;</code>
+     * @return The bytes for storageResourcePath.
+     */
+    com.google.protobuf.ByteString
+        getStorageResourcePathBytes();
+
+    /**
+     * <code>int64 sys_up_time = 10;</code>
+     * @return The sysUpTime.
+     */
+    long getSysUpTime();
+  }
+  /**
+   * Protobuf type {@code CollectionAgent}
+   */
+  public static final class CollectionAgent extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:CollectionAgent)
+      CollectionAgentOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CollectionAgent.newBuilder() to construct.
+    private CollectionAgent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CollectionAgent() {
+      attributes_ = java.util.Collections.emptyList();
+      address_ = com.google.protobuf.ByteString.EMPTY;
+      nodeLabel_ = "";
+      foreignSource_ = "";
+      foreignId_ = "";
+      location_ = "";
+      storageResourcePath_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CollectionAgent();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionAgent_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionAgent_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ATTRIBUTES_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute> attributes_;
+    /**
+     * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute> getAttributesList() {
+      return attributes_;
+    }
+    /**
+     * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttributeOrBuilder> 
+        getAttributesOrBuilderList() {
+      return attributes_;
+    }
+    /**
+     * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+     */
+    @java.lang.Override
+    public int getAttributesCount() {
+      return attributes_.size();
+    }
+    /**
+     * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute getAttributes(int index) {
+      return attributes_.get(index);
+    }
+    /**
+     * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttributeOrBuilder getAttributesOrBuilder(
+        int index) {
+      return attributes_.get(index);
+    }
+
+    public static final int ADDRESS_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString address_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes address = 2;</code>
+     * @return Whether the address field is set.
+     */
+    @java.lang.Override
+    public boolean hasAddress() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional bytes address = 2;</code>
+     * @return The address.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getAddress() {
+      return address_;
+    }
+
+    public static final int STORE_BY_FOREIGN_SOURCE_FIELD_NUMBER = 3;
+    private boolean storeByForeignSource_ = false;
+    /**
+     * <code>optional bool store_by_foreign_source = 3;</code>
+     * @return Whether the storeByForeignSource field is set.
+     */
+    @java.lang.Override
+    public boolean hasStoreByForeignSource() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional bool store_by_foreign_source = 3;</code>
+     * @return The storeByForeignSource.
+     */
+    @java.lang.Override
+    public boolean getStoreByForeignSource() {
+      return storeByForeignSource_;
+    }
+
+    public static final int NODE_ID_FIELD_NUMBER = 4;
+    private int nodeId_ = 0;
+    /**
+     * <code>int32 node_id = 4;</code>
+     * @return The nodeId.
+     */
+    @java.lang.Override
+    public int getNodeId() {
+      return nodeId_;
+    }
+
+    public static final int NODE_LABEL_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object nodeLabel_ = "";
+    /**
+     * <code>optional string node_label = 5;</code>
+     * @return Whether the nodeLabel field is set.
+     */
+    @java.lang.Override
+    public boolean hasNodeLabel() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string node_label = 5;</code>
+     * @return The nodeLabel.
+     */
+    @java.lang.Override
+    public java.lang.String getNodeLabel() {
+      java.lang.Object ref = nodeLabel_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nodeLabel_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string node_label = 5;</code>
+     * @return The bytes for nodeLabel.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNodeLabelBytes() {
+      java.lang.Object ref = nodeLabel_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nodeLabel_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FOREIGN_SOURCE_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object foreignSource_ = "";
+    /**
+     * <code>optional string foreign_source = 6;</code>
+     * @return Whether the foreignSource field is set.
+     */
+    @java.lang.Override
+    public boolean hasForeignSource() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional string foreign_source = 6;</code>
+     * @return The foreignSource.
+     */
+    @java.lang.Override
+    public java.lang.String getForeignSource() {
+      java.lang.Object ref = foreignSource_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        foreignSource_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string foreign_source = 6;</code>
+     * @return The bytes for foreignSource.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getForeignSourceBytes() {
+      java.lang.Object ref = foreignSource_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        foreignSource_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FOREIGN_ID_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object foreignId_ = "";
+    /**
+     * <code>optional string foreign_id = 7;</code>
+     * @return Whether the foreignId field is set.
+     */
+    @java.lang.Override
+    public boolean hasForeignId() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional string foreign_id = 7;</code>
+     * @return The foreignId.
+     */
+    @java.lang.Override
+    public java.lang.String getForeignId() {
+      java.lang.Object ref = foreignId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        foreignId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string foreign_id = 7;</code>
+     * @return The bytes for foreignId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getForeignIdBytes() {
+      java.lang.Object ref = foreignId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        foreignId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOCATION_FIELD_NUMBER = 8;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object location_ = "";
+    /**
+     * <code>optional string location = 8;</code>
+     * @return Whether the location field is set.
+     */
+    @java.lang.Override
+    public boolean hasLocation() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional string location = 8;</code>
+     * @return The location.
+     */
+    @java.lang.Override
+    public java.lang.String getLocation() {
+      java.lang.Object ref = location_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        location_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string location = 8;</code>
+     * @return The bytes for location.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLocationBytes() {
+      java.lang.Object ref = location_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        location_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STORAGE_RESOURCE_PATH_FIELD_NUMBER = 9;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object storageResourcePath_ = "";
+    /**
+     * <code>optional string storage_resource_path = 9;</code>
+     * @return Whether the storageResourcePath field is set.
+     */
+    @java.lang.Override
+    public boolean hasStorageResourcePath() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional string storage_resource_path = 9;</code>
+     * @return The storageResourcePath.
+     */
+    @java.lang.Override
+    public java.lang.String getStorageResourcePath() {
+      java.lang.Object ref = storageResourcePath_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        storageResourcePath_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string storage_resource_path = 9;</code>
+     * @return The bytes for storageResourcePath.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStorageResourcePathBytes() {
+      java.lang.Object ref = storageResourcePath_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        storageResourcePath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SYS_UP_TIME_FIELD_NUMBER = 10;
+    private long sysUpTime_ = 0L;
+    /**
+     * <code>int64 sys_up_time = 10;</code>
+     * @return The sysUpTime.
+     */
+    @java.lang.Override
+    public long getSysUpTime() {
+      return sysUpTime_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < attributes_.size(); i++) {
+        output.writeMessage(1, attributes_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeBytes(2, address_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBool(3, storeByForeignSource_);
+      }
+      if (nodeId_ != 0) {
+        output.writeInt32(4, nodeId_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, nodeLabel_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, foreignSource_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, foreignId_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 8, location_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 9, storageResourcePath_);
+      }
+      if (sysUpTime_ != 0L) {
+        output.writeInt64(10, sysUpTime_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < attributes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, attributes_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, address_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, storeByForeignSource_);
+      }
+      if (nodeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, nodeId_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, nodeLabel_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, foreignSource_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, foreignId_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, location_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(9, storageResourcePath_);
+      }
+      if (sysUpTime_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(10, sysUpTime_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent other = (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent) obj;
+
+      if (!getAttributesList()
+          .equals(other.getAttributesList())) return false;
+      if (hasAddress() != other.hasAddress()) return false;
+      if (hasAddress()) {
+        if (!getAddress()
+            .equals(other.getAddress())) return false;
+      }
+      if (hasStoreByForeignSource() != other.hasStoreByForeignSource()) return false;
+      if (hasStoreByForeignSource()) {
+        if (getStoreByForeignSource()
+            != other.getStoreByForeignSource()) return false;
+      }
+      if (getNodeId()
+          != other.getNodeId()) return false;
+      if (hasNodeLabel() != other.hasNodeLabel()) return false;
+      if (hasNodeLabel()) {
+        if (!getNodeLabel()
+            .equals(other.getNodeLabel())) return false;
+      }
+      if (hasForeignSource() != other.hasForeignSource()) return false;
+      if (hasForeignSource()) {
+        if (!getForeignSource()
+            .equals(other.getForeignSource())) return false;
+      }
+      if (hasForeignId() != other.hasForeignId()) return false;
+      if (hasForeignId()) {
+        if (!getForeignId()
+            .equals(other.getForeignId())) return false;
+      }
+      if (hasLocation() != other.hasLocation()) return false;
+      if (hasLocation()) {
+        if (!getLocation()
+            .equals(other.getLocation())) return false;
+      }
+      if (hasStorageResourcePath() != other.hasStorageResourcePath()) return false;
+      if (hasStorageResourcePath()) {
+        if (!getStorageResourcePath()
+            .equals(other.getStorageResourcePath())) return false;
+      }
+      if (getSysUpTime()
+          != other.getSysUpTime()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getAttributesCount() > 0) {
+        hash = (37 * hash) + ATTRIBUTES_FIELD_NUMBER;
+        hash = (53 * hash) + getAttributesList().hashCode();
+      }
+      if (hasAddress()) {
+        hash = (37 * hash) + ADDRESS_FIELD_NUMBER;
+        hash = (53 * hash) + getAddress().hashCode();
+      }
+      if (hasStoreByForeignSource()) {
+        hash = (37 * hash) + STORE_BY_FOREIGN_SOURCE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getStoreByForeignSource());
+      }
+      hash = (37 * hash) + NODE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getNodeId();
+      if (hasNodeLabel()) {
+        hash = (37 * hash) + NODE_LABEL_FIELD_NUMBER;
+        hash = (53 * hash) + getNodeLabel().hashCode();
+      }
+      if (hasForeignSource()) {
+        hash = (37 * hash) + FOREIGN_SOURCE_FIELD_NUMBER;
+        hash = (53 * hash) + getForeignSource().hashCode();
+      }
+      if (hasForeignId()) {
+        hash = (37 * hash) + FOREIGN_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getForeignId().hashCode();
+      }
+      if (hasLocation()) {
+        hash = (37 * hash) + LOCATION_FIELD_NUMBER;
+        hash = (53 * hash) + getLocation().hashCode();
+      }
+      if (hasStorageResourcePath()) {
+        hash = (37 * hash) + STORAGE_RESOURCE_PATH_FIELD_NUMBER;
+        hash = (53 * hash) + getStorageResourcePath().hashCode();
+      }
+      hash = (37 * hash) + SYS_UP_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSysUpTime());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CollectionAgent}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CollectionAgent)
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionAgent_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionAgent_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (attributesBuilder_ == null) {
+          attributes_ = java.util.Collections.emptyList();
+        } else {
+          attributes_ = null;
+          attributesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        address_ = com.google.protobuf.ByteString.EMPTY;
+        storeByForeignSource_ = false;
+        nodeId_ = 0;
+        nodeLabel_ = "";
+        foreignSource_ = "";
+        foreignId_ = "";
+        location_ = "";
+        storageResourcePath_ = "";
+        sysUpTime_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionAgent_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent getDefaultInstanceForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent build() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent buildPartial() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent result = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent result) {
+        if (attributesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            attributes_ = java.util.Collections.unmodifiableList(attributes_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.attributes_ = attributes_;
+        } else {
+          result.attributes_ = attributesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.address_ = address_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.storeByForeignSource_ = storeByForeignSource_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.nodeId_ = nodeId_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.nodeLabel_ = nodeLabel_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.foreignSource_ = foreignSource_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.foreignId_ = foreignId_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.location_ = location_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.storageResourcePath_ = storageResourcePath_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.sysUpTime_ = sysUpTime_;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent) {
+          return mergeFrom((org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent other) {
+        if (other == org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.getDefaultInstance()) return this;
+        if (attributesBuilder_ == null) {
+          if (!other.attributes_.isEmpty()) {
+            if (attributes_.isEmpty()) {
+              attributes_ = other.attributes_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureAttributesIsMutable();
+              attributes_.addAll(other.attributes_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.attributes_.isEmpty()) {
+            if (attributesBuilder_.isEmpty()) {
+              attributesBuilder_.dispose();
+              attributesBuilder_ = null;
+              attributes_ = other.attributes_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              attributesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getAttributesFieldBuilder() : null;
+            } else {
+              attributesBuilder_.addAllMessages(other.attributes_);
+            }
+          }
+        }
+        if (other.hasAddress()) {
+          setAddress(other.getAddress());
+        }
+        if (other.hasStoreByForeignSource()) {
+          setStoreByForeignSource(other.getStoreByForeignSource());
+        }
+        if (other.getNodeId() != 0) {
+          setNodeId(other.getNodeId());
+        }
+        if (other.hasNodeLabel()) {
+          nodeLabel_ = other.nodeLabel_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (other.hasForeignSource()) {
+          foreignSource_ = other.foreignSource_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (other.hasForeignId()) {
+          foreignId_ = other.foreignId_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        if (other.hasLocation()) {
+          location_ = other.location_;
+          bitField0_ |= 0x00000080;
+          onChanged();
+        }
+        if (other.hasStorageResourcePath()) {
+          storageResourcePath_ = other.storageResourcePath_;
+          bitField0_ |= 0x00000100;
+          onChanged();
+        }
+        if (other.getSysUpTime() != 0L) {
+          setSysUpTime(other.getSysUpTime());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute m =
+                    input.readMessage(
+                        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.parser(),
+                        extensionRegistry);
+                if (attributesBuilder_ == null) {
+                  ensureAttributesIsMutable();
+                  attributes_.add(m);
+                } else {
+                  attributesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              case 18: {
+                address_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                storeByForeignSource_ = input.readBool();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                nodeId_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                nodeLabel_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                foreignSource_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                foreignId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 66: {
+                location_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              case 74: {
+                storageResourcePath_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 74
+              case 80: {
+                sysUpTime_ = input.readInt64();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 80
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute> attributes_ =
+        java.util.Collections.emptyList();
+      private void ensureAttributesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          attributes_ = new java.util.ArrayList<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute>(attributes_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttributeOrBuilder> attributesBuilder_;
+
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute> getAttributesList() {
+        if (attributesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(attributes_);
+        } else {
+          return attributesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public int getAttributesCount() {
+        if (attributesBuilder_ == null) {
+          return attributes_.size();
+        } else {
+          return attributesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute getAttributes(int index) {
+        if (attributesBuilder_ == null) {
+          return attributes_.get(index);
+        } else {
+          return attributesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public Builder setAttributes(
+          int index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute value) {
+        if (attributesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttributesIsMutable();
+          attributes_.set(index, value);
+          onChanged();
+        } else {
+          attributesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public Builder setAttributes(
+          int index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.Builder builderForValue) {
+        if (attributesBuilder_ == null) {
+          ensureAttributesIsMutable();
+          attributes_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          attributesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public Builder addAttributes(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute value) {
+        if (attributesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttributesIsMutable();
+          attributes_.add(value);
+          onChanged();
+        } else {
+          attributesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public Builder addAttributes(
+          int index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute value) {
+        if (attributesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttributesIsMutable();
+          attributes_.add(index, value);
+          onChanged();
+        } else {
+          attributesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public Builder addAttributes(
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.Builder builderForValue) {
+        if (attributesBuilder_ == null) {
+          ensureAttributesIsMutable();
+          attributes_.add(builderForValue.build());
+          onChanged();
+        } else {
+          attributesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public Builder addAttributes(
+          int index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.Builder builderForValue) {
+        if (attributesBuilder_ == null) {
+          ensureAttributesIsMutable();
+          attributes_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          attributesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public Builder addAllAttributes(
+          java.lang.Iterable<? extends org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute> values) {
+        if (attributesBuilder_ == null) {
+          ensureAttributesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, attributes_);
+          onChanged();
+        } else {
+          attributesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public Builder clearAttributes() {
+        if (attributesBuilder_ == null) {
+          attributes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          attributesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public Builder removeAttributes(int index) {
+        if (attributesBuilder_ == null) {
+          ensureAttributesIsMutable();
+          attributes_.remove(index);
+          onChanged();
+        } else {
+          attributesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.Builder getAttributesBuilder(
+          int index) {
+        return getAttributesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttributeOrBuilder getAttributesOrBuilder(
+          int index) {
+        if (attributesBuilder_ == null) {
+          return attributes_.get(index);  } else {
+          return attributesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public java.util.List<? extends org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttributeOrBuilder> 
+           getAttributesOrBuilderList() {
+        if (attributesBuilder_ != null) {
+          return attributesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(attributes_);
+        }
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.Builder addAttributesBuilder() {
+        return getAttributesFieldBuilder().addBuilder(
+            org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.Builder addAttributesBuilder(
+          int index) {
+        return getAttributesFieldBuilder().addBuilder(
+            index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CollectionAgentAttribute attributes = 1;</code>
+       */
+      public java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.Builder> 
+           getAttributesBuilderList() {
+        return getAttributesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttributeOrBuilder> 
+          getAttributesFieldBuilder() {
+        if (attributesBuilder_ == null) {
+          attributesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttribute.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentAttributeOrBuilder>(
+                  attributes_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          attributes_ = null;
+        }
+        return attributesBuilder_;
+      }
+
+      private com.google.protobuf.ByteString address_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes address = 2;</code>
+       * @return Whether the address field is set.
+       */
+      @java.lang.Override
+      public boolean hasAddress() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional bytes address = 2;</code>
+       * @return The address.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getAddress() {
+        return address_;
+      }
+      /**
+       * <code>optional bytes address = 2;</code>
+       * @param value The address to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAddress(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        address_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes address = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAddress() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        address_ = getDefaultInstance().getAddress();
+        onChanged();
+        return this;
+      }
+
+      private boolean storeByForeignSource_ ;
+      /**
+       * <code>optional bool store_by_foreign_source = 3;</code>
+       * @return Whether the storeByForeignSource field is set.
+       */
+      @java.lang.Override
+      public boolean hasStoreByForeignSource() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional bool store_by_foreign_source = 3;</code>
+       * @return The storeByForeignSource.
+       */
+      @java.lang.Override
+      public boolean getStoreByForeignSource() {
+        return storeByForeignSource_;
+      }
+      /**
+       * <code>optional bool store_by_foreign_source = 3;</code>
+       * @param value The storeByForeignSource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStoreByForeignSource(boolean value) {
+
+        storeByForeignSource_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool store_by_foreign_source = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStoreByForeignSource() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        storeByForeignSource_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int nodeId_ ;
+      /**
+       * <code>int32 node_id = 4;</code>
+       * @return The nodeId.
+       */
+      @java.lang.Override
+      public int getNodeId() {
+        return nodeId_;
+      }
+      /**
+       * <code>int32 node_id = 4;</code>
+       * @param value The nodeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNodeId(int value) {
+
+        nodeId_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 node_id = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNodeId() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        nodeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object nodeLabel_ = "";
+      /**
+       * <code>optional string node_label = 5;</code>
+       * @return Whether the nodeLabel field is set.
+       */
+      public boolean hasNodeLabel() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional string node_label = 5;</code>
+       * @return The nodeLabel.
+       */
+      public java.lang.String getNodeLabel() {
+        java.lang.Object ref = nodeLabel_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nodeLabel_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string node_label = 5;</code>
+       * @return The bytes for nodeLabel.
+       */
+      public com.google.protobuf.ByteString
+          getNodeLabelBytes() {
+        java.lang.Object ref = nodeLabel_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nodeLabel_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string node_label = 5;</code>
+       * @param value The nodeLabel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNodeLabel(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        nodeLabel_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string node_label = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNodeLabel() {
+        nodeLabel_ = getDefaultInstance().getNodeLabel();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string node_label = 5;</code>
+       * @param value The bytes for nodeLabel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNodeLabelBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        nodeLabel_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object foreignSource_ = "";
+      /**
+       * <code>optional string foreign_source = 6;</code>
+       * @return Whether the foreignSource field is set.
+       */
+      public boolean hasForeignSource() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional string foreign_source = 6;</code>
+       * @return The foreignSource.
+       */
+      public java.lang.String getForeignSource() {
+        java.lang.Object ref = foreignSource_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          foreignSource_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string foreign_source = 6;</code>
+       * @return The bytes for foreignSource.
+       */
+      public com.google.protobuf.ByteString
+          getForeignSourceBytes() {
+        java.lang.Object ref = foreignSource_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          foreignSource_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string foreign_source = 6;</code>
+       * @param value The foreignSource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setForeignSource(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        foreignSource_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string foreign_source = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearForeignSource() {
+        foreignSource_ = getDefaultInstance().getForeignSource();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string foreign_source = 6;</code>
+       * @param value The bytes for foreignSource to set.
+       * @return This builder for chaining.
+       */
+      public Builder setForeignSourceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        foreignSource_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object foreignId_ = "";
+      /**
+       * <code>optional string foreign_id = 7;</code>
+       * @return Whether the foreignId field is set.
+       */
+      public boolean hasForeignId() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional string foreign_id = 7;</code>
+       * @return The foreignId.
+       */
+      public java.lang.String getForeignId() {
+        java.lang.Object ref = foreignId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          foreignId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string foreign_id = 7;</code>
+       * @return The bytes for foreignId.
+       */
+      public com.google.protobuf.ByteString
+          getForeignIdBytes() {
+        java.lang.Object ref = foreignId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          foreignId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string foreign_id = 7;</code>
+       * @param value The foreignId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setForeignId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        foreignId_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string foreign_id = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearForeignId() {
+        foreignId_ = getDefaultInstance().getForeignId();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string foreign_id = 7;</code>
+       * @param value The bytes for foreignId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setForeignIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        foreignId_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object location_ = "";
+      /**
+       * <code>optional string location = 8;</code>
+       * @return Whether the location field is set.
+       */
+      public boolean hasLocation() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional string location = 8;</code>
+       * @return The location.
+       */
+      public java.lang.String getLocation() {
+        java.lang.Object ref = location_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          location_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string location = 8;</code>
+       * @return The bytes for location.
+       */
+      public com.google.protobuf.ByteString
+          getLocationBytes() {
+        java.lang.Object ref = location_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          location_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string location = 8;</code>
+       * @param value The location to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLocation(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        location_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string location = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLocation() {
+        location_ = getDefaultInstance().getLocation();
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string location = 8;</code>
+       * @param value The bytes for location to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLocationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        location_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object storageResourcePath_ = "";
+      /**
+       * <code>optional string storage_resource_path = 9;</code>
+       * @return Whether the storageResourcePath field is set.
+       */
+      public boolean hasStorageResourcePath() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <code>optional string storage_resource_path = 9;</code>
+       * @return The storageResourcePath.
+       */
+      public java.lang.String getStorageResourcePath() {
+        java.lang.Object ref = storageResourcePath_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          storageResourcePath_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string storage_resource_path = 9;</code>
+       * @return The bytes for storageResourcePath.
+       */
+      public com.google.protobuf.ByteString
+          getStorageResourcePathBytes() {
+        java.lang.Object ref = storageResourcePath_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          storageResourcePath_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string storage_resource_path = 9;</code>
+       * @param value The storageResourcePath to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStorageResourcePath(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        storageResourcePath_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string storage_resource_path = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStorageResourcePath() {
+        storageResourcePath_ = getDefaultInstance().getStorageResourcePath();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string storage_resource_path = 9;</code>
+       * @param value The bytes for storageResourcePath to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStorageResourcePathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        storageResourcePath_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+
+      private long sysUpTime_ ;
+      /**
+       * <code>int64 sys_up_time = 10;</code>
+       * @return The sysUpTime.
+       */
+      @java.lang.Override
+      public long getSysUpTime() {
+        return sysUpTime_;
+      }
+      /**
+       * <code>int64 sys_up_time = 10;</code>
+       * @param value The sysUpTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSysUpTime(long value) {
+
+        sysUpTime_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 sys_up_time = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSysUpTime() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        sysUpTime_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:CollectionAgent)
+    }
+
+    // @@protoc_insertion_point(class_scope:CollectionAgent)
+    private static final org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent();
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CollectionAgent>
+        PARSER = new com.google.protobuf.AbstractParser<CollectionAgent>() {
+      @java.lang.Override
+      public CollectionAgent parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CollectionAgent> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CollectionAgent> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface NodeLevelResourceOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:NodeLevelResource)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 node_id = 1;</code>
+     * @return The nodeId.
+     */
+    int getNodeId();
+
+    /**
+     * <code>optional string path = 2;</code>
+     * @return Whether the path field is set.
+     */
+    boolean hasPath();
+    /**
+     * <code>optional string path = 2;</code>
+     * @return The path.
+     */
+    java.lang.String getPath();
+    /**
+     * <code>optional string path = 2;</code>
+     * @return The bytes for path.
+     */
+    com.google.protobuf.ByteString
+        getPathBytes();
+
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return Whether the timestamp field is set.
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return The timestamp.
+     */
+    long getTimestamp();
+  }
+  /**
+   * Protobuf type {@code NodeLevelResource}
+   */
+  public static final class NodeLevelResource extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:NodeLevelResource)
+      NodeLevelResourceOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use NodeLevelResource.newBuilder() to construct.
+    private NodeLevelResource(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private NodeLevelResource() {
+      path_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new NodeLevelResource();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_NodeLevelResource_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_NodeLevelResource_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NODE_ID_FIELD_NUMBER = 1;
+    private int nodeId_ = 0;
+    /**
+     * <code>int32 node_id = 1;</code>
+     * @return The nodeId.
+     */
+    @java.lang.Override
+    public int getNodeId() {
+      return nodeId_;
+    }
+
+    public static final int PATH_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object path_ = "";
+    /**
+     * <code>optional string path = 2;</code>
+     * @return Whether the path field is set.
+     */
+    @java.lang.Override
+    public boolean hasPath() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string path = 2;</code>
+     * @return The path.
+     */
+    @java.lang.Override
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        path_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string path = 2;</code>
+     * @return The bytes for path.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 3;
+    private long timestamp_ = 0L;
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return Whether the timestamp field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (nodeId_ != 0) {
+        output.writeInt32(1, nodeId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, path_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(3, timestamp_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (nodeId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, nodeId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, path_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, timestamp_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource other = (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource) obj;
+
+      if (getNodeId()
+          != other.getNodeId()) return false;
+      if (hasPath() != other.hasPath()) return false;
+      if (hasPath()) {
+        if (!getPath()
+            .equals(other.getPath())) return false;
+      }
+      if (hasTimestamp() != other.hasTimestamp()) return false;
+      if (hasTimestamp()) {
+        if (getTimestamp()
+            != other.getTimestamp()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NODE_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getNodeId();
+      if (hasPath()) {
+        hash = (37 * hash) + PATH_FIELD_NUMBER;
+        hash = (53 * hash) + getPath().hashCode();
+      }
+      if (hasTimestamp()) {
+        hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTimestamp());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code NodeLevelResource}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:NodeLevelResource)
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_NodeLevelResource_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_NodeLevelResource_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        nodeId_ = 0;
+        path_ = "";
+        timestamp_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_NodeLevelResource_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource getDefaultInstanceForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource build() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource buildPartial() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource result = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.nodeId_ = nodeId_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.path_ = path_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.timestamp_ = timestamp_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource) {
+          return mergeFrom((org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource other) {
+        if (other == org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance()) return this;
+        if (other.getNodeId() != 0) {
+          setNodeId(other.getNodeId());
+        }
+        if (other.hasPath()) {
+          path_ = other.path_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                nodeId_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                path_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                timestamp_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int nodeId_ ;
+      /**
+       * <code>int32 node_id = 1;</code>
+       * @return The nodeId.
+       */
+      @java.lang.Override
+      public int getNodeId() {
+        return nodeId_;
+      }
+      /**
+       * <code>int32 node_id = 1;</code>
+       * @param value The nodeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNodeId(int value) {
+
+        nodeId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 node_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNodeId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        nodeId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object path_ = "";
+      /**
+       * <code>optional string path = 2;</code>
+       * @return Whether the path field is set.
+       */
+      public boolean hasPath() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       * @return The path.
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          path_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       * @return The bytes for path.
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       * @param value The path to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        path_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPath() {
+        path_ = getDefaultInstance().getPath();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       * @param value The bytes for path to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        path_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @return Whether the timestamp field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @return The timestamp.
+       */
+      @java.lang.Override
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(long value) {
+
+        timestamp_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:NodeLevelResource)
+    }
+
+    // @@protoc_insertion_point(class_scope:NodeLevelResource)
+    private static final org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource();
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<NodeLevelResource>
+        PARSER = new com.google.protobuf.AbstractParser<NodeLevelResource>() {
+      @java.lang.Override
+      public NodeLevelResource parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<NodeLevelResource> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NodeLevelResource> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface InterfaceLevelResourceOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:InterfaceLevelResource)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     * @return Whether the node field is set.
+     */
+    boolean hasNode();
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     * @return The node.
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource getNode();
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder getNodeOrBuilder();
+
+    /**
+     * <code>string if_name = 2;</code>
+     * @return The ifName.
+     */
+    java.lang.String getIfName();
+    /**
+     * <code>string if_name = 2;</code>
+     * @return The bytes for ifName.
+     */
+    com.google.protobuf.ByteString
+        getIfNameBytes();
+
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return Whether the timestamp field is set.
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return The timestamp.
+     */
+    long getTimestamp();
+  }
+  /**
+   * Protobuf type {@code InterfaceLevelResource}
+   */
+  public static final class InterfaceLevelResource extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:InterfaceLevelResource)
+      InterfaceLevelResourceOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use InterfaceLevelResource.newBuilder() to construct.
+    private InterfaceLevelResource(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private InterfaceLevelResource() {
+      ifName_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new InterfaceLevelResource();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_InterfaceLevelResource_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_InterfaceLevelResource_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NODE_FIELD_NUMBER = 1;
+    private org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource node_;
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     * @return Whether the node field is set.
+     */
+    @java.lang.Override
+    public boolean hasNode() {
+      return node_ != null;
+    }
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     * @return The node.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource getNode() {
+      return node_ == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance() : node_;
+    }
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder getNodeOrBuilder() {
+      return node_ == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance() : node_;
+    }
+
+    public static final int IF_NAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object ifName_ = "";
+    /**
+     * <code>string if_name = 2;</code>
+     * @return The ifName.
+     */
+    @java.lang.Override
+    public java.lang.String getIfName() {
+      java.lang.Object ref = ifName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        ifName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string if_name = 2;</code>
+     * @return The bytes for ifName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIfNameBytes() {
+      java.lang.Object ref = ifName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        ifName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 3;
+    private long timestamp_ = 0L;
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return Whether the timestamp field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (node_ != null) {
+        output.writeMessage(1, getNode());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(ifName_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, ifName_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt64(3, timestamp_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (node_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getNode());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(ifName_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, ifName_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, timestamp_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource other = (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource) obj;
+
+      if (hasNode() != other.hasNode()) return false;
+      if (hasNode()) {
+        if (!getNode()
+            .equals(other.getNode())) return false;
+      }
+      if (!getIfName()
+          .equals(other.getIfName())) return false;
+      if (hasTimestamp() != other.hasTimestamp()) return false;
+      if (hasTimestamp()) {
+        if (getTimestamp()
+            != other.getTimestamp()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasNode()) {
+        hash = (37 * hash) + NODE_FIELD_NUMBER;
+        hash = (53 * hash) + getNode().hashCode();
+      }
+      hash = (37 * hash) + IF_NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getIfName().hashCode();
+      if (hasTimestamp()) {
+        hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTimestamp());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code InterfaceLevelResource}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:InterfaceLevelResource)
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResourceOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_InterfaceLevelResource_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_InterfaceLevelResource_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        node_ = null;
+        if (nodeBuilder_ != null) {
+          nodeBuilder_.dispose();
+          nodeBuilder_ = null;
+        }
+        ifName_ = "";
+        timestamp_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_InterfaceLevelResource_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource getDefaultInstanceForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource build() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource buildPartial() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource result = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.node_ = nodeBuilder_ == null
+              ? node_
+              : nodeBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.ifName_ = ifName_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.timestamp_ = timestamp_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource) {
+          return mergeFrom((org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource other) {
+        if (other == org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.getDefaultInstance()) return this;
+        if (other.hasNode()) {
+          mergeNode(other.getNode());
+        }
+        if (!other.getIfName().isEmpty()) {
+          ifName_ = other.ifName_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getNodeFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                ifName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                timestamp_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource node_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder> nodeBuilder_;
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       * @return Whether the node field is set.
+       */
+      public boolean hasNode() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       * @return The node.
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource getNode() {
+        if (nodeBuilder_ == null) {
+          return node_ == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance() : node_;
+        } else {
+          return nodeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public Builder setNode(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource value) {
+        if (nodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          node_ = value;
+        } else {
+          nodeBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public Builder setNode(
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder builderForValue) {
+        if (nodeBuilder_ == null) {
+          node_ = builderForValue.build();
+        } else {
+          nodeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public Builder mergeNode(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource value) {
+        if (nodeBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            node_ != null &&
+            node_ != org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance()) {
+            getNodeBuilder().mergeFrom(value);
+          } else {
+            node_ = value;
+          }
+        } else {
+          nodeBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public Builder clearNode() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        node_ = null;
+        if (nodeBuilder_ != null) {
+          nodeBuilder_.dispose();
+          nodeBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder getNodeBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getNodeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder getNodeOrBuilder() {
+        if (nodeBuilder_ != null) {
+          return nodeBuilder_.getMessageOrBuilder();
+        } else {
+          return node_ == null ?
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance() : node_;
+        }
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder> 
+          getNodeFieldBuilder() {
+        if (nodeBuilder_ == null) {
+          nodeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder>(
+                  getNode(),
+                  getParentForChildren(),
+                  isClean());
+          node_ = null;
+        }
+        return nodeBuilder_;
+      }
+
+      private java.lang.Object ifName_ = "";
+      /**
+       * <code>string if_name = 2;</code>
+       * @return The ifName.
+       */
+      public java.lang.String getIfName() {
+        java.lang.Object ref = ifName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          ifName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string if_name = 2;</code>
+       * @return The bytes for ifName.
+       */
+      public com.google.protobuf.ByteString
+          getIfNameBytes() {
+        java.lang.Object ref = ifName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          ifName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string if_name = 2;</code>
+       * @param value The ifName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIfName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ifName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string if_name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIfName() {
+        ifName_ = getDefaultInstance().getIfName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string if_name = 2;</code>
+       * @param value The bytes for ifName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIfNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ifName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @return Whether the timestamp field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @return The timestamp.
+       */
+      @java.lang.Override
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(long value) {
+
+        timestamp_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:InterfaceLevelResource)
+    }
+
+    // @@protoc_insertion_point(class_scope:InterfaceLevelResource)
+    private static final org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource();
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<InterfaceLevelResource>
+        PARSER = new com.google.protobuf.AbstractParser<InterfaceLevelResource>() {
+      @java.lang.Override
+      public InterfaceLevelResource parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<InterfaceLevelResource> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<InterfaceLevelResource> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GenericTypeResourceOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GenericTypeResource)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     * @return Whether the node field is set.
+     */
+    boolean hasNode();
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     * @return The node.
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource getNode();
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder getNodeOrBuilder();
+
+    /**
+     * <code>string type_name = 2;</code>
+     * @return The typeName.
+     */
+    java.lang.String getTypeName();
+    /**
+     * <code>string type_name = 2;</code>
+     * @return The bytes for typeName.
+     */
+    com.google.protobuf.ByteString
+        getTypeNameBytes();
+
+    /**
+     * <code>optional string fallback_type_name = 3;</code>
+     * @return Whether the fallbackTypeName field is set.
+     */
+    boolean hasFallbackTypeName();
+    /**
+     * <code>optional string fallback_type_name = 3;</code>
+     * @return The fallbackTypeName.
+     */
+    java.lang.String getFallbackTypeName();
+    /**
+     * <code>optional string fallback_type_name = 3;</code>
+     * @return The bytes for fallbackTypeName.
+     */
+    com.google.protobuf.ByteString
+        getFallbackTypeNameBytes();
+
+    /**
+     * <code>string instance = 4;</code>
+     * @return The instance.
+     */
+    java.lang.String getInstance();
+    /**
+     * <code>string instance = 4;</code>
+     * @return The bytes for instance.
+     */
+    com.google.protobuf.ByteString
+        getInstanceBytes();
+
+    /**
+     * <code>optional int64 timestamp = 5;</code>
+     * @return Whether the timestamp field is set.
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>optional int64 timestamp = 5;</code>
+     * @return The timestamp.
+     */
+    long getTimestamp();
+  }
+  /**
+   * Protobuf type {@code GenericTypeResource}
+   */
+  public static final class GenericTypeResource extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GenericTypeResource)
+      GenericTypeResourceOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GenericTypeResource.newBuilder() to construct.
+    private GenericTypeResource(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GenericTypeResource() {
+      typeName_ = "";
+      fallbackTypeName_ = "";
+      instance_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GenericTypeResource();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_GenericTypeResource_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_GenericTypeResource_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int NODE_FIELD_NUMBER = 1;
+    private org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource node_;
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     * @return Whether the node field is set.
+     */
+    @java.lang.Override
+    public boolean hasNode() {
+      return node_ != null;
+    }
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     * @return The node.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource getNode() {
+      return node_ == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance() : node_;
+    }
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder getNodeOrBuilder() {
+      return node_ == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance() : node_;
+    }
+
+    public static final int TYPE_NAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object typeName_ = "";
+    /**
+     * <code>string type_name = 2;</code>
+     * @return The typeName.
+     */
+    @java.lang.Override
+    public java.lang.String getTypeName() {
+      java.lang.Object ref = typeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        typeName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string type_name = 2;</code>
+     * @return The bytes for typeName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeNameBytes() {
+      java.lang.Object ref = typeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        typeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FALLBACK_TYPE_NAME_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object fallbackTypeName_ = "";
+    /**
+     * <code>optional string fallback_type_name = 3;</code>
+     * @return Whether the fallbackTypeName field is set.
+     */
+    @java.lang.Override
+    public boolean hasFallbackTypeName() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string fallback_type_name = 3;</code>
+     * @return The fallbackTypeName.
+     */
+    @java.lang.Override
+    public java.lang.String getFallbackTypeName() {
+      java.lang.Object ref = fallbackTypeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        fallbackTypeName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string fallback_type_name = 3;</code>
+     * @return The bytes for fallbackTypeName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFallbackTypeNameBytes() {
+      java.lang.Object ref = fallbackTypeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fallbackTypeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INSTANCE_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object instance_ = "";
+    /**
+     * <code>string instance = 4;</code>
+     * @return The instance.
+     */
+    @java.lang.Override
+    public java.lang.String getInstance() {
+      java.lang.Object ref = instance_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        instance_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string instance = 4;</code>
+     * @return The bytes for instance.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInstanceBytes() {
+      java.lang.Object ref = instance_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        instance_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 5;
+    private long timestamp_ = 0L;
+    /**
+     * <code>optional int64 timestamp = 5;</code>
+     * @return Whether the timestamp field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int64 timestamp = 5;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (node_ != null) {
+        output.writeMessage(1, getNode());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(typeName_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, typeName_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, fallbackTypeName_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(instance_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, instance_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(5, timestamp_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (node_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getNode());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(typeName_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, typeName_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, fallbackTypeName_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(instance_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, instance_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, timestamp_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource other = (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource) obj;
+
+      if (hasNode() != other.hasNode()) return false;
+      if (hasNode()) {
+        if (!getNode()
+            .equals(other.getNode())) return false;
+      }
+      if (!getTypeName()
+          .equals(other.getTypeName())) return false;
+      if (hasFallbackTypeName() != other.hasFallbackTypeName()) return false;
+      if (hasFallbackTypeName()) {
+        if (!getFallbackTypeName()
+            .equals(other.getFallbackTypeName())) return false;
+      }
+      if (!getInstance()
+          .equals(other.getInstance())) return false;
+      if (hasTimestamp() != other.hasTimestamp()) return false;
+      if (hasTimestamp()) {
+        if (getTimestamp()
+            != other.getTimestamp()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasNode()) {
+        hash = (37 * hash) + NODE_FIELD_NUMBER;
+        hash = (53 * hash) + getNode().hashCode();
+      }
+      hash = (37 * hash) + TYPE_NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeName().hashCode();
+      if (hasFallbackTypeName()) {
+        hash = (37 * hash) + FALLBACK_TYPE_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getFallbackTypeName().hashCode();
+      }
+      hash = (37 * hash) + INSTANCE_FIELD_NUMBER;
+      hash = (53 * hash) + getInstance().hashCode();
+      if (hasTimestamp()) {
+        hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTimestamp());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GenericTypeResource}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GenericTypeResource)
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResourceOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_GenericTypeResource_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_GenericTypeResource_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        node_ = null;
+        if (nodeBuilder_ != null) {
+          nodeBuilder_.dispose();
+          nodeBuilder_ = null;
+        }
+        typeName_ = "";
+        fallbackTypeName_ = "";
+        instance_ = "";
+        timestamp_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_GenericTypeResource_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource getDefaultInstanceForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource build() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource buildPartial() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource result = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.node_ = nodeBuilder_ == null
+              ? node_
+              : nodeBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.typeName_ = typeName_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.fallbackTypeName_ = fallbackTypeName_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.instance_ = instance_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.timestamp_ = timestamp_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource) {
+          return mergeFrom((org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource other) {
+        if (other == org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.getDefaultInstance()) return this;
+        if (other.hasNode()) {
+          mergeNode(other.getNode());
+        }
+        if (!other.getTypeName().isEmpty()) {
+          typeName_ = other.typeName_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasFallbackTypeName()) {
+          fallbackTypeName_ = other.fallbackTypeName_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getInstance().isEmpty()) {
+          instance_ = other.instance_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getNodeFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                typeName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                fallbackTypeName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                instance_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                timestamp_ = input.readInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource node_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder> nodeBuilder_;
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       * @return Whether the node field is set.
+       */
+      public boolean hasNode() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       * @return The node.
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource getNode() {
+        if (nodeBuilder_ == null) {
+          return node_ == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance() : node_;
+        } else {
+          return nodeBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public Builder setNode(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource value) {
+        if (nodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          node_ = value;
+        } else {
+          nodeBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public Builder setNode(
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder builderForValue) {
+        if (nodeBuilder_ == null) {
+          node_ = builderForValue.build();
+        } else {
+          nodeBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public Builder mergeNode(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource value) {
+        if (nodeBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            node_ != null &&
+            node_ != org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance()) {
+            getNodeBuilder().mergeFrom(value);
+          } else {
+            node_ = value;
+          }
+        } else {
+          nodeBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public Builder clearNode() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        node_ = null;
+        if (nodeBuilder_ != null) {
+          nodeBuilder_.dispose();
+          nodeBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder getNodeBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getNodeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder getNodeOrBuilder() {
+        if (nodeBuilder_ != null) {
+          return nodeBuilder_.getMessageOrBuilder();
+        } else {
+          return node_ == null ?
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance() : node_;
+        }
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder> 
+          getNodeFieldBuilder() {
+        if (nodeBuilder_ == null) {
+          nodeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder>(
+                  getNode(),
+                  getParentForChildren(),
+                  isClean());
+          node_ = null;
+        }
+        return nodeBuilder_;
+      }
+
+      private java.lang.Object typeName_ = "";
+      /**
+       * <code>string type_name = 2;</code>
+       * @return The typeName.
+       */
+      public java.lang.String getTypeName() {
+        java.lang.Object ref = typeName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          typeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string type_name = 2;</code>
+       * @return The bytes for typeName.
+       */
+      public com.google.protobuf.ByteString
+          getTypeNameBytes() {
+        java.lang.Object ref = typeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          typeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string type_name = 2;</code>
+       * @param value The typeName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        typeName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string type_name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTypeName() {
+        typeName_ = getDefaultInstance().getTypeName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string type_name = 2;</code>
+       * @param value The bytes for typeName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        typeName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object fallbackTypeName_ = "";
+      /**
+       * <code>optional string fallback_type_name = 3;</code>
+       * @return Whether the fallbackTypeName field is set.
+       */
+      public boolean hasFallbackTypeName() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string fallback_type_name = 3;</code>
+       * @return The fallbackTypeName.
+       */
+      public java.lang.String getFallbackTypeName() {
+        java.lang.Object ref = fallbackTypeName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          fallbackTypeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string fallback_type_name = 3;</code>
+       * @return The bytes for fallbackTypeName.
+       */
+      public com.google.protobuf.ByteString
+          getFallbackTypeNameBytes() {
+        java.lang.Object ref = fallbackTypeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fallbackTypeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string fallback_type_name = 3;</code>
+       * @param value The fallbackTypeName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFallbackTypeName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        fallbackTypeName_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string fallback_type_name = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFallbackTypeName() {
+        fallbackTypeName_ = getDefaultInstance().getFallbackTypeName();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string fallback_type_name = 3;</code>
+       * @param value The bytes for fallbackTypeName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFallbackTypeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        fallbackTypeName_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object instance_ = "";
+      /**
+       * <code>string instance = 4;</code>
+       * @return The instance.
+       */
+      public java.lang.String getInstance() {
+        java.lang.Object ref = instance_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          instance_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string instance = 4;</code>
+       * @return The bytes for instance.
+       */
+      public com.google.protobuf.ByteString
+          getInstanceBytes() {
+        java.lang.Object ref = instance_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          instance_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string instance = 4;</code>
+       * @param value The instance to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInstance(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        instance_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string instance = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInstance() {
+        instance_ = getDefaultInstance().getInstance();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string instance = 4;</code>
+       * @param value The bytes for instance to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInstanceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        instance_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>optional int64 timestamp = 5;</code>
+       * @return Whether the timestamp field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional int64 timestamp = 5;</code>
+       * @return The timestamp.
+       */
+      @java.lang.Override
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>optional int64 timestamp = 5;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(long value) {
+
+        timestamp_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timestamp = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GenericTypeResource)
+    }
+
+    // @@protoc_insertion_point(class_scope:GenericTypeResource)
+    private static final org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource();
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GenericTypeResource>
+        PARSER = new com.google.protobuf.AbstractParser<GenericTypeResource>() {
+      @java.lang.Override
+      public GenericTypeResource parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<GenericTypeResource> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GenericTypeResource> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AttributeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Attribute)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string group = 1;</code>
+     * @return The group.
+     */
+    java.lang.String getGroup();
+    /**
+     * <code>string group = 1;</code>
+     * @return The bytes for group.
+     */
+    com.google.protobuf.ByteString
+        getGroupBytes();
+
+    /**
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>.AttributeType type = 3;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    int getTypeValue();
+    /**
+     * <code>.AttributeType type = 3;</code>
+     * @return The type.
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeType getType();
+
+    /**
+     * <code>optional string identifier = 4;</code>
+     * @return Whether the identifier field is set.
+     */
+    boolean hasIdentifier();
+    /**
+     * <code>optional string identifier = 4;</code>
+     * @return The identifier.
+     */
+    java.lang.String getIdentifier();
+    /**
+     * <code>optional string identifier = 4;</code>
+     * @return The bytes for identifier.
+     */
+    com.google.protobuf.ByteString
+        getIdentifierBytes();
+
+    /**
+     * <code>double numeric_value = 5;</code>
+     * @return Whether the numericValue field is set.
+     */
+    boolean hasNumericValue();
+    /**
+     * <code>double numeric_value = 5;</code>
+     * @return The numericValue.
+     */
+    double getNumericValue();
+
+    /**
+     * <code>string string_value = 6;</code>
+     * @return Whether the stringValue field is set.
+     */
+    boolean hasStringValue();
+    /**
+     * <code>string string_value = 6;</code>
+     * @return The stringValue.
+     */
+    java.lang.String getStringValue();
+    /**
+     * <code>string string_value = 6;</code>
+     * @return The bytes for stringValue.
+     */
+    com.google.protobuf.ByteString
+        getStringValueBytes();
+
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.ValueCase getValueCase();
+  }
+  /**
+   * Protobuf type {@code Attribute}
+   */
+  public static final class Attribute extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Attribute)
+      AttributeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Attribute.newBuilder() to construct.
+    private Attribute(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Attribute() {
+      group_ = "";
+      name_ = "";
+      type_ = 0;
+      identifier_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Attribute();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_Attribute_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_Attribute_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.Builder.class);
+    }
+
+    private int bitField0_;
+    private int valueCase_ = 0;
+    @SuppressWarnings("serial")
+    private java.lang.Object value_;
+    public enum ValueCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      NUMERIC_VALUE(5),
+      STRING_VALUE(6),
+      VALUE_NOT_SET(0);
+      private final int value;
+      private ValueCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static ValueCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static ValueCase forNumber(int value) {
+        switch (value) {
+          case 5: return NUMERIC_VALUE;
+          case 6: return STRING_VALUE;
+          case 0: return VALUE_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public ValueCase
+    getValueCase() {
+      return ValueCase.forNumber(
+          valueCase_);
+    }
+
+    public static final int GROUP_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object group_ = "";
+    /**
+     * <code>string group = 1;</code>
+     * @return The group.
+     */
+    @java.lang.Override
+    public java.lang.String getGroup() {
+      java.lang.Object ref = group_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        group_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string group = 1;</code>
+     * @return The bytes for group.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getGroupBytes() {
+      java.lang.Object ref = group_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        group_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 3;
+    private int type_ = 0;
+    /**
+     * <code>.AttributeType type = 3;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    @java.lang.Override public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>.AttributeType type = 3;</code>
+     * @return The type.
+     */
+    @java.lang.Override public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeType getType() {
+      org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeType result = org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeType.forNumber(type_);
+      return result == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeType.UNRECOGNIZED : result;
+    }
+
+    public static final int IDENTIFIER_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object identifier_ = "";
+    /**
+     * <code>optional string identifier = 4;</code>
+     * @return Whether the identifier field is set.
+     */
+    @java.lang.Override
+    public boolean hasIdentifier() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string identifier = 4;</code>
+     * @return The identifier.
+     */
+    @java.lang.Override
+    public java.lang.String getIdentifier() {
+      java.lang.Object ref = identifier_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        identifier_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string identifier = 4;</code>
+     * @return The bytes for identifier.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdentifierBytes() {
+      java.lang.Object ref = identifier_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        identifier_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NUMERIC_VALUE_FIELD_NUMBER = 5;
+    /**
+     * <code>double numeric_value = 5;</code>
+     * @return Whether the numericValue field is set.
+     */
+    @java.lang.Override
+    public boolean hasNumericValue() {
+      return valueCase_ == 5;
+    }
+    /**
+     * <code>double numeric_value = 5;</code>
+     * @return The numericValue.
+     */
+    @java.lang.Override
+    public double getNumericValue() {
+      if (valueCase_ == 5) {
+        return (java.lang.Double) value_;
+      }
+      return 0D;
+    }
+
+    public static final int STRING_VALUE_FIELD_NUMBER = 6;
+    /**
+     * <code>string string_value = 6;</code>
+     * @return Whether the stringValue field is set.
+     */
+    public boolean hasStringValue() {
+      return valueCase_ == 6;
+    }
+    /**
+     * <code>string string_value = 6;</code>
+     * @return The stringValue.
+     */
+    public java.lang.String getStringValue() {
+      java.lang.Object ref = "";
+      if (valueCase_ == 6) {
+        ref = value_;
+      }
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (valueCase_ == 6) {
+          value_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>string string_value = 6;</code>
+     * @return The bytes for stringValue.
+     */
+    public com.google.protobuf.ByteString
+        getStringValueBytes() {
+      java.lang.Object ref = "";
+      if (valueCase_ == 6) {
+        ref = value_;
+      }
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (valueCase_ == 6) {
+          value_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(group_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, group_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+      }
+      if (type_ != org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeType.GAUGE.getNumber()) {
+        output.writeEnum(3, type_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, identifier_);
+      }
+      if (valueCase_ == 5) {
+        output.writeDouble(
+            5, (double)((java.lang.Double) value_));
+      }
+      if (valueCase_ == 6) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, value_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(group_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, group_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+      }
+      if (type_ != org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeType.GAUGE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, type_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, identifier_);
+      }
+      if (valueCase_ == 5) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(
+              5, (double)((java.lang.Double) value_));
+      }
+      if (valueCase_ == 6) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, value_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute other = (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute) obj;
+
+      if (!getGroup()
+          .equals(other.getGroup())) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (type_ != other.type_) return false;
+      if (hasIdentifier() != other.hasIdentifier()) return false;
+      if (hasIdentifier()) {
+        if (!getIdentifier()
+            .equals(other.getIdentifier())) return false;
+      }
+      if (!getValueCase().equals(other.getValueCase())) return false;
+      switch (valueCase_) {
+        case 5:
+          if (java.lang.Double.doubleToLongBits(getNumericValue())
+              != java.lang.Double.doubleToLongBits(
+                  other.getNumericValue())) return false;
+          break;
+        case 6:
+          if (!getStringValue()
+              .equals(other.getStringValue())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + GROUP_FIELD_NUMBER;
+      hash = (53 * hash) + getGroup().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + type_;
+      if (hasIdentifier()) {
+        hash = (37 * hash) + IDENTIFIER_FIELD_NUMBER;
+        hash = (53 * hash) + getIdentifier().hashCode();
+      }
+      switch (valueCase_) {
+        case 5:
+          hash = (37 * hash) + NUMERIC_VALUE_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+              java.lang.Double.doubleToLongBits(getNumericValue()));
+          break;
+        case 6:
+          hash = (37 * hash) + STRING_VALUE_FIELD_NUMBER;
+          hash = (53 * hash) + getStringValue().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Attribute}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Attribute)
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_Attribute_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_Attribute_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        group_ = "";
+        name_ = "";
+        type_ = 0;
+        identifier_ = "";
+        valueCase_ = 0;
+        value_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_Attribute_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute getDefaultInstanceForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute build() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute buildPartial() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute result = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        buildPartialOneofs(result);
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.group_ = group_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.type_ = type_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.identifier_ = identifier_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      private void buildPartialOneofs(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute result) {
+        result.valueCase_ = valueCase_;
+        result.value_ = this.value_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute) {
+          return mergeFrom((org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute other) {
+        if (other == org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.getDefaultInstance()) return this;
+        if (!other.getGroup().isEmpty()) {
+          group_ = other.group_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.type_ != 0) {
+          setTypeValue(other.getTypeValue());
+        }
+        if (other.hasIdentifier()) {
+          identifier_ = other.identifier_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        switch (other.getValueCase()) {
+          case NUMERIC_VALUE: {
+            setNumericValue(other.getNumericValue());
+            break;
+          }
+          case STRING_VALUE: {
+            valueCase_ = 6;
+            value_ = other.value_;
+            onChanged();
+            break;
+          }
+          case VALUE_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                group_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                type_ = input.readEnum();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 34: {
+                identifier_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 41: {
+                value_ = input.readDouble();
+                valueCase_ = 5;
+                break;
+              } // case 41
+              case 50: {
+                java.lang.String s = input.readStringRequireUtf8();
+                valueCase_ = 6;
+                value_ = s;
+                break;
+              } // case 50
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int valueCase_ = 0;
+      private java.lang.Object value_;
+      public ValueCase
+          getValueCase() {
+        return ValueCase.forNumber(
+            valueCase_);
+      }
+
+      public Builder clearValue() {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+        return this;
+      }
+
+      private int bitField0_;
+
+      private java.lang.Object group_ = "";
+      /**
+       * <code>string group = 1;</code>
+       * @return The group.
+       */
+      public java.lang.String getGroup() {
+        java.lang.Object ref = group_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          group_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string group = 1;</code>
+       * @return The bytes for group.
+       */
+      public com.google.protobuf.ByteString
+          getGroupBytes() {
+        java.lang.Object ref = group_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          group_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string group = 1;</code>
+       * @param value The group to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroup(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        group_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string group = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGroup() {
+        group_ = getDefaultInstance().getGroup();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string group = 1;</code>
+       * @param value The bytes for group to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGroupBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        group_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 2;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private int type_ = 0;
+      /**
+       * <code>.AttributeType type = 3;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>.AttributeType type = 3;</code>
+       * @param value The enum numeric value on the wire for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeValue(int value) {
+        type_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.AttributeType type = 3;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeType getType() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeType result = org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeType.forNumber(type_);
+        return result == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeType.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.AttributeType type = 3;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000004;
+        type_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.AttributeType type = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object identifier_ = "";
+      /**
+       * <code>optional string identifier = 4;</code>
+       * @return Whether the identifier field is set.
+       */
+      public boolean hasIdentifier() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string identifier = 4;</code>
+       * @return The identifier.
+       */
+      public java.lang.String getIdentifier() {
+        java.lang.Object ref = identifier_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          identifier_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string identifier = 4;</code>
+       * @return The bytes for identifier.
+       */
+      public com.google.protobuf.ByteString
+          getIdentifierBytes() {
+        java.lang.Object ref = identifier_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          identifier_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string identifier = 4;</code>
+       * @param value The identifier to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdentifier(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        identifier_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string identifier = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIdentifier() {
+        identifier_ = getDefaultInstance().getIdentifier();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string identifier = 4;</code>
+       * @param value The bytes for identifier to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdentifierBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        identifier_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      /**
+       * <code>double numeric_value = 5;</code>
+       * @return Whether the numericValue field is set.
+       */
+      public boolean hasNumericValue() {
+        return valueCase_ == 5;
+      }
+      /**
+       * <code>double numeric_value = 5;</code>
+       * @return The numericValue.
+       */
+      public double getNumericValue() {
+        if (valueCase_ == 5) {
+          return (java.lang.Double) value_;
+        }
+        return 0D;
+      }
+      /**
+       * <code>double numeric_value = 5;</code>
+       * @param value The numericValue to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNumericValue(double value) {
+
+        valueCase_ = 5;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double numeric_value = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNumericValue() {
+        if (valueCase_ == 5) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      /**
+       * <code>string string_value = 6;</code>
+       * @return Whether the stringValue field is set.
+       */
+      @java.lang.Override
+      public boolean hasStringValue() {
+        return valueCase_ == 6;
+      }
+      /**
+       * <code>string string_value = 6;</code>
+       * @return The stringValue.
+       */
+      @java.lang.Override
+      public java.lang.String getStringValue() {
+        java.lang.Object ref = "";
+        if (valueCase_ == 6) {
+          ref = value_;
+        }
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (valueCase_ == 6) {
+            value_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string string_value = 6;</code>
+       * @return The bytes for stringValue.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getStringValueBytes() {
+        java.lang.Object ref = "";
+        if (valueCase_ == 6) {
+          ref = value_;
+        }
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          if (valueCase_ == 6) {
+            value_ = b;
+          }
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string string_value = 6;</code>
+       * @param value The stringValue to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStringValue(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        valueCase_ = 6;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string string_value = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStringValue() {
+        if (valueCase_ == 6) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>string string_value = 6;</code>
+       * @param value The bytes for stringValue to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStringValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        valueCase_ = 6;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Attribute)
+    }
+
+    // @@protoc_insertion_point(class_scope:Attribute)
+    private static final org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute();
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Attribute>
+        PARSER = new com.google.protobuf.AbstractParser<Attribute>() {
+      @java.lang.Override
+      public Attribute parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Attribute> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Attribute> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CollectionResourceOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CollectionResource)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     * @return Whether the node field is set.
+     */
+    boolean hasNode();
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     * @return The node.
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource getNode();
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder getNodeOrBuilder();
+
+    /**
+     * <code>.InterfaceLevelResource interface = 2;</code>
+     * @return Whether the interface field is set.
+     */
+    boolean hasInterface();
+    /**
+     * <code>.InterfaceLevelResource interface = 2;</code>
+     * @return The interface.
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource getInterface();
+    /**
+     * <code>.InterfaceLevelResource interface = 2;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResourceOrBuilder getInterfaceOrBuilder();
+
+    /**
+     * <code>.GenericTypeResource generic = 3;</code>
+     * @return Whether the generic field is set.
+     */
+    boolean hasGeneric();
+    /**
+     * <code>.GenericTypeResource generic = 3;</code>
+     * @return The generic.
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource getGeneric();
+    /**
+     * <code>.GenericTypeResource generic = 3;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResourceOrBuilder getGenericOrBuilder();
+
+    /**
+     * <code>repeated .Attribute attributes = 4;</code>
+     */
+    java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute> 
+        getAttributesList();
+    /**
+     * <code>repeated .Attribute attributes = 4;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute getAttributes(int index);
+    /**
+     * <code>repeated .Attribute attributes = 4;</code>
+     */
+    int getAttributesCount();
+    /**
+     * <code>repeated .Attribute attributes = 4;</code>
+     */
+    java.util.List<? extends org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeOrBuilder> 
+        getAttributesOrBuilderList();
+    /**
+     * <code>repeated .Attribute attributes = 4;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeOrBuilder getAttributesOrBuilder(
+        int index);
+
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.ResourceCase getResourceCase();
+  }
+  /**
+   * Protobuf type {@code CollectionResource}
+   */
+  public static final class CollectionResource extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:CollectionResource)
+      CollectionResourceOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CollectionResource.newBuilder() to construct.
+    private CollectionResource(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CollectionResource() {
+      attributes_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CollectionResource();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionResource_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionResource_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.Builder.class);
+    }
+
+    private int resourceCase_ = 0;
+    @SuppressWarnings("serial")
+    private java.lang.Object resource_;
+    public enum ResourceCase
+        implements com.google.protobuf.Internal.EnumLite,
+            com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+      NODE(1),
+      INTERFACE(2),
+      GENERIC(3),
+      RESOURCE_NOT_SET(0);
+      private final int value;
+      private ResourceCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @param value The number of the enum to look for.
+       * @return The enum associated with the given number.
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static ResourceCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static ResourceCase forNumber(int value) {
+        switch (value) {
+          case 1: return NODE;
+          case 2: return INTERFACE;
+          case 3: return GENERIC;
+          case 0: return RESOURCE_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public ResourceCase
+    getResourceCase() {
+      return ResourceCase.forNumber(
+          resourceCase_);
+    }
+
+    public static final int NODE_FIELD_NUMBER = 1;
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     * @return Whether the node field is set.
+     */
+    @java.lang.Override
+    public boolean hasNode() {
+      return resourceCase_ == 1;
+    }
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     * @return The node.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource getNode() {
+      if (resourceCase_ == 1) {
+         return (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource) resource_;
+      }
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance();
+    }
+    /**
+     * <code>.NodeLevelResource node = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder getNodeOrBuilder() {
+      if (resourceCase_ == 1) {
+         return (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource) resource_;
+      }
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance();
+    }
+
+    public static final int INTERFACE_FIELD_NUMBER = 2;
+    /**
+     * <code>.InterfaceLevelResource interface = 2;</code>
+     * @return Whether the interface field is set.
+     */
+    @java.lang.Override
+    public boolean hasInterface() {
+      return resourceCase_ == 2;
+    }
+    /**
+     * <code>.InterfaceLevelResource interface = 2;</code>
+     * @return The interface.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource getInterface() {
+      if (resourceCase_ == 2) {
+         return (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource) resource_;
+      }
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.getDefaultInstance();
+    }
+    /**
+     * <code>.InterfaceLevelResource interface = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResourceOrBuilder getInterfaceOrBuilder() {
+      if (resourceCase_ == 2) {
+         return (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource) resource_;
+      }
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.getDefaultInstance();
+    }
+
+    public static final int GENERIC_FIELD_NUMBER = 3;
+    /**
+     * <code>.GenericTypeResource generic = 3;</code>
+     * @return Whether the generic field is set.
+     */
+    @java.lang.Override
+    public boolean hasGeneric() {
+      return resourceCase_ == 3;
+    }
+    /**
+     * <code>.GenericTypeResource generic = 3;</code>
+     * @return The generic.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource getGeneric() {
+      if (resourceCase_ == 3) {
+         return (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource) resource_;
+      }
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.getDefaultInstance();
+    }
+    /**
+     * <code>.GenericTypeResource generic = 3;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResourceOrBuilder getGenericOrBuilder() {
+      if (resourceCase_ == 3) {
+         return (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource) resource_;
+      }
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.getDefaultInstance();
+    }
+
+    public static final int ATTRIBUTES_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute> attributes_;
+    /**
+     * <code>repeated .Attribute attributes = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute> getAttributesList() {
+      return attributes_;
+    }
+    /**
+     * <code>repeated .Attribute attributes = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeOrBuilder> 
+        getAttributesOrBuilderList() {
+      return attributes_;
+    }
+    /**
+     * <code>repeated .Attribute attributes = 4;</code>
+     */
+    @java.lang.Override
+    public int getAttributesCount() {
+      return attributes_.size();
+    }
+    /**
+     * <code>repeated .Attribute attributes = 4;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute getAttributes(int index) {
+      return attributes_.get(index);
+    }
+    /**
+     * <code>repeated .Attribute attributes = 4;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeOrBuilder getAttributesOrBuilder(
+        int index) {
+      return attributes_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (resourceCase_ == 1) {
+        output.writeMessage(1, (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource) resource_);
+      }
+      if (resourceCase_ == 2) {
+        output.writeMessage(2, (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource) resource_);
+      }
+      if (resourceCase_ == 3) {
+        output.writeMessage(3, (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource) resource_);
+      }
+      for (int i = 0; i < attributes_.size(); i++) {
+        output.writeMessage(4, attributes_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (resourceCase_ == 1) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource) resource_);
+      }
+      if (resourceCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource) resource_);
+      }
+      if (resourceCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource) resource_);
+      }
+      for (int i = 0; i < attributes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, attributes_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource other = (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource) obj;
+
+      if (!getAttributesList()
+          .equals(other.getAttributesList())) return false;
+      if (!getResourceCase().equals(other.getResourceCase())) return false;
+      switch (resourceCase_) {
+        case 1:
+          if (!getNode()
+              .equals(other.getNode())) return false;
+          break;
+        case 2:
+          if (!getInterface()
+              .equals(other.getInterface())) return false;
+          break;
+        case 3:
+          if (!getGeneric()
+              .equals(other.getGeneric())) return false;
+          break;
+        case 0:
+        default:
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getAttributesCount() > 0) {
+        hash = (37 * hash) + ATTRIBUTES_FIELD_NUMBER;
+        hash = (53 * hash) + getAttributesList().hashCode();
+      }
+      switch (resourceCase_) {
+        case 1:
+          hash = (37 * hash) + NODE_FIELD_NUMBER;
+          hash = (53 * hash) + getNode().hashCode();
+          break;
+        case 2:
+          hash = (37 * hash) + INTERFACE_FIELD_NUMBER;
+          hash = (53 * hash) + getInterface().hashCode();
+          break;
+        case 3:
+          hash = (37 * hash) + GENERIC_FIELD_NUMBER;
+          hash = (53 * hash) + getGeneric().hashCode();
+          break;
+        case 0:
+        default:
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CollectionResource}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CollectionResource)
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResourceOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionResource_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionResource_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (nodeBuilder_ != null) {
+          nodeBuilder_.clear();
+        }
+        if (interfaceBuilder_ != null) {
+          interfaceBuilder_.clear();
+        }
+        if (genericBuilder_ != null) {
+          genericBuilder_.clear();
+        }
+        if (attributesBuilder_ == null) {
+          attributes_ = java.util.Collections.emptyList();
+        } else {
+          attributes_ = null;
+          attributesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        resourceCase_ = 0;
+        resource_ = null;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionResource_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource getDefaultInstanceForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource build() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource buildPartial() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource result = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        buildPartialOneofs(result);
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource result) {
+        if (attributesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            attributes_ = java.util.Collections.unmodifiableList(attributes_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.attributes_ = attributes_;
+        } else {
+          result.attributes_ = attributesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      private void buildPartialOneofs(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource result) {
+        result.resourceCase_ = resourceCase_;
+        result.resource_ = this.resource_;
+        if (resourceCase_ == 1 &&
+            nodeBuilder_ != null) {
+          result.resource_ = nodeBuilder_.build();
+        }
+        if (resourceCase_ == 2 &&
+            interfaceBuilder_ != null) {
+          result.resource_ = interfaceBuilder_.build();
+        }
+        if (resourceCase_ == 3 &&
+            genericBuilder_ != null) {
+          result.resource_ = genericBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource) {
+          return mergeFrom((org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource other) {
+        if (other == org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.getDefaultInstance()) return this;
+        if (attributesBuilder_ == null) {
+          if (!other.attributes_.isEmpty()) {
+            if (attributes_.isEmpty()) {
+              attributes_ = other.attributes_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureAttributesIsMutable();
+              attributes_.addAll(other.attributes_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.attributes_.isEmpty()) {
+            if (attributesBuilder_.isEmpty()) {
+              attributesBuilder_.dispose();
+              attributesBuilder_ = null;
+              attributes_ = other.attributes_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              attributesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getAttributesFieldBuilder() : null;
+            } else {
+              attributesBuilder_.addAllMessages(other.attributes_);
+            }
+          }
+        }
+        switch (other.getResourceCase()) {
+          case NODE: {
+            mergeNode(other.getNode());
+            break;
+          }
+          case INTERFACE: {
+            mergeInterface(other.getInterface());
+            break;
+          }
+          case GENERIC: {
+            mergeGeneric(other.getGeneric());
+            break;
+          }
+          case RESOURCE_NOT_SET: {
+            break;
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getNodeFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                resourceCase_ = 1;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getInterfaceFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                resourceCase_ = 2;
+                break;
+              } // case 18
+              case 26: {
+                input.readMessage(
+                    getGenericFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                resourceCase_ = 3;
+                break;
+              } // case 26
+              case 34: {
+                org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute m =
+                    input.readMessage(
+                        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.parser(),
+                        extensionRegistry);
+                if (attributesBuilder_ == null) {
+                  ensureAttributesIsMutable();
+                  attributes_.add(m);
+                } else {
+                  attributesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int resourceCase_ = 0;
+      private java.lang.Object resource_;
+      public ResourceCase
+          getResourceCase() {
+        return ResourceCase.forNumber(
+            resourceCase_);
+      }
+
+      public Builder clearResource() {
+        resourceCase_ = 0;
+        resource_ = null;
+        onChanged();
+        return this;
+      }
+
+      private int bitField0_;
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder> nodeBuilder_;
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       * @return Whether the node field is set.
+       */
+      @java.lang.Override
+      public boolean hasNode() {
+        return resourceCase_ == 1;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       * @return The node.
+       */
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource getNode() {
+        if (nodeBuilder_ == null) {
+          if (resourceCase_ == 1) {
+            return (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource) resource_;
+          }
+          return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance();
+        } else {
+          if (resourceCase_ == 1) {
+            return nodeBuilder_.getMessage();
+          }
+          return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public Builder setNode(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource value) {
+        if (nodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          resource_ = value;
+          onChanged();
+        } else {
+          nodeBuilder_.setMessage(value);
+        }
+        resourceCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public Builder setNode(
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder builderForValue) {
+        if (nodeBuilder_ == null) {
+          resource_ = builderForValue.build();
+          onChanged();
+        } else {
+          nodeBuilder_.setMessage(builderForValue.build());
+        }
+        resourceCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public Builder mergeNode(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource value) {
+        if (nodeBuilder_ == null) {
+          if (resourceCase_ == 1 &&
+              resource_ != org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance()) {
+            resource_ = org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.newBuilder((org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource) resource_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            resource_ = value;
+          }
+          onChanged();
+        } else {
+          if (resourceCase_ == 1) {
+            nodeBuilder_.mergeFrom(value);
+          } else {
+            nodeBuilder_.setMessage(value);
+          }
+        }
+        resourceCase_ = 1;
+        return this;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public Builder clearNode() {
+        if (nodeBuilder_ == null) {
+          if (resourceCase_ == 1) {
+            resourceCase_ = 0;
+            resource_ = null;
+            onChanged();
+          }
+        } else {
+          if (resourceCase_ == 1) {
+            resourceCase_ = 0;
+            resource_ = null;
+          }
+          nodeBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder getNodeBuilder() {
+        return getNodeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder getNodeOrBuilder() {
+        if ((resourceCase_ == 1) && (nodeBuilder_ != null)) {
+          return nodeBuilder_.getMessageOrBuilder();
+        } else {
+          if (resourceCase_ == 1) {
+            return (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource) resource_;
+          }
+          return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.NodeLevelResource node = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder> 
+          getNodeFieldBuilder() {
+        if (nodeBuilder_ == null) {
+          if (!(resourceCase_ == 1)) {
+            resource_ = org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.getDefaultInstance();
+          }
+          nodeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResourceOrBuilder>(
+                  (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.NodeLevelResource) resource_,
+                  getParentForChildren(),
+                  isClean());
+          resource_ = null;
+        }
+        resourceCase_ = 1;
+        onChanged();
+        return nodeBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResourceOrBuilder> interfaceBuilder_;
+      /**
+       * <code>.InterfaceLevelResource interface = 2;</code>
+       * @return Whether the interface field is set.
+       */
+      @java.lang.Override
+      public boolean hasInterface() {
+        return resourceCase_ == 2;
+      }
+      /**
+       * <code>.InterfaceLevelResource interface = 2;</code>
+       * @return The interface.
+       */
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource getInterface() {
+        if (interfaceBuilder_ == null) {
+          if (resourceCase_ == 2) {
+            return (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource) resource_;
+          }
+          return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.getDefaultInstance();
+        } else {
+          if (resourceCase_ == 2) {
+            return interfaceBuilder_.getMessage();
+          }
+          return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.InterfaceLevelResource interface = 2;</code>
+       */
+      public Builder setInterface(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource value) {
+        if (interfaceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          resource_ = value;
+          onChanged();
+        } else {
+          interfaceBuilder_.setMessage(value);
+        }
+        resourceCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.InterfaceLevelResource interface = 2;</code>
+       */
+      public Builder setInterface(
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.Builder builderForValue) {
+        if (interfaceBuilder_ == null) {
+          resource_ = builderForValue.build();
+          onChanged();
+        } else {
+          interfaceBuilder_.setMessage(builderForValue.build());
+        }
+        resourceCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.InterfaceLevelResource interface = 2;</code>
+       */
+      public Builder mergeInterface(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource value) {
+        if (interfaceBuilder_ == null) {
+          if (resourceCase_ == 2 &&
+              resource_ != org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.getDefaultInstance()) {
+            resource_ = org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.newBuilder((org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource) resource_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            resource_ = value;
+          }
+          onChanged();
+        } else {
+          if (resourceCase_ == 2) {
+            interfaceBuilder_.mergeFrom(value);
+          } else {
+            interfaceBuilder_.setMessage(value);
+          }
+        }
+        resourceCase_ = 2;
+        return this;
+      }
+      /**
+       * <code>.InterfaceLevelResource interface = 2;</code>
+       */
+      public Builder clearInterface() {
+        if (interfaceBuilder_ == null) {
+          if (resourceCase_ == 2) {
+            resourceCase_ = 0;
+            resource_ = null;
+            onChanged();
+          }
+        } else {
+          if (resourceCase_ == 2) {
+            resourceCase_ = 0;
+            resource_ = null;
+          }
+          interfaceBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.InterfaceLevelResource interface = 2;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.Builder getInterfaceBuilder() {
+        return getInterfaceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.InterfaceLevelResource interface = 2;</code>
+       */
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResourceOrBuilder getInterfaceOrBuilder() {
+        if ((resourceCase_ == 2) && (interfaceBuilder_ != null)) {
+          return interfaceBuilder_.getMessageOrBuilder();
+        } else {
+          if (resourceCase_ == 2) {
+            return (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource) resource_;
+          }
+          return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.InterfaceLevelResource interface = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResourceOrBuilder> 
+          getInterfaceFieldBuilder() {
+        if (interfaceBuilder_ == null) {
+          if (!(resourceCase_ == 2)) {
+            resource_ = org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.getDefaultInstance();
+          }
+          interfaceBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResourceOrBuilder>(
+                  (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.InterfaceLevelResource) resource_,
+                  getParentForChildren(),
+                  isClean());
+          resource_ = null;
+        }
+        resourceCase_ = 2;
+        onChanged();
+        return interfaceBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResourceOrBuilder> genericBuilder_;
+      /**
+       * <code>.GenericTypeResource generic = 3;</code>
+       * @return Whether the generic field is set.
+       */
+      @java.lang.Override
+      public boolean hasGeneric() {
+        return resourceCase_ == 3;
+      }
+      /**
+       * <code>.GenericTypeResource generic = 3;</code>
+       * @return The generic.
+       */
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource getGeneric() {
+        if (genericBuilder_ == null) {
+          if (resourceCase_ == 3) {
+            return (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource) resource_;
+          }
+          return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.getDefaultInstance();
+        } else {
+          if (resourceCase_ == 3) {
+            return genericBuilder_.getMessage();
+          }
+          return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.GenericTypeResource generic = 3;</code>
+       */
+      public Builder setGeneric(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource value) {
+        if (genericBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          resource_ = value;
+          onChanged();
+        } else {
+          genericBuilder_.setMessage(value);
+        }
+        resourceCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.GenericTypeResource generic = 3;</code>
+       */
+      public Builder setGeneric(
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.Builder builderForValue) {
+        if (genericBuilder_ == null) {
+          resource_ = builderForValue.build();
+          onChanged();
+        } else {
+          genericBuilder_.setMessage(builderForValue.build());
+        }
+        resourceCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.GenericTypeResource generic = 3;</code>
+       */
+      public Builder mergeGeneric(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource value) {
+        if (genericBuilder_ == null) {
+          if (resourceCase_ == 3 &&
+              resource_ != org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.getDefaultInstance()) {
+            resource_ = org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.newBuilder((org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource) resource_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            resource_ = value;
+          }
+          onChanged();
+        } else {
+          if (resourceCase_ == 3) {
+            genericBuilder_.mergeFrom(value);
+          } else {
+            genericBuilder_.setMessage(value);
+          }
+        }
+        resourceCase_ = 3;
+        return this;
+      }
+      /**
+       * <code>.GenericTypeResource generic = 3;</code>
+       */
+      public Builder clearGeneric() {
+        if (genericBuilder_ == null) {
+          if (resourceCase_ == 3) {
+            resourceCase_ = 0;
+            resource_ = null;
+            onChanged();
+          }
+        } else {
+          if (resourceCase_ == 3) {
+            resourceCase_ = 0;
+            resource_ = null;
+          }
+          genericBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.GenericTypeResource generic = 3;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.Builder getGenericBuilder() {
+        return getGenericFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.GenericTypeResource generic = 3;</code>
+       */
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResourceOrBuilder getGenericOrBuilder() {
+        if ((resourceCase_ == 3) && (genericBuilder_ != null)) {
+          return genericBuilder_.getMessageOrBuilder();
+        } else {
+          if (resourceCase_ == 3) {
+            return (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource) resource_;
+          }
+          return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.GenericTypeResource generic = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResourceOrBuilder> 
+          getGenericFieldBuilder() {
+        if (genericBuilder_ == null) {
+          if (!(resourceCase_ == 3)) {
+            resource_ = org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.getDefaultInstance();
+          }
+          genericBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResourceOrBuilder>(
+                  (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.GenericTypeResource) resource_,
+                  getParentForChildren(),
+                  isClean());
+          resource_ = null;
+        }
+        resourceCase_ = 3;
+        onChanged();
+        return genericBuilder_;
+      }
+
+      private java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute> attributes_ =
+        java.util.Collections.emptyList();
+      private void ensureAttributesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          attributes_ = new java.util.ArrayList<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute>(attributes_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeOrBuilder> attributesBuilder_;
+
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute> getAttributesList() {
+        if (attributesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(attributes_);
+        } else {
+          return attributesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public int getAttributesCount() {
+        if (attributesBuilder_ == null) {
+          return attributes_.size();
+        } else {
+          return attributesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute getAttributes(int index) {
+        if (attributesBuilder_ == null) {
+          return attributes_.get(index);
+        } else {
+          return attributesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public Builder setAttributes(
+          int index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute value) {
+        if (attributesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttributesIsMutable();
+          attributes_.set(index, value);
+          onChanged();
+        } else {
+          attributesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public Builder setAttributes(
+          int index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.Builder builderForValue) {
+        if (attributesBuilder_ == null) {
+          ensureAttributesIsMutable();
+          attributes_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          attributesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public Builder addAttributes(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute value) {
+        if (attributesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttributesIsMutable();
+          attributes_.add(value);
+          onChanged();
+        } else {
+          attributesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public Builder addAttributes(
+          int index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute value) {
+        if (attributesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAttributesIsMutable();
+          attributes_.add(index, value);
+          onChanged();
+        } else {
+          attributesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public Builder addAttributes(
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.Builder builderForValue) {
+        if (attributesBuilder_ == null) {
+          ensureAttributesIsMutable();
+          attributes_.add(builderForValue.build());
+          onChanged();
+        } else {
+          attributesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public Builder addAttributes(
+          int index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.Builder builderForValue) {
+        if (attributesBuilder_ == null) {
+          ensureAttributesIsMutable();
+          attributes_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          attributesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public Builder addAllAttributes(
+          java.lang.Iterable<? extends org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute> values) {
+        if (attributesBuilder_ == null) {
+          ensureAttributesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, attributes_);
+          onChanged();
+        } else {
+          attributesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public Builder clearAttributes() {
+        if (attributesBuilder_ == null) {
+          attributes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          attributesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public Builder removeAttributes(int index) {
+        if (attributesBuilder_ == null) {
+          ensureAttributesIsMutable();
+          attributes_.remove(index);
+          onChanged();
+        } else {
+          attributesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.Builder getAttributesBuilder(
+          int index) {
+        return getAttributesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeOrBuilder getAttributesOrBuilder(
+          int index) {
+        if (attributesBuilder_ == null) {
+          return attributes_.get(index);  } else {
+          return attributesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public java.util.List<? extends org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeOrBuilder> 
+           getAttributesOrBuilderList() {
+        if (attributesBuilder_ != null) {
+          return attributesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(attributes_);
+        }
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.Builder addAttributesBuilder() {
+        return getAttributesFieldBuilder().addBuilder(
+            org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.Builder addAttributesBuilder(
+          int index) {
+        return getAttributesFieldBuilder().addBuilder(
+            index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Attribute attributes = 4;</code>
+       */
+      public java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.Builder> 
+           getAttributesBuilderList() {
+        return getAttributesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeOrBuilder> 
+          getAttributesFieldBuilder() {
+        if (attributesBuilder_ == null) {
+          attributesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.Attribute.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.AttributeOrBuilder>(
+                  attributes_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          attributes_ = null;
+        }
+        return attributesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:CollectionResource)
+    }
+
+    // @@protoc_insertion_point(class_scope:CollectionResource)
+    private static final org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource();
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CollectionResource>
+        PARSER = new com.google.protobuf.AbstractParser<CollectionResource>() {
+      @java.lang.Override
+      public CollectionResource parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CollectionResource> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CollectionResource> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CollectionSetOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CollectionSet)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .CollectionAgent agent = 1;</code>
+     * @return Whether the agent field is set.
+     */
+    boolean hasAgent();
+    /**
+     * <code>optional .CollectionAgent agent = 1;</code>
+     * @return The agent.
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent getAgent();
+    /**
+     * <code>optional .CollectionAgent agent = 1;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentOrBuilder getAgentOrBuilder();
+
+    /**
+     * <code>optional .CollectionStatus status = 2;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>optional .CollectionStatus status = 2;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    int getStatusValue();
+    /**
+     * <code>optional .CollectionStatus status = 2;</code>
+     * @return The status.
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionStatus getStatus();
+
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return Whether the timestamp field is set.
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return The timestamp.
+     */
+    long getTimestamp();
+
+    /**
+     * <code>repeated .CollectionResource resources = 4;</code>
+     */
+    java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource> 
+        getResourcesList();
+    /**
+     * <code>repeated .CollectionResource resources = 4;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource getResources(int index);
+    /**
+     * <code>repeated .CollectionResource resources = 4;</code>
+     */
+    int getResourcesCount();
+    /**
+     * <code>repeated .CollectionResource resources = 4;</code>
+     */
+    java.util.List<? extends org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResourceOrBuilder> 
+        getResourcesOrBuilderList();
+    /**
+     * <code>repeated .CollectionResource resources = 4;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResourceOrBuilder getResourcesOrBuilder(
+        int index);
+
+    /**
+     * <code>optional bool disable_counter_persistence = 5;</code>
+     * @return Whether the disableCounterPersistence field is set.
+     */
+    boolean hasDisableCounterPersistence();
+    /**
+     * <code>optional bool disable_counter_persistence = 5;</code>
+     * @return The disableCounterPersistence.
+     */
+    boolean getDisableCounterPersistence();
+
+    /**
+     * <code>optional int64 sequence_number = 6;</code>
+     * @return Whether the sequenceNumber field is set.
+     */
+    boolean hasSequenceNumber();
+    /**
+     * <code>optional int64 sequence_number = 6;</code>
+     * @return The sequenceNumber.
+     */
+    long getSequenceNumber();
+  }
+  /**
+   * Protobuf type {@code CollectionSet}
+   */
+  public static final class CollectionSet extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:CollectionSet)
+      CollectionSetOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CollectionSet.newBuilder() to construct.
+    private CollectionSet(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CollectionSet() {
+      status_ = 0;
+      resources_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CollectionSet();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionSet_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionSet_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int AGENT_FIELD_NUMBER = 1;
+    private org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent agent_;
+    /**
+     * <code>optional .CollectionAgent agent = 1;</code>
+     * @return Whether the agent field is set.
+     */
+    @java.lang.Override
+    public boolean hasAgent() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional .CollectionAgent agent = 1;</code>
+     * @return The agent.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent getAgent() {
+      return agent_ == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.getDefaultInstance() : agent_;
+    }
+    /**
+     * <code>optional .CollectionAgent agent = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentOrBuilder getAgentOrBuilder() {
+      return agent_ == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.getDefaultInstance() : agent_;
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 2;
+    private int status_ = 0;
+    /**
+     * <code>optional .CollectionStatus status = 2;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override public boolean hasStatus() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional .CollectionStatus status = 2;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    @java.lang.Override public int getStatusValue() {
+      return status_;
+    }
+    /**
+     * <code>optional .CollectionStatus status = 2;</code>
+     * @return The status.
+     */
+    @java.lang.Override public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionStatus getStatus() {
+      org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionStatus result = org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionStatus.forNumber(status_);
+      return result == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionStatus.UNRECOGNIZED : result;
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 3;
+    private long timestamp_ = 0L;
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return Whether the timestamp field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    public static final int RESOURCES_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource> resources_;
+    /**
+     * <code>repeated .CollectionResource resources = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource> getResourcesList() {
+      return resources_;
+    }
+    /**
+     * <code>repeated .CollectionResource resources = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResourceOrBuilder> 
+        getResourcesOrBuilderList() {
+      return resources_;
+    }
+    /**
+     * <code>repeated .CollectionResource resources = 4;</code>
+     */
+    @java.lang.Override
+    public int getResourcesCount() {
+      return resources_.size();
+    }
+    /**
+     * <code>repeated .CollectionResource resources = 4;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource getResources(int index) {
+      return resources_.get(index);
+    }
+    /**
+     * <code>repeated .CollectionResource resources = 4;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResourceOrBuilder getResourcesOrBuilder(
+        int index) {
+      return resources_.get(index);
+    }
+
+    public static final int DISABLE_COUNTER_PERSISTENCE_FIELD_NUMBER = 5;
+    private boolean disableCounterPersistence_ = false;
+    /**
+     * <code>optional bool disable_counter_persistence = 5;</code>
+     * @return Whether the disableCounterPersistence field is set.
+     */
+    @java.lang.Override
+    public boolean hasDisableCounterPersistence() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional bool disable_counter_persistence = 5;</code>
+     * @return The disableCounterPersistence.
+     */
+    @java.lang.Override
+    public boolean getDisableCounterPersistence() {
+      return disableCounterPersistence_;
+    }
+
+    public static final int SEQUENCE_NUMBER_FIELD_NUMBER = 6;
+    private long sequenceNumber_ = 0L;
+    /**
+     * <code>optional int64 sequence_number = 6;</code>
+     * @return Whether the sequenceNumber field is set.
+     */
+    @java.lang.Override
+    public boolean hasSequenceNumber() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int64 sequence_number = 6;</code>
+     * @return The sequenceNumber.
+     */
+    @java.lang.Override
+    public long getSequenceNumber() {
+      return sequenceNumber_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getAgent());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeEnum(2, status_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeInt64(3, timestamp_);
+      }
+      for (int i = 0; i < resources_.size(); i++) {
+        output.writeMessage(4, resources_.get(i));
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeBool(5, disableCounterPersistence_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt64(6, sequenceNumber_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getAgent());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, status_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, timestamp_);
+      }
+      for (int i = 0; i < resources_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, resources_.get(i));
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, disableCounterPersistence_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, sequenceNumber_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet other = (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet) obj;
+
+      if (hasAgent() != other.hasAgent()) return false;
+      if (hasAgent()) {
+        if (!getAgent()
+            .equals(other.getAgent())) return false;
+      }
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (status_ != other.status_) return false;
+      }
+      if (hasTimestamp() != other.hasTimestamp()) return false;
+      if (hasTimestamp()) {
+        if (getTimestamp()
+            != other.getTimestamp()) return false;
+      }
+      if (!getResourcesList()
+          .equals(other.getResourcesList())) return false;
+      if (hasDisableCounterPersistence() != other.hasDisableCounterPersistence()) return false;
+      if (hasDisableCounterPersistence()) {
+        if (getDisableCounterPersistence()
+            != other.getDisableCounterPersistence()) return false;
+      }
+      if (hasSequenceNumber() != other.hasSequenceNumber()) return false;
+      if (hasSequenceNumber()) {
+        if (getSequenceNumber()
+            != other.getSequenceNumber()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAgent()) {
+        hash = (37 * hash) + AGENT_FIELD_NUMBER;
+        hash = (53 * hash) + getAgent().hashCode();
+      }
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + status_;
+      }
+      if (hasTimestamp()) {
+        hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTimestamp());
+      }
+      if (getResourcesCount() > 0) {
+        hash = (37 * hash) + RESOURCES_FIELD_NUMBER;
+        hash = (53 * hash) + getResourcesList().hashCode();
+      }
+      if (hasDisableCounterPersistence()) {
+        hash = (37 * hash) + DISABLE_COUNTER_PERSISTENCE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getDisableCounterPersistence());
+      }
+      if (hasSequenceNumber()) {
+        hash = (37 * hash) + SEQUENCE_NUMBER_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSequenceNumber());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CollectionSet}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CollectionSet)
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSetOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionSet_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionSet_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getAgentFieldBuilder();
+          getResourcesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        agent_ = null;
+        if (agentBuilder_ != null) {
+          agentBuilder_.dispose();
+          agentBuilder_ = null;
+        }
+        status_ = 0;
+        timestamp_ = 0L;
+        if (resourcesBuilder_ == null) {
+          resources_ = java.util.Collections.emptyList();
+        } else {
+          resources_ = null;
+          resourcesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        disableCounterPersistence_ = false;
+        sequenceNumber_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectionSet_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet getDefaultInstanceForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet build() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet buildPartial() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet result = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet result) {
+        if (resourcesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            resources_ = java.util.Collections.unmodifiableList(resources_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.resources_ = resources_;
+        } else {
+          result.resources_ = resourcesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.agent_ = agentBuilder_ == null
+              ? agent_
+              : agentBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.status_ = status_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.timestamp_ = timestamp_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.disableCounterPersistence_ = disableCounterPersistence_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.sequenceNumber_ = sequenceNumber_;
+          to_bitField0_ |= 0x00000010;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet) {
+          return mergeFrom((org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet other) {
+        if (other == org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.getDefaultInstance()) return this;
+        if (other.hasAgent()) {
+          mergeAgent(other.getAgent());
+        }
+        if (other.hasStatus()) {
+          setStatus(other.getStatus());
+        }
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (resourcesBuilder_ == null) {
+          if (!other.resources_.isEmpty()) {
+            if (resources_.isEmpty()) {
+              resources_ = other.resources_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureResourcesIsMutable();
+              resources_.addAll(other.resources_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.resources_.isEmpty()) {
+            if (resourcesBuilder_.isEmpty()) {
+              resourcesBuilder_.dispose();
+              resourcesBuilder_ = null;
+              resources_ = other.resources_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              resourcesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResourcesFieldBuilder() : null;
+            } else {
+              resourcesBuilder_.addAllMessages(other.resources_);
+            }
+          }
+        }
+        if (other.hasDisableCounterPersistence()) {
+          setDisableCounterPersistence(other.getDisableCounterPersistence());
+        }
+        if (other.hasSequenceNumber()) {
+          setSequenceNumber(other.getSequenceNumber());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getAgentFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                status_ = input.readEnum();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                timestamp_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 34: {
+                org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource m =
+                    input.readMessage(
+                        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.parser(),
+                        extensionRegistry);
+                if (resourcesBuilder_ == null) {
+                  ensureResourcesIsMutable();
+                  resources_.add(m);
+                } else {
+                  resourcesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              case 40: {
+                disableCounterPersistence_ = input.readBool();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                sequenceNumber_ = input.readInt64();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent agent_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentOrBuilder> agentBuilder_;
+      /**
+       * <code>optional .CollectionAgent agent = 1;</code>
+       * @return Whether the agent field is set.
+       */
+      public boolean hasAgent() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional .CollectionAgent agent = 1;</code>
+       * @return The agent.
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent getAgent() {
+        if (agentBuilder_ == null) {
+          return agent_ == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.getDefaultInstance() : agent_;
+        } else {
+          return agentBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .CollectionAgent agent = 1;</code>
+       */
+      public Builder setAgent(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent value) {
+        if (agentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          agent_ = value;
+        } else {
+          agentBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CollectionAgent agent = 1;</code>
+       */
+      public Builder setAgent(
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.Builder builderForValue) {
+        if (agentBuilder_ == null) {
+          agent_ = builderForValue.build();
+        } else {
+          agentBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CollectionAgent agent = 1;</code>
+       */
+      public Builder mergeAgent(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent value) {
+        if (agentBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            agent_ != null &&
+            agent_ != org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.getDefaultInstance()) {
+            getAgentBuilder().mergeFrom(value);
+          } else {
+            agent_ = value;
+          }
+        } else {
+          agentBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CollectionAgent agent = 1;</code>
+       */
+      public Builder clearAgent() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        agent_ = null;
+        if (agentBuilder_ != null) {
+          agentBuilder_.dispose();
+          agentBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CollectionAgent agent = 1;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.Builder getAgentBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getAgentFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .CollectionAgent agent = 1;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentOrBuilder getAgentOrBuilder() {
+        if (agentBuilder_ != null) {
+          return agentBuilder_.getMessageOrBuilder();
+        } else {
+          return agent_ == null ?
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.getDefaultInstance() : agent_;
+        }
+      }
+      /**
+       * <code>optional .CollectionAgent agent = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentOrBuilder> 
+          getAgentFieldBuilder() {
+        if (agentBuilder_ == null) {
+          agentBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgent.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionAgentOrBuilder>(
+                  getAgent(),
+                  getParentForChildren(),
+                  isClean());
+          agent_ = null;
+        }
+        return agentBuilder_;
+      }
+
+      private int status_ = 0;
+      /**
+       * <code>optional .CollectionStatus status = 2;</code>
+       * @return Whether the status field is set.
+       */
+      @java.lang.Override public boolean hasStatus() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional .CollectionStatus status = 2;</code>
+       * @return The enum numeric value on the wire for status.
+       */
+      @java.lang.Override public int getStatusValue() {
+        return status_;
+      }
+      /**
+       * <code>optional .CollectionStatus status = 2;</code>
+       * @param value The enum numeric value on the wire for status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatusValue(int value) {
+        status_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CollectionStatus status = 2;</code>
+       * @return The status.
+       */
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionStatus getStatus() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionStatus result = org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionStatus.forNumber(status_);
+        return result == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionStatus.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>optional .CollectionStatus status = 2;</code>
+       * @param value The status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatus(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionStatus value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        status_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CollectionStatus status = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        status_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @return Whether the timestamp field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @return The timestamp.
+       */
+      @java.lang.Override
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(long value) {
+
+        timestamp_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource> resources_ =
+        java.util.Collections.emptyList();
+      private void ensureResourcesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          resources_ = new java.util.ArrayList<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource>(resources_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResourceOrBuilder> resourcesBuilder_;
+
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource> getResourcesList() {
+        if (resourcesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(resources_);
+        } else {
+          return resourcesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public int getResourcesCount() {
+        if (resourcesBuilder_ == null) {
+          return resources_.size();
+        } else {
+          return resourcesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource getResources(int index) {
+        if (resourcesBuilder_ == null) {
+          return resources_.get(index);
+        } else {
+          return resourcesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public Builder setResources(
+          int index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource value) {
+        if (resourcesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResourcesIsMutable();
+          resources_.set(index, value);
+          onChanged();
+        } else {
+          resourcesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public Builder setResources(
+          int index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.Builder builderForValue) {
+        if (resourcesBuilder_ == null) {
+          ensureResourcesIsMutable();
+          resources_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resourcesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public Builder addResources(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource value) {
+        if (resourcesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResourcesIsMutable();
+          resources_.add(value);
+          onChanged();
+        } else {
+          resourcesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public Builder addResources(
+          int index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource value) {
+        if (resourcesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResourcesIsMutable();
+          resources_.add(index, value);
+          onChanged();
+        } else {
+          resourcesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public Builder addResources(
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.Builder builderForValue) {
+        if (resourcesBuilder_ == null) {
+          ensureResourcesIsMutable();
+          resources_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resourcesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public Builder addResources(
+          int index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.Builder builderForValue) {
+        if (resourcesBuilder_ == null) {
+          ensureResourcesIsMutable();
+          resources_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resourcesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public Builder addAllResources(
+          java.lang.Iterable<? extends org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource> values) {
+        if (resourcesBuilder_ == null) {
+          ensureResourcesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, resources_);
+          onChanged();
+        } else {
+          resourcesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public Builder clearResources() {
+        if (resourcesBuilder_ == null) {
+          resources_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          resourcesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public Builder removeResources(int index) {
+        if (resourcesBuilder_ == null) {
+          ensureResourcesIsMutable();
+          resources_.remove(index);
+          onChanged();
+        } else {
+          resourcesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.Builder getResourcesBuilder(
+          int index) {
+        return getResourcesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResourceOrBuilder getResourcesOrBuilder(
+          int index) {
+        if (resourcesBuilder_ == null) {
+          return resources_.get(index);  } else {
+          return resourcesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public java.util.List<? extends org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResourceOrBuilder> 
+           getResourcesOrBuilderList() {
+        if (resourcesBuilder_ != null) {
+          return resourcesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(resources_);
+        }
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.Builder addResourcesBuilder() {
+        return getResourcesFieldBuilder().addBuilder(
+            org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.Builder addResourcesBuilder(
+          int index) {
+        return getResourcesFieldBuilder().addBuilder(
+            index, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CollectionResource resources = 4;</code>
+       */
+      public java.util.List<org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.Builder> 
+           getResourcesBuilderList() {
+        return getResourcesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResourceOrBuilder> 
+          getResourcesFieldBuilder() {
+        if (resourcesBuilder_ == null) {
+          resourcesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResource.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionResourceOrBuilder>(
+                  resources_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          resources_ = null;
+        }
+        return resourcesBuilder_;
+      }
+
+      private boolean disableCounterPersistence_ ;
+      /**
+       * <code>optional bool disable_counter_persistence = 5;</code>
+       * @return Whether the disableCounterPersistence field is set.
+       */
+      @java.lang.Override
+      public boolean hasDisableCounterPersistence() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional bool disable_counter_persistence = 5;</code>
+       * @return The disableCounterPersistence.
+       */
+      @java.lang.Override
+      public boolean getDisableCounterPersistence() {
+        return disableCounterPersistence_;
+      }
+      /**
+       * <code>optional bool disable_counter_persistence = 5;</code>
+       * @param value The disableCounterPersistence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDisableCounterPersistence(boolean value) {
+
+        disableCounterPersistence_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool disable_counter_persistence = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDisableCounterPersistence() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        disableCounterPersistence_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long sequenceNumber_ ;
+      /**
+       * <code>optional int64 sequence_number = 6;</code>
+       * @return Whether the sequenceNumber field is set.
+       */
+      @java.lang.Override
+      public boolean hasSequenceNumber() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional int64 sequence_number = 6;</code>
+       * @return The sequenceNumber.
+       */
+      @java.lang.Override
+      public long getSequenceNumber() {
+        return sequenceNumber_;
+      }
+      /**
+       * <code>optional int64 sequence_number = 6;</code>
+       * @param value The sequenceNumber to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSequenceNumber(long value) {
+
+        sequenceNumber_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 sequence_number = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSequenceNumber() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        sequenceNumber_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:CollectionSet)
+    }
+
+    // @@protoc_insertion_point(class_scope:CollectionSet)
+    private static final org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet();
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CollectionSet>
+        PARSER = new com.google.protobuf.AbstractParser<CollectionSet>() {
+      @java.lang.Override
+      public CollectionSet parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CollectionSet> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CollectionSet> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CollectorResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CollectorResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string error = 1;</code>
+     * @return Whether the error field is set.
+     */
+    boolean hasError();
+    /**
+     * <code>optional string error = 1;</code>
+     * @return The error.
+     */
+    java.lang.String getError();
+    /**
+     * <code>optional string error = 1;</code>
+     * @return The bytes for error.
+     */
+    com.google.protobuf.ByteString
+        getErrorBytes();
+
+    /**
+     * <code>optional .CollectionSet collection_set = 2;</code>
+     * @return Whether the collectionSet field is set.
+     */
+    boolean hasCollectionSet();
+    /**
+     * <code>optional .CollectionSet collection_set = 2;</code>
+     * @return The collectionSet.
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet getCollectionSet();
+    /**
+     * <code>optional .CollectionSet collection_set = 2;</code>
+     */
+    org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSetOrBuilder getCollectionSetOrBuilder();
+  }
+  /**
+   * Protobuf type {@code CollectorResponse}
+   */
+  public static final class CollectorResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:CollectorResponse)
+      CollectorResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CollectorResponse.newBuilder() to construct.
+    private CollectorResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CollectorResponse() {
+      error_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CollectorResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectorResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectorResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ERROR_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object error_ = "";
+    /**
+     * <code>optional string error = 1;</code>
+     * @return Whether the error field is set.
+     */
+    @java.lang.Override
+    public boolean hasError() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string error = 1;</code>
+     * @return The error.
+     */
+    @java.lang.Override
+    public java.lang.String getError() {
+      java.lang.Object ref = error_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        error_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string error = 1;</code>
+     * @return The bytes for error.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrorBytes() {
+      java.lang.Object ref = error_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        error_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COLLECTION_SET_FIELD_NUMBER = 2;
+    private org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet collectionSet_;
+    /**
+     * <code>optional .CollectionSet collection_set = 2;</code>
+     * @return Whether the collectionSet field is set.
+     */
+    @java.lang.Override
+    public boolean hasCollectionSet() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional .CollectionSet collection_set = 2;</code>
+     * @return The collectionSet.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet getCollectionSet() {
+      return collectionSet_ == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.getDefaultInstance() : collectionSet_;
+    }
+    /**
+     * <code>optional .CollectionSet collection_set = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSetOrBuilder getCollectionSetOrBuilder() {
+      return collectionSet_ == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.getDefaultInstance() : collectionSet_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, error_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(2, getCollectionSet());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, error_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getCollectionSet());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse other = (org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse) obj;
+
+      if (hasError() != other.hasError()) return false;
+      if (hasError()) {
+        if (!getError()
+            .equals(other.getError())) return false;
+      }
+      if (hasCollectionSet() != other.hasCollectionSet()) return false;
+      if (hasCollectionSet()) {
+        if (!getCollectionSet()
+            .equals(other.getCollectionSet())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasError()) {
+        hash = (37 * hash) + ERROR_FIELD_NUMBER;
+        hash = (53 * hash) + getError().hashCode();
+      }
+      if (hasCollectionSet()) {
+        hash = (37 * hash) + COLLECTION_SET_FIELD_NUMBER;
+        hash = (53 * hash) + getCollectionSet().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CollectorResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CollectorResponse)
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectorResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectorResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse.class, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getCollectionSetFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        error_ = "";
+        collectionSet_ = null;
+        if (collectionSetBuilder_ != null) {
+          collectionSetBuilder_.dispose();
+          collectionSetBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.internal_static_CollectorResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse getDefaultInstanceForType() {
+        return org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse build() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse buildPartial() {
+        org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse result = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.error_ = error_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.collectionSet_ = collectionSetBuilder_ == null
+              ? collectionSet_
+              : collectionSetBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse) {
+          return mergeFrom((org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse other) {
+        if (other == org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse.getDefaultInstance()) return this;
+        if (other.hasError()) {
+          error_ = other.error_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasCollectionSet()) {
+          mergeCollectionSet(other.getCollectionSet());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                error_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getCollectionSetFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object error_ = "";
+      /**
+       * <code>optional string error = 1;</code>
+       * @return Whether the error field is set.
+       */
+      public boolean hasError() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @return The error.
+       */
+      public java.lang.String getError() {
+        java.lang.Object ref = error_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          error_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @return The bytes for error.
+       */
+      public com.google.protobuf.ByteString
+          getErrorBytes() {
+        java.lang.Object ref = error_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          error_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @param value The error to set.
+       * @return This builder for chaining.
+       */
+      public Builder setError(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        error_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearError() {
+        error_ = getDefaultInstance().getError();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @param value The bytes for error to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        error_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet collectionSet_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSetOrBuilder> collectionSetBuilder_;
+      /**
+       * <code>optional .CollectionSet collection_set = 2;</code>
+       * @return Whether the collectionSet field is set.
+       */
+      public boolean hasCollectionSet() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional .CollectionSet collection_set = 2;</code>
+       * @return The collectionSet.
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet getCollectionSet() {
+        if (collectionSetBuilder_ == null) {
+          return collectionSet_ == null ? org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.getDefaultInstance() : collectionSet_;
+        } else {
+          return collectionSetBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .CollectionSet collection_set = 2;</code>
+       */
+      public Builder setCollectionSet(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet value) {
+        if (collectionSetBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          collectionSet_ = value;
+        } else {
+          collectionSetBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CollectionSet collection_set = 2;</code>
+       */
+      public Builder setCollectionSet(
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.Builder builderForValue) {
+        if (collectionSetBuilder_ == null) {
+          collectionSet_ = builderForValue.build();
+        } else {
+          collectionSetBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CollectionSet collection_set = 2;</code>
+       */
+      public Builder mergeCollectionSet(org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet value) {
+        if (collectionSetBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            collectionSet_ != null &&
+            collectionSet_ != org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.getDefaultInstance()) {
+            getCollectionSetBuilder().mergeFrom(value);
+          } else {
+            collectionSet_ = value;
+          }
+        } else {
+          collectionSetBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CollectionSet collection_set = 2;</code>
+       */
+      public Builder clearCollectionSet() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        collectionSet_ = null;
+        if (collectionSetBuilder_ != null) {
+          collectionSetBuilder_.dispose();
+          collectionSetBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CollectionSet collection_set = 2;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.Builder getCollectionSetBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getCollectionSetFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .CollectionSet collection_set = 2;</code>
+       */
+      public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSetOrBuilder getCollectionSetOrBuilder() {
+        if (collectionSetBuilder_ != null) {
+          return collectionSetBuilder_.getMessageOrBuilder();
+        } else {
+          return collectionSet_ == null ?
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.getDefaultInstance() : collectionSet_;
+        }
+      }
+      /**
+       * <code>optional .CollectionSet collection_set = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSetOrBuilder> 
+          getCollectionSetFieldBuilder() {
+        if (collectionSetBuilder_ == null) {
+          collectionSetBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSet.Builder, org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectionSetOrBuilder>(
+                  getCollectionSet(),
+                  getParentForChildren(),
+                  isClean());
+          collectionSet_ = null;
+        }
+        return collectionSetBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:CollectorResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:CollectorResponse)
+    private static final org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse();
+    }
+
+    public static org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CollectorResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CollectorResponse>() {
+      @java.lang.Override
+      public CollectorResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CollectorResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CollectorResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.collection.client.rpc.proto.CollectorRpcProtos.CollectorResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CollectionAgentAttribute_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CollectionAgentAttribute_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CollectionAgent_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CollectionAgent_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_NodeLevelResource_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_NodeLevelResource_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_InterfaceLevelResource_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_InterfaceLevelResource_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GenericTypeResource_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GenericTypeResource_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Attribute_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Attribute_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CollectionResource_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CollectionResource_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CollectionSet_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CollectionSet_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CollectorResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CollectorResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\023collector-rpc.proto\"6\n\030CollectionAgent" +
+      "Attribute\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t\"\254\003" +
+      "\n\017CollectionAgent\022-\n\nattributes\030\001 \003(\0132\031." +
+      "CollectionAgentAttribute\022\024\n\007address\030\002 \001(" +
+      "\014H\000\210\001\001\022$\n\027store_by_foreign_source\030\003 \001(\010H" +
+      "\001\210\001\001\022\017\n\007node_id\030\004 \001(\005\022\027\n\nnode_label\030\005 \001(" +
+      "\tH\002\210\001\001\022\033\n\016foreign_source\030\006 \001(\tH\003\210\001\001\022\027\n\nf" +
+      "oreign_id\030\007 \001(\tH\004\210\001\001\022\025\n\010location\030\010 \001(\tH\005" +
+      "\210\001\001\022\"\n\025storage_resource_path\030\t \001(\tH\006\210\001\001\022" +
+      "\023\n\013sys_up_time\030\n \001(\003B\n\n\010_addressB\032\n\030_sto" +
+      "re_by_foreign_sourceB\r\n\013_node_labelB\021\n\017_" +
+      "foreign_sourceB\r\n\013_foreign_idB\013\n\t_locati" +
+      "onB\030\n\026_storage_resource_path\"f\n\021NodeLeve" +
+      "lResource\022\017\n\007node_id\030\001 \001(\005\022\021\n\004path\030\002 \001(\t" +
+      "H\000\210\001\001\022\026\n\ttimestamp\030\003 \001(\003H\001\210\001\001B\007\n\005_pathB\014" +
+      "\n\n_timestamp\"q\n\026InterfaceLevelResource\022 " +
+      "\n\004node\030\001 \001(\0132\022.NodeLevelResource\022\017\n\007if_n" +
+      "ame\030\002 \001(\t\022\026\n\ttimestamp\030\003 \001(\003H\000\210\001\001B\014\n\n_ti" +
+      "mestamp\"\272\001\n\023GenericTypeResource\022 \n\004node\030" +
+      "\001 \001(\0132\022.NodeLevelResource\022\021\n\ttype_name\030\002" +
+      " \001(\t\022\037\n\022fallback_type_name\030\003 \001(\tH\000\210\001\001\022\020\n" +
+      "\010instance\030\004 \001(\t\022\026\n\ttimestamp\030\005 \001(\003H\001\210\001\001B" +
+      "\025\n\023_fallback_type_nameB\014\n\n_timestamp\"\250\001\n" +
+      "\tAttribute\022\r\n\005group\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\022" +
+      "\034\n\004type\030\003 \001(\0162\016.AttributeType\022\027\n\nidentif" +
+      "ier\030\004 \001(\tH\001\210\001\001\022\027\n\rnumeric_value\030\005 \001(\001H\000\022" +
+      "\026\n\014string_value\030\006 \001(\tH\000B\007\n\005valueB\r\n\013_ide" +
+      "ntifier\"\273\001\n\022CollectionResource\022\"\n\004node\030\001" +
+      " \001(\0132\022.NodeLevelResourceH\000\022,\n\tinterface\030" +
+      "\002 \001(\0132\027.InterfaceLevelResourceH\000\022\'\n\007gene" +
+      "ric\030\003 \001(\0132\024.GenericTypeResourceH\000\022\036\n\natt" +
+      "ributes\030\004 \003(\0132\n.AttributeB\n\n\010resource\"\274\002" +
+      "\n\rCollectionSet\022$\n\005agent\030\001 \001(\0132\020.Collect" +
+      "ionAgentH\000\210\001\001\022&\n\006status\030\002 \001(\0162\021.Collecti" +
+      "onStatusH\001\210\001\001\022\026\n\ttimestamp\030\003 \001(\003H\002\210\001\001\022&\n" +
+      "\tresources\030\004 \003(\0132\023.CollectionResource\022(\n" +
+      "\033disable_counter_persistence\030\005 \001(\010H\003\210\001\001\022" +
+      "\034\n\017sequence_number\030\006 \001(\003H\004\210\001\001B\010\n\006_agentB" +
+      "\t\n\007_statusB\014\n\n_timestampB\036\n\034_disable_cou" +
+      "nter_persistenceB\022\n\020_sequence_number\"q\n\021" +
+      "CollectorResponse\022\022\n\005error\030\001 \001(\tH\000\210\001\001\022+\n" +
+      "\016collection_set\030\002 \001(\0132\016.CollectionSetH\001\210" +
+      "\001\001B\010\n\006_errorB\021\n\017_collection_set*:\n\020Colle" +
+      "ctionStatus\022\013\n\007UNKNOWN\020\000\022\r\n\tSUCCEEDED\020\001\022" +
+      "\n\n\006FAILED\020\002*3\n\rAttributeType\022\t\n\005GAUGE\020\000\022" +
+      "\013\n\007COUNTER\020\001\022\n\n\006STRING\020\002BD\n.org.opennms." +
+      "netmgt.collection.client.rpc.protoB\022Coll" +
+      "ectorRpcProtosb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_CollectionAgentAttribute_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_CollectionAgentAttribute_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CollectionAgentAttribute_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_CollectionAgent_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_CollectionAgent_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CollectionAgent_descriptor,
+        new java.lang.String[] { "Attributes", "Address", "StoreByForeignSource", "NodeId", "NodeLabel", "ForeignSource", "ForeignId", "Location", "StorageResourcePath", "SysUpTime", "Address", "StoreByForeignSource", "NodeLabel", "ForeignSource", "ForeignId", "Location", "StorageResourcePath", });
+    internal_static_NodeLevelResource_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_NodeLevelResource_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_NodeLevelResource_descriptor,
+        new java.lang.String[] { "NodeId", "Path", "Timestamp", "Path", "Timestamp", });
+    internal_static_InterfaceLevelResource_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_InterfaceLevelResource_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_InterfaceLevelResource_descriptor,
+        new java.lang.String[] { "Node", "IfName", "Timestamp", "Timestamp", });
+    internal_static_GenericTypeResource_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_GenericTypeResource_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GenericTypeResource_descriptor,
+        new java.lang.String[] { "Node", "TypeName", "FallbackTypeName", "Instance", "Timestamp", "FallbackTypeName", "Timestamp", });
+    internal_static_Attribute_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_Attribute_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Attribute_descriptor,
+        new java.lang.String[] { "Group", "Name", "Type", "Identifier", "NumericValue", "StringValue", "Value", "Identifier", });
+    internal_static_CollectionResource_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_CollectionResource_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CollectionResource_descriptor,
+        new java.lang.String[] { "Node", "Interface", "Generic", "Attributes", "Resource", });
+    internal_static_CollectionSet_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_CollectionSet_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CollectionSet_descriptor,
+        new java.lang.String[] { "Agent", "Status", "Timestamp", "Resources", "DisableCounterPersistence", "SequenceNumber", "Agent", "Status", "Timestamp", "DisableCounterPersistence", "SequenceNumber", });
+    internal_static_CollectorResponse_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_CollectorResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CollectorResponse_descriptor,
+        new java.lang.String[] { "Error", "CollectionSet", "Error", "CollectionSet", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.collection.client.rpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.util.Date;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.core.rpc.xml.AbstractXmlRpcModule;
+import org.opennms.netmgt.collection.api.CollectionStatus;
+import org.opennms.netmgt.collection.dto.CollectionAgentDTO;
+import org.opennms.netmgt.collection.dto.CollectionSetDTO;
+import org.opennms.netmgt.collection.support.builder.CollectionSetBuilder;
+import org.opennms.netmgt.collection.support.builder.DeferredGenericTypeResource;
+import org.opennms.netmgt.collection.support.builder.InterfaceLevelResource;
+import org.opennms.netmgt.collection.support.builder.NodeLevelResource;
+import org.opennms.netmgt.model.ResourcePath;
+
+public class CollectorResponseProtobufCodecTest {
+
+    private static final String CODEC_PROPERTY = AbstractXmlRpcModule.CODEC_SYS_PROP_PREFIX + CollectorClientRpcModule.RPC_MODULE_ID + AbstractXmlRpcModule.CODEC_SYS_PROP_SUFFIX;
+
+    private final CollectorClientRpcModule module = new CollectorClientRpcModule();
+
+    /**
+     * The marshaled request advertises the binary format, as sent by OpenNMS.
+     */
+    private final String request = module.marshalRequest(new CollectorRequestDTO());
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CODEC_PROPERTY);
+    }
+
+    @Test
+    public void canRoundTripCollectionSet() throws Exception {
+        final CollectorResponseDTO response = new CollectorResponseDTO(createCollectionSet());
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        final String marshaled = module.marshalResponse(request, response);
+        assertTrue(marshaled, marshaled.startsWith("!ON1:"));
+        assertEquals(response, module.unmarshalResponse(marshaled));
+    }
+
+    @Test
+    public void canRoundTripError() {
+        final CollectorResponseDTO response = new CollectorResponseDTO(new IllegalStateException("agent timed out"));
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        final CollectorResponseDTO actual = module.unmarshalResponse(module.marshalResponse(request, response));
+        assertEquals(response.getErrorMessage(), actual.getErrorMessage());
+        assertNull(actual.getCollectionSet());
+    }
+
+    @Test
+    public void isSmallerThanXml() throws Exception {
+        final CollectorResponseDTO response = new CollectorResponseDTO(createCollectionSet());
+        final String xml = module.marshalResponse(response);
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        final String binary = module.marshalResponse(request, response);
+        assertTrue(String.format("binary: %d, xml: %d", binary.length(), xml.length()), binary.length() * 2 < xml.length());
+    }
+
+    private static CollectionSetDTO createCollectionSet() throws Exception {
+        final CollectionAgentDTO agent = new CollectionAgentDTO();
+        agent.setAddress(InetAddress.getByName("192.168.1.1"));
+        agent.setNodeId(1);
+        agent.setNodeLabel("router");
+        agent.setForeignSource("routers");
+        agent.setForeignId("r1");
+        agent.setLocationName("MINION");
+        agent.setStoreByForeignSource(true);
+        agent.setStorageResourcePath(ResourcePath.get("fs", "routers", "r1"));
+        agent.setSavedSysUpTime(1234);
+        agent.setAttribute("SNMP_STORAGE", "primary");
+
+        final NodeLevelResource node = new NodeLevelResource(1);
+        final InterfaceLevelResource eth0 = new InterfaceLevelResource(node, "eth0");
+        eth0.setTimestamp(new Date(1500000000000L));
+        final DeferredGenericTypeResource disk = new DeferredGenericTypeResource(node, "hrStorageIndex", "dskIndex", "/var/log");
+
+        final CollectionSetBuilder builder = new CollectionSetBuilder(agent)
+                .withStatus(CollectionStatus.SUCCEEDED)
+                .withTimestamp(new Date(1500000001000L))
+                .withSequenceNumber(42L)
+                .disableCounterPersistence(true)
+                .withGauge(node, "mib2-tcp", "tcpCurrEstab", 12d)
+                .withStringAttribute(node, "mib2-system", "sysName", "router.example.org")
+                .withIdentifiedStringAttribute(node, "mib2-system", "sysContact", "noc@example.org", "sysContact.0")
+                .withCounter(eth0, "mib2-X-interfaces", "ifHCInOctets", 123456789d)
+                .withCounter(eth0, "mib2-X-interfaces", "ifHCOutOctets", 987654321d)
+                .withGauge(disk, "mib2-storage", "hrStorageUsed", 1024d);
+        return (CollectionSetDTO)builder.build();
+    }
+}
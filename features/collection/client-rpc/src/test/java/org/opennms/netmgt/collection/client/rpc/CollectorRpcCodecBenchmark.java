@@ -0,0 +1,111 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.collection.client.rpc;
+
+import java.net.InetAddress;
+import java.util.Date;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.core.rpc.xml.AbstractXmlRpcModule;
+import org.opennms.netmgt.collection.dto.CollectionAgentDTO;
+import org.opennms.netmgt.collection.support.builder.CollectionSetBuilder;
+import org.opennms.netmgt.collection.support.builder.InterfaceLevelResource;
+import org.opennms.netmgt.collection.support.builder.NodeLevelResource;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare marshalling and unmarshalling collector
+ * responses using XML and protobuf.
+ */
+public class CollectorRpcCodecBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({AbstractXmlRpcModule.CODEC_XML, AbstractXmlRpcModule.CODEC_PROTOBUF})
+        public String codec;
+
+        @Param({"48"})
+        public int numInterfaces;
+
+        private CollectorClientRpcModule module;
+        private CollectorResponseDTO response;
+        private String request;
+        private String marshaled;
+
+        @Setup
+        public void setup() throws Exception {
+            System.setProperty(AbstractXmlRpcModule.CODEC_SYS_PROP_PREFIX + CollectorClientRpcModule.RPC_MODULE_ID + AbstractXmlRpcModule.CODEC_SYS_PROP_SUFFIX, codec);
+            module = new CollectorClientRpcModule();
+            request = module.marshalRequest(new CollectorRequestDTO());
+
+            final CollectionAgentDTO agent = new CollectionAgentDTO();
+            agent.setAddress(InetAddress.getByName("10.0.0.1"));
+            agent.setNodeId(1);
+            agent.setNodeLabel("switch");
+            agent.setLocationName("MINION");
+
+            final NodeLevelResource node = new NodeLevelResource(1);
+            final CollectionSetBuilder builder = new CollectionSetBuilder(agent)
+                    .withTimestamp(new Date())
+                    .withStringAttribute(node, "mib2-system", "sysName", "switch.example.org")
+                    .withGauge(node, "mib2-tcp", "tcpCurrEstab", 12d);
+            final String[] counters = new String[] { "ifHCInOctets", "ifHCOutOctets", "ifHCInUcastPkts", "ifHCOutUcastPkts",
+                    "ifInErrors", "ifOutErrors", "ifInDiscards", "ifOutDiscards" };
+            for (int i = 0; i < numInterfaces; i++) {
+                final InterfaceLevelResource intf = new InterfaceLevelResource(node, "Gi0_" + i);
+                for (int j = 0; j < counters.length; j++) {
+                    builder.withCounter(intf, "mib2-X-interfaces", counters[j], (double)(i * 1000003L + j));
+                }
+                builder.withGauge(intf, "mib2-X-interfaces", "ifHighSpeed", 1000d);
+            }
+            response = new CollectorResponseDTO(builder.build());
+            marshaled = module.marshalResponse(request, response);
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public String marshal(BState state) {
+        return state.module.marshalResponse(state.request, state.response);
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public CollectorResponseDTO unmarshal(BState state) {
+        return state.module.unmarshalResponse(state.marshaled);
+    }
+}
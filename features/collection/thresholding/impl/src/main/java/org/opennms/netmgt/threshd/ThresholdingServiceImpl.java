@@ -45,6 +45,7 @@ import org.opennms.netmgt.events.api.EventIpcManager;
 import org.opennms.netmgt.events.api.EventListener;
 import org.opennms.netmgt.events.api.model.IEvent;
 import org.opennms.netmgt.events.api.model.IParm;
+import org.opennms.netmgt.filter.FilterDaoFactory;
 import org.opennms.netmgt.threshd.api.ThresholdInitializationException;
 import org.opennms.netmgt.threshd.api.ThresholdStateMonitor;
 import org.opennms.netmgt.threshd.api.ThresholdingEventProxy;
@@ -156,6 +157,7 @@ public class ThresholdingServiceImpl implements ThresholdingService, EventListen
 
     public void nodeGainedService(IEvent event) {
         LOG.debug(event.toString());
+        refreshFilterInventory(event);
         // Trigger re-evaluation of Threshold Packages, re-evaluating Filters.
         threshdDao.rebuildPackageIpListMap();
         reinitializeThresholdingSets(event);
@@ -163,6 +165,7 @@ public class ThresholdingServiceImpl implements ThresholdingService, EventListen
 
     public void handleNodeCategoryChanged(IEvent event) {
         LOG.debug(event.toString());
+        refreshFilterInventory(event);
         // Trigger re-evaluation of Threshold Packages, re-evaluating Filters.
         threshdDao.rebuildPackageIpListMap();
         reinitializeThresholdingSets(event);
@@ -236,6 +239,13 @@ public class ThresholdingServiceImpl implements ThresholdingService, EventListen
         }
     }
 
+    private void refreshFilterInventory(IEvent event) {
+        // Make sure the package filters see the change, even if the inventory listener did not get the event yet
+        if (event.getNodeid() != null && event.getNodeid() > 0) {
+            FilterDaoFactory.getInstance().refreshNode(event.getNodeid().intValue(), event);
+        }
+    }
+
     private void reinitializeThresholdingSets(IEvent e) {
         thresholdingSetPersister.reinitializeThresholdingSets();
     }
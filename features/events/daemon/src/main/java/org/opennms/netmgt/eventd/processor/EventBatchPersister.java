@@ -0,0 +1,301 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd.processor;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.opennms.core.concurrent.LogPreservingThreadFactory;
+import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.netmgt.dao.util.SequenceIdAllocator;
+import org.opennms.netmgt.events.api.EventProcessorException;
+import org.opennms.netmgt.model.OnmsEvent;
+import org.opennms.netmgt.model.OnmsEventParameter;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+/**
+ * Writes the events of concurrently processed logs together.
+ *
+ * Callers of {@link #persist(Header, List)} are queued and a single writer thread drains the queue,
+ * waiting at most {@code maxLatencyMs} for a batch of {@code batchSize} events to build up. The batch is
+ * written in a single transaction using JDBC batch inserts for the events and their parameters, and the
+ * callers are released once the transaction is committed. Since the database IDs are set on the events
+ * before the callers return, the following event processors see the same results as with
+ * {@link HibernateEventWriter} writing the events one by one.
+ *
+ * The event IDs are allocated in blocks using the same hi/lo scheme Hibernate uses for the sequence of
+ * {@link OnmsEvent}, so both can be used concurrently. If a batch fails, the logs are written again one
+ * by one so that a single invalid event does not fail the other logs of the batch.
+ */
+class EventBatchPersister {
+    private static final Logger LOG = LoggerFactory.getLogger(EventBatchPersister.class);
+
+    private static final String INSERT_EVENT = "INSERT INTO events (eventId, eventUei, nodeId, eventTime, eventHost, eventSource, ipAddr, systemId, "
+            + "eventSnmpHost, serviceId, eventSnmp, eventCreateTime, eventDescr, eventLogGroup, eventLogMsg, eventSeverity, ifIndex, "
+            + "eventPathOutage, eventCorrelation, eventSuppressedCount, eventOperInstruct, eventAutoAction, eventOperAction, "
+            + "eventOperActionMenuText, eventNotification, eventTTicket, eventTTicketState, eventForward, eventMouseOverText, eventLog, "
+            + "eventDisplay, eventAckUser, eventAckTime) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PARAMETER = "INSERT INTO event_parameters (eventID, name, value, type, position) VALUES (?, ?, ?, ?, ?)";
+
+    private final TransactionOperations m_transactionOperations;
+    private final JdbcTemplate m_jdbcTemplate;
+    private final BiFunction<Header, Event, OnmsEvent> m_eventFactory;
+    private final int m_batchSize;
+    private final long m_maxLatencyMs;
+    private final BlockingQueue<Request> m_queue;
+    private final SequenceIdAllocator m_idAllocator;
+
+    private final Histogram m_batchSizeHistogram;
+    private final Timer m_flushTimer;
+    private final Timer m_backpressureTimer;
+    private final Meter m_retries;
+
+    EventBatchPersister(final TransactionOperations transactionOperations, final JdbcTemplate jdbcTemplate,
+                        final BiFunction<Header, Event, OnmsEvent> eventFactory, final int batchSize, final long maxLatencyMs,
+                        final int queueSize, final MetricRegistry registry) {
+        m_transactionOperations = Objects.requireNonNull(transactionOperations);
+        m_jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        m_eventFactory = Objects.requireNonNull(eventFactory);
+        m_batchSize = batchSize;
+        m_maxLatencyMs = maxLatencyMs;
+        m_queue = new LinkedBlockingQueue<>(queueSize);
+        m_idAllocator = new SequenceIdAllocator(m_jdbcTemplate, OnmsEvent.class);
+
+        m_batchSizeHistogram = registry.histogram("eventlogs.process.batch.size");
+        m_flushTimer = registry.timer("eventlogs.process.batch.flush");
+        m_backpressureTimer = registry.timer("eventlogs.process.batch.backpressure");
+        m_retries = registry.meter("eventlogs.process.batch.retries");
+        registry.register("eventlogs.process.batch.queued", (Gauge<Integer>) m_queue::size);
+
+        final Thread thread = new LogPreservingThreadFactory(EventBatchPersister.class.getSimpleName(), 1).newThread(this::run);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Writes the given events and sets their database IDs. Blocks until the events are committed.
+     */
+    void persist(final Header header, final List<Event> events) throws EventProcessorException {
+        final Request request = new Request(header, events);
+        if (!m_queue.offer(request)) {
+            // The writer is falling behind, wait for space in the queue
+            try (Timer.Context ctx = m_backpressureTimer.time()) {
+                m_queue.put(request);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new EventProcessorException("Interrupted while waiting to write events.", e);
+            }
+        }
+
+        try {
+            request.m_future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EventProcessorException("Interrupted while waiting for events to be written.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof EventProcessorException) {
+                throw (EventProcessorException) e.getCause();
+            }
+            throw new EventProcessorException("Unexpected exception while storing events.", e.getCause());
+        }
+    }
+
+    private void run() {
+        final List<Request> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(m_queue.take());
+                int numEvents = batch.get(0).m_events.size();
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(m_maxLatencyMs);
+                while (numEvents < m_batchSize) {
+                    final Request request = m_queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (request == null) {
+                        break;
+                    }
+                    batch.add(request);
+                    numEvents += request.m_events.size();
+                }
+
+                m_batchSizeHistogram.update(numEvents);
+                flush(batch);
+            } catch (InterruptedException e) {
+                LOG.info("Interrupted, no longer writing events.");
+                batch.addAll(m_queue);
+                batch.forEach(r -> r.m_future.completeExceptionally(new EventProcessorException("Event writer was stopped.")));
+                return;
+            } catch (Throwable t) {
+                LOG.error("Unexpected error while writing events.", t);
+                batch.forEach(r -> r.m_future.completeExceptionally(new EventProcessorException("Unexpected exception while storing events.", t)));
+            }
+            batch.clear();
+        }
+    }
+
+    private void flush(final List<Request> batch) {
+        try (Timer.Context ctx = m_flushTimer.time()) {
+            write(batch);
+            batch.forEach(r -> r.m_future.complete(null));
+            return;
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                batch.get(0).m_future.completeExceptionally(new EventProcessorException("Unexpected exception while storing events.", e));
+                return;
+            }
+            LOG.warn("Failed to write a batch of {} logs, writing them one by one.", batch.size(), e);
+        }
+
+        // Isolate the log(s) that caused the batch to fail
+        m_retries.mark();
+        for (final Request request : batch) {
+            try {
+                write(List.of(request));
+                request.m_future.complete(null);
+            } catch (Exception e) {
+                request.m_future.completeExceptionally(new EventProcessorException("Unexpected exception while storing events: " + request.m_events, e));
+            }
+        }
+    }
+
+    private void write(final List<Request> batch) {
+        final List<Event> events = new ArrayList<>();
+        final List<OnmsEvent> ovents = new ArrayList<>();
+        m_transactionOperations.execute(status -> {
+            for (final Request request : batch) {
+                for (final Event event : request.m_events) {
+                    events.add(event);
+                    ovents.add(m_eventFactory.apply(request.m_header, event));
+                }
+            }
+
+            final int[] ids = m_idAllocator.next(ovents.size());
+            final List<Object[]> parameters = new ArrayList<>();
+            for (int i = 0; i < ovents.size(); i++) {
+                final OnmsEvent ovent = ovents.get(i);
+                ovent.setId(ids[i]);
+                if (ovent.getEventParameters() != null) {
+                    int position = 0;
+                    for (final OnmsEventParameter parameter : ovent.getEventParameters()) {
+                        parameters.add(new Object[] { ids[i], parameter.getName(), parameter.getValue(), parameter.getType(), position++ });
+                    }
+                }
+            }
+
+            m_jdbcTemplate.batchUpdate(INSERT_EVENT, ovents, m_batchSize, EventBatchPersister::setEventValues);
+            m_jdbcTemplate.batchUpdate(INSERT_PARAMETER, parameters, m_batchSize, (ps, parameter) -> {
+                ps.setInt(1, (Integer) parameter[0]);
+                ps.setString(2, (String) parameter[1]);
+                ps.setString(3, (String) parameter[2]);
+                ps.setString(4, (String) parameter[3]);
+                ps.setInt(5, (Integer) parameter[4]);
+            });
+            return null;
+        });
+
+        // Only expose the IDs once the events are committed
+        for (int i = 0; i < events.size(); i++) {
+            events.get(i).setDbid(ovents.get(i).getId());
+        }
+    }
+
+    private static void setEventValues(final PreparedStatement ps, final OnmsEvent ovent) throws SQLException {
+        ps.setInt(1, ovent.getId());
+        ps.setString(2, ovent.getEventUei());
+        setInteger(ps, 3, ovent.getNode() == null ? null : ovent.getNode().getId());
+        ps.setTimestamp(4, toTimestamp(ovent.getEventTime()));
+        ps.setString(5, ovent.getEventHost());
+        ps.setString(6, ovent.getEventSource());
+        ps.setString(7, ovent.getIpAddr() == null ? null : InetAddressUtils.str(ovent.getIpAddr()));
+        ps.setString(8, ovent.getDistPoller() == null ? null : ovent.getDistPoller().getId());
+        ps.setString(9, ovent.getEventSnmpHost());
+        setInteger(ps, 10, ovent.getServiceType() == null ? null : ovent.getServiceType().getId());
+        ps.setString(11, ovent.getEventSnmp());
+        ps.setTimestamp(12, toTimestamp(ovent.getEventCreateTime()));
+        ps.setString(13, ovent.getEventDescr());
+        ps.setString(14, ovent.getEventLogGroup());
+        ps.setString(15, ovent.getEventLogMsg());
+        setInteger(ps, 16, ovent.getEventSeverity());
+        setInteger(ps, 17, ovent.getIfIndex());
+        ps.setString(18, ovent.getEventPathOutage());
+        ps.setString(19, ovent.getEventCorrelation());
+        setInteger(ps, 20, ovent.getEventSuppressedCount());
+        ps.setString(21, ovent.getEventOperInstruct());
+        ps.setString(22, ovent.getEventAutoAction());
+        ps.setString(23, ovent.getEventOperAction());
+        ps.setString(24, ovent.getEventOperActionMenuText());
+        ps.setString(25, ovent.getEventNotification());
+        ps.setString(26, ovent.getEventTTicket());
+        setInteger(ps, 27, ovent.getEventTTicketState());
+        ps.setString(28, ovent.getEventForward());
+        ps.setString(29, ovent.getEventMouseOverText());
+        ps.setString(30, ovent.getEventLog());
+        ps.setString(31, ovent.getEventDisplay());
+        ps.setString(32, ovent.getEventAckUser());
+        ps.setTimestamp(33, toTimestamp(ovent.getEventAckTime()));
+    }
+
+    private static void setInteger(final PreparedStatement ps, final int index, final Integer value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+
+    private static Timestamp toTimestamp(final Date date) {
+        return date == null ? null : new Timestamp(date.getTime());
+    }
+
+    private static class Request {
+        private final Header m_header;
+        private final List<Event> m_events;
+        private final CompletableFuture<Void> m_future = new CompletableFuture<>();
+
+        private Request(final Header header, final List<Event> events) {
+            m_header = header;
+            m_events = events;
+        }
+    }
+}
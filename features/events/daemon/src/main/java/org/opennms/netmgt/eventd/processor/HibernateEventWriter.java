@@ -28,6 +28,8 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import javax.sql.DataSource;
+
 import org.opennms.netmgt.dao.api.DistPollerDao;
 import org.opennms.netmgt.dao.api.EventDao;
 import org.opennms.netmgt.dao.api.MonitoringSystemDao;
@@ -52,6 +54,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionCallbackWithoutResult;
 import org.springframework.transaction.support.TransactionOperations;
@@ -92,6 +95,14 @@ public class HibernateEventWriter implements EventWriter {
     public static final String LOG_MSG_DEST_LOG_ONLY = "logonly";
     public static final String LOG_MSG_DEST_DISPLAY_ONLY = "displayonly";
     public static final String LOG_MSG_DEST_DISCARD_TRAPS = "discardtraps";
+
+    /**
+     * Set to true to write the events of concurrently processed logs together, see {@link EventBatchPersister}.
+     */
+    public static final String BATCH_SYS_PROP = "org.opennms.eventd.batchWriter";
+    public static final String BATCH_SIZE_SYS_PROP = "org.opennms.eventd.batchWriter.batchSize";
+    public static final String BATCH_MAX_LATENCY_SYS_PROP = "org.opennms.eventd.batchWriter.maxLatency";
+    public static final String BATCH_QUEUE_SIZE_SYS_PROP = "org.opennms.eventd.batchWriter.queueSize";
     
     @Autowired
     private TransactionOperations m_transactionManager;
@@ -114,10 +125,21 @@ public class HibernateEventWriter implements EventWriter {
     @Autowired
     private EventUtil eventUtil;
 
+    @Autowired(required = false)
+    private DataSource dataSource;
+
+    private final MetricRegistry registry;
+
     private final Timer writeTimer;
 
+    private volatile boolean batchEnabled;
+
+    private volatile EventBatchPersister batchPersister;
+
     public HibernateEventWriter(MetricRegistry registry) {
-        writeTimer = Objects.requireNonNull(registry).timer("eventlogs.process.write");
+        this.registry = Objects.requireNonNull(registry);
+        writeTimer = registry.timer("eventlogs.process.write");
+        batchEnabled = Boolean.getBoolean(BATCH_SYS_PROP);
     }
 
     /**
@@ -176,6 +198,12 @@ public class HibernateEventWriter implements EventWriter {
 
             // Time the transaction and insertions
             try (Context context = writeTimer.time()) {
+                final EventBatchPersister batchPersister = getBatchPersister();
+                if (batchPersister != null) {
+                    batchPersister.persist(eventLog.getHeader(), eventsToPersist);
+                    return;
+                }
+
                 final AtomicReference<EventProcessorException> exception = new AtomicReference<>();
 
                 m_transactionManager.execute(new TransactionCallbackWithoutResult() {
@@ -199,6 +227,28 @@ public class HibernateEventWriter implements EventWriter {
         }
     }
 
+    private EventBatchPersister getBatchPersister() {
+        if (!batchEnabled || batchPersister != null) {
+            return batchPersister;
+        }
+        synchronized (this) {
+            if (batchPersister != null) {
+                return batchPersister;
+            }
+            if (dataSource == null) {
+                LOG.warn("Batching is enabled, but no data source is available. Writing events one by one.");
+                batchEnabled = false;
+                return null;
+            }
+            batchPersister = new EventBatchPersister(m_transactionManager, new JdbcTemplate(dataSource), this::createOnmsEvent,
+                    Integer.getInteger(BATCH_SIZE_SYS_PROP, 500),
+                    Long.getLong(BATCH_MAX_LATENCY_SYS_PROP, 20),
+                    Integer.getInteger(BATCH_QUEUE_SIZE_SYS_PROP, 10000),
+                    registry);
+        }
+        return batchPersister;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -227,7 +277,7 @@ public class HibernateEventWriter implements EventWriter {
      *                Thrown if a required resource cannot be found in the
      *                properties file.
      */
-    private OnmsEvent createOnmsEvent(final Header eventHeader, final Event event) {
+    OnmsEvent createOnmsEvent(final Header eventHeader, final Event event) {
 
         OnmsEvent ovent = new OnmsEvent();
 
@@ -405,4 +455,8 @@ public class HibernateEventWriter implements EventWriter {
     public void setTransactionManager(TransactionOperations transactionManager) {
         m_transactionManager = transactionManager;
     }
+
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.opennms.core.test.OpenNMSJUnit4ClassRunner;
+import org.opennms.core.test.db.annotations.JUnitTemporaryDatabase;
+import org.opennms.netmgt.dao.api.EventDao;
+import org.opennms.netmgt.model.OnmsEvent;
+import org.opennms.netmgt.model.OnmsEventParameter;
+import org.opennms.netmgt.model.OnmsSeverity;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Log;
+import org.opennms.test.JUnitConfigurationEnvironment;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * Verifies that the events written by the {@link EventBatchPersister} can be read back through the {@link EventDao}.
+ */
+@RunWith(OpenNMSJUnit4ClassRunner.class)
+@ContextConfiguration(locations={
+        "classpath:/META-INF/opennms/applicationContext-soa.xml",
+        "classpath:/META-INF/opennms/applicationContext-dao.xml",
+        "classpath:/META-INF/opennms/applicationContext-mockConfigManager.xml",
+        "classpath:/META-INF/opennms/applicationContext-commonConfigs.xml",
+        "classpath:/META-INF/opennms/applicationContext-minimal-conf.xml",
+        "classpath*:/META-INF/opennms/component-dao.xml",
+        "classpath*:/META-INF/opennms/component-service.xml",
+        "classpath:/META-INF/opennms/applicationContext-daemon.xml",
+        "classpath:/META-INF/opennms/mockEventIpcManager.xml",
+        "classpath:/META-INF/opennms/applicationContext-eventDaemon.xml",
+        "classpath:/META-INF/opennms/mockSinkConsumerManager.xml"
+})
+@JUnitConfigurationEnvironment
+@JUnitTemporaryDatabase(reuseDatabase=false)
+public class EventBatchPersisterIT {
+
+    @Autowired
+    private HibernateEventWriter m_eventWriter;
+
+    @Autowired
+    private EventDao m_eventDao;
+
+    @Autowired
+    private TransactionOperations m_transactionOperations;
+
+    @Autowired
+    private JdbcTemplate m_jdbcTemplate;
+
+    private EventBatchPersister m_persister;
+
+    @Before
+    public void setUp() {
+        // a latency long enough for the logs of the test to end up in the same batch
+        m_persister = new EventBatchPersister(m_transactionOperations, m_jdbcTemplate, m_eventWriter::createOnmsEvent,
+                100, 500, 100, new MetricRegistry());
+    }
+
+    @Test
+    public void testPersistedEventsCanBeReadBack() throws Exception {
+        final int numLogs = 5;
+        final int eventsPerLog = 3;
+        final List<Event> events = new ArrayList<>();
+        final List<Log> logs = new ArrayList<>();
+        for (int i = 0; i < numLogs; i++) {
+            final Log log = new Log();
+            for (int j = 0; j < eventsPerLog; j++) {
+                final EventBuilder builder = new EventBuilder("uei.opennms.org/test/batch/" + i, "EventBatchPersisterIT");
+                builder.setLogDest(HibernateEventWriter.LOG_MSG_DEST_LOG_AND_DISPLAY);
+                builder.setLogMessage("log " + i + " event " + j);
+                builder.setSeverity(OnmsSeverity.MINOR.getLabel());
+                builder.addParam("log", i);
+                builder.addParam("event", j);
+                final Event event = builder.getEvent();
+                log.addEvent(event);
+                events.add(event);
+            }
+            logs.add(log);
+        }
+
+        // persist the logs concurrently so that they are written together
+        final ExecutorService executor = Executors.newFixedThreadPool(numLogs);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (final Log log : logs) {
+                futures.add(executor.submit(() -> {
+                    m_persister.persist(log.getHeader(), log.getEvents().getEventCollection());
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // events written one by one by Hibernate get other IDs
+        final EventBuilder builder = new EventBuilder("uei.opennms.org/test/single", "EventBatchPersisterIT");
+        builder.setLogMessage("single");
+        m_eventWriter.process(builder.getLog());
+        events.add(builder.getEvent());
+
+        final Set<Integer> ids = new HashSet<>();
+        for (final Event event : events) {
+            assertTrue(event.getDbid() > 0);
+            ids.add(event.getDbid());
+        }
+        assertEquals(events.size(), ids.size());
+
+        m_transactionOperations.execute(status -> {
+            assertEquals(events.size(), m_eventDao.countAll());
+            for (final Event event : events.subList(0, numLogs * eventsPerLog)) {
+                final OnmsEvent ovent = m_eventDao.get(event.getDbid());
+                assertNotNull(ovent);
+                assertEquals(event.getUei(), ovent.getEventUei());
+                assertEquals("EventBatchPersisterIT", ovent.getEventSource());
+                assertEquals(event.getLogmsg().getContent(), ovent.getEventLogMsg());
+                assertEquals(OnmsSeverity.MINOR.getId(), ovent.getEventSeverity().intValue());
+                assertEquals(String.valueOf(EventWriter.MSG_YES), ovent.getEventDisplay());
+                assertNotNull(ovent.getDistPoller());
+                assertNotNull(ovent.getEventCreateTime());
+
+                // the parameters keep their order
+                final List<OnmsEventParameter> parameters = ovent.getEventParameters();
+                assertEquals(2, parameters.size());
+                assertEquals("log", parameters.get(0).getName());
+                assertEquals(event.getParm("log").getValue().getContent(), parameters.get(0).getValue());
+                assertEquals("event", parameters.get(1).getName());
+                assertEquals(event.getParm("event").getValue().getContent(), parameters.get(1).getValue());
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.eventd.processor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.netmgt.events.api.EventProcessorException;
+import org.opennms.netmgt.model.OnmsEvent;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Header;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.codahale.metrics.MetricRegistry;
+
+/**
+ * Verifies the grouping, ID allocation and failure handling of the {@link EventBatchPersister}
+ * without a database.
+ */
+public class EventBatchPersisterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionOperations transactionOperations;
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<List<String>> insertedUeis = Collections.synchronizedList(new ArrayList<>());
+
+    @Before
+    public void setUp() {
+        transactionOperations = mock(TransactionOperations.class);
+        when(transactionOperations.execute(any())).thenAnswer(invocation -> {
+            transactions.incrementAndGet();
+            return ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null);
+        });
+
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForList(startsWith("SELECT nextval('eventsNxtId')"), eq(Long.class), any())).thenAnswer(invocation -> {
+            final int count = invocation.getArgument(2);
+            final List<Long> values = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                values.add(sequence.getAndIncrement());
+            }
+            return values;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onEventInsert(final Consumer<List<String>> consumer) {
+        doAnswer(invocation -> {
+            final List<String> ueis = new ArrayList<>();
+            for (final OnmsEvent ovent : (Collection<OnmsEvent>) invocation.getArgument(1)) {
+                ueis.add(ovent.getEventUei());
+            }
+            consumer.accept(ueis);
+            insertedUeis.add(ueis);
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(startsWith("INSERT INTO events "), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private EventBatchPersister createPersister(final int batchSize, final long maxLatencyMs) {
+        return new EventBatchPersister(transactionOperations, jdbcTemplate, (header, event) -> {
+            final OnmsEvent ovent = new OnmsEvent();
+            ovent.setEventUei(event.getUei());
+            return ovent;
+        }, batchSize, maxLatencyMs, 100, new MetricRegistry());
+    }
+
+    private static Event event(final String uei) {
+        return new EventBuilder(uei, "test").getEvent();
+    }
+
+    @Test(timeout = 30000)
+    public void canWriteConcurrentLogsInOneTransaction() throws Exception {
+        final int numLogs = 10;
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        onEventInsert(ueis -> {
+            if (ueis.contains("uei.opennms.org/blocker")) {
+                // Hold the writer so that the other logs queue up
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+
+        final EventBatchPersister persister = createPersister(500, 1000);
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final Event blocker = event("uei.opennms.org/blocker");
+            final Future<?> blockerFuture = executor.submit(() -> {
+                persister.persist(new Header(), List.of(blocker));
+                return null;
+            });
+            blocked.await();
+
+            final List<Event> events = new ArrayList<>();
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < numLogs; i++) {
+                final Event event = event("uei.opennms.org/test/" + i);
+                events.add(event);
+                futures.add(executor.submit(() -> {
+                    persister.persist(new Header(), List.of(event));
+                    return null;
+                }));
+            }
+            // Wait until all of the logs are queued
+            Thread.sleep(200);
+            for (final Event event : events) {
+                assertFalse(event.hasDbid());
+            }
+            release.countDown();
+
+            blockerFuture.get();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+
+            assertEquals(2, transactions.get());
+            assertThat(insertedUeis, hasSize(2));
+            assertThat(insertedUeis.get(1), hasSize(numLogs));
+            assertEquals(Integer.valueOf(1), blocker.getDbid());
+            final List<Integer> ids = new ArrayList<>();
+            for (final Event event : events) {
+                ids.add(event.getDbid());
+            }
+            assertThat(ids, containsInAnyOrder(2, 3, 4, 5, 6, 7, 8, 9, 10, 11));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void canIsolateFailingLogs() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        onEventInsert(ueis -> {
+            if (ueis.contains("uei.opennms.org/blocker")) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            if (ueis.contains("uei.opennms.org/bad")) {
+                throw new IllegalStateException("bad event");
+            }
+        });
+
+        final EventBatchPersister persister = createPersister(500, 1000);
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            executor.submit(() -> {
+                persister.persist(new Header(), List.of(event("uei.opennms.org/blocker")));
+                return null;
+            });
+            blocked.await();
+
+            final Event good1 = event("uei.opennms.org/good");
+            final Event bad = event("uei.opennms.org/bad");
+            final Event good2 = event("uei.opennms.org/good");
+            final Future<?> good1Future = executor.submit(() -> { persister.persist(new Header(), List.of(good1)); return null; });
+            final Future<?> badFuture = executor.submit(() -> { persister.persist(new Header(), List.of(bad)); return null; });
+            final Future<?> good2Future = executor.submit(() -> { persister.persist(new Header(), List.of(good2)); return null; });
+            Thread.sleep(200);
+            release.countDown();
+
+            good1Future.get(10, TimeUnit.SECONDS);
+            good2Future.get(10, TimeUnit.SECONDS);
+            try {
+                badFuture.get(10, TimeUnit.SECONDS);
+                fail("The bad event should not be written.");
+            } catch (ExecutionException e) {
+                assertEquals(EventProcessorException.class, e.getCause().getClass());
+            }
+
+            assertFalse(bad.hasDbid());
+            assertThat(insertedUeis, contains(
+                    List.of("uei.opennms.org/blocker"),
+                    List.of("uei.opennms.org/good"),
+                    List.of("uei.opennms.org/good")));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.events.sink.module;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.opennms.core.ipc.sink.xml.SinkMessageCodec;
+import org.opennms.core.xml.XmlHandler;
+import org.opennms.features.events.sink.module.proto.EventLogProtos;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Events;
+import org.opennms.netmgt.xml.event.Header;
+import org.opennms.netmgt.xml.event.Log;
+import org.opennms.netmgt.xml.event.Logmsg;
+import org.opennms.netmgt.xml.event.Parm;
+import org.opennms.netmgt.xml.event.Snmp;
+import org.opennms.netmgt.xml.event.Value;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * Protobuf representation of the event {@link Log}, see <code>event-log.proto</code>.
+ *
+ * Only the elements commonly found on events sent by Minions are mapped. Events using any
+ * of the remaining elements are embedded as XML, so that no information is lost.
+ */
+public class EventLogProtobufCodec implements SinkMessageCodec<Log> {
+
+    public static final int VERSION = 1;
+
+    private final ThreadLocal<XmlHandler<Event>> eventXmlHandler = ThreadLocal.withInitial(() -> new XmlHandler<>(Event.class));
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] encode(Log log) {
+        final EventLogProtos.Log.Builder builder = EventLogProtos.Log.newBuilder();
+        if (log.getHeader() != null) {
+            builder.setHeader(toProto(log.getHeader()));
+        }
+        if (log.getEvents() != null) {
+            builder.setHasEvents(true);
+            for (Event event : log.getEvents().getEventCollection()) {
+                builder.addEvents(toProto(event));
+            }
+        }
+        return builder.build().toByteArray();
+    }
+
+    @Override
+    public Log decode(byte[] bytes, int offset, int length) throws IOException {
+        final EventLogProtos.Log proto = EventLogProtos.Log.parser().parseFrom(bytes, offset, length);
+        final Log log = new Log();
+        if (proto.hasHeader()) {
+            log.setHeader(fromProto(proto.getHeader()));
+        }
+        if (proto.getHasEvents()) {
+            final Events events = new Events();
+            for (EventLogProtos.Event eventProto : proto.getEventsList()) {
+                events.addEvent(fromProto(eventProto));
+            }
+            log.setEvents(events);
+        }
+        return log;
+    }
+
+    private static boolean isMapped(Event event) {
+        return event.getMask() == null
+                && event.getCorrelation() == null
+                && event.getAutoactionCount() == 0
+                && event.getOperactionCount() == 0
+                && event.getAutoacknowledge() == null
+                && event.getTticket() == null
+                && event.getForwardCount() == 0
+                && event.getScriptCount() == 0
+                && event.getAlarmData() == null;
+    }
+
+    private static EventLogProtos.Header toProto(Header header) {
+        final EventLogProtos.Header.Builder builder = EventLogProtos.Header.newBuilder();
+        if (header.getVer() != null) {
+            builder.setVer(header.getVer());
+        }
+        if (header.getDpName() != null) {
+            builder.setDpName(header.getDpName());
+        }
+        if (header.getCreated() != null) {
+            builder.setCreated(header.getCreated());
+        }
+        if (header.getMstation() != null) {
+            builder.setMstation(header.getMstation());
+        }
+        return builder.build();
+    }
+
+    private static Header fromProto(EventLogProtos.Header proto) {
+        final Header header = new Header();
+        header.setVer(proto.hasVer() ? proto.getVer() : null);
+        header.setDpName(proto.hasDpName() ? proto.getDpName() : null);
+        header.setCreated(proto.hasCreated() ? proto.getCreated() : null);
+        header.setMstation(proto.hasMstation() ? proto.getMstation() : null);
+        return header;
+    }
+
+    private EventLogProtos.Event toProto(Event event) {
+        final EventLogProtos.Event.Builder builder = EventLogProtos.Event.newBuilder();
+        if (!isMapped(event)) {
+            builder.setXml(ByteString.copyFrom(eventXmlHandler.get().marshal(event), StandardCharsets.UTF_8));
+            return builder.build();
+        }
+        if (event.getUuid() != null) {
+            builder.setUuid(event.getUuid());
+        }
+        if (event.hasDbid()) {
+            builder.setDbid(event.getDbid());
+        }
+        if (event.getDistPoller() != null) {
+            builder.setDistPoller(event.getDistPoller());
+        }
+        if (event.getCreationTime() != null) {
+            builder.setCreationTime(event.getCreationTime().getTime());
+        }
+        if (event.getMasterStation() != null) {
+            builder.setMasterStation(event.getMasterStation());
+        }
+        if (event.getUei() != null) {
+            builder.setUei(event.getUei());
+        }
+        if (event.getSource() != null) {
+            builder.setSource(event.getSource());
+        }
+        if (event.hasNodeid()) {
+            builder.setNodeid(event.getNodeid());
+        }
+        if (event.getTime() != null) {
+            builder.setTime(event.getTime().getTime());
+        }
+        if (event.getHost() != null) {
+            builder.setHost(event.getHost());
+        }
+        if (event.getInterfaceAddress() != null) {
+            builder.setInterfaceAddress(ByteString.copyFrom(event.getInterfaceAddress().getAddress()));
+        }
+        if (event.getSnmphost() != null) {
+            builder.setSnmphost(event.getSnmphost());
+        }
+        if (event.getService() != null) {
+            builder.setService(event.getService());
+        }
+        if (event.getSnmp() != null) {
+            builder.setSnmp(toProto(event.getSnmp()));
+        }
+        for (Parm parm : event.getParmCollection()) {
+            builder.addParms(toProto(parm));
+        }
+        if (event.getDescr() != null) {
+            builder.setDescr(event.getDescr());
+        }
+        if (event.getLogmsg() != null) {
+            builder.setLogmsg(toProto(event.getLogmsg()));
+        }
+        if (event.getSeverity() != null) {
+            builder.setSeverity(event.getSeverity());
+        }
+        if (event.getPathoutage() != null) {
+            builder.setPathoutage(event.getPathoutage());
+        }
+        if (event.getOperinstruct() != null) {
+            builder.setOperinstruct(event.getOperinstruct());
+        }
+        for (String loggroup : event.getLoggroupCollection()) {
+            builder.addLoggroup(loggroup);
+        }
+        if (event.hasIfIndex()) {
+            builder.setIfIndex(event.getIfIndex());
+        }
+        if (event.getIfAlias() != null) {
+            builder.setIfAlias(event.getIfAlias());
+        }
+        if (event.getMouseovertext() != null) {
+            builder.setMouseovertext(event.getMouseovertext());
+        }
+        return builder.build();
+    }
+
+    private Event fromProto(EventLogProtos.Event proto) throws IOException {
+        if (proto.hasXml()) {
+            return eventXmlHandler.get().unmarshal(proto.getXml().toString(StandardCharsets.UTF_8));
+        }
+        final Event event = new Event();
+        if (proto.hasUuid()) {
+            event.setUuid(proto.getUuid());
+        }
+        if (proto.hasDbid()) {
+            event.setDbid(proto.getDbid());
+        }
+        if (proto.hasDistPoller()) {
+            event.setDistPoller(proto.getDistPoller());
+        }
+        if (proto.hasCreationTime()) {
+            event.setCreationTime(new Date(proto.getCreationTime()));
+        }
+        if (proto.hasMasterStation()) {
+            event.setMasterStation(proto.getMasterStation());
+        }
+        if (proto.hasUei()) {
+            event.setUei(proto.getUei());
+        }
+        if (proto.hasSource()) {
+            event.setSource(proto.getSource());
+        }
+        if (proto.hasNodeid()) {
+            event.setNodeid(proto.getNodeid());
+        }
+        if (proto.hasTime()) {
+            event.setTime(new Date(proto.getTime()));
+        }
+        if (proto.hasHost()) {
+            event.setHost(proto.getHost());
+        }
+        if (proto.hasInterfaceAddress()) {
+            try {
+                event.setInterfaceAddress(InetAddress.getByAddress(proto.getInterfaceAddress().toByteArray()));
+            } catch (UnknownHostException e) {
+                throw new InvalidProtocolBufferException(e.getMessage());
+            }
+        }
+        if (proto.hasSnmphost()) {
+            event.setSnmphost(proto.getSnmphost());
+        }
+        if (proto.hasService()) {
+            event.setService(proto.getService());
+        }
+        if (proto.hasSnmp()) {
+            event.setSnmp(fromProto(proto.getSnmp()));
+        }
+        if (proto.getParmsCount() > 0) {
+            final List<Parm> parms = new ArrayList<>(proto.getParmsCount());
+            for (EventLogProtos.Parm parmProto : proto.getParmsList()) {
+                parms.add(fromProto(parmProto));
+            }
+            event.setParmCollection(parms);
+        }
+        if (proto.hasDescr()) {
+            event.setDescr(proto.getDescr());
+        }
+        if (proto.hasLogmsg()) {
+            event.setLogmsg(fromProto(proto.getLogmsg()));
+        }
+        if (proto.hasSeverity()) {
+            event.setSeverity(proto.getSeverity());
+        }
+        if (proto.hasPathoutage()) {
+            event.setPathoutage(proto.getPathoutage());
+        }
+        if (proto.hasOperinstruct()) {
+            event.setOperinstruct(proto.getOperinstruct());
+        }
+        for (String loggroup : proto.getLoggroupList()) {
+            event.addLoggroup(loggroup);
+        }
+        if (proto.hasIfIndex()) {
+            event.setIfIndex(proto.getIfIndex());
+        }
+        if (proto.hasIfAlias()) {
+            event.setIfAlias(proto.getIfAlias());
+        }
+        if (proto.hasMouseovertext()) {
+            event.setMouseovertext(proto.getMouseovertext());
+        }
+        return event;
+    }
+
+    private static EventLogProtos.Snmp toProto(Snmp snmp) {
+        final EventLogProtos.Snmp.Builder builder = EventLogProtos.Snmp.newBuilder();
+        if (snmp.getId() != null) {
+            builder.setId(snmp.getId());
+        }
+        if (snmp.getTrapOID() != null) {
+            builder.setTrapOid(snmp.getTrapOID());
+        }
+        if (snmp.getIdtext() != null) {
+            builder.setIdtext(snmp.getIdtext());
+        }
+        if (snmp.getVersion() != null) {
+            builder.setVersion(snmp.getVersion());
+        }
+        if (snmp.hasSpecific()) {
+            builder.setSpecific(snmp.getSpecific());
+        }
+        if (snmp.hasGeneric()) {
+            builder.setGeneric(snmp.getGeneric());
+        }
+        if (snmp.getCommunity() != null) {
+            builder.setCommunity(snmp.getCommunity());
+        }
+        if (snmp.hasTimeStamp()) {
+            builder.setTimeStamp(snmp.getTimeStamp());
+        }
+        return builder.build();
+    }
+
+    private static Snmp fromProto(EventLogProtos.Snmp proto) {
+        final Snmp snmp = new Snmp();
+        if (proto.hasId()) {
+            snmp.setId(proto.getId());
+        }
+        if (proto.hasTrapOid()) {
+            snmp.setTrapOID(proto.getTrapOid());
+        }
+        if (proto.hasIdtext()) {
+            snmp.setIdtext(proto.getIdtext());
+        }
+        if (proto.hasVersion()) {
+            snmp.setVersion(proto.getVersion());
+        }
+        if (proto.hasSpecific()) {
+            snmp.setSpecific(proto.getSpecific());
+        }
+        if (proto.hasGeneric()) {
+            snmp.setGeneric(proto.getGeneric());
+        }
+        if (proto.hasCommunity()) {
+            snmp.setCommunity(proto.getCommunity());
+        }
+        if (proto.hasTimeStamp()) {
+            snmp.setTimeStamp(proto.getTimeStamp());
+        }
+        return snmp;
+    }
+
+    private static EventLogProtos.Parm toProto(Parm parm) {
+        final EventLogProtos.Parm.Builder builder = EventLogProtos.Parm.newBuilder();
+        if (parm.getParmName() != null) {
+            builder.setParmName(parm.getParmName());
+        }
+        final Value value = parm.getValue();
+        if (value != null) {
+            final EventLogProtos.Value.Builder valueBuilder = EventLogProtos.Value.newBuilder();
+            if (value.getContent() != null) {
+                valueBuilder.setContent(value.getContent());
+            }
+            if (value.getType() != null) {
+                valueBuilder.setType(value.getType());
+            }
+            if (value.getEncoding() != null) {
+                valueBuilder.setEncoding(value.getEncoding());
+            }
+            if (value.isExpand() != null) {
+                valueBuilder.setExpand(value.isExpand());
+            }
+            builder.setValue(valueBuilder);
+        }
+        return builder.build();
+    }
+
+    private static Parm fromProto(EventLogProtos.Parm proto) {
+        final Parm parm = new Parm();
+        if (proto.hasParmName()) {
+            parm.setParmName(proto.getParmName());
+        }
+        if (proto.hasValue()) {
+            final EventLogProtos.Value valueProto = proto.getValue();
+            final Value value = new Value();
+            value.setContent(valueProto.hasContent() ? valueProto.getContent() : null);
+            value.setType(valueProto.hasType() ? valueProto.getType() : null);
+            value.setEncoding(valueProto.hasEncoding() ? valueProto.getEncoding() : null);
+            value.setExpand(valueProto.hasExpand() ? valueProto.getExpand() : null);
+            parm.setValue(value);
+        }
+        return parm;
+    }
+
+    private static EventLogProtos.Logmsg toProto(Logmsg logmsg) {
+        final EventLogProtos.Logmsg.Builder builder = EventLogProtos.Logmsg.newBuilder();
+        if (logmsg.getContent() != null) {
+            builder.setContent(logmsg.getContent());
+        }
+        if (logmsg.hasNotify()) {
+            builder.setNotify(logmsg.getNotify());
+        }
+        if (logmsg.getDest() != null) {
+            builder.setDest(logmsg.getDest());
+        }
+        return builder.build();
+    }
+
+    private static Logmsg fromProto(EventLogProtos.Logmsg proto) {
+        final Logmsg logmsg = new Logmsg();
+        logmsg.setContent(proto.hasContent() ? proto.getContent() : null);
+        logmsg.setNotify(proto.hasNotify() ? proto.getNotify() : null);
+        logmsg.setDest(proto.hasDest() ? proto.getDest() : null);
+        return logmsg;
+    }
+}
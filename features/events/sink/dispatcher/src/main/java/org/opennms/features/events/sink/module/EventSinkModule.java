@@ -43,7 +43,7 @@ public class EventSinkModule extends AbstractXmlSinkModule<Event, Log> {
     private final EventdConfig m_config;
 
     public EventSinkModule(EventdConfig config) {
-        super(Log.class);
+        super(Log.class, new EventLogProtobufCodec());
         this.m_config = config;
     }
 
@@ -0,0 +1,10947 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: event-log.proto
+
+package org.opennms.features.events.sink.module.proto;
+
+public final class EventLogProtos {
+  private EventLogProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface HeaderOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Header)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string ver = 1;</code>
+     * @return Whether the ver field is set.
+     */
+    boolean hasVer();
+    /**
+     * <code>optional string ver = 1;</code>
+     * @return The ver.
+     */
+    java.lang.String getVer();
+    /**
+     * <code>optional string ver = 1;</code>
+     * @return The bytes for ver.
+     */
+    com.google.protobuf.ByteString
+        getVerBytes();
+
+    /**
+     * <code>optional string dp_name = 2;</code>
+     * @return Whether the dpName field is set.
+     */
+    boolean hasDpName();
+    /**
+     * <code>optional string dp_name = 2;</code>
+     * @return The dpName.
+     */
+    java.lang.String getDpName();
+    /**
+     * <code>optional string dp_name = 2;</code>
+     * @return The bytes for dpName.
+     */
+    com.google.protobuf.ByteString
+        getDpNameBytes();
+
+    /**
+     * <code>optional string created = 3;</code>
+     * @return Whether the created field is set.
+     */
+    boolean hasCreated();
+    /**
+     * <code>optional string created = 3;</code>
+     * @return The created.
+     */
+    java.lang.String getCreated();
+    /**
+     * <code>optional string created = 3;</code>
+     * @return The bytes for created.
+     */
+    com.google.protobuf.ByteString
+        getCreatedBytes();
+
+    /**
+     * <code>optional string mstation = 4;</code>
+     * @return Whether the mstation field is set.
+     */
+    boolean hasMstation();
+    /**
+     * <code>optional string mstation = 4;</code>
+     * @return The mstation.
+     */
+    java.lang.String getMstation();
+    /**
+     * <code>optional string mstation = 4;</code>
+     * @return The bytes for mstation.
+     */
+    com.google.protobuf.ByteString
+        getMstationBytes();
+  }
+  /**
+   * Protobuf type {@code Header}
+   */
+  public static final class Header extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Header)
+      HeaderOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Header.newBuilder() to construct.
+    private Header(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Header() {
+      ver_ = "";
+      dpName_ = "";
+      created_ = "";
+      mstation_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Header();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Header_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Header_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Header.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Header.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int VER_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object ver_ = "";
+    /**
+     * <code>optional string ver = 1;</code>
+     * @return Whether the ver field is set.
+     */
+    @java.lang.Override
+    public boolean hasVer() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string ver = 1;</code>
+     * @return The ver.
+     */
+    @java.lang.Override
+    public java.lang.String getVer() {
+      java.lang.Object ref = ver_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        ver_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string ver = 1;</code>
+     * @return The bytes for ver.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVerBytes() {
+      java.lang.Object ref = ver_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        ver_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DP_NAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object dpName_ = "";
+    /**
+     * <code>optional string dp_name = 2;</code>
+     * @return Whether the dpName field is set.
+     */
+    @java.lang.Override
+    public boolean hasDpName() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string dp_name = 2;</code>
+     * @return The dpName.
+     */
+    @java.lang.Override
+    public java.lang.String getDpName() {
+      java.lang.Object ref = dpName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dpName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string dp_name = 2;</code>
+     * @return The bytes for dpName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDpNameBytes() {
+      java.lang.Object ref = dpName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dpName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CREATED_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object created_ = "";
+    /**
+     * <code>optional string created = 3;</code>
+     * @return Whether the created field is set.
+     */
+    @java.lang.Override
+    public boolean hasCreated() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string created = 3;</code>
+     * @return The created.
+     */
+    @java.lang.Override
+    public java.lang.String getCreated() {
+      java.lang.Object ref = created_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        created_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string created = 3;</code>
+     * @return The bytes for created.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCreatedBytes() {
+      java.lang.Object ref = created_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        created_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MSTATION_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object mstation_ = "";
+    /**
+     * <code>optional string mstation = 4;</code>
+     * @return Whether the mstation field is set.
+     */
+    @java.lang.Override
+    public boolean hasMstation() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional string mstation = 4;</code>
+     * @return The mstation.
+     */
+    @java.lang.Override
+    public java.lang.String getMstation() {
+      java.lang.Object ref = mstation_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        mstation_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string mstation = 4;</code>
+     * @return The bytes for mstation.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMstationBytes() {
+      java.lang.Object ref = mstation_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        mstation_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, ver_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, dpName_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, created_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, mstation_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, ver_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, dpName_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, created_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, mstation_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Header)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.proto.EventLogProtos.Header other = (org.opennms.features.events.sink.module.proto.EventLogProtos.Header) obj;
+
+      if (hasVer() != other.hasVer()) return false;
+      if (hasVer()) {
+        if (!getVer()
+            .equals(other.getVer())) return false;
+      }
+      if (hasDpName() != other.hasDpName()) return false;
+      if (hasDpName()) {
+        if (!getDpName()
+            .equals(other.getDpName())) return false;
+      }
+      if (hasCreated() != other.hasCreated()) return false;
+      if (hasCreated()) {
+        if (!getCreated()
+            .equals(other.getCreated())) return false;
+      }
+      if (hasMstation() != other.hasMstation()) return false;
+      if (hasMstation()) {
+        if (!getMstation()
+            .equals(other.getMstation())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasVer()) {
+        hash = (37 * hash) + VER_FIELD_NUMBER;
+        hash = (53 * hash) + getVer().hashCode();
+      }
+      if (hasDpName()) {
+        hash = (37 * hash) + DP_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getDpName().hashCode();
+      }
+      if (hasCreated()) {
+        hash = (37 * hash) + CREATED_FIELD_NUMBER;
+        hash = (53 * hash) + getCreated().hashCode();
+      }
+      if (hasMstation()) {
+        hash = (37 * hash) + MSTATION_FIELD_NUMBER;
+        hash = (53 * hash) + getMstation().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.proto.EventLogProtos.Header prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Header}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Header)
+        org.opennms.features.events.sink.module.proto.EventLogProtos.HeaderOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Header_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Header_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.proto.EventLogProtos.Header.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Header.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.proto.EventLogProtos.Header.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        ver_ = "";
+        dpName_ = "";
+        created_ = "";
+        mstation_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Header_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Header getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.Header.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Header build() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Header result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Header buildPartial() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Header result = new org.opennms.features.events.sink.module.proto.EventLogProtos.Header(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.proto.EventLogProtos.Header result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.ver_ = ver_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.dpName_ = dpName_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.created_ = created_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.mstation_ = mstation_;
+          to_bitField0_ |= 0x00000008;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Header) {
+          return mergeFrom((org.opennms.features.events.sink.module.proto.EventLogProtos.Header)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.proto.EventLogProtos.Header other) {
+        if (other == org.opennms.features.events.sink.module.proto.EventLogProtos.Header.getDefaultInstance()) return this;
+        if (other.hasVer()) {
+          ver_ = other.ver_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasDpName()) {
+          dpName_ = other.dpName_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasCreated()) {
+          created_ = other.created_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasMstation()) {
+          mstation_ = other.mstation_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                ver_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                dpName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                created_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                mstation_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object ver_ = "";
+      /**
+       * <code>optional string ver = 1;</code>
+       * @return Whether the ver field is set.
+       */
+      public boolean hasVer() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string ver = 1;</code>
+       * @return The ver.
+       */
+      public java.lang.String getVer() {
+        java.lang.Object ref = ver_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          ver_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string ver = 1;</code>
+       * @return The bytes for ver.
+       */
+      public com.google.protobuf.ByteString
+          getVerBytes() {
+        java.lang.Object ref = ver_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          ver_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string ver = 1;</code>
+       * @param value The ver to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVer(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ver_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string ver = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVer() {
+        ver_ = getDefaultInstance().getVer();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string ver = 1;</code>
+       * @param value The bytes for ver to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ver_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dpName_ = "";
+      /**
+       * <code>optional string dp_name = 2;</code>
+       * @return Whether the dpName field is set.
+       */
+      public boolean hasDpName() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string dp_name = 2;</code>
+       * @return The dpName.
+       */
+      public java.lang.String getDpName() {
+        java.lang.Object ref = dpName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dpName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string dp_name = 2;</code>
+       * @return The bytes for dpName.
+       */
+      public com.google.protobuf.ByteString
+          getDpNameBytes() {
+        java.lang.Object ref = dpName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dpName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string dp_name = 2;</code>
+       * @param value The dpName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDpName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        dpName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dp_name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDpName() {
+        dpName_ = getDefaultInstance().getDpName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dp_name = 2;</code>
+       * @param value The bytes for dpName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDpNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        dpName_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object created_ = "";
+      /**
+       * <code>optional string created = 3;</code>
+       * @return Whether the created field is set.
+       */
+      public boolean hasCreated() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string created = 3;</code>
+       * @return The created.
+       */
+      public java.lang.String getCreated() {
+        java.lang.Object ref = created_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          created_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string created = 3;</code>
+       * @return The bytes for created.
+       */
+      public com.google.protobuf.ByteString
+          getCreatedBytes() {
+        java.lang.Object ref = created_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          created_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string created = 3;</code>
+       * @param value The created to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreated(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        created_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string created = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreated() {
+        created_ = getDefaultInstance().getCreated();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string created = 3;</code>
+       * @param value The bytes for created to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreatedBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        created_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object mstation_ = "";
+      /**
+       * <code>optional string mstation = 4;</code>
+       * @return Whether the mstation field is set.
+       */
+      public boolean hasMstation() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string mstation = 4;</code>
+       * @return The mstation.
+       */
+      public java.lang.String getMstation() {
+        java.lang.Object ref = mstation_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          mstation_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string mstation = 4;</code>
+       * @return The bytes for mstation.
+       */
+      public com.google.protobuf.ByteString
+          getMstationBytes() {
+        java.lang.Object ref = mstation_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          mstation_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string mstation = 4;</code>
+       * @param value The mstation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMstation(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        mstation_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string mstation = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMstation() {
+        mstation_ = getDefaultInstance().getMstation();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string mstation = 4;</code>
+       * @param value The bytes for mstation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMstationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        mstation_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Header)
+    }
+
+    // @@protoc_insertion_point(class_scope:Header)
+    private static final org.opennms.features.events.sink.module.proto.EventLogProtos.Header DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.proto.EventLogProtos.Header();
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Header getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Header>
+        PARSER = new com.google.protobuf.AbstractParser<Header>() {
+      @java.lang.Override
+      public Header parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Header> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Header> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Header getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SnmpOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Snmp)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string id = 1;</code>
+     * @return Whether the id field is set.
+     */
+    boolean hasId();
+    /**
+     * <code>optional string id = 1;</code>
+     * @return The id.
+     */
+    java.lang.String getId();
+    /**
+     * <code>optional string id = 1;</code>
+     * @return The bytes for id.
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <code>optional string trap_oid = 2;</code>
+     * @return Whether the trapOid field is set.
+     */
+    boolean hasTrapOid();
+    /**
+     * <code>optional string trap_oid = 2;</code>
+     * @return The trapOid.
+     */
+    java.lang.String getTrapOid();
+    /**
+     * <code>optional string trap_oid = 2;</code>
+     * @return The bytes for trapOid.
+     */
+    com.google.protobuf.ByteString
+        getTrapOidBytes();
+
+    /**
+     * <code>optional string idtext = 3;</code>
+     * @return Whether the idtext field is set.
+     */
+    boolean hasIdtext();
+    /**
+     * <code>optional string idtext = 3;</code>
+     * @return The idtext.
+     */
+    java.lang.String getIdtext();
+    /**
+     * <code>optional string idtext = 3;</code>
+     * @return The bytes for idtext.
+     */
+    com.google.protobuf.ByteString
+        getIdtextBytes();
+
+    /**
+     * <code>optional string version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>optional string version = 4;</code>
+     * @return The version.
+     */
+    java.lang.String getVersion();
+    /**
+     * <code>optional string version = 4;</code>
+     * @return The bytes for version.
+     */
+    com.google.protobuf.ByteString
+        getVersionBytes();
+
+    /**
+     * <code>optional int32 specific = 5;</code>
+     * @return Whether the specific field is set.
+     */
+    boolean hasSpecific();
+    /**
+     * <code>optional int32 specific = 5;</code>
+     * @return The specific.
+     */
+    int getSpecific();
+
+    /**
+     * <code>optional int32 generic = 6;</code>
+     * @return Whether the generic field is set.
+     */
+    boolean hasGeneric();
+    /**
+     * <code>optional int32 generic = 6;</code>
+     * @return The generic.
+     */
+    int getGeneric();
+
+    /**
+     * <code>optional string community = 7;</code>
+     * @return Whether the community field is set.
+     */
+    boolean hasCommunity();
+    /**
+     * <code>optional string community = 7;</code>
+     * @return The community.
+     */
+    java.lang.String getCommunity();
+    /**
+     * <code>optional string community = 7;</code>
+     * @return The bytes for community.
+     */
+    com.google.protobuf.ByteString
+        getCommunityBytes();
+
+    /**
+     * <code>optional int64 time_stamp = 8;</code>
+     * @return Whether the timeStamp field is set.
+     */
+    boolean hasTimeStamp();
+    /**
+     * <code>optional int64 time_stamp = 8;</code>
+     * @return The timeStamp.
+     */
+    long getTimeStamp();
+  }
+  /**
+   * Protobuf type {@code Snmp}
+   */
+  public static final class Snmp extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Snmp)
+      SnmpOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Snmp.newBuilder() to construct.
+    private Snmp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Snmp() {
+      id_ = "";
+      trapOid_ = "";
+      idtext_ = "";
+      version_ = "";
+      community_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Snmp();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Snmp_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Snmp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object id_ = "";
+    /**
+     * <code>optional string id = 1;</code>
+     * @return Whether the id field is set.
+     */
+    @java.lang.Override
+    public boolean hasId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string id = 1;</code>
+     * @return The id.
+     */
+    @java.lang.Override
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string id = 1;</code>
+     * @return The bytes for id.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRAP_OID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object trapOid_ = "";
+    /**
+     * <code>optional string trap_oid = 2;</code>
+     * @return Whether the trapOid field is set.
+     */
+    @java.lang.Override
+    public boolean hasTrapOid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string trap_oid = 2;</code>
+     * @return The trapOid.
+     */
+    @java.lang.Override
+    public java.lang.String getTrapOid() {
+      java.lang.Object ref = trapOid_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        trapOid_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string trap_oid = 2;</code>
+     * @return The bytes for trapOid.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTrapOidBytes() {
+      java.lang.Object ref = trapOid_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        trapOid_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IDTEXT_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object idtext_ = "";
+    /**
+     * <code>optional string idtext = 3;</code>
+     * @return Whether the idtext field is set.
+     */
+    @java.lang.Override
+    public boolean hasIdtext() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string idtext = 3;</code>
+     * @return The idtext.
+     */
+    @java.lang.Override
+    public java.lang.String getIdtext() {
+      java.lang.Object ref = idtext_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        idtext_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string idtext = 3;</code>
+     * @return The bytes for idtext.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIdtextBytes() {
+      java.lang.Object ref = idtext_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        idtext_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object version_ = "";
+    /**
+     * <code>optional string version = 4;</code>
+     * @return Whether the version field is set.
+     */
+    @java.lang.Override
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional string version = 4;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string version = 4;</code>
+     * @return The bytes for version.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SPECIFIC_FIELD_NUMBER = 5;
+    private int specific_ = 0;
+    /**
+     * <code>optional int32 specific = 5;</code>
+     * @return Whether the specific field is set.
+     */
+    @java.lang.Override
+    public boolean hasSpecific() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int32 specific = 5;</code>
+     * @return The specific.
+     */
+    @java.lang.Override
+    public int getSpecific() {
+      return specific_;
+    }
+
+    public static final int GENERIC_FIELD_NUMBER = 6;
+    private int generic_ = 0;
+    /**
+     * <code>optional int32 generic = 6;</code>
+     * @return Whether the generic field is set.
+     */
+    @java.lang.Override
+    public boolean hasGeneric() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional int32 generic = 6;</code>
+     * @return The generic.
+     */
+    @java.lang.Override
+    public int getGeneric() {
+      return generic_;
+    }
+
+    public static final int COMMUNITY_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object community_ = "";
+    /**
+     * <code>optional string community = 7;</code>
+     * @return Whether the community field is set.
+     */
+    @java.lang.Override
+    public boolean hasCommunity() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional string community = 7;</code>
+     * @return The community.
+     */
+    @java.lang.Override
+    public java.lang.String getCommunity() {
+      java.lang.Object ref = community_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        community_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string community = 7;</code>
+     * @return The bytes for community.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCommunityBytes() {
+      java.lang.Object ref = community_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        community_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIME_STAMP_FIELD_NUMBER = 8;
+    private long timeStamp_ = 0L;
+    /**
+     * <code>optional int64 time_stamp = 8;</code>
+     * @return Whether the timeStamp field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimeStamp() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>optional int64 time_stamp = 8;</code>
+     * @return The timeStamp.
+     */
+    @java.lang.Override
+    public long getTimeStamp() {
+      return timeStamp_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, id_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, trapOid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, idtext_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, version_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt32(5, specific_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeInt32(6, generic_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, community_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeInt64(8, timeStamp_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, id_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, trapOid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, idtext_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, version_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, specific_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, generic_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, community_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, timeStamp_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp other = (org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp) obj;
+
+      if (hasId() != other.hasId()) return false;
+      if (hasId()) {
+        if (!getId()
+            .equals(other.getId())) return false;
+      }
+      if (hasTrapOid() != other.hasTrapOid()) return false;
+      if (hasTrapOid()) {
+        if (!getTrapOid()
+            .equals(other.getTrapOid())) return false;
+      }
+      if (hasIdtext() != other.hasIdtext()) return false;
+      if (hasIdtext()) {
+        if (!getIdtext()
+            .equals(other.getIdtext())) return false;
+      }
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (!getVersion()
+            .equals(other.getVersion())) return false;
+      }
+      if (hasSpecific() != other.hasSpecific()) return false;
+      if (hasSpecific()) {
+        if (getSpecific()
+            != other.getSpecific()) return false;
+      }
+      if (hasGeneric() != other.hasGeneric()) return false;
+      if (hasGeneric()) {
+        if (getGeneric()
+            != other.getGeneric()) return false;
+      }
+      if (hasCommunity() != other.hasCommunity()) return false;
+      if (hasCommunity()) {
+        if (!getCommunity()
+            .equals(other.getCommunity())) return false;
+      }
+      if (hasTimeStamp() != other.hasTimeStamp()) return false;
+      if (hasTimeStamp()) {
+        if (getTimeStamp()
+            != other.getTimeStamp()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasId()) {
+        hash = (37 * hash) + ID_FIELD_NUMBER;
+        hash = (53 * hash) + getId().hashCode();
+      }
+      if (hasTrapOid()) {
+        hash = (37 * hash) + TRAP_OID_FIELD_NUMBER;
+        hash = (53 * hash) + getTrapOid().hashCode();
+      }
+      if (hasIdtext()) {
+        hash = (37 * hash) + IDTEXT_FIELD_NUMBER;
+        hash = (53 * hash) + getIdtext().hashCode();
+      }
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + getVersion().hashCode();
+      }
+      if (hasSpecific()) {
+        hash = (37 * hash) + SPECIFIC_FIELD_NUMBER;
+        hash = (53 * hash) + getSpecific();
+      }
+      if (hasGeneric()) {
+        hash = (37 * hash) + GENERIC_FIELD_NUMBER;
+        hash = (53 * hash) + getGeneric();
+      }
+      if (hasCommunity()) {
+        hash = (37 * hash) + COMMUNITY_FIELD_NUMBER;
+        hash = (53 * hash) + getCommunity().hashCode();
+      }
+      if (hasTimeStamp()) {
+        hash = (37 * hash) + TIME_STAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTimeStamp());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Snmp}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Snmp)
+        org.opennms.features.events.sink.module.proto.EventLogProtos.SnmpOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Snmp_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Snmp_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        id_ = "";
+        trapOid_ = "";
+        idtext_ = "";
+        version_ = "";
+        specific_ = 0;
+        generic_ = 0;
+        community_ = "";
+        timeStamp_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Snmp_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp build() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp buildPartial() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp result = new org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.id_ = id_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.trapOid_ = trapOid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.idtext_ = idtext_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.specific_ = specific_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.generic_ = generic_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.community_ = community_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.timeStamp_ = timeStamp_;
+          to_bitField0_ |= 0x00000080;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp) {
+          return mergeFrom((org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp other) {
+        if (other == org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.getDefaultInstance()) return this;
+        if (other.hasId()) {
+          id_ = other.id_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasTrapOid()) {
+          trapOid_ = other.trapOid_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasIdtext()) {
+          idtext_ = other.idtext_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasVersion()) {
+          version_ = other.version_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.hasSpecific()) {
+          setSpecific(other.getSpecific());
+        }
+        if (other.hasGeneric()) {
+          setGeneric(other.getGeneric());
+        }
+        if (other.hasCommunity()) {
+          community_ = other.community_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        if (other.hasTimeStamp()) {
+          setTimeStamp(other.getTimeStamp());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                id_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                trapOid_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                idtext_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                version_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                specific_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                generic_ = input.readInt32();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 58: {
+                community_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 64: {
+                timeStamp_ = input.readInt64();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object id_ = "";
+      /**
+       * <code>optional string id = 1;</code>
+       * @return Whether the id field is set.
+       */
+      public boolean hasId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       * @return The id.
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       * @return The bytes for id.
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       * @param value The id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearId() {
+        id_ = getDefaultInstance().getId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       * @param value The bytes for id to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        id_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object trapOid_ = "";
+      /**
+       * <code>optional string trap_oid = 2;</code>
+       * @return Whether the trapOid field is set.
+       */
+      public boolean hasTrapOid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string trap_oid = 2;</code>
+       * @return The trapOid.
+       */
+      public java.lang.String getTrapOid() {
+        java.lang.Object ref = trapOid_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          trapOid_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string trap_oid = 2;</code>
+       * @return The bytes for trapOid.
+       */
+      public com.google.protobuf.ByteString
+          getTrapOidBytes() {
+        java.lang.Object ref = trapOid_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          trapOid_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string trap_oid = 2;</code>
+       * @param value The trapOid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTrapOid(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        trapOid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string trap_oid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTrapOid() {
+        trapOid_ = getDefaultInstance().getTrapOid();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string trap_oid = 2;</code>
+       * @param value The bytes for trapOid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTrapOidBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        trapOid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object idtext_ = "";
+      /**
+       * <code>optional string idtext = 3;</code>
+       * @return Whether the idtext field is set.
+       */
+      public boolean hasIdtext() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string idtext = 3;</code>
+       * @return The idtext.
+       */
+      public java.lang.String getIdtext() {
+        java.lang.Object ref = idtext_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          idtext_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string idtext = 3;</code>
+       * @return The bytes for idtext.
+       */
+      public com.google.protobuf.ByteString
+          getIdtextBytes() {
+        java.lang.Object ref = idtext_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          idtext_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string idtext = 3;</code>
+       * @param value The idtext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdtext(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        idtext_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string idtext = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIdtext() {
+        idtext_ = getDefaultInstance().getIdtext();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string idtext = 3;</code>
+       * @param value The bytes for idtext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIdtextBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        idtext_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object version_ = "";
+      /**
+       * <code>optional string version = 4;</code>
+       * @return Whether the version field is set.
+       */
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string version = 4;</code>
+       * @return The version.
+       */
+      public java.lang.String getVersion() {
+        java.lang.Object ref = version_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          version_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string version = 4;</code>
+       * @return The bytes for version.
+       */
+      public com.google.protobuf.ByteString
+          getVersionBytes() {
+        java.lang.Object ref = version_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          version_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string version = 4;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string version = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        version_ = getDefaultInstance().getVersion();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string version = 4;</code>
+       * @param value The bytes for version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        version_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private int specific_ ;
+      /**
+       * <code>optional int32 specific = 5;</code>
+       * @return Whether the specific field is set.
+       */
+      @java.lang.Override
+      public boolean hasSpecific() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional int32 specific = 5;</code>
+       * @return The specific.
+       */
+      @java.lang.Override
+      public int getSpecific() {
+        return specific_;
+      }
+      /**
+       * <code>optional int32 specific = 5;</code>
+       * @param value The specific to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSpecific(int value) {
+
+        specific_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 specific = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSpecific() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        specific_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int generic_ ;
+      /**
+       * <code>optional int32 generic = 6;</code>
+       * @return Whether the generic field is set.
+       */
+      @java.lang.Override
+      public boolean hasGeneric() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional int32 generic = 6;</code>
+       * @return The generic.
+       */
+      @java.lang.Override
+      public int getGeneric() {
+        return generic_;
+      }
+      /**
+       * <code>optional int32 generic = 6;</code>
+       * @param value The generic to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGeneric(int value) {
+
+        generic_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 generic = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGeneric() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        generic_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object community_ = "";
+      /**
+       * <code>optional string community = 7;</code>
+       * @return Whether the community field is set.
+       */
+      public boolean hasCommunity() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional string community = 7;</code>
+       * @return The community.
+       */
+      public java.lang.String getCommunity() {
+        java.lang.Object ref = community_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          community_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string community = 7;</code>
+       * @return The bytes for community.
+       */
+      public com.google.protobuf.ByteString
+          getCommunityBytes() {
+        java.lang.Object ref = community_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          community_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string community = 7;</code>
+       * @param value The community to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommunity(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        community_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string community = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCommunity() {
+        community_ = getDefaultInstance().getCommunity();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string community = 7;</code>
+       * @param value The bytes for community to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommunityBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        community_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private long timeStamp_ ;
+      /**
+       * <code>optional int64 time_stamp = 8;</code>
+       * @return Whether the timeStamp field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimeStamp() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional int64 time_stamp = 8;</code>
+       * @return The timeStamp.
+       */
+      @java.lang.Override
+      public long getTimeStamp() {
+        return timeStamp_;
+      }
+      /**
+       * <code>optional int64 time_stamp = 8;</code>
+       * @param value The timeStamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimeStamp(long value) {
+
+        timeStamp_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 time_stamp = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimeStamp() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        timeStamp_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Snmp)
+    }
+
+    // @@protoc_insertion_point(class_scope:Snmp)
+    private static final org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp();
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Snmp>
+        PARSER = new com.google.protobuf.AbstractParser<Snmp>() {
+      @java.lang.Override
+      public Snmp parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Snmp> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Snmp> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ValueOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Value)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    boolean hasContent();
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The content.
+     */
+    java.lang.String getContent();
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The bytes for content.
+     */
+    com.google.protobuf.ByteString
+        getContentBytes();
+
+    /**
+     * <code>optional string type = 2;</code>
+     * @return Whether the type field is set.
+     */
+    boolean hasType();
+    /**
+     * <code>optional string type = 2;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <code>optional string type = 2;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <code>optional string encoding = 3;</code>
+     * @return Whether the encoding field is set.
+     */
+    boolean hasEncoding();
+    /**
+     * <code>optional string encoding = 3;</code>
+     * @return The encoding.
+     */
+    java.lang.String getEncoding();
+    /**
+     * <code>optional string encoding = 3;</code>
+     * @return The bytes for encoding.
+     */
+    com.google.protobuf.ByteString
+        getEncodingBytes();
+
+    /**
+     * <code>optional bool expand = 4;</code>
+     * @return Whether the expand field is set.
+     */
+    boolean hasExpand();
+    /**
+     * <code>optional bool expand = 4;</code>
+     * @return The expand.
+     */
+    boolean getExpand();
+  }
+  /**
+   * Protobuf type {@code Value}
+   */
+  public static final class Value extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Value)
+      ValueOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Value.newBuilder() to construct.
+    private Value(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Value() {
+      content_ = "";
+      type_ = "";
+      encoding_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Value();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Value_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Value_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Value.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Value.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int CONTENT_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object content_ = "";
+    /**
+     * <code>optional string content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    @java.lang.Override
+    public boolean hasContent() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The content.
+     */
+    @java.lang.Override
+    public java.lang.String getContent() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        content_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The bytes for content.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getContentBytes() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        content_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object type_ = "";
+    /**
+     * <code>optional string type = 2;</code>
+     * @return Whether the type field is set.
+     */
+    @java.lang.Override
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string type = 2;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string type = 2;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ENCODING_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object encoding_ = "";
+    /**
+     * <code>optional string encoding = 3;</code>
+     * @return Whether the encoding field is set.
+     */
+    @java.lang.Override
+    public boolean hasEncoding() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string encoding = 3;</code>
+     * @return The encoding.
+     */
+    @java.lang.Override
+    public java.lang.String getEncoding() {
+      java.lang.Object ref = encoding_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        encoding_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string encoding = 3;</code>
+     * @return The bytes for encoding.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getEncodingBytes() {
+      java.lang.Object ref = encoding_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        encoding_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int EXPAND_FIELD_NUMBER = 4;
+    private boolean expand_ = false;
+    /**
+     * <code>optional bool expand = 4;</code>
+     * @return Whether the expand field is set.
+     */
+    @java.lang.Override
+    public boolean hasExpand() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional bool expand = 4;</code>
+     * @return The expand.
+     */
+    @java.lang.Override
+    public boolean getExpand() {
+      return expand_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, type_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, encoding_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeBool(4, expand_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, type_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, encoding_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, expand_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Value)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.proto.EventLogProtos.Value other = (org.opennms.features.events.sink.module.proto.EventLogProtos.Value) obj;
+
+      if (hasContent() != other.hasContent()) return false;
+      if (hasContent()) {
+        if (!getContent()
+            .equals(other.getContent())) return false;
+      }
+      if (hasType() != other.hasType()) return false;
+      if (hasType()) {
+        if (!getType()
+            .equals(other.getType())) return false;
+      }
+      if (hasEncoding() != other.hasEncoding()) return false;
+      if (hasEncoding()) {
+        if (!getEncoding()
+            .equals(other.getEncoding())) return false;
+      }
+      if (hasExpand() != other.hasExpand()) return false;
+      if (hasExpand()) {
+        if (getExpand()
+            != other.getExpand()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasContent()) {
+        hash = (37 * hash) + CONTENT_FIELD_NUMBER;
+        hash = (53 * hash) + getContent().hashCode();
+      }
+      if (hasType()) {
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getType().hashCode();
+      }
+      if (hasEncoding()) {
+        hash = (37 * hash) + ENCODING_FIELD_NUMBER;
+        hash = (53 * hash) + getEncoding().hashCode();
+      }
+      if (hasExpand()) {
+        hash = (37 * hash) + EXPAND_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getExpand());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.proto.EventLogProtos.Value prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Value}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Value)
+        org.opennms.features.events.sink.module.proto.EventLogProtos.ValueOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Value_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Value_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.proto.EventLogProtos.Value.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Value.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.proto.EventLogProtos.Value.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        content_ = "";
+        type_ = "";
+        encoding_ = "";
+        expand_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Value_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Value getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.Value.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Value build() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Value result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Value buildPartial() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Value result = new org.opennms.features.events.sink.module.proto.EventLogProtos.Value(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.proto.EventLogProtos.Value result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.content_ = content_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.type_ = type_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.encoding_ = encoding_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.expand_ = expand_;
+          to_bitField0_ |= 0x00000008;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Value) {
+          return mergeFrom((org.opennms.features.events.sink.module.proto.EventLogProtos.Value)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.proto.EventLogProtos.Value other) {
+        if (other == org.opennms.features.events.sink.module.proto.EventLogProtos.Value.getDefaultInstance()) return this;
+        if (other.hasContent()) {
+          content_ = other.content_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasType()) {
+          type_ = other.type_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasEncoding()) {
+          encoding_ = other.encoding_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasExpand()) {
+          setExpand(other.getExpand());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                content_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                type_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                encoding_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                expand_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object content_ = "";
+      /**
+       * <code>optional string content = 1;</code>
+       * @return Whether the content field is set.
+       */
+      public boolean hasContent() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return The content.
+       */
+      public java.lang.String getContent() {
+        java.lang.Object ref = content_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          content_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return The bytes for content.
+       */
+      public com.google.protobuf.ByteString
+          getContentBytes() {
+        java.lang.Object ref = content_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          content_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @param value The content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContent(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        content_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContent() {
+        content_ = getDefaultInstance().getContent();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @param value The bytes for content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContentBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        content_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object type_ = "";
+      /**
+       * <code>optional string type = 2;</code>
+       * @return Whether the type field is set.
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        type_ = getDefaultInstance().getType();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string type = 2;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        type_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object encoding_ = "";
+      /**
+       * <code>optional string encoding = 3;</code>
+       * @return Whether the encoding field is set.
+       */
+      public boolean hasEncoding() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string encoding = 3;</code>
+       * @return The encoding.
+       */
+      public java.lang.String getEncoding() {
+        java.lang.Object ref = encoding_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          encoding_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string encoding = 3;</code>
+       * @return The bytes for encoding.
+       */
+      public com.google.protobuf.ByteString
+          getEncodingBytes() {
+        java.lang.Object ref = encoding_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          encoding_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string encoding = 3;</code>
+       * @param value The encoding to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEncoding(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        encoding_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string encoding = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEncoding() {
+        encoding_ = getDefaultInstance().getEncoding();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string encoding = 3;</code>
+       * @param value The bytes for encoding to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEncodingBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        encoding_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private boolean expand_ ;
+      /**
+       * <code>optional bool expand = 4;</code>
+       * @return Whether the expand field is set.
+       */
+      @java.lang.Override
+      public boolean hasExpand() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional bool expand = 4;</code>
+       * @return The expand.
+       */
+      @java.lang.Override
+      public boolean getExpand() {
+        return expand_;
+      }
+      /**
+       * <code>optional bool expand = 4;</code>
+       * @param value The expand to set.
+       * @return This builder for chaining.
+       */
+      public Builder setExpand(boolean value) {
+
+        expand_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool expand = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearExpand() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        expand_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Value)
+    }
+
+    // @@protoc_insertion_point(class_scope:Value)
+    private static final org.opennms.features.events.sink.module.proto.EventLogProtos.Value DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.proto.EventLogProtos.Value();
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Value getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Value>
+        PARSER = new com.google.protobuf.AbstractParser<Value>() {
+      @java.lang.Override
+      public Value parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Value> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Value> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Value getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ParmOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Parm)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string parm_name = 1;</code>
+     * @return Whether the parmName field is set.
+     */
+    boolean hasParmName();
+    /**
+     * <code>optional string parm_name = 1;</code>
+     * @return The parmName.
+     */
+    java.lang.String getParmName();
+    /**
+     * <code>optional string parm_name = 1;</code>
+     * @return The bytes for parmName.
+     */
+    com.google.protobuf.ByteString
+        getParmNameBytes();
+
+    /**
+     * <code>optional .Value value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    boolean hasValue();
+    /**
+     * <code>optional .Value value = 2;</code>
+     * @return The value.
+     */
+    org.opennms.features.events.sink.module.proto.EventLogProtos.Value getValue();
+    /**
+     * <code>optional .Value value = 2;</code>
+     */
+    org.opennms.features.events.sink.module.proto.EventLogProtos.ValueOrBuilder getValueOrBuilder();
+  }
+  /**
+   * Protobuf type {@code Parm}
+   */
+  public static final class Parm extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Parm)
+      ParmOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Parm.newBuilder() to construct.
+    private Parm(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Parm() {
+      parmName_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Parm();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Parm_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Parm_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int PARM_NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object parmName_ = "";
+    /**
+     * <code>optional string parm_name = 1;</code>
+     * @return Whether the parmName field is set.
+     */
+    @java.lang.Override
+    public boolean hasParmName() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string parm_name = 1;</code>
+     * @return The parmName.
+     */
+    @java.lang.Override
+    public java.lang.String getParmName() {
+      java.lang.Object ref = parmName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        parmName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string parm_name = 1;</code>
+     * @return The bytes for parmName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getParmNameBytes() {
+      java.lang.Object ref = parmName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        parmName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private org.opennms.features.events.sink.module.proto.EventLogProtos.Value value_;
+    /**
+     * <code>optional .Value value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    @java.lang.Override
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional .Value value = 2;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Value getValue() {
+      return value_ == null ? org.opennms.features.events.sink.module.proto.EventLogProtos.Value.getDefaultInstance() : value_;
+    }
+    /**
+     * <code>optional .Value value = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.ValueOrBuilder getValueOrBuilder() {
+      return value_ == null ? org.opennms.features.events.sink.module.proto.EventLogProtos.Value.getDefaultInstance() : value_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, parmName_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(2, getValue());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, parmName_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getValue());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Parm)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.proto.EventLogProtos.Parm other = (org.opennms.features.events.sink.module.proto.EventLogProtos.Parm) obj;
+
+      if (hasParmName() != other.hasParmName()) return false;
+      if (hasParmName()) {
+        if (!getParmName()
+            .equals(other.getParmName())) return false;
+      }
+      if (hasValue() != other.hasValue()) return false;
+      if (hasValue()) {
+        if (!getValue()
+            .equals(other.getValue())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasParmName()) {
+        hash = (37 * hash) + PARM_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getParmName().hashCode();
+      }
+      if (hasValue()) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.proto.EventLogProtos.Parm prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Parm}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Parm)
+        org.opennms.features.events.sink.module.proto.EventLogProtos.ParmOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Parm_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Parm_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getValueFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        parmName_ = "";
+        value_ = null;
+        if (valueBuilder_ != null) {
+          valueBuilder_.dispose();
+          valueBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Parm_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Parm getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Parm build() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Parm result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Parm buildPartial() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Parm result = new org.opennms.features.events.sink.module.proto.EventLogProtos.Parm(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.proto.EventLogProtos.Parm result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.parmName_ = parmName_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.value_ = valueBuilder_ == null
+              ? value_
+              : valueBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Parm) {
+          return mergeFrom((org.opennms.features.events.sink.module.proto.EventLogProtos.Parm)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.proto.EventLogProtos.Parm other) {
+        if (other == org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.getDefaultInstance()) return this;
+        if (other.hasParmName()) {
+          parmName_ = other.parmName_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasValue()) {
+          mergeValue(other.getValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                parmName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getValueFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object parmName_ = "";
+      /**
+       * <code>optional string parm_name = 1;</code>
+       * @return Whether the parmName field is set.
+       */
+      public boolean hasParmName() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string parm_name = 1;</code>
+       * @return The parmName.
+       */
+      public java.lang.String getParmName() {
+        java.lang.Object ref = parmName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          parmName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string parm_name = 1;</code>
+       * @return The bytes for parmName.
+       */
+      public com.google.protobuf.ByteString
+          getParmNameBytes() {
+        java.lang.Object ref = parmName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          parmName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string parm_name = 1;</code>
+       * @param value The parmName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setParmName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        parmName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string parm_name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearParmName() {
+        parmName_ = getDefaultInstance().getParmName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string parm_name = 1;</code>
+       * @param value The bytes for parmName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setParmNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        parmName_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.features.events.sink.module.proto.EventLogProtos.Value value_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Value, org.opennms.features.events.sink.module.proto.EventLogProtos.Value.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.ValueOrBuilder> valueBuilder_;
+      /**
+       * <code>optional .Value value = 2;</code>
+       * @return Whether the value field is set.
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional .Value value = 2;</code>
+       * @return The value.
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Value getValue() {
+        if (valueBuilder_ == null) {
+          return value_ == null ? org.opennms.features.events.sink.module.proto.EventLogProtos.Value.getDefaultInstance() : value_;
+        } else {
+          return valueBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Value value = 2;</code>
+       */
+      public Builder setValue(org.opennms.features.events.sink.module.proto.EventLogProtos.Value value) {
+        if (valueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+        } else {
+          valueBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Value value = 2;</code>
+       */
+      public Builder setValue(
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Value.Builder builderForValue) {
+        if (valueBuilder_ == null) {
+          value_ = builderForValue.build();
+        } else {
+          valueBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Value value = 2;</code>
+       */
+      public Builder mergeValue(org.opennms.features.events.sink.module.proto.EventLogProtos.Value value) {
+        if (valueBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            value_ != null &&
+            value_ != org.opennms.features.events.sink.module.proto.EventLogProtos.Value.getDefaultInstance()) {
+            getValueBuilder().mergeFrom(value);
+          } else {
+            value_ = value;
+          }
+        } else {
+          valueBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Value value = 2;</code>
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = null;
+        if (valueBuilder_ != null) {
+          valueBuilder_.dispose();
+          valueBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Value value = 2;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Value.Builder getValueBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getValueFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Value value = 2;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.ValueOrBuilder getValueOrBuilder() {
+        if (valueBuilder_ != null) {
+          return valueBuilder_.getMessageOrBuilder();
+        } else {
+          return value_ == null ?
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Value.getDefaultInstance() : value_;
+        }
+      }
+      /**
+       * <code>optional .Value value = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Value, org.opennms.features.events.sink.module.proto.EventLogProtos.Value.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.ValueOrBuilder> 
+          getValueFieldBuilder() {
+        if (valueBuilder_ == null) {
+          valueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Value, org.opennms.features.events.sink.module.proto.EventLogProtos.Value.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.ValueOrBuilder>(
+                  getValue(),
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        return valueBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Parm)
+    }
+
+    // @@protoc_insertion_point(class_scope:Parm)
+    private static final org.opennms.features.events.sink.module.proto.EventLogProtos.Parm DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.proto.EventLogProtos.Parm();
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Parm getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Parm>
+        PARSER = new com.google.protobuf.AbstractParser<Parm>() {
+      @java.lang.Override
+      public Parm parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Parm> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Parm> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Parm getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LogmsgOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Logmsg)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    boolean hasContent();
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The content.
+     */
+    java.lang.String getContent();
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The bytes for content.
+     */
+    com.google.protobuf.ByteString
+        getContentBytes();
+
+    /**
+     * <code>optional bool notify = 2;</code>
+     * @return Whether the notify field is set.
+     */
+    boolean hasNotify();
+    /**
+     * <code>optional bool notify = 2;</code>
+     * @return The notify.
+     */
+    boolean getNotify();
+
+    /**
+     * <code>optional string dest = 3;</code>
+     * @return Whether the dest field is set.
+     */
+    boolean hasDest();
+    /**
+     * <code>optional string dest = 3;</code>
+     * @return The dest.
+     */
+    java.lang.String getDest();
+    /**
+     * <code>optional string dest = 3;</code>
+     * @return The bytes for dest.
+     */
+    com.google.protobuf.ByteString
+        getDestBytes();
+  }
+  /**
+   * Protobuf type {@code Logmsg}
+   */
+  public static final class Logmsg extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Logmsg)
+      LogmsgOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Logmsg.newBuilder() to construct.
+    private Logmsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Logmsg() {
+      content_ = "";
+      dest_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Logmsg();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Logmsg_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Logmsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int CONTENT_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object content_ = "";
+    /**
+     * <code>optional string content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    @java.lang.Override
+    public boolean hasContent() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The content.
+     */
+    @java.lang.Override
+    public java.lang.String getContent() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        content_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string content = 1;</code>
+     * @return The bytes for content.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getContentBytes() {
+      java.lang.Object ref = content_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        content_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NOTIFY_FIELD_NUMBER = 2;
+    private boolean notify_ = false;
+    /**
+     * <code>optional bool notify = 2;</code>
+     * @return Whether the notify field is set.
+     */
+    @java.lang.Override
+    public boolean hasNotify() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional bool notify = 2;</code>
+     * @return The notify.
+     */
+    @java.lang.Override
+    public boolean getNotify() {
+      return notify_;
+    }
+
+    public static final int DEST_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object dest_ = "";
+    /**
+     * <code>optional string dest = 3;</code>
+     * @return Whether the dest field is set.
+     */
+    @java.lang.Override
+    public boolean hasDest() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string dest = 3;</code>
+     * @return The dest.
+     */
+    @java.lang.Override
+    public java.lang.String getDest() {
+      java.lang.Object ref = dest_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dest_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string dest = 3;</code>
+     * @return The bytes for dest.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDestBytes() {
+      java.lang.Object ref = dest_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dest_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeBool(2, notify_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, dest_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, notify_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, dest_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg other = (org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg) obj;
+
+      if (hasContent() != other.hasContent()) return false;
+      if (hasContent()) {
+        if (!getContent()
+            .equals(other.getContent())) return false;
+      }
+      if (hasNotify() != other.hasNotify()) return false;
+      if (hasNotify()) {
+        if (getNotify()
+            != other.getNotify()) return false;
+      }
+      if (hasDest() != other.hasDest()) return false;
+      if (hasDest()) {
+        if (!getDest()
+            .equals(other.getDest())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasContent()) {
+        hash = (37 * hash) + CONTENT_FIELD_NUMBER;
+        hash = (53 * hash) + getContent().hashCode();
+      }
+      if (hasNotify()) {
+        hash = (37 * hash) + NOTIFY_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getNotify());
+      }
+      if (hasDest()) {
+        hash = (37 * hash) + DEST_FIELD_NUMBER;
+        hash = (53 * hash) + getDest().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Logmsg}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Logmsg)
+        org.opennms.features.events.sink.module.proto.EventLogProtos.LogmsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Logmsg_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Logmsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        content_ = "";
+        notify_ = false;
+        dest_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Logmsg_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg build() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg buildPartial() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg result = new org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.content_ = content_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.notify_ = notify_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.dest_ = dest_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg) {
+          return mergeFrom((org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg other) {
+        if (other == org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.getDefaultInstance()) return this;
+        if (other.hasContent()) {
+          content_ = other.content_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasNotify()) {
+          setNotify(other.getNotify());
+        }
+        if (other.hasDest()) {
+          dest_ = other.dest_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                content_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                notify_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                dest_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object content_ = "";
+      /**
+       * <code>optional string content = 1;</code>
+       * @return Whether the content field is set.
+       */
+      public boolean hasContent() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return The content.
+       */
+      public java.lang.String getContent() {
+        java.lang.Object ref = content_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          content_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return The bytes for content.
+       */
+      public com.google.protobuf.ByteString
+          getContentBytes() {
+        java.lang.Object ref = content_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          content_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @param value The content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContent(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        content_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContent() {
+        content_ = getDefaultInstance().getContent();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string content = 1;</code>
+       * @param value The bytes for content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContentBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        content_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private boolean notify_ ;
+      /**
+       * <code>optional bool notify = 2;</code>
+       * @return Whether the notify field is set.
+       */
+      @java.lang.Override
+      public boolean hasNotify() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional bool notify = 2;</code>
+       * @return The notify.
+       */
+      @java.lang.Override
+      public boolean getNotify() {
+        return notify_;
+      }
+      /**
+       * <code>optional bool notify = 2;</code>
+       * @param value The notify to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNotify(boolean value) {
+
+        notify_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool notify = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNotify() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        notify_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dest_ = "";
+      /**
+       * <code>optional string dest = 3;</code>
+       * @return Whether the dest field is set.
+       */
+      public boolean hasDest() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string dest = 3;</code>
+       * @return The dest.
+       */
+      public java.lang.String getDest() {
+        java.lang.Object ref = dest_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dest_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string dest = 3;</code>
+       * @return The bytes for dest.
+       */
+      public com.google.protobuf.ByteString
+          getDestBytes() {
+        java.lang.Object ref = dest_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dest_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string dest = 3;</code>
+       * @param value The dest to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDest(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        dest_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dest = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDest() {
+        dest_ = getDefaultInstance().getDest();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dest = 3;</code>
+       * @param value The bytes for dest to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        dest_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Logmsg)
+    }
+
+    // @@protoc_insertion_point(class_scope:Logmsg)
+    private static final org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg();
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Logmsg>
+        PARSER = new com.google.protobuf.AbstractParser<Logmsg>() {
+      @java.lang.Override
+      public Logmsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Logmsg> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Logmsg> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EventOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Event)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string uuid = 1;</code>
+     * @return Whether the uuid field is set.
+     */
+    boolean hasUuid();
+    /**
+     * <code>optional string uuid = 1;</code>
+     * @return The uuid.
+     */
+    java.lang.String getUuid();
+    /**
+     * <code>optional string uuid = 1;</code>
+     * @return The bytes for uuid.
+     */
+    com.google.protobuf.ByteString
+        getUuidBytes();
+
+    /**
+     * <code>optional int32 dbid = 2;</code>
+     * @return Whether the dbid field is set.
+     */
+    boolean hasDbid();
+    /**
+     * <code>optional int32 dbid = 2;</code>
+     * @return The dbid.
+     */
+    int getDbid();
+
+    /**
+     * <code>optional string dist_poller = 3;</code>
+     * @return Whether the distPoller field is set.
+     */
+    boolean hasDistPoller();
+    /**
+     * <code>optional string dist_poller = 3;</code>
+     * @return The distPoller.
+     */
+    java.lang.String getDistPoller();
+    /**
+     * <code>optional string dist_poller = 3;</code>
+     * @return The bytes for distPoller.
+     */
+    com.google.protobuf.ByteString
+        getDistPollerBytes();
+
+    /**
+     * <pre>
+     * milliseconds since epoch
+     * </pre>
+     *
+     * <code>optional int64 creation_time = 4;</code>
+     * @return Whether the creationTime field is set.
+     */
+    boolean hasCreationTime();
+    /**
+     * <pre>
+     * milliseconds since epoch
+     * </pre>
+     *
+     * <code>optional int64 creation_time = 4;</code>
+     * @return The creationTime.
+     */
+    long getCreationTime();
+
+    /**
+     * <code>optional string master_station = 5;</code>
+     * @return Whether the masterStation field is set.
+     */
+    boolean hasMasterStation();
+    /**
+     * <code>optional string master_station = 5;</code>
+     * @return The masterStation.
+     */
+    java.lang.String getMasterStation();
+    /**
+     * <code>optional string master_station = 5;</code>
+     * @return The bytes for masterStation.
+     */
+    com.google.protobuf.ByteString
+        getMasterStationBytes();
+
+    /**
+     * <code>optional string uei = 6;</code>
+     * @return Whether the uei field is set.
+     */
+    boolean hasUei();
+    /**
+     * <code>optional string uei = 6;</code>
+     * @return The uei.
+     */
+    java.lang.String getUei();
+    /**
+     * <code>optional string uei = 6;</code>
+     * @return The bytes for uei.
+     */
+    com.google.protobuf.ByteString
+        getUeiBytes();
+
+    /**
+     * <code>optional string source = 7;</code>
+     * @return Whether the source field is set.
+     */
+    boolean hasSource();
+    /**
+     * <code>optional string source = 7;</code>
+     * @return The source.
+     */
+    java.lang.String getSource();
+    /**
+     * <code>optional string source = 7;</code>
+     * @return The bytes for source.
+     */
+    com.google.protobuf.ByteString
+        getSourceBytes();
+
+    /**
+     * <code>optional int64 nodeid = 8;</code>
+     * @return Whether the nodeid field is set.
+     */
+    boolean hasNodeid();
+    /**
+     * <code>optional int64 nodeid = 8;</code>
+     * @return The nodeid.
+     */
+    long getNodeid();
+
+    /**
+     * <pre>
+     * milliseconds since epoch
+     * </pre>
+     *
+     * <code>optional int64 time = 9;</code>
+     * @return Whether the time field is set.
+     */
+    boolean hasTime();
+    /**
+     * <pre>
+     * milliseconds since epoch
+     * </pre>
+     *
+     * <code>optional int64 time = 9;</code>
+     * @return The time.
+     */
+    long getTime();
+
+    /**
+     * <code>optional string host = 10;</code>
+     * @return Whether the host field is set.
+     */
+    boolean hasHost();
+    /**
+     * <code>optional string host = 10;</code>
+     * @return The host.
+     */
+    java.lang.String getHost();
+    /**
+     * <code>optional string host = 10;</code>
+     * @return The bytes for host.
+     */
+    com.google.protobuf.ByteString
+        getHostBytes();
+
+    /**
+     * <code>optional bytes interface_address = 11;</code>
+     * @return Whether the interfaceAddress field is set.
+     */
+    boolean hasInterfaceAddress();
+    /**
+     * <code>optional bytes interface_address = 11;</code>
+     * @return The interfaceAddress.
+     */
+    com.google.protobuf.ByteString getInterfaceAddress();
+
+    /**
+     * <code>optional string snmphost = 12;</code>
+     * @return Whether the snmphost field is set.
+     */
+    boolean hasSnmphost();
+    /**
+     * <code>optional string snmphost = 12;</code>
+     * @return The snmphost.
+     */
+    java.lang.String getSnmphost();
+    /**
+     * <code>optional string snmphost = 12;</code>
+     * @return The bytes for snmphost.
+     */
+    com.google.protobuf.ByteString
+        getSnmphostBytes();
+
+    /**
+     * <code>optional string service = 13;</code>
+     * @return Whether the service field is set.
+     */
+    boolean hasService();
+    /**
+     * <code>optional string service = 13;</code>
+     * @return The service.
+     */
+    java.lang.String getService();
+    /**
+     * <code>optional string service = 13;</code>
+     * @return The bytes for service.
+     */
+    com.google.protobuf.ByteString
+        getServiceBytes();
+
+    /**
+     * <code>optional .Snmp snmp = 14;</code>
+     * @return Whether the snmp field is set.
+     */
+    boolean hasSnmp();
+    /**
+     * <code>optional .Snmp snmp = 14;</code>
+     * @return The snmp.
+     */
+    org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp getSnmp();
+    /**
+     * <code>optional .Snmp snmp = 14;</code>
+     */
+    org.opennms.features.events.sink.module.proto.EventLogProtos.SnmpOrBuilder getSnmpOrBuilder();
+
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    java.util.List<org.opennms.features.events.sink.module.proto.EventLogProtos.Parm> 
+        getParmsList();
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    org.opennms.features.events.sink.module.proto.EventLogProtos.Parm getParms(int index);
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    int getParmsCount();
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    java.util.List<? extends org.opennms.features.events.sink.module.proto.EventLogProtos.ParmOrBuilder> 
+        getParmsOrBuilderList();
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    org.opennms.features.events.sink.module.proto.EventLogProtos.ParmOrBuilder getParmsOrBuilder(
+        int index);
+
+    /**
+     * <code>optional string descr = 16;</code>
+     * @return Whether the descr field is set.
+     */
+    boolean hasDescr();
+    /**
+     * <code>optional string descr = 16;</code>
+     * @return The descr.
+     */
+    java.lang.String getDescr();
+    /**
+     * <code>optional string descr = 16;</code>
+     * @return The bytes for descr.
+     */
+    com.google.protobuf.ByteString
+        getDescrBytes();
+
+    /**
+     * <code>optional .Logmsg logmsg = 17;</code>
+     * @return Whether the logmsg field is set.
+     */
+    boolean hasLogmsg();
+    /**
+     * <code>optional .Logmsg logmsg = 17;</code>
+     * @return The logmsg.
+     */
+    org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg getLogmsg();
+    /**
+     * <code>optional .Logmsg logmsg = 17;</code>
+     */
+    org.opennms.features.events.sink.module.proto.EventLogProtos.LogmsgOrBuilder getLogmsgOrBuilder();
+
+    /**
+     * <code>optional string severity = 18;</code>
+     * @return Whether the severity field is set.
+     */
+    boolean hasSeverity();
+    /**
+     * <code>optional string severity = 18;</code>
+     * @return The severity.
+     */
+    java.lang.String getSeverity();
+    /**
+     * <code>optional string severity = 18;</code>
+     * @return The bytes for severity.
+     */
+    com.google.protobuf.ByteString
+        getSeverityBytes();
+
+    /**
+     * <code>optional string pathoutage = 19;</code>
+     * @return Whether the pathoutage field is set.
+     */
+    boolean hasPathoutage();
+    /**
+     * <code>optional string pathoutage = 19;</code>
+     * @return The pathoutage.
+     */
+    java.lang.String getPathoutage();
+    /**
+     * <code>optional string pathoutage = 19;</code>
+     * @return The bytes for pathoutage.
+     */
+    com.google.protobuf.ByteString
+        getPathoutageBytes();
+
+    /**
+     * <code>optional string operinstruct = 20;</code>
+     * @return Whether the operinstruct field is set.
+     */
+    boolean hasOperinstruct();
+    /**
+     * <code>optional string operinstruct = 20;</code>
+     * @return The operinstruct.
+     */
+    java.lang.String getOperinstruct();
+    /**
+     * <code>optional string operinstruct = 20;</code>
+     * @return The bytes for operinstruct.
+     */
+    com.google.protobuf.ByteString
+        getOperinstructBytes();
+
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @return A list containing the loggroup.
+     */
+    java.util.List<java.lang.String>
+        getLoggroupList();
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @return The count of loggroup.
+     */
+    int getLoggroupCount();
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @param index The index of the element to return.
+     * @return The loggroup at the given index.
+     */
+    java.lang.String getLoggroup(int index);
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the loggroup at the given index.
+     */
+    com.google.protobuf.ByteString
+        getLoggroupBytes(int index);
+
+    /**
+     * <code>optional int32 if_index = 22;</code>
+     * @return Whether the ifIndex field is set.
+     */
+    boolean hasIfIndex();
+    /**
+     * <code>optional int32 if_index = 22;</code>
+     * @return The ifIndex.
+     */
+    int getIfIndex();
+
+    /**
+     * <code>optional string if_alias = 23;</code>
+     * @return Whether the ifAlias field is set.
+     */
+    boolean hasIfAlias();
+    /**
+     * <code>optional string if_alias = 23;</code>
+     * @return The ifAlias.
+     */
+    java.lang.String getIfAlias();
+    /**
+     * <code>optional string if_alias = 23;</code>
+     * @return The bytes for ifAlias.
+     */
+    com.google.protobuf.ByteString
+        getIfAliasBytes();
+
+    /**
+     * <code>optional string mouseovertext = 24;</code>
+     * @return Whether the mouseovertext field is set.
+     */
+    boolean hasMouseovertext();
+    /**
+     * <code>optional string mouseovertext = 24;</code>
+     * @return The mouseovertext.
+     */
+    java.lang.String getMouseovertext();
+    /**
+     * <code>optional string mouseovertext = 24;</code>
+     * @return The bytes for mouseovertext.
+     */
+    com.google.protobuf.ByteString
+        getMouseovertextBytes();
+
+    /**
+     * <code>optional bytes xml = 25;</code>
+     * @return Whether the xml field is set.
+     */
+    boolean hasXml();
+    /**
+     * <code>optional bytes xml = 25;</code>
+     * @return The xml.
+     */
+    com.google.protobuf.ByteString getXml();
+  }
+  /**
+   * Protobuf type {@code Event}
+   */
+  public static final class Event extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Event)
+      EventOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Event.newBuilder() to construct.
+    private Event(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Event() {
+      uuid_ = "";
+      distPoller_ = "";
+      masterStation_ = "";
+      uei_ = "";
+      source_ = "";
+      host_ = "";
+      interfaceAddress_ = com.google.protobuf.ByteString.EMPTY;
+      snmphost_ = "";
+      service_ = "";
+      parms_ = java.util.Collections.emptyList();
+      descr_ = "";
+      severity_ = "";
+      pathoutage_ = "";
+      operinstruct_ = "";
+      loggroup_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      ifAlias_ = "";
+      mouseovertext_ = "";
+      xml_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Event();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Event_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Event_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Event.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Event.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int UUID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object uuid_ = "";
+    /**
+     * <code>optional string uuid = 1;</code>
+     * @return Whether the uuid field is set.
+     */
+    @java.lang.Override
+    public boolean hasUuid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string uuid = 1;</code>
+     * @return The uuid.
+     */
+    @java.lang.Override
+    public java.lang.String getUuid() {
+      java.lang.Object ref = uuid_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        uuid_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string uuid = 1;</code>
+     * @return The bytes for uuid.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUuidBytes() {
+      java.lang.Object ref = uuid_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        uuid_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DBID_FIELD_NUMBER = 2;
+    private int dbid_ = 0;
+    /**
+     * <code>optional int32 dbid = 2;</code>
+     * @return Whether the dbid field is set.
+     */
+    @java.lang.Override
+    public boolean hasDbid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int32 dbid = 2;</code>
+     * @return The dbid.
+     */
+    @java.lang.Override
+    public int getDbid() {
+      return dbid_;
+    }
+
+    public static final int DIST_POLLER_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object distPoller_ = "";
+    /**
+     * <code>optional string dist_poller = 3;</code>
+     * @return Whether the distPoller field is set.
+     */
+    @java.lang.Override
+    public boolean hasDistPoller() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string dist_poller = 3;</code>
+     * @return The distPoller.
+     */
+    @java.lang.Override
+    public java.lang.String getDistPoller() {
+      java.lang.Object ref = distPoller_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        distPoller_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string dist_poller = 3;</code>
+     * @return The bytes for distPoller.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDistPollerBytes() {
+      java.lang.Object ref = distPoller_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        distPoller_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CREATION_TIME_FIELD_NUMBER = 4;
+    private long creationTime_ = 0L;
+    /**
+     * <pre>
+     * milliseconds since epoch
+     * </pre>
+     *
+     * <code>optional int64 creation_time = 4;</code>
+     * @return Whether the creationTime field is set.
+     */
+    @java.lang.Override
+    public boolean hasCreationTime() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <pre>
+     * milliseconds since epoch
+     * </pre>
+     *
+     * <code>optional int64 creation_time = 4;</code>
+     * @return The creationTime.
+     */
+    @java.lang.Override
+    public long getCreationTime() {
+      return creationTime_;
+    }
+
+    public static final int MASTER_STATION_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object masterStation_ = "";
+    /**
+     * <code>optional string master_station = 5;</code>
+     * @return Whether the masterStation field is set.
+     */
+    @java.lang.Override
+    public boolean hasMasterStation() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional string master_station = 5;</code>
+     * @return The masterStation.
+     */
+    @java.lang.Override
+    public java.lang.String getMasterStation() {
+      java.lang.Object ref = masterStation_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        masterStation_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string master_station = 5;</code>
+     * @return The bytes for masterStation.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMasterStationBytes() {
+      java.lang.Object ref = masterStation_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        masterStation_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int UEI_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object uei_ = "";
+    /**
+     * <code>optional string uei = 6;</code>
+     * @return Whether the uei field is set.
+     */
+    @java.lang.Override
+    public boolean hasUei() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional string uei = 6;</code>
+     * @return The uei.
+     */
+    @java.lang.Override
+    public java.lang.String getUei() {
+      java.lang.Object ref = uei_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        uei_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string uei = 6;</code>
+     * @return The bytes for uei.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUeiBytes() {
+      java.lang.Object ref = uei_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        uei_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object source_ = "";
+    /**
+     * <code>optional string source = 7;</code>
+     * @return Whether the source field is set.
+     */
+    @java.lang.Override
+    public boolean hasSource() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional string source = 7;</code>
+     * @return The source.
+     */
+    @java.lang.Override
+    public java.lang.String getSource() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        source_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string source = 7;</code>
+     * @return The bytes for source.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSourceBytes() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        source_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NODEID_FIELD_NUMBER = 8;
+    private long nodeid_ = 0L;
+    /**
+     * <code>optional int64 nodeid = 8;</code>
+     * @return Whether the nodeid field is set.
+     */
+    @java.lang.Override
+    public boolean hasNodeid() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>optional int64 nodeid = 8;</code>
+     * @return The nodeid.
+     */
+    @java.lang.Override
+    public long getNodeid() {
+      return nodeid_;
+    }
+
+    public static final int TIME_FIELD_NUMBER = 9;
+    private long time_ = 0L;
+    /**
+     * <pre>
+     * milliseconds since epoch
+     * </pre>
+     *
+     * <code>optional int64 time = 9;</code>
+     * @return Whether the time field is set.
+     */
+    @java.lang.Override
+    public boolean hasTime() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <pre>
+     * milliseconds since epoch
+     * </pre>
+     *
+     * <code>optional int64 time = 9;</code>
+     * @return The time.
+     */
+    @java.lang.Override
+    public long getTime() {
+      return time_;
+    }
+
+    public static final int HOST_FIELD_NUMBER = 10;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object host_ = "";
+    /**
+     * <code>optional string host = 10;</code>
+     * @return Whether the host field is set.
+     */
+    @java.lang.Override
+    public boolean hasHost() {
+      return ((bitField0_ & 0x00000200) != 0);
+    }
+    /**
+     * <code>optional string host = 10;</code>
+     * @return The host.
+     */
+    @java.lang.Override
+    public java.lang.String getHost() {
+      java.lang.Object ref = host_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        host_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string host = 10;</code>
+     * @return The bytes for host.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getHostBytes() {
+      java.lang.Object ref = host_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        host_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INTERFACE_ADDRESS_FIELD_NUMBER = 11;
+    private com.google.protobuf.ByteString interfaceAddress_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes interface_address = 11;</code>
+     * @return Whether the interfaceAddress field is set.
+     */
+    @java.lang.Override
+    public boolean hasInterfaceAddress() {
+      return ((bitField0_ & 0x00000400) != 0);
+    }
+    /**
+     * <code>optional bytes interface_address = 11;</code>
+     * @return The interfaceAddress.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getInterfaceAddress() {
+      return interfaceAddress_;
+    }
+
+    public static final int SNMPHOST_FIELD_NUMBER = 12;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object snmphost_ = "";
+    /**
+     * <code>optional string snmphost = 12;</code>
+     * @return Whether the snmphost field is set.
+     */
+    @java.lang.Override
+    public boolean hasSnmphost() {
+      return ((bitField0_ & 0x00000800) != 0);
+    }
+    /**
+     * <code>optional string snmphost = 12;</code>
+     * @return The snmphost.
+     */
+    @java.lang.Override
+    public java.lang.String getSnmphost() {
+      java.lang.Object ref = snmphost_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        snmphost_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string snmphost = 12;</code>
+     * @return The bytes for snmphost.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSnmphostBytes() {
+      java.lang.Object ref = snmphost_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        snmphost_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SERVICE_FIELD_NUMBER = 13;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object service_ = "";
+    /**
+     * <code>optional string service = 13;</code>
+     * @return Whether the service field is set.
+     */
+    @java.lang.Override
+    public boolean hasService() {
+      return ((bitField0_ & 0x00001000) != 0);
+    }
+    /**
+     * <code>optional string service = 13;</code>
+     * @return The service.
+     */
+    @java.lang.Override
+    public java.lang.String getService() {
+      java.lang.Object ref = service_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        service_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string service = 13;</code>
+     * @return The bytes for service.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getServiceBytes() {
+      java.lang.Object ref = service_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        service_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SNMP_FIELD_NUMBER = 14;
+    private org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp snmp_;
+    /**
+     * <code>optional .Snmp snmp = 14;</code>
+     * @return Whether the snmp field is set.
+     */
+    @java.lang.Override
+    public boolean hasSnmp() {
+      return ((bitField0_ & 0x00002000) != 0);
+    }
+    /**
+     * <code>optional .Snmp snmp = 14;</code>
+     * @return The snmp.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp getSnmp() {
+      return snmp_ == null ? org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.getDefaultInstance() : snmp_;
+    }
+    /**
+     * <code>optional .Snmp snmp = 14;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.SnmpOrBuilder getSnmpOrBuilder() {
+      return snmp_ == null ? org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.getDefaultInstance() : snmp_;
+    }
+
+    public static final int PARMS_FIELD_NUMBER = 15;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.features.events.sink.module.proto.EventLogProtos.Parm> parms_;
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.features.events.sink.module.proto.EventLogProtos.Parm> getParmsList() {
+      return parms_;
+    }
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.features.events.sink.module.proto.EventLogProtos.ParmOrBuilder> 
+        getParmsOrBuilderList() {
+      return parms_;
+    }
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    @java.lang.Override
+    public int getParmsCount() {
+      return parms_.size();
+    }
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Parm getParms(int index) {
+      return parms_.get(index);
+    }
+    /**
+     * <code>repeated .Parm parms = 15;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.ParmOrBuilder getParmsOrBuilder(
+        int index) {
+      return parms_.get(index);
+    }
+
+    public static final int DESCR_FIELD_NUMBER = 16;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object descr_ = "";
+    /**
+     * <code>optional string descr = 16;</code>
+     * @return Whether the descr field is set.
+     */
+    @java.lang.Override
+    public boolean hasDescr() {
+      return ((bitField0_ & 0x00004000) != 0);
+    }
+    /**
+     * <code>optional string descr = 16;</code>
+     * @return The descr.
+     */
+    @java.lang.Override
+    public java.lang.String getDescr() {
+      java.lang.Object ref = descr_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        descr_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string descr = 16;</code>
+     * @return The bytes for descr.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDescrBytes() {
+      java.lang.Object ref = descr_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        descr_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOGMSG_FIELD_NUMBER = 17;
+    private org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg logmsg_;
+    /**
+     * <code>optional .Logmsg logmsg = 17;</code>
+     * @return Whether the logmsg field is set.
+     */
+    @java.lang.Override
+    public boolean hasLogmsg() {
+      return ((bitField0_ & 0x00008000) != 0);
+    }
+    /**
+     * <code>optional .Logmsg logmsg = 17;</code>
+     * @return The logmsg.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg getLogmsg() {
+      return logmsg_ == null ? org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.getDefaultInstance() : logmsg_;
+    }
+    /**
+     * <code>optional .Logmsg logmsg = 17;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.LogmsgOrBuilder getLogmsgOrBuilder() {
+      return logmsg_ == null ? org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.getDefaultInstance() : logmsg_;
+    }
+
+    public static final int SEVERITY_FIELD_NUMBER = 18;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object severity_ = "";
+    /**
+     * <code>optional string severity = 18;</code>
+     * @return Whether the severity field is set.
+     */
+    @java.lang.Override
+    public boolean hasSeverity() {
+      return ((bitField0_ & 0x00010000) != 0);
+    }
+    /**
+     * <code>optional string severity = 18;</code>
+     * @return The severity.
+     */
+    @java.lang.Override
+    public java.lang.String getSeverity() {
+      java.lang.Object ref = severity_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        severity_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string severity = 18;</code>
+     * @return The bytes for severity.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSeverityBytes() {
+      java.lang.Object ref = severity_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        severity_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PATHOUTAGE_FIELD_NUMBER = 19;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object pathoutage_ = "";
+    /**
+     * <code>optional string pathoutage = 19;</code>
+     * @return Whether the pathoutage field is set.
+     */
+    @java.lang.Override
+    public boolean hasPathoutage() {
+      return ((bitField0_ & 0x00020000) != 0);
+    }
+    /**
+     * <code>optional string pathoutage = 19;</code>
+     * @return The pathoutage.
+     */
+    @java.lang.Override
+    public java.lang.String getPathoutage() {
+      java.lang.Object ref = pathoutage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        pathoutage_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string pathoutage = 19;</code>
+     * @return The bytes for pathoutage.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPathoutageBytes() {
+      java.lang.Object ref = pathoutage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        pathoutage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OPERINSTRUCT_FIELD_NUMBER = 20;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object operinstruct_ = "";
+    /**
+     * <code>optional string operinstruct = 20;</code>
+     * @return Whether the operinstruct field is set.
+     */
+    @java.lang.Override
+    public boolean hasOperinstruct() {
+      return ((bitField0_ & 0x00040000) != 0);
+    }
+    /**
+     * <code>optional string operinstruct = 20;</code>
+     * @return The operinstruct.
+     */
+    @java.lang.Override
+    public java.lang.String getOperinstruct() {
+      java.lang.Object ref = operinstruct_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        operinstruct_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string operinstruct = 20;</code>
+     * @return The bytes for operinstruct.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getOperinstructBytes() {
+      java.lang.Object ref = operinstruct_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        operinstruct_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOGGROUP_FIELD_NUMBER = 21;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList loggroup_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @return A list containing the loggroup.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getLoggroupList() {
+      return loggroup_;
+    }
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @return The count of loggroup.
+     */
+    public int getLoggroupCount() {
+      return loggroup_.size();
+    }
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @param index The index of the element to return.
+     * @return The loggroup at the given index.
+     */
+    public java.lang.String getLoggroup(int index) {
+      return loggroup_.get(index);
+    }
+    /**
+     * <code>repeated string loggroup = 21;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the loggroup at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getLoggroupBytes(int index) {
+      return loggroup_.getByteString(index);
+    }
+
+    public static final int IF_INDEX_FIELD_NUMBER = 22;
+    private int ifIndex_ = 0;
+    /**
+     * <code>optional int32 if_index = 22;</code>
+     * @return Whether the ifIndex field is set.
+     */
+    @java.lang.Override
+    public boolean hasIfIndex() {
+      return ((bitField0_ & 0x00080000) != 0);
+    }
+    /**
+     * <code>optional int32 if_index = 22;</code>
+     * @return The ifIndex.
+     */
+    @java.lang.Override
+    public int getIfIndex() {
+      return ifIndex_;
+    }
+
+    public static final int IF_ALIAS_FIELD_NUMBER = 23;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object ifAlias_ = "";
+    /**
+     * <code>optional string if_alias = 23;</code>
+     * @return Whether the ifAlias field is set.
+     */
+    @java.lang.Override
+    public boolean hasIfAlias() {
+      return ((bitField0_ & 0x00100000) != 0);
+    }
+    /**
+     * <code>optional string if_alias = 23;</code>
+     * @return The ifAlias.
+     */
+    @java.lang.Override
+    public java.lang.String getIfAlias() {
+      java.lang.Object ref = ifAlias_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        ifAlias_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string if_alias = 23;</code>
+     * @return The bytes for ifAlias.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIfAliasBytes() {
+      java.lang.Object ref = ifAlias_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        ifAlias_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MOUSEOVERTEXT_FIELD_NUMBER = 24;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object mouseovertext_ = "";
+    /**
+     * <code>optional string mouseovertext = 24;</code>
+     * @return Whether the mouseovertext field is set.
+     */
+    @java.lang.Override
+    public boolean hasMouseovertext() {
+      return ((bitField0_ & 0x00200000) != 0);
+    }
+    /**
+     * <code>optional string mouseovertext = 24;</code>
+     * @return The mouseovertext.
+     */
+    @java.lang.Override
+    public java.lang.String getMouseovertext() {
+      java.lang.Object ref = mouseovertext_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        mouseovertext_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string mouseovertext = 24;</code>
+     * @return The bytes for mouseovertext.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMouseovertextBytes() {
+      java.lang.Object ref = mouseovertext_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        mouseovertext_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int XML_FIELD_NUMBER = 25;
+    private com.google.protobuf.ByteString xml_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes xml = 25;</code>
+     * @return Whether the xml field is set.
+     */
+    @java.lang.Override
+    public boolean hasXml() {
+      return ((bitField0_ & 0x00400000) != 0);
+    }
+    /**
+     * <code>optional bytes xml = 25;</code>
+     * @return The xml.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getXml() {
+      return xml_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, uuid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, dbid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, distPoller_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt64(4, creationTime_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, masterStation_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, uei_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, source_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeInt64(8, nodeid_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        output.writeInt64(9, time_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 10, host_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        output.writeBytes(11, interfaceAddress_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 12, snmphost_);
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 13, service_);
+      }
+      if (((bitField0_ & 0x00002000) != 0)) {
+        output.writeMessage(14, getSnmp());
+      }
+      for (int i = 0; i < parms_.size(); i++) {
+        output.writeMessage(15, parms_.get(i));
+      }
+      if (((bitField0_ & 0x00004000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 16, descr_);
+      }
+      if (((bitField0_ & 0x00008000) != 0)) {
+        output.writeMessage(17, getLogmsg());
+      }
+      if (((bitField0_ & 0x00010000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 18, severity_);
+      }
+      if (((bitField0_ & 0x00020000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 19, pathoutage_);
+      }
+      if (((bitField0_ & 0x00040000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 20, operinstruct_);
+      }
+      for (int i = 0; i < loggroup_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 21, loggroup_.getRaw(i));
+      }
+      if (((bitField0_ & 0x00080000) != 0)) {
+        output.writeInt32(22, ifIndex_);
+      }
+      if (((bitField0_ & 0x00100000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 23, ifAlias_);
+      }
+      if (((bitField0_ & 0x00200000) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 24, mouseovertext_);
+      }
+      if (((bitField0_ & 0x00400000) != 0)) {
+        output.writeBytes(25, xml_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, uuid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, dbid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, distPoller_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, creationTime_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, masterStation_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, uei_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, source_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, nodeid_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(9, time_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(10, host_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(11, interfaceAddress_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(12, snmphost_);
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(13, service_);
+      }
+      if (((bitField0_ & 0x00002000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(14, getSnmp());
+      }
+      for (int i = 0; i < parms_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(15, parms_.get(i));
+      }
+      if (((bitField0_ & 0x00004000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(16, descr_);
+      }
+      if (((bitField0_ & 0x00008000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(17, getLogmsg());
+      }
+      if (((bitField0_ & 0x00010000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(18, severity_);
+      }
+      if (((bitField0_ & 0x00020000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(19, pathoutage_);
+      }
+      if (((bitField0_ & 0x00040000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(20, operinstruct_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < loggroup_.size(); i++) {
+          dataSize += computeStringSizeNoTag(loggroup_.getRaw(i));
+        }
+        size += dataSize;
+        size += 2 * getLoggroupList().size();
+      }
+      if (((bitField0_ & 0x00080000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(22, ifIndex_);
+      }
+      if (((bitField0_ & 0x00100000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(23, ifAlias_);
+      }
+      if (((bitField0_ & 0x00200000) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(24, mouseovertext_);
+      }
+      if (((bitField0_ & 0x00400000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(25, xml_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Event)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.proto.EventLogProtos.Event other = (org.opennms.features.events.sink.module.proto.EventLogProtos.Event) obj;
+
+      if (hasUuid() != other.hasUuid()) return false;
+      if (hasUuid()) {
+        if (!getUuid()
+            .equals(other.getUuid())) return false;
+      }
+      if (hasDbid() != other.hasDbid()) return false;
+      if (hasDbid()) {
+        if (getDbid()
+            != other.getDbid()) return false;
+      }
+      if (hasDistPoller() != other.hasDistPoller()) return false;
+      if (hasDistPoller()) {
+        if (!getDistPoller()
+            .equals(other.getDistPoller())) return false;
+      }
+      if (hasCreationTime() != other.hasCreationTime()) return false;
+      if (hasCreationTime()) {
+        if (getCreationTime()
+            != other.getCreationTime()) return false;
+      }
+      if (hasMasterStation() != other.hasMasterStation()) return false;
+      if (hasMasterStation()) {
+        if (!getMasterStation()
+            .equals(other.getMasterStation())) return false;
+      }
+      if (hasUei() != other.hasUei()) return false;
+      if (hasUei()) {
+        if (!getUei()
+            .equals(other.getUei())) return false;
+      }
+      if (hasSource() != other.hasSource()) return false;
+      if (hasSource()) {
+        if (!getSource()
+            .equals(other.getSource())) return false;
+      }
+      if (hasNodeid() != other.hasNodeid()) return false;
+      if (hasNodeid()) {
+        if (getNodeid()
+            != other.getNodeid()) return false;
+      }
+      if (hasTime() != other.hasTime()) return false;
+      if (hasTime()) {
+        if (getTime()
+            != other.getTime()) return false;
+      }
+      if (hasHost() != other.hasHost()) return false;
+      if (hasHost()) {
+        if (!getHost()
+            .equals(other.getHost())) return false;
+      }
+      if (hasInterfaceAddress() != other.hasInterfaceAddress()) return false;
+      if (hasInterfaceAddress()) {
+        if (!getInterfaceAddress()
+            .equals(other.getInterfaceAddress())) return false;
+      }
+      if (hasSnmphost() != other.hasSnmphost()) return false;
+      if (hasSnmphost()) {
+        if (!getSnmphost()
+            .equals(other.getSnmphost())) return false;
+      }
+      if (hasService() != other.hasService()) return false;
+      if (hasService()) {
+        if (!getService()
+            .equals(other.getService())) return false;
+      }
+      if (hasSnmp() != other.hasSnmp()) return false;
+      if (hasSnmp()) {
+        if (!getSnmp()
+            .equals(other.getSnmp())) return false;
+      }
+      if (!getParmsList()
+          .equals(other.getParmsList())) return false;
+      if (hasDescr() != other.hasDescr()) return false;
+      if (hasDescr()) {
+        if (!getDescr()
+            .equals(other.getDescr())) return false;
+      }
+      if (hasLogmsg() != other.hasLogmsg()) return false;
+      if (hasLogmsg()) {
+        if (!getLogmsg()
+            .equals(other.getLogmsg())) return false;
+      }
+      if (hasSeverity() != other.hasSeverity()) return false;
+      if (hasSeverity()) {
+        if (!getSeverity()
+            .equals(other.getSeverity())) return false;
+      }
+      if (hasPathoutage() != other.hasPathoutage()) return false;
+      if (hasPathoutage()) {
+        if (!getPathoutage()
+            .equals(other.getPathoutage())) return false;
+      }
+      if (hasOperinstruct() != other.hasOperinstruct()) return false;
+      if (hasOperinstruct()) {
+        if (!getOperinstruct()
+            .equals(other.getOperinstruct())) return false;
+      }
+      if (!getLoggroupList()
+          .equals(other.getLoggroupList())) return false;
+      if (hasIfIndex() != other.hasIfIndex()) return false;
+      if (hasIfIndex()) {
+        if (getIfIndex()
+            != other.getIfIndex()) return false;
+      }
+      if (hasIfAlias() != other.hasIfAlias()) return false;
+      if (hasIfAlias()) {
+        if (!getIfAlias()
+            .equals(other.getIfAlias())) return false;
+      }
+      if (hasMouseovertext() != other.hasMouseovertext()) return false;
+      if (hasMouseovertext()) {
+        if (!getMouseovertext()
+            .equals(other.getMouseovertext())) return false;
+      }
+      if (hasXml() != other.hasXml()) return false;
+      if (hasXml()) {
+        if (!getXml()
+            .equals(other.getXml())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasUuid()) {
+        hash = (37 * hash) + UUID_FIELD_NUMBER;
+        hash = (53 * hash) + getUuid().hashCode();
+      }
+      if (hasDbid()) {
+        hash = (37 * hash) + DBID_FIELD_NUMBER;
+        hash = (53 * hash) + getDbid();
+      }
+      if (hasDistPoller()) {
+        hash = (37 * hash) + DIST_POLLER_FIELD_NUMBER;
+        hash = (53 * hash) + getDistPoller().hashCode();
+      }
+      if (hasCreationTime()) {
+        hash = (37 * hash) + CREATION_TIME_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getCreationTime());
+      }
+      if (hasMasterStation()) {
+        hash = (37 * hash) + MASTER_STATION_FIELD_NUMBER;
+        hash = (53 * hash) + getMasterStation().hashCode();
+      }
+      if (hasUei()) {
+        hash = (37 * hash) + UEI_FIELD_NUMBER;
+        hash = (53 * hash) + getUei().hashCode();
+      }
+      if (hasSource()) {
+        hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+        hash = (53 * hash) + getSource().hashCode();
+      }
+      if (hasNodeid()) {
+        hash = (37 * hash) + NODEID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getNodeid());
+      }
+      if (hasTime()) {
+        hash = (37 * hash) + TIME_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTime());
+      }
+      if (hasHost()) {
+        hash = (37 * hash) + HOST_FIELD_NUMBER;
+        hash = (53 * hash) + getHost().hashCode();
+      }
+      if (hasInterfaceAddress()) {
+        hash = (37 * hash) + INTERFACE_ADDRESS_FIELD_NUMBER;
+        hash = (53 * hash) + getInterfaceAddress().hashCode();
+      }
+      if (hasSnmphost()) {
+        hash = (37 * hash) + SNMPHOST_FIELD_NUMBER;
+        hash = (53 * hash) + getSnmphost().hashCode();
+      }
+      if (hasService()) {
+        hash = (37 * hash) + SERVICE_FIELD_NUMBER;
+        hash = (53 * hash) + getService().hashCode();
+      }
+      if (hasSnmp()) {
+        hash = (37 * hash) + SNMP_FIELD_NUMBER;
+        hash = (53 * hash) + getSnmp().hashCode();
+      }
+      if (getParmsCount() > 0) {
+        hash = (37 * hash) + PARMS_FIELD_NUMBER;
+        hash = (53 * hash) + getParmsList().hashCode();
+      }
+      if (hasDescr()) {
+        hash = (37 * hash) + DESCR_FIELD_NUMBER;
+        hash = (53 * hash) + getDescr().hashCode();
+      }
+      if (hasLogmsg()) {
+        hash = (37 * hash) + LOGMSG_FIELD_NUMBER;
+        hash = (53 * hash) + getLogmsg().hashCode();
+      }
+      if (hasSeverity()) {
+        hash = (37 * hash) + SEVERITY_FIELD_NUMBER;
+        hash = (53 * hash) + getSeverity().hashCode();
+      }
+      if (hasPathoutage()) {
+        hash = (37 * hash) + PATHOUTAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getPathoutage().hashCode();
+      }
+      if (hasOperinstruct()) {
+        hash = (37 * hash) + OPERINSTRUCT_FIELD_NUMBER;
+        hash = (53 * hash) + getOperinstruct().hashCode();
+      }
+      if (getLoggroupCount() > 0) {
+        hash = (37 * hash) + LOGGROUP_FIELD_NUMBER;
+        hash = (53 * hash) + getLoggroupList().hashCode();
+      }
+      if (hasIfIndex()) {
+        hash = (37 * hash) + IF_INDEX_FIELD_NUMBER;
+        hash = (53 * hash) + getIfIndex();
+      }
+      if (hasIfAlias()) {
+        hash = (37 * hash) + IF_ALIAS_FIELD_NUMBER;
+        hash = (53 * hash) + getIfAlias().hashCode();
+      }
+      if (hasMouseovertext()) {
+        hash = (37 * hash) + MOUSEOVERTEXT_FIELD_NUMBER;
+        hash = (53 * hash) + getMouseovertext().hashCode();
+      }
+      if (hasXml()) {
+        hash = (37 * hash) + XML_FIELD_NUMBER;
+        hash = (53 * hash) + getXml().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.proto.EventLogProtos.Event prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Event}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Event)
+        org.opennms.features.events.sink.module.proto.EventLogProtos.EventOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Event_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Event_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.proto.EventLogProtos.Event.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Event.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.proto.EventLogProtos.Event.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getSnmpFieldBuilder();
+          getParmsFieldBuilder();
+          getLogmsgFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        uuid_ = "";
+        dbid_ = 0;
+        distPoller_ = "";
+        creationTime_ = 0L;
+        masterStation_ = "";
+        uei_ = "";
+        source_ = "";
+        nodeid_ = 0L;
+        time_ = 0L;
+        host_ = "";
+        interfaceAddress_ = com.google.protobuf.ByteString.EMPTY;
+        snmphost_ = "";
+        service_ = "";
+        snmp_ = null;
+        if (snmpBuilder_ != null) {
+          snmpBuilder_.dispose();
+          snmpBuilder_ = null;
+        }
+        if (parmsBuilder_ == null) {
+          parms_ = java.util.Collections.emptyList();
+        } else {
+          parms_ = null;
+          parmsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00004000);
+        descr_ = "";
+        logmsg_ = null;
+        if (logmsgBuilder_ != null) {
+          logmsgBuilder_.dispose();
+          logmsgBuilder_ = null;
+        }
+        severity_ = "";
+        pathoutage_ = "";
+        operinstruct_ = "";
+        loggroup_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        ifIndex_ = 0;
+        ifAlias_ = "";
+        mouseovertext_ = "";
+        xml_ = com.google.protobuf.ByteString.EMPTY;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Event_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Event getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.Event.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Event build() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Event result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Event buildPartial() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Event result = new org.opennms.features.events.sink.module.proto.EventLogProtos.Event(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.features.events.sink.module.proto.EventLogProtos.Event result) {
+        if (parmsBuilder_ == null) {
+          if (((bitField0_ & 0x00004000) != 0)) {
+            parms_ = java.util.Collections.unmodifiableList(parms_);
+            bitField0_ = (bitField0_ & ~0x00004000);
+          }
+          result.parms_ = parms_;
+        } else {
+          result.parms_ = parmsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.proto.EventLogProtos.Event result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.uuid_ = uuid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.dbid_ = dbid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.distPoller_ = distPoller_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.creationTime_ = creationTime_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.masterStation_ = masterStation_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.uei_ = uei_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.source_ = source_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.nodeid_ = nodeid_;
+          to_bitField0_ |= 0x00000080;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.time_ = time_;
+          to_bitField0_ |= 0x00000100;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.host_ = host_;
+          to_bitField0_ |= 0x00000200;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.interfaceAddress_ = interfaceAddress_;
+          to_bitField0_ |= 0x00000400;
+        }
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          result.snmphost_ = snmphost_;
+          to_bitField0_ |= 0x00000800;
+        }
+        if (((from_bitField0_ & 0x00001000) != 0)) {
+          result.service_ = service_;
+          to_bitField0_ |= 0x00001000;
+        }
+        if (((from_bitField0_ & 0x00002000) != 0)) {
+          result.snmp_ = snmpBuilder_ == null
+              ? snmp_
+              : snmpBuilder_.build();
+          to_bitField0_ |= 0x00002000;
+        }
+        if (((from_bitField0_ & 0x00008000) != 0)) {
+          result.descr_ = descr_;
+          to_bitField0_ |= 0x00004000;
+        }
+        if (((from_bitField0_ & 0x00010000) != 0)) {
+          result.logmsg_ = logmsgBuilder_ == null
+              ? logmsg_
+              : logmsgBuilder_.build();
+          to_bitField0_ |= 0x00008000;
+        }
+        if (((from_bitField0_ & 0x00020000) != 0)) {
+          result.severity_ = severity_;
+          to_bitField0_ |= 0x00010000;
+        }
+        if (((from_bitField0_ & 0x00040000) != 0)) {
+          result.pathoutage_ = pathoutage_;
+          to_bitField0_ |= 0x00020000;
+        }
+        if (((from_bitField0_ & 0x00080000) != 0)) {
+          result.operinstruct_ = operinstruct_;
+          to_bitField0_ |= 0x00040000;
+        }
+        if (((from_bitField0_ & 0x00100000) != 0)) {
+          loggroup_.makeImmutable();
+          result.loggroup_ = loggroup_;
+        }
+        if (((from_bitField0_ & 0x00200000) != 0)) {
+          result.ifIndex_ = ifIndex_;
+          to_bitField0_ |= 0x00080000;
+        }
+        if (((from_bitField0_ & 0x00400000) != 0)) {
+          result.ifAlias_ = ifAlias_;
+          to_bitField0_ |= 0x00100000;
+        }
+        if (((from_bitField0_ & 0x00800000) != 0)) {
+          result.mouseovertext_ = mouseovertext_;
+          to_bitField0_ |= 0x00200000;
+        }
+        if (((from_bitField0_ & 0x01000000) != 0)) {
+          result.xml_ = xml_;
+          to_bitField0_ |= 0x00400000;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Event) {
+          return mergeFrom((org.opennms.features.events.sink.module.proto.EventLogProtos.Event)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.proto.EventLogProtos.Event other) {
+        if (other == org.opennms.features.events.sink.module.proto.EventLogProtos.Event.getDefaultInstance()) return this;
+        if (other.hasUuid()) {
+          uuid_ = other.uuid_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasDbid()) {
+          setDbid(other.getDbid());
+        }
+        if (other.hasDistPoller()) {
+          distPoller_ = other.distPoller_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasCreationTime()) {
+          setCreationTime(other.getCreationTime());
+        }
+        if (other.hasMasterStation()) {
+          masterStation_ = other.masterStation_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (other.hasUei()) {
+          uei_ = other.uei_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (other.hasSource()) {
+          source_ = other.source_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        if (other.hasNodeid()) {
+          setNodeid(other.getNodeid());
+        }
+        if (other.hasTime()) {
+          setTime(other.getTime());
+        }
+        if (other.hasHost()) {
+          host_ = other.host_;
+          bitField0_ |= 0x00000200;
+          onChanged();
+        }
+        if (other.hasInterfaceAddress()) {
+          setInterfaceAddress(other.getInterfaceAddress());
+        }
+        if (other.hasSnmphost()) {
+          snmphost_ = other.snmphost_;
+          bitField0_ |= 0x00000800;
+          onChanged();
+        }
+        if (other.hasService()) {
+          service_ = other.service_;
+          bitField0_ |= 0x00001000;
+          onChanged();
+        }
+        if (other.hasSnmp()) {
+          mergeSnmp(other.getSnmp());
+        }
+        if (parmsBuilder_ == null) {
+          if (!other.parms_.isEmpty()) {
+            if (parms_.isEmpty()) {
+              parms_ = other.parms_;
+              bitField0_ = (bitField0_ & ~0x00004000);
+            } else {
+              ensureParmsIsMutable();
+              parms_.addAll(other.parms_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.parms_.isEmpty()) {
+            if (parmsBuilder_.isEmpty()) {
+              parmsBuilder_.dispose();
+              parmsBuilder_ = null;
+              parms_ = other.parms_;
+              bitField0_ = (bitField0_ & ~0x00004000);
+              parmsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getParmsFieldBuilder() : null;
+            } else {
+              parmsBuilder_.addAllMessages(other.parms_);
+            }
+          }
+        }
+        if (other.hasDescr()) {
+          descr_ = other.descr_;
+          bitField0_ |= 0x00008000;
+          onChanged();
+        }
+        if (other.hasLogmsg()) {
+          mergeLogmsg(other.getLogmsg());
+        }
+        if (other.hasSeverity()) {
+          severity_ = other.severity_;
+          bitField0_ |= 0x00020000;
+          onChanged();
+        }
+        if (other.hasPathoutage()) {
+          pathoutage_ = other.pathoutage_;
+          bitField0_ |= 0x00040000;
+          onChanged();
+        }
+        if (other.hasOperinstruct()) {
+          operinstruct_ = other.operinstruct_;
+          bitField0_ |= 0x00080000;
+          onChanged();
+        }
+        if (!other.loggroup_.isEmpty()) {
+          if (loggroup_.isEmpty()) {
+            loggroup_ = other.loggroup_;
+            bitField0_ |= 0x00100000;
+          } else {
+            ensureLoggroupIsMutable();
+            loggroup_.addAll(other.loggroup_);
+          }
+          onChanged();
+        }
+        if (other.hasIfIndex()) {
+          setIfIndex(other.getIfIndex());
+        }
+        if (other.hasIfAlias()) {
+          ifAlias_ = other.ifAlias_;
+          bitField0_ |= 0x00400000;
+          onChanged();
+        }
+        if (other.hasMouseovertext()) {
+          mouseovertext_ = other.mouseovertext_;
+          bitField0_ |= 0x00800000;
+          onChanged();
+        }
+        if (other.hasXml()) {
+          setXml(other.getXml());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                uuid_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                dbid_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                distPoller_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                creationTime_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                masterStation_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                uei_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                source_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 64: {
+                nodeid_ = input.readInt64();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              case 72: {
+                time_ = input.readInt64();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 72
+              case 82: {
+                host_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 82
+              case 90: {
+                interfaceAddress_ = input.readBytes();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 90
+              case 98: {
+                snmphost_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000800;
+                break;
+              } // case 98
+              case 106: {
+                service_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00001000;
+                break;
+              } // case 106
+              case 114: {
+                input.readMessage(
+                    getSnmpFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00002000;
+                break;
+              } // case 114
+              case 122: {
+                org.opennms.features.events.sink.module.proto.EventLogProtos.Parm m =
+                    input.readMessage(
+                        org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.parser(),
+                        extensionRegistry);
+                if (parmsBuilder_ == null) {
+                  ensureParmsIsMutable();
+                  parms_.add(m);
+                } else {
+                  parmsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 122
+              case 130: {
+                descr_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00008000;
+                break;
+              } // case 130
+              case 138: {
+                input.readMessage(
+                    getLogmsgFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00010000;
+                break;
+              } // case 138
+              case 146: {
+                severity_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00020000;
+                break;
+              } // case 146
+              case 154: {
+                pathoutage_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00040000;
+                break;
+              } // case 154
+              case 162: {
+                operinstruct_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00080000;
+                break;
+              } // case 162
+              case 170: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureLoggroupIsMutable();
+                loggroup_.add(s);
+                break;
+              } // case 170
+              case 176: {
+                ifIndex_ = input.readInt32();
+                bitField0_ |= 0x00200000;
+                break;
+              } // case 176
+              case 186: {
+                ifAlias_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00400000;
+                break;
+              } // case 186
+              case 194: {
+                mouseovertext_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00800000;
+                break;
+              } // case 194
+              case 202: {
+                xml_ = input.readBytes();
+                bitField0_ |= 0x01000000;
+                break;
+              } // case 202
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object uuid_ = "";
+      /**
+       * <code>optional string uuid = 1;</code>
+       * @return Whether the uuid field is set.
+       */
+      public boolean hasUuid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string uuid = 1;</code>
+       * @return The uuid.
+       */
+      public java.lang.String getUuid() {
+        java.lang.Object ref = uuid_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          uuid_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string uuid = 1;</code>
+       * @return The bytes for uuid.
+       */
+      public com.google.protobuf.ByteString
+          getUuidBytes() {
+        java.lang.Object ref = uuid_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          uuid_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string uuid = 1;</code>
+       * @param value The uuid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUuid(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        uuid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string uuid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUuid() {
+        uuid_ = getDefaultInstance().getUuid();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string uuid = 1;</code>
+       * @param value The bytes for uuid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUuidBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        uuid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private int dbid_ ;
+      /**
+       * <code>optional int32 dbid = 2;</code>
+       * @return Whether the dbid field is set.
+       */
+      @java.lang.Override
+      public boolean hasDbid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional int32 dbid = 2;</code>
+       * @return The dbid.
+       */
+      @java.lang.Override
+      public int getDbid() {
+        return dbid_;
+      }
+      /**
+       * <code>optional int32 dbid = 2;</code>
+       * @param value The dbid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDbid(int value) {
+
+        dbid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 dbid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDbid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        dbid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object distPoller_ = "";
+      /**
+       * <code>optional string dist_poller = 3;</code>
+       * @return Whether the distPoller field is set.
+       */
+      public boolean hasDistPoller() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string dist_poller = 3;</code>
+       * @return The distPoller.
+       */
+      public java.lang.String getDistPoller() {
+        java.lang.Object ref = distPoller_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          distPoller_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string dist_poller = 3;</code>
+       * @return The bytes for distPoller.
+       */
+      public com.google.protobuf.ByteString
+          getDistPollerBytes() {
+        java.lang.Object ref = distPoller_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          distPoller_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string dist_poller = 3;</code>
+       * @param value The distPoller to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDistPoller(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        distPoller_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dist_poller = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDistPoller() {
+        distPoller_ = getDefaultInstance().getDistPoller();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string dist_poller = 3;</code>
+       * @param value The bytes for distPoller to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDistPollerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        distPoller_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private long creationTime_ ;
+      /**
+       * <pre>
+       * milliseconds since epoch
+       * </pre>
+       *
+       * <code>optional int64 creation_time = 4;</code>
+       * @return Whether the creationTime field is set.
+       */
+      @java.lang.Override
+      public boolean hasCreationTime() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <pre>
+       * milliseconds since epoch
+       * </pre>
+       *
+       * <code>optional int64 creation_time = 4;</code>
+       * @return The creationTime.
+       */
+      @java.lang.Override
+      public long getCreationTime() {
+        return creationTime_;
+      }
+      /**
+       * <pre>
+       * milliseconds since epoch
+       * </pre>
+       *
+       * <code>optional int64 creation_time = 4;</code>
+       * @param value The creationTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreationTime(long value) {
+
+        creationTime_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * milliseconds since epoch
+       * </pre>
+       *
+       * <code>optional int64 creation_time = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreationTime() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        creationTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object masterStation_ = "";
+      /**
+       * <code>optional string master_station = 5;</code>
+       * @return Whether the masterStation field is set.
+       */
+      public boolean hasMasterStation() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional string master_station = 5;</code>
+       * @return The masterStation.
+       */
+      public java.lang.String getMasterStation() {
+        java.lang.Object ref = masterStation_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          masterStation_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string master_station = 5;</code>
+       * @return The bytes for masterStation.
+       */
+      public com.google.protobuf.ByteString
+          getMasterStationBytes() {
+        java.lang.Object ref = masterStation_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          masterStation_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string master_station = 5;</code>
+       * @param value The masterStation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMasterStation(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        masterStation_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string master_station = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMasterStation() {
+        masterStation_ = getDefaultInstance().getMasterStation();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string master_station = 5;</code>
+       * @param value The bytes for masterStation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMasterStationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        masterStation_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object uei_ = "";
+      /**
+       * <code>optional string uei = 6;</code>
+       * @return Whether the uei field is set.
+       */
+      public boolean hasUei() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional string uei = 6;</code>
+       * @return The uei.
+       */
+      public java.lang.String getUei() {
+        java.lang.Object ref = uei_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          uei_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string uei = 6;</code>
+       * @return The bytes for uei.
+       */
+      public com.google.protobuf.ByteString
+          getUeiBytes() {
+        java.lang.Object ref = uei_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          uei_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string uei = 6;</code>
+       * @param value The uei to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUei(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        uei_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string uei = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUei() {
+        uei_ = getDefaultInstance().getUei();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string uei = 6;</code>
+       * @param value The bytes for uei to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUeiBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        uei_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object source_ = "";
+      /**
+       * <code>optional string source = 7;</code>
+       * @return Whether the source field is set.
+       */
+      public boolean hasSource() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional string source = 7;</code>
+       * @return The source.
+       */
+      public java.lang.String getSource() {
+        java.lang.Object ref = source_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          source_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string source = 7;</code>
+       * @return The bytes for source.
+       */
+      public com.google.protobuf.ByteString
+          getSourceBytes() {
+        java.lang.Object ref = source_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          source_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string source = 7;</code>
+       * @param value The source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSource(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        source_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string source = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSource() {
+        source_ = getDefaultInstance().getSource();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string source = 7;</code>
+       * @param value The bytes for source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        source_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private long nodeid_ ;
+      /**
+       * <code>optional int64 nodeid = 8;</code>
+       * @return Whether the nodeid field is set.
+       */
+      @java.lang.Override
+      public boolean hasNodeid() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional int64 nodeid = 8;</code>
+       * @return The nodeid.
+       */
+      @java.lang.Override
+      public long getNodeid() {
+        return nodeid_;
+      }
+      /**
+       * <code>optional int64 nodeid = 8;</code>
+       * @param value The nodeid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNodeid(long value) {
+
+        nodeid_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 nodeid = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNodeid() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        nodeid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long time_ ;
+      /**
+       * <pre>
+       * milliseconds since epoch
+       * </pre>
+       *
+       * <code>optional int64 time = 9;</code>
+       * @return Whether the time field is set.
+       */
+      @java.lang.Override
+      public boolean hasTime() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <pre>
+       * milliseconds since epoch
+       * </pre>
+       *
+       * <code>optional int64 time = 9;</code>
+       * @return The time.
+       */
+      @java.lang.Override
+      public long getTime() {
+        return time_;
+      }
+      /**
+       * <pre>
+       * milliseconds since epoch
+       * </pre>
+       *
+       * <code>optional int64 time = 9;</code>
+       * @param value The time to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTime(long value) {
+
+        time_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * milliseconds since epoch
+       * </pre>
+       *
+       * <code>optional int64 time = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTime() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        time_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object host_ = "";
+      /**
+       * <code>optional string host = 10;</code>
+       * @return Whether the host field is set.
+       */
+      public boolean hasHost() {
+        return ((bitField0_ & 0x00000200) != 0);
+      }
+      /**
+       * <code>optional string host = 10;</code>
+       * @return The host.
+       */
+      public java.lang.String getHost() {
+        java.lang.Object ref = host_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          host_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string host = 10;</code>
+       * @return The bytes for host.
+       */
+      public com.google.protobuf.ByteString
+          getHostBytes() {
+        java.lang.Object ref = host_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          host_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string host = 10;</code>
+       * @param value The host to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHost(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        host_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string host = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHost() {
+        host_ = getDefaultInstance().getHost();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string host = 10;</code>
+       * @param value The bytes for host to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHostBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        host_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString interfaceAddress_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes interface_address = 11;</code>
+       * @return Whether the interfaceAddress field is set.
+       */
+      @java.lang.Override
+      public boolean hasInterfaceAddress() {
+        return ((bitField0_ & 0x00000400) != 0);
+      }
+      /**
+       * <code>optional bytes interface_address = 11;</code>
+       * @return The interfaceAddress.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getInterfaceAddress() {
+        return interfaceAddress_;
+      }
+      /**
+       * <code>optional bytes interface_address = 11;</code>
+       * @param value The interfaceAddress to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterfaceAddress(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        interfaceAddress_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes interface_address = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInterfaceAddress() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        interfaceAddress_ = getDefaultInstance().getInterfaceAddress();
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object snmphost_ = "";
+      /**
+       * <code>optional string snmphost = 12;</code>
+       * @return Whether the snmphost field is set.
+       */
+      public boolean hasSnmphost() {
+        return ((bitField0_ & 0x00000800) != 0);
+      }
+      /**
+       * <code>optional string snmphost = 12;</code>
+       * @return The snmphost.
+       */
+      public java.lang.String getSnmphost() {
+        java.lang.Object ref = snmphost_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          snmphost_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string snmphost = 12;</code>
+       * @return The bytes for snmphost.
+       */
+      public com.google.protobuf.ByteString
+          getSnmphostBytes() {
+        java.lang.Object ref = snmphost_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          snmphost_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string snmphost = 12;</code>
+       * @param value The snmphost to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnmphost(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        snmphost_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string snmphost = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnmphost() {
+        snmphost_ = getDefaultInstance().getSnmphost();
+        bitField0_ = (bitField0_ & ~0x00000800);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string snmphost = 12;</code>
+       * @param value The bytes for snmphost to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnmphostBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        snmphost_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object service_ = "";
+      /**
+       * <code>optional string service = 13;</code>
+       * @return Whether the service field is set.
+       */
+      public boolean hasService() {
+        return ((bitField0_ & 0x00001000) != 0);
+      }
+      /**
+       * <code>optional string service = 13;</code>
+       * @return The service.
+       */
+      public java.lang.String getService() {
+        java.lang.Object ref = service_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          service_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string service = 13;</code>
+       * @return The bytes for service.
+       */
+      public com.google.protobuf.ByteString
+          getServiceBytes() {
+        java.lang.Object ref = service_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          service_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string service = 13;</code>
+       * @param value The service to set.
+       * @return This builder for chaining.
+       */
+      public Builder setService(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        service_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string service = 13;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearService() {
+        service_ = getDefaultInstance().getService();
+        bitField0_ = (bitField0_ & ~0x00001000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string service = 13;</code>
+       * @param value The bytes for service to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServiceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        service_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp snmp_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp, org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.SnmpOrBuilder> snmpBuilder_;
+      /**
+       * <code>optional .Snmp snmp = 14;</code>
+       * @return Whether the snmp field is set.
+       */
+      public boolean hasSnmp() {
+        return ((bitField0_ & 0x00002000) != 0);
+      }
+      /**
+       * <code>optional .Snmp snmp = 14;</code>
+       * @return The snmp.
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp getSnmp() {
+        if (snmpBuilder_ == null) {
+          return snmp_ == null ? org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.getDefaultInstance() : snmp_;
+        } else {
+          return snmpBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Snmp snmp = 14;</code>
+       */
+      public Builder setSnmp(org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp value) {
+        if (snmpBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          snmp_ = value;
+        } else {
+          snmpBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Snmp snmp = 14;</code>
+       */
+      public Builder setSnmp(
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.Builder builderForValue) {
+        if (snmpBuilder_ == null) {
+          snmp_ = builderForValue.build();
+        } else {
+          snmpBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Snmp snmp = 14;</code>
+       */
+      public Builder mergeSnmp(org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp value) {
+        if (snmpBuilder_ == null) {
+          if (((bitField0_ & 0x00002000) != 0) &&
+            snmp_ != null &&
+            snmp_ != org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.getDefaultInstance()) {
+            getSnmpBuilder().mergeFrom(value);
+          } else {
+            snmp_ = value;
+          }
+        } else {
+          snmpBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Snmp snmp = 14;</code>
+       */
+      public Builder clearSnmp() {
+        bitField0_ = (bitField0_ & ~0x00002000);
+        snmp_ = null;
+        if (snmpBuilder_ != null) {
+          snmpBuilder_.dispose();
+          snmpBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Snmp snmp = 14;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.Builder getSnmpBuilder() {
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return getSnmpFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Snmp snmp = 14;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.SnmpOrBuilder getSnmpOrBuilder() {
+        if (snmpBuilder_ != null) {
+          return snmpBuilder_.getMessageOrBuilder();
+        } else {
+          return snmp_ == null ?
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.getDefaultInstance() : snmp_;
+        }
+      }
+      /**
+       * <code>optional .Snmp snmp = 14;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp, org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.SnmpOrBuilder> 
+          getSnmpFieldBuilder() {
+        if (snmpBuilder_ == null) {
+          snmpBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp, org.opennms.features.events.sink.module.proto.EventLogProtos.Snmp.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.SnmpOrBuilder>(
+                  getSnmp(),
+                  getParentForChildren(),
+                  isClean());
+          snmp_ = null;
+        }
+        return snmpBuilder_;
+      }
+
+      private java.util.List<org.opennms.features.events.sink.module.proto.EventLogProtos.Parm> parms_ =
+        java.util.Collections.emptyList();
+      private void ensureParmsIsMutable() {
+        if (!((bitField0_ & 0x00004000) != 0)) {
+          parms_ = new java.util.ArrayList<org.opennms.features.events.sink.module.proto.EventLogProtos.Parm>(parms_);
+          bitField0_ |= 0x00004000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Parm, org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.ParmOrBuilder> parmsBuilder_;
+
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.proto.EventLogProtos.Parm> getParmsList() {
+        if (parmsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(parms_);
+        } else {
+          return parmsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public int getParmsCount() {
+        if (parmsBuilder_ == null) {
+          return parms_.size();
+        } else {
+          return parmsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Parm getParms(int index) {
+        if (parmsBuilder_ == null) {
+          return parms_.get(index);
+        } else {
+          return parmsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder setParms(
+          int index, org.opennms.features.events.sink.module.proto.EventLogProtos.Parm value) {
+        if (parmsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParmsIsMutable();
+          parms_.set(index, value);
+          onChanged();
+        } else {
+          parmsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder setParms(
+          int index, org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.Builder builderForValue) {
+        if (parmsBuilder_ == null) {
+          ensureParmsIsMutable();
+          parms_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          parmsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder addParms(org.opennms.features.events.sink.module.proto.EventLogProtos.Parm value) {
+        if (parmsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParmsIsMutable();
+          parms_.add(value);
+          onChanged();
+        } else {
+          parmsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder addParms(
+          int index, org.opennms.features.events.sink.module.proto.EventLogProtos.Parm value) {
+        if (parmsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureParmsIsMutable();
+          parms_.add(index, value);
+          onChanged();
+        } else {
+          parmsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder addParms(
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.Builder builderForValue) {
+        if (parmsBuilder_ == null) {
+          ensureParmsIsMutable();
+          parms_.add(builderForValue.build());
+          onChanged();
+        } else {
+          parmsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder addParms(
+          int index, org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.Builder builderForValue) {
+        if (parmsBuilder_ == null) {
+          ensureParmsIsMutable();
+          parms_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          parmsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder addAllParms(
+          java.lang.Iterable<? extends org.opennms.features.events.sink.module.proto.EventLogProtos.Parm> values) {
+        if (parmsBuilder_ == null) {
+          ensureParmsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, parms_);
+          onChanged();
+        } else {
+          parmsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder clearParms() {
+        if (parmsBuilder_ == null) {
+          parms_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00004000);
+          onChanged();
+        } else {
+          parmsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public Builder removeParms(int index) {
+        if (parmsBuilder_ == null) {
+          ensureParmsIsMutable();
+          parms_.remove(index);
+          onChanged();
+        } else {
+          parmsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.Builder getParmsBuilder(
+          int index) {
+        return getParmsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.ParmOrBuilder getParmsOrBuilder(
+          int index) {
+        if (parmsBuilder_ == null) {
+          return parms_.get(index);  } else {
+          return parmsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public java.util.List<? extends org.opennms.features.events.sink.module.proto.EventLogProtos.ParmOrBuilder> 
+           getParmsOrBuilderList() {
+        if (parmsBuilder_ != null) {
+          return parmsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(parms_);
+        }
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.Builder addParmsBuilder() {
+        return getParmsFieldBuilder().addBuilder(
+            org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.Builder addParmsBuilder(
+          int index) {
+        return getParmsFieldBuilder().addBuilder(
+            index, org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Parm parms = 15;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.Builder> 
+           getParmsBuilderList() {
+        return getParmsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Parm, org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.ParmOrBuilder> 
+          getParmsFieldBuilder() {
+        if (parmsBuilder_ == null) {
+          parmsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Parm, org.opennms.features.events.sink.module.proto.EventLogProtos.Parm.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.ParmOrBuilder>(
+                  parms_,
+                  ((bitField0_ & 0x00004000) != 0),
+                  getParentForChildren(),
+                  isClean());
+          parms_ = null;
+        }
+        return parmsBuilder_;
+      }
+
+      private java.lang.Object descr_ = "";
+      /**
+       * <code>optional string descr = 16;</code>
+       * @return Whether the descr field is set.
+       */
+      public boolean hasDescr() {
+        return ((bitField0_ & 0x00008000) != 0);
+      }
+      /**
+       * <code>optional string descr = 16;</code>
+       * @return The descr.
+       */
+      public java.lang.String getDescr() {
+        java.lang.Object ref = descr_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          descr_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string descr = 16;</code>
+       * @return The bytes for descr.
+       */
+      public com.google.protobuf.ByteString
+          getDescrBytes() {
+        java.lang.Object ref = descr_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          descr_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string descr = 16;</code>
+       * @param value The descr to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescr(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        descr_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string descr = 16;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDescr() {
+        descr_ = getDefaultInstance().getDescr();
+        bitField0_ = (bitField0_ & ~0x00008000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string descr = 16;</code>
+       * @param value The bytes for descr to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDescrBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        descr_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg logmsg_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg, org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.LogmsgOrBuilder> logmsgBuilder_;
+      /**
+       * <code>optional .Logmsg logmsg = 17;</code>
+       * @return Whether the logmsg field is set.
+       */
+      public boolean hasLogmsg() {
+        return ((bitField0_ & 0x00010000) != 0);
+      }
+      /**
+       * <code>optional .Logmsg logmsg = 17;</code>
+       * @return The logmsg.
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg getLogmsg() {
+        if (logmsgBuilder_ == null) {
+          return logmsg_ == null ? org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.getDefaultInstance() : logmsg_;
+        } else {
+          return logmsgBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Logmsg logmsg = 17;</code>
+       */
+      public Builder setLogmsg(org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg value) {
+        if (logmsgBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          logmsg_ = value;
+        } else {
+          logmsgBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Logmsg logmsg = 17;</code>
+       */
+      public Builder setLogmsg(
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.Builder builderForValue) {
+        if (logmsgBuilder_ == null) {
+          logmsg_ = builderForValue.build();
+        } else {
+          logmsgBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Logmsg logmsg = 17;</code>
+       */
+      public Builder mergeLogmsg(org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg value) {
+        if (logmsgBuilder_ == null) {
+          if (((bitField0_ & 0x00010000) != 0) &&
+            logmsg_ != null &&
+            logmsg_ != org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.getDefaultInstance()) {
+            getLogmsgBuilder().mergeFrom(value);
+          } else {
+            logmsg_ = value;
+          }
+        } else {
+          logmsgBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Logmsg logmsg = 17;</code>
+       */
+      public Builder clearLogmsg() {
+        bitField0_ = (bitField0_ & ~0x00010000);
+        logmsg_ = null;
+        if (logmsgBuilder_ != null) {
+          logmsgBuilder_.dispose();
+          logmsgBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Logmsg logmsg = 17;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.Builder getLogmsgBuilder() {
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return getLogmsgFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Logmsg logmsg = 17;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.LogmsgOrBuilder getLogmsgOrBuilder() {
+        if (logmsgBuilder_ != null) {
+          return logmsgBuilder_.getMessageOrBuilder();
+        } else {
+          return logmsg_ == null ?
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.getDefaultInstance() : logmsg_;
+        }
+      }
+      /**
+       * <code>optional .Logmsg logmsg = 17;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg, org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.LogmsgOrBuilder> 
+          getLogmsgFieldBuilder() {
+        if (logmsgBuilder_ == null) {
+          logmsgBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg, org.opennms.features.events.sink.module.proto.EventLogProtos.Logmsg.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.LogmsgOrBuilder>(
+                  getLogmsg(),
+                  getParentForChildren(),
+                  isClean());
+          logmsg_ = null;
+        }
+        return logmsgBuilder_;
+      }
+
+      private java.lang.Object severity_ = "";
+      /**
+       * <code>optional string severity = 18;</code>
+       * @return Whether the severity field is set.
+       */
+      public boolean hasSeverity() {
+        return ((bitField0_ & 0x00020000) != 0);
+      }
+      /**
+       * <code>optional string severity = 18;</code>
+       * @return The severity.
+       */
+      public java.lang.String getSeverity() {
+        java.lang.Object ref = severity_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          severity_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string severity = 18;</code>
+       * @return The bytes for severity.
+       */
+      public com.google.protobuf.ByteString
+          getSeverityBytes() {
+        java.lang.Object ref = severity_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          severity_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string severity = 18;</code>
+       * @param value The severity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSeverity(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        severity_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string severity = 18;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSeverity() {
+        severity_ = getDefaultInstance().getSeverity();
+        bitField0_ = (bitField0_ & ~0x00020000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string severity = 18;</code>
+       * @param value The bytes for severity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSeverityBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        severity_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object pathoutage_ = "";
+      /**
+       * <code>optional string pathoutage = 19;</code>
+       * @return Whether the pathoutage field is set.
+       */
+      public boolean hasPathoutage() {
+        return ((bitField0_ & 0x00040000) != 0);
+      }
+      /**
+       * <code>optional string pathoutage = 19;</code>
+       * @return The pathoutage.
+       */
+      public java.lang.String getPathoutage() {
+        java.lang.Object ref = pathoutage_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          pathoutage_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string pathoutage = 19;</code>
+       * @return The bytes for pathoutage.
+       */
+      public com.google.protobuf.ByteString
+          getPathoutageBytes() {
+        java.lang.Object ref = pathoutage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          pathoutage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string pathoutage = 19;</code>
+       * @param value The pathoutage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPathoutage(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        pathoutage_ = value;
+        bitField0_ |= 0x00040000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pathoutage = 19;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPathoutage() {
+        pathoutage_ = getDefaultInstance().getPathoutage();
+        bitField0_ = (bitField0_ & ~0x00040000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pathoutage = 19;</code>
+       * @param value The bytes for pathoutage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPathoutageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        pathoutage_ = value;
+        bitField0_ |= 0x00040000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object operinstruct_ = "";
+      /**
+       * <code>optional string operinstruct = 20;</code>
+       * @return Whether the operinstruct field is set.
+       */
+      public boolean hasOperinstruct() {
+        return ((bitField0_ & 0x00080000) != 0);
+      }
+      /**
+       * <code>optional string operinstruct = 20;</code>
+       * @return The operinstruct.
+       */
+      public java.lang.String getOperinstruct() {
+        java.lang.Object ref = operinstruct_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          operinstruct_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string operinstruct = 20;</code>
+       * @return The bytes for operinstruct.
+       */
+      public com.google.protobuf.ByteString
+          getOperinstructBytes() {
+        java.lang.Object ref = operinstruct_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          operinstruct_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string operinstruct = 20;</code>
+       * @param value The operinstruct to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOperinstruct(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        operinstruct_ = value;
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string operinstruct = 20;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOperinstruct() {
+        operinstruct_ = getDefaultInstance().getOperinstruct();
+        bitField0_ = (bitField0_ & ~0x00080000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string operinstruct = 20;</code>
+       * @param value The bytes for operinstruct to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOperinstructBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        operinstruct_ = value;
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList loggroup_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureLoggroupIsMutable() {
+        if (!loggroup_.isModifiable()) {
+          loggroup_ = new com.google.protobuf.LazyStringArrayList(loggroup_);
+        }
+        bitField0_ |= 0x00100000;
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @return A list containing the loggroup.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getLoggroupList() {
+        loggroup_.makeImmutable();
+        return loggroup_;
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @return The count of loggroup.
+       */
+      public int getLoggroupCount() {
+        return loggroup_.size();
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @param index The index of the element to return.
+       * @return The loggroup at the given index.
+       */
+      public java.lang.String getLoggroup(int index) {
+        return loggroup_.get(index);
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the loggroup at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getLoggroupBytes(int index) {
+        return loggroup_.getByteString(index);
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @param index The index to set the value at.
+       * @param value The loggroup to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLoggroup(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureLoggroupIsMutable();
+        loggroup_.set(index, value);
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @param value The loggroup to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLoggroup(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureLoggroupIsMutable();
+        loggroup_.add(value);
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @param values The loggroup to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLoggroup(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureLoggroupIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, loggroup_);
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLoggroup() {
+        loggroup_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00100000);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string loggroup = 21;</code>
+       * @param value The bytes of the loggroup to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLoggroupBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureLoggroupIsMutable();
+        loggroup_.add(value);
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+
+      private int ifIndex_ ;
+      /**
+       * <code>optional int32 if_index = 22;</code>
+       * @return Whether the ifIndex field is set.
+       */
+      @java.lang.Override
+      public boolean hasIfIndex() {
+        return ((bitField0_ & 0x00200000) != 0);
+      }
+      /**
+       * <code>optional int32 if_index = 22;</code>
+       * @return The ifIndex.
+       */
+      @java.lang.Override
+      public int getIfIndex() {
+        return ifIndex_;
+      }
+      /**
+       * <code>optional int32 if_index = 22;</code>
+       * @param value The ifIndex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIfIndex(int value) {
+
+        ifIndex_ = value;
+        bitField0_ |= 0x00200000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 if_index = 22;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIfIndex() {
+        bitField0_ = (bitField0_ & ~0x00200000);
+        ifIndex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object ifAlias_ = "";
+      /**
+       * <code>optional string if_alias = 23;</code>
+       * @return Whether the ifAlias field is set.
+       */
+      public boolean hasIfAlias() {
+        return ((bitField0_ & 0x00400000) != 0);
+      }
+      /**
+       * <code>optional string if_alias = 23;</code>
+       * @return The ifAlias.
+       */
+      public java.lang.String getIfAlias() {
+        java.lang.Object ref = ifAlias_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          ifAlias_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string if_alias = 23;</code>
+       * @return The bytes for ifAlias.
+       */
+      public com.google.protobuf.ByteString
+          getIfAliasBytes() {
+        java.lang.Object ref = ifAlias_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          ifAlias_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string if_alias = 23;</code>
+       * @param value The ifAlias to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIfAlias(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ifAlias_ = value;
+        bitField0_ |= 0x00400000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string if_alias = 23;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIfAlias() {
+        ifAlias_ = getDefaultInstance().getIfAlias();
+        bitField0_ = (bitField0_ & ~0x00400000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string if_alias = 23;</code>
+       * @param value The bytes for ifAlias to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIfAliasBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ifAlias_ = value;
+        bitField0_ |= 0x00400000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object mouseovertext_ = "";
+      /**
+       * <code>optional string mouseovertext = 24;</code>
+       * @return Whether the mouseovertext field is set.
+       */
+      public boolean hasMouseovertext() {
+        return ((bitField0_ & 0x00800000) != 0);
+      }
+      /**
+       * <code>optional string mouseovertext = 24;</code>
+       * @return The mouseovertext.
+       */
+      public java.lang.String getMouseovertext() {
+        java.lang.Object ref = mouseovertext_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          mouseovertext_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string mouseovertext = 24;</code>
+       * @return The bytes for mouseovertext.
+       */
+      public com.google.protobuf.ByteString
+          getMouseovertextBytes() {
+        java.lang.Object ref = mouseovertext_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          mouseovertext_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string mouseovertext = 24;</code>
+       * @param value The mouseovertext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMouseovertext(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        mouseovertext_ = value;
+        bitField0_ |= 0x00800000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string mouseovertext = 24;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMouseovertext() {
+        mouseovertext_ = getDefaultInstance().getMouseovertext();
+        bitField0_ = (bitField0_ & ~0x00800000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string mouseovertext = 24;</code>
+       * @param value The bytes for mouseovertext to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMouseovertextBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        mouseovertext_ = value;
+        bitField0_ |= 0x00800000;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString xml_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes xml = 25;</code>
+       * @return Whether the xml field is set.
+       */
+      @java.lang.Override
+      public boolean hasXml() {
+        return ((bitField0_ & 0x01000000) != 0);
+      }
+      /**
+       * <code>optional bytes xml = 25;</code>
+       * @return The xml.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getXml() {
+        return xml_;
+      }
+      /**
+       * <code>optional bytes xml = 25;</code>
+       * @param value The xml to set.
+       * @return This builder for chaining.
+       */
+      public Builder setXml(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        xml_ = value;
+        bitField0_ |= 0x01000000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes xml = 25;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearXml() {
+        bitField0_ = (bitField0_ & ~0x01000000);
+        xml_ = getDefaultInstance().getXml();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Event)
+    }
+
+    // @@protoc_insertion_point(class_scope:Event)
+    private static final org.opennms.features.events.sink.module.proto.EventLogProtos.Event DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.proto.EventLogProtos.Event();
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Event getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Event>
+        PARSER = new com.google.protobuf.AbstractParser<Event>() {
+      @java.lang.Override
+      public Event parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Event> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Event> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Event getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LogOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Log)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .Header header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>optional .Header header = 1;</code>
+     * @return The header.
+     */
+    org.opennms.features.events.sink.module.proto.EventLogProtos.Header getHeader();
+    /**
+     * <code>optional .Header header = 1;</code>
+     */
+    org.opennms.features.events.sink.module.proto.EventLogProtos.HeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>bool has_events = 2;</code>
+     * @return The hasEvents.
+     */
+    boolean getHasEvents();
+
+    /**
+     * <code>repeated .Event events = 3;</code>
+     */
+    java.util.List<org.opennms.features.events.sink.module.proto.EventLogProtos.Event> 
+        getEventsList();
+    /**
+     * <code>repeated .Event events = 3;</code>
+     */
+    org.opennms.features.events.sink.module.proto.EventLogProtos.Event getEvents(int index);
+    /**
+     * <code>repeated .Event events = 3;</code>
+     */
+    int getEventsCount();
+    /**
+     * <code>repeated .Event events = 3;</code>
+     */
+    java.util.List<? extends org.opennms.features.events.sink.module.proto.EventLogProtos.EventOrBuilder> 
+        getEventsOrBuilderList();
+    /**
+     * <code>repeated .Event events = 3;</code>
+     */
+    org.opennms.features.events.sink.module.proto.EventLogProtos.EventOrBuilder getEventsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code Log}
+   */
+  public static final class Log extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Log)
+      LogOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Log.newBuilder() to construct.
+    private Log(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Log() {
+      events_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Log();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Log_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Log_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Log.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Log.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.opennms.features.events.sink.module.proto.EventLogProtos.Header header_;
+    /**
+     * <code>optional .Header header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional .Header header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Header getHeader() {
+      return header_ == null ? org.opennms.features.events.sink.module.proto.EventLogProtos.Header.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>optional .Header header = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.HeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.opennms.features.events.sink.module.proto.EventLogProtos.Header.getDefaultInstance() : header_;
+    }
+
+    public static final int HAS_EVENTS_FIELD_NUMBER = 2;
+    private boolean hasEvents_ = false;
+    /**
+     * <code>bool has_events = 2;</code>
+     * @return The hasEvents.
+     */
+    @java.lang.Override
+    public boolean getHasEvents() {
+      return hasEvents_;
+    }
+
+    public static final int EVENTS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.features.events.sink.module.proto.EventLogProtos.Event> events_;
+    /**
+     * <code>repeated .Event events = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.features.events.sink.module.proto.EventLogProtos.Event> getEventsList() {
+      return events_;
+    }
+    /**
+     * <code>repeated .Event events = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.features.events.sink.module.proto.EventLogProtos.EventOrBuilder> 
+        getEventsOrBuilderList() {
+      return events_;
+    }
+    /**
+     * <code>repeated .Event events = 3;</code>
+     */
+    @java.lang.Override
+    public int getEventsCount() {
+      return events_.size();
+    }
+    /**
+     * <code>repeated .Event events = 3;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Event getEvents(int index) {
+      return events_.get(index);
+    }
+    /**
+     * <code>repeated .Event events = 3;</code>
+     */
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.EventOrBuilder getEventsOrBuilder(
+        int index) {
+      return events_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getHeader());
+      }
+      if (hasEvents_ != false) {
+        output.writeBool(2, hasEvents_);
+      }
+      for (int i = 0; i < events_.size(); i++) {
+        output.writeMessage(3, events_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (hasEvents_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, hasEvents_);
+      }
+      for (int i = 0; i < events_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, events_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Log)) {
+        return super.equals(obj);
+      }
+      org.opennms.features.events.sink.module.proto.EventLogProtos.Log other = (org.opennms.features.events.sink.module.proto.EventLogProtos.Log) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (getHasEvents()
+          != other.getHasEvents()) return false;
+      if (!getEventsList()
+          .equals(other.getEventsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + HAS_EVENTS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getHasEvents());
+      if (getEventsCount() > 0) {
+        hash = (37 * hash) + EVENTS_FIELD_NUMBER;
+        hash = (53 * hash) + getEventsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.features.events.sink.module.proto.EventLogProtos.Log prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Log}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Log)
+        org.opennms.features.events.sink.module.proto.EventLogProtos.LogOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Log_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Log_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.features.events.sink.module.proto.EventLogProtos.Log.class, org.opennms.features.events.sink.module.proto.EventLogProtos.Log.Builder.class);
+      }
+
+      // Construct using org.opennms.features.events.sink.module.proto.EventLogProtos.Log.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getHeaderFieldBuilder();
+          getEventsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        hasEvents_ = false;
+        if (eventsBuilder_ == null) {
+          events_ = java.util.Collections.emptyList();
+        } else {
+          events_ = null;
+          eventsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.internal_static_Log_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Log getDefaultInstanceForType() {
+        return org.opennms.features.events.sink.module.proto.EventLogProtos.Log.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Log build() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Log result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Log buildPartial() {
+        org.opennms.features.events.sink.module.proto.EventLogProtos.Log result = new org.opennms.features.events.sink.module.proto.EventLogProtos.Log(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.features.events.sink.module.proto.EventLogProtos.Log result) {
+        if (eventsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            events_ = java.util.Collections.unmodifiableList(events_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.events_ = events_;
+        } else {
+          result.events_ = eventsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.features.events.sink.module.proto.EventLogProtos.Log result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.hasEvents_ = hasEvents_;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.features.events.sink.module.proto.EventLogProtos.Log) {
+          return mergeFrom((org.opennms.features.events.sink.module.proto.EventLogProtos.Log)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.features.events.sink.module.proto.EventLogProtos.Log other) {
+        if (other == org.opennms.features.events.sink.module.proto.EventLogProtos.Log.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (other.getHasEvents() != false) {
+          setHasEvents(other.getHasEvents());
+        }
+        if (eventsBuilder_ == null) {
+          if (!other.events_.isEmpty()) {
+            if (events_.isEmpty()) {
+              events_ = other.events_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureEventsIsMutable();
+              events_.addAll(other.events_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.events_.isEmpty()) {
+            if (eventsBuilder_.isEmpty()) {
+              eventsBuilder_.dispose();
+              eventsBuilder_ = null;
+              events_ = other.events_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              eventsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEventsFieldBuilder() : null;
+            } else {
+              eventsBuilder_.addAllMessages(other.events_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                hasEvents_ = input.readBool();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                org.opennms.features.events.sink.module.proto.EventLogProtos.Event m =
+                    input.readMessage(
+                        org.opennms.features.events.sink.module.proto.EventLogProtos.Event.parser(),
+                        extensionRegistry);
+                if (eventsBuilder_ == null) {
+                  ensureEventsIsMutable();
+                  events_.add(m);
+                } else {
+                  eventsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.opennms.features.events.sink.module.proto.EventLogProtos.Header header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Header, org.opennms.features.events.sink.module.proto.EventLogProtos.Header.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.HeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>optional .Header header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional .Header header = 1;</code>
+       * @return The header.
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Header getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.opennms.features.events.sink.module.proto.EventLogProtos.Header.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Header header = 1;</code>
+       */
+      public Builder setHeader(org.opennms.features.events.sink.module.proto.EventLogProtos.Header value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Header header = 1;</code>
+       */
+      public Builder setHeader(
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Header.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Header header = 1;</code>
+       */
+      public Builder mergeHeader(org.opennms.features.events.sink.module.proto.EventLogProtos.Header value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.opennms.features.events.sink.module.proto.EventLogProtos.Header.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Header header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Header header = 1;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Header.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Header header = 1;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.HeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Header.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>optional .Header header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Header, org.opennms.features.events.sink.module.proto.EventLogProtos.Header.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.HeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Header, org.opennms.features.events.sink.module.proto.EventLogProtos.Header.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.HeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private boolean hasEvents_ ;
+      /**
+       * <code>bool has_events = 2;</code>
+       * @return The hasEvents.
+       */
+      @java.lang.Override
+      public boolean getHasEvents() {
+        return hasEvents_;
+      }
+      /**
+       * <code>bool has_events = 2;</code>
+       * @param value The hasEvents to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHasEvents(boolean value) {
+
+        hasEvents_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool has_events = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHasEvents() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        hasEvents_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.opennms.features.events.sink.module.proto.EventLogProtos.Event> events_ =
+        java.util.Collections.emptyList();
+      private void ensureEventsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          events_ = new java.util.ArrayList<org.opennms.features.events.sink.module.proto.EventLogProtos.Event>(events_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Event, org.opennms.features.events.sink.module.proto.EventLogProtos.Event.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.EventOrBuilder> eventsBuilder_;
+
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.proto.EventLogProtos.Event> getEventsList() {
+        if (eventsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(events_);
+        } else {
+          return eventsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public int getEventsCount() {
+        if (eventsBuilder_ == null) {
+          return events_.size();
+        } else {
+          return eventsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Event getEvents(int index) {
+        if (eventsBuilder_ == null) {
+          return events_.get(index);
+        } else {
+          return eventsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public Builder setEvents(
+          int index, org.opennms.features.events.sink.module.proto.EventLogProtos.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.set(index, value);
+          onChanged();
+        } else {
+          eventsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public Builder setEvents(
+          int index, org.opennms.features.events.sink.module.proto.EventLogProtos.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public Builder addEvents(org.opennms.features.events.sink.module.proto.EventLogProtos.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.add(value);
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public Builder addEvents(
+          int index, org.opennms.features.events.sink.module.proto.EventLogProtos.Event value) {
+        if (eventsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEventsIsMutable();
+          events_.add(index, value);
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public Builder addEvents(
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.add(builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public Builder addEvents(
+          int index, org.opennms.features.events.sink.module.proto.EventLogProtos.Event.Builder builderForValue) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          eventsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public Builder addAllEvents(
+          java.lang.Iterable<? extends org.opennms.features.events.sink.module.proto.EventLogProtos.Event> values) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, events_);
+          onChanged();
+        } else {
+          eventsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public Builder clearEvents() {
+        if (eventsBuilder_ == null) {
+          events_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          eventsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public Builder removeEvents(int index) {
+        if (eventsBuilder_ == null) {
+          ensureEventsIsMutable();
+          events_.remove(index);
+          onChanged();
+        } else {
+          eventsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Event.Builder getEventsBuilder(
+          int index) {
+        return getEventsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.EventOrBuilder getEventsOrBuilder(
+          int index) {
+        if (eventsBuilder_ == null) {
+          return events_.get(index);  } else {
+          return eventsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public java.util.List<? extends org.opennms.features.events.sink.module.proto.EventLogProtos.EventOrBuilder> 
+           getEventsOrBuilderList() {
+        if (eventsBuilder_ != null) {
+          return eventsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(events_);
+        }
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Event.Builder addEventsBuilder() {
+        return getEventsFieldBuilder().addBuilder(
+            org.opennms.features.events.sink.module.proto.EventLogProtos.Event.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public org.opennms.features.events.sink.module.proto.EventLogProtos.Event.Builder addEventsBuilder(
+          int index) {
+        return getEventsFieldBuilder().addBuilder(
+            index, org.opennms.features.events.sink.module.proto.EventLogProtos.Event.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Event events = 3;</code>
+       */
+      public java.util.List<org.opennms.features.events.sink.module.proto.EventLogProtos.Event.Builder> 
+           getEventsBuilderList() {
+        return getEventsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.features.events.sink.module.proto.EventLogProtos.Event, org.opennms.features.events.sink.module.proto.EventLogProtos.Event.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.EventOrBuilder> 
+          getEventsFieldBuilder() {
+        if (eventsBuilder_ == null) {
+          eventsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.features.events.sink.module.proto.EventLogProtos.Event, org.opennms.features.events.sink.module.proto.EventLogProtos.Event.Builder, org.opennms.features.events.sink.module.proto.EventLogProtos.EventOrBuilder>(
+                  events_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          events_ = null;
+        }
+        return eventsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Log)
+    }
+
+    // @@protoc_insertion_point(class_scope:Log)
+    private static final org.opennms.features.events.sink.module.proto.EventLogProtos.Log DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.features.events.sink.module.proto.EventLogProtos.Log();
+    }
+
+    public static org.opennms.features.events.sink.module.proto.EventLogProtos.Log getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Log>
+        PARSER = new com.google.protobuf.AbstractParser<Log>() {
+      @java.lang.Override
+      public Log parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Log> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Log> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.features.events.sink.module.proto.EventLogProtos.Log getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Header_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Header_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Snmp_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Snmp_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Value_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Value_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Parm_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Parm_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Logmsg_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Logmsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Event_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Event_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Log_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Log_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\017event-log.proto\"\212\001\n\006Header\022\020\n\003ver\030\001 \001(" +
+      "\tH\000\210\001\001\022\024\n\007dp_name\030\002 \001(\tH\001\210\001\001\022\024\n\007created\030" +
+      "\003 \001(\tH\002\210\001\001\022\025\n\010mstation\030\004 \001(\tH\003\210\001\001B\006\n\004_ve" +
+      "rB\n\n\010_dp_nameB\n\n\010_createdB\013\n\t_mstation\"\230" +
+      "\002\n\004Snmp\022\017\n\002id\030\001 \001(\tH\000\210\001\001\022\025\n\010trap_oid\030\002 \001" +
+      "(\tH\001\210\001\001\022\023\n\006idtext\030\003 \001(\tH\002\210\001\001\022\024\n\007version\030" +
+      "\004 \001(\tH\003\210\001\001\022\025\n\010specific\030\005 \001(\005H\004\210\001\001\022\024\n\007gen" +
+      "eric\030\006 \001(\005H\005\210\001\001\022\026\n\tcommunity\030\007 \001(\tH\006\210\001\001\022" +
+      "\027\n\ntime_stamp\030\010 \001(\003H\007\210\001\001B\005\n\003_idB\013\n\t_trap" +
+      "_oidB\t\n\007_idtextB\n\n\010_versionB\013\n\t_specific" +
+      "B\n\n\010_genericB\014\n\n_communityB\r\n\013_time_stam" +
+      "p\"\211\001\n\005Value\022\024\n\007content\030\001 \001(\tH\000\210\001\001\022\021\n\004typ" +
+      "e\030\002 \001(\tH\001\210\001\001\022\025\n\010encoding\030\003 \001(\tH\002\210\001\001\022\023\n\006e" +
+      "xpand\030\004 \001(\010H\003\210\001\001B\n\n\010_contentB\007\n\005_typeB\013\n" +
+      "\t_encodingB\t\n\007_expand\"R\n\004Parm\022\026\n\tparm_na" +
+      "me\030\001 \001(\tH\000\210\001\001\022\032\n\005value\030\002 \001(\0132\006.ValueH\001\210\001" +
+      "\001B\014\n\n_parm_nameB\010\n\006_value\"f\n\006Logmsg\022\024\n\007c" +
+      "ontent\030\001 \001(\tH\000\210\001\001\022\023\n\006notify\030\002 \001(\010H\001\210\001\001\022\021" +
+      "\n\004dest\030\003 \001(\tH\002\210\001\001B\n\n\010_contentB\t\n\007_notify" +
+      "B\007\n\005_dest\"\357\006\n\005Event\022\021\n\004uuid\030\001 \001(\tH\000\210\001\001\022\021" +
+      "\n\004dbid\030\002 \001(\005H\001\210\001\001\022\030\n\013dist_poller\030\003 \001(\tH\002" +
+      "\210\001\001\022\032\n\rcreation_time\030\004 \001(\003H\003\210\001\001\022\033\n\016maste" +
+      "r_station\030\005 \001(\tH\004\210\001\001\022\020\n\003uei\030\006 \001(\tH\005\210\001\001\022\023" +
+      "\n\006source\030\007 \001(\tH\006\210\001\001\022\023\n\006nodeid\030\010 \001(\003H\007\210\001\001" +
+      "\022\021\n\004time\030\t \001(\003H\010\210\001\001\022\021\n\004host\030\n \001(\tH\t\210\001\001\022\036" +
+      "\n\021interface_address\030\013 \001(\014H\n\210\001\001\022\025\n\010snmpho" +
+      "st\030\014 \001(\tH\013\210\001\001\022\024\n\007service\030\r \001(\tH\014\210\001\001\022\030\n\004s" +
+      "nmp\030\016 \001(\0132\005.SnmpH\r\210\001\001\022\024\n\005parms\030\017 \003(\0132\005.P" +
+      "arm\022\022\n\005descr\030\020 \001(\tH\016\210\001\001\022\034\n\006logmsg\030\021 \001(\0132" +
+      "\007.LogmsgH\017\210\001\001\022\025\n\010severity\030\022 \001(\tH\020\210\001\001\022\027\n\n" +
+      "pathoutage\030\023 \001(\tH\021\210\001\001\022\031\n\014operinstruct\030\024 " +
+      "\001(\tH\022\210\001\001\022\020\n\010loggroup\030\025 \003(\t\022\025\n\010if_index\030\026" +
+      " \001(\005H\023\210\001\001\022\025\n\010if_alias\030\027 \001(\tH\024\210\001\001\022\032\n\rmous" +
+      "eovertext\030\030 \001(\tH\025\210\001\001\022\020\n\003xml\030\031 \001(\014H\026\210\001\001B\007" +
+      "\n\005_uuidB\007\n\005_dbidB\016\n\014_dist_pollerB\020\n\016_cre" +
+      "ation_timeB\021\n\017_master_stationB\006\n\004_ueiB\t\n" +
+      "\007_sourceB\t\n\007_nodeidB\007\n\005_timeB\007\n\005_hostB\024\n" +
+      "\022_interface_addressB\013\n\t_snmphostB\n\n\010_ser" +
+      "viceB\007\n\005_snmpB\010\n\006_descrB\t\n\007_logmsgB\013\n\t_s" +
+      "everityB\r\n\013_pathoutageB\017\n\r_operinstructB" +
+      "\013\n\t_if_indexB\013\n\t_if_aliasB\020\n\016_mouseovert" +
+      "extB\006\n\004_xml\"Z\n\003Log\022\034\n\006header\030\001 \001(\0132\007.Hea" +
+      "derH\000\210\001\001\022\022\n\nhas_events\030\002 \001(\010\022\026\n\006events\030\003" +
+      " \003(\0132\006.EventB\t\n\007_headerB?\n-org.opennms.f" +
+      "eatures.events.sink.module.protoB\016EventL" +
+      "ogProtosb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_Header_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_Header_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Header_descriptor,
+        new java.lang.String[] { "Ver", "DpName", "Created", "Mstation", "Ver", "DpName", "Created", "Mstation", });
+    internal_static_Snmp_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_Snmp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Snmp_descriptor,
+        new java.lang.String[] { "Id", "TrapOid", "Idtext", "Version", "Specific", "Generic", "Community", "TimeStamp", "Id", "TrapOid", "Idtext", "Version", "Specific", "Generic", "Community", "TimeStamp", });
+    internal_static_Value_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_Value_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Value_descriptor,
+        new java.lang.String[] { "Content", "Type", "Encoding", "Expand", "Content", "Type", "Encoding", "Expand", });
+    internal_static_Parm_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_Parm_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Parm_descriptor,
+        new java.lang.String[] { "ParmName", "Value", "ParmName", "Value", });
+    internal_static_Logmsg_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_Logmsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Logmsg_descriptor,
+        new java.lang.String[] { "Content", "Notify", "Dest", "Content", "Notify", "Dest", });
+    internal_static_Event_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_Event_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Event_descriptor,
+        new java.lang.String[] { "Uuid", "Dbid", "DistPoller", "CreationTime", "MasterStation", "Uei", "Source", "Nodeid", "Time", "Host", "InterfaceAddress", "Snmphost", "Service", "Snmp", "Parms", "Descr", "Logmsg", "Severity", "Pathoutage", "Operinstruct", "Loggroup", "IfIndex", "IfAlias", "Mouseovertext", "Xml", "Uuid", "Dbid", "DistPoller", "CreationTime", "MasterStation", "Uei", "Source", "Nodeid", "Time", "Host", "InterfaceAddress", "Snmphost", "Service", "Snmp", "Descr", "Logmsg", "Severity", "Pathoutage", "Operinstruct", "IfIndex", "IfAlias", "Mouseovertext", "Xml", });
+    internal_static_Log_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_Log_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Log_descriptor,
+        new java.lang.String[] { "Header", "HasEvents", "Events", "Header", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.events.sink.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.core.ipc.sink.xml.AbstractXmlSinkModule;
+import org.opennms.core.xml.JaxbUtils;
+import org.opennms.features.events.sink.dispatcher.EventdConfigBean;
+import org.opennms.netmgt.xml.event.AlarmData;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Header;
+import org.opennms.netmgt.xml.event.Log;
+import org.opennms.netmgt.xml.event.Logmsg;
+import org.opennms.netmgt.xml.event.Parm;
+import org.opennms.netmgt.xml.event.Snmp;
+
+public class EventLogProtobufCodecTest {
+
+    private static final String CODEC_PROPERTY = AbstractXmlSinkModule.CODEC_SYS_PROP_PREFIX + EventSinkModule.MODULE_ID + AbstractXmlSinkModule.CODEC_SYS_PROP_SUFFIX;
+
+    private final EventSinkModule module = new EventSinkModule(new EventdConfigBean());
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CODEC_PROPERTY);
+    }
+
+    @Test
+    public void canRoundTripLog() {
+        final Log log = new Log();
+        final Header header = new Header();
+        header.setVer("1.0");
+        header.setDpName("minion-01");
+        header.setCreated("2024-01-01T00:00:00Z");
+        log.setHeader(header);
+        log.addEvent(createEvent());
+        log.addEvent(new Event());
+
+        assertRoundTrip(log);
+    }
+
+    @Test
+    public void canRoundTripUnmappedElementsAsXml() {
+        final Event event = createEvent();
+        final AlarmData alarmData = new AlarmData();
+        alarmData.setReductionKey("%uei%:%nodeid%");
+        alarmData.setAlarmType(1);
+        event.setAlarmData(alarmData);
+
+        final Log log = new Log();
+        log.addEvent(event);
+
+        assertRoundTrip(log);
+    }
+
+    private void assertRoundTrip(Log log) {
+        System.setProperty(CODEC_PROPERTY, AbstractXmlSinkModule.CODEC_PROTOBUF);
+        final byte[] protobuf = module.marshal(log);
+        assertEquals(0, protobuf[0]);
+
+        System.clearProperty(CODEC_PROPERTY);
+        final byte[] xml = module.marshal(log);
+
+        // Compare the XML representations, since events do not implement equals()
+        assertEquals(new String(xml, StandardCharsets.UTF_8), JaxbUtils.marshal(module.unmarshal(protobuf)));
+        assertEquals(new String(xml, StandardCharsets.UTF_8), JaxbUtils.marshal(module.unmarshal(xml)));
+        assertTrue(protobuf.length < xml.length);
+    }
+
+    private static Event createEvent() {
+        final Event event = new Event();
+        event.setUuid("9f9d1c1e-0000-4000-8000-000000000001");
+        event.setUei("uei.opennms.org/generic/traps/SNMP_Link_Down");
+        event.setSource("trapd");
+        event.setNodeid(42L);
+        event.setTime(new Date(1700000000123L));
+        event.setCreationTime(new Date(1700000000456L));
+        event.setDistPoller("00000000-0000-0000-0000-000000ddba11");
+        event.setInterface("10.0.0.1");
+        event.setHost("router-01");
+        event.setService("SNMP");
+        event.setSeverity("Minor");
+        event.setIfIndex(3);
+        event.setDescr("<p>Link down</p>");
+        event.addLoggroup("traps");
+
+        final Snmp snmp = new Snmp();
+        snmp.setId(".1.3.6.1.6.3.1.1.5");
+        snmp.setTrapOID(".1.3.6.1.6.3.1.1.5.3");
+        snmp.setVersion("v2");
+        snmp.setGeneric(2);
+        snmp.setSpecific(0);
+        snmp.setCommunity("public");
+        snmp.setTimeStamp(5000L);
+        event.setSnmp(snmp);
+
+        final Logmsg logmsg = new Logmsg();
+        logmsg.setContent("Agent Interface Down (linkDown Trap)");
+        logmsg.setDest("logndisplay");
+        event.setLogmsg(logmsg);
+
+        event.addParm(new Parm(".1.3.6.1.2.1.2.2.1.1.3", "3"));
+        final Parm parm = new Parm(".1.3.6.1.2.1.2.2.1.2.3", "R2lnYWJpdEV0aGVybmV0MC8z");
+        parm.getValue().setType("OctetString");
+        parm.getValue().setEncoding("base64");
+        event.addParm(parm);
+        return event;
+    }
+}
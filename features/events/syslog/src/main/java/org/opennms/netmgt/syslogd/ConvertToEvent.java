@@ -26,12 +26,15 @@ import static org.opennms.core.utils.InetAddressUtils.str;
 import java.net.InetAddress;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.regex.Matcher;
@@ -40,6 +43,7 @@ import java.util.regex.PatternSyntaxException;
 
 import com.google.common.base.Strings;
 import com.google.common.cache.Cache;
+import com.google.common.collect.ImmutableList;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.opennms.core.utils.InetAddressUtils;
 import org.opennms.core.utils.LocationUtils;
@@ -103,6 +107,19 @@ public class ConvertToEvent {
         }
     );
 
+    /**
+     * Set to false to evaluate all ueiMatch and hideMessage entries sequentially.
+     */
+    public static final String MATCHER_INDEX_SYS_PROP = "org.opennms.netmgt.syslogd.matcherIndex";
+
+    private static final LoadingCache<List<UeiMatch>, MatchIndex<UeiMatch>> UEI_MATCH_INDEXES = CacheBuilder.newBuilder().weakKeys().build(
+        CacheLoader.from(ueiMatches -> new MatchIndex<>(ueiMatches, uei -> uei.getMatch() != null ? uei.getMatch().getType() : null, uei -> uei.getMatch() != null ? uei.getMatch().getExpression() : null))
+    );
+
+    private static final LoadingCache<List<HideMatch>, MatchIndex<HideMatch>> HIDE_MATCH_INDEXES = CacheBuilder.newBuilder().weakKeys().build(
+        CacheLoader.from(hideMatches -> new MatchIndex<>(hideMatches, hide -> hide.getMatch() != null ? hide.getMatch().getType() : null, hide -> hide.getMatch() != null ? hide.getMatch().getExpression() : null))
+    );
+
     /**
      * Reduce the limit of the buffer to trim trailing nulls from the value.
      * 
@@ -393,8 +410,12 @@ public class ConvertToEvent {
 
         EventBuilder bldr = toEventBuilder(message, systemId, location, receivedTimestamp, m_locationAwareDnsLookupClient, dnsCache);
 
+        final boolean matcherIndexEnabled = Boolean.parseBoolean(System.getProperty(MATCHER_INDEX_SYS_PROP, "true"));
+
         final List<UeiMatch> ueiMatch = (config.getUeiList() == null ? Collections.emptyList() : config.getUeiList());
-        for (final UeiMatch uei : ueiMatch) {
+        final BitSet ueiCandidates = candidates(UEI_MATCH_INDEXES, ueiMatch, message.getMessage(), matcherIndexEnabled);
+        for (int i = ueiCandidates.nextSetBit(0); i >= 0; i = ueiCandidates.nextSetBit(i + 1)) {
+            final UeiMatch uei = ueiMatch.get(i);
             final boolean messageMatchesUeiListEntry = containsIgnoreCase(uei.getFacilities(), facilityTxt) &&
                                               containsIgnoreCase(uei.getSeverities(), priorityTxt) &&
                                               matchProcess(uei.getProcessMatch().orElse(null), message.getProcessName()) &&
@@ -421,7 +442,9 @@ public class ConvertToEvent {
             // Match this regex against the full string of the message
             final String fullText = message.asRfc3164Message();
 
-            for (final HideMatch hide : hideMatch) {
+            final BitSet hideCandidates = candidates(HIDE_MATCH_INDEXES, hideMatch, fullText, matcherIndexEnabled);
+            for (int i = hideCandidates.nextSetBit(0); i >= 0; i = hideCandidates.nextSetBit(i + 1)) {
+                final HideMatch hide = hideMatch.get(i);
                 if (hide.getMatch().getType().equals("substr")) {
                     if (fullText.contains(hide.getMatch().getExpression())) {
                         // We should hide the message based on this match
@@ -453,6 +476,51 @@ public class ConvertToEvent {
         m_event = bldr.getEvent();
     }
 
+    /**
+     * Returns the indexes of the entries that need to be evaluated for the given input, in order.
+     */
+    private static <T> BitSet candidates(final LoadingCache<List<T>, MatchIndex<T>> indexes, final List<T> entries, final String input, final boolean matcherIndexEnabled) {
+        if (!matcherIndexEnabled || input == null || entries.isEmpty()) {
+            final BitSet all = new BitSet(entries.size());
+            all.set(0, entries.size());
+            return all;
+        }
+        MatchIndex<T> index = indexes.getUnchecked(entries);
+        if (!index.isFor(entries)) {
+            // the list was modified in place
+            indexes.invalidate(entries);
+            index = indexes.getUnchecked(entries);
+        }
+        return index.matcher.candidates(input);
+    }
+
+    /**
+     * A {@link MultiPatternMatcher} for a list of ueiMatch or hideMessage entries.
+     */
+    private static final class MatchIndex<T> {
+        private final List<T> entries;
+        private final MultiPatternMatcher matcher;
+
+        private MatchIndex(final List<T> entries, final Function<T, String> type, final Function<T, String> expression) {
+            this.entries = ImmutableList.copyOf(entries);
+            this.matcher = MultiPatternMatcher.of(
+                    entries.stream().map(type).collect(Collectors.toList()),
+                    entries.stream().map(expression).collect(Collectors.toList()));
+        }
+
+        private boolean isFor(final List<T> list) {
+            if (list.size() != entries.size()) {
+                return false;
+            }
+            for (int i = 0; i < entries.size(); i++) {
+                if (list.get(i) != entries.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     private static boolean matchFind(final String expression, final String input, final String context) {
         if (input == null) {
             return false;
@@ -0,0 +1,429 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Narrows down the entries of an ordered list of substring and regular expression matches that can possibly match an
+ * input.
+ *
+ * <p>For every entry a literal that must be contained in every matching input is determined: the expression itself
+ * for substring matches and the longest literal that is required by the regular expression for regex matches. All
+ * literals are searched for at once using an Aho-Corasick automaton, so the cost of narrowing down the candidates
+ * depends on the length of the input, not on the number of entries. Entries without a required literal are always
+ * candidates. The candidates must still be confirmed using the original match, and they are returned in list order,
+ * so that first-match semantics are preserved.</p>
+ */
+public final class MultiPatternMatcher {
+
+    /**
+     * Entries that are candidates for every input.
+     */
+    private final BitSet m_unfiltered = new BitSet();
+
+    private final int m_size;
+
+    // Automaton state: sorted transition labels and targets, failure links and the entries matched in each state
+    private final char[][] m_labels;
+    private final int[][] m_targets;
+    private final int[] m_failure;
+    private final int[][] m_outputs;
+
+    private MultiPatternMatcher(final List<String> literals) {
+        m_size = literals.size();
+
+        final List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+        final List<List<Integer>> outputs = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        outputs.add(new ArrayList<>());
+
+        for (int i = 0; i < literals.size(); i++) {
+            final String literal = literals.get(i);
+            if (literal == null || literal.isEmpty()) {
+                m_unfiltered.set(i);
+                continue;
+            }
+            int state = 0;
+            for (int j = 0; j < literal.length(); j++) {
+                final Integer next = transitions.get(state).get(literal.charAt(j));
+                if (next != null) {
+                    state = next;
+                } else {
+                    transitions.add(new TreeMap<>());
+                    outputs.add(new ArrayList<>());
+                    transitions.get(state).put(literal.charAt(j), transitions.size() - 1);
+                    state = transitions.size() - 1;
+                }
+            }
+            outputs.get(state).add(i);
+        }
+
+        final int states = transitions.size();
+        m_labels = new char[states][];
+        m_targets = new int[states][];
+        m_failure = new int[states];
+        m_outputs = new int[states][];
+        for (int state = 0; state < states; state++) {
+            final TreeMap<Character, Integer> edges = transitions.get(state);
+            m_labels[state] = new char[edges.size()];
+            m_targets[state] = new int[edges.size()];
+            int k = 0;
+            for (final Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                m_labels[state][k] = edge.getKey();
+                m_targets[state][k] = edge.getValue();
+                k++;
+            }
+        }
+
+        // Compute the failure links breadth first and merge the outputs of the failure states
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (final int child : m_targets[0]) {
+            m_failure[child] = 0;
+            queue.add(child);
+        }
+        m_outputs[0] = outputs.get(0).stream().mapToInt(Integer::intValue).toArray();
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            final List<Integer> merged = new ArrayList<>(outputs.get(state));
+            for (final int entry : m_outputs[m_failure[state]]) {
+                merged.add(entry);
+            }
+            m_outputs[state] = merged.stream().mapToInt(Integer::intValue).toArray();
+
+            for (int k = 0; k < m_labels[state].length; k++) {
+                final int child = m_targets[state][k];
+                int fallback = m_failure[state];
+                int target;
+                while ((target = transition(fallback, m_labels[state][k])) < 0 && fallback != 0) {
+                    fallback = m_failure[fallback];
+                }
+                m_failure[child] = target >= 0 ? target : 0;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Creates a matcher for the given entries.
+     *
+     * @param types the match types of the entries, either "substr" or a type starting with "regex"
+     * @param expressions the expressions of the entries
+     */
+    public static MultiPatternMatcher of(final List<String> types, final List<String> expressions) {
+        if (types.size() != expressions.size()) {
+            throw new IllegalArgumentException("Got " + types.size() + " types for " + expressions.size() + " expressions");
+        }
+        final List<String> literals = new ArrayList<>(expressions.size());
+        for (int i = 0; i < expressions.size(); i++) {
+            final String type = types.get(i);
+            final String expression = expressions.get(i);
+            if (type == null || expression == null) {
+                literals.add(null);
+            } else if (type.equals("substr")) {
+                literals.add(expression);
+            } else if (type.startsWith("regex")) {
+                literals.add(requiredLiteral(expression));
+            } else {
+                literals.add(null);
+            }
+        }
+        return new MultiPatternMatcher(literals);
+    }
+
+    /**
+     * Returns the entries that can possibly match the given input.
+     */
+    public BitSet candidates(final CharSequence input) {
+        final BitSet candidates = (BitSet) m_unfiltered.clone();
+        if (m_labels[0].length == 0) {
+            return candidates;
+        }
+        int state = 0;
+        for (int i = 0; i < input.length(); i++) {
+            final char c = input.charAt(i);
+            int next;
+            while ((next = transition(state, c)) < 0 && state != 0) {
+                state = m_failure[state];
+            }
+            state = next >= 0 ? next : 0;
+            for (final int entry : m_outputs[state]) {
+                candidates.set(entry);
+            }
+        }
+        return candidates;
+    }
+
+    public int size() {
+        return m_size;
+    }
+
+    private int transition(final int state, final char c) {
+        final int k = Arrays.binarySearch(m_labels[state], c);
+        return k >= 0 ? m_targets[state][k] : -1;
+    }
+
+    /**
+     * Returns the longest literal that is contained in every input matched by the given regular expression, or
+     * {@code null} if no such literal could be determined.
+     *
+     * <p>Only literals in the top-level sequence of the expression are considered. Alternations, case-insensitive
+     * or comment flags and quoted sections make the expression unfiltered.</p>
+     */
+    static String requiredLiteral(final String regex) {
+        final StringBuilder run = new StringBuilder();
+        String best = "";
+        int i = 0;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            char literal = 0;
+            boolean isLiteral = false;
+
+            switch (c) {
+                case '\\':
+                    if (i + 1 >= regex.length()) {
+                        return null;
+                    }
+                    final char escaped = regex.charAt(i + 1);
+                    if (escaped == 'Q' || escaped == 'E') {
+                        return null;
+                    } else if (Character.isLetterOrDigit(escaped)) {
+                        // character classes, anchors, back references and escaped characters like \t or \x41
+                        i = skipEscape(regex, i);
+                    } else {
+                        literal = escaped;
+                        isLiteral = true;
+                        i += 2;
+                    }
+                    break;
+                case '[':
+                    i = skipClass(regex, i);
+                    break;
+                case '(':
+                    if (hasUnsupportedFlags(regex, i)) {
+                        return null;
+                    }
+                    i = skipGroup(regex, i);
+                    break;
+                case '|':
+                case ')':
+                case '{':
+                case '*':
+                case '+':
+                case '?':
+                    // alternation at the top level or a construct we do not understand
+                    return null;
+                case '.':
+                case '^':
+                case '$':
+                    i++;
+                    break;
+                default:
+                    literal = c;
+                    isLiteral = true;
+                    i++;
+            }
+            if (i < 0) {
+                return null;
+            }
+
+            // Check if the atom is quantified
+            int min = 1;
+            boolean quantified = false;
+            if (i < regex.length()) {
+                final char q = regex.charAt(i);
+                if (q == '*' || q == '?') {
+                    min = 0;
+                    quantified = true;
+                    i++;
+                } else if (q == '+') {
+                    quantified = true;
+                    i++;
+                } else if (q == '{') {
+                    final int end = regex.indexOf('}', i);
+                    if (end < 0) {
+                        return null;
+                    }
+                    final String bounds = regex.substring(i + 1, end);
+                    final int comma = bounds.indexOf(',');
+                    try {
+                        min = Integer.parseInt((comma < 0 ? bounds : bounds.substring(0, comma)).trim());
+                    } catch (final NumberFormatException e) {
+                        return null;
+                    }
+                    quantified = true;
+                    i = end + 1;
+                }
+                if (quantified && i < regex.length() && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+                    // reluctant or possessive quantifier
+                    i++;
+                }
+            }
+
+            if (isLiteral && min > 0) {
+                run.append(literal);
+            }
+            if (!isLiteral || quantified) {
+                if (run.length() > best.length()) {
+                    best = run.toString();
+                }
+                run.setLength(0);
+            }
+        }
+        if (run.length() > best.length()) {
+            best = run.toString();
+        }
+        return best.isEmpty() ? null : best;
+    }
+
+    private static int skipEscape(final String regex, final int start) {
+        final char escaped = regex.charAt(start + 1);
+        if ((escaped == 'p' || escaped == 'P' || escaped == 'x' || escaped == 'N') && start + 2 < regex.length() && regex.charAt(start + 2) == '{') {
+            final int end = regex.indexOf('}', start);
+            return end < 0 ? -1 : end + 1;
+        }
+        if (escaped == 'k' && start + 2 < regex.length() && regex.charAt(start + 2) == '<') {
+            final int end = regex.indexOf('>', start);
+            return end < 0 ? -1 : end + 1;
+        }
+        if (escaped == 'p' || escaped == 'P') {
+            return start + 3;
+        }
+        if (escaped == 'c') {
+            return start + 3;
+        }
+        if (escaped == 'x') {
+            return start + 4;
+        }
+        if (escaped == 'u') {
+            return start + 6;
+        }
+        if (escaped == '0') {
+            int end = start + 2;
+            while (end < regex.length() && end < start + 5 && regex.charAt(end) >= '0' && regex.charAt(end) <= '7') {
+                end++;
+            }
+            return end;
+        }
+        if (Character.isDigit(escaped)) {
+            int end = start + 2;
+            while (end < regex.length() && Character.isDigit(regex.charAt(end))) {
+                end++;
+            }
+            return end;
+        }
+        return start + 2;
+    }
+
+    private static int skipClass(final String regex, final int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+                // a closing bracket right after the opening one (or its negation) is a literal
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == '^') {
+                    i++;
+                }
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == ']') {
+                    i++;
+                }
+            } else if (c == ']') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static int skipGroup(final String regex, final int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == 'Q') {
+                    return -1;
+                }
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                i = skipClass(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            }
+            if (c == '(') {
+                if (hasUnsupportedFlags(regex, i)) {
+                    return -1;
+                }
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Inline flags that change the meaning of literals anywhere in the expression, i.e. (?i), (?x) or (?u).
+     */
+    private static boolean hasUnsupportedFlags(final String regex, final int start) {
+        if (start + 1 >= regex.length() || regex.charAt(start + 1) != '?') {
+            return false;
+        }
+        for (int i = start + 2; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (c == ':' || c == ')') {
+                return false;
+            }
+            if (c == 'i' || c == 'x' || c == 'u' || c == 'U') {
+                return true;
+            }
+            if (!Character.isLetter(c) && c != '-') {
+                return false;
+            }
+        }
+        return false;
+    }
+}
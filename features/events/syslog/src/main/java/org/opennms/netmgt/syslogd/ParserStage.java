@@ -67,7 +67,9 @@ public interface ParserStage {
 
 	/**
 	 * Process the state for this stage and return it so
-	 * that the next stage can continue processing.
+	 * that the next stage can continue processing. The
+	 * state is updated in place, a failed parse returns
+	 * null and leaves the state in an undefined position.
 	 */
 	ParserState apply(ParserState state);
 }
\ No newline at end of file
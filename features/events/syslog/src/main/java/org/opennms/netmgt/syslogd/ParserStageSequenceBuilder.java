@@ -21,7 +21,6 @@
  */
 package org.opennms.netmgt.syslogd;
 
-import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -30,7 +29,6 @@ import java.util.EmptyStackException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Stack;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -78,48 +76,64 @@ public class ParserStageSequenceBuilder {
 
 	/**
 	 * The state of an individual {@link ParserStage} operation.
+	 * 
+	 * <p>Accumulated characters are not copied, the state only
+	 * tracks their range in the buffer. A {@link String} is only
+	 * created if the value of the stage is requested.</p>
 	 */
 	private static class ParserStageState {
-		public final ByteBuffer buffer;
+		public ByteBuffer buffer;
 
-		private StringBuilder accumulatedValue = null;
-		private AtomicInteger accumulatedSize = null;
+		private int accumulatedStart = 0;
+		private int accumulatedSize = 0;
 
 		// Only used by MatchMonth
 		public RadixTreeNode<CharacterWithValue> currentNode = null; 
 
-		public ParserStageState(ByteBuffer input) {
+		/**
+		 * Prepare this instance for a new stage operation on the given buffer.
+		 */
+		public ParserStageState reset(ByteBuffer input) {
 			buffer = input;
+			accumulatedStart = 0;
+			accumulatedSize = 0;
+			currentNode = null;
+			return this;
 		}
 
+		/**
+		 * Accumulate the character that was just read from the buffer. Every
+		 * stage accumulates a consecutive run of characters so keeping track
+		 * of the start and size is sufficient.
+		 */
 		public void accumulate(char c) {
-			accessAccumulatedValue().append(c);
-			accessAccumulatedSize().incrementAndGet();
+			if (accumulatedSize == 0) {
+				accumulatedStart = buffer.position() - 1;
+			}
+			accumulatedSize++;
 		}
 
 		public int getAccumulatedSize() {
-			return accessAccumulatedSize().get();
+			return accumulatedSize;
 		}
 
-		private final StringBuilder accessAccumulatedValue() {
-			if (accumulatedValue == null) {
-				accumulatedValue = new StringBuilder();
+		public String getAccumulatedValue() {
+			if (accumulatedSize == 0) {
+				return null;
 			}
-			return accumulatedValue;
-		}
-
-		private final AtomicInteger accessAccumulatedSize() {
-			if (accumulatedSize == null) {
-				accumulatedSize = new AtomicInteger();
+			// Read each byte as a char, just like the stages do
+			final char[] chars = new char[accumulatedSize];
+			for (int i = 0; i < accumulatedSize; i++) {
+				chars[i] = (char)buffer.get(accumulatedStart + i);
 			}
-			return accumulatedSize;
+			return new String(chars);
 		}
 
 		@Override
 		public String toString() {
 			return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
-				.append("accumulatedValue", accumulatedValue == null ? "null" : accumulatedValue.toString())
-				.append("accumulatedSize", accumulatedSize == null ? 0 : accumulatedSize.get())
+				.append("accumulatedValue", accumulatedSize == 0 ? "null" : getAccumulatedValue())
+				.append("accumulatedSize", accumulatedSize)
 				.toString();
 		}
 	}
@@ -290,6 +304,8 @@ public class ParserStageSequenceBuilder {
 	 */
 	private static abstract class AbstractParserStage<R> implements ParserStage {
 
+		private static final ThreadLocal<ParserStageState> STAGE_STATE = ThreadLocal.withInitial(ParserStageState::new);
+
 		private boolean m_optional = false;
 		private boolean m_terminal = false;
 		protected final BiConsumer<ParserState, R> m_resultConsumer;
@@ -330,55 +346,41 @@ public class ParserStageSequenceBuilder {
 
 		public abstract AcceptResult acceptChar(ParserStageState state, char c);
 
-		public final ParserState apply(final ParserState incomingState) {
-			if (incomingState == null) {
+		public final ParserState apply(final ParserState state) {
+			if (state == null) {
 				return null;
 			} else {
-				LOG.trace("Starting stage: " + this);
+				LOG.trace("Starting stage: {}", this);
 			}
 
-			ParserState state = incomingState.clone();
-
-			// Create a new state for the current ParserStage.
-			// Use ByteBuffer.duplicate() to create a buffer with marks
-			// and positions that only this stage will use.
-//			ParserStageState stageState = new ParserStageState(state.getBuffer().duplicate()); 
-			ParserStageState stageState = new ParserStageState(state.getBuffer()); 
+			// Stages are never applied recursively so the state of the
+			// current stage can be reused for every stage on this thread.
+			final ByteBuffer buffer = state.getBuffer();
+			final ParserStageState stageState = STAGE_STATE.get().reset(buffer);
 
 			while(true) {
-				stageState.buffer.mark();
-
-				char c;
-				try {
-					c = (char)stageState.buffer.get();
-				} catch (BufferUnderflowException e) {
+				if (!buffer.hasRemaining()) {
 					if (m_terminal) {
 						if (m_resultConsumer != null) {
 							m_resultConsumer.accept(state, getValue(stageState));
 						}
 
-//						// Reset any local state if necessary
-//						reset(stageState);
-
 						LOG.trace("End of buffer with terminal match");
-						return new ParserState(stageState.buffer, state.message);
+						return state;
 					} else if (m_optional) {
-//						// TODO: Should we reset the buffer here? It probably
-//						// doesn't matter since we're at the end of the buffer.
-//						stageState.buffer.reset();
-
-//						// Reset any local state if necessary
-//						reset(stageState);
-
 						LOG.trace("End of buffer with optional match");
-						return new ParserState(stageState.buffer, state.message);
+						return state;
 					} else {
 						// Reached end of buffer, match failed
-						LOG.trace("Parse failed due to buffer underflow: " + this);
+						LOG.trace("Parse failed due to buffer underflow: {}", this);
 						return null;
 					}
 				}
 
+				// Position before the current character
+				final int position = buffer.position();
+				final char c = (char)buffer.get();
+
 				switch (acceptChar(stageState, c)) {
 					case CONTINUE:
 						continue;
@@ -393,10 +395,7 @@ public class ParserStageSequenceBuilder {
 							}
 						}
 
-//						// Reset any local state if necessary
-//						reset(stageState);
-
-						return new ParserState(stageState.buffer, state.message);
+						return state;
 					case COMPLETE_WITHOUT_CONSUMING:
 						if (m_resultConsumer != null) {
 							try {
@@ -411,18 +410,18 @@ public class ParserStageSequenceBuilder {
 						// Reset any local state if necessary
 						reset(stageState);
 
-						// Move the mark back before the current character
-						stageState.buffer.reset();
+						// Move the position back before the current character
+						buffer.position(position);
 
-						return new ParserState(stageState.buffer, state.message);
+						return state;
 					case CANCEL:
 						if (m_optional) {
-							stageState.buffer.reset();
+							buffer.position(position);
 
 							// Reset any local state if necessary
 							reset(stageState);
 
-							return new ParserState(stageState.buffer, state.message);
+							return state;
 						} else {
 							// Match failed
 							LOG.trace("Parse failed: {}", this);
@@ -445,12 +444,7 @@ public class ParserStageSequenceBuilder {
 		}
 
 		protected static String getAccumulatedValue(ParserStageState state) {
-			final StringBuilder accumulatedValue = state.accumulatedValue;
-			if (accumulatedValue == null) {
-				return null;
-			} else {
-				return accumulatedValue.toString();
-			}
+			return state.getAccumulatedValue();
 		}
 
 		protected R getValue(ParserStageState state) {
@@ -31,6 +31,10 @@ import org.slf4j.LoggerFactory;
  * The state of the entire parse operation. This state
  * should include all of the finished tokens generated
  * by {@link ParserStage} operations.
+ *
+ * <p>{@link ParserStage} operations advance the buffer of
+ * the state in place. Use {@link #clone()} to create an
+ * independent copy before trying alternative branches.</p>
  */
 public class ParserState implements Cloneable {
 
@@ -41,8 +45,12 @@ public class ParserState implements Cloneable {
 	// TODO: Replace with a strategy
 	public final SyslogMessage message;
 
+	/**
+	 * The position of the incoming buffer is not changed by the parse
+	 * operation, the state uses its own view of the buffer contents.
+	 */
 	public ParserState(ByteBuffer input) {
-		this(input, new SyslogMessage());
+		this(input.duplicate(), new SyslogMessage());
 	}
 
 	public ParserState(ByteBuffer input, SyslogMessage message) {
@@ -50,9 +58,11 @@ public class ParserState implements Cloneable {
 		this.message = message;
 	}
 
+	/**
+	 * @return The buffer of this state, stages only read from it
+	 */
 	public ByteBuffer getBuffer() {
-		// TODO: See if this slows anything down
-		return buffer.asReadOnlyBuffer();
+		return buffer;
 	}
 
 	@Override
@@ -0,0 +1,118 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.opennms.core.ipc.sink.xml.SinkMessageCodec;
+import org.opennms.core.xml.ByteBufferXmlAdapter;
+import org.opennms.netmgt.syslogd.api.SyslogMessageDTO;
+import org.opennms.netmgt.syslogd.api.SyslogMessageLogDTO;
+import org.opennms.netmgt.syslogd.proto.SyslogMessageLogProtos;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * Protobuf representation of the {@link SyslogMessageLogDTO}, see <code>syslog-message-log.proto</code>.
+ */
+public class SyslogMessageLogProtobufCodec implements SinkMessageCodec<SyslogMessageLogDTO> {
+
+    public static final int VERSION = 1;
+
+    /**
+     * Used to extract the message bytes in the same way as the XML representation does.
+     */
+    private static final ByteBufferXmlAdapter BYTE_BUFFER_ADAPTER = new ByteBufferXmlAdapter();
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] encode(SyslogMessageLogDTO log) {
+        final SyslogMessageLogProtos.SyslogMessageLog.Builder builder = SyslogMessageLogProtos.SyslogMessageLog.newBuilder()
+                .setSourcePort(log.getSourcePort());
+        if (log.getSourceAddress() != null) {
+            builder.setSourceAddress(ByteString.copyFrom(log.getSourceAddress().getAddress()));
+        }
+        if (log.getSystemId() != null) {
+            builder.setSystemId(log.getSystemId());
+        }
+        if (log.getLocation() != null) {
+            builder.setLocation(log.getLocation());
+        }
+        if (log.getMessages() != null) {
+            for (SyslogMessageDTO message : log.getMessages()) {
+                final SyslogMessageLogProtos.SyslogMessage.Builder messageBuilder = SyslogMessageLogProtos.SyslogMessage.newBuilder();
+                if (message.getTimestamp() != null) {
+                    messageBuilder.setTimestamp(message.getTimestamp().getTime());
+                }
+                if (message.getBytes() != null) {
+                    messageBuilder.setBytes(ByteString.copyFrom(BYTE_BUFFER_ADAPTER.marshal(message.getBytes())));
+                }
+                builder.addMessages(messageBuilder);
+            }
+        }
+        return builder.build().toByteArray();
+    }
+
+    @Override
+    public SyslogMessageLogDTO decode(byte[] bytes, int offset, int length) throws IOException {
+        final SyslogMessageLogProtos.SyslogMessageLog proto = SyslogMessageLogProtos.SyslogMessageLog.parser().parseFrom(bytes, offset, length);
+        final SyslogMessageLogDTO log = new SyslogMessageLogDTO();
+        log.setSourcePort(proto.getSourcePort());
+        if (proto.hasSourceAddress()) {
+            try {
+                log.setSourceAddress(InetAddress.getByAddress(proto.getSourceAddress().toByteArray()));
+            } catch (UnknownHostException e) {
+                throw new InvalidProtocolBufferException(e.getMessage());
+            }
+        }
+        if (proto.hasSystemId()) {
+            log.setSystemId(proto.getSystemId());
+        }
+        if (proto.hasLocation()) {
+            log.setLocation(proto.getLocation());
+        }
+        final List<SyslogMessageDTO> messages = new ArrayList<>(proto.getMessagesCount());
+        for (SyslogMessageLogProtos.SyslogMessage messageProto : proto.getMessagesList()) {
+            final SyslogMessageDTO message = new SyslogMessageDTO();
+            if (messageProto.hasTimestamp()) {
+                message.setTimestamp(new Date(messageProto.getTimestamp()));
+            }
+            if (messageProto.hasBytes()) {
+                message.setBytes(ByteBuffer.wrap(messageProto.getBytes().toByteArray()));
+            }
+            messages.add(message);
+        }
+        log.setMessages(messages);
+        return log;
+    }
+}
@@ -458,6 +458,39 @@ public class BufferParserTest {
 		assertEquals("foo%d", event.getParm("process").getValue().getContent());
 	}
 
+	/**
+	 * Parse a message that is stored in a direct buffer, after other data in
+	 * the same buffer, with a tree that has to branch before it finds a match.
+	 */
+	@Test
+	public void testParseDirectBuffer() {
+		RadixTreeParser radixParser = new RadixTreeParser();
+		// This branch fails after the process name was set
+		radixParser.teach(GrokParserStageSequenceBuilder.parseGrok("<%{INT:facilityPriority}>%{NOSPACE:messageId}: %{INT:year}-%{INT:month}-%{INT:day} %{STRING:hostname} %{NOSPACE:processName}[%{INT:processId}]: %{STRING:message}").toArray(new ParserStage[0]));
+		radixParser.teach(GrokParserStageSequenceBuilder.parseGrok("<%{INT:facilityPriority}>%{NOSPACE:messageId}: %{INT:year}-%{INT:month}-%{INT:day} %{STRING:hostname} %{NOSPACE:processName}: %{STRING:message}").toArray(new ParserStage[0]));
+		radixParser.performEdgeCompression();
+
+		final byte[] prefix = "ignored".getBytes(StandardCharsets.US_ASCII);
+		final byte[] bytes = "<31>main: 2010-08-19 localhost foo%d: load test %d on tty1".getBytes(StandardCharsets.US_ASCII);
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(prefix.length + bytes.length);
+		buffer.put(prefix).put(bytes).flip();
+		buffer.position(prefix.length);
+
+		for (int i = 0; i < 2; i++) {
+			SyslogMessage message = radixParser.parse(buffer).join();
+			assertNotNull(message);
+			assertEquals(SyslogSeverity.DEBUG, message.getSeverity());
+			assertEquals("main", message.getMessageID());
+			assertEquals("localhost", message.getHostName());
+			assertEquals("foo%d", message.getProcessName());
+			assertNull(message.getProcessId());
+			assertEquals("load test %d on tty1", message.getMessage());
+
+			// The position of the incoming buffer must not change
+			assertEquals(prefix.length, buffer.position());
+		}
+	}
+
 	/**
 	 * The cause of NMS-9522 was that the parser tree generation
 	 * was considering the {@code %{STRING:timezone}} and 
@@ -0,0 +1,110 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class MultiPatternMatcherTest {
+
+    @Test
+    public void testRequiredLiteral() {
+        assertEquals("Warning: DocumentRoot [", MultiPatternMatcher.requiredLiteral("^.*Warning: DocumentRoot \\[(.*)\\] does not exist.*$"));
+        assertEquals("NTP server version not compatible", MultiPatternMatcher.requiredLiteral("^NTP server version not compatible$"));
+        assertEquals("New http connection for user ", MultiPatternMatcher.requiredLiteral("^New http connection for user (.+), source ([0-9.]+) destination ([0-9.]+) ACCEPTED$"));
+        assertEquals(" incorrect password attempt", MultiPatternMatcher.requiredLiteral("^sudo:\\s+(.*?) : (\\d+) incorrect password attempts? ; TTY=(.*?)"));
+        assertEquals("Killed process ", MultiPatternMatcher.requiredLiteral("^(?:(.*):\\s*)?Killed process (\\d+) \\((.*)\\).*$"));
+        assertEquals(" ping(s) on interface ", MultiPatternMatcher.requiredLiteral("^Lost [0-9]+ ping\\(s\\) on interface (.*)$"));
+        assertEquals("aaa", MultiPatternMatcher.requiredLiteral("aaab{0,2}c{2}d+"));
+        assertEquals("d", MultiPatternMatcher.requiredLiteral("a?b*\\dd"));
+
+        assertNull(MultiPatternMatcher.requiredLiteral(".*"));
+        assertNull(MultiPatternMatcher.requiredLiteral("^(.*)$"));
+        assertNull(MultiPatternMatcher.requiredLiteral("foo|bar"));
+        assertNull(MultiPatternMatcher.requiredLiteral("(?i)foo"));
+        assertNull(MultiPatternMatcher.requiredLiteral("bar(?i:foo)"));
+        assertNull(MultiPatternMatcher.requiredLiteral("\\Qfoo\\E"));
+        assertNull(MultiPatternMatcher.requiredLiteral("foo\\"));
+        assertNull(MultiPatternMatcher.requiredLiteral("foo[bar"));
+    }
+
+    @Test
+    public void testRequiredLiteralIsContainedInMatches() {
+        final List<String> expressions = Arrays.asList(
+                "^.*Warning: DocumentRoot \\[(.*)\\] does not exist.*$",
+                "^Failed (.*?) for invalid user (\\S+) from (.*?) port (\\d+) ssh(\\d)$",
+                "su:.*?:\\s+authentication failure; logname=(.*?) uid=(\\d+)",
+                "^.*?Suspicious rcfile \"(.*?)\"$",
+                "a[]b]c\\]d",
+                "x\\x41y\\u0042z\\p{Alpha}w\\t",
+                "ab{2,}c");
+        final List<String> inputs = Arrays.asList(
+                "Warning: DocumentRoot [/var/www] does not exist",
+                "Failed password for invalid user root from 10.0.0.1 port 22 ssh2",
+                "su: pam: authentication failure; logname=foo uid=1",
+                "procmail: Suspicious rcfile \"/home/x/.procmailrc\"",
+                "a]c]d",
+                "xAyBzQw\t",
+                "abbbc");
+        for (int i = 0; i < expressions.size(); i++) {
+            final String literal = MultiPatternMatcher.requiredLiteral(expressions.get(i));
+            assertTrue(expressions.get(i), Pattern.compile(expressions.get(i)).matcher(inputs.get(i)).find());
+            assertTrue(expressions.get(i) + " -> " + literal, literal == null || inputs.get(i).contains(literal));
+        }
+    }
+
+    @Test
+    public void testCandidates() {
+        final MultiPatternMatcher matcher = MultiPatternMatcher.of(
+                Arrays.asList("regex", "substr", "regex", "substr", "regex", "substr", "unknown"),
+                Arrays.asList("^Interface (.*) is online$", "shutdown", ".*", "she", "^Interface (.*) is offline$", "hers", "foo"));
+
+        assertEquals(bits(0, 2, 6), matcher.candidates("Interface eth0 is online"));
+        // both expressions require "Interface ", the first of the longest literals is used
+        assertEquals(bits(0, 2, 4, 6), matcher.candidates("Interface eth0 is offline"));
+        assertEquals(bits(2, 4, 6), matcher.candidates("Link eth0 is offline"));
+        assertEquals(bits(2, 6), matcher.candidates("Link eth0 is online"));
+        assertEquals(bits(1, 2, 6), matcher.candidates("system shutdown"));
+        // overlapping literals are all found
+        assertEquals(bits(2, 3, 5, 6), matcher.candidates("ushers"));
+        assertEquals(bits(2, 6), matcher.candidates(""));
+
+        assertEquals(new BitSet(), MultiPatternMatcher.of(Collections.emptyList(), Collections.emptyList()).candidates("foo"));
+    }
+
+    private static BitSet bits(final int... indexes) {
+        final BitSet bits = new BitSet();
+        for (final int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
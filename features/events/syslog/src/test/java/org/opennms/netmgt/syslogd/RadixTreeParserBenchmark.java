@@ -0,0 +1,99 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to measure the throughput of the {@link RadixTreeParser}
+ * over the messages in syslogMessages.txt, stored in heap or direct {@link ByteBuffer}s.
+ * <p>
+ * Run it with <code>-prof gc</code> to report the allocation rate per parsed message as well.
+ */
+public class RadixTreeParserBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({"heap", "direct"})
+        public String buffer;
+
+        private RadixTreeParser parser;
+        private final List<ByteBuffer> messages = new ArrayList<>();
+
+        @Setup
+        public void setup() throws IOException {
+            parser = RadixTreeSyslogParser.getRadixParser();
+
+            final List<String> lines;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    Objects.requireNonNull(getClass().getResourceAsStream("/syslogMessages.txt")), StandardCharsets.UTF_8))) {
+                lines = reader.lines().collect(Collectors.toList());
+            }
+            for (String line : lines) {
+                // Ignore comments and blank lines
+                if (line.trim().length() == 0 || line.trim().startsWith("#")) {
+                    continue;
+                }
+                // Same replacements as in ConvertToEventTest
+                final byte[] bytes = line.replaceAll("\\\\u0000", "\u0000")
+                        .replaceAll("\\\\uFEFF", "\uFEFF")
+                        .getBytes(StandardCharsets.UTF_8);
+                final ByteBuffer message = "direct".equals(buffer) ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length);
+                message.put(bytes).flip();
+                messages.add(message);
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public void parseCorpus(BState state, Blackhole blackhole) {
+        for (ByteBuffer message : state.messages) {
+            blackhole.consume(state.parser.parse(message).join());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opennms.core.ipc.sink.xml.AbstractXmlSinkModule;
+import org.opennms.netmgt.config.SyslogdConfig;
+import org.opennms.netmgt.dao.api.DistPollerDao;
+import org.opennms.netmgt.syslogd.api.SyslogMessageDTO;
+import org.opennms.netmgt.syslogd.api.SyslogMessageLogDTO;
+
+public class SyslogMessageLogProtobufCodecTest {
+
+    private static final String CODEC_PROPERTY = AbstractXmlSinkModule.CODEC_SYS_PROP_PREFIX + SyslogSinkModule.MODULE_ID + AbstractXmlSinkModule.CODEC_SYS_PROP_SUFFIX;
+
+    private final SyslogSinkModule module = new SyslogSinkModule(Mockito.mock(SyslogdConfig.class), Mockito.mock(DistPollerDao.class));
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CODEC_PROPERTY);
+    }
+
+    @Test
+    public void canRoundTripMessageLog() throws Exception {
+        final SyslogMessageLogDTO log = createMessageLog();
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlSinkModule.CODEC_PROTOBUF);
+        final byte[] protobuf = module.marshal(log);
+        assertEquals(log, module.unmarshal(protobuf));
+
+        System.clearProperty(CODEC_PROPERTY);
+        final byte[] xml = module.marshal(log);
+        assertTrue(new String(xml, StandardCharsets.UTF_8).contains("syslog-message-log"));
+        assertEquals(log, module.unmarshal(xml));
+        assertTrue(protobuf.length < xml.length);
+
+        // Binary payloads are decoded regardless of the configured codec
+        assertEquals(log, module.unmarshal(protobuf));
+    }
+
+    @Test
+    public void canRoundTripEmptyFields() throws Exception {
+        final SyslogMessageLogDTO log = new SyslogMessageLogDTO();
+        log.getMessages().add(new SyslogMessageDTO());
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlSinkModule.CODEC_PROTOBUF);
+        assertEquals(log, module.unmarshal(module.marshal(log)));
+    }
+
+    private static SyslogMessageLogDTO createMessageLog() throws Exception {
+        final SyslogMessageLogDTO log = new SyslogMessageLogDTO("Default", "00000000-0000-0000-0000-000000ddba11",
+                new InetSocketAddress(InetAddress.getByName("10.0.0.1"), 514));
+        for (int i = 0; i < 3; i++) {
+            final SyslogMessageDTO message = new SyslogMessageDTO(ByteBuffer.wrap(("<190>Mar 11 08:35:17 10.0.0.1 %LINK-3-UPDOWN: Interface GigabitEthernet0/" + i + ", changed state to down")
+                    .getBytes(StandardCharsets.US_ASCII)));
+            message.setTimestamp(new Date(1700000000000L + i));
+            log.getMessages().add(message);
+        }
+        return log;
+    }
+}
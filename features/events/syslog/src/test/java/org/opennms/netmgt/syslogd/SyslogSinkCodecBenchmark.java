@@ -0,0 +1,100 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.core.ipc.sink.xml.AbstractXmlSinkModule;
+import org.opennms.netmgt.config.SyslogdConfig;
+import org.opennms.netmgt.dao.api.DistPollerDao;
+import org.opennms.netmgt.syslogd.api.SyslogMessageDTO;
+import org.opennms.netmgt.syslogd.api.SyslogMessageLogDTO;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare marshalling and unmarshalling batches of syslog
+ * messages using XML and protobuf.
+ */
+public class SyslogSinkCodecBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({AbstractXmlSinkModule.CODEC_XML, AbstractXmlSinkModule.CODEC_PROTOBUF})
+        public String codec;
+
+        @Param({"100"})
+        public int batchSize;
+
+        private SyslogSinkModule module;
+        private SyslogMessageLogDTO log;
+        private byte[] bytes;
+
+        @Setup
+        public void setup() throws Exception {
+            System.setProperty(AbstractXmlSinkModule.CODEC_SYS_PROP_PREFIX + SyslogSinkModule.MODULE_ID + AbstractXmlSinkModule.CODEC_SYS_PROP_SUFFIX, codec);
+            module = new SyslogSinkModule(Mockito.mock(SyslogdConfig.class), Mockito.mock(DistPollerDao.class));
+
+            final Random random = new Random(42);
+            log = new SyslogMessageLogDTO("Default", "00000000-0000-0000-0000-000000ddba11",
+                    new InetSocketAddress(InetAddress.getByName("10.0.0.1"), 514));
+            for (int i = 0; i < batchSize; i++) {
+                final String message = "<190>Mar 11 08:35:17 10.0.0." + random.nextInt(255)
+                        + " %LINK-3-UPDOWN: Interface GigabitEthernet0/" + random.nextInt(48) + ", changed state to down";
+                log.getMessages().add(new SyslogMessageDTO(ByteBuffer.wrap(message.getBytes(StandardCharsets.US_ASCII))));
+            }
+            bytes = module.marshal(log);
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public byte[] marshal(BState state) {
+        return state.module.marshal(state.log);
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public SyslogMessageLogDTO unmarshal(BState state) {
+        return state.module.unmarshal(state.bytes);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.syslogd;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.netmgt.config.SyslogdConfigFactory;
+import org.opennms.netmgt.config.syslogd.Match;
+import org.opennms.netmgt.config.syslogd.UeiMatch;
+import org.opennms.netmgt.xml.event.Event;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare the conversion of syslog messages to events with and
+ * without the {@link MultiPatternMatcher} index for the ueiMatch entries.
+ * <p>
+ * The rule set consists of the syslog configuration shipped with OpenNMS and a few hundred generated Cisco style
+ * rules. The messages match the shipped rules, the generated rules or none of them. Run it from the module directory,
+ * or point the opennms.home system property to a directory containing etc/syslogd-configuration.xml.
+ */
+public class UeiMatchBenchmark {
+
+    private static final String[] FACILITIES = {"LINK", "LINEPROTO", "SYS", "SEC", "OSPF", "BGP", "SNMP", "DOT1X", "AAA", "ENVMON", "PLATFORM", "SPANTREE"};
+    private static final String[] MNEMONICS = {"UPDOWN", "CONFIG_I", "RESTART", "IPACCESSLOGP", "ADJCHG", "NOTIFICATION", "AUTHFAIL", "FAIL", "FAN", "TEMP", "LOOPGUARD_BLOCK", "ERR"};
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({"true", "false"})
+        public boolean matcherIndex;
+
+        @Param({"250"})
+        public int generatedRules;
+
+        private SyslogdConfigFactory config;
+        private final List<byte[]> messages = new ArrayList<>();
+        private int next;
+
+        @Setup
+        public void setup() throws IOException {
+            System.setProperty(ConvertToEvent.MATCHER_INDEX_SYS_PROP, Boolean.toString(matcherIndex));
+            if (System.getProperty("opennms.home") == null) {
+                System.setProperty("opennms.home", "../../../opennms-base-assembly/src/main/filtered");
+            }
+            config = new SyslogdConfigFactory();
+
+            final Random random = new Random(42);
+            final List<String> bodies = new ArrayList<>();
+            for (int i = 0; i < generatedRules; i++) {
+                final String facility = FACILITIES[i % FACILITIES.length];
+                final String mnemonic = MNEMONICS[(i / FACILITIES.length) % MNEMONICS.length] + (i / (FACILITIES.length * MNEMONICS.length));
+                final int severity = i % 8;
+
+                final Match match = new Match();
+                match.setType("regex");
+                match.setExpression("^%" + facility + "-" + severity + "-" + mnemonic + ": (.*)$");
+                final UeiMatch ueiMatch = new UeiMatch();
+                ueiMatch.setMatch(match);
+                ueiMatch.setUei("uei.opennms.org/vendor/cisco/syslog/" + facility + "-" + mnemonic);
+                config.getUeiList().add(ueiMatch);
+
+                bodies.add("%" + facility + "-" + severity + "-" + mnemonic + ": Interface GigabitEthernet0/" + random.nextInt(48) + ", changed state to down");
+            }
+
+            // messages matched by the shipped rules
+            bodies.add("Failed password for invalid user admin from 10.1.2.3 port 51234 ssh2");
+            bodies.add("Killed process 1234 (java) total-vm:1234kB, anon-rss:12kB, file-rss:0kB");
+            bodies.add("Interface wan is offline");
+            bodies.add("Warning: DocumentRoot [/var/www/html] does not exist");
+            // messages not matched by any rule
+            for (int i = 0; i < 20; i++) {
+                bodies.add("connection from 10.0.0." + random.nextInt(255) + " closed after " + random.nextInt(1000) + " ms");
+            }
+
+            for (final String body : bodies) {
+                messages.add(("<190>Mar 11 08:35:17 10.0.0." + random.nextInt(100) + " " + body).getBytes(StandardCharsets.US_ASCII));
+            }
+            Collections.shuffle(messages, random);
+        }
+
+        private byte[] nextMessage() {
+            if (next == messages.size()) {
+                next = 0;
+            }
+            return messages.get(next++);
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public Event convertToEvent(BState state) throws MessageDiscardedException {
+        final ConvertToEvent convertToEvent = new ConvertToEvent("00000000-0000-0000-0000-000000000000", "Default",
+                InetAddress.getLoopbackAddress(), 514, ByteBuffer.wrap(state.nextMessage()), null, state.config, null, null);
+        return Objects.requireNonNull(convertToEvent.getEvent());
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.trapd;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import org.opennms.core.ipc.sink.xml.SinkMessageCodec;
+import org.opennms.netmgt.snmp.SnmpInstId;
+import org.opennms.netmgt.snmp.SnmpObjId;
+import org.opennms.netmgt.snmp.SnmpResult;
+import org.opennms.netmgt.snmp.SnmpUtils;
+import org.opennms.netmgt.snmp.SnmpValue;
+import org.opennms.netmgt.trapd.proto.TrapLogProtos;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * Protobuf representation of the {@link TrapLogDTO}, see <code>trap-log.proto</code>.
+ */
+public class TrapLogProtobufCodec implements SinkMessageCodec<TrapLogDTO> {
+
+    public static final int VERSION = 1;
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] encode(TrapLogDTO log) {
+        final TrapLogProtos.TrapLog.Builder builder = TrapLogProtos.TrapLog.newBuilder();
+        if (log.getSystemId() != null) {
+            builder.setSystemId(log.getSystemId());
+        }
+        if (log.getLocation() != null) {
+            builder.setLocation(log.getLocation());
+        }
+        if (log.getTrapAddress() != null) {
+            builder.setTrapAddress(ByteString.copyFrom(log.getTrapAddress().getAddress()));
+        }
+        for (TrapDTO trap : log.getMessages()) {
+            builder.addMessages(toProto(trap));
+        }
+        return builder.build().toByteArray();
+    }
+
+    @Override
+    public TrapLogDTO decode(byte[] bytes, int offset, int length) throws IOException {
+        final TrapLogProtos.TrapLog proto = TrapLogProtos.TrapLog.parser().parseFrom(bytes, offset, length);
+        final TrapLogDTO log = new TrapLogDTO();
+        if (proto.hasSystemId()) {
+            log.setSystemId(proto.getSystemId());
+        }
+        if (proto.hasLocation()) {
+            log.setLocation(proto.getLocation());
+        }
+        if (proto.hasTrapAddress()) {
+            log.setTrapAddress(toInetAddress(proto.getTrapAddress()));
+        }
+        for (TrapLogProtos.Trap trap : proto.getMessagesList()) {
+            log.addMessage(fromProto(trap));
+        }
+        return log;
+    }
+
+    private static TrapLogProtos.Trap toProto(TrapDTO trap) {
+        final TrapLogProtos.Trap.Builder builder = TrapLogProtos.Trap.newBuilder()
+                .setTimestamp(trap.getTimestamp())
+                .setPduLength(trap.getPduLength())
+                .setCreationTime(trap.getCreationTime());
+        if (trap.getAgentAddress() != null) {
+            builder.setAgentAddress(ByteString.copyFrom(trap.getAgentAddress().getAddress()));
+        }
+        if (trap.getCommunity() != null) {
+            builder.setCommunity(trap.getCommunity());
+        }
+        if (trap.getVersion() != null) {
+            builder.setVersion(trap.getVersion());
+        }
+        if (trap.getRawMessage() != null) {
+            builder.setRawMessage(ByteString.copyFrom(trap.getRawMessage()));
+        }
+        if (trap.getTrapIdentity() != null) {
+            final TrapIdentityDTO identity = trap.getTrapIdentity();
+            final TrapLogProtos.TrapIdentity.Builder identityBuilder = TrapLogProtos.TrapIdentity.newBuilder()
+                    .setGeneric(identity.getGeneric())
+                    .setSpecific(identity.getSpecific());
+            if (identity.getEnterpriseId() != null) {
+                identityBuilder.setEnterpriseId(identity.getEnterpriseId());
+            }
+            if (identity.getTrapOID() != null) {
+                identityBuilder.setTrapOid(identity.getTrapOID());
+            }
+            builder.setTrapIdentity(identityBuilder);
+        }
+        for (SnmpResult result : trap.getResults()) {
+            final TrapLogProtos.SnmpResult.Builder resultBuilder = TrapLogProtos.SnmpResult.newBuilder()
+                    .setBase(toProto(result.getBase()));
+            if (result.getInstance() != null) {
+                resultBuilder.setInstance(toProto(result.getInstance()));
+            }
+            if (result.getValue() != null) {
+                final TrapLogProtos.SnmpValue.Builder valueBuilder = TrapLogProtos.SnmpValue.newBuilder()
+                        .setType(result.getValue().getType());
+                final byte[] valueBytes = result.getValue().getBytes();
+                if (valueBytes != null) {
+                    valueBuilder.setBytes(ByteString.copyFrom(valueBytes));
+                }
+                resultBuilder.setValue(valueBuilder);
+            }
+            builder.addResults(resultBuilder);
+        }
+        return builder.build();
+    }
+
+    private static TrapDTO fromProto(TrapLogProtos.Trap proto) throws IOException {
+        final TrapDTO trap = new TrapDTO();
+        trap.setTimestamp(proto.getTimestamp());
+        trap.setPduLength(proto.getPduLength());
+        trap.setCreationTime(proto.getCreationTime());
+        if (proto.hasAgentAddress()) {
+            trap.setAgentAddress(toInetAddress(proto.getAgentAddress()));
+        }
+        if (proto.hasCommunity()) {
+            trap.setCommunity(proto.getCommunity());
+        }
+        if (proto.hasVersion()) {
+            trap.setVersion(proto.getVersion());
+        }
+        if (proto.hasRawMessage()) {
+            trap.setRawMessage(proto.getRawMessage().toByteArray());
+        }
+        if (proto.hasTrapIdentity()) {
+            final TrapLogProtos.TrapIdentity identityProto = proto.getTrapIdentity();
+            final TrapIdentityDTO identity = new TrapIdentityDTO();
+            identity.setGeneric(identityProto.getGeneric());
+            identity.setSpecific(identityProto.getSpecific());
+            if (identityProto.hasEnterpriseId()) {
+                identity.setEnterpriseId(identityProto.getEnterpriseId());
+            }
+            if (identityProto.hasTrapOid()) {
+                identity.setTrapOID(identityProto.getTrapOid());
+            }
+            trap.setTrapIdentity(identity);
+        }
+        for (TrapLogProtos.SnmpResult resultProto : proto.getResultsList()) {
+            final SnmpObjId base = SnmpObjId.get(toIds(resultProto.getBase()));
+            final SnmpInstId instance = resultProto.hasInstance() ? new SnmpInstId(toIds(resultProto.getInstance())) : null;
+            SnmpValue value = null;
+            if (resultProto.hasValue()) {
+                value = SnmpUtils.getValueFactory().getValue(resultProto.getValue().getType(), resultProto.getValue().getBytes().toByteArray());
+            }
+            trap.getResults().add(new SnmpResult(base, instance, value));
+        }
+        return trap;
+    }
+
+    private static TrapLogProtos.Oid toProto(SnmpObjId oid) {
+        final TrapLogProtos.Oid.Builder builder = TrapLogProtos.Oid.newBuilder();
+        for (int i = 0; i < oid.length(); i++) {
+            builder.addIds(oid.getSubIdAt(i));
+        }
+        return builder.build();
+    }
+
+    private static int[] toIds(TrapLogProtos.Oid oid) {
+        final int[] ids = new int[oid.getIdsCount()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = oid.getIds(i);
+        }
+        return ids;
+    }
+
+    private static InetAddress toInetAddress(ByteString address) throws InvalidProtocolBufferException {
+        try {
+            return InetAddress.getByAddress(address.toByteArray());
+        } catch (UnknownHostException e) {
+            throw new InvalidProtocolBufferException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,5976 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: trap-log.proto
+
+package org.opennms.netmgt.trapd.proto;
+
+public final class TrapLogProtos {
+  private TrapLogProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface TrapIdentityOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TrapIdentity)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 generic = 1;</code>
+     * @return The generic.
+     */
+    int getGeneric();
+
+    /**
+     * <code>int32 specific = 2;</code>
+     * @return The specific.
+     */
+    int getSpecific();
+
+    /**
+     * <code>optional string enterprise_id = 3;</code>
+     * @return Whether the enterpriseId field is set.
+     */
+    boolean hasEnterpriseId();
+    /**
+     * <code>optional string enterprise_id = 3;</code>
+     * @return The enterpriseId.
+     */
+    java.lang.String getEnterpriseId();
+    /**
+     * <code>optional string enterprise_id = 3;</code>
+     * @return The bytes for enterpriseId.
+     */
+    com.google.protobuf.ByteString
+        getEnterpriseIdBytes();
+
+    /**
+     * <code>optional string trap_oid = 4;</code>
+     * @return Whether the trapOid field is set.
+     */
+    boolean hasTrapOid();
+    /**
+     * <code>optional string trap_oid = 4;</code>
+     * @return The trapOid.
+     */
+    java.lang.String getTrapOid();
+    /**
+     * <code>optional string trap_oid = 4;</code>
+     * @return The bytes for trapOid.
+     */
+    com.google.protobuf.ByteString
+        getTrapOidBytes();
+  }
+  /**
+   * Protobuf type {@code TrapIdentity}
+   */
+  public static final class TrapIdentity extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TrapIdentity)
+      TrapIdentityOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TrapIdentity.newBuilder() to construct.
+    private TrapIdentity(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TrapIdentity() {
+      enterpriseId_ = "";
+      trapOid_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TrapIdentity();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_TrapIdentity_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_TrapIdentity_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.class, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int GENERIC_FIELD_NUMBER = 1;
+    private int generic_ = 0;
+    /**
+     * <code>int32 generic = 1;</code>
+     * @return The generic.
+     */
+    @java.lang.Override
+    public int getGeneric() {
+      return generic_;
+    }
+
+    public static final int SPECIFIC_FIELD_NUMBER = 2;
+    private int specific_ = 0;
+    /**
+     * <code>int32 specific = 2;</code>
+     * @return The specific.
+     */
+    @java.lang.Override
+    public int getSpecific() {
+      return specific_;
+    }
+
+    public static final int ENTERPRISE_ID_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object enterpriseId_ = "";
+    /**
+     * <code>optional string enterprise_id = 3;</code>
+     * @return Whether the enterpriseId field is set.
+     */
+    @java.lang.Override
+    public boolean hasEnterpriseId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string enterprise_id = 3;</code>
+     * @return The enterpriseId.
+     */
+    @java.lang.Override
+    public java.lang.String getEnterpriseId() {
+      java.lang.Object ref = enterpriseId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        enterpriseId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string enterprise_id = 3;</code>
+     * @return The bytes for enterpriseId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getEnterpriseIdBytes() {
+      java.lang.Object ref = enterpriseId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        enterpriseId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRAP_OID_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object trapOid_ = "";
+    /**
+     * <code>optional string trap_oid = 4;</code>
+     * @return Whether the trapOid field is set.
+     */
+    @java.lang.Override
+    public boolean hasTrapOid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string trap_oid = 4;</code>
+     * @return The trapOid.
+     */
+    @java.lang.Override
+    public java.lang.String getTrapOid() {
+      java.lang.Object ref = trapOid_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        trapOid_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string trap_oid = 4;</code>
+     * @return The bytes for trapOid.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTrapOidBytes() {
+      java.lang.Object ref = trapOid_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        trapOid_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (generic_ != 0) {
+        output.writeInt32(1, generic_);
+      }
+      if (specific_ != 0) {
+        output.writeInt32(2, specific_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, enterpriseId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, trapOid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (generic_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, generic_);
+      }
+      if (specific_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, specific_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, enterpriseId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, trapOid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity other = (org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity) obj;
+
+      if (getGeneric()
+          != other.getGeneric()) return false;
+      if (getSpecific()
+          != other.getSpecific()) return false;
+      if (hasEnterpriseId() != other.hasEnterpriseId()) return false;
+      if (hasEnterpriseId()) {
+        if (!getEnterpriseId()
+            .equals(other.getEnterpriseId())) return false;
+      }
+      if (hasTrapOid() != other.hasTrapOid()) return false;
+      if (hasTrapOid()) {
+        if (!getTrapOid()
+            .equals(other.getTrapOid())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + GENERIC_FIELD_NUMBER;
+      hash = (53 * hash) + getGeneric();
+      hash = (37 * hash) + SPECIFIC_FIELD_NUMBER;
+      hash = (53 * hash) + getSpecific();
+      if (hasEnterpriseId()) {
+        hash = (37 * hash) + ENTERPRISE_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getEnterpriseId().hashCode();
+      }
+      if (hasTrapOid()) {
+        hash = (37 * hash) + TRAP_OID_FIELD_NUMBER;
+        hash = (53 * hash) + getTrapOid().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code TrapIdentity}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TrapIdentity)
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentityOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_TrapIdentity_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_TrapIdentity_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.class, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        generic_ = 0;
+        specific_ = 0;
+        enterpriseId_ = "";
+        trapOid_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_TrapIdentity_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity getDefaultInstanceForType() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity build() {
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity buildPartial() {
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity result = new org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.generic_ = generic_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.specific_ = specific_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.enterpriseId_ = enterpriseId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.trapOid_ = trapOid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity) {
+          return mergeFrom((org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity other) {
+        if (other == org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.getDefaultInstance()) return this;
+        if (other.getGeneric() != 0) {
+          setGeneric(other.getGeneric());
+        }
+        if (other.getSpecific() != 0) {
+          setSpecific(other.getSpecific());
+        }
+        if (other.hasEnterpriseId()) {
+          enterpriseId_ = other.enterpriseId_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasTrapOid()) {
+          trapOid_ = other.trapOid_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                generic_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                specific_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                enterpriseId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                trapOid_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int generic_ ;
+      /**
+       * <code>int32 generic = 1;</code>
+       * @return The generic.
+       */
+      @java.lang.Override
+      public int getGeneric() {
+        return generic_;
+      }
+      /**
+       * <code>int32 generic = 1;</code>
+       * @param value The generic to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGeneric(int value) {
+
+        generic_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 generic = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGeneric() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        generic_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int specific_ ;
+      /**
+       * <code>int32 specific = 2;</code>
+       * @return The specific.
+       */
+      @java.lang.Override
+      public int getSpecific() {
+        return specific_;
+      }
+      /**
+       * <code>int32 specific = 2;</code>
+       * @param value The specific to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSpecific(int value) {
+
+        specific_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 specific = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSpecific() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        specific_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object enterpriseId_ = "";
+      /**
+       * <code>optional string enterprise_id = 3;</code>
+       * @return Whether the enterpriseId field is set.
+       */
+      public boolean hasEnterpriseId() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string enterprise_id = 3;</code>
+       * @return The enterpriseId.
+       */
+      public java.lang.String getEnterpriseId() {
+        java.lang.Object ref = enterpriseId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          enterpriseId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string enterprise_id = 3;</code>
+       * @return The bytes for enterpriseId.
+       */
+      public com.google.protobuf.ByteString
+          getEnterpriseIdBytes() {
+        java.lang.Object ref = enterpriseId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          enterpriseId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string enterprise_id = 3;</code>
+       * @param value The enterpriseId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEnterpriseId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        enterpriseId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string enterprise_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEnterpriseId() {
+        enterpriseId_ = getDefaultInstance().getEnterpriseId();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string enterprise_id = 3;</code>
+       * @param value The bytes for enterpriseId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEnterpriseIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        enterpriseId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object trapOid_ = "";
+      /**
+       * <code>optional string trap_oid = 4;</code>
+       * @return Whether the trapOid field is set.
+       */
+      public boolean hasTrapOid() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string trap_oid = 4;</code>
+       * @return The trapOid.
+       */
+      public java.lang.String getTrapOid() {
+        java.lang.Object ref = trapOid_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          trapOid_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string trap_oid = 4;</code>
+       * @return The bytes for trapOid.
+       */
+      public com.google.protobuf.ByteString
+          getTrapOidBytes() {
+        java.lang.Object ref = trapOid_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          trapOid_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string trap_oid = 4;</code>
+       * @param value The trapOid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTrapOid(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        trapOid_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string trap_oid = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTrapOid() {
+        trapOid_ = getDefaultInstance().getTrapOid();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string trap_oid = 4;</code>
+       * @param value The bytes for trapOid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTrapOidBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        trapOid_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TrapIdentity)
+    }
+
+    // @@protoc_insertion_point(class_scope:TrapIdentity)
+    private static final org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity();
+    }
+
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TrapIdentity>
+        PARSER = new com.google.protobuf.AbstractParser<TrapIdentity>() {
+      @java.lang.Override
+      public TrapIdentity parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TrapIdentity> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TrapIdentity> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SnmpValueOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SnmpValue)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 type = 1;</code>
+     * @return The type.
+     */
+    int getType();
+
+    /**
+     * <code>bytes bytes = 2;</code>
+     * @return The bytes.
+     */
+    com.google.protobuf.ByteString getBytes();
+  }
+  /**
+   * Protobuf type {@code SnmpValue}
+   */
+  public static final class SnmpValue extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:SnmpValue)
+      SnmpValueOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SnmpValue.newBuilder() to construct.
+    private SnmpValue(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SnmpValue() {
+      bytes_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SnmpValue();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_SnmpValue_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_SnmpValue_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.class, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.Builder.class);
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private int type_ = 0;
+    /**
+     * <code>int32 type = 1;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public int getType() {
+      return type_;
+    }
+
+    public static final int BYTES_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString bytes_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes bytes = 2;</code>
+     * @return The bytes.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getBytes() {
+      return bytes_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (type_ != 0) {
+        output.writeInt32(1, type_);
+      }
+      if (!bytes_.isEmpty()) {
+        output.writeBytes(2, bytes_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (type_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, type_);
+      }
+      if (!bytes_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, bytes_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue other = (org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue) obj;
+
+      if (getType()
+          != other.getType()) return false;
+      if (!getBytes()
+          .equals(other.getBytes())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType();
+      hash = (37 * hash) + BYTES_FIELD_NUMBER;
+      hash = (53 * hash) + getBytes().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SnmpValue}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SnmpValue)
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValueOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_SnmpValue_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_SnmpValue_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.class, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        type_ = 0;
+        bytes_ = com.google.protobuf.ByteString.EMPTY;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_SnmpValue_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue getDefaultInstanceForType() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue build() {
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue buildPartial() {
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue result = new org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.type_ = type_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.bytes_ = bytes_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue) {
+          return mergeFrom((org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue other) {
+        if (other == org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.getDefaultInstance()) return this;
+        if (other.getType() != 0) {
+          setType(other.getType());
+        }
+        if (other.getBytes() != com.google.protobuf.ByteString.EMPTY) {
+          setBytes(other.getBytes());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                type_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                bytes_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int type_ ;
+      /**
+       * <code>int32 type = 1;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public int getType() {
+        return type_;
+      }
+      /**
+       * <code>int32 type = 1;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(int value) {
+
+        type_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 type = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString bytes_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes bytes = 2;</code>
+       * @return The bytes.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getBytes() {
+        return bytes_;
+      }
+      /**
+       * <code>bytes bytes = 2;</code>
+       * @param value The bytes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBytes(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        bytes_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes bytes = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBytes() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        bytes_ = getDefaultInstance().getBytes();
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:SnmpValue)
+    }
+
+    // @@protoc_insertion_point(class_scope:SnmpValue)
+    private static final org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue();
+    }
+
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SnmpValue>
+        PARSER = new com.google.protobuf.AbstractParser<SnmpValue>() {
+      @java.lang.Override
+      public SnmpValue parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SnmpValue> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SnmpValue> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface OidOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Oid)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated uint32 ids = 1;</code>
+     * @return A list containing the ids.
+     */
+    java.util.List<java.lang.Integer> getIdsList();
+    /**
+     * <code>repeated uint32 ids = 1;</code>
+     * @return The count of ids.
+     */
+    int getIdsCount();
+    /**
+     * <code>repeated uint32 ids = 1;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    int getIds(int index);
+  }
+  /**
+   * Protobuf type {@code Oid}
+   */
+  public static final class Oid extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Oid)
+      OidOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Oid.newBuilder() to construct.
+    private Oid(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Oid() {
+      ids_ = emptyIntList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Oid();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_Oid_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_Oid_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.class, org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.Builder.class);
+    }
+
+    public static final int IDS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList ids_;
+    /**
+     * <code>repeated uint32 ids = 1;</code>
+     * @return A list containing the ids.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getIdsList() {
+      return ids_;
+    }
+    /**
+     * <code>repeated uint32 ids = 1;</code>
+     * @return The count of ids.
+     */
+    public int getIdsCount() {
+      return ids_.size();
+    }
+    /**
+     * <code>repeated uint32 ids = 1;</code>
+     * @param index The index of the element to return.
+     * @return The ids at the given index.
+     */
+    public int getIds(int index) {
+      return ids_.getInt(index);
+    }
+    private int idsMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getIdsList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(idsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < ids_.size(); i++) {
+        output.writeUInt32NoTag(ids_.getInt(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < ids_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(ids_.getInt(i));
+        }
+        size += dataSize;
+        if (!getIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        idsMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid other = (org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid) obj;
+
+      if (!getIdsList()
+          .equals(other.getIdsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getIdsCount() > 0) {
+        hash = (37 * hash) + IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getIdsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Oid}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Oid)
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_Oid_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_Oid_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.class, org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        ids_ = emptyIntList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_Oid_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid getDefaultInstanceForType() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid build() {
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid buildPartial() {
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid result = new org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid result) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          ids_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.ids_ = ids_;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid) {
+          return mergeFrom((org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid other) {
+        if (other == org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.getDefaultInstance()) return this;
+        if (!other.ids_.isEmpty()) {
+          if (ids_.isEmpty()) {
+            ids_ = other.ids_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureIdsIsMutable();
+            ids_.addAll(other.ids_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                int v = input.readUInt32();
+                ensureIdsIsMutable();
+                ids_.addInt(v);
+                break;
+              } // case 8
+              case 10: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureIdsIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  ids_.addInt(input.readUInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.IntList ids_ = emptyIntList();
+      private void ensureIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          ids_ = mutableCopy(ids_);
+          bitField0_ |= 0x00000001;
+        }
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @return A list containing the ids.
+       */
+      public java.util.List<java.lang.Integer>
+          getIdsList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(ids_) : ids_;
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @return The count of ids.
+       */
+      public int getIdsCount() {
+        return ids_.size();
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @param index The index of the element to return.
+       * @return The ids at the given index.
+       */
+      public int getIds(int index) {
+        return ids_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The ids to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIds(
+          int index, int value) {
+
+        ensureIdsIsMutable();
+        ids_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @param value The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addIds(int value) {
+
+        ensureIdsIsMutable();
+        ids_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @param values The ids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ids_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 ids = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIds() {
+        ids_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Oid)
+    }
+
+    // @@protoc_insertion_point(class_scope:Oid)
+    private static final org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid();
+    }
+
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Oid>
+        PARSER = new com.google.protobuf.AbstractParser<Oid>() {
+      @java.lang.Override
+      public Oid parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Oid> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Oid> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SnmpResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SnmpResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.Oid base = 1;</code>
+     * @return Whether the base field is set.
+     */
+    boolean hasBase();
+    /**
+     * <code>.Oid base = 1;</code>
+     * @return The base.
+     */
+    org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid getBase();
+    /**
+     * <code>.Oid base = 1;</code>
+     */
+    org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder getBaseOrBuilder();
+
+    /**
+     * <code>optional .Oid instance = 2;</code>
+     * @return Whether the instance field is set.
+     */
+    boolean hasInstance();
+    /**
+     * <code>optional .Oid instance = 2;</code>
+     * @return The instance.
+     */
+    org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid getInstance();
+    /**
+     * <code>optional .Oid instance = 2;</code>
+     */
+    org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder getInstanceOrBuilder();
+
+    /**
+     * <code>optional .SnmpValue value = 3;</code>
+     * @return Whether the value field is set.
+     */
+    boolean hasValue();
+    /**
+     * <code>optional .SnmpValue value = 3;</code>
+     * @return The value.
+     */
+    org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue getValue();
+    /**
+     * <code>optional .SnmpValue value = 3;</code>
+     */
+    org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValueOrBuilder getValueOrBuilder();
+  }
+  /**
+   * Protobuf type {@code SnmpResult}
+   */
+  public static final class SnmpResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:SnmpResult)
+      SnmpResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SnmpResult.newBuilder() to construct.
+    private SnmpResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SnmpResult() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SnmpResult();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_SnmpResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_SnmpResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.class, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int BASE_FIELD_NUMBER = 1;
+    private org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid base_;
+    /**
+     * <code>.Oid base = 1;</code>
+     * @return Whether the base field is set.
+     */
+    @java.lang.Override
+    public boolean hasBase() {
+      return base_ != null;
+    }
+    /**
+     * <code>.Oid base = 1;</code>
+     * @return The base.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid getBase() {
+      return base_ == null ? org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.getDefaultInstance() : base_;
+    }
+    /**
+     * <code>.Oid base = 1;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder getBaseOrBuilder() {
+      return base_ == null ? org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.getDefaultInstance() : base_;
+    }
+
+    public static final int INSTANCE_FIELD_NUMBER = 2;
+    private org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid instance_;
+    /**
+     * <code>optional .Oid instance = 2;</code>
+     * @return Whether the instance field is set.
+     */
+    @java.lang.Override
+    public boolean hasInstance() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional .Oid instance = 2;</code>
+     * @return The instance.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid getInstance() {
+      return instance_ == null ? org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.getDefaultInstance() : instance_;
+    }
+    /**
+     * <code>optional .Oid instance = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder getInstanceOrBuilder() {
+      return instance_ == null ? org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.getDefaultInstance() : instance_;
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 3;
+    private org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue value_;
+    /**
+     * <code>optional .SnmpValue value = 3;</code>
+     * @return Whether the value field is set.
+     */
+    @java.lang.Override
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional .SnmpValue value = 3;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue getValue() {
+      return value_ == null ? org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.getDefaultInstance() : value_;
+    }
+    /**
+     * <code>optional .SnmpValue value = 3;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValueOrBuilder getValueOrBuilder() {
+      return value_ == null ? org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.getDefaultInstance() : value_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (base_ != null) {
+        output.writeMessage(1, getBase());
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(2, getInstance());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(3, getValue());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (base_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getBase());
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getInstance());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getValue());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult other = (org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult) obj;
+
+      if (hasBase() != other.hasBase()) return false;
+      if (hasBase()) {
+        if (!getBase()
+            .equals(other.getBase())) return false;
+      }
+      if (hasInstance() != other.hasInstance()) return false;
+      if (hasInstance()) {
+        if (!getInstance()
+            .equals(other.getInstance())) return false;
+      }
+      if (hasValue() != other.hasValue()) return false;
+      if (hasValue()) {
+        if (!getValue()
+            .equals(other.getValue())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasBase()) {
+        hash = (37 * hash) + BASE_FIELD_NUMBER;
+        hash = (53 * hash) + getBase().hashCode();
+      }
+      if (hasInstance()) {
+        hash = (37 * hash) + INSTANCE_FIELD_NUMBER;
+        hash = (53 * hash) + getInstance().hashCode();
+      }
+      if (hasValue()) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SnmpResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SnmpResult)
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_SnmpResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_SnmpResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.class, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getBaseFieldBuilder();
+          getInstanceFieldBuilder();
+          getValueFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        base_ = null;
+        if (baseBuilder_ != null) {
+          baseBuilder_.dispose();
+          baseBuilder_ = null;
+        }
+        instance_ = null;
+        if (instanceBuilder_ != null) {
+          instanceBuilder_.dispose();
+          instanceBuilder_ = null;
+        }
+        value_ = null;
+        if (valueBuilder_ != null) {
+          valueBuilder_.dispose();
+          valueBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_SnmpResult_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult getDefaultInstanceForType() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult build() {
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult buildPartial() {
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult result = new org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.base_ = baseBuilder_ == null
+              ? base_
+              : baseBuilder_.build();
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.instance_ = instanceBuilder_ == null
+              ? instance_
+              : instanceBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.value_ = valueBuilder_ == null
+              ? value_
+              : valueBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult) {
+          return mergeFrom((org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult other) {
+        if (other == org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.getDefaultInstance()) return this;
+        if (other.hasBase()) {
+          mergeBase(other.getBase());
+        }
+        if (other.hasInstance()) {
+          mergeInstance(other.getInstance());
+        }
+        if (other.hasValue()) {
+          mergeValue(other.getValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getBaseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getInstanceFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                input.readMessage(
+                    getValueFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid base_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid, org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder> baseBuilder_;
+      /**
+       * <code>.Oid base = 1;</code>
+       * @return Whether the base field is set.
+       */
+      public boolean hasBase() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       * @return The base.
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid getBase() {
+        if (baseBuilder_ == null) {
+          return base_ == null ? org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.getDefaultInstance() : base_;
+        } else {
+          return baseBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      public Builder setBase(org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid value) {
+        if (baseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          base_ = value;
+        } else {
+          baseBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      public Builder setBase(
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.Builder builderForValue) {
+        if (baseBuilder_ == null) {
+          base_ = builderForValue.build();
+        } else {
+          baseBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      public Builder mergeBase(org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid value) {
+        if (baseBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            base_ != null &&
+            base_ != org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.getDefaultInstance()) {
+            getBaseBuilder().mergeFrom(value);
+          } else {
+            base_ = value;
+          }
+        } else {
+          baseBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      public Builder clearBase() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        base_ = null;
+        if (baseBuilder_ != null) {
+          baseBuilder_.dispose();
+          baseBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.Builder getBaseBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getBaseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder getBaseOrBuilder() {
+        if (baseBuilder_ != null) {
+          return baseBuilder_.getMessageOrBuilder();
+        } else {
+          return base_ == null ?
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.getDefaultInstance() : base_;
+        }
+      }
+      /**
+       * <code>.Oid base = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid, org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder> 
+          getBaseFieldBuilder() {
+        if (baseBuilder_ == null) {
+          baseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid, org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder>(
+                  getBase(),
+                  getParentForChildren(),
+                  isClean());
+          base_ = null;
+        }
+        return baseBuilder_;
+      }
+
+      private org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid instance_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid, org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder> instanceBuilder_;
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       * @return Whether the instance field is set.
+       */
+      public boolean hasInstance() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       * @return The instance.
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid getInstance() {
+        if (instanceBuilder_ == null) {
+          return instance_ == null ? org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.getDefaultInstance() : instance_;
+        } else {
+          return instanceBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      public Builder setInstance(org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid value) {
+        if (instanceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          instance_ = value;
+        } else {
+          instanceBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      public Builder setInstance(
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.Builder builderForValue) {
+        if (instanceBuilder_ == null) {
+          instance_ = builderForValue.build();
+        } else {
+          instanceBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      public Builder mergeInstance(org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid value) {
+        if (instanceBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            instance_ != null &&
+            instance_ != org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.getDefaultInstance()) {
+            getInstanceBuilder().mergeFrom(value);
+          } else {
+            instance_ = value;
+          }
+        } else {
+          instanceBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      public Builder clearInstance() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        instance_ = null;
+        if (instanceBuilder_ != null) {
+          instanceBuilder_.dispose();
+          instanceBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.Builder getInstanceBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getInstanceFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder getInstanceOrBuilder() {
+        if (instanceBuilder_ != null) {
+          return instanceBuilder_.getMessageOrBuilder();
+        } else {
+          return instance_ == null ?
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.getDefaultInstance() : instance_;
+        }
+      }
+      /**
+       * <code>optional .Oid instance = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid, org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder> 
+          getInstanceFieldBuilder() {
+        if (instanceBuilder_ == null) {
+          instanceBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid, org.opennms.netmgt.trapd.proto.TrapLogProtos.Oid.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.OidOrBuilder>(
+                  getInstance(),
+                  getParentForChildren(),
+                  isClean());
+          instance_ = null;
+        }
+        return instanceBuilder_;
+      }
+
+      private org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue value_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValueOrBuilder> valueBuilder_;
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       * @return Whether the value field is set.
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       * @return The value.
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue getValue() {
+        if (valueBuilder_ == null) {
+          return value_ == null ? org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.getDefaultInstance() : value_;
+        } else {
+          return valueBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      public Builder setValue(org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue value) {
+        if (valueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+        } else {
+          valueBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      public Builder setValue(
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.Builder builderForValue) {
+        if (valueBuilder_ == null) {
+          value_ = builderForValue.build();
+        } else {
+          valueBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      public Builder mergeValue(org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue value) {
+        if (valueBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0) &&
+            value_ != null &&
+            value_ != org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.getDefaultInstance()) {
+            getValueBuilder().mergeFrom(value);
+          } else {
+            value_ = value;
+          }
+        } else {
+          valueBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        value_ = null;
+        if (valueBuilder_ != null) {
+          valueBuilder_.dispose();
+          valueBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.Builder getValueBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getValueFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValueOrBuilder getValueOrBuilder() {
+        if (valueBuilder_ != null) {
+          return valueBuilder_.getMessageOrBuilder();
+        } else {
+          return value_ == null ?
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.getDefaultInstance() : value_;
+        }
+      }
+      /**
+       * <code>optional .SnmpValue value = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValueOrBuilder> 
+          getValueFieldBuilder() {
+        if (valueBuilder_ == null) {
+          valueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValue.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpValueOrBuilder>(
+                  getValue(),
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        return valueBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:SnmpResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:SnmpResult)
+    private static final org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult();
+    }
+
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SnmpResult>
+        PARSER = new com.google.protobuf.AbstractParser<SnmpResult>() {
+      @java.lang.Override
+      public SnmpResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SnmpResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SnmpResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TrapOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Trap)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional bytes agent_address = 1;</code>
+     * @return Whether the agentAddress field is set.
+     */
+    boolean hasAgentAddress();
+    /**
+     * <code>optional bytes agent_address = 1;</code>
+     * @return The agentAddress.
+     */
+    com.google.protobuf.ByteString getAgentAddress();
+
+    /**
+     * <code>optional string community = 2;</code>
+     * @return Whether the community field is set.
+     */
+    boolean hasCommunity();
+    /**
+     * <code>optional string community = 2;</code>
+     * @return The community.
+     */
+    java.lang.String getCommunity();
+    /**
+     * <code>optional string community = 2;</code>
+     * @return The bytes for community.
+     */
+    com.google.protobuf.ByteString
+        getCommunityBytes();
+
+    /**
+     * <code>optional string version = 3;</code>
+     * @return Whether the version field is set.
+     */
+    boolean hasVersion();
+    /**
+     * <code>optional string version = 3;</code>
+     * @return The version.
+     */
+    java.lang.String getVersion();
+    /**
+     * <code>optional string version = 3;</code>
+     * @return The bytes for version.
+     */
+    com.google.protobuf.ByteString
+        getVersionBytes();
+
+    /**
+     * <code>int64 timestamp = 4;</code>
+     * @return The timestamp.
+     */
+    long getTimestamp();
+
+    /**
+     * <code>int32 pdu_length = 5;</code>
+     * @return The pduLength.
+     */
+    int getPduLength();
+
+    /**
+     * <code>int64 creation_time = 6;</code>
+     * @return The creationTime.
+     */
+    long getCreationTime();
+
+    /**
+     * <code>optional bytes raw_message = 7;</code>
+     * @return Whether the rawMessage field is set.
+     */
+    boolean hasRawMessage();
+    /**
+     * <code>optional bytes raw_message = 7;</code>
+     * @return The rawMessage.
+     */
+    com.google.protobuf.ByteString getRawMessage();
+
+    /**
+     * <code>optional .TrapIdentity trap_identity = 8;</code>
+     * @return Whether the trapIdentity field is set.
+     */
+    boolean hasTrapIdentity();
+    /**
+     * <code>optional .TrapIdentity trap_identity = 8;</code>
+     * @return The trapIdentity.
+     */
+    org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity getTrapIdentity();
+    /**
+     * <code>optional .TrapIdentity trap_identity = 8;</code>
+     */
+    org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentityOrBuilder getTrapIdentityOrBuilder();
+
+    /**
+     * <code>repeated .SnmpResult results = 9;</code>
+     */
+    java.util.List<org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult> 
+        getResultsList();
+    /**
+     * <code>repeated .SnmpResult results = 9;</code>
+     */
+    org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult getResults(int index);
+    /**
+     * <code>repeated .SnmpResult results = 9;</code>
+     */
+    int getResultsCount();
+    /**
+     * <code>repeated .SnmpResult results = 9;</code>
+     */
+    java.util.List<? extends org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResultOrBuilder> 
+        getResultsOrBuilderList();
+    /**
+     * <code>repeated .SnmpResult results = 9;</code>
+     */
+    org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResultOrBuilder getResultsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code Trap}
+   */
+  public static final class Trap extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Trap)
+      TrapOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Trap.newBuilder() to construct.
+    private Trap(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Trap() {
+      agentAddress_ = com.google.protobuf.ByteString.EMPTY;
+      community_ = "";
+      version_ = "";
+      rawMessage_ = com.google.protobuf.ByteString.EMPTY;
+      results_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Trap();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_Trap_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_Trap_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.class, org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int AGENT_ADDRESS_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString agentAddress_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes agent_address = 1;</code>
+     * @return Whether the agentAddress field is set.
+     */
+    @java.lang.Override
+    public boolean hasAgentAddress() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional bytes agent_address = 1;</code>
+     * @return The agentAddress.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getAgentAddress() {
+      return agentAddress_;
+    }
+
+    public static final int COMMUNITY_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object community_ = "";
+    /**
+     * <code>optional string community = 2;</code>
+     * @return Whether the community field is set.
+     */
+    @java.lang.Override
+    public boolean hasCommunity() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string community = 2;</code>
+     * @return The community.
+     */
+    @java.lang.Override
+    public java.lang.String getCommunity() {
+      java.lang.Object ref = community_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        community_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string community = 2;</code>
+     * @return The bytes for community.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCommunityBytes() {
+      java.lang.Object ref = community_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        community_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object version_ = "";
+    /**
+     * <code>optional string version = 3;</code>
+     * @return Whether the version field is set.
+     */
+    @java.lang.Override
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string version = 3;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string version = 3;</code>
+     * @return The bytes for version.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 4;
+    private long timestamp_ = 0L;
+    /**
+     * <code>int64 timestamp = 4;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    public static final int PDU_LENGTH_FIELD_NUMBER = 5;
+    private int pduLength_ = 0;
+    /**
+     * <code>int32 pdu_length = 5;</code>
+     * @return The pduLength.
+     */
+    @java.lang.Override
+    public int getPduLength() {
+      return pduLength_;
+    }
+
+    public static final int CREATION_TIME_FIELD_NUMBER = 6;
+    private long creationTime_ = 0L;
+    /**
+     * <code>int64 creation_time = 6;</code>
+     * @return The creationTime.
+     */
+    @java.lang.Override
+    public long getCreationTime() {
+      return creationTime_;
+    }
+
+    public static final int RAW_MESSAGE_FIELD_NUMBER = 7;
+    private com.google.protobuf.ByteString rawMessage_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes raw_message = 7;</code>
+     * @return Whether the rawMessage field is set.
+     */
+    @java.lang.Override
+    public boolean hasRawMessage() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional bytes raw_message = 7;</code>
+     * @return The rawMessage.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getRawMessage() {
+      return rawMessage_;
+    }
+
+    public static final int TRAP_IDENTITY_FIELD_NUMBER = 8;
+    private org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity trapIdentity_;
+    /**
+     * <code>optional .TrapIdentity trap_identity = 8;</code>
+     * @return Whether the trapIdentity field is set.
+     */
+    @java.lang.Override
+    public boolean hasTrapIdentity() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional .TrapIdentity trap_identity = 8;</code>
+     * @return The trapIdentity.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity getTrapIdentity() {
+      return trapIdentity_ == null ? org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.getDefaultInstance() : trapIdentity_;
+    }
+    /**
+     * <code>optional .TrapIdentity trap_identity = 8;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentityOrBuilder getTrapIdentityOrBuilder() {
+      return trapIdentity_ == null ? org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.getDefaultInstance() : trapIdentity_;
+    }
+
+    public static final int RESULTS_FIELD_NUMBER = 9;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult> results_;
+    /**
+     * <code>repeated .SnmpResult results = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult> getResultsList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .SnmpResult results = 9;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResultOrBuilder> 
+        getResultsOrBuilderList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .SnmpResult results = 9;</code>
+     */
+    @java.lang.Override
+    public int getResultsCount() {
+      return results_.size();
+    }
+    /**
+     * <code>repeated .SnmpResult results = 9;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult getResults(int index) {
+      return results_.get(index);
+    }
+    /**
+     * <code>repeated .SnmpResult results = 9;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResultOrBuilder getResultsOrBuilder(
+        int index) {
+      return results_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeBytes(1, agentAddress_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, community_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, version_);
+      }
+      if (timestamp_ != 0L) {
+        output.writeInt64(4, timestamp_);
+      }
+      if (pduLength_ != 0) {
+        output.writeInt32(5, pduLength_);
+      }
+      if (creationTime_ != 0L) {
+        output.writeInt64(6, creationTime_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeBytes(7, rawMessage_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeMessage(8, getTrapIdentity());
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        output.writeMessage(9, results_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, agentAddress_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, community_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, version_);
+      }
+      if (timestamp_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, timestamp_);
+      }
+      if (pduLength_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, pduLength_);
+      }
+      if (creationTime_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, creationTime_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, rawMessage_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, getTrapIdentity());
+      }
+      for (int i = 0; i < results_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, results_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap other = (org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap) obj;
+
+      if (hasAgentAddress() != other.hasAgentAddress()) return false;
+      if (hasAgentAddress()) {
+        if (!getAgentAddress()
+            .equals(other.getAgentAddress())) return false;
+      }
+      if (hasCommunity() != other.hasCommunity()) return false;
+      if (hasCommunity()) {
+        if (!getCommunity()
+            .equals(other.getCommunity())) return false;
+      }
+      if (hasVersion() != other.hasVersion()) return false;
+      if (hasVersion()) {
+        if (!getVersion()
+            .equals(other.getVersion())) return false;
+      }
+      if (getTimestamp()
+          != other.getTimestamp()) return false;
+      if (getPduLength()
+          != other.getPduLength()) return false;
+      if (getCreationTime()
+          != other.getCreationTime()) return false;
+      if (hasRawMessage() != other.hasRawMessage()) return false;
+      if (hasRawMessage()) {
+        if (!getRawMessage()
+            .equals(other.getRawMessage())) return false;
+      }
+      if (hasTrapIdentity() != other.hasTrapIdentity()) return false;
+      if (hasTrapIdentity()) {
+        if (!getTrapIdentity()
+            .equals(other.getTrapIdentity())) return false;
+      }
+      if (!getResultsList()
+          .equals(other.getResultsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAgentAddress()) {
+        hash = (37 * hash) + AGENT_ADDRESS_FIELD_NUMBER;
+        hash = (53 * hash) + getAgentAddress().hashCode();
+      }
+      if (hasCommunity()) {
+        hash = (37 * hash) + COMMUNITY_FIELD_NUMBER;
+        hash = (53 * hash) + getCommunity().hashCode();
+      }
+      if (hasVersion()) {
+        hash = (37 * hash) + VERSION_FIELD_NUMBER;
+        hash = (53 * hash) + getVersion().hashCode();
+      }
+      hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimestamp());
+      hash = (37 * hash) + PDU_LENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + getPduLength();
+      hash = (37 * hash) + CREATION_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getCreationTime());
+      if (hasRawMessage()) {
+        hash = (37 * hash) + RAW_MESSAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getRawMessage().hashCode();
+      }
+      if (hasTrapIdentity()) {
+        hash = (37 * hash) + TRAP_IDENTITY_FIELD_NUMBER;
+        hash = (53 * hash) + getTrapIdentity().hashCode();
+      }
+      if (getResultsCount() > 0) {
+        hash = (37 * hash) + RESULTS_FIELD_NUMBER;
+        hash = (53 * hash) + getResultsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Trap}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Trap)
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_Trap_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_Trap_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.class, org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getTrapIdentityFieldBuilder();
+          getResultsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        agentAddress_ = com.google.protobuf.ByteString.EMPTY;
+        community_ = "";
+        version_ = "";
+        timestamp_ = 0L;
+        pduLength_ = 0;
+        creationTime_ = 0L;
+        rawMessage_ = com.google.protobuf.ByteString.EMPTY;
+        trapIdentity_ = null;
+        if (trapIdentityBuilder_ != null) {
+          trapIdentityBuilder_.dispose();
+          trapIdentityBuilder_ = null;
+        }
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+        } else {
+          results_ = null;
+          resultsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000100);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_Trap_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap getDefaultInstanceForType() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap build() {
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap buildPartial() {
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap result = new org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap result) {
+        if (resultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000100) != 0)) {
+            results_ = java.util.Collections.unmodifiableList(results_);
+            bitField0_ = (bitField0_ & ~0x00000100);
+          }
+          result.results_ = results_;
+        } else {
+          result.results_ = resultsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.agentAddress_ = agentAddress_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.community_ = community_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.version_ = version_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.timestamp_ = timestamp_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.pduLength_ = pduLength_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.creationTime_ = creationTime_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.rawMessage_ = rawMessage_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.trapIdentity_ = trapIdentityBuilder_ == null
+              ? trapIdentity_
+              : trapIdentityBuilder_.build();
+          to_bitField0_ |= 0x00000010;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap) {
+          return mergeFrom((org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap other) {
+        if (other == org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.getDefaultInstance()) return this;
+        if (other.hasAgentAddress()) {
+          setAgentAddress(other.getAgentAddress());
+        }
+        if (other.hasCommunity()) {
+          community_ = other.community_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasVersion()) {
+          version_ = other.version_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.getTimestamp() != 0L) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (other.getPduLength() != 0) {
+          setPduLength(other.getPduLength());
+        }
+        if (other.getCreationTime() != 0L) {
+          setCreationTime(other.getCreationTime());
+        }
+        if (other.hasRawMessage()) {
+          setRawMessage(other.getRawMessage());
+        }
+        if (other.hasTrapIdentity()) {
+          mergeTrapIdentity(other.getTrapIdentity());
+        }
+        if (resultsBuilder_ == null) {
+          if (!other.results_.isEmpty()) {
+            if (results_.isEmpty()) {
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+            } else {
+              ensureResultsIsMutable();
+              results_.addAll(other.results_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.results_.isEmpty()) {
+            if (resultsBuilder_.isEmpty()) {
+              resultsBuilder_.dispose();
+              resultsBuilder_ = null;
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000100);
+              resultsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getResultsFieldBuilder() : null;
+            } else {
+              resultsBuilder_.addAllMessages(other.results_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                agentAddress_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                community_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                version_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                timestamp_ = input.readInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                pduLength_ = input.readInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                creationTime_ = input.readInt64();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 58: {
+                rawMessage_ = input.readBytes();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 66: {
+                input.readMessage(
+                    getTrapIdentityFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              case 74: {
+                org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult m =
+                    input.readMessage(
+                        org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.parser(),
+                        extensionRegistry);
+                if (resultsBuilder_ == null) {
+                  ensureResultsIsMutable();
+                  results_.add(m);
+                } else {
+                  resultsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 74
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString agentAddress_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes agent_address = 1;</code>
+       * @return Whether the agentAddress field is set.
+       */
+      @java.lang.Override
+      public boolean hasAgentAddress() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional bytes agent_address = 1;</code>
+       * @return The agentAddress.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getAgentAddress() {
+        return agentAddress_;
+      }
+      /**
+       * <code>optional bytes agent_address = 1;</code>
+       * @param value The agentAddress to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAgentAddress(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        agentAddress_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes agent_address = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAgentAddress() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        agentAddress_ = getDefaultInstance().getAgentAddress();
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object community_ = "";
+      /**
+       * <code>optional string community = 2;</code>
+       * @return Whether the community field is set.
+       */
+      public boolean hasCommunity() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string community = 2;</code>
+       * @return The community.
+       */
+      public java.lang.String getCommunity() {
+        java.lang.Object ref = community_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          community_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string community = 2;</code>
+       * @return The bytes for community.
+       */
+      public com.google.protobuf.ByteString
+          getCommunityBytes() {
+        java.lang.Object ref = community_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          community_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string community = 2;</code>
+       * @param value The community to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommunity(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        community_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string community = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCommunity() {
+        community_ = getDefaultInstance().getCommunity();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string community = 2;</code>
+       * @param value The bytes for community to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommunityBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        community_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object version_ = "";
+      /**
+       * <code>optional string version = 3;</code>
+       * @return Whether the version field is set.
+       */
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string version = 3;</code>
+       * @return The version.
+       */
+      public java.lang.String getVersion() {
+        java.lang.Object ref = version_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          version_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string version = 3;</code>
+       * @return The bytes for version.
+       */
+      public com.google.protobuf.ByteString
+          getVersionBytes() {
+        java.lang.Object ref = version_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          version_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string version = 3;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        version_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string version = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        version_ = getDefaultInstance().getVersion();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string version = 3;</code>
+       * @param value The bytes for version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        version_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>int64 timestamp = 4;</code>
+       * @return The timestamp.
+       */
+      @java.lang.Override
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>int64 timestamp = 4;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(long value) {
+
+        timestamp_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 timestamp = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int pduLength_ ;
+      /**
+       * <code>int32 pdu_length = 5;</code>
+       * @return The pduLength.
+       */
+      @java.lang.Override
+      public int getPduLength() {
+        return pduLength_;
+      }
+      /**
+       * <code>int32 pdu_length = 5;</code>
+       * @param value The pduLength to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPduLength(int value) {
+
+        pduLength_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 pdu_length = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPduLength() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        pduLength_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long creationTime_ ;
+      /**
+       * <code>int64 creation_time = 6;</code>
+       * @return The creationTime.
+       */
+      @java.lang.Override
+      public long getCreationTime() {
+        return creationTime_;
+      }
+      /**
+       * <code>int64 creation_time = 6;</code>
+       * @param value The creationTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCreationTime(long value) {
+
+        creationTime_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 creation_time = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCreationTime() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        creationTime_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString rawMessage_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes raw_message = 7;</code>
+       * @return Whether the rawMessage field is set.
+       */
+      @java.lang.Override
+      public boolean hasRawMessage() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional bytes raw_message = 7;</code>
+       * @return The rawMessage.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getRawMessage() {
+        return rawMessage_;
+      }
+      /**
+       * <code>optional bytes raw_message = 7;</code>
+       * @param value The rawMessage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRawMessage(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        rawMessage_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes raw_message = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRawMessage() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        rawMessage_ = getDefaultInstance().getRawMessage();
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity trapIdentity_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentityOrBuilder> trapIdentityBuilder_;
+      /**
+       * <code>optional .TrapIdentity trap_identity = 8;</code>
+       * @return Whether the trapIdentity field is set.
+       */
+      public boolean hasTrapIdentity() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional .TrapIdentity trap_identity = 8;</code>
+       * @return The trapIdentity.
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity getTrapIdentity() {
+        if (trapIdentityBuilder_ == null) {
+          return trapIdentity_ == null ? org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.getDefaultInstance() : trapIdentity_;
+        } else {
+          return trapIdentityBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .TrapIdentity trap_identity = 8;</code>
+       */
+      public Builder setTrapIdentity(org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity value) {
+        if (trapIdentityBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          trapIdentity_ = value;
+        } else {
+          trapIdentityBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .TrapIdentity trap_identity = 8;</code>
+       */
+      public Builder setTrapIdentity(
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.Builder builderForValue) {
+        if (trapIdentityBuilder_ == null) {
+          trapIdentity_ = builderForValue.build();
+        } else {
+          trapIdentityBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .TrapIdentity trap_identity = 8;</code>
+       */
+      public Builder mergeTrapIdentity(org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity value) {
+        if (trapIdentityBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0) &&
+            trapIdentity_ != null &&
+            trapIdentity_ != org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.getDefaultInstance()) {
+            getTrapIdentityBuilder().mergeFrom(value);
+          } else {
+            trapIdentity_ = value;
+          }
+        } else {
+          trapIdentityBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .TrapIdentity trap_identity = 8;</code>
+       */
+      public Builder clearTrapIdentity() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        trapIdentity_ = null;
+        if (trapIdentityBuilder_ != null) {
+          trapIdentityBuilder_.dispose();
+          trapIdentityBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .TrapIdentity trap_identity = 8;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.Builder getTrapIdentityBuilder() {
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return getTrapIdentityFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .TrapIdentity trap_identity = 8;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentityOrBuilder getTrapIdentityOrBuilder() {
+        if (trapIdentityBuilder_ != null) {
+          return trapIdentityBuilder_.getMessageOrBuilder();
+        } else {
+          return trapIdentity_ == null ?
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.getDefaultInstance() : trapIdentity_;
+        }
+      }
+      /**
+       * <code>optional .TrapIdentity trap_identity = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentityOrBuilder> 
+          getTrapIdentityFieldBuilder() {
+        if (trapIdentityBuilder_ == null) {
+          trapIdentityBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentity.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapIdentityOrBuilder>(
+                  getTrapIdentity(),
+                  getParentForChildren(),
+                  isClean());
+          trapIdentity_ = null;
+        }
+        return trapIdentityBuilder_;
+      }
+
+      private java.util.List<org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult> results_ =
+        java.util.Collections.emptyList();
+      private void ensureResultsIsMutable() {
+        if (!((bitField0_ & 0x00000100) != 0)) {
+          results_ = new java.util.ArrayList<org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult>(results_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResultOrBuilder> resultsBuilder_;
+
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public java.util.List<org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult> getResultsList() {
+        if (resultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(results_);
+        } else {
+          return resultsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public int getResultsCount() {
+        if (resultsBuilder_ == null) {
+          return results_.size();
+        } else {
+          return resultsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult getResults(int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);
+        } else {
+          return resultsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public Builder setResults(
+          int index, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.set(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public Builder setResults(
+          int index, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public Builder addResults(org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public Builder addResults(
+          int index, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public Builder addResults(
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public Builder addResults(
+          int index, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public Builder addAllResults(
+          java.lang.Iterable<? extends org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult> values) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, results_);
+          onChanged();
+        } else {
+          resultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public Builder clearResults() {
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
+          onChanged();
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public Builder removeResults(int index) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.remove(index);
+          onChanged();
+        } else {
+          resultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.Builder getResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResultOrBuilder getResultsOrBuilder(
+          int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);  } else {
+          return resultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public java.util.List<? extends org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResultOrBuilder> 
+           getResultsOrBuilderList() {
+        if (resultsBuilder_ != null) {
+          return resultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(results_);
+        }
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.Builder addResultsBuilder() {
+        return getResultsFieldBuilder().addBuilder(
+            org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.Builder addResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().addBuilder(
+            index, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SnmpResult results = 9;</code>
+       */
+      public java.util.List<org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.Builder> 
+           getResultsBuilderList() {
+        return getResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResultOrBuilder> 
+          getResultsFieldBuilder() {
+        if (resultsBuilder_ == null) {
+          resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResult.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.SnmpResultOrBuilder>(
+                  results_,
+                  ((bitField0_ & 0x00000100) != 0),
+                  getParentForChildren(),
+                  isClean());
+          results_ = null;
+        }
+        return resultsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Trap)
+    }
+
+    // @@protoc_insertion_point(class_scope:Trap)
+    private static final org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap();
+    }
+
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Trap>
+        PARSER = new com.google.protobuf.AbstractParser<Trap>() {
+      @java.lang.Override
+      public Trap parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Trap> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Trap> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TrapLogOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:TrapLog)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string system_id = 1;</code>
+     * @return Whether the systemId field is set.
+     */
+    boolean hasSystemId();
+    /**
+     * <code>optional string system_id = 1;</code>
+     * @return The systemId.
+     */
+    java.lang.String getSystemId();
+    /**
+     * <code>optional string system_id = 1;</code>
+     * @return The bytes for systemId.
+     */
+    com.google.protobuf.ByteString
+        getSystemIdBytes();
+
+    /**
+     * <code>optional string location = 2;</code>
+     * @return Whether the location field is set.
+     */
+    boolean hasLocation();
+    /**
+     * <code>optional string location = 2;</code>
+     * @return The location.
+     */
+    java.lang.String getLocation();
+    /**
+     * <code>optional string location = 2;</code>
+     * @return The bytes for location.
+     */
+    com.google.protobuf.ByteString
+        getLocationBytes();
+
+    /**
+     * <code>optional bytes trap_address = 3;</code>
+     * @return Whether the trapAddress field is set.
+     */
+    boolean hasTrapAddress();
+    /**
+     * <code>optional bytes trap_address = 3;</code>
+     * @return The trapAddress.
+     */
+    com.google.protobuf.ByteString getTrapAddress();
+
+    /**
+     * <code>repeated .Trap messages = 4;</code>
+     */
+    java.util.List<org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap> 
+        getMessagesList();
+    /**
+     * <code>repeated .Trap messages = 4;</code>
+     */
+    org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap getMessages(int index);
+    /**
+     * <code>repeated .Trap messages = 4;</code>
+     */
+    int getMessagesCount();
+    /**
+     * <code>repeated .Trap messages = 4;</code>
+     */
+    java.util.List<? extends org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapOrBuilder> 
+        getMessagesOrBuilderList();
+    /**
+     * <code>repeated .Trap messages = 4;</code>
+     */
+    org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapOrBuilder getMessagesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code TrapLog}
+   */
+  public static final class TrapLog extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:TrapLog)
+      TrapLogOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TrapLog.newBuilder() to construct.
+    private TrapLog(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TrapLog() {
+      systemId_ = "";
+      location_ = "";
+      trapAddress_ = com.google.protobuf.ByteString.EMPTY;
+      messages_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TrapLog();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_TrapLog_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_TrapLog_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog.class, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SYSTEM_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object systemId_ = "";
+    /**
+     * <code>optional string system_id = 1;</code>
+     * @return Whether the systemId field is set.
+     */
+    @java.lang.Override
+    public boolean hasSystemId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string system_id = 1;</code>
+     * @return The systemId.
+     */
+    @java.lang.Override
+    public java.lang.String getSystemId() {
+      java.lang.Object ref = systemId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        systemId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string system_id = 1;</code>
+     * @return The bytes for systemId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSystemIdBytes() {
+      java.lang.Object ref = systemId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        systemId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOCATION_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object location_ = "";
+    /**
+     * <code>optional string location = 2;</code>
+     * @return Whether the location field is set.
+     */
+    @java.lang.Override
+    public boolean hasLocation() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string location = 2;</code>
+     * @return The location.
+     */
+    @java.lang.Override
+    public java.lang.String getLocation() {
+      java.lang.Object ref = location_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        location_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string location = 2;</code>
+     * @return The bytes for location.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLocationBytes() {
+      java.lang.Object ref = location_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        location_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRAP_ADDRESS_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString trapAddress_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes trap_address = 3;</code>
+     * @return Whether the trapAddress field is set.
+     */
+    @java.lang.Override
+    public boolean hasTrapAddress() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional bytes trap_address = 3;</code>
+     * @return The trapAddress.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getTrapAddress() {
+      return trapAddress_;
+    }
+
+    public static final int MESSAGES_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap> messages_;
+    /**
+     * <code>repeated .Trap messages = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap> getMessagesList() {
+      return messages_;
+    }
+    /**
+     * <code>repeated .Trap messages = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapOrBuilder> 
+        getMessagesOrBuilderList() {
+      return messages_;
+    }
+    /**
+     * <code>repeated .Trap messages = 4;</code>
+     */
+    @java.lang.Override
+    public int getMessagesCount() {
+      return messages_.size();
+    }
+    /**
+     * <code>repeated .Trap messages = 4;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap getMessages(int index) {
+      return messages_.get(index);
+    }
+    /**
+     * <code>repeated .Trap messages = 4;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapOrBuilder getMessagesOrBuilder(
+        int index) {
+      return messages_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, systemId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, location_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeBytes(3, trapAddress_);
+      }
+      for (int i = 0; i < messages_.size(); i++) {
+        output.writeMessage(4, messages_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, systemId_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, location_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, trapAddress_);
+      }
+      for (int i = 0; i < messages_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, messages_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog other = (org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog) obj;
+
+      if (hasSystemId() != other.hasSystemId()) return false;
+      if (hasSystemId()) {
+        if (!getSystemId()
+            .equals(other.getSystemId())) return false;
+      }
+      if (hasLocation() != other.hasLocation()) return false;
+      if (hasLocation()) {
+        if (!getLocation()
+            .equals(other.getLocation())) return false;
+      }
+      if (hasTrapAddress() != other.hasTrapAddress()) return false;
+      if (hasTrapAddress()) {
+        if (!getTrapAddress()
+            .equals(other.getTrapAddress())) return false;
+      }
+      if (!getMessagesList()
+          .equals(other.getMessagesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSystemId()) {
+        hash = (37 * hash) + SYSTEM_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getSystemId().hashCode();
+      }
+      if (hasLocation()) {
+        hash = (37 * hash) + LOCATION_FIELD_NUMBER;
+        hash = (53 * hash) + getLocation().hashCode();
+      }
+      if (hasTrapAddress()) {
+        hash = (37 * hash) + TRAP_ADDRESS_FIELD_NUMBER;
+        hash = (53 * hash) + getTrapAddress().hashCode();
+      }
+      if (getMessagesCount() > 0) {
+        hash = (37 * hash) + MESSAGES_FIELD_NUMBER;
+        hash = (53 * hash) + getMessagesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code TrapLog}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:TrapLog)
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLogOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_TrapLog_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_TrapLog_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog.class, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        systemId_ = "";
+        location_ = "";
+        trapAddress_ = com.google.protobuf.ByteString.EMPTY;
+        if (messagesBuilder_ == null) {
+          messages_ = java.util.Collections.emptyList();
+        } else {
+          messages_ = null;
+          messagesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.internal_static_TrapLog_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog getDefaultInstanceForType() {
+        return org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog build() {
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog buildPartial() {
+        org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog result = new org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog result) {
+        if (messagesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            messages_ = java.util.Collections.unmodifiableList(messages_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.messages_ = messages_;
+        } else {
+          result.messages_ = messagesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.systemId_ = systemId_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.location_ = location_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.trapAddress_ = trapAddress_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog) {
+          return mergeFrom((org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog other) {
+        if (other == org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog.getDefaultInstance()) return this;
+        if (other.hasSystemId()) {
+          systemId_ = other.systemId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasLocation()) {
+          location_ = other.location_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasTrapAddress()) {
+          setTrapAddress(other.getTrapAddress());
+        }
+        if (messagesBuilder_ == null) {
+          if (!other.messages_.isEmpty()) {
+            if (messages_.isEmpty()) {
+              messages_ = other.messages_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureMessagesIsMutable();
+              messages_.addAll(other.messages_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.messages_.isEmpty()) {
+            if (messagesBuilder_.isEmpty()) {
+              messagesBuilder_.dispose();
+              messagesBuilder_ = null;
+              messages_ = other.messages_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              messagesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getMessagesFieldBuilder() : null;
+            } else {
+              messagesBuilder_.addAllMessages(other.messages_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                systemId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                location_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                trapAddress_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap m =
+                    input.readMessage(
+                        org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.parser(),
+                        extensionRegistry);
+                if (messagesBuilder_ == null) {
+                  ensureMessagesIsMutable();
+                  messages_.add(m);
+                } else {
+                  messagesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object systemId_ = "";
+      /**
+       * <code>optional string system_id = 1;</code>
+       * @return Whether the systemId field is set.
+       */
+      public boolean hasSystemId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string system_id = 1;</code>
+       * @return The systemId.
+       */
+      public java.lang.String getSystemId() {
+        java.lang.Object ref = systemId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          systemId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string system_id = 1;</code>
+       * @return The bytes for systemId.
+       */
+      public com.google.protobuf.ByteString
+          getSystemIdBytes() {
+        java.lang.Object ref = systemId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          systemId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string system_id = 1;</code>
+       * @param value The systemId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSystemId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        systemId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string system_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSystemId() {
+        systemId_ = getDefaultInstance().getSystemId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string system_id = 1;</code>
+       * @param value The bytes for systemId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSystemIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        systemId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object location_ = "";
+      /**
+       * <code>optional string location = 2;</code>
+       * @return Whether the location field is set.
+       */
+      public boolean hasLocation() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string location = 2;</code>
+       * @return The location.
+       */
+      public java.lang.String getLocation() {
+        java.lang.Object ref = location_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          location_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string location = 2;</code>
+       * @return The bytes for location.
+       */
+      public com.google.protobuf.ByteString
+          getLocationBytes() {
+        java.lang.Object ref = location_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          location_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string location = 2;</code>
+       * @param value The location to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLocation(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        location_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string location = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLocation() {
+        location_ = getDefaultInstance().getLocation();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string location = 2;</code>
+       * @param value The bytes for location to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLocationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        location_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString trapAddress_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes trap_address = 3;</code>
+       * @return Whether the trapAddress field is set.
+       */
+      @java.lang.Override
+      public boolean hasTrapAddress() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional bytes trap_address = 3;</code>
+       * @return The trapAddress.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getTrapAddress() {
+        return trapAddress_;
+      }
+      /**
+       * <code>optional bytes trap_address = 3;</code>
+       * @param value The trapAddress to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTrapAddress(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        trapAddress_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes trap_address = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTrapAddress() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        trapAddress_ = getDefaultInstance().getTrapAddress();
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap> messages_ =
+        java.util.Collections.emptyList();
+      private void ensureMessagesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          messages_ = new java.util.ArrayList<org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap>(messages_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap, org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapOrBuilder> messagesBuilder_;
+
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public java.util.List<org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap> getMessagesList() {
+        if (messagesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(messages_);
+        } else {
+          return messagesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public int getMessagesCount() {
+        if (messagesBuilder_ == null) {
+          return messages_.size();
+        } else {
+          return messagesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap getMessages(int index) {
+        if (messagesBuilder_ == null) {
+          return messages_.get(index);
+        } else {
+          return messagesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public Builder setMessages(
+          int index, org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap value) {
+        if (messagesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMessagesIsMutable();
+          messages_.set(index, value);
+          onChanged();
+        } else {
+          messagesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public Builder setMessages(
+          int index, org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.Builder builderForValue) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          messagesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public Builder addMessages(org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap value) {
+        if (messagesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMessagesIsMutable();
+          messages_.add(value);
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public Builder addMessages(
+          int index, org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap value) {
+        if (messagesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMessagesIsMutable();
+          messages_.add(index, value);
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public Builder addMessages(
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.Builder builderForValue) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.add(builderForValue.build());
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public Builder addMessages(
+          int index, org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.Builder builderForValue) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public Builder addAllMessages(
+          java.lang.Iterable<? extends org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap> values) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, messages_);
+          onChanged();
+        } else {
+          messagesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public Builder clearMessages() {
+        if (messagesBuilder_ == null) {
+          messages_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          messagesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public Builder removeMessages(int index) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.remove(index);
+          onChanged();
+        } else {
+          messagesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.Builder getMessagesBuilder(
+          int index) {
+        return getMessagesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapOrBuilder getMessagesOrBuilder(
+          int index) {
+        if (messagesBuilder_ == null) {
+          return messages_.get(index);  } else {
+          return messagesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public java.util.List<? extends org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapOrBuilder> 
+           getMessagesOrBuilderList() {
+        if (messagesBuilder_ != null) {
+          return messagesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(messages_);
+        }
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.Builder addMessagesBuilder() {
+        return getMessagesFieldBuilder().addBuilder(
+            org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.Builder addMessagesBuilder(
+          int index) {
+        return getMessagesFieldBuilder().addBuilder(
+            index, org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Trap messages = 4;</code>
+       */
+      public java.util.List<org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.Builder> 
+           getMessagesBuilderList() {
+        return getMessagesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap, org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapOrBuilder> 
+          getMessagesFieldBuilder() {
+        if (messagesBuilder_ == null) {
+          messagesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap, org.opennms.netmgt.trapd.proto.TrapLogProtos.Trap.Builder, org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapOrBuilder>(
+                  messages_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          messages_ = null;
+        }
+        return messagesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:TrapLog)
+    }
+
+    // @@protoc_insertion_point(class_scope:TrapLog)
+    private static final org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog();
+    }
+
+    public static org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TrapLog>
+        PARSER = new com.google.protobuf.AbstractParser<TrapLog>() {
+      @java.lang.Override
+      public TrapLog parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TrapLog> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TrapLog> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.trapd.proto.TrapLogProtos.TrapLog getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TrapIdentity_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TrapIdentity_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SnmpValue_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SnmpValue_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Oid_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Oid_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SnmpResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SnmpResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Trap_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Trap_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_TrapLog_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_TrapLog_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\016trap-log.proto\"\203\001\n\014TrapIdentity\022\017\n\007gen" +
+      "eric\030\001 \001(\005\022\020\n\010specific\030\002 \001(\005\022\032\n\renterpri" +
+      "se_id\030\003 \001(\tH\000\210\001\001\022\025\n\010trap_oid\030\004 \001(\tH\001\210\001\001B" +
+      "\020\n\016_enterprise_idB\013\n\t_trap_oid\"(\n\tSnmpVa" +
+      "lue\022\014\n\004type\030\001 \001(\005\022\r\n\005bytes\030\002 \001(\014\"\022\n\003Oid\022" +
+      "\013\n\003ids\030\001 \003(\r\"t\n\nSnmpResult\022\022\n\004base\030\001 \001(\013" +
+      "2\004.Oid\022\033\n\010instance\030\002 \001(\0132\004.OidH\000\210\001\001\022\036\n\005v" +
+      "alue\030\003 \001(\0132\n.SnmpValueH\001\210\001\001B\013\n\t_instance" +
+      "B\010\n\006_value\"\277\002\n\004Trap\022\032\n\ragent_address\030\001 \001" +
+      "(\014H\000\210\001\001\022\026\n\tcommunity\030\002 \001(\tH\001\210\001\001\022\024\n\007versi" +
+      "on\030\003 \001(\tH\002\210\001\001\022\021\n\ttimestamp\030\004 \001(\003\022\022\n\npdu_" +
+      "length\030\005 \001(\005\022\025\n\rcreation_time\030\006 \001(\003\022\030\n\013r" +
+      "aw_message\030\007 \001(\014H\003\210\001\001\022)\n\rtrap_identity\030\010" +
+      " \001(\0132\r.TrapIdentityH\004\210\001\001\022\034\n\007results\030\t \003(" +
+      "\0132\013.SnmpResultB\020\n\016_agent_addressB\014\n\n_com" +
+      "munityB\n\n\010_versionB\016\n\014_raw_messageB\020\n\016_t" +
+      "rap_identity\"\230\001\n\007TrapLog\022\026\n\tsystem_id\030\001 " +
+      "\001(\tH\000\210\001\001\022\025\n\010location\030\002 \001(\tH\001\210\001\001\022\031\n\014trap_" +
+      "address\030\003 \001(\014H\002\210\001\001\022\027\n\010messages\030\004 \003(\0132\005.T" +
+      "rapB\014\n\n_system_idB\013\n\t_locationB\017\n\r_trap_" +
+      "addressB/\n\036org.opennms.netmgt.trapd.prot" +
+      "oB\rTrapLogProtosb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_TrapIdentity_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_TrapIdentity_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TrapIdentity_descriptor,
+        new java.lang.String[] { "Generic", "Specific", "EnterpriseId", "TrapOid", "EnterpriseId", "TrapOid", });
+    internal_static_SnmpValue_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_SnmpValue_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SnmpValue_descriptor,
+        new java.lang.String[] { "Type", "Bytes", });
+    internal_static_Oid_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_Oid_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Oid_descriptor,
+        new java.lang.String[] { "Ids", });
+    internal_static_SnmpResult_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_SnmpResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SnmpResult_descriptor,
+        new java.lang.String[] { "Base", "Instance", "Value", "Instance", "Value", });
+    internal_static_Trap_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_Trap_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Trap_descriptor,
+        new java.lang.String[] { "AgentAddress", "Community", "Version", "Timestamp", "PduLength", "CreationTime", "RawMessage", "TrapIdentity", "Results", "AgentAddress", "Community", "Version", "RawMessage", "TrapIdentity", });
+    internal_static_TrapLog_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_TrapLog_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_TrapLog_descriptor,
+        new java.lang.String[] { "SystemId", "Location", "TrapAddress", "Messages", "SystemId", "Location", "TrapAddress", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
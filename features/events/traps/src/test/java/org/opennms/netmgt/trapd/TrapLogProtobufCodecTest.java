@@ -0,0 +1,153 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.trapd;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opennms.core.ipc.sink.xml.AbstractXmlSinkModule;
+import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.netmgt.model.OnmsDistPoller;
+import org.opennms.netmgt.snmp.TrapInformation;
+import org.opennms.netmgt.snmp.snmp4j.Snmp4JTrapNotifier;
+import org.snmp4j.PDU;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.VariableBinding;
+
+public class TrapLogProtobufCodecTest {
+
+    private static final String CODEC_PROPERTY = AbstractXmlSinkModule.CODEC_SYS_PROP_PREFIX + "Trap" + AbstractXmlSinkModule.CODEC_SYS_PROP_SUFFIX;
+
+    private TrapSinkModule module;
+
+    @Before
+    public void setUp() {
+        final OnmsDistPoller distPoller = Mockito.mock(OnmsDistPoller.class);
+        Mockito.when(distPoller.getId()).thenReturn("00000000-0000-0000-0000-000000ddba11");
+        Mockito.when(distPoller.getLocation()).thenReturn("Default");
+        module = new TrapSinkModule(new TrapdConfigBean(), distPoller);
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CODEC_PROPERTY);
+    }
+
+    @Test
+    public void canRoundTripTrapLog() throws Exception {
+        final TrapLogDTO log = createTrapLog();
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlSinkModule.CODEC_PROTOBUF);
+        final byte[] bytes = module.marshal(log);
+        assertEquals(0, bytes[0]);
+
+        final TrapLogDTO actual = module.unmarshal(bytes);
+        assertEquals(log.getSystemId(), actual.getSystemId());
+        assertEquals(log.getLocation(), actual.getLocation());
+        assertEquals(log.getTrapAddress(), actual.getTrapAddress());
+        assertEquals(log.getMessages().size(), actual.getMessages().size());
+
+        final TrapDTO expectedTrap = log.getMessages().get(0);
+        final TrapDTO actualTrap = actual.getMessages().get(0);
+        assertArrayEquals(expectedTrap.getRawMessage(), actualTrap.getRawMessage());
+        // The raw message is compared by reference in TrapDTO.equals()
+        actualTrap.setRawMessage(expectedTrap.getRawMessage());
+        assertEquals(expectedTrap.getResults(), actualTrap.getResults());
+        assertEquals(expectedTrap, actualTrap);
+
+        // The second trap has no raw message, community or instances
+        assertEquals(log.getMessages().get(1), actual.getMessages().get(1));
+    }
+
+    @Test
+    public void canReadBothFormats() throws Exception {
+        final TrapLogDTO log = createTrapLog();
+        log.getMessages().forEach(trap -> trap.setRawMessage(null));
+
+        // Older Minions always send XML
+        final byte[] xml = module.marshal(log);
+        assertTrue(new String(xml, StandardCharsets.UTF_8).contains("trap-message-log"));
+        assertEquals(log, module.unmarshal(xml));
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlSinkModule.CODEC_PROTOBUF);
+        final byte[] protobuf = module.marshal(log);
+        assertTrue(protobuf.length < xml.length);
+
+        // Consumers decode binary payloads regardless of their own setting
+        System.clearProperty(CODEC_PROPERTY);
+        assertEquals(log, module.unmarshal(protobuf));
+    }
+
+    @Test
+    public void rejectsNewerVersions() throws Exception {
+        System.setProperty(CODEC_PROPERTY, AbstractXmlSinkModule.CODEC_PROTOBUF);
+        final byte[] bytes = module.marshal(createTrapLog());
+        bytes[3] = (byte) (TrapLogProtobufCodec.VERSION + 1);
+        try {
+            module.unmarshal(bytes);
+            fail("Payloads with newer versions should be rejected");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("version " + (TrapLogProtobufCodec.VERSION + 1)));
+        }
+    }
+
+    private static TrapLogDTO createTrapLog() throws Exception {
+        final PDU pdu = new PDU();
+        pdu.setType(PDU.TRAP);
+        pdu.add(new VariableBinding(SnmpConstants.sysUpTime, new TimeTicks(5000)));
+        pdu.add(new VariableBinding(SnmpConstants.snmpTrapOID, new OID(".1.3.6.1.4.1.9.9.41.2.0.1")));
+        pdu.add(new VariableBinding(SnmpConstants.snmpTrapAddress, new IpAddress("192.168.0.1")));
+        pdu.add(new VariableBinding(new OID(".1.3.6.1.4.1.9.9.41.1.2.3.1.2.1"), new OctetString("LINEPROTO")));
+        pdu.add(new VariableBinding(new OID(".1.3.6.1.4.1.9.9.41.1.2.3.1.3.1"), new Integer32(-5)));
+        pdu.add(new VariableBinding(new OID(".1.3.6.1.4.1.9.9.41.1.2.3.1.4.1"), new Counter64(Long.MAX_VALUE)));
+        pdu.add(new VariableBinding(new OID(".1.3.6.1.4.1.9.9.41.1.2.3.1.5.1"), new Null(128)));
+
+        final TrapInformation trapInfo = new Snmp4JTrapNotifier.Snmp4JV2V3TrapInformation(InetAddressUtils.ONE_TWENTY_SEVEN, "public", pdu);
+        final TrapDTO trap = new TrapDTO(trapInfo);
+        trap.setRawMessage(new byte[] { 0x30, 0x29, 0x02, 0x01, 0x01 });
+
+        final TrapDTO emptyTrap = new TrapDTO();
+        emptyTrap.setVersion("v1");
+        emptyTrap.setAgentAddress(InetAddress.getByName("::1"));
+
+        final TrapLogDTO log = new TrapLogDTO("00000000-0000-0000-0000-000000ddba11", "Default", InetAddress.getByName("192.168.0.1"));
+        log.addMessage(trap);
+        log.addMessage(emptyTrap);
+        return log;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.trapd;
+
+import java.net.InetAddress;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.core.ipc.sink.xml.AbstractXmlSinkModule;
+import org.opennms.netmgt.model.OnmsDistPoller;
+import org.opennms.netmgt.snmp.TrapInformation;
+import org.opennms.netmgt.snmp.snmp4j.Snmp4JTrapNotifier;
+import org.snmp4j.PDU;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare marshalling and unmarshalling batches of traps
+ * using XML and protobuf.
+ */
+public class TrapSinkCodecBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({AbstractXmlSinkModule.CODEC_XML, AbstractXmlSinkModule.CODEC_PROTOBUF})
+        public String codec;
+
+        @Param({"100"})
+        public int batchSize;
+
+        private TrapSinkModule module;
+        private TrapLogDTO log;
+        private byte[] bytes;
+
+        @Setup
+        public void setup() throws Exception {
+            System.setProperty(AbstractXmlSinkModule.CODEC_SYS_PROP_PREFIX + "Trap" + AbstractXmlSinkModule.CODEC_SYS_PROP_SUFFIX, codec);
+            module = new TrapSinkModule(new TrapdConfigBean(), Mockito.mock(OnmsDistPoller.class));
+
+            log = new TrapLogDTO("00000000-0000-0000-0000-000000ddba11", "Default", InetAddress.getByName("10.0.0.1"));
+            for (int i = 0; i < batchSize; i++) {
+                final PDU pdu = new PDU();
+                pdu.setType(PDU.TRAP);
+                pdu.add(new VariableBinding(SnmpConstants.sysUpTime, new TimeTicks(5000 + i)));
+                pdu.add(new VariableBinding(SnmpConstants.snmpTrapOID, new OID(".1.3.6.1.6.3.1.1.5.3")));
+                pdu.add(new VariableBinding(SnmpConstants.snmpTrapAddress, new IpAddress("10.0.0.1")));
+                pdu.add(new VariableBinding(new OID(".1.3.6.1.2.1.2.2.1.1." + i), new Integer32(i)));
+                pdu.add(new VariableBinding(new OID(".1.3.6.1.2.1.2.2.1.2." + i), new OctetString("GigabitEthernet0/" + i)));
+                pdu.add(new VariableBinding(new OID(".1.3.6.1.2.1.2.2.1.7." + i), new Integer32(1)));
+                pdu.add(new VariableBinding(new OID(".1.3.6.1.2.1.2.2.1.8." + i), new Integer32(2)));
+                final TrapInformation trapInfo = new Snmp4JTrapNotifier.Snmp4JV2V3TrapInformation(InetAddress.getByName("10.0.0.1"), "public", pdu);
+                log.addMessage(new TrapDTO(trapInfo));
+            }
+            bytes = module.marshal(log);
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public byte[] marshal(BState state) {
+        return state.module.marshal(state.log);
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public TrapLogDTO unmarshal(BState state) {
+        return state.module.unmarshal(state.bytes);
+    }
+}
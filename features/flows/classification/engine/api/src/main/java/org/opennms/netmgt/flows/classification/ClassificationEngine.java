@@ -21,6 +21,7 @@
  */
 package org.opennms.netmgt.flows.classification;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.opennms.netmgt.flows.classification.persistence.api.Rule;
@@ -32,6 +33,20 @@ public interface ClassificationEngine {
 
     String classify(ClassificationRequest classificationRequest);
 
+    /**
+     * Classifies a batch of requests.
+     *
+     * @return the applications of the requests in the same order as the requests. Elements are <code>null</code> for
+     * requests that do not match any rule.
+     */
+    default List<String> classify(List<ClassificationRequest> classificationRequests) {
+        final List<String> result = new ArrayList<>(classificationRequests.size());
+        for (final ClassificationRequest classificationRequest : classificationRequests) {
+            result.add(classify(classificationRequest));
+        }
+        return result;
+    }
+
     List<Rule> getInvalidRules();
 
     void reload() throws InterruptedException;
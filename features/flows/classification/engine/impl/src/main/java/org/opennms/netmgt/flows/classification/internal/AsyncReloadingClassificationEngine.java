@@ -123,6 +123,12 @@ public class AsyncReloadingClassificationEngine implements ClassificationEngine
         return delegate.classify(classificationRequest);
     }
 
+    @Override
+    public synchronized List<String> classify(List<ClassificationRequest> classificationRequests) {
+        waitUntilReadyOrFailed();
+        return delegate.classify(classificationRequests);
+    }
+
     @Override
     public synchronized List<Rule> getInvalidRules() {
         waitUntilReadyOrFailed();
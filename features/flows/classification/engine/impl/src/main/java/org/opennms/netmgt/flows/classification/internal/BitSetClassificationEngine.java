@@ -0,0 +1,160 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.classification.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opennms.netmgt.flows.classification.ClassificationEngine;
+import org.opennms.netmgt.flows.classification.ClassificationRequest;
+import org.opennms.netmgt.flows.classification.ClassificationRuleProvider;
+import org.opennms.netmgt.flows.classification.FilterService;
+import org.opennms.netmgt.flows.classification.internal.bitset.RuleIndex;
+import org.opennms.netmgt.flows.classification.internal.decision.PreprocessedRule;
+import org.opennms.netmgt.flows.classification.persistence.api.Rule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A classification engine that indexes classification rules by their aspects into bit sets of rules.
+ * <p>
+ * Classification intersects the bit sets of all aspects of a request and selects the first rule in priority order.
+ * It yields the same results as the {@link DefaultClassificationEngine}.
+ * <p>
+ * The implementation is thread-safe.
+ */
+public class BitSetClassificationEngine implements ClassificationEngine {
+
+    private List<ClassificationRulesReloadedListener> classificationRulesReloadedListeners = new ArrayList<>();
+
+    private static Logger LOG = LoggerFactory.getLogger(BitSetClassificationEngine.class);
+
+    private final AtomicReference<IndexAndInvalidRules> indexAndInvalidRules = new AtomicReference<>(new IndexAndInvalidRules(RuleIndex.EMPTY, Collections.emptyList()));
+
+    private final ClassificationRuleProvider ruleProvider;
+    private final FilterService filterService;
+
+    public BitSetClassificationEngine(final ClassificationRuleProvider ruleProvider, final FilterService filterService) throws InterruptedException {
+        this(ruleProvider, filterService, true);
+    }
+
+    public BitSetClassificationEngine(final ClassificationRuleProvider ruleProvider, final FilterService filterService, final boolean initialize) throws InterruptedException {
+        this.ruleProvider = Objects.requireNonNull(ruleProvider);
+        this.filterService = Objects.requireNonNull(filterService);
+        if (initialize) {
+            this.reload();
+        }
+    }
+
+    @Override
+    public void reload() throws InterruptedException {
+        var start = System.currentTimeMillis();
+        var invalid = new ArrayList<Rule>();
+
+        // Load all rules and validate them
+        final List<PreprocessedRule> preprocessedRules = Lists.newArrayList();
+        final var rules = ruleProvider.getRules();
+        rules.forEach(rule -> {
+            try {
+                final var preprocessedRule = PreprocessedRule.of(rule);
+                preprocessedRules.add(preprocessedRule);
+                if (rule.canBeReversed()) {
+                    preprocessedRules.add(preprocessedRule.reverse());
+                }
+            } catch (Exception ex) {
+                LoggerFactory.getLogger(getClass()).error("Rule {} is not valid. Ignoring rule.", rule, ex);
+                invalid.add(rule);
+            }
+        });
+
+        var index = RuleIndex.of(preprocessedRules, filterService);
+
+        var elapsed = System.currentTimeMillis() - start;
+        if (LOG.isInfoEnabled()) {
+            var sb = new StringBuilder();
+            sb
+                    .append("calculated flow classification rule index\n")
+                    .append("time (ms): " + elapsed).append('\n')
+                    .append("rules    : " + rules.size() + " (including reversed rules: " + preprocessedRules.size() + ")").append('\n')
+                    .append("bitSets  : " + index.getDistinctBitSets()).append('\n')
+                    .append("addressIntervals : " + index.getAddressIntervals()).append('\n');
+            LOG.info(sb.toString());
+        }
+
+        indexAndInvalidRules.set(new IndexAndInvalidRules(index, invalid));
+
+        fireClassificationReloadedListeners(Collections.unmodifiableList(rules));
+    }
+
+    private void fireClassificationReloadedListeners(final List<Rule> rules) {
+        for(final ClassificationRulesReloadedListener classificationRulesReloadedListener : this.classificationRulesReloadedListeners) {
+            classificationRulesReloadedListener.classificationRulesReloaded(rules);
+        }
+    }
+
+    @Override
+    public List<Rule> getInvalidRules() {
+        return Collections.unmodifiableList(indexAndInvalidRules.get().invalidRules);
+    }
+
+    public RuleIndex getIndex() {
+        return indexAndInvalidRules.get().index;
+    }
+
+    @Override
+    public String classify(ClassificationRequest classificationRequest) {
+        return indexAndInvalidRules.get().index.classify(classificationRequest);
+    }
+
+    @Override
+    public List<String> classify(List<ClassificationRequest> classificationRequests) {
+        // use the same index for the whole batch even if a reload happens concurrently
+        final RuleIndex index = indexAndInvalidRules.get().index;
+        final List<String> result = new ArrayList<>(classificationRequests.size());
+        for (final ClassificationRequest classificationRequest : classificationRequests) {
+            result.add(index.classify(classificationRequest));
+        }
+        return result;
+    }
+
+    private static class IndexAndInvalidRules {
+        private final RuleIndex index;
+        private final List<Rule> invalidRules;
+        public IndexAndInvalidRules(RuleIndex index, List<Rule> invalidRules) {
+            this.index = index;
+            this.invalidRules = invalidRules;
+        }
+    }
+
+    public void addClassificationRulesReloadedListener(final ClassificationRulesReloadedListener classificationRulesReloadedListener) {
+        this.classificationRulesReloadedListeners.add(classificationRulesReloadedListener);
+    }
+
+    public void removeClassificationRulesReloadedListener(final ClassificationRulesReloadedListener classificationRulesReloadedListener) {
+        this.classificationRulesReloadedListeners.remove(classificationRulesReloadedListener);
+    }
+}
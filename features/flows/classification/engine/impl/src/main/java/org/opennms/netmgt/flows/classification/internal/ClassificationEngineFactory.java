@@ -0,0 +1,52 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.classification.internal;
+
+import java.util.Objects;
+
+import org.opennms.netmgt.flows.classification.ClassificationEngine;
+import org.opennms.netmgt.flows.classification.ClassificationRuleProvider;
+import org.opennms.netmgt.flows.classification.FilterService;
+
+/**
+ * Creates the classification engine implementation selected by the configuration.
+ */
+public class ClassificationEngineFactory {
+
+    public static final String TREE = "tree";
+    public static final String BITSET = "bitset";
+
+    public static ClassificationEngine createClassificationEngine(final String type,
+                                                                  final ClassificationRuleProvider ruleProvider,
+                                                                  final FilterService filterService,
+                                                                  final boolean initialize) throws InterruptedException {
+        Objects.requireNonNull(type);
+        switch (type.trim().toLowerCase()) {
+            case TREE:
+                return new DefaultClassificationEngine(ruleProvider, filterService, initialize);
+            case BITSET:
+                return new BitSetClassificationEngine(ruleProvider, filterService, initialize);
+            default:
+                throw new IllegalArgumentException("Unsupported classification engine: " + type + ". Supported engines are: " + TREE + ", " + BITSET);
+        }
+    }
+}
@@ -0,0 +1,392 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.classification.internal.bitset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.opennms.core.network.IPPortRange;
+import org.opennms.netmgt.flows.classification.ClassificationRequest;
+import org.opennms.netmgt.flows.classification.FilterService;
+import org.opennms.netmgt.flows.classification.IpAddr;
+import org.opennms.netmgt.flows.classification.internal.decision.PreprocessedRule;
+import org.opennms.netmgt.flows.classification.internal.matcher.FilterMatcher;
+import org.opennms.netmgt.flows.classification.internal.value.IpRange;
+import org.opennms.netmgt.flows.classification.internal.value.IpValue;
+import org.opennms.netmgt.flows.classification.internal.value.PortValue;
+import org.opennms.netmgt.flows.classification.persistence.api.Rule;
+
+/**
+ * Indexes classification rules by protocol, source and destination port, and source and destination address.
+ * <p>
+ * Rules are sorted by their priority and identified by their index in that order. For each aspect, the value range
+ * is split into intervals and each interval is mapped to a bit set of the rules that accept values of that
+ * interval. Rules that do not restrict an aspect are contained in all bit sets of that aspect. Classification looks
+ * up the bit set of every aspect, ANDs them word by word and returns the first rule corresponding to a set bit
+ * whose exporter filter (if any) matches.
+ * <p>
+ * Rules with the same priority (i.e. a rule and its reversed rule) are ordered by the number of aspects they consider,
+ * so that the more specific rule wins, as it does in the decision tree.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public class RuleIndex {
+
+    private static final int PROTOCOLS = 256;
+    private static final int PORTS = Rule.MAX_PORT_VALUE + 1;
+
+    private static final IpAddr MIN_IP4 = new IpAddr.Ip4Addr(0);
+    private static final IpAddr MAX_IP4 = new IpAddr.Ip4Addr(-1);
+    private static final IpAddr MIN_IP6 = new IpAddr.Ip6Addr(0, 0);
+    private static final IpAddr MAX_IP6 = new IpAddr.Ip6Addr(-1, -1);
+
+    /**
+     * Priority order of rules, see {@link org.opennms.netmgt.flows.classification.internal.decision.Classifier}.
+     */
+    private static final Comparator<PreprocessedRule> PRIORITY = Comparator
+            .comparingInt((PreprocessedRule r) -> r.ruleDefinition.getGroupPosition())
+            .thenComparingInt(r -> r.ruleDefinition.getPosition())
+            .thenComparing(Comparator.comparingInt(RuleIndex::matchedAspects).reversed());
+
+    public static final RuleIndex EMPTY = RuleIndex.of(List.of(), FilterService.NOOP);
+
+    public static RuleIndex of(final List<PreprocessedRule> rules, final FilterService filterService) {
+        final List<PreprocessedRule> sorted = new ArrayList<>(rules);
+        sorted.sort(PRIORITY);
+        return new RuleIndex(sorted, filterService);
+    }
+
+    private static int matchedAspects(final PreprocessedRule rule) {
+        int aspects = 0;
+        if (rule.protocol != null) aspects++;
+        if (rule.srcPort != null) aspects++;
+        if (rule.dstPort != null) aspects++;
+        if (rule.srcAddr != null) aspects++;
+        if (rule.dstAddr != null) aspects++;
+        return aspects;
+    }
+
+    private final int size;
+    private final int words;
+
+    private final String[] names;
+    private final FilterMatcher[] filters;
+
+    private final long[] anyProtocol;
+    private final long[][] protocols;
+
+    private final long[] anySrcPort;
+    private final long[][] srcPorts;
+    private final long[] anyDstPort;
+    private final long[][] dstPorts;
+
+    private final long[] anySrcAddr;
+    private final IpAddr[] srcAddrStarts;
+    private final long[][] srcAddrs;
+    private final long[] anyDstAddr;
+    private final IpAddr[] dstAddrStarts;
+    private final long[][] dstAddrs;
+
+    private final int distinctBitSets;
+
+    private RuleIndex(final List<PreprocessedRule> rules, final FilterService filterService) {
+        this.size = rules.size();
+        this.words = Math.max(1, (this.size + 63) >>> 6);
+
+        this.names = new String[this.size];
+        this.filters = new FilterMatcher[this.size];
+        for (int i = 0; i < this.size; i++) {
+            final var rule = rules.get(i);
+            this.names[i] = rule.ruleDefinition.getName();
+            if (rule.ruleDefinition.hasExportFilterDefinition()) {
+                this.filters[i] = new FilterMatcher(rule.ruleDefinition.getExporterFilter(), filterService);
+            }
+        }
+
+        final Interner interner = new Interner();
+
+        // Protocols
+        this.anyProtocol = interner.intern(this.wildcard(rules, r -> r.protocol));
+        final List<Event> protocolEvents = new ArrayList<>();
+        for (int i = 0; i < this.size; i++) {
+            final var protocol = rules.get(i).protocol;
+            if (protocol != null) {
+                for (final int p : protocol.getProtocols()) {
+                    if (p >= 0 && p < PROTOCOLS) {
+                        protocolEvents.add(new Event(p, i, +1));
+                        protocolEvents.add(new Event(p + 1, i, -1));
+                    }
+                }
+            }
+        }
+        this.protocols = this.sweep(PROTOCOLS, protocolEvents, this.anyProtocol, interner);
+
+        // Ports
+        this.anySrcPort = interner.intern(this.wildcard(rules, r -> r.srcPort));
+        this.srcPorts = this.sweep(PORTS, this.portEvents(rules, r -> r.srcPort), this.anySrcPort, interner);
+        this.anyDstPort = interner.intern(this.wildcard(rules, r -> r.dstPort));
+        this.dstPorts = this.sweep(PORTS, this.portEvents(rules, r -> r.dstPort), this.anyDstPort, interner);
+
+        // Addresses
+        this.anySrcAddr = interner.intern(this.wildcard(rules, r -> r.srcAddr));
+        this.srcAddrStarts = starts(rules, r -> r.srcAddr);
+        this.srcAddrs = this.sweep(this.srcAddrStarts.length, this.addressEvents(rules, r -> r.srcAddr, this.srcAddrStarts), this.anySrcAddr, interner);
+        this.anyDstAddr = interner.intern(this.wildcard(rules, r -> r.dstAddr));
+        this.dstAddrStarts = starts(rules, r -> r.dstAddr);
+        this.dstAddrs = this.sweep(this.dstAddrStarts.length, this.addressEvents(rules, r -> r.dstAddr, this.dstAddrStarts), this.anyDstAddr, interner);
+
+        this.distinctBitSets = interner.size();
+    }
+
+    /**
+     * Classifies a request.
+     *
+     * @return Returns <code>null</code> if the request does not match a rule
+     */
+    public String classify(final ClassificationRequest request) {
+        final long[] protocol = request.getProtocol() != null ? this.protocolBits(request.getProtocol().getDecimal()) : this.anyProtocol;
+        final long[] srcPort = request.getSrcPort() != null ? portBits(this.srcPorts, this.anySrcPort, request.getSrcPort()) : this.anySrcPort;
+        final long[] dstPort = request.getDstPort() != null ? portBits(this.dstPorts, this.anyDstPort, request.getDstPort()) : this.anyDstPort;
+        final long[] srcAddr = request.getSrcAddress() != null ? addressBits(this.srcAddrStarts, this.srcAddrs, request.getSrcAddress()) : this.anySrcAddr;
+        final long[] dstAddr = request.getDstAddress() != null ? addressBits(this.dstAddrStarts, this.dstAddrs, request.getDstAddress()) : this.anyDstAddr;
+
+        for (int w = 0; w < this.words; w++) {
+            long bits = protocol[w] & srcPort[w] & dstPort[w] & srcAddr[w] & dstAddr[w];
+            while (bits != 0) {
+                final int i = (w << 6) + Long.numberOfTrailingZeros(bits);
+                if (this.filters[i] == null || this.filters[i].matches(request)) {
+                    return this.names[i];
+                }
+                bits &= bits - 1;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The number of indexed rules (including reversed rules).
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * The number of distinct bit sets over all aspects.
+     */
+    public int getDistinctBitSets() {
+        return this.distinctBitSets;
+    }
+
+    /**
+     * The number of intervals the source and destination address ranges are split into.
+     */
+    public int getAddressIntervals() {
+        return this.srcAddrStarts.length + this.dstAddrStarts.length;
+    }
+
+    private long[] protocolBits(final int protocol) {
+        return protocol >= 0 && protocol < PROTOCOLS ? this.protocols[protocol] : this.anyProtocol;
+    }
+
+    private static long[] portBits(final long[][] ports, final long[] any, final int port) {
+        return port >= 0 && port < PORTS ? ports[port] : any;
+    }
+
+    private static long[] addressBits(final IpAddr[] starts, final long[][] bits, final IpAddr address) {
+        // find the last interval that starts at or before the address
+        int lo = 0, hi = starts.length - 1;
+        while (lo < hi) {
+            final int mid = (lo + hi + 1) >>> 1;
+            if (starts[mid].compareTo(address) <= 0) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return bits[lo];
+    }
+
+    private long[] wildcard(final List<PreprocessedRule> rules, final Function<PreprocessedRule, Object> aspect) {
+        final long[] bits = new long[this.words];
+        for (int i = 0; i < this.size; i++) {
+            if (aspect.apply(rules.get(i)) == null) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    private List<Event> portEvents(final List<PreprocessedRule> rules, final Function<PreprocessedRule, PortValue> aspect) {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < this.size; i++) {
+            final PortValue value = aspect.apply(rules.get(i));
+            if (value != null) {
+                for (final IPPortRange range : value.getPortRanges()) {
+                    final int begin = Math.max(range.getBegin(), 0);
+                    final int end = Math.min(range.getEnd(), PORTS - 1);
+                    if (begin <= end) {
+                        events.add(new Event(begin, i, +1));
+                        events.add(new Event(end + 1, i, -1));
+                    }
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Calculates the start addresses of the intervals the address space is split into. The first interval starts at
+     * the lowest possible address.
+     */
+    private static IpAddr[] starts(final List<PreprocessedRule> rules, final Function<PreprocessedRule, IpValue> aspect) {
+        final List<IpAddr> starts = new ArrayList<>();
+        starts.add(MIN_IP4);
+        for (final var rule : rules) {
+            final IpValue value = aspect.apply(rule);
+            if (value != null) {
+                for (final IpRange range : value.getIpAddressRanges()) {
+                    starts.add(range.begin);
+                    final IpAddr next = next(range.end);
+                    if (next != null) {
+                        starts.add(next);
+                    }
+                }
+            }
+        }
+        return starts.stream().sorted().distinct().toArray(IpAddr[]::new);
+    }
+
+    private List<Event> addressEvents(final List<PreprocessedRule> rules, final Function<PreprocessedRule, IpValue> aspect, final IpAddr[] starts) {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < this.size; i++) {
+            final IpValue value = aspect.apply(rules.get(i));
+            if (value != null) {
+                for (final IpRange range : value.getIpAddressRanges()) {
+                    events.add(new Event(Arrays.binarySearch(starts, range.begin), i, +1));
+                    final IpAddr next = next(range.end);
+                    events.add(new Event(next != null ? Arrays.binarySearch(starts, next) : starts.length, i, -1));
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * The address following the given address. IPv6 addresses follow IPv4 addresses in the order of addresses.
+     *
+     * @return Returns <code>null</code> for the highest IPv6 address
+     */
+    private static IpAddr next(final IpAddr address) {
+        if (MAX_IP4.equals(address)) {
+            return MIN_IP6;
+        }
+        if (MAX_IP6.equals(address)) {
+            return null;
+        }
+        return address.inc();
+    }
+
+    /**
+     * Sweeps over all slots and calculates the bit set for each slot. A rule is contained in the bit set of a slot if
+     * it is contained in the base set or if more of its ranges started than ended at or before the slot.
+     */
+    private long[][] sweep(final int slots, final List<Event> events, final long[] base, final Interner interner) {
+        events.sort(Comparator.comparingInt(e -> e.slot));
+
+        final long[][] result = new long[slots][];
+        final int[] coverage = new int[this.size];
+        final long[] current = base.clone();
+        long[] snapshot = base;
+
+        int e = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            boolean changed = false;
+            for (; e < events.size() && events.get(e).slot == slot; e++) {
+                final Event event = events.get(e);
+                final int before = coverage[event.rule];
+                final int after = before + event.delta;
+                coverage[event.rule] = after;
+                if ((before == 0) != (after == 0)) {
+                    current[event.rule >>> 6] ^= 1L << event.rule;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                snapshot = interner.intern(current.clone());
+            }
+            result[slot] = snapshot;
+        }
+        return result;
+    }
+
+    private static class Event {
+        private final int slot;
+        private final int rule;
+        private final int delta;
+
+        private Event(final int slot, final int rule, final int delta) {
+            this.slot = slot;
+            this.rule = rule;
+            this.delta = delta;
+        }
+    }
+
+    /**
+     * Shares equal bit sets between intervals and aspects.
+     */
+    private static class Interner {
+        private final Map<Key, long[]> bitSets = new HashMap<>();
+
+        private long[] intern(final long[] bits) {
+            return this.bitSets.computeIfAbsent(new Key(bits), k -> k.bits);
+        }
+
+        private int size() {
+            return this.bitSets.size();
+        }
+
+        private static class Key {
+            private final long[] bits;
+            private final int hash;
+
+            private Key(final long[] bits) {
+                this.bits = bits;
+                this.hash = Arrays.hashCode(bits);
+            }
+
+            @Override
+            public boolean equals(final Object o) {
+                return o instanceof Key && Arrays.equals(this.bits, ((Key) o).bits);
+            }
+
+            @Override
+            public int hashCode() {
+                return this.hash;
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.classification.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.opennms.netmgt.flows.classification.ClassificationEngine;
+import org.opennms.netmgt.flows.classification.ClassificationRequest;
+import org.opennms.netmgt.flows.classification.ClassificationRequestBuilder;
+import org.opennms.netmgt.flows.classification.FilterService;
+import org.opennms.netmgt.flows.classification.exception.InvalidFilterException;
+import org.opennms.netmgt.flows.classification.persistence.api.ProtocolType;
+import org.opennms.netmgt.flows.classification.persistence.api.RuleBuilder;
+
+import com.google.common.collect.Lists;
+
+public class BitSetClassificationEngineTest {
+
+    private static ClassificationRequest request(int srcPort, String srcAddress, int dstPort, String dstAddress) {
+        return new ClassificationRequestBuilder()
+                .withLocation("Default")
+                .withProtocol(ProtocolType.TCP)
+                .withSrcAddress(srcAddress).withSrcPort(srcPort)
+                .withDstAddress(dstAddress).withDstPort(dstPort)
+                .withExporterAddress("10.0.0.1")
+                .build();
+    }
+
+    @Test
+    public void verifyPriority() throws InterruptedException {
+        final ClassificationEngine engine = new BitSetClassificationEngine(() -> Lists.newArrayList(
+                new RuleBuilder().withName("SSH").withDstPort("22").withPosition(1).build(),
+                new RuleBuilder().withName("HTTP_CUSTOM").withDstAddress("192.168.0.1").withDstPort("80").withPosition(2).build(),
+                new RuleBuilder().withName("HTTP").withDstPort("80").withPosition(3).build(),
+                new RuleBuilder().withName("DUMMY").withDstAddress("192.168.1.0-192.168.1.255,10.10.5.3,192.168.0.0/24").withDstPort("8000-9000,80,8080").withPosition(4).build(),
+                new RuleBuilder().withName("RANGE-TEST").withDstPort("7000-8000").withPosition(5).build(),
+                new RuleBuilder().withName("UDP").withProtocol("udp").withPosition(6).build()
+        ), FilterService.NOOP);
+
+        assertEquals("SSH", engine.classify(request(5000, "10.0.0.5", 22, "127.0.0.1")));
+        assertEquals("HTTP_CUSTOM", engine.classify(request(5000, "10.0.0.5", 80, "192.168.0.1")));
+        assertEquals("HTTP", engine.classify(request(5000, "10.0.0.5", 80, "192.168.0.2")));
+        assertEquals("DUMMY", engine.classify(request(5000, "10.0.0.5", 8080, "10.10.5.3")));
+        assertEquals("DUMMY", engine.classify(request(5000, "10.0.0.5", 8000, "192.168.1.255")));
+        assertEquals("RANGE-TEST", engine.classify(request(5000, "10.0.0.5", 8000, "192.168.2.0")));
+        assertNull(engine.classify(request(5000, "10.0.0.5", 5000, "192.168.2.0")));
+        assertEquals("UDP", engine.classify(new ClassificationRequestBuilder()
+                .withLocation("Default")
+                .withProtocol(ProtocolType.UDP)
+                .withSrcAddress("10.0.0.5").withSrcPort(5000)
+                .withDstAddress("10.0.0.6").withDstPort(5000)
+                .build()));
+    }
+
+    @Test
+    public void verifyMoreSpecificReversedRuleWins() throws InterruptedException {
+        final ClassificationEngine engine = new BitSetClassificationEngine(() -> Lists.newArrayList(
+                new RuleBuilder().withName("OMNI").withSrcAddress("10.0.0.1").withDstPort("80").withOmnidirectional(true).build()
+        ), FilterService.NOOP);
+
+        assertEquals("OMNI", engine.classify(request(5000, "10.0.0.1", 80, "10.0.0.2")));
+        assertEquals("OMNI", engine.classify(request(80, "10.0.0.2", 5000, "10.0.0.1")));
+        assertNull(engine.classify(request(80, "10.0.0.1", 5000, "10.0.0.2")));
+    }
+
+    @Test
+    public void verifyIpv6AndMaximumAddress() throws InterruptedException {
+        final ClassificationEngine engine = new BitSetClassificationEngine(() -> Lists.newArrayList(
+                new RuleBuilder().withName("V4").withDstAddress("255.255.255.0-255.255.255.255").withPosition(1).build(),
+                new RuleBuilder().withName("V6").withDstAddress("2001:db8::1-2001:db8::ff").withPosition(2).build()
+        ), FilterService.NOOP);
+
+        assertEquals("V4", engine.classify(request(1, "10.0.0.1", 1, "255.255.255.255")));
+        assertEquals("V6", engine.classify(request(1, "10.0.0.1", 1, "2001:db8::80")));
+        assertNull(engine.classify(request(1, "10.0.0.1", 1, "2001:db8::100")));
+        assertNull(engine.classify(request(1, "10.0.0.1", 1, "255.255.254.255")));
+    }
+
+    @Test
+    public void verifyExporterFilter() throws InterruptedException {
+        final FilterService filterService = new FilterService() {
+            @Override
+            public void validate(String filterExpression) throws InvalidFilterException {
+            }
+
+            @Override
+            public boolean matches(String address, String filterExpression) {
+                return "10.0.0.1".equals(address);
+            }
+        };
+        final ClassificationEngine engine = new BitSetClassificationEngine(() -> Lists.newArrayList(
+                new RuleBuilder().withName("FILTERED").withDstPort("80").withExporterFilter("categoryName == 'Routers'").withPosition(1).build(),
+                new RuleBuilder().withName("HTTP").withDstPort("80").withPosition(2).build()
+        ), filterService);
+
+        final ClassificationRequest request = request(5000, "10.0.0.5", 80, "10.0.0.6");
+        assertEquals("FILTERED", engine.classify(request));
+        request.setExporterAddress("10.0.0.2");
+        assertEquals("HTTP", engine.classify(request));
+    }
+
+    @Test
+    public void verifyBatchClassification() throws InterruptedException {
+        final ClassificationEngine engine = new BitSetClassificationEngine(() -> Lists.newArrayList(
+                new RuleBuilder().withName("LOW").withDstPort("0-1023").withPosition(1).build(),
+                new RuleBuilder().withName("HIGH").withSrcPort("1024-65535").withPosition(2).build()
+        ), FilterService.NOOP);
+
+        final List<ClassificationRequest> requests = IntStream.range(0, 2048)
+                .mapToObj(i -> request(i, "10.0.0.1", i, "10.0.0.2"))
+                .collect(Collectors.toList());
+        final List<String> expected = new ArrayList<>();
+        for (final ClassificationRequest request : requests) {
+            expected.add(engine.classify(request));
+        }
+        final List<String> batch = engine.classify(requests);
+        assertEquals(expected, batch);
+        assertEquals("LOW", batch.get(80));
+        assertEquals("HIGH", batch.get(2000));
+    }
+
+    @Test
+    public void verifyEmptyRules() throws InterruptedException {
+        final ClassificationEngine engine = new BitSetClassificationEngine(ArrayList::new, FilterService.NOOP);
+        for (int port = 0; port < 65536; port++) {
+            assertNull(engine.classify(request(port, "10.0.0.1", port, "10.0.0.2")));
+        }
+    }
+}
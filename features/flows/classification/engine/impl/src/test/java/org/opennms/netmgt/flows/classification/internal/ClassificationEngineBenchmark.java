@@ -44,6 +44,8 @@ import org.opennms.netmgt.flows.classification.persistence.api.GroupBuilder;
 import org.opennms.netmgt.flows.classification.persistence.api.Groups;
 import org.opennms.netmgt.flows.classification.persistence.api.Rule;
 
+import com.codahale.metrics.MetricRegistry;
+
 /**
  * Use the Java Microbenchmarking Harness (JMH) to measure classification performance.
  * <p>
@@ -85,13 +87,17 @@ public class ClassificationEngineBenchmark {
         @Param({EXAMPLE_RULES_RESOURCE, PRE_DEFINED_RULES_RESOURCE})
         public String ruleSet;
 
+        @Param({ClassificationEngineFactory.TREE, ClassificationEngineFactory.BITSET})
+        public String engine;
+
         private ClassificationEngine classificationEngine;
         private List<ClassificationRequest> classificationRequests;
 
         @Setup
         public void setup() throws InterruptedException {
             var rules = getRules(ruleSet);
-            classificationEngine = new DefaultClassificationEngine(() -> rules, org.mockito.Mockito.mock(FilterService.class));
+            // measure the engines as they are deployed, i.e. wrapped by the timing classification engine
+            classificationEngine = new TimingClassificationEngine(new MetricRegistry(), ClassificationEngineFactory.createClassificationEngine(engine, () -> rules, org.mockito.Mockito.mock(FilterService.class), true));
             classificationRequests = RandomClassificationEngineTest.streamOfclassificationRequests(rules, 123456l).skip(index * BATCH_SIZE).limit(BATCH_SIZE).collect(Collectors.toList());
         }
 
@@ -117,4 +123,12 @@ public class ClassificationEngineBenchmark {
         }
     }
 
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 2)
+    public void classifyBatch(BState state, Blackhole blackhole) {
+        blackhole.consume(state.classificationEngine().classify(state.requests()));
+    }
+
 }
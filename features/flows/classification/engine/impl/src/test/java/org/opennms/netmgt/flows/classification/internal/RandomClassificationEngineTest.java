@@ -36,6 +36,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.opennms.core.network.IPAddress;
 import org.opennms.core.network.IPAddressRange;
 import org.opennms.core.network.IPPortRange;
+import org.opennms.netmgt.flows.classification.ClassificationEngine;
 import org.opennms.netmgt.flows.classification.ClassificationRequest;
 import org.opennms.netmgt.flows.classification.FilterService;
 import org.opennms.netmgt.flows.classification.internal.decision.Classifier;
@@ -112,13 +113,30 @@ public class RandomClassificationEngineTest {
             @ForAll("rulesAndRequests") Tuple.Tuple2<List<Rule>, List<ClassificationRequest>> rulesAndRequests
     ) throws InterruptedException {
         LOG.debug("construct decision tree");
+        return check(new DefaultClassificationEngine(() -> rulesAndRequests.get1(), FILTER_SERVICE), rulesAndRequests);
+    }
+
+    @Property
+    public boolean testBitSet(
+            @ForAll("rulesAndRequests") Tuple.Tuple2<List<Rule>, List<ClassificationRequest>> rulesAndRequests
+    ) throws InterruptedException {
+        LOG.debug("construct rule index");
+        var ce = new BitSetClassificationEngine(() -> rulesAndRequests.get1(), FILTER_SERVICE);
+        if (!check(ce, rulesAndRequests)) {
+            return false;
+        }
+        // batch classification must yield the same results as classifying each request
+        var batch = ce.classify(rulesAndRequests.get2());
+        return rulesAndRequests.get2().stream().map(ce::classify).collect(Collectors.toList()).equals(batch);
+    }
+
+    private static boolean check(ClassificationEngine ce, Tuple.Tuple2<List<Rule>, List<ClassificationRequest>> rulesAndRequests) {
         if (LOG.isDebugEnabled()) {
             rulesAndRequests.get1().forEach(r -> {
                 var s = Stream.of(r.getName(), r.getProtocol(), r.getSrcAddress(), r.getSrcPort(), r.getDstAddress(), r.getDstPort(), "", String.valueOf(r.isOmnidirectional())).collect(Collectors.joining(";"));
                 System.out.println(s);
             });
         }
-        var ce = new DefaultClassificationEngine(() -> rulesAndRequests.get1(), FILTER_SERVICE);
 
         var classifiers = rulesAndRequests.get1().stream()
                 .flatMap(r -> r.isOmnidirectional() ? Stream.of(r, r.reversedRule()) : Stream.of(r))
@@ -127,11 +145,11 @@ public class RandomClassificationEngineTest {
                 .collect(Collectors.toList());
 
         var res = rulesAndRequests.get2().stream().allMatch(r -> {
-            var appByTree = Optional.ofNullable(ce.classify(r));
+            var appByEngine = Optional.ofNullable(ce.classify(r));
             // brute force classification
             // -> take the result of the first matching classifier
             var appDirect = classifiers.stream().map(c -> c.classify(r)).filter(s -> s != null).findFirst().map(cr -> cr.name);
-            return Objects.equals(appByTree, appDirect);
+            return Objects.equals(appByEngine, appDirect);
         });
         LOG.debug("checked classification");
         return res;
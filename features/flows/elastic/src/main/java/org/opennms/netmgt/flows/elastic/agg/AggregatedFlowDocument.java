@@ -0,0 +1,300 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.elastic.agg;
+
+import java.util.Objects;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Document stored in the aggregated flow index, see netflow_agg-template.json.
+ *
+ * Member variables are sorted by the value of the @SerializedName annotation.
+ */
+public class AggregatedFlowDocument {
+
+    public static class Exporter {
+        @SerializedName("foreign_id")
+        private String foreignId;
+
+        @SerializedName("foreign_source")
+        private String foreignSource;
+
+        @SerializedName("node_id")
+        private int nodeId;
+
+        public Exporter() {
+        }
+
+        public Exporter(final int nodeId, final String foreignSource, final String foreignId) {
+            this.nodeId = nodeId;
+            this.foreignSource = foreignSource;
+            this.foreignId = foreignId;
+        }
+
+        public String getForeignId() {
+            return this.foreignId;
+        }
+
+        public String getForeignSource() {
+            return this.foreignSource;
+        }
+
+        public int getNodeId() {
+            return this.nodeId;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Exporter that = (Exporter) o;
+            return this.nodeId == that.nodeId &&
+                    Objects.equals(this.foreignSource, that.foreignSource) &&
+                    Objects.equals(this.foreignId, that.foreignId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.nodeId, this.foreignSource, this.foreignId);
+        }
+    }
+
+    /**
+     * Start of the window in milliseconds.
+     */
+    @SerializedName("@timestamp")
+    private long timestamp;
+
+    @SerializedName("aggregation_type")
+    private String aggregationType;
+
+    @SerializedName("application")
+    private String application;
+
+    @SerializedName("bytes_egress")
+    private long bytesEgress;
+
+    @SerializedName("bytes_ingress")
+    private long bytesIngress;
+
+    @SerializedName("bytes_total")
+    private long bytesTotal;
+
+    @SerializedName("congestion_encountered")
+    private boolean congestionEncountered;
+
+    @SerializedName("conversation_key")
+    private String conversationKey;
+
+    @SerializedName("dscp")
+    private Integer dscp;
+
+    @SerializedName("exporter")
+    private Exporter exporter;
+
+    @SerializedName("grouped_by")
+    private GroupedBy groupedBy;
+
+    @SerializedName("grouped_by_key")
+    private String groupedByKey;
+
+    @SerializedName("host_address")
+    private String hostAddress;
+
+    @SerializedName("host_name")
+    private String hostName;
+
+    @SerializedName("if_index")
+    private Integer ifIndex;
+
+    @SerializedName("non_ect")
+    private boolean nonEct;
+
+    @SerializedName("range_end")
+    private long rangeEnd;
+
+    @SerializedName("range_start")
+    private long rangeStart;
+
+    /**
+     * Position in the top K, only set for TOPK documents.
+     */
+    @SerializedName("ranking")
+    private Integer ranking;
+
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    public void setTimestamp(final long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getAggregationType() {
+        return this.aggregationType;
+    }
+
+    public void setAggregationType(final String aggregationType) {
+        this.aggregationType = aggregationType;
+    }
+
+    public String getApplication() {
+        return this.application;
+    }
+
+    public void setApplication(final String application) {
+        this.application = application;
+    }
+
+    public long getBytesEgress() {
+        return this.bytesEgress;
+    }
+
+    public void setBytesEgress(final long bytesEgress) {
+        this.bytesEgress = bytesEgress;
+    }
+
+    public long getBytesIngress() {
+        return this.bytesIngress;
+    }
+
+    public void setBytesIngress(final long bytesIngress) {
+        this.bytesIngress = bytesIngress;
+    }
+
+    public long getBytesTotal() {
+        return this.bytesTotal;
+    }
+
+    public void setBytesTotal(final long bytesTotal) {
+        this.bytesTotal = bytesTotal;
+    }
+
+    public boolean isCongestionEncountered() {
+        return this.congestionEncountered;
+    }
+
+    public void setCongestionEncountered(final boolean congestionEncountered) {
+        this.congestionEncountered = congestionEncountered;
+    }
+
+    public String getConversationKey() {
+        return this.conversationKey;
+    }
+
+    public void setConversationKey(final String conversationKey) {
+        this.conversationKey = conversationKey;
+    }
+
+    public Integer getDscp() {
+        return this.dscp;
+    }
+
+    public void setDscp(final Integer dscp) {
+        this.dscp = dscp;
+    }
+
+    public Exporter getExporter() {
+        return this.exporter;
+    }
+
+    public void setExporter(final Exporter exporter) {
+        this.exporter = exporter;
+    }
+
+    public GroupedBy getGroupedBy() {
+        return this.groupedBy;
+    }
+
+    public void setGroupedBy(final GroupedBy groupedBy) {
+        this.groupedBy = groupedBy;
+    }
+
+    public String getGroupedByKey() {
+        return this.groupedByKey;
+    }
+
+    public void setGroupedByKey(final String groupedByKey) {
+        this.groupedByKey = groupedByKey;
+    }
+
+    public String getHostAddress() {
+        return this.hostAddress;
+    }
+
+    public void setHostAddress(final String hostAddress) {
+        this.hostAddress = hostAddress;
+    }
+
+    public String getHostName() {
+        return this.hostName;
+    }
+
+    public void setHostName(final String hostName) {
+        this.hostName = hostName;
+    }
+
+    public Integer getIfIndex() {
+        return this.ifIndex;
+    }
+
+    public void setIfIndex(final Integer ifIndex) {
+        this.ifIndex = ifIndex;
+    }
+
+    public boolean isNonEct() {
+        return this.nonEct;
+    }
+
+    public void setNonEct(final boolean nonEct) {
+        this.nonEct = nonEct;
+    }
+
+    public long getRangeEnd() {
+        return this.rangeEnd;
+    }
+
+    public void setRangeEnd(final long rangeEnd) {
+        this.rangeEnd = rangeEnd;
+    }
+
+    public long getRangeStart() {
+        return this.rangeStart;
+    }
+
+    public void setRangeStart(final long rangeStart) {
+        this.rangeStart = rangeStart;
+    }
+
+    public Integer getRanking() {
+        return this.ranking;
+    }
+
+    public void setRanking(final Integer ranking) {
+        this.ranking = ranking;
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.elastic.agg;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.TimerTask;
+
+import org.opennms.features.jest.client.JestClientWithCircuitBreaker;
+import org.opennms.features.jest.client.bulk.BulkRequest;
+import org.opennms.features.jest.client.bulk.BulkWrapper;
+import org.opennms.features.jest.client.index.IndexStrategy;
+import org.opennms.features.jest.client.template.IndexSettings;
+import org.opennms.integration.api.v1.flows.Flow;
+import org.opennms.integration.api.v1.flows.FlowException;
+import org.opennms.integration.api.v1.flows.FlowRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import io.searchbox.core.Bulk;
+import io.searchbox.core.Index;
+
+/**
+ * Aggregates flows in memory and persists the aggregates to the aggregated flow index once their window is closed.
+ *
+ * This allows the {@link AggregatedFlowQueryService} to be used without running an external streaming job.
+ */
+public class AggregatingFlowRepository implements FlowRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AggregatingFlowRepository.class);
+
+    private static final String INDEX_NAME = "netflow_agg";
+
+    private final JestClientWithCircuitBreaker client;
+
+    private final IndexStrategy indexStrategy;
+
+    private final IndexSettings indexSettings;
+
+    /**
+     * Flows/second aggregated
+     */
+    private final Meter flowsAggregatedMeter;
+
+    /**
+     * Flows/second that could not be attributed to an exporter interface
+     */
+    private final Meter flowsSkippedMeter;
+
+    /**
+     * Flows/second dropped because their windows were already persisted
+     */
+    private final Meter flowsLateMeter;
+
+    /**
+     * Aggregate documents/second persisted
+     */
+    private final Meter aggregatesPersistedMeter;
+
+    /**
+     * Aggregate documents/second dropped because they could not be persisted
+     */
+    private final Meter aggregatesDroppedMeter;
+
+    /**
+     * Time taken to flush the closed windows
+     */
+    private final Timer flushTimer;
+
+    private long windowSizeMs = 60000;
+    private boolean enabled = true;
+    private long allowedLatenessMs = 30000;
+    private long maxFlowDurationMs = FlowAggregator.DEFAULT_MAX_FLOW_DURATION_MS;
+    private int topK = 10;
+    private int sketchCapacity = 100;
+    private int bulkRetryCount = 5;
+    private int maxPendingDocuments = 100000;
+
+    /**
+     * Read by the threads persisting flows and by the flush timer, written by {@link #start()} and {@link #stop()}.
+     */
+    private volatile FlowAggregator aggregator;
+
+    /**
+     * Guarded by this.
+     */
+    private java.util.Timer timer;
+
+    /**
+     * Documents that could not be persisted, oldest first. These are retried on the next flush. Guarded by itself.
+     */
+    private final Deque<AggregatedFlowDocument> pending = new ArrayDeque<>();
+
+    public AggregatingFlowRepository(final MetricRegistry metricRegistry,
+                                     final JestClientWithCircuitBreaker jestClient,
+                                     final IndexStrategy indexStrategy,
+                                     final IndexSettings indexSettings) {
+        this.client = Objects.requireNonNull(jestClient);
+        this.indexStrategy = Objects.requireNonNull(indexStrategy);
+        this.indexSettings = Objects.requireNonNull(indexSettings);
+
+        this.flowsAggregatedMeter = metricRegistry.meter("flowsAggregated");
+        this.flowsSkippedMeter = metricRegistry.meter("flowsSkippedForAggregation");
+        this.flowsLateMeter = metricRegistry.meter("flowsLateForAggregation");
+        this.aggregatesPersistedMeter = metricRegistry.meter("aggregatesPersisted");
+        this.aggregatesDroppedMeter = metricRegistry.meter("aggregatesDropped");
+        this.flushTimer = metricRegistry.timer("aggregateFlushing");
+    }
+
+    public synchronized void start() {
+        if (this.aggregator != null || !this.enabled) {
+            return;
+        }
+
+        this.aggregator = new FlowAggregator(this.windowSizeMs, this.topK, this.sketchCapacity, this.maxFlowDurationMs);
+
+        final long delay = Math.max(1000, Math.min(this.windowSizeMs, this.allowedLatenessMs) / 2);
+        this.timer = new java.util.Timer("AggregatingFlowRepositoryFlush");
+        this.timer.scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                try {
+                    flush(System.currentTimeMillis() - allowedLatenessMs);
+                } catch (Throwable t) {
+                    LOG.error("An error occurred while persisting aggregated flows.", t);
+                }
+            }
+        }, delay, delay);
+    }
+
+    public synchronized void stop() throws FlowException {
+        if (this.timer != null) {
+            this.timer.cancel();
+            this.timer = null;
+        }
+        if (this.aggregator != null) {
+            final List<AggregatedFlowDocument> documents = this.takePending();
+            documents.addAll(this.aggregator.flushAll());
+            this.aggregator = null;
+            try {
+                this.persistBulk(documents);
+            } catch (final FlowException ex) {
+                // Nothing left to retry them
+                this.aggregatesDroppedMeter.mark(documents.size());
+                LOG.error("Dropped {} aggregated flow documents which could not be persisted on shutdown.", documents.size());
+                throw ex;
+            }
+        }
+    }
+
+    @Override
+    public void persist(final Collection<? extends Flow> flows) throws FlowException {
+        final FlowAggregator aggregator = this.aggregator;
+        if (aggregator == null) {
+            throw new FlowException("Aggregating flow repository is not started");
+        }
+
+        for (final Flow flow : flows) {
+            switch (aggregator.aggregate(flow)) {
+                case AGGREGATED:
+                    this.flowsAggregatedMeter.mark();
+                    break;
+                case LATE:
+                    this.flowsLateMeter.mark();
+                    break;
+                default:
+                    this.flowsSkippedMeter.mark();
+            }
+        }
+    }
+
+    private void flush(final long closedBefore) throws FlowException {
+        final FlowAggregator aggregator = this.aggregator;
+        if (aggregator == null) {
+            return;
+        }
+
+        try (final Timer.Context ctx = this.flushTimer.time()) {
+            final List<AggregatedFlowDocument> documents = this.takePending();
+            documents.addAll(aggregator.flush(closedBefore));
+            try {
+                this.persistBulk(documents);
+            } catch (final FlowException ex) {
+                this.requeue(documents);
+                throw ex;
+            }
+        }
+    }
+
+    private List<AggregatedFlowDocument> takePending() {
+        synchronized (this.pending) {
+            final List<AggregatedFlowDocument> documents = new ArrayList<>(this.pending);
+            this.pending.clear();
+            return documents;
+        }
+    }
+
+    /**
+     * Keeps the documents for the next flush. If more than {@link #maxPendingDocuments} are pending, the oldest ones
+     * are dropped.
+     */
+    private void requeue(final List<AggregatedFlowDocument> documents) {
+        int dropped = 0;
+        synchronized (this.pending) {
+            this.pending.addAll(documents);
+            while (this.pending.size() > this.maxPendingDocuments) {
+                this.pending.removeFirst();
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            this.aggregatesDroppedMeter.mark(dropped);
+            LOG.error("Dropped {} aggregated flow documents which could not be persisted. At most {} documents are kept for retrying.",
+                    dropped, this.maxPendingDocuments);
+        }
+        LOG.warn("Failed to persist {} aggregated flow documents, retrying on the next flush.", documents.size());
+    }
+
+    private void persistBulk(final List<AggregatedFlowDocument> documents) throws FlowException {
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        LOG.debug("Persisting {} aggregated flow documents.", documents.size());
+        final BulkRequest<AggregatedFlowDocument> bulkRequest = new BulkRequest<>(this.client, documents, (docs) -> {
+            final Bulk.Builder bulkBuilder = new Bulk.Builder();
+            for (final AggregatedFlowDocument document : docs) {
+                final String index = this.indexStrategy.getIndex(this.indexSettings, INDEX_NAME, Instant.ofEpochMilli(document.getTimestamp()));
+                bulkBuilder.addAction(new Index.Builder(document).index(index).build());
+            }
+            return new BulkWrapper(bulkBuilder);
+        }, this.bulkRetryCount);
+
+        try {
+            bulkRequest.execute();
+        } catch (IOException ex) {
+            LOG.error("An error occurred while executing the given request: {}", ex.getMessage(), ex);
+            throw new FlowException(ex.getMessage(), ex);
+        }
+        this.aggregatesPersistedMeter.mark(documents.size());
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * If not enabled, {@link #start()} neither creates the aggregator nor the flush timer.
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getWindowSizeMs() {
+        return this.windowSizeMs;
+    }
+
+    public void setWindowSizeMs(final long windowSizeMs) {
+        this.windowSizeMs = windowSizeMs;
+    }
+
+    public long getAllowedLatenessMs() {
+        return this.allowedLatenessMs;
+    }
+
+    public void setAllowedLatenessMs(final long allowedLatenessMs) {
+        this.allowedLatenessMs = allowedLatenessMs;
+    }
+
+    public long getMaxFlowDurationMs() {
+        return this.maxFlowDurationMs;
+    }
+
+    public void setMaxFlowDurationMs(final long maxFlowDurationMs) {
+        this.maxFlowDurationMs = maxFlowDurationMs;
+    }
+
+    public int getTopK() {
+        return this.topK;
+    }
+
+    public void setTopK(final int topK) {
+        this.topK = topK;
+    }
+
+    public int getSketchCapacity() {
+        return this.sketchCapacity;
+    }
+
+    public void setSketchCapacity(final int sketchCapacity) {
+        this.sketchCapacity = sketchCapacity;
+    }
+
+    public int getBulkRetryCount() {
+        return this.bulkRetryCount;
+    }
+
+    public void setBulkRetryCount(final int bulkRetryCount) {
+        this.bulkRetryCount = bulkRetryCount;
+    }
+
+    public int getMaxPendingDocuments() {
+        return this.maxPendingDocuments;
+    }
+
+    public void setMaxPendingDocuments(final int maxPendingDocuments) {
+        this.maxPendingDocuments = maxPendingDocuments;
+    }
+}
@@ -0,0 +1,456 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.elastic.agg;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+import org.opennms.integration.api.v1.flows.Flow;
+
+/**
+ * Aggregates flows into fixed, time aligned windows per exporter and interface.
+ *
+ * For every window, the aggregator keeps the traffic totals of the interface
+ * and of every DSCP value seen on it, and tracks the top applications, hosts
+ * and conversations using a {@link TopKSketch}. A flow spanning multiple
+ * windows contributes to each of them in proportion to the overlap, the
+ * same way the proportional_sum aggregation distributes raw flows over
+ * buckets at query time.
+ *
+ * Closed windows are turned into the documents used by the
+ * {@link AggregatedFlowQueryService}. Once a window was flushed, late flows
+ * are no longer added to it, so that it is not persisted twice.
+ *
+ * Flows lasting longer than the maximum flow duration, usually caused by
+ * bogus timestamps, are only attributed to the windows covering the end of
+ * the flow, so that a single flow can not create an unbounded number of
+ * windows.
+ */
+public class FlowAggregator {
+
+    public static final String UNKNOWN_APPLICATION = "__unknown";
+
+    public static final long DEFAULT_MAX_FLOW_DURATION_MS = 3_600_000;
+
+    public enum Result {
+        AGGREGATED,
+        /** The flow can not be attributed to an exporter interface */
+        SKIPPED,
+        /** All windows of the flow were already flushed */
+        LATE,
+    }
+
+    private static final int ECN_NON_ECT = 0;
+    private static final int ECN_CE = 3;
+
+    private final long windowSizeMs;
+    private final int topK;
+    private final int sketchCapacity;
+    private final long maxFlowDurationMs;
+
+    private final NavigableMap<Long, Window> windows = new ConcurrentSkipListMap<>();
+
+    /**
+     * Aggregating flows holds the read lock while flushing removes windows with the write lock, so no flow can
+     * be added to a window once it was handed out for flushing.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Start of the first window which was not flushed yet, guarded by the lock.
+     */
+    private long watermark = Long.MIN_VALUE;
+
+    public FlowAggregator(final long windowSizeMs, final int topK, final int sketchCapacity) {
+        this(windowSizeMs, topK, sketchCapacity, DEFAULT_MAX_FLOW_DURATION_MS);
+    }
+
+    public FlowAggregator(final long windowSizeMs, final int topK, final int sketchCapacity, final long maxFlowDurationMs) {
+        if (windowSizeMs <= 0) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSizeMs);
+        }
+        if (topK <= 0 || sketchCapacity < topK) {
+            throw new IllegalArgumentException("Sketch capacity must be at least K: K=" + topK + ", capacity=" + sketchCapacity);
+        }
+        if (maxFlowDurationMs <= 0) {
+            throw new IllegalArgumentException("Max flow duration must be positive: " + maxFlowDurationMs);
+        }
+        this.windowSizeMs = windowSizeMs;
+        this.topK = topK;
+        this.sketchCapacity = sketchCapacity;
+        this.maxFlowDurationMs = maxFlowDurationMs;
+    }
+
+    /**
+     * Adds the flow to all windows it overlaps which were not flushed yet.
+     */
+    public Result aggregate(final Flow flow) {
+        final Flow.NodeInfo exporter = flow.getExporterNodeInfo();
+        if (exporter == null || flow.getBytes() == null) {
+            return Result.SKIPPED;
+        }
+
+        final boolean ingress = flow.getDirection() != Flow.Direction.EGRESS;
+        final Integer ifIndex = ingress ? flow.getInputSnmp() : flow.getOutputSnmp();
+        if (ifIndex == null) {
+            return Result.SKIPPED;
+        }
+
+        final Instant last = flow.getLastSwitched() != null ? flow.getLastSwitched() : flow.getTimestamp();
+        if (last == null) {
+            return Result.SKIPPED;
+        }
+        final Instant first = flow.getDeltaSwitched() != null ? flow.getDeltaSwitched() : flow.getFirstSwitched();
+
+        final long end = last.toEpochMilli();
+        // A flow starting at 0 or before a sysUptime reset would otherwise span millions of windows
+        final long start = first != null ? Math.max(Math.min(first.toEpochMilli(), end), end - this.maxFlowDurationMs) : end;
+
+        final double samplingInterval = flow.getSamplingInterval() != null && flow.getSamplingInterval() > 0
+                ? flow.getSamplingInterval()
+                : 1.0;
+        final double bytes = flow.getBytes() * samplingInterval;
+
+        final Sample sample = new Sample(flow, ingress);
+        final InterfaceKey key = new InterfaceKey(new AggregatedFlowDocument.Exporter(exporter.getNodeId(),
+                                                                                      exporter.getForeignSource(),
+                                                                                      exporter.getForeignId()),
+                                                  ifIndex);
+
+        this.lock.readLock().lock();
+        try {
+            if (start == end) {
+                final long windowStart = this.windowStart(end);
+                if (windowStart < this.watermark) {
+                    return Result.LATE;
+                }
+                this.window(windowStart).add(key, sample, bytes);
+                return Result.AGGREGATED;
+            }
+
+            // The share of the flow in windows which were already flushed is dropped
+            final long firstWindowStart = Math.max(this.windowStart(start), this.watermark);
+            if (firstWindowStart >= end) {
+                return Result.LATE;
+            }
+
+            final double duration = end - start;
+            for (long windowStart = firstWindowStart; windowStart < end; windowStart += this.windowSizeMs) {
+                final long overlap = Math.min(end, windowStart + this.windowSizeMs) - Math.max(start, windowStart);
+                this.window(windowStart).add(key, sample, bytes * (overlap / duration));
+            }
+            return Result.AGGREGATED;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all windows ending at or before the given time and returns the resulting documents.
+     */
+    public List<AggregatedFlowDocument> flush(final long closedBefore) {
+        final List<Window> closed = new ArrayList<>();
+        this.lock.writeLock().lock();
+        try {
+            Map.Entry<Long, Window> entry;
+            while ((entry = this.windows.firstEntry()) != null && entry.getKey() + this.windowSizeMs <= closedBefore) {
+                closed.add(this.windows.remove(entry.getKey()));
+            }
+            this.watermark = Math.max(this.watermark, this.windowStart(closedBefore));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        final List<AggregatedFlowDocument> documents = new ArrayList<>();
+        for (final Window window : closed) {
+            window.toDocuments(documents);
+        }
+        return documents;
+    }
+
+    /**
+     * Removes all windows, regardless of whether they are closed or not, and returns the resulting documents.
+     */
+    public List<AggregatedFlowDocument> flushAll() {
+        return this.flush(Long.MAX_VALUE - this.windowSizeMs);
+    }
+
+    public int getOpenWindowCount() {
+        return this.windows.size();
+    }
+
+    public long getWindowSizeMs() {
+        return this.windowSizeMs;
+    }
+
+    private long windowStart(final long timestamp) {
+        return Math.floorDiv(timestamp, this.windowSizeMs) * this.windowSizeMs;
+    }
+
+    private Window window(final long start) {
+        return this.windows.computeIfAbsent(start, Window::new);
+    }
+
+    /**
+     * The properties of a flow used for aggregation.
+     */
+    private static class Sample {
+        private final boolean ingress;
+        private final String application;
+        private final String conversationKey;
+        private final String srcAddr;
+        private final String srcHostname;
+        private final String dstAddr;
+        private final String dstHostname;
+        private final Integer dscp;
+        private final boolean congestionEncountered;
+        private final boolean nonEct;
+
+        private Sample(final Flow flow, final boolean ingress) {
+            this.ingress = ingress;
+            this.application = flow.getApplication() != null ? flow.getApplication() : UNKNOWN_APPLICATION;
+            this.conversationKey = flow.getConvoKey();
+            this.srcAddr = flow.getSrcAddr();
+            this.srcHostname = flow.getSrcAddrHostname().orElse(null);
+            this.dstAddr = flow.getDstAddr();
+            this.dstHostname = flow.getDstAddrHostname().orElse(null);
+            this.dscp = flow.getDscp();
+            this.congestionEncountered = flow.getEcn() != null && flow.getEcn() == ECN_CE;
+            this.nonEct = flow.getEcn() != null && flow.getEcn() == ECN_NON_ECT;
+        }
+    }
+
+    private static class InterfaceKey {
+        private final AggregatedFlowDocument.Exporter exporter;
+        private final int ifIndex;
+
+        private InterfaceKey(final AggregatedFlowDocument.Exporter exporter, final int ifIndex) {
+            this.exporter = exporter;
+            this.ifIndex = ifIndex;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final InterfaceKey that = (InterfaceKey) o;
+            return this.ifIndex == that.ifIndex && this.exporter.equals(that.exporter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.exporter, this.ifIndex);
+        }
+    }
+
+    private static class Totals {
+        private double bytesIngress;
+        private double bytesEgress;
+        private boolean congestionEncountered;
+        private boolean nonEct;
+
+        private void add(final Sample sample, final double bytes) {
+            if (sample.ingress) {
+                this.bytesIngress += bytes;
+            } else {
+                this.bytesEgress += bytes;
+            }
+            this.congestionEncountered |= sample.congestionEncountered;
+            this.nonEct |= sample.nonEct;
+        }
+
+        private void add(final Totals other) {
+            this.bytesIngress += other.bytesIngress;
+            this.bytesEgress += other.bytesEgress;
+            this.congestionEncountered |= other.congestionEncountered;
+            this.nonEct |= other.nonEct;
+        }
+    }
+
+    /**
+     * Totals and top K sketches for one group of traffic: either all traffic of an interface or the traffic of an
+     * interface with a specific DSCP value.
+     */
+    private class Group {
+        private final Totals totals = new Totals();
+        private final TopKSketch<String> applications = new TopKSketch<>(FlowAggregator.this.sketchCapacity);
+        private final TopKSketch<String> hosts = new TopKSketch<>(FlowAggregator.this.sketchCapacity);
+        private final TopKSketch<String> conversations = new TopKSketch<>(FlowAggregator.this.sketchCapacity);
+
+        private void add(final Sample sample, final double bytes) {
+            this.totals.add(sample, bytes);
+            this.applications.add(sample.application, sample.ingress, bytes, sample.congestionEncountered, sample.nonEct, null);
+            if (sample.srcAddr != null) {
+                this.hosts.add(sample.srcAddr, sample.ingress, bytes, sample.congestionEncountered, sample.nonEct, sample.srcHostname);
+            }
+            if (sample.dstAddr != null) {
+                this.hosts.add(sample.dstAddr, sample.ingress, bytes, sample.congestionEncountered, sample.nonEct, sample.dstHostname);
+            }
+            if (sample.conversationKey != null) {
+                this.conversations.add(sample.conversationKey, sample.ingress, bytes, sample.congestionEncountered, sample.nonEct, null);
+            }
+        }
+    }
+
+    private class InterfaceAggregate {
+        private final Group all = new Group();
+        private final Map<Integer, Group> byDscp = new HashMap<>();
+
+        private synchronized void add(final Sample sample, final double bytes) {
+            this.all.add(sample, bytes);
+            if (sample.dscp != null) {
+                this.byDscp.computeIfAbsent(sample.dscp, dscp -> new Group()).add(sample, bytes);
+            }
+        }
+    }
+
+    private class Window {
+        private final long start;
+        private final Map<InterfaceKey, InterfaceAggregate> interfaces = new ConcurrentHashMap<>();
+
+        private Window(final long start) {
+            this.start = start;
+        }
+
+        private void add(final InterfaceKey key, final Sample sample, final double bytes) {
+            this.interfaces.computeIfAbsent(key, k -> new InterfaceAggregate()).add(sample, bytes);
+        }
+
+        private void toDocuments(final List<AggregatedFlowDocument> documents) {
+            final Map<AggregatedFlowDocument.Exporter, Totals> exporters = new LinkedHashMap<>();
+
+            for (final Map.Entry<InterfaceKey, InterfaceAggregate> e : this.interfaces.entrySet()) {
+                final InterfaceKey key = e.getKey();
+                final InterfaceAggregate aggregate = e.getValue();
+                final String interfaceKey = exporterKey(key.exporter) + "-" + key.ifIndex;
+
+                exporters.computeIfAbsent(key.exporter, exporter -> new Totals()).add(aggregate.all.totals);
+
+                documents.add(this.document(GroupedBy.EXPORTER_INTERFACE, interfaceKey, key, null, aggregate.all.totals));
+                this.topK(documents, GroupedBy.EXPORTER_INTERFACE_APPLICATION, GroupedBy.EXPORTER_INTERFACE_HOST, GroupedBy.EXPORTER_INTERFACE_CONVERSATION,
+                          interfaceKey, key, null, aggregate.all);
+
+                for (final Map.Entry<Integer, Group> tos : aggregate.byDscp.entrySet()) {
+                    final String tosKey = interfaceKey + "-" + tos.getKey();
+                    documents.add(this.document(GroupedBy.EXPORTER_INTERFACE_TOS, tosKey, key, tos.getKey(), tos.getValue().totals));
+                    this.topK(documents, GroupedBy.EXPORTER_INTERFACE_TOS_APPLICATION, GroupedBy.EXPORTER_INTERFACE_TOS_HOST, GroupedBy.EXPORTER_INTERFACE_TOS_CONVERSATION,
+                              tosKey, key, tos.getKey(), tos.getValue());
+                }
+            }
+
+            for (final Map.Entry<AggregatedFlowDocument.Exporter, Totals> e : exporters.entrySet()) {
+                final AggregatedFlowDocument document = this.document(GroupedBy.EXPORTER, exporterKey(e.getKey()), null, null, e.getValue());
+                document.setExporter(e.getKey());
+                documents.add(document);
+            }
+        }
+
+        private void topK(final List<AggregatedFlowDocument> documents,
+                          final GroupedBy applicationGroupedBy,
+                          final GroupedBy hostGroupedBy,
+                          final GroupedBy conversationGroupedBy,
+                          final String groupKey,
+                          final InterfaceKey key,
+                          final Integer dscp,
+                          final Group group) {
+            this.topK(documents, applicationGroupedBy, groupKey, key, dscp, group.applications, AggregatedFlowDocument::setApplication);
+            this.topK(documents, hostGroupedBy, groupKey, key, dscp, group.hosts, (document, host) -> document.setHostAddress(host));
+            this.topK(documents, conversationGroupedBy, groupKey, key, dscp, group.conversations, AggregatedFlowDocument::setConversationKey);
+        }
+
+        private void topK(final List<AggregatedFlowDocument> documents,
+                          final GroupedBy groupedBy,
+                          final String groupKey,
+                          final InterfaceKey key,
+                          final Integer dscp,
+                          final TopKSketch<String> sketch,
+                          final BiConsumer<AggregatedFlowDocument, String> keySetter) {
+            int ranking = 0;
+            for (final TopKSketch.Counter<String> counter : sketch.top(FlowAggregator.this.topK)) {
+                final AggregatedFlowDocument document = this.document(groupedBy, groupKey + "-" + counter.getKey(), key, dscp, null);
+                document.setAggregationType(Types.AGG_TOPK);
+                document.setRanking(ranking++);
+                keySetter.accept(document, counter.getKey());
+                document.setHostName(counter.getLabel());
+                setBytes(document, counter.getBytesIngress(), counter.getBytesEgress());
+                document.setCongestionEncountered(counter.isCongestionEncountered());
+                document.setNonEct(counter.isNonEct());
+                documents.add(document);
+            }
+        }
+
+        private AggregatedFlowDocument document(final GroupedBy groupedBy,
+                                                final String groupedByKey,
+                                                final InterfaceKey key,
+                                                final Integer dscp,
+                                                final Totals totals) {
+            final AggregatedFlowDocument document = new AggregatedFlowDocument();
+            document.setTimestamp(this.start);
+            document.setRangeStart(this.start);
+            document.setRangeEnd(this.start + FlowAggregator.this.windowSizeMs);
+            document.setGroupedBy(groupedBy);
+            document.setGroupedByKey(groupedByKey);
+            if (key != null) {
+                document.setExporter(key.exporter);
+                document.setIfIndex(key.ifIndex);
+            }
+            document.setDscp(dscp);
+            if (totals != null) {
+                document.setAggregationType(Types.AGG_TOTAL);
+                setBytes(document, totals.bytesIngress, totals.bytesEgress);
+                document.setCongestionEncountered(totals.congestionEncountered);
+                document.setNonEct(totals.nonEct);
+            }
+            return document;
+        }
+    }
+
+    private static String exporterKey(final AggregatedFlowDocument.Exporter exporter) {
+        if (exporter.getForeignSource() != null && exporter.getForeignId() != null) {
+            return exporter.getForeignSource() + ":" + exporter.getForeignId();
+        }
+        return Integer.toString(exporter.getNodeId());
+    }
+
+    private static void setBytes(final AggregatedFlowDocument document, final double bytesIngress, final double bytesEgress) {
+        final long ingress = Math.round(bytesIngress);
+        final long egress = Math.round(bytesEgress);
+        document.setBytesIngress(ingress);
+        document.setBytesEgress(egress);
+        document.setBytesTotal(ingress + egress);
+    }
+}
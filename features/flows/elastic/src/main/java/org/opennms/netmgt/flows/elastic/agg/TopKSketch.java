@@ -0,0 +1,212 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.elastic.agg;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Weighted Space-Saving sketch used to track the heaviest keys of a stream
+ * in bounded memory.
+ *
+ * The sketch keeps at most {@code capacity} counters in a min-heap ordered by
+ * their count. When a key that is not tracked arrives while the sketch is full,
+ * the counter with the smallest count is taken over by the new key and
+ * inherits its count as error. Every key whose weight exceeds
+ * {@code total / capacity} is guaranteed to be tracked.
+ *
+ * The bytes and ECN flags stored in a counter only cover the traffic observed
+ * since the counter was assigned to its key, so they never over-estimate the
+ * traffic of a key. The (over-estimating) count is only used for ranking.
+ *
+ * This class is not thread safe.
+ */
+public class TopKSketch<K> {
+
+    public static class Counter<K> {
+        private K key;
+        private int index;
+
+        private double count;
+        private double error;
+
+        private double bytesIngress;
+        private double bytesEgress;
+        private boolean congestionEncountered;
+        private boolean nonEct;
+        private String label;
+
+        private Counter(final K key, final int index) {
+            this.key = key;
+            this.index = index;
+        }
+
+        private void reset(final K key) {
+            this.key = key;
+            this.error = this.count;
+            this.bytesIngress = 0;
+            this.bytesEgress = 0;
+            this.congestionEncountered = false;
+            this.nonEct = false;
+            this.label = null;
+        }
+
+        public K getKey() {
+            return this.key;
+        }
+
+        public double getCount() {
+            return this.count;
+        }
+
+        public double getError() {
+            return this.error;
+        }
+
+        public double getBytesIngress() {
+            return this.bytesIngress;
+        }
+
+        public double getBytesEgress() {
+            return this.bytesEgress;
+        }
+
+        public boolean isCongestionEncountered() {
+            return this.congestionEncountered;
+        }
+
+        public boolean isNonEct() {
+            return this.nonEct;
+        }
+
+        public String getLabel() {
+            return this.label;
+        }
+    }
+
+    private static final Comparator<Counter<?>> BY_COUNT_DESC = Comparator.comparingDouble((Counter<?> c) -> c.count).reversed();
+
+    private final Map<K, Counter<K>> counters;
+    private final Counter<K>[] heap;
+    private int size = 0;
+
+    @SuppressWarnings("unchecked")
+    public TopKSketch(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    public void add(final K key,
+                    final boolean ingress,
+                    final double bytes,
+                    final boolean congestionEncountered,
+                    final boolean nonEct,
+                    final String label) {
+        Objects.requireNonNull(key);
+
+        Counter<K> counter = this.counters.get(key);
+        if (counter == null) {
+            if (this.size < this.heap.length) {
+                counter = new Counter<>(key, this.size);
+                this.heap[this.size++] = counter;
+                this.siftUp(counter.index);
+            } else {
+                counter = this.heap[0];
+                this.counters.remove(counter.key);
+                counter.reset(key);
+            }
+            this.counters.put(key, counter);
+        }
+
+        counter.count += bytes;
+        if (ingress) {
+            counter.bytesIngress += bytes;
+        } else {
+            counter.bytesEgress += bytes;
+        }
+        counter.congestionEncountered |= congestionEncountered;
+        counter.nonEct |= nonEct;
+        if (label != null) {
+            counter.label = label;
+        }
+
+        this.siftDown(counter.index);
+    }
+
+    /**
+     * Returns the counters with the highest counts, ordered by descending count.
+     */
+    public List<Counter<K>> top(final int k) {
+        final Counter<K>[] sorted = Arrays.copyOf(this.heap, this.size);
+        Arrays.sort(sorted, BY_COUNT_DESC);
+        return new ArrayList<>(Arrays.asList(sorted).subList(0, Math.min(k, sorted.length)));
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    private void siftUp(int i) {
+        final Counter<K> counter = this.heap[i];
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (this.heap[parent].count <= counter.count) {
+                break;
+            }
+            this.place(this.heap[parent], i);
+            i = parent;
+        }
+        this.place(counter, i);
+    }
+
+    private void siftDown(int i) {
+        final Counter<K> counter = this.heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= this.size) {
+                break;
+            }
+            if (child + 1 < this.size && this.heap[child + 1].count < this.heap[child].count) {
+                child++;
+            }
+            if (counter.count <= this.heap[child].count) {
+                break;
+            }
+            this.place(this.heap[child], i);
+            i = child;
+        }
+        this.place(counter, i);
+    }
+
+    private void place(final Counter<K> counter, final int i) {
+        this.heap[i] = counter;
+        counter.index = i;
+    }
+}
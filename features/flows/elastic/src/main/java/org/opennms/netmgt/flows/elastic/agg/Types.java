@@ -39,8 +39,8 @@ import org.opennms.netmgt.flows.processing.ConversationKeyUtils;
  */
 public class Types {
 
-    private static final String AGG_TOPK = "TOPK";
-    private static final String AGG_TOTAL = "TOTAL";
+    public static final String AGG_TOPK = "TOPK";
+    public static final String AGG_TOTAL = "TOTAL";
 
     public static final ApplicationType APPLICATION = new ApplicationType();
     public static final ConversationType CONVERSATION = new ConversationType();
@@ -0,0 +1,257 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.flows.elastic.agg;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.opennms.integration.api.v1.flows.Flow;
+import org.opennms.netmgt.flows.processing.enrichment.EnrichedFlow;
+import org.opennms.netmgt.flows.processing.enrichment.NodeInfo;
+
+public class FlowAggregatorTest {
+
+    @Test
+    public void canAggregateTotalsAndTopK() {
+        final FlowAggregator aggregator = new FlowAggregator(60_000, 2, 10);
+
+        aggregator.aggregate(flow(Flow.Direction.INGRESS, "http", "10.0.0.1", "10.0.0.2", 0, 10_000, 100));
+        aggregator.aggregate(flow(Flow.Direction.EGRESS, "http", "10.0.0.2", "10.0.0.1", 0, 10_000, 50));
+        aggregator.aggregate(flow(Flow.Direction.INGRESS, "ssh", "10.0.0.1", "10.0.0.3", 0, 10_000, 20));
+        aggregator.aggregate(flow(Flow.Direction.INGRESS, null, "10.0.0.4", "10.0.0.5", 0, 10_000, 10));
+
+        // Window is still open
+        assertThat(aggregator.flush(59_999), empty());
+
+        final List<AggregatedFlowDocument> docs = aggregator.flush(60_000);
+        assertThat(aggregator.getOpenWindowCount(), equalTo(0));
+
+        final AggregatedFlowDocument exporter = single(docs, GroupedBy.EXPORTER);
+        assertThat(exporter.getAggregationType(), equalTo(Types.AGG_TOTAL));
+        assertThat(exporter.getGroupedByKey(), equalTo("Test:1"));
+        assertThat(exporter.getBytesIngress(), equalTo(130L));
+        assertThat(exporter.getBytesEgress(), equalTo(50L));
+        assertThat(exporter.getIfIndex(), is((Integer) null));
+
+        // Ingress is accounted on the input interface, egress on the output interface
+        final List<AggregatedFlowDocument> interfaces = filter(docs, GroupedBy.EXPORTER_INTERFACE);
+        assertThat(interfaces.stream().map(AggregatedFlowDocument::getGroupedByKey).collect(Collectors.toList()),
+                   containsInAnyOrder("Test:1-1", "Test:1-2"));
+        for (final AggregatedFlowDocument doc : interfaces) {
+            assertThat(doc.getRangeStart(), equalTo(0L));
+            assertThat(doc.getRangeEnd(), equalTo(60_000L));
+            assertThat(doc.getExporter().getNodeId(), equalTo(1));
+            if (doc.getIfIndex() == 1) {
+                assertThat(doc.getBytesIngress(), equalTo(130L));
+                assertThat(doc.getBytesEgress(), equalTo(0L));
+                assertThat(doc.getBytesTotal(), equalTo(130L));
+            } else {
+                assertThat(doc.getBytesIngress(), equalTo(0L));
+                assertThat(doc.getBytesEgress(), equalTo(50L));
+            }
+        }
+
+        // Only the top 2 applications of interface 1 are kept
+        final List<AggregatedFlowDocument> apps = filter(docs, GroupedBy.EXPORTER_INTERFACE_APPLICATION).stream()
+                .filter(doc -> doc.getIfIndex() == 1)
+                .collect(Collectors.toList());
+        assertThat(apps.stream().map(AggregatedFlowDocument::getApplication).collect(Collectors.toList()),
+                   contains("http", "ssh"));
+        assertThat(apps.get(0).getAggregationType(), equalTo(Types.AGG_TOPK));
+        assertThat(apps.get(0).getRanking(), equalTo(0));
+        assertThat(apps.get(0).getBytesIngress(), equalTo(100L));
+        assertThat(apps.get(1).getRanking(), equalTo(1));
+        assertThat(apps.get(1).getGroupedByKey(), equalTo("Test:1-1-ssh"));
+
+        // Hosts carry their names
+        final AggregatedFlowDocument host = filter(docs, GroupedBy.EXPORTER_INTERFACE_HOST).stream()
+                .filter(doc -> doc.getIfIndex() == 1)
+                .findFirst().get();
+        assertThat(host.getHostAddress(), equalTo("10.0.0.1"));
+        assertThat(host.getHostName(), equalTo("host-10.0.0.1"));
+        assertThat(host.getBytesIngress(), equalTo(120L));
+
+        // Conversations and TOS groups
+        assertThat(filter(docs, GroupedBy.EXPORTER_INTERFACE_CONVERSATION).get(0).getConversationKey(),
+                   equalTo("[\"Default\",6,\"10.0.0.1\",\"10.0.0.2\",\"http\"]"));
+        final AggregatedFlowDocument tos = filter(docs, GroupedBy.EXPORTER_INTERFACE_TOS).stream()
+                .filter(doc -> doc.getIfIndex() == 1)
+                .findFirst().get();
+        assertThat(tos.getDscp(), equalTo(46));
+        assertThat(tos.getBytesIngress(), equalTo(130L));
+        assertThat(tos.isCongestionEncountered(), equalTo(true));
+        assertThat(filter(docs, GroupedBy.EXPORTER_INTERFACE_TOS_APPLICATION).get(0).getDscp(), equalTo(46));
+    }
+
+    @Test
+    public void canSplitFlowsProportionally() {
+        final FlowAggregator aggregator = new FlowAggregator(60_000, 10, 10);
+
+        // 40s in the first, 60s in the second and 20s in the third window
+        aggregator.aggregate(flow(Flow.Direction.INGRESS, "http", "10.0.0.1", "10.0.0.2", 20_000, 140_000, 1200));
+        assertThat(aggregator.getOpenWindowCount(), equalTo(3));
+
+        final List<AggregatedFlowDocument> docs = filter(aggregator.flushAll(), GroupedBy.EXPORTER_INTERFACE);
+        assertThat(docs, hasSize(3));
+        assertThat(docs.stream().map(AggregatedFlowDocument::getBytesIngress).collect(Collectors.toList()),
+                   contains(400L, 600L, 200L));
+        assertThat(docs.stream().map(AggregatedFlowDocument::getRangeStart).collect(Collectors.toList()),
+                   contains(0L, 60_000L, 120_000L));
+    }
+
+    @Test
+    public void canApplySamplingInterval() {
+        final FlowAggregator aggregator = new FlowAggregator(60_000, 10, 10);
+
+        final EnrichedFlow flow = flow(Flow.Direction.INGRESS, "http", "10.0.0.1", "10.0.0.2", 0, 0, 10);
+        flow.setSamplingInterval(100.0);
+        aggregator.aggregate(flow);
+
+        assertThat(single(aggregator.flushAll(), GroupedBy.EXPORTER_INTERFACE).getBytesIngress(), equalTo(1000L));
+    }
+
+    @Test
+    public void skipsFlowsWithoutExporterInterface() {
+        final FlowAggregator aggregator = new FlowAggregator(60_000, 10, 10);
+
+        final EnrichedFlow noExporter = flow(Flow.Direction.INGRESS, "http", "10.0.0.1", "10.0.0.2", 0, 0, 10);
+        noExporter.setExporterNodeInfo(null);
+        assertThat(aggregator.aggregate(noExporter), equalTo(FlowAggregator.Result.SKIPPED));
+
+        final EnrichedFlow noInterface = flow(Flow.Direction.EGRESS, "http", "10.0.0.1", "10.0.0.2", 0, 0, 10);
+        noInterface.setOutputSnmp(null);
+        assertThat(aggregator.aggregate(noInterface), equalTo(FlowAggregator.Result.SKIPPED));
+
+        assertThat(aggregator.flushAll(), empty());
+    }
+
+    @Test
+    public void clampsFlowsWithBogusStart() {
+        final FlowAggregator aggregator = new FlowAggregator(60_000, 10, 10, 120_000);
+
+        // Starting at the epoch, the flow would otherwise span ~28 million windows
+        final long now = 1_700_000_070_000L;
+        assertThat(aggregator.aggregate(flow(Flow.Direction.INGRESS, "http", "10.0.0.1", "10.0.0.2", 0, now, 1200)),
+                   equalTo(FlowAggregator.Result.AGGREGATED));
+        assertThat(aggregator.getOpenWindowCount(), equalTo(3));
+
+        // All bytes are attributed to the windows of the last two minutes
+        final List<AggregatedFlowDocument> docs = filter(aggregator.flushAll(), GroupedBy.EXPORTER_INTERFACE);
+        assertThat(docs.stream().map(AggregatedFlowDocument::getBytesIngress).collect(Collectors.toList()),
+                   contains(300L, 600L, 300L));
+    }
+
+    @Test
+    public void dropsLateFlowsForFlushedWindows() {
+        final FlowAggregator aggregator = new FlowAggregator(60_000, 10, 10);
+
+        aggregator.aggregate(flow(Flow.Direction.INGRESS, "http", "10.0.0.1", "10.0.0.2", 10_000, 10_000, 100));
+        assertThat(filter(aggregator.flush(60_000), GroupedBy.EXPORTER_INTERFACE), hasSize(1));
+
+        // The first window was persisted already and must not be created again
+        assertThat(aggregator.aggregate(flow(Flow.Direction.INGRESS, "http", "10.0.0.1", "10.0.0.2", 20_000, 20_000, 100)),
+                   equalTo(FlowAggregator.Result.LATE));
+        assertThat(aggregator.getOpenWindowCount(), equalTo(0));
+
+        // Only the share of the open window is kept for flows overlapping the watermark
+        assertThat(aggregator.aggregate(flow(Flow.Direction.INGRESS, "http", "10.0.0.1", "10.0.0.2", 30_000, 90_000, 100)),
+                   equalTo(FlowAggregator.Result.AGGREGATED));
+        final List<AggregatedFlowDocument> docs = filter(aggregator.flushAll(), GroupedBy.EXPORTER_INTERFACE);
+        assertThat(docs, hasSize(1));
+        assertThat(docs.get(0).getRangeStart(), equalTo(60_000L));
+        assertThat(docs.get(0).getBytesIngress(), equalTo(50L));
+    }
+
+    @Test
+    public void sketchKeepsHeavyHitters() {
+        final TopKSketch<String> sketch = new TopKSketch<>(5);
+        for (int i = 0; i < 1000; i++) {
+            sketch.add("heavy", true, 10, false, false, null);
+            sketch.add("light-" + i, false, 1, false, false, null);
+            if (i % 2 == 0) {
+                sketch.add("medium", false, 5, true, false, null);
+            }
+        }
+
+        assertThat(sketch.size(), equalTo(5));
+        final List<TopKSketch.Counter<String>> top = sketch.top(2);
+        assertThat(top.stream().map(TopKSketch.Counter::getKey).collect(Collectors.toList()), contains("heavy", "medium"));
+        // Both were tracked from the start, so the observed bytes are exact
+        assertThat(top.get(0).getBytesIngress(), equalTo(10_000.0));
+        assertThat(top.get(0).getError(), equalTo(0.0));
+        assertThat(top.get(1).getBytesEgress(), equalTo(2_500.0));
+        assertThat(top.get(1).isCongestionEncountered(), equalTo(true));
+    }
+
+    private static AggregatedFlowDocument single(final List<AggregatedFlowDocument> docs, final GroupedBy groupedBy) {
+        final List<AggregatedFlowDocument> filtered = filter(docs, groupedBy);
+        assertThat(filtered, hasSize(1));
+        return filtered.get(0);
+    }
+
+    private static List<AggregatedFlowDocument> filter(final List<AggregatedFlowDocument> docs, final GroupedBy groupedBy) {
+        return docs.stream()
+                .filter(doc -> doc.getGroupedBy() == groupedBy)
+                .collect(Collectors.toList());
+    }
+
+    private static EnrichedFlow flow(final Flow.Direction direction,
+                                     final String application,
+                                     final String srcAddr,
+                                     final String dstAddr,
+                                     final long deltaSwitched,
+                                     final long lastSwitched,
+                                     final long bytes) {
+        final EnrichedFlow flow = new EnrichedFlow();
+        flow.setExporterNodeInfo(new NodeInfo() {{
+            this.setNodeId(1);
+            this.setForeignSource("Test");
+            this.setForeignId("1");
+        }});
+        flow.setDirection(direction);
+        flow.setInputSnmp(1);
+        flow.setOutputSnmp(2);
+        flow.setApplication(application);
+        flow.setLocation("Default");
+        flow.setProtocol(6);
+        flow.setSrcAddr(srcAddr);
+        flow.setSrcAddrHostname("host-" + srcAddr);
+        flow.setDstAddr(dstAddr);
+        flow.setDeltaSwitched(Instant.ofEpochMilli(deltaSwitched));
+        flow.setLastSwitched(Instant.ofEpochMilli(lastSwitched));
+        flow.setTimestamp(Instant.ofEpochMilli(lastSwitched));
+        flow.setBytes(bytes);
+        flow.setDscp(46);
+        flow.setEcn(3);
+        return flow;
+    }
+}
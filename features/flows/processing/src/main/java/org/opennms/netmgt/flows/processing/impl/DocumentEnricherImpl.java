@@ -23,6 +23,7 @@ package org.opennms.netmgt.flows.processing.impl;
 
 import java.net.InetAddress;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -134,7 +135,7 @@ public class DocumentEnricherImpl {
             return Collections.emptyList();
         }
 
-        return sessionUtils.withTransaction(() -> flows.stream().flatMap(flow -> {
+        final List<EnrichedFlow> documents = sessionUtils.withTransaction(() -> flows.stream().flatMap(flow -> {
             final EnrichedFlow document = this.mangler.mangle(EnrichedFlow.from(flow));
             if (document == null) {
                 return Stream.empty();
@@ -167,14 +168,6 @@ public class DocumentEnricherImpl {
                 document.setFlowLocality(EnrichedFlow.Locality.PRIVATE);
             }
 
-            final ClassificationRequest classificationRequest = createClassificationRequest(document);
-
-            // Check whether classification is possible
-            if (classificationRequest.isClassifiable()) {
-                // Apply Application mapping
-                document.setApplication(classificationEngine.classify(classificationRequest));
-            }
-
             // Fix skewed clock
             // If received time and export time differ to much, correct all timestamps by the difference
             if (this.clockSkewCorrectionThreshold > 0) {
@@ -193,6 +186,28 @@ public class DocumentEnricherImpl {
 
             return Stream.of(document);
         }).collect(Collectors.toList()));
+
+        // Apply Application mapping
+        // All classifiable flows are classified as a batch
+        final List<EnrichedFlow> classifiable = new ArrayList<>(documents.size());
+        final List<ClassificationRequest> classificationRequests = new ArrayList<>(documents.size());
+        for (final EnrichedFlow document : documents) {
+            final ClassificationRequest classificationRequest = createClassificationRequest(document);
+
+            // Check whether classification is possible
+            if (classificationRequest.isClassifiable()) {
+                classifiable.add(document);
+                classificationRequests.add(classificationRequest);
+            }
+        }
+        if (!classificationRequests.isEmpty()) {
+            final List<String> applications = classificationEngine.classify(classificationRequests);
+            for (int i = 0; i < classifiable.size(); i++) {
+                classifiable.get(i).setApplication(applications.get(i));
+            }
+        }
+
+        return documents;
     }
 
     private static boolean isPrivateAddress(String ipAddress) {
@@ -215,7 +230,11 @@ public class DocumentEnricherImpl {
             }
         }
 
-        final var entry = this.interfaceToNodeCache.getFirst(location, InetAddressUtils.addr(ipAddress));
+        // Most flows are IPv4, which is looked up without parsing the address into objects
+        final long ipv4 = InetAddressUtils.toIpv4Long(ipAddress);
+        final var entry = ipv4 >= 0
+                ? this.interfaceToNodeCache.getFirstIpv4(location, (int) ipv4)
+                : this.interfaceToNodeCache.getFirst(location, InetAddressUtils.toIpAddrBytes(ipAddress.trim()));
         if(entry.isPresent()) {
             try {
                 return this.nodeInfoCache.get(entry.get());
@@ -0,0 +1,231 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin;
+
+import java.util.Arrays;
+
+/**
+ * A block of samples compressed as described in "Gorilla: A Fast, Scalable, In-Memory Time Series Database".
+ * <p>
+ * Timestamps are stored as the delta of the deltas between consecutive samples, values as the XOR with the
+ * preceding value. Regular intervals and slowly changing values take only a few bits per sample.
+ * <p>
+ * Samples must be appended in chronological order. Instances are not thread-safe.
+ */
+class CompressedChunk {
+
+    /**
+     * Receives the samples of a chunk.
+     */
+    interface SampleConsumer {
+        void accept(long time, double value);
+    }
+
+    private long[] words = new long[4];
+    private long bits = 0;
+    private int size = 0;
+
+    private long firstTime;
+    private long lastTime;
+    private long lastDelta;
+    private long lastValue;
+    private int lastLeading = -1;
+    private int lastTrailing;
+
+    /**
+     * @param time the time in milliseconds, must not be before the time of the last sample
+     * @param value the value
+     */
+    void append(final long time, final double value) {
+        final long valueBits = Double.doubleToRawLongBits(value);
+        if (size == 0) {
+            firstTime = time;
+            writeBits(time, 64);
+            writeBits(valueBits, 64);
+        } else {
+            if (time < lastTime) {
+                throw new IllegalArgumentException("Sample at " + time + " is older than the last sample at " + lastTime);
+            }
+            final long delta = time - lastTime;
+            writeTimestamp(delta - lastDelta);
+            writeValue(valueBits ^ lastValue);
+            lastDelta = delta;
+        }
+        lastTime = time;
+        lastValue = valueBits;
+        size++;
+    }
+
+    private void writeTimestamp(final long deltaOfDelta) {
+        if (deltaOfDelta == 0) {
+            writeBits(0b0, 1);
+        } else if (deltaOfDelta >= -64 && deltaOfDelta <= 63) {
+            writeBits(0b10, 2);
+            writeBits(deltaOfDelta, 7);
+        } else if (deltaOfDelta >= -256 && deltaOfDelta <= 255) {
+            writeBits(0b110, 3);
+            writeBits(deltaOfDelta, 9);
+        } else if (deltaOfDelta >= -2048 && deltaOfDelta <= 2047) {
+            writeBits(0b1110, 4);
+            writeBits(deltaOfDelta, 12);
+        } else {
+            writeBits(0b1111, 4);
+            writeBits(deltaOfDelta, 64);
+        }
+    }
+
+    private void writeValue(final long xor) {
+        if (xor == 0) {
+            writeBits(0b0, 1);
+            return;
+        }
+        final int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+        final int trailing = Long.numberOfTrailingZeros(xor);
+        if (lastLeading >= 0 && leading >= lastLeading && trailing >= lastTrailing) {
+            // The meaningful bits fit into the window of the previous value
+            writeBits(0b10, 2);
+            writeBits(xor >>> lastTrailing, 64 - lastLeading - lastTrailing);
+        } else {
+            final int meaningful = 64 - leading - trailing;
+            writeBits(0b11, 2);
+            writeBits(leading, 5);
+            writeBits(meaningful - 1, 6);
+            writeBits(xor >>> trailing, meaningful);
+            lastLeading = leading;
+            lastTrailing = trailing;
+        }
+    }
+
+    private void writeBits(long value, final int n) {
+        final int index = (int) (bits >>> 6);
+        if (index + 1 >= words.length) {
+            words = Arrays.copyOf(words, words.length + Math.max(4, words.length >> 1));
+        }
+        if (n < 64) {
+            value &= (1L << n) - 1;
+        }
+        final int free = 64 - (int) (bits & 63);
+        if (n <= free) {
+            words[index] |= value << (free - n);
+        } else {
+            words[index] |= value >>> (n - free);
+            words[index + 1] |= value << (64 - (n - free));
+        }
+        bits += n;
+    }
+
+    /**
+     * Passes all samples of the chunk to the consumer, in chronological order.
+     */
+    void forEach(final SampleConsumer consumer) {
+        if (size == 0) {
+            return;
+        }
+        final Reader reader = new Reader();
+        long time = reader.read(64);
+        long value = reader.read(64);
+        long delta = 0;
+        int leading = 0;
+        int trailing = 0;
+        consumer.accept(time, Double.longBitsToDouble(value));
+        for (int i = 1; i < size; i++) {
+            // Timestamp
+            final long deltaOfDelta;
+            if (reader.read(1) == 0) {
+                deltaOfDelta = 0;
+            } else if (reader.read(1) == 0) {
+                deltaOfDelta = reader.readSigned(7);
+            } else if (reader.read(1) == 0) {
+                deltaOfDelta = reader.readSigned(9);
+            } else if (reader.read(1) == 0) {
+                deltaOfDelta = reader.readSigned(12);
+            } else {
+                deltaOfDelta = reader.read(64);
+            }
+            delta += deltaOfDelta;
+            time += delta;
+
+            // Value
+            if (reader.read(1) == 1) {
+                if (reader.read(1) == 1) {
+                    leading = (int) reader.read(5);
+                    final int meaningful = (int) reader.read(6) + 1;
+                    trailing = 64 - leading - meaningful;
+                }
+                value ^= reader.read(64 - leading - trailing) << trailing;
+            }
+            consumer.accept(time, Double.longBitsToDouble(value));
+        }
+    }
+
+    /**
+     * Releases the unused capacity, should be called once no more samples are appended.
+     */
+    void trim() {
+        final int used = Math.max(1, (int) ((bits + 63) >>> 6));
+        if (used < words.length) {
+            words = Arrays.copyOf(words, used);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long getFirstTime() {
+        return firstTime;
+    }
+
+    long getLastTime() {
+        return lastTime;
+    }
+
+    /**
+     * @return the approximate number of bytes used by this chunk, including the object overhead
+     */
+    long sizeInBytes() {
+        return 80L + 16L + words.length * 8L;
+    }
+
+    private class Reader {
+        private long position = 0;
+
+        private long read(final int n) {
+            final int index = (int) (position >>> 6);
+            final int free = 64 - (int) (position & 63);
+            long result;
+            if (n <= free) {
+                result = words[index] >>> (free - n);
+            } else {
+                result = (words[index] << (n - free)) | (words[index + 1] >>> (64 - (n - free)));
+            }
+            position += n;
+            return n < 64 ? result & ((1L << n) - 1) : result;
+        }
+
+        private long readSigned(final int n) {
+            final long value = read(n);
+            // Sign-extend the two's complement value
+            return (value << (64 - n)) >> (64 - n);
+        }
+    }
+}
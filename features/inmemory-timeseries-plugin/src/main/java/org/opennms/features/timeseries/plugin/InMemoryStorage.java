@@ -21,97 +21,193 @@
  */
 package org.opennms.features.timeseries.plugin;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.opennms.integration.api.v1.timeseries.Aggregation;
+import org.opennms.integration.api.v1.timeseries.DataPoint;
 import org.opennms.integration.api.v1.timeseries.Metric;
 import org.opennms.integration.api.v1.timeseries.Sample;
-import org.opennms.integration.api.v1.timeseries.DataPoint;
-import org.opennms.integration.api.v1.timeseries.Aggregation;
-import org.opennms.integration.api.v1.timeseries.Tag;
-import org.opennms.integration.api.v1.timeseries.TagMatcher;
 import org.opennms.integration.api.v1.timeseries.StorageException;
-import org.opennms.integration.api.v1.timeseries.TimeSeriesStorage;
+import org.opennms.integration.api.v1.timeseries.TagMatcher;
 import org.opennms.integration.api.v1.timeseries.TimeSeriesData;
 import org.opennms.integration.api.v1.timeseries.TimeSeriesFetchRequest;
+import org.opennms.integration.api.v1.timeseries.TimeSeriesStorage;
 import org.opennms.integration.api.v1.timeseries.immutables.ImmutableDataPoint;
 import org.opennms.integration.api.v1.timeseries.immutables.ImmutableTimeSeriesData;
 
-import com.google.re2j.Pattern;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
 
 /**
- * Simulates a TimeSeriesStorage in memory (ConcurrentHashMap). The implementation is super simple and not very efficient.
- * For testing and evaluating purposes only, not for production.
+ * Simulates a TimeSeriesStorage in memory. For testing and evaluating purposes only, not for production.
+ * <p>
+ * The samples of every metric are split into partitions of {@link #setChunkDurationMs(long)} and each partition is
+ * stored as a {@link CompressedChunk}. Samples older than the retention are dropped and whole partitions are evicted,
+ * oldest first, once they expired or the memory budget is exhausted. Metrics without any samples left are removed
+ * as well. The tags are kept in a {@link TagIndex} so
+ * {@link #findMetrics(Collection)} does not need to look at every metric.
+ * <p>
+ * Timestamps are stored with millisecond precision.
  */
 public class InMemoryStorage implements TimeSeriesStorage {
 
-    private final Map<Metric, Collection<DataPoint>> data = new ConcurrentHashMap<>();
+    public static final long DEFAULT_CHUNK_DURATION_MS = TimeUnit.HOURS.toMillis(2);
+    public static final long DEFAULT_RETENTION_MS = TimeUnit.HOURS.toMillis(24);
+    public static final long DEFAULT_MAX_MEMORY_BYTES = 256L * 1024 * 1024;
+
+    private final Map<Metric, Series> data = new ConcurrentHashMap<>();
+    private final TagIndex index = new TagIndex();
+
+    /** The series holding a chunk for the given partition, guarded by itself. */
+    private final TreeMap<Long, Set<Series>> partitions = new TreeMap<>();
+
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong samples = new AtomicLong();
+
+    private final MetricRegistry metrics = new MetricRegistry();
+    private final Meter samplesStored = metrics.meter("samples.stored");
+    private final Meter samplesDropped = metrics.meter("samples.dropped");
+    private final Counter chunksEvicted = metrics.counter("chunks.evicted");
+    private final Counter seriesEvicted = metrics.counter("series.evicted");
+
+    private volatile long chunkDurationMs = DEFAULT_CHUNK_DURATION_MS;
+    private volatile long retentionMs = DEFAULT_RETENTION_MS;
+    private volatile long maxMemoryBytes = DEFAULT_MAX_MEMORY_BYTES;
+    private Clock clock = Clock.systemUTC();
+
+    public InMemoryStorage() {
+        metrics.register("series", (Gauge<Integer>) data::size);
+        metrics.register("samples", (Gauge<Long>) samples::get);
+        metrics.register("bytes", (Gauge<Long>) bytes::get);
+        metrics.register("partitions", (Gauge<Integer>) () -> {
+            synchronized (partitions) {
+                return partitions.size();
+            }
+        });
+    }
 
     public final Map<Metric, Collection<DataPoint>> getAllMetrics() {
-        return Collections.unmodifiableMap(data);
+        final Map<Metric, Collection<DataPoint>> result = new HashMap<>();
+        for (final Series series : data.values()) {
+            result.put(series.metric, series.read(Instant.MIN, Instant.MAX));
+        }
+        return Collections.unmodifiableMap(result);
     }
 
     @Override
     public void store(final List<Sample> samples) {
         Objects.requireNonNull(samples);
+        final long now = clock.millis();
+        final long oldest = retentionMs > 0 ? now - retentionMs : Long.MIN_VALUE;
         for(Sample sample : samples) {
-            Collection<DataPoint> timeseries = data.computeIfAbsent(sample.getMetric(), k -> new ConcurrentLinkedQueue<>());
-            timeseries.add(new ImmutableDataPoint(sample.getTime(), sample.getValue()));
+            final long time = sample.getTime().toEpochMilli();
+            if (time < oldest || !reserveMemory()) {
+                samplesDropped.mark();
+                continue;
+            }
+            boolean newPartition;
+            while (true) {
+                final Series series = data.computeIfAbsent(sample.getMetric(), metric -> {
+                    index.add(metric);
+                    return new Series(metric);
+                });
+                final Boolean appended = series.append(time, sample.getValue());
+                if (appended != null) {
+                    newPartition = appended;
+                    break;
+                }
+                // the series was deleted concurrently, start over with a new one
+            }
+            samplesStored.mark();
+            if (newPartition && retentionMs > 0) {
+                expire(oldest);
+            }
         }
     }
 
-    @Override
-    public List<Metric> findMetrics(Collection<TagMatcher> tagMatchers) {
-        Objects.requireNonNull(tagMatchers);
-        if(tagMatchers.isEmpty()) {
-            throw new IllegalArgumentException("We expect at least one TagMatcher but none was given.");
+    /**
+     * Evicts the oldest partitions until we are below the memory budget. The newest partition is never evicted.
+     *
+     * @return false if the budget is still exhausted
+     */
+    private boolean reserveMemory() {
+        final long max = maxMemoryBytes;
+        while (max > 0 && bytes.get() >= max) {
+            if (!evictOldestPartition(Long.MAX_VALUE)) {
+                return false;
+            }
         }
-        return data.keySet()
-                .stream()
-                .filter(metric -> this.matches(tagMatchers, metric))
-                .collect(Collectors.toList());
+        return true;
     }
 
-    /** Each matcher must be matched by at least one tag. */
-    private static boolean matches(final Collection<TagMatcher> matchers, final Metric metric) {
-        final Set<Tag> searchableTags = new HashSet<>(metric.getIntrinsicTags());
-        searchableTags.addAll(metric.getMetaTags());
-
-        for(TagMatcher matcher : matchers) {
-            if(searchableTags.stream().noneMatch(t -> matches(matcher, t))) {
-                return false; // this TagMatcher didn't find any matching tag => this Metric is not part of search result;
-            }
+    /**
+     * Evicts the partitions which only contain samples older than the retention.
+     */
+    private void expire(final long oldest) {
+        while (evictOldestPartition(oldest - chunkDurationMs)) {
+            // keep going
         }
-        return true; // all matched
     }
 
-    private static boolean matches(final TagMatcher matcher, final Tag tag) {
-
-        if(!matcher.getKey().equals(tag.getKey())) {
-            return false; // not even the key matches => we are done.
+    private boolean evictOldestPartition(final long before) {
+        final long partition;
+        final List<Series> victims;
+        synchronized (partitions) {
+            if (partitions.size() < 2 || partitions.firstKey() >= before) {
+                return false;
+            }
+            final Map.Entry<Long, Set<Series>> oldest = partitions.firstEntry();
+            partition = oldest.getKey();
+            victims = new ArrayList<>(oldest.getValue());
         }
+        for (final Series series : victims) {
+            series.evict(partition);
+            // forget the metric once all of its samples are gone
+            data.computeIfPresent(series.metric, (m, current) -> {
+                if (current != series || !series.removeIfEmpty()) {
+                    return current;
+                }
+                index.remove(series.metric);
+                seriesEvicted.inc();
+                return null;
+            });
+        }
+        synchronized (partitions) {
+            // keep the partition if series were added to it in the meantime
+            final Set<Series> remaining = partitions.get(partition);
+            if (remaining != null) {
+                remaining.removeAll(victims);
+                if (remaining.isEmpty()) {
+                    partitions.remove(partition);
+                }
+            }
+        }
+        return true;
+    }
 
-        // Tags have always a non null value so we don't have to null check for them.
-        if(TagMatcher.Type.EQUALS == matcher.getType()) {
-            return tag.getValue().equals(matcher.getValue());
-        } else if (TagMatcher.Type.NOT_EQUALS == matcher.getType()) {
-            return !tag.getValue().equals(matcher.getValue());
-        } else if (TagMatcher.Type.EQUALS_REGEX == matcher.getType()) {
-            return Pattern.matches(matcher.getValue(), tag.getValue());
-        } else if (TagMatcher.Type.NOT_EQUALS_REGEX == matcher.getType()) {
-            return !Pattern.matches(matcher.getValue(), tag.getValue());
-        } else {
-            throw new IllegalArgumentException("Implement me for " + matcher.getType());
+    @Override
+    public List<Metric> findMetrics(Collection<TagMatcher> tagMatchers) {
+        Objects.requireNonNull(tagMatchers);
+        if(tagMatchers.isEmpty()) {
+            throw new IllegalArgumentException("We expect at least one TagMatcher but none was given.");
         }
+        return index.find(tagMatchers);
     }
 
     @Override
@@ -129,31 +225,189 @@ public class InMemoryStorage implements TimeSeriesStorage {
         }
 
         // get the original metric instead of the one from the request since the one from the request might not have all tags
-        Metric metric = data.keySet().stream()
-                .filter(m -> m.getKey().equals(request.getMetric().getKey()))
-                .findFirst()
-                .orElse(request.getMetric());
-
-        List<DataPoint> dataPoints = Optional.ofNullable(data.get(request.getMetric())).stream()
-                .flatMap(Collection::stream)
-                .filter(sample -> sample.getTime().isAfter(request.getStart()))
-                .filter(sample -> sample.getTime().isBefore(request.getEnd()))
-                .collect(Collectors.toList());
+        final Series series = data.get(request.getMetric());
+        if (series == null) {
+            return ImmutableTimeSeriesData.builder()
+                    .metric(request.getMetric())
+                    .dataPoints(Collections.emptyList())
+                    .build();
+        }
 
         return ImmutableTimeSeriesData.builder()
-                .metric(metric)
-                .dataPoints(dataPoints)
+                .metric(series.metric)
+                .dataPoints(series.read(request.getStart(), request.getEnd()))
                 .build();
     }
 
     @Override
     public void delete(Metric metric) {
         Objects.requireNonNull(metric);
-        this.data.remove(metric);
+        this.data.computeIfPresent(metric, (m, series) -> {
+            index.remove(series.metric);
+            series.clear();
+            return null;
+        });
+    }
+
+    public MetricRegistry getMetricRegistry() {
+        return metrics;
+    }
+
+    public void setChunkDurationMs(final long chunkDurationMs) {
+        if (chunkDurationMs <= 0) {
+            throw new IllegalArgumentException("The chunk duration must be positive: " + chunkDurationMs);
+        }
+        this.chunkDurationMs = chunkDurationMs;
+    }
+
+    /**
+     * @param retentionMs the time samples are kept for, 0 keeps them forever
+     */
+    public void setRetentionMs(final long retentionMs) {
+        this.retentionMs = retentionMs;
+    }
+
+    /**
+     * @param maxMemoryBytes the approximate number of bytes used for samples, 0 disables the limit
+     */
+    public void setMaxMemoryBytes(final long maxMemoryBytes) {
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    void setClock(final Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
     }
 
     @Override
     public String toString() {
         return this.getClass().getName();
     }
+
+    /**
+     * The partitioned chunks of a single metric.
+     */
+    private class Series {
+        private final Metric metric;
+        private final TreeMap<Long, CompressedChunk> chunks = new TreeMap<>();
+        private boolean removed = false;
+
+        private Series(final Metric metric) {
+            this.metric = metric;
+        }
+
+        /**
+         * @return true if a new partition was opened, false if not and null if the series was removed
+         */
+        private synchronized Boolean append(final long time, final double value) {
+            if (removed) {
+                return null;
+            }
+            final long partition = Math.floorDiv(time, chunkDurationMs) * chunkDurationMs;
+            boolean newPartition = false;
+            CompressedChunk chunk = chunks.get(partition);
+            if (chunk == null) {
+                final Map.Entry<Long, CompressedChunk> head = chunks.lastEntry();
+                if (head != null && head.getKey() < partition) {
+                    // no more samples are expected for the previous head
+                    final long before = head.getValue().sizeInBytes();
+                    head.getValue().trim();
+                    bytes.addAndGet(head.getValue().sizeInBytes() - before);
+                }
+                chunk = new CompressedChunk();
+                chunks.put(partition, chunk);
+                synchronized (partitions) {
+                    partitions.computeIfAbsent(partition, p -> new HashSet<>()).add(this);
+                }
+                bytes.addAndGet(chunk.sizeInBytes());
+                newPartition = true;
+            }
+
+            final long before = chunk.sizeInBytes();
+            if (chunk.size() == 0 || time >= chunk.getLastTime()) {
+                chunk.append(time, value);
+            } else {
+                chunk = insert(chunk, time, value);
+                chunks.put(partition, chunk);
+            }
+            bytes.addAndGet(chunk.sizeInBytes() - before);
+            samples.incrementAndGet();
+            return newPartition;
+        }
+
+        /** Samples which arrive out of order require the chunk to be rebuilt. */
+        private CompressedChunk insert(final CompressedChunk chunk, final long time, final double value) {
+            final CompressedChunk rebuilt = new CompressedChunk();
+            final boolean[] inserted = {false};
+            chunk.forEach((t, v) -> {
+                if (!inserted[0] && time < t) {
+                    rebuilt.append(time, value);
+                    inserted[0] = true;
+                }
+                rebuilt.append(t, v);
+            });
+            if (!inserted[0]) {
+                rebuilt.append(time, value);
+            }
+            if (chunk != chunks.lastEntry().getValue()) {
+                rebuilt.trim();
+            }
+            return rebuilt;
+        }
+
+        private synchronized void evict(final long partition) {
+            final CompressedChunk chunk = chunks.remove(partition);
+            if (chunk != null) {
+                release(chunk);
+                chunksEvicted.inc();
+            }
+        }
+
+        /**
+         * Marks the series as removed if it has no chunks left, so that concurrent appends start over with a new one.
+         */
+        private synchronized boolean removeIfEmpty() {
+            if (chunks.isEmpty()) {
+                removed = true;
+            }
+            return removed;
+        }
+
+        private synchronized void clear() {
+            removed = true;
+            for (final Map.Entry<Long, CompressedChunk> entry : chunks.entrySet()) {
+                release(entry.getValue());
+                synchronized (partitions) {
+                    final Set<Series> series = partitions.get(entry.getKey());
+                    if (series != null) {
+                        series.remove(this);
+                        if (series.isEmpty()) {
+                            partitions.remove(entry.getKey());
+                        }
+                    }
+                }
+            }
+            chunks.clear();
+        }
+
+        private void release(final CompressedChunk chunk) {
+            bytes.addAndGet(-chunk.sizeInBytes());
+            samples.addAndGet(-chunk.size());
+        }
+
+        private synchronized List<DataPoint> read(final Instant start, final Instant end) {
+            final List<DataPoint> dataPoints = new ArrayList<>();
+            for (final CompressedChunk chunk : chunks.values()) {
+                if (Instant.ofEpochMilli(chunk.getLastTime()).isAfter(start)
+                        && Instant.ofEpochMilli(chunk.getFirstTime()).isBefore(end)) {
+                    chunk.forEach((t, v) -> {
+                        final Instant time = Instant.ofEpochMilli(t);
+                        if (time.isAfter(start) && time.isBefore(end)) {
+                            dataPoints.add(new ImmutableDataPoint(time, v));
+                        }
+                    });
+                }
+            }
+            return dataPoints;
+        }
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.opennms.integration.api.v1.timeseries.Metric;
+import org.opennms.integration.api.v1.timeseries.Tag;
+import org.opennms.integration.api.v1.timeseries.TagMatcher;
+
+import com.google.re2j.Pattern;
+
+/**
+ * Inverted index from the intrinsic and meta tags to the metrics, used to evaluate {@link TagMatcher}s
+ * without looking at every metric.
+ * <p>
+ * Each matcher must be matched by at least one tag of the metric. The regular expressions are only
+ * evaluated once for every distinct value of the tag.
+ */
+class TagIndex {
+
+    private final Map<String, Map<String, Set<Metric>>> index = new ConcurrentHashMap<>();
+
+    void add(final Metric metric) {
+        for (final Tag tag : tags(metric)) {
+            index.compute(tag.getKey(), (key, values) -> {
+                if (values == null) {
+                    values = new ConcurrentHashMap<>();
+                }
+                values.computeIfAbsent(tag.getValue(), v -> ConcurrentHashMap.newKeySet()).add(metric);
+                return values;
+            });
+        }
+    }
+
+    void remove(final Metric metric) {
+        for (final Tag tag : tags(metric)) {
+            index.computeIfPresent(tag.getKey(), (key, values) -> {
+                values.computeIfPresent(tag.getValue(), (v, metrics) -> {
+                    metrics.remove(metric);
+                    return metrics.isEmpty() ? null : metrics;
+                });
+                return values.isEmpty() ? null : values;
+            });
+        }
+    }
+
+    List<Metric> find(final Collection<TagMatcher> matchers) {
+        Set<Metric> result = null;
+        // Start with the most selective matchers
+        final List<TagMatcher> ordered = matchers.stream()
+                .sorted(Comparator.comparing(TagMatcher::getType))
+                .collect(Collectors.toList());
+        for (final TagMatcher matcher : ordered) {
+            final Set<Metric> candidates = candidates(matcher);
+            if (result == null) {
+                result = new HashSet<>(candidates);
+            } else {
+                result.retainAll(candidates);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? Collections.emptyList() : List.copyOf(result);
+    }
+
+    private Set<Metric> candidates(final TagMatcher matcher) {
+        final Map<String, Set<Metric>> values = index.get(matcher.getKey());
+        if (values == null) {
+            return Collections.emptySet();
+        }
+        if (TagMatcher.Type.EQUALS == matcher.getType()) {
+            return values.getOrDefault(matcher.getValue(), Collections.emptySet());
+        }
+
+        final Pattern pattern;
+        final boolean negate;
+        if (TagMatcher.Type.NOT_EQUALS == matcher.getType()) {
+            pattern = null;
+            negate = true;
+        } else if (TagMatcher.Type.EQUALS_REGEX == matcher.getType()) {
+            pattern = Pattern.compile(matcher.getValue());
+            negate = false;
+        } else if (TagMatcher.Type.NOT_EQUALS_REGEX == matcher.getType()) {
+            pattern = Pattern.compile(matcher.getValue());
+            negate = true;
+        } else {
+            throw new IllegalArgumentException("Implement me for " + matcher.getType());
+        }
+
+        final Set<Metric> candidates = new HashSet<>();
+        for (final Map.Entry<String, Set<Metric>> entry : values.entrySet()) {
+            final boolean matches = pattern != null
+                    ? pattern.matcher(entry.getKey()).matches()
+                    : entry.getKey().equals(matcher.getValue());
+            if (matches != negate) {
+                candidates.addAll(entry.getValue());
+            }
+        }
+        return candidates;
+    }
+
+    private static Set<Tag> tags(final Metric metric) {
+        final Set<Tag> tags = new HashSet<>(metric.getIntrinsicTags());
+        tags.addAll(metric.getMetaTags());
+        return tags;
+    }
+}
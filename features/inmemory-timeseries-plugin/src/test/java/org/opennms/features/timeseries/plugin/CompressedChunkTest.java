@@ -0,0 +1,88 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class CompressedChunkTest {
+
+    @Test
+    public void shouldRoundTripSamples() {
+        final Random random = new Random(42);
+        final List<long[]> expected = new ArrayList<>();
+        final CompressedChunk chunk = new CompressedChunk();
+
+        long time = -1000;
+        for (int i = 0; i < 10_000; i++) {
+            // mix regular intervals with jitter and large gaps
+            time += i % 100 == 0 ? random.nextInt(Integer.MAX_VALUE) : 300_000 + random.nextInt(3) - 1;
+            final double value;
+            switch (i % 5) {
+                case 0: value = 42.0; break;
+                case 1: value = random.nextDouble(); break;
+                case 2: value = i; break;
+                case 3: value = Double.NaN; break;
+                default: value = -Double.MAX_VALUE;
+            }
+            chunk.append(time, value);
+            expected.add(new long[]{time, Double.doubleToRawLongBits(value)});
+        }
+        chunk.trim();
+
+        final List<long[]> actual = new ArrayList<>();
+        chunk.forEach((t, v) -> actual.add(new long[]{t, Double.doubleToRawLongBits(v)}));
+
+        assertEquals(expected.size(), chunk.size());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("time of sample " + i, expected.get(i)[0], actual.get(i)[0]);
+            assertEquals("value of sample " + i, expected.get(i)[1], actual.get(i)[1]);
+        }
+        assertEquals(expected.get(0)[0], chunk.getFirstTime());
+        assertEquals(time, chunk.getLastTime());
+    }
+
+    @Test
+    public void shouldCompressRegularSamples() {
+        final CompressedChunk chunk = new CompressedChunk();
+        for (int i = 0; i < 1000; i++) {
+            chunk.append(1_600_000_000_000L + i * 300_000L, 1.0);
+        }
+        chunk.trim();
+        // two bits per sample plus the header, compared to 16 bytes per uncompressed sample
+        assertTrue(chunk.sizeInBytes() < 500);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectOutOfOrderSamples() {
+        final CompressedChunk chunk = new CompressedChunk();
+        chunk.append(1000, 1.0);
+        chunk.append(999, 1.0);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.features.timeseries.plugin;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.integration.api.v1.timeseries.Aggregation;
+import org.opennms.integration.api.v1.timeseries.DataPoint;
+import org.opennms.integration.api.v1.timeseries.Metric;
+import org.opennms.integration.api.v1.timeseries.Sample;
+import org.opennms.integration.api.v1.timeseries.TagMatcher;
+import org.opennms.integration.api.v1.timeseries.immutables.ImmutableMetric;
+import org.opennms.integration.api.v1.timeseries.immutables.ImmutableSample;
+import org.opennms.integration.api.v1.timeseries.immutables.ImmutableTagMatcher;
+import org.opennms.integration.api.v1.timeseries.immutables.ImmutableTimeSeriesFetchRequest;
+
+public class InMemoryStorageTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long NOW = 1_000 * HOUR;
+
+    private final Metric cpu = metric("cpu", "node[1]", "linux");
+    private final Metric mem = metric("mem", "node[1]", "linux");
+    private final Metric disk = metric("disk", "node[2]", "windows");
+
+    private InMemoryStorage storage;
+
+    @Before
+    public void setUp() {
+        storage = new InMemoryStorage();
+        storage.setClock(Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+    }
+
+    @Test
+    public void shouldFindMetricsByTags() {
+        storage.store(Arrays.asList(sample(cpu, NOW, 1), sample(mem, NOW, 2), sample(disk, NOW, 3)));
+
+        assertThat(storage.findMetrics(matchers(TagMatcher.Type.EQUALS, "resourceId", "node[1]")), containsInAnyOrder(cpu, mem));
+        assertThat(storage.findMetrics(matchers(TagMatcher.Type.NOT_EQUALS, "resourceId", "node[1]")), contains(disk));
+        assertThat(storage.findMetrics(matchers(TagMatcher.Type.EQUALS_REGEX, "name", "c.*|d.*")), containsInAnyOrder(cpu, disk));
+        assertThat(storage.findMetrics(matchers(TagMatcher.Type.NOT_EQUALS_REGEX, "os", "lin.*")), contains(disk));
+        // all matchers must match, meta tags are searchable as well
+        assertThat(storage.findMetrics(Arrays.asList(
+                ImmutableTagMatcher.builder().type(TagMatcher.Type.EQUALS).key("os").value("linux").build(),
+                ImmutableTagMatcher.builder().type(TagMatcher.Type.EQUALS_REGEX).key("name").value("m.*").build())), contains(mem));
+        assertThat(storage.findMetrics(matchers(TagMatcher.Type.EQUALS, "unknown", "node[1]")), empty());
+
+        storage.delete(cpu);
+        assertThat(storage.findMetrics(matchers(TagMatcher.Type.EQUALS, "resourceId", "node[1]")), contains(mem));
+    }
+
+    @Test
+    public void shouldReturnSamplesInRangeAndOrder() {
+        final List<Sample> samples = new ArrayList<>();
+        for (long t = NOW - 10 * HOUR; t < NOW; t += 60_000) {
+            samples.add(sample(cpu, t, t / 60_000));
+        }
+        // out of order samples, spread over the partitions
+        Collections.shuffle(samples, new Random(1));
+        storage.store(samples);
+
+        final List<DataPoint> dataPoints = fetch(cpu, NOW - 5 * HOUR, NOW - HOUR);
+        // start and end are exclusive
+        assertEquals(4 * 60 - 1, dataPoints.size());
+        for (int i = 0; i < dataPoints.size(); i++) {
+            final long expected = NOW - 5 * HOUR + (i + 1) * 60_000;
+            assertEquals(expected, dataPoints.get(i).getTime().toEpochMilli());
+            assertEquals(expected / 60_000, dataPoints.get(i).getValue(), 0.0);
+        }
+        assertEquals(10 * 60, storage.getAllMetrics().get(cpu).size());
+    }
+
+    @Test
+    public void shouldDropSamplesOutsideOfRetention() {
+        storage.setRetentionMs(24 * HOUR);
+        storage.store(Arrays.asList(sample(cpu, NOW - 25 * HOUR, 1), sample(cpu, NOW - 23 * HOUR, 2)));
+
+        assertThat(values(fetch(cpu, 0, NOW)), contains(2.0));
+        assertEquals(1L, storage.getMetricRegistry().meter("samples.dropped").getCount());
+    }
+
+    @Test
+    public void shouldEvictOldestPartitionsWhenOutOfMemory() {
+        storage.setRetentionMs(0);
+        storage.setMaxMemoryBytes(4096);
+
+        for (long t = NOW - 100 * HOUR; t < NOW; t += HOUR) {
+            storage.store(Arrays.asList(sample(cpu, t, Math.random()), sample(mem, t, Math.random())));
+        }
+
+        assertThat(storage.getMetricRegistry().counter("chunks.evicted").getCount() > 0, is(true));
+        // the budget is checked before a sample is added, so it may be exceeded by a single chunk
+        assertThat((Long) storage.getMetricRegistry().getGauges().get("bytes").getValue() <= 4096 + 256, is(true));
+        // the most recent samples are kept
+        assertThat(values(fetch(cpu, NOW - 2 * HOUR, NOW)).size(), is(1));
+    }
+
+    @Test
+    public void shouldRemoveMetricsWithoutSamples() {
+        storage.setRetentionMs(24 * HOUR);
+        storage.store(Arrays.asList(sample(cpu, NOW - 23 * HOUR, 1), sample(mem, NOW - 23 * HOUR, 2)));
+        storage.store(Collections.singletonList(sample(mem, NOW - HOUR, 3)));
+        assertThat(storage.findMetrics(matchers(TagMatcher.Type.EQUALS, "resourceId", "node[1]")), containsInAnyOrder(cpu, mem));
+
+        // time passes, the only partition of cpu expires
+        storage.setClock(Clock.fixed(Instant.ofEpochMilli(NOW + 24 * HOUR), ZoneOffset.UTC));
+        storage.store(Collections.singletonList(sample(mem, NOW + 24 * HOUR, 4)));
+
+        assertThat(storage.findMetrics(matchers(TagMatcher.Type.EQUALS, "resourceId", "node[1]")), contains(mem));
+        assertThat(storage.getAllMetrics().keySet(), contains(mem));
+        assertEquals(1L, storage.getMetricRegistry().counter("series.evicted").getCount());
+        assertThat(values(fetch(mem, 0, NOW + 25 * HOUR)), contains(3.0, 4.0));
+
+        // the metric comes back with new samples
+        storage.store(Collections.singletonList(sample(cpu, NOW + 24 * HOUR, 5)));
+        assertThat(storage.findMetrics(matchers(TagMatcher.Type.EQUALS, "resourceId", "node[1]")), containsInAnyOrder(cpu, mem));
+        assertThat(values(fetch(cpu, 0, NOW + 25 * HOUR)), contains(5.0));
+    }
+
+    private List<DataPoint> fetch(final Metric metric, final long start, final long end) {
+        return storage.getTimeSeriesData(ImmutableTimeSeriesFetchRequest.builder()
+                .metric(metric)
+                .start(Instant.ofEpochMilli(start))
+                .end(Instant.ofEpochMilli(end))
+                .step(Duration.ofMinutes(1))
+                .aggregation(Aggregation.NONE)
+                .build())
+                .getDataPoints();
+    }
+
+    private static List<Double> values(final List<DataPoint> dataPoints) {
+        return dataPoints.stream().map(DataPoint::getValue).collect(Collectors.toList());
+    }
+
+    private static List<TagMatcher> matchers(final TagMatcher.Type type, final String key, final String value) {
+        return Collections.singletonList(ImmutableTagMatcher.builder().type(type).key(key).value(value).build());
+    }
+
+    private static Metric metric(final String name, final String resourceId, final String os) {
+        return ImmutableMetric.builder()
+                .intrinsicTag("name", name)
+                .intrinsicTag("resourceId", resourceId)
+                .metaTag("os", os)
+                .build();
+    }
+
+    private static Sample sample(final Metric metric, final long time, final double value) {
+        return ImmutableSample.builder().metric(metric).time(Instant.ofEpochMilli(time)).value(value).build();
+    }
+}
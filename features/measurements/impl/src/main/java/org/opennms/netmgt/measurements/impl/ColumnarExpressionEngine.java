@@ -0,0 +1,206 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.measurements.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opennms.netmgt.measurements.api.FetchResults;
+import org.opennms.netmgt.measurements.impl.ColumnarExpressionParser.EvaluationException;
+import org.opennms.netmgt.measurements.impl.ColumnarExpressionParser.Node;
+import org.opennms.netmgt.measurements.impl.ColumnarExpressionParser.Type;
+import org.opennms.netmgt.measurements.impl.ColumnarExpressionParser.UnsupportedExpressionException;
+import org.opennms.netmgt.measurements.model.Expression;
+import org.opennms.netmgt.measurements.model.QueryRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Evaluates the expressions of a query column by column, instead of invoking JEXL for every row.
+ * <p>
+ * The variables are resolved the same way the {@link JEXLExpressionEngine} populates the JEXL context:
+ * the values of the sources take precedence over the timestamp and the row index, followed by the results of the
+ * preceding expressions, the built-in constants and finally the constants of the fetch results.
+ * Expressions whose label shadows any of these variables are left to JEXL, since JEXL replaces the variable
+ * with the result of the expression for the remaining expressions and rows.
+ * <p>
+ * If any expression of the query is not supported, or would fail to evaluate, nothing is applied
+ * and the query must be evaluated by JEXL instead.
+ */
+class ColumnarExpressionEngine {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ColumnarExpressionEngine.class);
+
+    /**
+     * Applies the expressions of the request to the results.
+     *
+     * @return true if the expressions were applied, false if the request must be evaluated by JEXL
+     */
+    boolean applyExpressions(final QueryRequest request, final FetchResults results) {
+        final List<Expression> expressions = request.getExpressions();
+        final long[] timestamps = results.getTimestamps();
+        final Map<String, double[]> columns = results.getColumns();
+        final int numRows = timestamps.length;
+
+        final Map<String, Integer> labels = new HashMap<>();
+        for (int k = 0; k < expressions.size(); k++) {
+            if (labels.put(expressions.get(k).getLabel(), k) != null) {
+                LOG.debug("Duplicate expression label '{}', using JEXL.", expressions.get(k).getLabel());
+                return false;
+            }
+        }
+        for (final double[] column : columns.values()) {
+            if (column == null || column.length != numRows) {
+                LOG.debug("Column size does not match the number of rows, using JEXL.");
+                return false;
+            }
+        }
+
+        final Map<String, Object> constants = new HashMap<>(results.getConstants());
+        constants.put("__inf", Double.POSITIVE_INFINITY);
+        constants.put("__neg_inf", Double.NEGATIVE_INFINITY);
+        constants.put("NaN", Double.NaN);
+        constants.put("__E", java.lang.Math.E);
+        constants.put("__PI", java.lang.Math.PI);
+        constants.put("__diff_time", numRows < 1 ? 0d : timestamps[numRows-1] - timestamps[0]);
+        constants.put("__step", results.getStep());
+
+        for (final String label : labels.keySet()) {
+            if (columns.containsKey(label) || (label.startsWith("__") && columns.containsKey(label.substring(2)))
+                    || "timestamp".equals(label) || "__i".equals(label) || constants.containsKey(label)) {
+                LOG.debug("Expression label '{}' shadows a source or constant, using JEXL.", label);
+                return false;
+            }
+        }
+
+        final double[] timestampValues = new double[numRows];
+        final double[] indexValues = new double[numRows];
+        for (int i = 0; i < numRows; i++) {
+            timestampValues[i] = timestamps[i];
+            indexValues[i] = i;
+        }
+
+        // Compile all of the expressions, before evaluating any of them
+        final double[][] values = new double[expressions.size()][];
+        final Node[] nodes = new Node[expressions.size()];
+        for (int j = 0; j < nodes.length; j++) {
+            final int current = j;
+            final ColumnarExpressionParser.Scope scope = new ColumnarExpressionParser.Scope() {
+                @Override
+                public Node variable(String name) throws UnsupportedExpressionException {
+                    final double[] column = columns.get(name);
+                    if (column != null) {
+                        return ColumnarExpressionParser.column(Type.DOUBLE, column);
+                    }
+                    if (name.startsWith("__") && columns.containsKey(name.substring(2))) {
+                        throw new UnsupportedExpressionException("Sample array '" + name + "' referenced directly.");
+                    }
+                    if ("timestamp".equals(name)) {
+                        return ColumnarExpressionParser.column(Type.LONG, timestampValues);
+                    }
+                    if ("__i".equals(name)) {
+                        return ColumnarExpressionParser.column(Type.INTEGER, indexValues);
+                    }
+                    final Integer k = labels.get(name);
+                    if (k != null) {
+                        if (k >= current) {
+                            // JEXL would use the value from the previous row
+                            throw new UnsupportedExpressionException("Expression '" + name + "' referenced before it is evaluated.");
+                        }
+                        return new Result(values, k);
+                    }
+                    final Object value = constants.get(name);
+                    if (value instanceof Double) {
+                        return ColumnarExpressionParser.constant(Type.DOUBLE, (Double) value);
+                    } else if (value instanceof Float) {
+                        return ColumnarExpressionParser.floatConstant((Float) value);
+                    } else if (value instanceof Integer) {
+                        return ColumnarExpressionParser.constant(Type.INTEGER, (Integer) value);
+                    } else if (value instanceof Long) {
+                        return ColumnarExpressionParser.constant(Type.LONG, (Long) value);
+                    } else if (value instanceof String) {
+                        return ColumnarExpressionParser.string((String) value);
+                    }
+                    throw new UnsupportedExpressionException("Variable '" + name + "' is undefined or has an unsupported type.");
+                }
+
+                @Override
+                public double[] sourceColumn(String label) {
+                    return columns.get(label);
+                }
+            };
+
+            final Expression expression = expressions.get(j);
+            try {
+                nodes[j] = ColumnarExpressionParser.toResult(ColumnarExpressionParser.parse(expression.getExpression(), scope));
+            } catch (UnsupportedExpressionException e) {
+                LOG.debug("Expression with label '{}' can not be evaluated in columns, using JEXL: {}", expression.getLabel(), e.getMessage());
+                return false;
+            }
+        }
+
+        // Evaluate the expressions in the same order as which they appeared in the query
+        for (int j = 0; j < nodes.length; j++) {
+            try {
+                final double[] result = nodes[j].eval(numRows, null);
+                values[j] = nodes[j].isShared() ? result.clone() : result;
+            } catch (EvaluationException e) {
+                LOG.debug("Expression with label '{}' failed to evaluate in columns, using JEXL: {}", expressions.get(j).getLabel(), e.getMessage());
+                return false;
+            }
+        }
+
+        // Store the results
+        for (int j = 0; j < nodes.length; j++) {
+            final Expression expression = expressions.get(j);
+            if (!expression.getTransient()) {
+                columns.put(expression.getLabel(), values[j]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The result of a preceding expression.
+     */
+    private static class Result extends Node {
+        private final double[][] values;
+        private final int index;
+
+        private Result(double[][] values, int index) {
+            super(Type.DOUBLE);
+            this.values = values;
+            this.index = index;
+        }
+
+        @Override
+        double[] eval(int numRows, boolean[] mask) {
+            return values[index];
+        }
+
+        @Override
+        boolean isShared() {
+            return true;
+        }
+    }
+}
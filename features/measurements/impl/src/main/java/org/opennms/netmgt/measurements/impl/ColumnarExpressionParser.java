@@ -0,0 +1,1115 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.measurements.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Parses the subset of the JEXL syntax used by graph definitions into a tree of {@link Node}s,
+ * which evaluate a whole column of values at once.
+ * <p>
+ * Supported are numeric, string and boolean literals, variables, the arithmetic, comparison and logical operators,
+ * ternaries, the functions of the <code>math</code> and <code>strictmath</code> namespaces, as well as the
+ * {@link SampleArrayFunctions} and {@link JexlEvaluateFunctions} helpers.
+ * <p>
+ * The nodes mimic the semantics of the JEXL arithmetic, including the types of the intermediate results.
+ * Whenever an expression uses a construct for which this can not be guaranteed, an {@link UnsupportedExpressionException}
+ * is thrown and the expression must be evaluated by JEXL instead.
+ */
+final class ColumnarExpressionParser {
+
+    private static final Set<String> RESERVED = new HashSet<>(Arrays.asList(
+            "or", "and", "eq", "ne", "lt", "gt", "le", "ge", "div", "mod", "not", "null", "new", "empty",
+            "size", "function", "var", "return", "if", "else", "for", "foreach", "while", "in"));
+
+    /**
+     * Limits the nesting of formulas evaluated with <code>jexl:evaluate</code>.
+     */
+    private static final int MAX_DEPTH = 8;
+
+    /**
+     * The runtime type of a value in JEXL.
+     */
+    enum Type {
+        DOUBLE,
+        FLOAT,
+        INTEGER,
+        LONG,
+        /** Numeric value with a type that differs from row to row, i.e. the result of a ternary */
+        MIXED,
+        /** Same as {@link #MIXED}, where some of the rows may be floats */
+        MIXED_FLOAT,
+        BOOLEAN,
+        STRING;
+
+        boolean isNumeric() {
+            return this != BOOLEAN && this != STRING;
+        }
+
+        boolean isFloatingPoint() {
+            return this == DOUBLE || this == FLOAT;
+        }
+    }
+
+    /**
+     * Resolves the variables referenced by an expression.
+     */
+    interface Scope {
+        /**
+         * @return the node providing the value of the variable
+         * @throws UnsupportedExpressionException if the variable is unknown or of an unsupported type
+         */
+        Node variable(String name) throws UnsupportedExpressionException;
+
+        /**
+         * @return the values of the source with the given label, or null if there is no such source
+         */
+        double[] sourceColumn(String label);
+    }
+
+    static class UnsupportedExpressionException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedExpressionException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * Thrown when JEXL would fail to evaluate the expression for one of the rows.
+     */
+    static class EvaluationException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        EvaluationException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * A node of the expression tree.
+     * <p>
+     * All values, including booleans, are represented as doubles. Floats are converted
+     * using their string representation, like the JEXL arithmetic does. Rows for which the mask is false
+     * are not used by the caller and must not fail.
+     */
+    abstract static class Node {
+        final Type type;
+
+        Node(Type type) {
+            this.type = type;
+        }
+
+        /**
+         * @param numRows number of rows to evaluate
+         * @param mask the rows to evaluate, or null for all rows
+         * @return the values, must not be modified by the caller
+         */
+        abstract double[] eval(int numRows, boolean[] mask);
+
+        /**
+         * @return true if the array returned by {@link #eval} is shared with other nodes or the fetch results
+         */
+        boolean isShared() {
+            return false;
+        }
+
+        /**
+         * @return the constant value of a string node, or null if the node is not a string constant
+         */
+        String stringValue() {
+            return null;
+        }
+    }
+
+    static Node constant(Type type, double value) {
+        return new Constant(type, value);
+    }
+
+    static Node floatConstant(float value) {
+        return new Constant(Type.FLOAT, Double.parseDouble(Float.toString(value)));
+    }
+
+    static Node column(Type type, double[] values) {
+        return new Column(type, values);
+    }
+
+    static Node string(String value) {
+        return new StringConstant(value);
+    }
+
+    private final String expression;
+    private final Scope scope;
+    private final int depth;
+
+    private int pos = 0;
+    private Token token;
+
+    private ColumnarExpressionParser(String expression, Scope scope, int depth) {
+        this.expression = expression;
+        this.scope = scope;
+        this.depth = depth;
+    }
+
+    /**
+     * Parses the given expression.
+     *
+     * @return the root of the expression tree
+     * @throws UnsupportedExpressionException if the expression can not be evaluated in columns
+     */
+    static Node parse(String expression, Scope scope) throws UnsupportedExpressionException {
+        return parse(expression, scope, 0);
+    }
+
+    private static Node parse(String expression, Scope scope, int depth) throws UnsupportedExpressionException {
+        if (expression == null) {
+            throw new UnsupportedExpressionException("No expression.");
+        }
+        final ColumnarExpressionParser parser = new ColumnarExpressionParser(expression, scope, depth);
+        parser.next();
+        final Node node = parser.ternary();
+        if (parser.token.kind == Kind.SEMICOLON) {
+            parser.next();
+        }
+        if (parser.token.kind != Kind.EOF) {
+            throw parser.unsupported("Unexpected '" + parser.token.text + "'");
+        }
+        return node;
+    }
+
+    /**
+     * Converts the result of an expression in the same way {@link JEXLExpressionEngine} does using
+     * {@link org.opennms.netmgt.measurements.utils.Utils#toDouble(Object)}.
+     */
+    static Node toResult(Node node) throws UnsupportedExpressionException {
+        if (!node.type.isNumeric()) {
+            throw new UnsupportedExpressionException("Result is not numeric.");
+        }
+        // Numbers are already represented as they are converted
+        return node;
+    }
+
+    // Grammar
+
+    private Node ternary() throws UnsupportedExpressionException {
+        final Node condition = or();
+        if (token.kind != Kind.QUESTION) {
+            return condition;
+        }
+        next();
+        final Node then = ternary();
+        expect(Kind.COLON);
+        final Node otherwise = ternary();
+        checkTruthy(condition);
+        return new Ternary(commonType(then, otherwise), condition, then, otherwise);
+    }
+
+    private Node or() throws UnsupportedExpressionException {
+        Node left = and();
+        while (token.kind == Kind.OR) {
+            next();
+            final Node right = and();
+            checkTruthy(left);
+            checkTruthy(right);
+            left = new Logical(false, left, right);
+        }
+        return left;
+    }
+
+    private Node and() throws UnsupportedExpressionException {
+        Node left = equality();
+        while (token.kind == Kind.AND) {
+            next();
+            final Node right = equality();
+            checkTruthy(left);
+            checkTruthy(right);
+            left = new Logical(true, left, right);
+        }
+        return left;
+    }
+
+    private Node equality() throws UnsupportedExpressionException {
+        Node left = relational();
+        while (token.kind == Kind.EQ || token.kind == Kind.NE) {
+            final boolean negate = token.kind == Kind.NE;
+            next();
+            final Node right = relational();
+            if (left.type == Type.BOOLEAN || right.type == Type.BOOLEAN) {
+                // Booleans are compared by their truth value
+                checkTruthy(left);
+                checkTruthy(right);
+                left = new Binary(Type.BOOLEAN, left, right, (l, r) -> (truthy(l) == truthy(r)) != negate ? 1 : 0);
+            } else {
+                checkNumeric(left);
+                checkNumeric(right);
+                left = new Binary(Type.BOOLEAN, left, right, (l, r) -> (compare(l, r) == 0) != negate ? 1 : 0);
+            }
+        }
+        return left;
+    }
+
+    private Node relational() throws UnsupportedExpressionException {
+        Node left = additive();
+        while (true) {
+            final DoubleBinaryOperator op;
+            switch (token.kind) {
+                case LT: op = (l, r) -> compare(l, r) < 0 ? 1 : 0; break;
+                case LE: op = (l, r) -> compare(l, r) <= 0 ? 1 : 0; break;
+                case GT: op = (l, r) -> compare(l, r) > 0 ? 1 : 0; break;
+                case GE: op = (l, r) -> compare(l, r) >= 0 ? 1 : 0; break;
+                default: return left;
+            }
+            next();
+            final Node right = additive();
+            checkNumeric(left);
+            checkNumeric(right);
+            left = new Binary(Type.BOOLEAN, left, right, op);
+        }
+    }
+
+    private Node additive() throws UnsupportedExpressionException {
+        Node left = multiplicative();
+        while (token.kind == Kind.PLUS || token.kind == Kind.MINUS) {
+            final boolean plus = token.kind == Kind.PLUS;
+            next();
+            final Node right = multiplicative();
+            checkFloatingPointArithmetic(left, right);
+            left = new Binary(Type.DOUBLE, left, right, plus ? (l, r) -> l + r : (l, r) -> l - r);
+        }
+        return left;
+    }
+
+    private Node multiplicative() throws UnsupportedExpressionException {
+        Node left = unary();
+        while (token.kind == Kind.MUL || token.kind == Kind.DIV || token.kind == Kind.MOD) {
+            final Kind kind = token.kind;
+            next();
+            final Node right = unary();
+            checkFloatingPointArithmetic(left, right);
+            if (kind == Kind.MUL) {
+                left = new Binary(Type.DOUBLE, left, right, (l, r) -> l * r);
+            } else {
+                left = new Division(left, right, kind == Kind.MOD);
+            }
+        }
+        return left;
+    }
+
+    private Node unary() throws UnsupportedExpressionException {
+        if (token.kind == Kind.MINUS) {
+            next();
+            final Node operand = unary();
+            checkNumeric(operand);
+            // The negation keeps the type of the operand
+            return new Unary(operand.type, operand, v -> -v);
+        } else if (token.kind == Kind.NOT) {
+            next();
+            final Node operand = unary();
+            checkTruthy(operand);
+            return new Unary(Type.BOOLEAN, operand, v -> truthy(v) ? 0 : 1);
+        }
+        return primary();
+    }
+
+    private Node primary() throws UnsupportedExpressionException {
+        final Token t = token;
+        switch (t.kind) {
+            case NUMBER:
+                next();
+                return number(t.text);
+            case STRING:
+                next();
+                return new StringConstant(t.text);
+            case LPAREN:
+                next();
+                final Node node = ternary();
+                expect(Kind.RPAREN);
+                return node;
+            case IDENTIFIER:
+                next();
+                if ("true".equals(t.text) || "false".equals(t.text)) {
+                    return constant(Type.BOOLEAN, "true".equals(t.text) ? 1 : 0);
+                }
+                if (token.kind == Kind.COLON && peekFunction()) {
+                    next();
+                    final String name = token.text;
+                    next();
+                    return function(t.text, name, arguments());
+                }
+                return variable(t.text);
+            default:
+                throw unsupported("Unexpected '" + t.text + "'");
+        }
+    }
+
+    private Node variable(String name) throws UnsupportedExpressionException {
+        // Variables with dots, i.e. 'ifHCInOctets.ifSpeed', are resolved as a whole
+        final StringBuilder sb = new StringBuilder(name);
+        while (token.kind == Kind.DOT) {
+            next();
+            if (token.kind != Kind.IDENTIFIER) {
+                throw unsupported("Unexpected '" + token.text + "'");
+            }
+            sb.append('.').append(token.text);
+            next();
+        }
+        for (final String part : sb.toString().split("\\.")) {
+            if (RESERVED.contains(part)) {
+                throw unsupported("Reserved word '" + part + "'");
+            }
+        }
+        return scope.variable(sb.toString());
+    }
+
+    private List<Node> arguments() throws UnsupportedExpressionException {
+        expect(Kind.LPAREN);
+        final List<Node> args = new ArrayList<>();
+        if (token.kind != Kind.RPAREN) {
+            args.add(ternary());
+            while (token.kind == Kind.COMMA) {
+                next();
+                args.add(ternary());
+            }
+        }
+        expect(Kind.RPAREN);
+        return args;
+    }
+
+    private Node function(String namespace, String name, List<Node> args) throws UnsupportedExpressionException {
+        switch (namespace) {
+            case "math":
+                return MathFunction.call(MathFunction.MATH, name, args);
+            case "strictmath":
+                return MathFunction.call(MathFunction.STRICT_MATH, name, args);
+            case "fn":
+                return sampleArrayFunction(name, args);
+            case "jexl":
+                return evaluateFunction(name, args);
+            default:
+                throw new UnsupportedExpressionException("Unsupported namespace '" + namespace + "'.");
+        }
+    }
+
+    /**
+     * @see SampleArrayFunctions
+     */
+    private Node sampleArrayFunction(String name, List<Node> args) throws UnsupportedExpressionException {
+        final int arity = "arrayStart".equals(name) ? 3 : 2;
+        if (!Arrays.asList("arrayZero", "arrayFirst", "arrayNaN", "arrayStart").contains(name) || args.size() != arity) {
+            throw new UnsupportedExpressionException("Unsupported function 'fn:" + name + "'.");
+        }
+        final String label = args.get(0).stringValue();
+        final double[] sample = label != null ? scope.sourceColumn(label) : null;
+        if (sample == null) {
+            throw new UnsupportedExpressionException("First argument of 'fn:" + name + "' is not the label of a source.");
+        }
+        // The offset must be an integer to match the signature
+        if (args.get(1).type != Type.INTEGER) {
+            throw new UnsupportedExpressionException("Second argument of 'fn:" + name + "' is not an integer.");
+        }
+        final Node start;
+        if (arity == 3) {
+            start = methodArgument(args.get(2));
+        } else {
+            start = null;
+        }
+        return new SampleArray(name, sample, args.get(1), start);
+    }
+
+    /**
+     * @see JexlEvaluateFunctions
+     */
+    private Node evaluateFunction(String name, List<Node> args) throws UnsupportedExpressionException {
+        if (!"evaluate".equals(name) || args.size() != 1 || args.get(0).stringValue() == null) {
+            throw new UnsupportedExpressionException("Unsupported function 'jexl:" + name + "'.");
+        }
+        if (depth >= MAX_DEPTH) {
+            throw new UnsupportedExpressionException("Formulas are nested too deep.");
+        }
+        final Node formula = parse(args.get(0).stringValue(), scope, depth + 1);
+        switch (formula.type) {
+            case DOUBLE:
+                return formula;
+            case MIXED:
+                throw new UnsupportedExpressionException("Result type of formula differs between rows.");
+            default:
+                // The result is cast to a Double, any other type yields NaN
+                return constant(Type.DOUBLE, Double.NaN);
+        }
+    }
+
+    private Node number(String text) throws UnsupportedExpressionException {
+        final char last = Character.toLowerCase(text.charAt(text.length() - 1));
+        try {
+            if (text.indexOf('.') >= 0) {
+                // Real literals without a suffix are floats
+                if (last == 'd') {
+                    return constant(Type.DOUBLE, Double.parseDouble(text));
+                }
+                return floatConstant(Float.parseFloat(text));
+            }
+            if (text.length() > 1 && text.charAt(0) == '0') {
+                throw unsupported("Octal literal");
+            }
+            if (last == 'l') {
+                return constant(Type.LONG, Long.parseLong(text.substring(0, text.length() - 1)));
+            }
+            final long value = Long.parseLong(text);
+            if (value > Integer.MAX_VALUE) {
+                return constant(Type.LONG, value);
+            }
+            return constant(Type.INTEGER, value);
+        } catch (NumberFormatException e) {
+            throw unsupported("Unsupported literal '" + text + "'");
+        }
+    }
+
+    private static void checkNumeric(Node node) throws UnsupportedExpressionException {
+        if (!node.type.isNumeric()) {
+            throw new UnsupportedExpressionException("Operand is not numeric.");
+        }
+    }
+
+    private static void checkTruthy(Node node) throws UnsupportedExpressionException {
+        if (node.type == Type.STRING) {
+            throw new UnsupportedExpressionException("Operand is a string.");
+        }
+    }
+
+    /**
+     * JEXL only uses floating point arithmetic if one of the operands is a floating point number.
+     */
+    private static void checkFloatingPointArithmetic(Node left, Node right) throws UnsupportedExpressionException {
+        checkNumeric(left);
+        checkNumeric(right);
+        if (!left.type.isFloatingPoint() && !right.type.isFloatingPoint()) {
+            throw new UnsupportedExpressionException("Integer arithmetic.");
+        }
+    }
+
+    private static Type commonType(Node a, Node b) throws UnsupportedExpressionException {
+        if (a.type == b.type) {
+            return a.type;
+        }
+        if (!a.type.isNumeric() || !b.type.isNumeric()) {
+            throw new UnsupportedExpressionException("Ternary mixes numeric and non-numeric results.");
+        }
+        if (a.type == Type.FLOAT || b.type == Type.FLOAT || a.type == Type.MIXED_FLOAT || b.type == Type.MIXED_FLOAT) {
+            return Type.MIXED_FLOAT;
+        }
+        return Type.MIXED;
+    }
+
+    /**
+     * Floats passed to a method taking a double are widened, instead of being converted using their string representation.
+     */
+    private static Node methodArgument(Node arg) throws UnsupportedExpressionException {
+        checkNumeric(arg);
+        if (arg.type == Type.MIXED_FLOAT) {
+            throw new UnsupportedExpressionException("Argument may be a float.");
+        } else if (arg.type == Type.FLOAT) {
+            return new Unary(Type.FLOAT, arg, v -> (float) v);
+        }
+        return arg;
+    }
+
+    static boolean truthy(double v) {
+        return v != 0 && !Double.isNaN(v);
+    }
+
+    /**
+     * Compares two numbers like the JEXL arithmetic does, where NaN is smaller than any other number.
+     */
+    static int compare(double l, double r) {
+        if (Double.isNaN(l)) {
+            return Double.isNaN(r) ? 0 : -1;
+        } else if (Double.isNaN(r)) {
+            return 1;
+        }
+        return l < r ? -1 : (l > r ? 1 : 0);
+    }
+
+    // Nodes
+
+    private static class Constant extends Node {
+        private final double value;
+        private double[] values;
+
+        Constant(Type type, double value) {
+            super(type);
+            this.value = value;
+        }
+
+        @Override
+        double[] eval(int numRows, boolean[] mask) {
+            if (values == null || values.length != numRows) {
+                values = new double[numRows];
+                Arrays.fill(values, value);
+            }
+            return values;
+        }
+
+        @Override
+        boolean isShared() {
+            return true;
+        }
+    }
+
+    private static class StringConstant extends Node {
+        private final String value;
+
+        StringConstant(String value) {
+            super(Type.STRING);
+            this.value = value;
+        }
+
+        @Override
+        double[] eval(int numRows, boolean[] mask) {
+            throw new EvaluationException("Strings have no numeric value.");
+        }
+
+        @Override
+        String stringValue() {
+            return value;
+        }
+    }
+
+    private static class Column extends Node {
+        private final double[] values;
+
+        Column(Type type, double[] values) {
+            super(type);
+            this.values = values;
+        }
+
+        @Override
+        double[] eval(int numRows, boolean[] mask) {
+            return values;
+        }
+
+        @Override
+        boolean isShared() {
+            return true;
+        }
+    }
+
+    private static class Unary extends Node {
+        private final Node operand;
+        private final DoubleUnaryOperator op;
+
+        Unary(Type type, Node operand, DoubleUnaryOperator op) {
+            super(type);
+            this.operand = operand;
+            this.op = op;
+        }
+
+        @Override
+        double[] eval(int numRows, boolean[] mask) {
+            final double[] in = operand.eval(numRows, mask);
+            final double[] out = new double[numRows];
+            for (int i = 0; i < numRows; i++) {
+                out[i] = op.applyAsDouble(in[i]);
+            }
+            return out;
+        }
+    }
+
+    private static class Binary extends Node {
+        private final Node left;
+        private final Node right;
+        private final DoubleBinaryOperator op;
+
+        Binary(Type type, Node left, Node right, DoubleBinaryOperator op) {
+            super(type);
+            this.left = left;
+            this.right = right;
+            this.op = op;
+        }
+
+        @Override
+        double[] eval(int numRows, boolean[] mask) {
+            final double[] l = left.eval(numRows, mask);
+            final double[] r = right.eval(numRows, mask);
+            final double[] out = new double[numRows];
+            for (int i = 0; i < numRows; i++) {
+                out[i] = op.applyAsDouble(l[i], r[i]);
+            }
+            return out;
+        }
+    }
+
+    /**
+     * JEXL fails on a division by zero, even for floating point numbers.
+     */
+    private static class Division extends Node {
+        private final Node left;
+        private final Node right;
+        private final boolean modulo;
+
+        Division(Node left, Node right, boolean modulo) {
+            super(Type.DOUBLE);
+            this.left = left;
+            this.right = right;
+            this.modulo = modulo;
+        }
+
+        @Override
+        double[] eval(int numRows, boolean[] mask) {
+            final double[] l = left.eval(numRows, mask);
+            final double[] r = right.eval(numRows, mask);
+            final double[] out = new double[numRows];
+            for (int i = 0; i < numRows; i++) {
+                if (r[i] == 0 && (mask == null || mask[i])) {
+                    throw new EvaluationException("Division by zero.");
+                }
+                out[i] = modulo ? l[i] % r[i] : l[i] / r[i];
+            }
+            return out;
+        }
+    }
+
+    /**
+     * The right operand is only evaluated for the rows where it is needed, like JEXL does.
+     */
+    private static class Logical extends Node {
+        private final boolean and;
+        private final Node left;
+        private final Node right;
+
+        Logical(boolean and, Node left, Node right) {
+            super(Type.BOOLEAN);
+            this.and = and;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double[] eval(int numRows, boolean[] mask) {
+            final double[] l = left.eval(numRows, mask);
+            final boolean[] rightMask = new boolean[numRows];
+            for (int i = 0; i < numRows; i++) {
+                rightMask[i] = (mask == null || mask[i]) && truthy(l[i]) == and;
+            }
+            final double[] r = right.eval(numRows, rightMask);
+            final double[] out = new double[numRows];
+            for (int i = 0; i < numRows; i++) {
+                out[i] = (rightMask[i] ? truthy(r[i]) : !and) ? 1 : 0;
+            }
+            return out;
+        }
+    }
+
+    /**
+     * Only evaluates the branch taken for each row.
+     */
+    private static class Ternary extends Node {
+        private final Node condition;
+        private final Node then;
+        private final Node otherwise;
+
+        Ternary(Type type, Node condition, Node then, Node otherwise) {
+            super(type);
+            this.condition = condition;
+            this.then = then;
+            this.otherwise = otherwise;
+        }
+
+        @Override
+        double[] eval(int numRows, boolean[] mask) {
+            final double[] c = condition.eval(numRows, mask);
+            final boolean[] thenMask = new boolean[numRows];
+            final boolean[] otherwiseMask = new boolean[numRows];
+            for (int i = 0; i < numRows; i++) {
+                if (mask == null || mask[i]) {
+                    if (truthy(c[i])) {
+                        thenMask[i] = true;
+                    } else {
+                        otherwiseMask[i] = true;
+                    }
+                }
+            }
+            final double[] t = then.eval(numRows, thenMask);
+            final double[] o = otherwise.eval(numRows, otherwiseMask);
+            final double[] out = new double[numRows];
+            for (int i = 0; i < numRows; i++) {
+                out[i] = thenMask[i] ? t[i] : o[i];
+            }
+            return out;
+        }
+    }
+
+    private static class FunctionCall extends Node {
+        private final Node[] args;
+        private final DoubleUnaryOperator unary;
+        private final DoubleBinaryOperator binary;
+
+        FunctionCall(Type type, Node arg, DoubleUnaryOperator unary) {
+            super(type);
+            this.args = new Node[] { arg };
+            this.unary = unary;
+            this.binary = null;
+        }
+
+        FunctionCall(Type type, Node left, Node right, DoubleBinaryOperator binary) {
+            super(type);
+            this.args = new Node[] { left, right };
+            this.unary = null;
+            this.binary = binary;
+        }
+
+        @Override
+        double[] eval(int numRows, boolean[] mask) {
+            final double[] out = new double[numRows];
+            if (unary != null) {
+                final double[] a = args[0].eval(numRows, mask);
+                for (int i = 0; i < numRows; i++) {
+                    out[i] = unary.applyAsDouble(a[i]);
+                }
+            } else {
+                final double[] a = args[0].eval(numRows, mask);
+                final double[] b = args[1].eval(numRows, mask);
+                for (int i = 0; i < numRows; i++) {
+                    out[i] = binary.applyAsDouble(a[i], b[i]);
+                }
+            }
+            return out;
+        }
+    }
+
+    /**
+     * @see SampleArrayFunctions
+     */
+    private static class SampleArray extends Node {
+        private final String name;
+        private final double[] sample;
+        private final Node offset;
+        private final Node start;
+
+        SampleArray(String name, double[] sample, Node offset, Node start) {
+            super(Type.DOUBLE);
+            this.name = name;
+            this.sample = sample;
+            this.offset = offset;
+            this.start = start;
+        }
+
+        @Override
+        double[] eval(int numRows, boolean[] mask) {
+            final double[] n = offset.eval(numRows, mask);
+            final double[] s = start != null ? start.eval(numRows, mask) : null;
+            final double[] out = new double[numRows];
+            for (int i = 0; i < numRows; i++) {
+                if (mask != null && !mask[i]) {
+                    continue;
+                }
+                final long index = i - (long) n[i];
+                if (index < 0) {
+                    switch (name) {
+                        case "arrayZero": out[i] = 0; break;
+                        case "arrayFirst": out[i] = sample.length > 0 ? sample[0] : Double.NaN; break;
+                        case "arrayStart": out[i] = s[i]; break;
+                        default: out[i] = Double.NaN;
+                    }
+                } else {
+                    out[i] = index < sample.length ? sample[(int) index] : Double.NaN;
+                }
+            }
+            return out;
+        }
+    }
+
+    /**
+     * The functions of {@link Math} and {@link StrictMath} that can be called with doubles.
+     */
+    private static class MathFunction {
+        private static final Map<String, MathFunction> MATH = new HashMap<>();
+        private static final Map<String, MathFunction> STRICT_MATH = new HashMap<>();
+
+        /**
+         * Functions only taking doubles are called with any numeric argument.
+         * Overloaded functions are only supported if one of the arguments is a Double, which selects the double variant.
+         */
+        private final boolean overloaded;
+        private final Type resultType;
+        private final DoubleUnaryOperator unary;
+        private final DoubleBinaryOperator binary;
+
+        private MathFunction(boolean overloaded, Type resultType, DoubleUnaryOperator unary, DoubleBinaryOperator binary) {
+            this.overloaded = overloaded;
+            this.resultType = resultType;
+            this.unary = unary;
+            this.binary = binary;
+        }
+
+        private static void unary(Map<String, MathFunction> functions, String name, DoubleUnaryOperator op) {
+            functions.put(name, new MathFunction(false, Type.DOUBLE, op, null));
+        }
+
+        private static void binary(Map<String, MathFunction> functions, String name, DoubleBinaryOperator op) {
+            functions.put(name, new MathFunction(false, Type.DOUBLE, null, op));
+        }
+
+        static {
+            unary(MATH, "sin", Math::sin);
+            unary(MATH, "cos", Math::cos);
+            unary(MATH, "tan", Math::tan);
+            unary(MATH, "asin", Math::asin);
+            unary(MATH, "acos", Math::acos);
+            unary(MATH, "atan", Math::atan);
+            unary(MATH, "sinh", Math::sinh);
+            unary(MATH, "cosh", Math::cosh);
+            unary(MATH, "tanh", Math::tanh);
+            unary(MATH, "exp", Math::exp);
+            unary(MATH, "expm1", Math::expm1);
+            unary(MATH, "log", Math::log);
+            unary(MATH, "log10", Math::log10);
+            unary(MATH, "log1p", Math::log1p);
+            unary(MATH, "sqrt", Math::sqrt);
+            unary(MATH, "cbrt", Math::cbrt);
+            unary(MATH, "ceil", Math::ceil);
+            unary(MATH, "floor", Math::floor);
+            unary(MATH, "rint", Math::rint);
+            unary(MATH, "toRadians", Math::toRadians);
+            unary(MATH, "toDegrees", Math::toDegrees);
+            binary(MATH, "atan2", Math::atan2);
+            binary(MATH, "pow", Math::pow);
+            binary(MATH, "hypot", Math::hypot);
+            binary(MATH, "IEEEremainder", Math::IEEEremainder);
+            MATH.put("abs", new MathFunction(true, Type.DOUBLE, Math::abs, null));
+            MATH.put("signum", new MathFunction(true, Type.DOUBLE, Math::signum, null));
+            MATH.put("ulp", new MathFunction(true, Type.DOUBLE, Math::ulp, null));
+            MATH.put("round", new MathFunction(true, Type.LONG, v -> Math.round(v), null));
+            MATH.put("min", new MathFunction(true, Type.DOUBLE, null, Math::min));
+            MATH.put("max", new MathFunction(true, Type.DOUBLE, null, Math::max));
+
+            unary(STRICT_MATH, "sin", StrictMath::sin);
+            unary(STRICT_MATH, "cos", StrictMath::cos);
+            unary(STRICT_MATH, "tan", StrictMath::tan);
+            unary(STRICT_MATH, "asin", StrictMath::asin);
+            unary(STRICT_MATH, "acos", StrictMath::acos);
+            unary(STRICT_MATH, "atan", StrictMath::atan);
+            unary(STRICT_MATH, "sinh", StrictMath::sinh);
+            unary(STRICT_MATH, "cosh", StrictMath::cosh);
+            unary(STRICT_MATH, "tanh", StrictMath::tanh);
+            unary(STRICT_MATH, "exp", StrictMath::exp);
+            unary(STRICT_MATH, "expm1", StrictMath::expm1);
+            unary(STRICT_MATH, "log", StrictMath::log);
+            unary(STRICT_MATH, "log10", StrictMath::log10);
+            unary(STRICT_MATH, "log1p", StrictMath::log1p);
+            unary(STRICT_MATH, "sqrt", StrictMath::sqrt);
+            unary(STRICT_MATH, "cbrt", StrictMath::cbrt);
+            unary(STRICT_MATH, "ceil", StrictMath::ceil);
+            unary(STRICT_MATH, "floor", StrictMath::floor);
+            unary(STRICT_MATH, "rint", StrictMath::rint);
+            unary(STRICT_MATH, "toRadians", StrictMath::toRadians);
+            unary(STRICT_MATH, "toDegrees", StrictMath::toDegrees);
+            binary(STRICT_MATH, "atan2", StrictMath::atan2);
+            binary(STRICT_MATH, "pow", StrictMath::pow);
+            binary(STRICT_MATH, "hypot", StrictMath::hypot);
+            binary(STRICT_MATH, "IEEEremainder", StrictMath::IEEEremainder);
+            STRICT_MATH.put("abs", new MathFunction(true, Type.DOUBLE, StrictMath::abs, null));
+            STRICT_MATH.put("signum", new MathFunction(true, Type.DOUBLE, StrictMath::signum, null));
+            STRICT_MATH.put("ulp", new MathFunction(true, Type.DOUBLE, StrictMath::ulp, null));
+            STRICT_MATH.put("round", new MathFunction(true, Type.LONG, v -> StrictMath.round(v), null));
+            STRICT_MATH.put("min", new MathFunction(true, Type.DOUBLE, null, StrictMath::min));
+            STRICT_MATH.put("max", new MathFunction(true, Type.DOUBLE, null, StrictMath::max));
+        }
+
+        static Node call(Map<String, MathFunction> functions, String name, List<Node> args) throws UnsupportedExpressionException {
+            final MathFunction function = functions.get(name);
+            if (function == null || args.size() != (function.unary != null ? 1 : 2)) {
+                throw new UnsupportedExpressionException("Unsupported function '" + name + "'.");
+            }
+            boolean hasDouble = false;
+            for (final Node arg : args) {
+                hasDouble |= arg.type == Type.DOUBLE;
+            }
+            if (function.overloaded && !hasDouble) {
+                throw new UnsupportedExpressionException("Overloaded function '" + name + "' is not called with a Double.");
+            }
+            return function.unary != null
+                    ? new FunctionCall(function.resultType, methodArgument(args.get(0)), function.unary)
+                    : new FunctionCall(function.resultType, methodArgument(args.get(0)), methodArgument(args.get(1)), function.binary);
+        }
+    }
+
+    // Tokenizer
+
+    private enum Kind {
+        NUMBER, STRING, IDENTIFIER,
+        PLUS, MINUS, MUL, DIV, MOD,
+        EQ, NE, LT, LE, GT, GE, AND, OR, NOT,
+        QUESTION, COLON, COMMA, DOT, LPAREN, RPAREN, SEMICOLON,
+        EOF
+    }
+
+    private static class Token {
+        private final Kind kind;
+        private final String text;
+
+        private Token(Kind kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+    }
+
+    private UnsupportedExpressionException unsupported(String reason) {
+        return new UnsupportedExpressionException(reason + " at position " + pos + " of '" + expression + "'.");
+    }
+
+    private void expect(Kind kind) throws UnsupportedExpressionException {
+        if (token.kind != kind) {
+            throw unsupported("Expected " + kind + " instead of '" + token.text + "'");
+        }
+        next();
+    }
+
+    /**
+     * @return true if the current colon is followed by a function name and an opening parenthesis
+     */
+    private boolean peekFunction() throws UnsupportedExpressionException {
+        final int savedPos = pos;
+        final Token savedToken = token;
+        try {
+            next();
+            if (token.kind != Kind.IDENTIFIER) {
+                return false;
+            }
+            next();
+            return token.kind == Kind.LPAREN;
+        } finally {
+            pos = savedPos;
+            token = savedToken;
+        }
+    }
+
+    private void next() throws UnsupportedExpressionException {
+        while (pos < expression.length() && Character.isWhitespace(expression.charAt(pos))) {
+            pos++;
+        }
+        if (pos >= expression.length()) {
+            token = new Token(Kind.EOF, "<EOF>");
+            return;
+        }
+        final char c = expression.charAt(pos);
+        final char n = pos + 1 < expression.length() ? expression.charAt(pos + 1) : 0;
+        if (Character.isDigit(c)) {
+            token = new Token(Kind.NUMBER, numberLiteral());
+        } else if (Character.isLetter(c) || c == '_' || c == '$') {
+            final int start = pos;
+            while (pos < expression.length() && (Character.isLetterOrDigit(expression.charAt(pos)) || expression.charAt(pos) == '_' || expression.charAt(pos) == '$')) {
+                pos++;
+            }
+            token = new Token(Kind.IDENTIFIER, expression.substring(start, pos));
+        } else if (c == '\'' || c == '"') {
+            final int end = expression.indexOf(c, pos + 1);
+            if (end < 0 || expression.substring(pos + 1, end).indexOf('\\') >= 0) {
+                throw unsupported("Unsupported string literal");
+            }
+            token = new Token(Kind.STRING, expression.substring(pos + 1, end));
+            pos = end + 1;
+        } else if (c == '=' && n == '=') {
+            token = operator(Kind.EQ, 2);
+        } else if (c == '!' && n == '=') {
+            token = operator(Kind.NE, 2);
+        } else if (c == '<' && n == '=') {
+            token = operator(Kind.LE, 2);
+        } else if (c == '>' && n == '=') {
+            token = operator(Kind.GE, 2);
+        } else if (c == '&' && n == '&') {
+            token = operator(Kind.AND, 2);
+        } else if (c == '|' && n == '|') {
+            token = operator(Kind.OR, 2);
+        } else if (c == '?' && n == ':') {
+            throw unsupported("Elvis operator");
+        } else if (c == '/' && (n == '/' || n == '*')) {
+            throw unsupported("Comment");
+        } else {
+            switch (c) {
+                case '+': token = operator(Kind.PLUS, 1); break;
+                case '-': token = operator(Kind.MINUS, 1); break;
+                case '*': token = operator(Kind.MUL, 1); break;
+                case '/': token = operator(Kind.DIV, 1); break;
+                case '%': token = operator(Kind.MOD, 1); break;
+                case '<': token = operator(Kind.LT, 1); break;
+                case '>': token = operator(Kind.GT, 1); break;
+                case '!': token = operator(Kind.NOT, 1); break;
+                case '?': token = operator(Kind.QUESTION, 1); break;
+                case ':': token = operator(Kind.COLON, 1); break;
+                case ',': token = operator(Kind.COMMA, 1); break;
+                case '.': token = operator(Kind.DOT, 1); break;
+                case '(': token = operator(Kind.LPAREN, 1); break;
+                case ')': token = operator(Kind.RPAREN, 1); break;
+                case ';': token = operator(Kind.SEMICOLON, 1); break;
+                default: throw unsupported("Unsupported character '" + c + "'");
+            }
+        }
+    }
+
+    private Token operator(Kind kind, int length) {
+        final Token t = new Token(kind, expression.substring(pos, pos + length));
+        pos += length;
+        return t;
+    }
+
+    private String numberLiteral() throws UnsupportedExpressionException {
+        final int start = pos;
+        digits();
+        if (pos + 1 < expression.length() && expression.charAt(pos) == '.' && Character.isDigit(expression.charAt(pos + 1))) {
+            pos++;
+            digits();
+            if (pos < expression.length() && (expression.charAt(pos) == 'e' || expression.charAt(pos) == 'E')) {
+                pos++;
+                if (pos < expression.length() && (expression.charAt(pos) == '+' || expression.charAt(pos) == '-')) {
+                    pos++;
+                }
+                if (pos >= expression.length() || !Character.isDigit(expression.charAt(pos))) {
+                    throw unsupported("Invalid exponent");
+                }
+                digits();
+            }
+            if (pos < expression.length() && "dDfF".indexOf(expression.charAt(pos)) >= 0) {
+                pos++;
+            }
+        } else if (pos < expression.length() && (expression.charAt(pos) == 'l' || expression.charAt(pos) == 'L')) {
+            pos++;
+        }
+        if (pos < expression.length() && (Character.isLetterOrDigit(expression.charAt(pos)) || expression.charAt(pos) == '_')) {
+            throw unsupported("Unsupported number literal");
+        }
+        return expression.substring(start, pos);
+    }
+
+    private void digits() {
+        while (pos < expression.length() && Character.isDigit(expression.charAt(pos))) {
+            pos++;
+        }
+    }
+}
@@ -45,6 +45,10 @@ import com.google.common.collect.Maps;
 /**
  * An expression engine implemented using JEXL.
  *
+ * If enabled with {@link #COLUMNAR_SYS_PROP}, the expressions are first evaluated column by column
+ * using the {@link ColumnarExpressionEngine}, and only evaluated row by row with JEXL
+ * when they use constructs that are not supported by it.
+ *
  * @author jwhite
  */
 @Component("expressionEngine")
@@ -52,12 +56,22 @@ public class JEXLExpressionEngine implements ExpressionEngine {
 
     private static final Logger LOG = LoggerFactory.getLogger(JEXLExpressionEngine.class);
 
+    public static final String COLUMNAR_SYS_PROP = "org.opennms.measurements.expressions.columnar";
+
     /**
      * Use a single instance of the JEXL engine, which is thread-safe.
      */
     private final OnmsJexlEngine jexl;
 
+    private final ColumnarExpressionEngine columnarEngine;
+
     public JEXLExpressionEngine() {
+        this(Boolean.parseBoolean(System.getProperty(COLUMNAR_SYS_PROP, "false")));
+    }
+
+    public JEXLExpressionEngine(boolean columnar) {
+        columnarEngine = columnar ? new ColumnarExpressionEngine() : null;
+
         jexl = new OnmsJexlEngine();
         jexl.white(Math.class.getName());
         jexl.white(StrictMath.class.getName());
@@ -91,6 +105,10 @@ public class JEXLExpressionEngine implements ExpressionEngine {
             return;
         }
 
+        if (columnarEngine != null && columnarEngine.applyExpressions(request, results)) {
+            return;
+        }
+
         // Use to keep track of transient expression so that we don't
         // allocate memory to store their results
         int numNonTransientExpression = 0;
@@ -0,0 +1,221 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.measurements.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.opennms.netmgt.measurements.api.FetchResults;
+import org.opennms.netmgt.measurements.api.exceptions.ExpressionException;
+import org.opennms.netmgt.measurements.model.Expression;
+import org.opennms.netmgt.measurements.model.QueryRequest;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Verifies that the {@link ColumnarExpressionEngine} yields the same results as JEXL.
+ */
+public class ColumnarExpressionEngineTest {
+
+    private static final double[] VALUES = { 0d, -0d, 1d, -1d, 2.5d, 0.1d, 1e300, Double.NaN,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+
+    private static final List<String> SUPPORTED = Arrays.asList(
+            "A + B", "A - B * C", "A * 0.62137", "A * 5 + 7", "-A", "__inf - A",
+            "(A == B) ? 1 : 0", "A != B ? 1 : 0", "A < B ? A : B", "A <= B ? 1.0 : 0", "A > B ? 1 : 2.5d", "A >= B ? A : 2",
+            "( ( A == NaN ) ? B : ( ( B == NaN ) ? A : math:min(A,B) ) )",
+            "( ( (A == __inf) || (A == __neg_inf) || (C < A) || (C > B) ) ? NaN : C )",
+            "!(A > 0) ? -A : A", "A && B ? 1 : 0", "A || B ? 1 : 0", "A ? 1 : 2", "(A > 0) == (B > 0) ? A : B",
+            "A > 0 && B / A > 1 ? 1 : 0", "A == 0 ? 0 : B / A", "A != 0 ? B % A : NaN",
+            "math:min(A,B)", "math:max(A, 2)", "math:abs(A)", "math:round(A)", "math:sin(A)", "math:pow(A, 2)",
+            "strictmath:sqrt(A)", "math:atan2(A, speed)", "math:exp(speed)",
+            "fn:arrayZero('A', 1)", "fn:arrayFirst(\"A\", 2)", "fn:arrayNaN('A', 1)", "fn:arrayStart('A', 1, -1.0)",
+            "fn:arrayZero('A', -1)", "fn:arrayFirst('A', 20)",
+            "jexl:evaluate(formula)", "jexl:evaluate(intFormula)", "jexl:evaluate('A / 2.0d')",
+            "timestamp / 1000.0", "timestamp", "__i * 1.0", "__i", "__diff_time", "speed / 0.62137", "speed",
+            "f * A", "f", "0.1", "-0.1", "7", "A.x * A", "ratio * A;", "true ? 0.1 : A", "A > 0 ? 0.1 : 7",
+            "A > 0 ? (B > 0 ? 0.3 : 2) : -0.7", "-(A > 0 ? 0.1 : 7)", "math:sin(f)", "math:max(0.1, A)",
+            "fn:arrayStart('A', 2, 0.1)");
+
+    private static final List<String> UNSUPPORTED = Arrays.asList(
+            "1 * __step", "speed / 2", "A =~ 'x'", "A & B", "A ?: B", "size(A)", "math:abs(speed)",
+            "__A", "undefined * 2", "010 * A", "A.x.y", "A; B", "A + 'x'", "foo:bar(A)", "A > 0 ? 'x' : 1",
+            "math:sin(A > 0 ? 0.1 : 7)", "A / 0");
+
+    private final JEXLExpressionEngine jexlEngine = new JEXLExpressionEngine(false);
+
+    private final ColumnarExpressionEngine columnarEngine = new ColumnarExpressionEngine();
+
+    @Test
+    public void canEvaluateLikeJexl() throws ExpressionException {
+        for (final String expression : SUPPORTED) {
+            final QueryRequest request = request(expression);
+            final FetchResults columnar = results();
+            assertTrue("Expected " + expression + " to be supported", columnarEngine.applyExpressions(request, columnar));
+
+            final FetchResults jexl = results();
+            jexlEngine.applyExpressions(request, jexl);
+            assertArrayEquals(expression, jexl.getColumns().get("y"), columnar.getColumns().get("y"), 0.0d);
+        }
+    }
+
+    @Test
+    public void canFallbackToJexl() throws ExpressionException {
+        final JEXLExpressionEngine engine = new JEXLExpressionEngine(true);
+        for (final String expression : UNSUPPORTED) {
+            final QueryRequest request = request(expression);
+            final FetchResults columnar = results();
+            assertFalse("Expected " + expression + " to be unsupported", columnarEngine.applyExpressions(request, columnar));
+            assertNull(columnar.getColumns().get("y"));
+
+            Object expected;
+            try {
+                final FetchResults jexl = results();
+                jexlEngine.applyExpressions(request, jexl);
+                expected = jexl.getColumns().get("y");
+            } catch (ExpressionException e) {
+                expected = e.getMessage();
+            }
+
+            Object actual;
+            try {
+                final FetchResults results = results();
+                engine.applyExpressions(request, results);
+                actual = results.getColumns().get("y");
+            } catch (ExpressionException e) {
+                actual = e.getMessage();
+            }
+
+            if (expected instanceof double[]) {
+                assertArrayEquals(expression, (double[]) expected, (double[]) actual, 0.0d);
+            } else {
+                assertEquals(expression, expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void canReferencePrecedingExpressions() throws ExpressionException {
+        final QueryRequest request = request("A * 2.0", "B + y", "z / 4.0");
+        request.getExpressions().get(1).setTransient(true);
+
+        final FetchResults columnar = results();
+        assertTrue(columnarEngine.applyExpressions(request, columnar));
+        final FetchResults jexl = results();
+        jexlEngine.applyExpressions(request, jexl);
+
+        assertArrayEquals(jexl.getColumns().get("y"), columnar.getColumns().get("y"), 0.0d);
+        assertArrayEquals(jexl.getColumns().get("w"), columnar.getColumns().get("w"), 0.0d);
+        assertNull(columnar.getColumns().get("z"));
+        assertNull(jexl.getColumns().get("z"));
+
+        // Results must not share the arrays of the sources
+        final FetchResults copy = results();
+        assertTrue(columnarEngine.applyExpressions(request("A"), copy));
+        copy.getColumns().get("y")[0] = 42;
+        assertEquals(0d, copy.getColumns().get("A")[0], 0.0d);
+
+        // Expressions referenced before they are evaluated are left to JEXL
+        assertFalse(columnarEngine.applyExpressions(request("z * 2.0", "A * 1.0"), results()));
+    }
+
+    @Test
+    public void leavesShadowingLabelsToJexl() throws ExpressionException {
+        // The second expression sees the source in JEXL, and the first one the result of the second in later rows
+        for (final String label : Arrays.asList("A", "__A", "timestamp", "__i", "speed", "__step")) {
+            final QueryRequest request = request("A + speed", "y * 2.0");
+            request.getExpressions().get(1).setLabel(label);
+            assertFalse("Expected label " + label + " to be left to JEXL", columnarEngine.applyExpressions(request, results()));
+
+            final FetchResults jexl = results();
+            jexlEngine.applyExpressions(request, jexl);
+            final FetchResults columnar = results();
+            new JEXLExpressionEngine(true).applyExpressions(request, columnar);
+            assertArrayEquals(label, jexl.getColumns().get("y"), columnar.getColumns().get("y"), 0.0d);
+            assertArrayEquals(label, jexl.getColumns().get(label), columnar.getColumns().get(label), 0.0d);
+        }
+    }
+
+    @Test
+    public void failsLikeJexl() {
+        try {
+            new JEXLExpressionEngine(true).applyExpressions(request("A / B"), results());
+            fail("Expected the division by zero to fail");
+        } catch (ExpressionException e) {
+            assertTrue(e.getMessage().contains("label 'y'"));
+        }
+    }
+
+    private static QueryRequest request(String... expressions) {
+        final QueryRequest request = new QueryRequest();
+        final List<Expression> list = Lists.newArrayList();
+        final String[] labels = { "y", "z", "w" };
+        for (int i = 0; i < expressions.length; i++) {
+            final Expression expression = new Expression();
+            expression.setLabel(labels[i]);
+            expression.setExpression(expressions[i]);
+            list.add(expression);
+        }
+        request.setExpressions(list);
+        return request;
+    }
+
+    /**
+     * Builds results with all combinations of the interesting values in the columns A, B and C.
+     */
+    private static FetchResults results() {
+        final int n = VALUES.length * VALUES.length;
+        final long[] timestamps = new long[n];
+        final double[] a = new double[n];
+        final double[] b = new double[n];
+        final double[] c = new double[n];
+        for (int i = 0; i < n; i++) {
+            timestamps[i] = 1000L * i;
+            a[i] = VALUES[i / VALUES.length];
+            b[i] = VALUES[i % VALUES.length];
+            c[i] = VALUES[(i * 7) % VALUES.length];
+        }
+        final Map<String, double[]> columns = Maps.newHashMap();
+        columns.put("A", a);
+        columns.put("B", b);
+        columns.put("C", c);
+
+        final Map<String, Object> constants = Maps.newHashMap();
+        constants.put("speed", 65);
+        constants.put("ratio", 0.5d);
+        constants.put("f", 0.3f);
+        constants.put("A.x", 5.0d);
+        constants.put("formula", "A * 2.0d");
+        constants.put("intFormula", "1");
+        return new FetchResults(timestamps, columns, 300, constants, null);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.measurements.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.opennms.netmgt.measurements.api.FetchResults;
+import org.opennms.netmgt.measurements.api.exceptions.ExpressionException;
+import org.opennms.netmgt.measurements.model.Expression;
+import org.opennms.netmgt.measurements.model.QueryRequest;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare the evaluation of expressions
+ * by JEXL with the {@link ColumnarExpressionEngine}.
+ * <p>
+ * Every query evaluates one expression per source on {@link BState#numRows} rows.
+ */
+public class ExpressionEngineBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                .include(ExpressionEngineBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({"jexl", "columnar"})
+        public String engine;
+
+        @Param({"10", "100"})
+        public int numSources;
+
+        @Param({"10000"})
+        public int numRows;
+
+        @Param({
+            "x * 8",
+            "( ( x == NaN ) ? 0 : ( ( x > ifSpeed ) ? ifSpeed : x ) ) / 1000000.0",
+            "fn:arrayNaN('x', 1) == NaN ? NaN : (x - fn:arrayNaN('x', 1)) / __step"
+        })
+        public String expression;
+
+        private JEXLExpressionEngine expressionEngine;
+        private QueryRequest request;
+        private long[] timestamps;
+        private Map<String, double[]> columns;
+
+        @Setup
+        public void setup() {
+            expressionEngine = new JEXLExpressionEngine("columnar".equals(engine));
+
+            final List<Expression> expressions = Lists.newArrayList();
+            columns = Maps.newHashMap();
+            for (int s = 0; s < numSources; s++) {
+                final String label = "x" + s;
+                final double[] values = new double[numRows];
+                for (int i = 0; i < numRows; i++) {
+                    values[i] = i % 97 == 0 ? Double.NaN : ThreadLocalRandom.current().nextDouble(0, 2e9);
+                }
+                columns.put(label, values);
+
+                final Expression e = new Expression();
+                e.setLabel("y" + s);
+                e.setExpression(expression.replace("x", label));
+                expressions.add(e);
+            }
+            request = new QueryRequest();
+            request.setExpressions(expressions);
+
+            timestamps = new long[numRows];
+            for (int i = 0; i < numRows; i++) {
+                timestamps[i] = 300000L * i;
+            }
+        }
+
+        private FetchResults results() {
+            final Map<String, Object> constants = Maps.newHashMap();
+            constants.put("ifSpeed", 1e9);
+            return new FetchResults(timestamps, Maps.newHashMap(columns), 300000, constants, null);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public FetchResults applyExpressions(BState state) throws ExpressionException {
+        final FetchResults results = state.results();
+        state.expressionEngine.applyExpressions(state.request, results);
+        return results;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.poller.client.rpc;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of polls running concurrently for every monitor.
+ *
+ * Polls exceeding the limit of their monitor are queued and handed to the executor
+ * once a running poll of the same monitor completes, no thread is blocked while waiting.
+ *
+ * The limit defaults to {@link #MAX_CONCURRENT_POLLS_SYS_PROP} and can be overridden for a single
+ * monitor by appending the simple class name of the monitor to the property,
+ * i.e. <code>org.opennms.netmgt.poller.maxConcurrentPollsPerMonitor.HttpMonitor=100</code>.
+ * A limit of 0 or less disables the limit.
+ */
+public class MonitorConcurrencyLimiter {
+
+    public static final String MAX_CONCURRENT_POLLS_SYS_PROP = "org.opennms.netmgt.poller.maxConcurrentPollsPerMonitor";
+
+    /**
+     * Used when running on virtual threads, where the executor itself does not bound the concurrency anymore.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_POLLS_VIRTUAL_THREADS = 1000;
+
+    private final Function<String, Integer> limitLookup;
+
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+    public MonitorConcurrencyLimiter(final Function<String, Integer> limitLookup) {
+        this.limitLookup = limitLookup;
+    }
+
+    public static MonitorConcurrencyLimiter fromSystemProperties() {
+        final int defaultLimit = Integer.getInteger(MAX_CONCURRENT_POLLS_SYS_PROP,
+                PollerExecutors.isVirtualThreadsEnabled() ? DEFAULT_MAX_CONCURRENT_POLLS_VIRTUAL_THREADS : 0);
+        return new MonitorConcurrencyLimiter(className -> {
+            final String simpleName = className.substring(className.lastIndexOf('.') + 1);
+            return Integer.getInteger(MAX_CONCURRENT_POLLS_SYS_PROP + "." + simpleName, defaultLimit);
+        });
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(final String className, final Supplier<T> supplier, final Executor executor) {
+        final Limit limit = limits.computeIfAbsent(className, c -> new Limit(limitLookup.apply(c)));
+        if (limit.permits == null) {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        }
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        limit.submit(() -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }, future::completeExceptionally, executor);
+        return future;
+    }
+
+    public int getRunning(final String className) {
+        final Limit limit = limits.get(className);
+        return limit != null && limit.permits != null ? limit.maxConcurrent - limit.permits.availablePermits() : 0;
+    }
+
+    public int getQueued(final String className) {
+        final Limit limit = limits.get(className);
+        return limit != null ? limit.pending.size() : 0;
+    }
+
+    private static class Task {
+        private final Runnable runnable;
+        private final Consumer<Throwable> onRejected;
+
+        private Task(final Runnable runnable, final Consumer<Throwable> onRejected) {
+            this.runnable = runnable;
+            this.onRejected = onRejected;
+        }
+    }
+
+    private static class Limit {
+        private final int maxConcurrent;
+        private final Semaphore permits;
+        private final Queue<Task> pending = new ConcurrentLinkedQueue<>();
+
+        private Limit(final int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+            this.permits = maxConcurrent > 0 ? new Semaphore(maxConcurrent) : null;
+        }
+
+        private void submit(final Runnable runnable, final Consumer<Throwable> onRejected, final Executor executor) {
+            pending.add(new Task(runnable, onRejected));
+            drain(executor);
+        }
+
+        private void drain(final Executor executor) {
+            // Whoever adds a task or releases a permit drains the queue afterwards, so no task is left behind
+            while (!pending.isEmpty() && permits.tryAcquire()) {
+                final Task task = pending.poll();
+                if (task == null) {
+                    permits.release();
+                    continue;
+                }
+                try {
+                    executor.execute(() -> {
+                        try {
+                            task.runnable.run();
+                        } finally {
+                            permits.release();
+                            drain(executor);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    task.onRejected.accept(e);
+                }
+            }
+        }
+    }
+}
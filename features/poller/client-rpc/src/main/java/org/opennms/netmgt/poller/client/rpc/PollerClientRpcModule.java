@@ -44,8 +44,10 @@ public class PollerClientRpcModule extends AbstractXmlRpcModule<PollerRequestDTO
     @Qualifier("pollerExecutor")
     private Executor executor;
 
+    private MonitorConcurrencyLimiter concurrencyLimiter = MonitorConcurrencyLimiter.fromSystemProperties();
+
     public PollerClientRpcModule() {
-        super(PollerRequestDTO.class, PollerResponseDTO.class);
+        super(PollerRequestDTO.class, PollerResponseDTO.class, null, new PollerResponseProtobufCodec());
     }
 
     @Override
@@ -61,7 +63,7 @@ public class PollerClientRpcModule extends AbstractXmlRpcModule<PollerRequestDTO
             return CompletableFuture.completedFuture(new PollerResponseDTO(PollStatus.unknown("No monitor found with class name '" + className + "'.")));
         }
 
-        return CompletableFuture.supplyAsync(new Supplier<PollerResponseDTO>() {
+        return concurrencyLimiter.supplyAsync(className, new Supplier<PollerResponseDTO>() {
             @Override
             public PollerResponseDTO get() {
                 PollStatus pollStatus;
@@ -84,6 +86,10 @@ public class PollerClientRpcModule extends AbstractXmlRpcModule<PollerRequestDTO
         this.executor = executor;
     }
 
+    public void setConcurrencyLimiter(MonitorConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
     @Override
     public PollerResponseDTO createResponseWithException(Throwable ex) {
         return new PollerResponseDTO(ex);
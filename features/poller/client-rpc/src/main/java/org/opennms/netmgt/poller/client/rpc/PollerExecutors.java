@@ -0,0 +1,79 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.poller.client.rpc;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the executor used to run the service monitors.
+ *
+ * When {@link #VIRTUAL_THREADS_SYS_PROP} is set and the JVM supports virtual threads,
+ * every poll runs on its own virtual thread, so that blocking monitors waiting on the network
+ * no longer hold on to a platform thread for their whole timeout. The number of concurrent polls
+ * is then bounded per monitor by the {@link MonitorConcurrencyLimiter} instead of the number of threads.
+ * Otherwise a cached thread pool is used.
+ */
+public final class PollerExecutors {
+    private static final Logger LOG = LoggerFactory.getLogger(PollerExecutors.class);
+
+    public static final String VIRTUAL_THREADS_SYS_PROP = "org.opennms.netmgt.poller.virtualThreads";
+
+    private PollerExecutors() {}
+
+    public static boolean isVirtualThreadsEnabled() {
+        return Boolean.getBoolean(VIRTUAL_THREADS_SYS_PROP);
+    }
+
+    public static ExecutorService newExecutor() {
+        if (isVirtualThreadsEnabled()) {
+            final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+            if (executor != null) {
+                LOG.info("Running service monitors on virtual threads.");
+                return executor;
+            }
+            LOG.warn("Virtual threads were requested with {}, but are not supported by this JVM ({}). Using a cached thread pool instead.",
+                    VIRTUAL_THREADS_SYS_PROP, System.getProperty("java.version"));
+        }
+        return Executors.newCachedThreadPool();
+    }
+
+    /**
+     * Virtual threads are only available as of Java 21, look the factory up so that we can still
+     * run on older JVMs.
+     *
+     * @return the executor, or {@code null} if virtual threads are not available
+     */
+    protected static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.debug("Virtual thread executor not available.", e);
+            return null;
+        }
+    }
+}
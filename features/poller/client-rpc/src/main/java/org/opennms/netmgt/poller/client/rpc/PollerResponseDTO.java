@@ -70,6 +70,10 @@ public class PollerResponseDTO implements RpcResponse, PollerResponse {
         return error;
     }
 
+    public void setErrorMessage(String error) {
+        this.error = error;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(pollStatus, error);
@@ -0,0 +1,128 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.poller.client.rpc;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.opennms.core.rpc.xml.RpcMessageCodec;
+import org.opennms.netmgt.poller.DeviceConfig;
+import org.opennms.netmgt.poller.PollStatus;
+import org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Protobuf representation of the {@link PollerResponseDTO}, see <code>poller-rpc.proto</code>.
+ *
+ * Property values are transferred as doubles, which is how they are consumed.
+ */
+public class PollerResponseProtobufCodec implements RpcMessageCodec<PollerResponseDTO> {
+
+    public static final int VERSION = 1;
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] encode(PollerResponseDTO response) {
+        final PollerRpcProtos.PollerResponse.Builder builder = PollerRpcProtos.PollerResponse.newBuilder();
+        if (response.getErrorMessage() != null) {
+            builder.setError(response.getErrorMessage());
+        }
+        if (response.getPollStatus() != null) {
+            builder.setPollStatus(toProto(response.getPollStatus()));
+        }
+        return builder.build().toByteArray();
+    }
+
+    @Override
+    public PollerResponseDTO decode(byte[] bytes) throws IOException {
+        final PollerRpcProtos.PollerResponse proto = PollerRpcProtos.PollerResponse.parseFrom(bytes);
+        final PollerResponseDTO response = new PollerResponseDTO();
+        if (proto.hasError()) {
+            response.setErrorMessage(proto.getError());
+        }
+        if (proto.hasPollStatus()) {
+            response.setPollStatus(fromProto(proto.getPollStatus()));
+        }
+        return response;
+    }
+
+    private static PollerRpcProtos.PollStatus toProto(PollStatus pollStatus) {
+        final PollerRpcProtos.PollStatus.Builder builder = PollerRpcProtos.PollStatus.newBuilder()
+                .setCode(pollStatus.getStatusCode());
+        if (pollStatus.getReason() != null) {
+            builder.setReason(pollStatus.getReason());
+        }
+        if (pollStatus.getTimestamp() != null) {
+            builder.setTimestamp(pollStatus.getTimestamp().getTime());
+        }
+        for (Map.Entry<String, Number> property : pollStatus.getProperties().entrySet()) {
+            if (property.getValue() == null) {
+                continue;
+            }
+            builder.addProperties(PollerRpcProtos.PollStatusProperty.newBuilder()
+                    .setKey(property.getKey())
+                    .setValue(property.getValue().doubleValue()));
+        }
+        final DeviceConfig deviceConfig = pollStatus.getDeviceConfig();
+        if (deviceConfig != null) {
+            final PollerRpcProtos.DeviceConfig.Builder deviceConfigBuilder = PollerRpcProtos.DeviceConfig.newBuilder();
+            if (deviceConfig.getContent() != null) {
+                deviceConfigBuilder.setContent(ByteString.copyFrom(deviceConfig.getContent()));
+            }
+            if (deviceConfig.getFilename() != null) {
+                deviceConfigBuilder.setFilename(deviceConfig.getFilename());
+            }
+            if (deviceConfig.getScriptOutput() != null) {
+                deviceConfigBuilder.setScriptOutput(deviceConfig.getScriptOutput());
+            }
+            builder.setDeviceConfig(deviceConfigBuilder);
+        }
+        return builder.build();
+    }
+
+    private static PollStatus fromProto(PollerRpcProtos.PollStatus proto) {
+        final PollStatus pollStatus = PollStatus.get(proto.getCode(), proto.hasReason() ? proto.getReason() : null);
+        if (proto.hasTimestamp()) {
+            pollStatus.setTimestamp(new Date(proto.getTimestamp()));
+        }
+        final Map<String, Number> properties = new LinkedHashMap<>();
+        for (PollerRpcProtos.PollStatusProperty property : proto.getPropertiesList()) {
+            properties.put(property.getKey(), property.getValue());
+        }
+        pollStatus.setProperties(properties);
+        if (proto.hasDeviceConfig()) {
+            final PollerRpcProtos.DeviceConfig deviceConfigProto = proto.getDeviceConfig();
+            pollStatus.setDeviceConfig(new DeviceConfig(
+                    deviceConfigProto.hasContent() ? deviceConfigProto.getContent().toByteArray() : null,
+                    deviceConfigProto.hasFilename() ? deviceConfigProto.getFilename() : null,
+                    deviceConfigProto.hasScriptOutput() ? deviceConfigProto.getScriptOutput() : null));
+        }
+        return pollStatus;
+    }
+}
@@ -0,0 +1,3578 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: poller-rpc.proto
+
+package org.opennms.netmgt.poller.client.rpc.proto;
+
+public final class PollerRpcProtos {
+  private PollerRpcProtos() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface PollStatusPropertyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PollStatusProperty)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string key = 1;</code>
+     * @return The key.
+     */
+    java.lang.String getKey();
+    /**
+     * <code>string key = 1;</code>
+     * @return The bytes for key.
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    /**
+     * <code>double value = 2;</code>
+     * @return The value.
+     */
+    double getValue();
+  }
+  /**
+   * Protobuf type {@code PollStatusProperty}
+   */
+  public static final class PollStatusProperty extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:PollStatusProperty)
+      PollStatusPropertyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PollStatusProperty.newBuilder() to construct.
+    private PollStatusProperty(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PollStatusProperty() {
+      key_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PollStatusProperty();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollStatusProperty_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollStatusProperty_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.class, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.Builder.class);
+    }
+
+    public static final int KEY_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object key_ = "";
+    /**
+     * <code>string key = 1;</code>
+     * @return The key.
+     */
+    @java.lang.Override
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        key_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string key = 1;</code>
+     * @return The bytes for key.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private double value_ = 0D;
+    /**
+     * <code>double value = 2;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public double getValue() {
+      return value_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(key_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, key_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(value_) != 0) {
+        output.writeDouble(2, value_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(key_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, key_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(value_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, value_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty other = (org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty) obj;
+
+      if (!getKey()
+          .equals(other.getKey())) return false;
+      if (java.lang.Double.doubleToLongBits(getValue())
+          != java.lang.Double.doubleToLongBits(
+              other.getValue())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getKey().hashCode();
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getValue()));
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code PollStatusProperty}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PollStatusProperty)
+        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusPropertyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollStatusProperty_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollStatusProperty_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.class, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        key_ = "";
+        value_ = 0D;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollStatusProperty_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty getDefaultInstanceForType() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty build() {
+        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty buildPartial() {
+        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty result = new org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.key_ = key_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.value_ = value_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty) {
+          return mergeFrom((org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty other) {
+        if (other == org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.getDefaultInstance()) return this;
+        if (!other.getKey().isEmpty()) {
+          key_ = other.key_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getValue() != 0D) {
+          setValue(other.getValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                key_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 17: {
+                value_ = input.readDouble();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 17
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object key_ = "";
+      /**
+       * <code>string key = 1;</code>
+       * @return The key.
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          key_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return The bytes for key.
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @param value The key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        key_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearKey() {
+        key_ = getDefaultInstance().getKey();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string key = 1;</code>
+       * @param value The bytes for key to set.
+       * @return This builder for chaining.
+       */
+      public Builder setKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        key_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private double value_ ;
+      /**
+       * <code>double value = 2;</code>
+       * @return The value.
+       */
+      @java.lang.Override
+      public double getValue() {
+        return value_;
+      }
+      /**
+       * <code>double value = 2;</code>
+       * @param value The value to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValue(double value) {
+
+        value_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double value = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = 0D;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:PollStatusProperty)
+    }
+
+    // @@protoc_insertion_point(class_scope:PollStatusProperty)
+    private static final org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty();
+    }
+
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PollStatusProperty>
+        PARSER = new com.google.protobuf.AbstractParser<PollStatusProperty>() {
+      @java.lang.Override
+      public PollStatusProperty parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PollStatusProperty> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PollStatusProperty> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeviceConfigOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DeviceConfig)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional bytes content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    boolean hasContent();
+    /**
+     * <code>optional bytes content = 1;</code>
+     * @return The content.
+     */
+    com.google.protobuf.ByteString getContent();
+
+    /**
+     * <code>optional string filename = 2;</code>
+     * @return Whether the filename field is set.
+     */
+    boolean hasFilename();
+    /**
+     * <code>optional string filename = 2;</code>
+     * @return The filename.
+     */
+    java.lang.String getFilename();
+    /**
+     * <code>optional string filename = 2;</code>
+     * @return The bytes for filename.
+     */
+    com.google.protobuf.ByteString
+        getFilenameBytes();
+
+    /**
+     * <code>optional string script_output = 3;</code>
+     * @return Whether the scriptOutput field is set.
+     */
+    boolean hasScriptOutput();
+    /**
+     * <code>optional string script_output = 3;</code>
+     * @return The scriptOutput.
+     */
+    java.lang.String getScriptOutput();
+    /**
+     * <code>optional string script_output = 3;</code>
+     * @return The bytes for scriptOutput.
+     */
+    com.google.protobuf.ByteString
+        getScriptOutputBytes();
+  }
+  /**
+   * Protobuf type {@code DeviceConfig}
+   */
+  public static final class DeviceConfig extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:DeviceConfig)
+      DeviceConfigOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeviceConfig.newBuilder() to construct.
+    private DeviceConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeviceConfig() {
+      content_ = com.google.protobuf.ByteString.EMPTY;
+      filename_ = "";
+      scriptOutput_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeviceConfig();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_DeviceConfig_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_DeviceConfig_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.class, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int CONTENT_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString content_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes content = 1;</code>
+     * @return Whether the content field is set.
+     */
+    @java.lang.Override
+    public boolean hasContent() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional bytes content = 1;</code>
+     * @return The content.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getContent() {
+      return content_;
+    }
+
+    public static final int FILENAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object filename_ = "";
+    /**
+     * <code>optional string filename = 2;</code>
+     * @return Whether the filename field is set.
+     */
+    @java.lang.Override
+    public boolean hasFilename() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string filename = 2;</code>
+     * @return The filename.
+     */
+    @java.lang.Override
+    public java.lang.String getFilename() {
+      java.lang.Object ref = filename_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        filename_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string filename = 2;</code>
+     * @return The bytes for filename.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getFilenameBytes() {
+      java.lang.Object ref = filename_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        filename_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SCRIPT_OUTPUT_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object scriptOutput_ = "";
+    /**
+     * <code>optional string script_output = 3;</code>
+     * @return Whether the scriptOutput field is set.
+     */
+    @java.lang.Override
+    public boolean hasScriptOutput() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string script_output = 3;</code>
+     * @return The scriptOutput.
+     */
+    @java.lang.Override
+    public java.lang.String getScriptOutput() {
+      java.lang.Object ref = scriptOutput_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        scriptOutput_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string script_output = 3;</code>
+     * @return The bytes for scriptOutput.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getScriptOutputBytes() {
+      java.lang.Object ref = scriptOutput_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        scriptOutput_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeBytes(1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, filename_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, scriptOutput_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, content_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, filename_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, scriptOutput_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig other = (org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig) obj;
+
+      if (hasContent() != other.hasContent()) return false;
+      if (hasContent()) {
+        if (!getContent()
+            .equals(other.getContent())) return false;
+      }
+      if (hasFilename() != other.hasFilename()) return false;
+      if (hasFilename()) {
+        if (!getFilename()
+            .equals(other.getFilename())) return false;
+      }
+      if (hasScriptOutput() != other.hasScriptOutput()) return false;
+      if (hasScriptOutput()) {
+        if (!getScriptOutput()
+            .equals(other.getScriptOutput())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasContent()) {
+        hash = (37 * hash) + CONTENT_FIELD_NUMBER;
+        hash = (53 * hash) + getContent().hashCode();
+      }
+      if (hasFilename()) {
+        hash = (37 * hash) + FILENAME_FIELD_NUMBER;
+        hash = (53 * hash) + getFilename().hashCode();
+      }
+      if (hasScriptOutput()) {
+        hash = (37 * hash) + SCRIPT_OUTPUT_FIELD_NUMBER;
+        hash = (53 * hash) + getScriptOutput().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code DeviceConfig}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DeviceConfig)
+        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfigOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_DeviceConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_DeviceConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.class, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        content_ = com.google.protobuf.ByteString.EMPTY;
+        filename_ = "";
+        scriptOutput_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_DeviceConfig_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig getDefaultInstanceForType() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig build() {
+        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig buildPartial() {
+        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig result = new org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.content_ = content_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.filename_ = filename_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.scriptOutput_ = scriptOutput_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig) {
+          return mergeFrom((org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig other) {
+        if (other == org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.getDefaultInstance()) return this;
+        if (other.hasContent()) {
+          setContent(other.getContent());
+        }
+        if (other.hasFilename()) {
+          filename_ = other.filename_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasScriptOutput()) {
+          scriptOutput_ = other.scriptOutput_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                content_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                filename_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                scriptOutput_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString content_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes content = 1;</code>
+       * @return Whether the content field is set.
+       */
+      @java.lang.Override
+      public boolean hasContent() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional bytes content = 1;</code>
+       * @return The content.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getContent() {
+        return content_;
+      }
+      /**
+       * <code>optional bytes content = 1;</code>
+       * @param value The content to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContent(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        content_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes content = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContent() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        content_ = getDefaultInstance().getContent();
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object filename_ = "";
+      /**
+       * <code>optional string filename = 2;</code>
+       * @return Whether the filename field is set.
+       */
+      public boolean hasFilename() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string filename = 2;</code>
+       * @return The filename.
+       */
+      public java.lang.String getFilename() {
+        java.lang.Object ref = filename_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          filename_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string filename = 2;</code>
+       * @return The bytes for filename.
+       */
+      public com.google.protobuf.ByteString
+          getFilenameBytes() {
+        java.lang.Object ref = filename_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          filename_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string filename = 2;</code>
+       * @param value The filename to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFilename(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        filename_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string filename = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFilename() {
+        filename_ = getDefaultInstance().getFilename();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string filename = 2;</code>
+       * @param value The bytes for filename to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFilenameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        filename_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object scriptOutput_ = "";
+      /**
+       * <code>optional string script_output = 3;</code>
+       * @return Whether the scriptOutput field is set.
+       */
+      public boolean hasScriptOutput() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string script_output = 3;</code>
+       * @return The scriptOutput.
+       */
+      public java.lang.String getScriptOutput() {
+        java.lang.Object ref = scriptOutput_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          scriptOutput_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string script_output = 3;</code>
+       * @return The bytes for scriptOutput.
+       */
+      public com.google.protobuf.ByteString
+          getScriptOutputBytes() {
+        java.lang.Object ref = scriptOutput_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          scriptOutput_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string script_output = 3;</code>
+       * @param value The scriptOutput to set.
+       * @return This builder for chaining.
+       */
+      public Builder setScriptOutput(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        scriptOutput_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string script_output = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearScriptOutput() {
+        scriptOutput_ = getDefaultInstance().getScriptOutput();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string script_output = 3;</code>
+       * @param value The bytes for scriptOutput to set.
+       * @return This builder for chaining.
+       */
+      public Builder setScriptOutputBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        scriptOutput_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:DeviceConfig)
+    }
+
+    // @@protoc_insertion_point(class_scope:DeviceConfig)
+    private static final org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig();
+    }
+
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeviceConfig>
+        PARSER = new com.google.protobuf.AbstractParser<DeviceConfig>() {
+      @java.lang.Override
+      public DeviceConfig parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeviceConfig> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeviceConfig> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PollStatusOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PollStatus)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 code = 1;</code>
+     * @return The code.
+     */
+    int getCode();
+
+    /**
+     * <code>optional string reason = 2;</code>
+     * @return Whether the reason field is set.
+     */
+    boolean hasReason();
+    /**
+     * <code>optional string reason = 2;</code>
+     * @return The reason.
+     */
+    java.lang.String getReason();
+    /**
+     * <code>optional string reason = 2;</code>
+     * @return The bytes for reason.
+     */
+    com.google.protobuf.ByteString
+        getReasonBytes();
+
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return Whether the timestamp field is set.
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return The timestamp.
+     */
+    long getTimestamp();
+
+    /**
+     * <code>repeated .PollStatusProperty properties = 4;</code>
+     */
+    java.util.List<org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty> 
+        getPropertiesList();
+    /**
+     * <code>repeated .PollStatusProperty properties = 4;</code>
+     */
+    org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty getProperties(int index);
+    /**
+     * <code>repeated .PollStatusProperty properties = 4;</code>
+     */
+    int getPropertiesCount();
+    /**
+     * <code>repeated .PollStatusProperty properties = 4;</code>
+     */
+    java.util.List<? extends org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusPropertyOrBuilder> 
+        getPropertiesOrBuilderList();
+    /**
+     * <code>repeated .PollStatusProperty properties = 4;</code>
+     */
+    org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusPropertyOrBuilder getPropertiesOrBuilder(
+        int index);
+
+    /**
+     * <code>optional .DeviceConfig device_config = 5;</code>
+     * @return Whether the deviceConfig field is set.
+     */
+    boolean hasDeviceConfig();
+    /**
+     * <code>optional .DeviceConfig device_config = 5;</code>
+     * @return The deviceConfig.
+     */
+    org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig getDeviceConfig();
+    /**
+     * <code>optional .DeviceConfig device_config = 5;</code>
+     */
+    org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfigOrBuilder getDeviceConfigOrBuilder();
+  }
+  /**
+   * Protobuf type {@code PollStatus}
+   */
+  public static final class PollStatus extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:PollStatus)
+      PollStatusOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PollStatus.newBuilder() to construct.
+    private PollStatus(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PollStatus() {
+      reason_ = "";
+      properties_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PollStatus();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollStatus_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollStatus_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.class, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int CODE_FIELD_NUMBER = 1;
+    private int code_ = 0;
+    /**
+     * <code>int32 code = 1;</code>
+     * @return The code.
+     */
+    @java.lang.Override
+    public int getCode() {
+      return code_;
+    }
+
+    public static final int REASON_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object reason_ = "";
+    /**
+     * <code>optional string reason = 2;</code>
+     * @return Whether the reason field is set.
+     */
+    @java.lang.Override
+    public boolean hasReason() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string reason = 2;</code>
+     * @return The reason.
+     */
+    @java.lang.Override
+    public java.lang.String getReason() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        reason_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string reason = 2;</code>
+     * @return The bytes for reason.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getReasonBytes() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        reason_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 3;
+    private long timestamp_ = 0L;
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return Whether the timestamp field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int64 timestamp = 3;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    public static final int PROPERTIES_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty> properties_;
+    /**
+     * <code>repeated .PollStatusProperty properties = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty> getPropertiesList() {
+      return properties_;
+    }
+    /**
+     * <code>repeated .PollStatusProperty properties = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusPropertyOrBuilder> 
+        getPropertiesOrBuilderList() {
+      return properties_;
+    }
+    /**
+     * <code>repeated .PollStatusProperty properties = 4;</code>
+     */
+    @java.lang.Override
+    public int getPropertiesCount() {
+      return properties_.size();
+    }
+    /**
+     * <code>repeated .PollStatusProperty properties = 4;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty getProperties(int index) {
+      return properties_.get(index);
+    }
+    /**
+     * <code>repeated .PollStatusProperty properties = 4;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusPropertyOrBuilder getPropertiesOrBuilder(
+        int index) {
+      return properties_.get(index);
+    }
+
+    public static final int DEVICE_CONFIG_FIELD_NUMBER = 5;
+    private org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig deviceConfig_;
+    /**
+     * <code>optional .DeviceConfig device_config = 5;</code>
+     * @return Whether the deviceConfig field is set.
+     */
+    @java.lang.Override
+    public boolean hasDeviceConfig() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional .DeviceConfig device_config = 5;</code>
+     * @return The deviceConfig.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig getDeviceConfig() {
+      return deviceConfig_ == null ? org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.getDefaultInstance() : deviceConfig_;
+    }
+    /**
+     * <code>optional .DeviceConfig device_config = 5;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfigOrBuilder getDeviceConfigOrBuilder() {
+      return deviceConfig_ == null ? org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.getDefaultInstance() : deviceConfig_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (code_ != 0) {
+        output.writeInt32(1, code_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, reason_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(3, timestamp_);
+      }
+      for (int i = 0; i < properties_.size(); i++) {
+        output.writeMessage(4, properties_.get(i));
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeMessage(5, getDeviceConfig());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (code_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, code_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, reason_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, timestamp_);
+      }
+      for (int i = 0; i < properties_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, properties_.get(i));
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getDeviceConfig());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus other = (org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus) obj;
+
+      if (getCode()
+          != other.getCode()) return false;
+      if (hasReason() != other.hasReason()) return false;
+      if (hasReason()) {
+        if (!getReason()
+            .equals(other.getReason())) return false;
+      }
+      if (hasTimestamp() != other.hasTimestamp()) return false;
+      if (hasTimestamp()) {
+        if (getTimestamp()
+            != other.getTimestamp()) return false;
+      }
+      if (!getPropertiesList()
+          .equals(other.getPropertiesList())) return false;
+      if (hasDeviceConfig() != other.hasDeviceConfig()) return false;
+      if (hasDeviceConfig()) {
+        if (!getDeviceConfig()
+            .equals(other.getDeviceConfig())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + CODE_FIELD_NUMBER;
+      hash = (53 * hash) + getCode();
+      if (hasReason()) {
+        hash = (37 * hash) + REASON_FIELD_NUMBER;
+        hash = (53 * hash) + getReason().hashCode();
+      }
+      if (hasTimestamp()) {
+        hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTimestamp());
+      }
+      if (getPropertiesCount() > 0) {
+        hash = (37 * hash) + PROPERTIES_FIELD_NUMBER;
+        hash = (53 * hash) + getPropertiesList().hashCode();
+      }
+      if (hasDeviceConfig()) {
+        hash = (37 * hash) + DEVICE_CONFIG_FIELD_NUMBER;
+        hash = (53 * hash) + getDeviceConfig().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code PollStatus}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PollStatus)
+        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollStatus_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollStatus_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.class, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPropertiesFieldBuilder();
+          getDeviceConfigFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        code_ = 0;
+        reason_ = "";
+        timestamp_ = 0L;
+        if (propertiesBuilder_ == null) {
+          properties_ = java.util.Collections.emptyList();
+        } else {
+          properties_ = null;
+          propertiesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        deviceConfig_ = null;
+        if (deviceConfigBuilder_ != null) {
+          deviceConfigBuilder_.dispose();
+          deviceConfigBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollStatus_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus getDefaultInstanceForType() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus build() {
+        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus buildPartial() {
+        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus result = new org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus result) {
+        if (propertiesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            properties_ = java.util.Collections.unmodifiableList(properties_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.properties_ = properties_;
+        } else {
+          result.properties_ = propertiesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.code_ = code_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.reason_ = reason_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.timestamp_ = timestamp_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.deviceConfig_ = deviceConfigBuilder_ == null
+              ? deviceConfig_
+              : deviceConfigBuilder_.build();
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus) {
+          return mergeFrom((org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus other) {
+        if (other == org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.getDefaultInstance()) return this;
+        if (other.getCode() != 0) {
+          setCode(other.getCode());
+        }
+        if (other.hasReason()) {
+          reason_ = other.reason_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (propertiesBuilder_ == null) {
+          if (!other.properties_.isEmpty()) {
+            if (properties_.isEmpty()) {
+              properties_ = other.properties_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensurePropertiesIsMutable();
+              properties_.addAll(other.properties_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.properties_.isEmpty()) {
+            if (propertiesBuilder_.isEmpty()) {
+              propertiesBuilder_.dispose();
+              propertiesBuilder_ = null;
+              properties_ = other.properties_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              propertiesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPropertiesFieldBuilder() : null;
+            } else {
+              propertiesBuilder_.addAllMessages(other.properties_);
+            }
+          }
+        }
+        if (other.hasDeviceConfig()) {
+          mergeDeviceConfig(other.getDeviceConfig());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                code_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                reason_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 24: {
+                timestamp_ = input.readInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 34: {
+                org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty m =
+                    input.readMessage(
+                        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.parser(),
+                        extensionRegistry);
+                if (propertiesBuilder_ == null) {
+                  ensurePropertiesIsMutable();
+                  properties_.add(m);
+                } else {
+                  propertiesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              case 42: {
+                input.readMessage(
+                    getDeviceConfigFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int code_ ;
+      /**
+       * <code>int32 code = 1;</code>
+       * @return The code.
+       */
+      @java.lang.Override
+      public int getCode() {
+        return code_;
+      }
+      /**
+       * <code>int32 code = 1;</code>
+       * @param value The code to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCode(int value) {
+
+        code_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 code = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCode() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        code_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object reason_ = "";
+      /**
+       * <code>optional string reason = 2;</code>
+       * @return Whether the reason field is set.
+       */
+      public boolean hasReason() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       * @return The reason.
+       */
+      public java.lang.String getReason() {
+        java.lang.Object ref = reason_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          reason_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       * @return The bytes for reason.
+       */
+      public com.google.protobuf.ByteString
+          getReasonBytes() {
+        java.lang.Object ref = reason_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          reason_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       * @param value The reason to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReason(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        reason_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReason() {
+        reason_ = getDefaultInstance().getReason();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string reason = 2;</code>
+       * @param value The bytes for reason to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReasonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        reason_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @return Whether the timestamp field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @return The timestamp.
+       */
+      @java.lang.Override
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(long value) {
+
+        timestamp_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timestamp = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty> properties_ =
+        java.util.Collections.emptyList();
+      private void ensurePropertiesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          properties_ = new java.util.ArrayList<org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty>(properties_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.Builder, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusPropertyOrBuilder> propertiesBuilder_;
+
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public java.util.List<org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty> getPropertiesList() {
+        if (propertiesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(properties_);
+        } else {
+          return propertiesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public int getPropertiesCount() {
+        if (propertiesBuilder_ == null) {
+          return properties_.size();
+        } else {
+          return propertiesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty getProperties(int index) {
+        if (propertiesBuilder_ == null) {
+          return properties_.get(index);
+        } else {
+          return propertiesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public Builder setProperties(
+          int index, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.set(index, value);
+          onChanged();
+        } else {
+          propertiesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public Builder setProperties(
+          int index, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public Builder addProperties(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.add(value);
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public Builder addProperties(
+          int index, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.add(index, value);
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public Builder addProperties(
+          org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.add(builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public Builder addProperties(
+          int index, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public Builder addAllProperties(
+          java.lang.Iterable<? extends org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty> values) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, properties_);
+          onChanged();
+        } else {
+          propertiesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public Builder clearProperties() {
+        if (propertiesBuilder_ == null) {
+          properties_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          propertiesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public Builder removeProperties(int index) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.remove(index);
+          onChanged();
+        } else {
+          propertiesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.Builder getPropertiesBuilder(
+          int index) {
+        return getPropertiesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusPropertyOrBuilder getPropertiesOrBuilder(
+          int index) {
+        if (propertiesBuilder_ == null) {
+          return properties_.get(index);  } else {
+          return propertiesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public java.util.List<? extends org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusPropertyOrBuilder> 
+           getPropertiesOrBuilderList() {
+        if (propertiesBuilder_ != null) {
+          return propertiesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(properties_);
+        }
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.Builder addPropertiesBuilder() {
+        return getPropertiesFieldBuilder().addBuilder(
+            org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.Builder addPropertiesBuilder(
+          int index) {
+        return getPropertiesFieldBuilder().addBuilder(
+            index, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .PollStatusProperty properties = 4;</code>
+       */
+      public java.util.List<org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.Builder> 
+           getPropertiesBuilderList() {
+        return getPropertiesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.Builder, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusPropertyOrBuilder> 
+          getPropertiesFieldBuilder() {
+        if (propertiesBuilder_ == null) {
+          propertiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusProperty.Builder, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusPropertyOrBuilder>(
+                  properties_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          properties_ = null;
+        }
+        return propertiesBuilder_;
+      }
+
+      private org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig deviceConfig_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.Builder, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfigOrBuilder> deviceConfigBuilder_;
+      /**
+       * <code>optional .DeviceConfig device_config = 5;</code>
+       * @return Whether the deviceConfig field is set.
+       */
+      public boolean hasDeviceConfig() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional .DeviceConfig device_config = 5;</code>
+       * @return The deviceConfig.
+       */
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig getDeviceConfig() {
+        if (deviceConfigBuilder_ == null) {
+          return deviceConfig_ == null ? org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.getDefaultInstance() : deviceConfig_;
+        } else {
+          return deviceConfigBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .DeviceConfig device_config = 5;</code>
+       */
+      public Builder setDeviceConfig(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig value) {
+        if (deviceConfigBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          deviceConfig_ = value;
+        } else {
+          deviceConfigBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .DeviceConfig device_config = 5;</code>
+       */
+      public Builder setDeviceConfig(
+          org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.Builder builderForValue) {
+        if (deviceConfigBuilder_ == null) {
+          deviceConfig_ = builderForValue.build();
+        } else {
+          deviceConfigBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .DeviceConfig device_config = 5;</code>
+       */
+      public Builder mergeDeviceConfig(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig value) {
+        if (deviceConfigBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0) &&
+            deviceConfig_ != null &&
+            deviceConfig_ != org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.getDefaultInstance()) {
+            getDeviceConfigBuilder().mergeFrom(value);
+          } else {
+            deviceConfig_ = value;
+          }
+        } else {
+          deviceConfigBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .DeviceConfig device_config = 5;</code>
+       */
+      public Builder clearDeviceConfig() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        deviceConfig_ = null;
+        if (deviceConfigBuilder_ != null) {
+          deviceConfigBuilder_.dispose();
+          deviceConfigBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .DeviceConfig device_config = 5;</code>
+       */
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.Builder getDeviceConfigBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getDeviceConfigFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .DeviceConfig device_config = 5;</code>
+       */
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfigOrBuilder getDeviceConfigOrBuilder() {
+        if (deviceConfigBuilder_ != null) {
+          return deviceConfigBuilder_.getMessageOrBuilder();
+        } else {
+          return deviceConfig_ == null ?
+              org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.getDefaultInstance() : deviceConfig_;
+        }
+      }
+      /**
+       * <code>optional .DeviceConfig device_config = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.Builder, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfigOrBuilder> 
+          getDeviceConfigFieldBuilder() {
+        if (deviceConfigBuilder_ == null) {
+          deviceConfigBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfig.Builder, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.DeviceConfigOrBuilder>(
+                  getDeviceConfig(),
+                  getParentForChildren(),
+                  isClean());
+          deviceConfig_ = null;
+        }
+        return deviceConfigBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:PollStatus)
+    }
+
+    // @@protoc_insertion_point(class_scope:PollStatus)
+    private static final org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus();
+    }
+
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PollStatus>
+        PARSER = new com.google.protobuf.AbstractParser<PollStatus>() {
+      @java.lang.Override
+      public PollStatus parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PollStatus> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PollStatus> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PollerResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PollerResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string error = 1;</code>
+     * @return Whether the error field is set.
+     */
+    boolean hasError();
+    /**
+     * <code>optional string error = 1;</code>
+     * @return The error.
+     */
+    java.lang.String getError();
+    /**
+     * <code>optional string error = 1;</code>
+     * @return The bytes for error.
+     */
+    com.google.protobuf.ByteString
+        getErrorBytes();
+
+    /**
+     * <code>optional .PollStatus poll_status = 2;</code>
+     * @return Whether the pollStatus field is set.
+     */
+    boolean hasPollStatus();
+    /**
+     * <code>optional .PollStatus poll_status = 2;</code>
+     * @return The pollStatus.
+     */
+    org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus getPollStatus();
+    /**
+     * <code>optional .PollStatus poll_status = 2;</code>
+     */
+    org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusOrBuilder getPollStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code PollerResponse}
+   */
+  public static final class PollerResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:PollerResponse)
+      PollerResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PollerResponse.newBuilder() to construct.
+    private PollerResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PollerResponse() {
+      error_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PollerResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollerResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollerResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse.class, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ERROR_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object error_ = "";
+    /**
+     * <code>optional string error = 1;</code>
+     * @return Whether the error field is set.
+     */
+    @java.lang.Override
+    public boolean hasError() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string error = 1;</code>
+     * @return The error.
+     */
+    @java.lang.Override
+    public java.lang.String getError() {
+      java.lang.Object ref = error_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        error_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string error = 1;</code>
+     * @return The bytes for error.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrorBytes() {
+      java.lang.Object ref = error_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        error_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int POLL_STATUS_FIELD_NUMBER = 2;
+    private org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus pollStatus_;
+    /**
+     * <code>optional .PollStatus poll_status = 2;</code>
+     * @return Whether the pollStatus field is set.
+     */
+    @java.lang.Override
+    public boolean hasPollStatus() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional .PollStatus poll_status = 2;</code>
+     * @return The pollStatus.
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus getPollStatus() {
+      return pollStatus_ == null ? org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.getDefaultInstance() : pollStatus_;
+    }
+    /**
+     * <code>optional .PollStatus poll_status = 2;</code>
+     */
+    @java.lang.Override
+    public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusOrBuilder getPollStatusOrBuilder() {
+      return pollStatus_ == null ? org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.getDefaultInstance() : pollStatus_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, error_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(2, getPollStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, error_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getPollStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse)) {
+        return super.equals(obj);
+      }
+      org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse other = (org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse) obj;
+
+      if (hasError() != other.hasError()) return false;
+      if (hasError()) {
+        if (!getError()
+            .equals(other.getError())) return false;
+      }
+      if (hasPollStatus() != other.hasPollStatus()) return false;
+      if (hasPollStatus()) {
+        if (!getPollStatus()
+            .equals(other.getPollStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasError()) {
+        hash = (37 * hash) + ERROR_FIELD_NUMBER;
+        hash = (53 * hash) + getError().hashCode();
+      }
+      if (hasPollStatus()) {
+        hash = (37 * hash) + POLL_STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getPollStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code PollerResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PollerResponse)
+        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollerResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollerResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse.class, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse.Builder.class);
+      }
+
+      // Construct using org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPollStatusFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        error_ = "";
+        pollStatus_ = null;
+        if (pollStatusBuilder_ != null) {
+          pollStatusBuilder_.dispose();
+          pollStatusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.internal_static_PollerResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse getDefaultInstanceForType() {
+        return org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse build() {
+        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse buildPartial() {
+        org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse result = new org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.error_ = error_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.pollStatus_ = pollStatusBuilder_ == null
+              ? pollStatus_
+              : pollStatusBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse) {
+          return mergeFrom((org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse other) {
+        if (other == org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse.getDefaultInstance()) return this;
+        if (other.hasError()) {
+          error_ = other.error_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasPollStatus()) {
+          mergePollStatus(other.getPollStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                error_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getPollStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object error_ = "";
+      /**
+       * <code>optional string error = 1;</code>
+       * @return Whether the error field is set.
+       */
+      public boolean hasError() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @return The error.
+       */
+      public java.lang.String getError() {
+        java.lang.Object ref = error_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          error_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @return The bytes for error.
+       */
+      public com.google.protobuf.ByteString
+          getErrorBytes() {
+        java.lang.Object ref = error_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          error_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @param value The error to set.
+       * @return This builder for chaining.
+       */
+      public Builder setError(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        error_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearError() {
+        error_ = getDefaultInstance().getError();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string error = 1;</code>
+       * @param value The bytes for error to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        error_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus pollStatus_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.Builder, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusOrBuilder> pollStatusBuilder_;
+      /**
+       * <code>optional .PollStatus poll_status = 2;</code>
+       * @return Whether the pollStatus field is set.
+       */
+      public boolean hasPollStatus() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional .PollStatus poll_status = 2;</code>
+       * @return The pollStatus.
+       */
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus getPollStatus() {
+        if (pollStatusBuilder_ == null) {
+          return pollStatus_ == null ? org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.getDefaultInstance() : pollStatus_;
+        } else {
+          return pollStatusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .PollStatus poll_status = 2;</code>
+       */
+      public Builder setPollStatus(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus value) {
+        if (pollStatusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          pollStatus_ = value;
+        } else {
+          pollStatusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .PollStatus poll_status = 2;</code>
+       */
+      public Builder setPollStatus(
+          org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.Builder builderForValue) {
+        if (pollStatusBuilder_ == null) {
+          pollStatus_ = builderForValue.build();
+        } else {
+          pollStatusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .PollStatus poll_status = 2;</code>
+       */
+      public Builder mergePollStatus(org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus value) {
+        if (pollStatusBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            pollStatus_ != null &&
+            pollStatus_ != org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.getDefaultInstance()) {
+            getPollStatusBuilder().mergeFrom(value);
+          } else {
+            pollStatus_ = value;
+          }
+        } else {
+          pollStatusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .PollStatus poll_status = 2;</code>
+       */
+      public Builder clearPollStatus() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        pollStatus_ = null;
+        if (pollStatusBuilder_ != null) {
+          pollStatusBuilder_.dispose();
+          pollStatusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .PollStatus poll_status = 2;</code>
+       */
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.Builder getPollStatusBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getPollStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .PollStatus poll_status = 2;</code>
+       */
+      public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusOrBuilder getPollStatusOrBuilder() {
+        if (pollStatusBuilder_ != null) {
+          return pollStatusBuilder_.getMessageOrBuilder();
+        } else {
+          return pollStatus_ == null ?
+              org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.getDefaultInstance() : pollStatus_;
+        }
+      }
+      /**
+       * <code>optional .PollStatus poll_status = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.Builder, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusOrBuilder> 
+          getPollStatusFieldBuilder() {
+        if (pollStatusBuilder_ == null) {
+          pollStatusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatus.Builder, org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollStatusOrBuilder>(
+                  getPollStatus(),
+                  getParentForChildren(),
+                  isClean());
+          pollStatus_ = null;
+        }
+        return pollStatusBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:PollerResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:PollerResponse)
+    private static final org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse();
+    }
+
+    public static org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PollerResponse>
+        PARSER = new com.google.protobuf.AbstractParser<PollerResponse>() {
+      @java.lang.Override
+      public PollerResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PollerResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PollerResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.opennms.netmgt.poller.client.rpc.proto.PollerRpcProtos.PollerResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PollStatusProperty_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PollStatusProperty_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_DeviceConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_DeviceConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PollStatus_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PollStatus_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PollerResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PollerResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\020poller-rpc.proto\"0\n\022PollStatusProperty" +
+      "\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\001\"\202\001\n\014DeviceC" +
+      "onfig\022\024\n\007content\030\001 \001(\014H\000\210\001\001\022\025\n\010filename\030" +
+      "\002 \001(\tH\001\210\001\001\022\032\n\rscript_output\030\003 \001(\tH\002\210\001\001B\n" +
+      "\n\010_contentB\013\n\t_filenameB\020\n\016_script_outpu" +
+      "t\"\306\001\n\nPollStatus\022\014\n\004code\030\001 \001(\005\022\023\n\006reason" +
+      "\030\002 \001(\tH\000\210\001\001\022\026\n\ttimestamp\030\003 \001(\003H\001\210\001\001\022\'\n\np" +
+      "roperties\030\004 \003(\0132\023.PollStatusProperty\022)\n\r" +
+      "device_config\030\005 \001(\0132\r.DeviceConfigH\002\210\001\001B" +
+      "\t\n\007_reasonB\014\n\n_timestampB\020\n\016_device_conf" +
+      "ig\"e\n\016PollerResponse\022\022\n\005error\030\001 \001(\tH\000\210\001\001" +
+      "\022%\n\013poll_status\030\002 \001(\0132\013.PollStatusH\001\210\001\001B" +
+      "\010\n\006_errorB\016\n\014_poll_statusB=\n*org.opennms" +
+      ".netmgt.poller.client.rpc.protoB\017PollerR" +
+      "pcProtosb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_PollStatusProperty_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_PollStatusProperty_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PollStatusProperty_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_DeviceConfig_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_DeviceConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_DeviceConfig_descriptor,
+        new java.lang.String[] { "Content", "Filename", "ScriptOutput", "Content", "Filename", "ScriptOutput", });
+    internal_static_PollStatus_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_PollStatus_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PollStatus_descriptor,
+        new java.lang.String[] { "Code", "Reason", "Timestamp", "Properties", "DeviceConfig", "Reason", "Timestamp", "DeviceConfig", });
+    internal_static_PollerResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_PollerResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PollerResponse_descriptor,
+        new java.lang.String[] { "Error", "PollStatus", "Error", "PollStatus", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
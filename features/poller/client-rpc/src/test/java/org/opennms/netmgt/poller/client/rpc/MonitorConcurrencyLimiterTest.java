@@ -0,0 +1,122 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.poller.client.rpc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class MonitorConcurrencyLimiterTest {
+
+    private static final String HTTP_MONITOR = "org.opennms.netmgt.poller.monitors.HttpMonitor";
+    private static final String TCP_MONITOR = "org.opennms.netmgt.poller.monitors.TcpMonitor";
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void canLimitConcurrentPollsPerMonitor() throws Exception {
+        final MonitorConcurrencyLimiter limiter = new MonitorConcurrencyLimiter(className -> HTTP_MONITOR.equals(className) ? 2 : 0);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int n = i;
+            futures.add(limiter.supplyAsync(HTTP_MONITOR, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    running.decrementAndGet();
+                }
+                return n;
+            }, executor));
+        }
+
+        // Polls of other monitors are not affected by the limit
+        final CompletableFuture<String> tcp = limiter.supplyAsync(TCP_MONITOR, () -> "up", executor);
+        assertThat(tcp.get(5, TimeUnit.SECONDS), equalTo("up"));
+
+        assertThat(limiter.getRunning(HTTP_MONITOR), equalTo(2));
+        assertThat(limiter.getQueued(HTTP_MONITOR), equalTo(8));
+
+        release.countDown();
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS), equalTo(i));
+        }
+        assertThat(maxRunning.get(), lessThanOrEqualTo(2));
+        assertThat(limiter.getRunning(HTTP_MONITOR), equalTo(0));
+        assertThat(limiter.getQueued(HTTP_MONITOR), equalTo(0));
+    }
+
+    @Test
+    public void canCompleteExceptionally() throws Exception {
+        final MonitorConcurrencyLimiter limiter = new MonitorConcurrencyLimiter(className -> 1);
+        final CompletableFuture<String> failed = limiter.supplyAsync(HTTP_MONITOR, () -> {
+            throw new IllegalStateException("boom");
+        }, executor);
+        try {
+            failed.get(5, TimeUnit.SECONDS);
+            fail("Expected the poll to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        // The permit must have been returned
+        assertThat(limiter.supplyAsync(HTTP_MONITOR, () -> "up", executor).get(5, TimeUnit.SECONDS), equalTo("up"));
+
+        // Rejected polls are failed as well
+        executor.shutdown();
+        final CompletableFuture<String> rejected = limiter.supplyAsync(HTTP_MONITOR, () -> "up", executor);
+        try {
+            rejected.get(5, TimeUnit.SECONDS);
+            fail("Expected the poll to be rejected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        assertThat(limiter.getRunning(HTTP_MONITOR), equalTo(0));
+    }
+}
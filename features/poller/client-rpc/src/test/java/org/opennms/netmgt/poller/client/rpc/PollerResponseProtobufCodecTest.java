@@ -0,0 +1,105 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.poller.client.rpc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.core.rpc.xml.AbstractXmlRpcModule;
+import org.opennms.netmgt.poller.DeviceConfig;
+import org.opennms.netmgt.poller.PollStatus;
+
+public class PollerResponseProtobufCodecTest {
+
+    private static final String CODEC_PROPERTY = AbstractXmlRpcModule.CODEC_SYS_PROP_PREFIX + PollerClientRpcModule.RPC_MODULE_ID + AbstractXmlRpcModule.CODEC_SYS_PROP_SUFFIX;
+
+    private final PollerClientRpcModule module = new PollerClientRpcModule();
+
+    /**
+     * The marshaled request advertises the binary format, as sent by OpenNMS.
+     */
+    private final String request = module.marshalRequest(new PollerRequestDTO());
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CODEC_PROPERTY);
+    }
+
+    @Test
+    public void canRoundTripPollStatus() {
+        final PollStatus pollStatus = PollStatus.available(12.5);
+        pollStatus.setTimestamp(new Date(1500000000000L));
+        pollStatus.setProperty("ping1", 55);
+        pollStatus.setProperty("ping2", 61.25d);
+        pollStatus.setDeviceConfig(new DeviceConfig(new byte[] { 1, 2, 3 }, "running-config", "done"));
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        final String marshaled = module.marshalResponse(request, new PollerResponseDTO(pollStatus));
+        assertTrue(marshaled, marshaled.startsWith("!ON1:"));
+
+        final PollStatus actual = module.unmarshalResponse(marshaled).getPollStatus();
+        assertEquals(PollStatus.SERVICE_AVAILABLE, actual.getStatusCode());
+        assertNull(actual.getReason());
+        assertEquals(pollStatus.getTimestamp(), actual.getTimestamp());
+        assertEquals(12.5d, actual.getResponseTime(), 0d);
+        // The properties must be retained in order, see PollerResponseDTOTest
+        assertEquals(new ArrayList<>(pollStatus.getProperties().keySet()), new ArrayList<>(actual.getProperties().keySet()));
+        assertEquals(55d, actual.getProperty("ping1").doubleValue(), 0d);
+        assertEquals(61.25d, actual.getProperty("ping2").doubleValue(), 0d);
+        assertArrayEquals(new byte[] { 1, 2, 3 }, actual.getDeviceConfig().getContent());
+        assertEquals("running-config", actual.getDeviceConfig().getFilename());
+        assertEquals("done", actual.getDeviceConfig().getScriptOutput());
+    }
+
+    @Test
+    public void canRoundTripUnavailableAndError() {
+        final PollStatus pollStatus = PollStatus.unavailable("connection refused");
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        final PollStatus actual = module.unmarshalResponse(module.marshalResponse(request, new PollerResponseDTO(pollStatus))).getPollStatus();
+        assertEquals(PollStatus.SERVICE_UNAVAILABLE, actual.getStatusCode());
+        assertEquals("connection refused", actual.getReason());
+        assertTrue(actual.getProperties().isEmpty());
+        assertNull(actual.getDeviceConfig());
+
+        final PollerResponseDTO error = new PollerResponseDTO(new IllegalStateException("no monitor"));
+        assertEquals(error, module.unmarshalResponse(module.marshalResponse(request, error)));
+    }
+
+    @Test
+    public void acceptsXml() throws Exception {
+        final PollerResponseDTO response = PollerResponseDTOTest.getPollerResponse();
+        final String xml = module.marshalResponse(response);
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        final PollerResponseDTO actual = module.unmarshalResponse(xml);
+        assertEquals(Arrays.asList("ping1", "ping2", "ping3", "median"), new ArrayList<>(actual.getPollStatus().getProperties().keySet()));
+    }
+}
@@ -21,13 +21,24 @@
  */
 package org.opennms.netmgt.telemetry.listeners;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -39,6 +50,7 @@ import org.opennms.netmgt.telemetry.listeners.utils.NettyEventListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codahale.metrics.CachedGauge;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -53,6 +65,10 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.FixedRecvByteBufAllocator;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.DatagramPacket;
@@ -68,24 +84,33 @@ public class UdpListener implements GracefulShutdownListener {
             .maxRate(5).every(Duration.ofSeconds(30))
             .build();
 
+    private static final Path[] PROC_NET_UDP = { Paths.get("/proc/net/udp"), Paths.get("/proc/net/udp6") };
+
+    /**
+     * The kernel drops are read from /proc at most this often, as the files list all UDP sockets of the host.
+     */
+    private static final long KERNEL_DROPS_CACHE_SECONDS = 10;
+
     private final String name;
     private final List<UdpParser> parsers;
 
+    private final MetricRegistry metrics;
     private final Meter packetsReceived;
 
     private EventLoopGroup bossGroup;
-    private ChannelFuture socketFuture;
+    private final List<ChannelFuture> socketFutures = new ArrayList<>();
 
     private String host = null;
     private int port = 50000;
     private int maxPacketSize = 8096;
+    private int sockets = 1;
 
     private Future<String> stopFuture;
 
     public UdpListener(final String name, final List<UdpParser> parsers, final MetricRegistry metrics) {
         this.name = Objects.requireNonNull(name);
         this.parsers = Objects.requireNonNull(parsers);
-        Objects.requireNonNull(metrics);
+        this.metrics = Objects.requireNonNull(metrics);
 
         if (this.parsers.isEmpty()) {
             throw new IllegalArgumentException("At least 1 parsers must be defined");
@@ -100,10 +125,30 @@ public class UdpListener implements GracefulShutdownListener {
     }
 
     public void start() throws InterruptedException {
-        // Netty defaults to 2 * num cores when the number of threads is set to 0
-        this.bossGroup = new NioEventLoopGroup(0, new ThreadFactoryBuilder()
-                .setNameFormat("telemetryd-nio-" + name + "-%d")
-                .build() );
+        final boolean reusePort = this.sockets > 1 && isNativeTransportAvailable();
+        if (this.sockets > 1 && !reusePort) {
+            LOG.warn("Native transport is not available. Listener {} will bind a single socket instead of {}.", name, this.sockets);
+        }
+
+        final Bootstrap bootstrap = new Bootstrap()
+                .option(ChannelOption.SO_REUSEADDR, true)
+                .option(ChannelOption.SO_RCVBUF, Integer.MAX_VALUE)
+                .option(ChannelOption.RCVBUF_ALLOCATOR, new FixedRecvByteBufAllocator(this.maxPacketSize));
+
+        if (reusePort) {
+            // One event loop per socket, the kernel distributes the datagrams over the sockets
+            this.bossGroup = NativeTransport.newEventLoopGroup(this.sockets, new ThreadFactoryBuilder()
+                    .setNameFormat("telemetryd-epoll-" + name + "-%d")
+                    .build());
+            NativeTransport.configure(bootstrap);
+        } else {
+            // Netty defaults to 2 * num cores when the number of threads is set to 0
+            this.bossGroup = new NioEventLoopGroup(0, new ThreadFactoryBuilder()
+                    .setNameFormat("telemetryd-nio-" + name + "-%d")
+                    .build() );
+            bootstrap.channel(NioDatagramChannel.class);
+        }
+        bootstrap.group(this.bossGroup);
 
         this.parsers.forEach(parser -> parser.start(this.bossGroup));
 
@@ -111,15 +156,29 @@ public class UdpListener implements GracefulShutdownListener {
                 ? SocketUtils.socketAddress(this.host, this.port)
                 : new InetSocketAddress(this.port);
 
-        this.socketFuture = new Bootstrap()
-                .group(this.bossGroup)
-                .channel(NioDatagramChannel.class)
-                .option(ChannelOption.SO_REUSEADDR, true)
-                .option(ChannelOption.SO_RCVBUF, Integer.MAX_VALUE)
-                .option(ChannelOption.RCVBUF_ALLOCATOR, new FixedRecvByteBufAllocator(this.maxPacketSize))
-                .handler(new DefaultChannelInitializer())
-                .bind(address)
-                .sync();
+        for (int i = 0; i < (reusePort ? this.sockets : 1); i++) {
+            this.socketFutures.add(bootstrap.clone()
+                    .handler(new DefaultChannelInitializer(new SocketMetrics(i)))
+                    .bind(address)
+                    .sync());
+        }
+
+        final InetSocketAddress localAddress = (InetSocketAddress) this.socketFutures.get(0).channel().localAddress();
+        this.metrics.register(MetricRegistry.name("listeners", name, "kernelDrops"), new CachedGauge<Long>(KERNEL_DROPS_CACHE_SECONDS, TimeUnit.SECONDS) {
+            @Override
+            protected Long loadValue() {
+                return readKernelDrops(localAddress);
+            }
+        });
+    }
+
+    private static boolean isNativeTransportAvailable() {
+        try {
+            return NativeTransport.isAvailable();
+        } catch (LinkageError e) {
+            LOG.debug("Failed to load the native transport.", e);
+            return false;
+        }
     }
 
     public void stop() throws InterruptedException {
@@ -131,13 +190,15 @@ public class UdpListener implements GracefulShutdownListener {
             this.bossGroup.shutdownGracefully().addListener(bossListener);
         }
 
-        if (this.socketFuture != null) {
+        for (final ChannelFuture socketFuture : this.socketFutures) {
             LOG.info("Closing channel...");
-            this.socketFuture.channel().close().sync();
-            if (this.socketFuture.channel().parent() != null) {
-                this.socketFuture.channel().parent().close().sync();
+            socketFuture.channel().close().sync();
+            if (socketFuture.channel().parent() != null) {
+                socketFuture.channel().parent().close().sync();
             }
         }
+        this.socketFutures.clear();
+        this.metrics.remove(MetricRegistry.name("listeners", name, "kernelDrops"));
 
         this.parsers.forEach(Parser::stop);
 
@@ -193,6 +254,21 @@ public class UdpListener implements GracefulShutdownListener {
         this.maxPacketSize = maxPacketSize;
     }
 
+    public int getSockets() {
+        return sockets;
+    }
+
+    /**
+     * Binds the given number of sockets to the same port using {@code SO_REUSEPORT}, each read by its own thread.
+     * Requires the native epoll transport, a single socket is used if it is not available.
+     */
+    public void setSockets(int sockets) {
+        if (sockets < 1) {
+            throw new IllegalArgumentException("At least 1 socket must be used");
+        }
+        this.sockets = sockets;
+    }
+
     @Override
     public String getName() {
         return name;
@@ -214,12 +290,128 @@ public class UdpListener implements GracefulShutdownListener {
     }
 
 
+    /**
+     * Sums up the datagrams dropped by the kernel for all sockets bound to the given local address, i.e. because the
+     * receive buffer was full. Only supported on Linux, returns 0 otherwise.
+     */
+    private static long readKernelDrops(final InetSocketAddress localAddress) {
+        long drops = 0;
+        for (final Path path : PROC_NET_UDP) {
+            if (!Files.isReadable(path)) {
+                continue;
+            }
+            try (BufferedReader reader = Files.newBufferedReader(path)) {
+                drops += sumKernelDrops(reader, localAddress);
+            } catch (IOException | RuntimeException e) {
+                LOG.debug("Failed to read {}.", path, e);
+            }
+        }
+        return drops;
+    }
+
+    static long sumKernelDrops(final BufferedReader reader, final InetSocketAddress localAddress) throws IOException {
+        final byte[] address = normalize(localAddress.getAddress());
+        long drops = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            // sl local_address rem_address st tx_queue:rx_queue tr:tm->when retrnsmt uid timeout inode ref pointer drops
+            final String[] columns = line.trim().split("\\s+");
+            if (columns.length < 13 || !columns[1].matches("[0-9A-Fa-f]+:[0-9A-Fa-f]+")) {
+                continue;
+            }
+            final int separator = columns[1].indexOf(':');
+            if (Integer.parseInt(columns[1].substring(separator + 1), 16) != localAddress.getPort()
+                    || !Arrays.equals(address, normalize(parseProcAddress(columns[1].substring(0, separator))))) {
+                continue;
+            }
+            drops += Long.parseLong(columns[12]);
+        }
+        return drops;
+    }
+
+    /**
+     * Parses an address as listed in /proc/net/udp and /proc/net/udp6, which consists of 32-bit words in host byte
+     * order.
+     */
+    private static byte[] parseProcAddress(final String hex) {
+        final ByteBuffer address = ByteBuffer.allocate(hex.length() / 2).order(ByteOrder.nativeOrder());
+        for (int i = 0; i + 8 <= hex.length(); i += 8) {
+            address.putInt((int) Long.parseLong(hex.substring(i, i + 8), 16));
+        }
+        return address.array();
+    }
+
+    /**
+     * Maps IPv4-mapped IPv6 addresses to IPv4 and the IPv6 wildcard address to the IPv4 one, as a dual-stack socket
+     * bound to the wildcard address is listed in /proc/net/udp6.
+     */
+    private static byte[] normalize(final InetAddress address) {
+        return address.isAnyLocalAddress() ? new byte[4] : normalize(address.getAddress());
+    }
+
+    private static byte[] normalize(final byte[] address) {
+        if (address.length == 16) {
+            boolean wildcard = true;
+            boolean mapped = true;
+            for (int i = 0; i < 16; i++) {
+                wildcard &= address[i] == 0;
+                if (i < 10) {
+                    mapped &= address[i] == 0;
+                } else if (i < 12) {
+                    mapped &= address[i] == (byte) 0xff;
+                }
+            }
+            if (wildcard) {
+                return new byte[4];
+            }
+            if (mapped) {
+                return Arrays.copyOfRange(address, 12, 16);
+            }
+        }
+        return address;
+    }
+
+    /**
+     * Keeps the classes of the native transport from being loaded unless they are used.
+     */
+    private static final class NativeTransport {
+        private static boolean isAvailable() {
+            return Epoll.isAvailable();
+        }
+
+        private static EventLoopGroup newEventLoopGroup(final int threads, final ThreadFactory threadFactory) {
+            return new EpollEventLoopGroup(threads, threadFactory);
+        }
+
+        private static void configure(final Bootstrap bootstrap) {
+            bootstrap.channel(EpollDatagramChannel.class)
+                    .option(EpollChannelOption.SO_REUSEPORT, true);
+        }
+    }
+
+    private class SocketMetrics {
+        private final Meter packetsReceived;
+        private final Meter packetsDropped;
+
+        private SocketMetrics(final int socket) {
+            final String prefix = MetricRegistry.name("listeners", name, "sockets", Integer.toString(socket));
+            this.packetsReceived = metrics.meter(MetricRegistry.name(prefix, "packetsReceived"));
+            this.packetsDropped = metrics.meter(MetricRegistry.name(prefix, "packetsDropped"));
+        }
+    }
+
     private class DefaultChannelInitializer extends ChannelInitializer<DatagramChannel> {
 
+        private final SocketMetrics socketMetrics;
+
+        private DefaultChannelInitializer(final SocketMetrics socketMetrics) {
+            this.socketMetrics = socketMetrics;
+        }
+
         @Override
         protected void initChannel(DatagramChannel ch) {
             // Accounting
-            ch.pipeline().addFirst(new AccountingHandler());
+            ch.pipeline().addFirst(new AccountingHandler(socketMetrics));
 
             if (parsers.size() == 1) {
                 final UdpParser parser = parsers.get(0);
@@ -236,6 +428,7 @@ public class UdpListener implements GracefulShutdownListener {
                                 return;
                             }
                         }
+                        socketMetrics.packetsDropped.mark();
                         LOG.warn("Unhandled packet from {}", msg.sender());
                     }
                 });
@@ -245,6 +438,7 @@ public class UdpListener implements GracefulShutdownListener {
             ch.pipeline().addLast(new ChannelInboundHandlerAdapter() {
                 @Override
                 public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) throws Exception {
+                    socketMetrics.packetsDropped.mark();
                     LOG.warn("Invalid packet: {}", cause.getMessage());
                     RATE_LIMITED_LOG.debug("", cause);
                 }
@@ -253,9 +447,16 @@ public class UdpListener implements GracefulShutdownListener {
     }
 
     private class AccountingHandler extends ChannelInboundHandlerAdapter {
+        private final SocketMetrics socketMetrics;
+
+        private AccountingHandler(final SocketMetrics socketMetrics) {
+            this.socketMetrics = socketMetrics;
+        }
+
         @Override
         public  void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
             packetsReceived.mark();
+            socketMetrics.packetsReceived.mark();
             super.channelRead(ctx, msg);
         }
     }
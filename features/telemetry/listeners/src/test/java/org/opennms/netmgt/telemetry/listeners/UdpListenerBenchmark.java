@@ -0,0 +1,146 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.listeners;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Load generator for the {@link UdpListener}.
+ * <p>
+ * Floods a listener with datagrams from a number of senders, each using its own source port, and reports how many
+ * of them were sent, received per socket and dropped by the kernel. Compare a single socket with multiple sockets:
+ * <pre>
+ *   java ... UdpListenerBenchmark [sockets=1] [senders=4] [seconds=10] [packetSize=1400]
+ * </pre>
+ */
+public class UdpListenerBenchmark {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UdpListenerBenchmark.class);
+
+    public static void main(final String... args) throws Exception {
+        final int sockets = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        final int senders = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        final int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        final int packetSize = args.length > 3 ? Integer.parseInt(args[3]) : 1400;
+        final int port = 51234;
+
+        final MetricRegistry metrics = new MetricRegistry();
+        final CountingParser parser = new CountingParser();
+        final UdpListener listener = new UdpListener("benchmark", Collections.singletonList(parser), metrics);
+        listener.setHost("127.0.0.1");
+        listener.setPort(port);
+        listener.setSockets(sockets);
+        listener.start();
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final LongAdder sent = new LongAdder();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < senders; i++) {
+            final Thread thread = new Thread(() -> {
+                final ByteBuffer payload = ByteBuffer.allocateDirect(packetSize);
+                final InetSocketAddress target = new InetSocketAddress("127.0.0.1", port);
+                try (DatagramChannel channel = DatagramChannel.open()) {
+                    channel.connect(target);
+                    while (running.get()) {
+                        payload.clear();
+                        channel.write(payload);
+                        sent.increment();
+                    }
+                } catch (Exception e) {
+                    LOG.error("Sender failed.", e);
+                }
+            }, "sender-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+
+        TimeUnit.SECONDS.sleep(seconds);
+        running.set(false);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        // let the listener drain the receive buffers
+        TimeUnit.SECONDS.sleep(1);
+
+        LOG.info("sockets={} senders={} seconds={} packetSize={}", sockets, senders, seconds, packetSize);
+        LOG.info("sent: {} ({} pps)", sent.sum(), sent.sum() / seconds);
+        LOG.info("parsed: {} ({} pps)", parser.parsed.sum(), parser.parsed.sum() / seconds);
+        for (final Map.Entry<String, Meter> meter : metrics.getMeters().entrySet()) {
+            LOG.info("{}: {}", meter.getKey(), meter.getValue().getCount());
+        }
+        LOG.info("kernelDrops: {}", metrics.getGauges().get("listeners.benchmark.kernelDrops").getValue());
+
+        listener.stop();
+    }
+
+    private static class CountingParser implements UdpParser {
+        private final LongAdder parsed = new LongAdder();
+
+        @Override
+        public CompletableFuture<?> parse(final ByteBuf buffer, final InetSocketAddress remoteAddress, final InetSocketAddress localAddress) {
+            parsed.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public String getName() {
+            return "counting";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Counts the received packets";
+        }
+
+        @Override
+        public Object dumpInternalState() {
+            return null;
+        }
+
+        @Override
+        public void start(final ScheduledExecutorService executorService) {
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.listeners;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assume.assumeThat;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.net.InetSocketAddress;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+public class UdpListenerTest {
+
+    private static final String PROC_NET_UDP = String.join("\n",
+            "   sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode ref pointer drops",
+            "    1: 0100007F:C350 00000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 1001 2 0000000000000000 7",
+            "    2: 00000000:C350 00000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 1002 2 0000000000000000 11",
+            "    3: 0100007F:C351 00000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 1003 2 0000000000000000 100");
+
+    private static final String PROC_NET_UDP6 = String.join("\n",
+            "  sl  local_address                         remote_address                        st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode ref pointer drops",
+            "    4: 00000000000000000000000000000000:C350 00000000000000000000000000000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 1004 2 0000000000000000 13",
+            "    5: 0000000000000000FFFF00000100007F:C350 00000000000000000000000000000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 1005 2 0000000000000000 19");
+
+    private static long kernelDrops(final InetSocketAddress localAddress) throws Exception {
+        return UdpListener.sumKernelDrops(new BufferedReader(new StringReader(PROC_NET_UDP)), localAddress)
+                + UdpListener.sumKernelDrops(new BufferedReader(new StringReader(PROC_NET_UDP6)), localAddress);
+    }
+
+    @Test
+    public void canMatchKernelDropsByLocalAddress() throws Exception {
+        // The sample files were taken from a little endian host
+        assumeThat(ByteOrder.nativeOrder(), equalTo(ByteOrder.LITTLE_ENDIAN));
+
+        assertThat(kernelDrops(new InetSocketAddress("127.0.0.1", 50000)), equalTo(7L + 19L));
+        assertThat(kernelDrops(new InetSocketAddress(50000)), equalTo(11L + 13L));
+        assertThat(kernelDrops(new InetSocketAddress("::", 50000)), equalTo(11L + 13L));
+        assertThat(kernelDrops(new InetSocketAddress("127.0.0.1", 50001)), equalTo(100L));
+        assertThat(kernelDrops(new InetSocketAddress("10.0.0.1", 50000)), equalTo(0L));
+    }
+}
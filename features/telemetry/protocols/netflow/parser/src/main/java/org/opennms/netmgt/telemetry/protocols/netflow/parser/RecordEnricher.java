@@ -46,6 +46,7 @@ import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.SignedVal
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.StringValue;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.UndeclaredValue;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.UnsignedValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.FlowRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,11 +70,24 @@ public class RecordEnricher {
             emptyFuture.complete(emptyEnrichment);
             return emptyFuture;
         }
-        final IpAddressCapturingVisitor ipAddressCapturingVisitor = new IpAddressCapturingVisitor();
-        for (final Value<?> value : record) {
-            value.visit(ipAddressCapturingVisitor);
+        final Set<InetAddress> addressesToReverseLookup;
+        if (record instanceof FlowRecord) {
+            // Avoid materializing the values of decoded records
+            addressesToReverseLookup = new HashSet<>();
+            final FlowRecord.Cursor cursor = ((FlowRecord) record).cursor();
+            while (cursor.next()) {
+                final InetAddress address = cursor.getAddress();
+                if (address != null) {
+                    addressesToReverseLookup.add(address);
+                }
+            }
+        } else {
+            final IpAddressCapturingVisitor ipAddressCapturingVisitor = new IpAddressCapturingVisitor();
+            for (final Value<?> value : record) {
+                value.visit(ipAddressCapturingVisitor);
+            }
+            addressesToReverseLookup = ipAddressCapturingVisitor.getAddresses();
         }
-        final Set<InetAddress> addressesToReverseLookup = ipAddressCapturingVisitor.getAddresses();
         final Map<InetAddress, String> hostnamesByAddress = new HashMap<>(addressesToReverseLookup.size());
         final CompletableFuture reverseLookupFutures[] = addressesToReverseLookup.stream()
                 .map(addr -> {
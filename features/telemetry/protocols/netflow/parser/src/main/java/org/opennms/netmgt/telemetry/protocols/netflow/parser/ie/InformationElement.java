@@ -21,6 +21,8 @@
  */
 package org.opennms.netmgt.telemetry.protocols.netflow.parser.ie;
 
+import java.util.Optional;
+
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.InvalidPacketException;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.MissingTemplateException;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Session;
@@ -29,6 +31,18 @@ import io.netty.buffer.ByteBuf;
 
 public interface InformationElement {
 
+    /**
+     * Fixed size representations which can be decoded into primitive slots of a {@link FlowRecord} instead of a
+     * {@link Value}.
+     */
+    enum Primitive {
+        UNSIGNED,
+        IPV4_ADDRESS,
+        IPV6_ADDRESS,
+        DATE_TIME_SECONDS,
+        DATE_TIME_MILLISECONDS,
+    }
+
     Value<?> parse(final Session.Resolver resolver,
                    final ByteBuf buffer) throws InvalidPacketException, MissingTemplateException;
 
@@ -37,4 +51,13 @@ public interface InformationElement {
     int getMinimumFieldLength();
 
     int getMaximumFieldLength();
+
+    /**
+     * Returns the primitive representation of this element, if any.
+     *
+     * Elements without a primitive representation are always decoded by calling {@link #parse}.
+     */
+    default Optional<Primitive> getPrimitive() {
+        return Optional.empty();
+    }
 }
@@ -86,6 +86,11 @@ public class DateTimeValue extends Value<Instant> {
             public int getMaximumFieldLength() {
                 return 4;
             }
+
+            @Override
+            public Optional<Primitive> getPrimitive() {
+                return Optional.of(Primitive.DATE_TIME_SECONDS);
+            }
         };
     }
 
@@ -110,6 +115,11 @@ public class DateTimeValue extends Value<Instant> {
             public int getMaximumFieldLength() {
                 return 8;
             }
+
+            @Override
+            public Optional<Primitive> getPrimitive() {
+                return Optional.of(Primitive.DATE_TIME_MILLISECONDS);
+            }
         };
     }
 
@@ -85,6 +85,11 @@ public class IPv4AddressValue extends Value<Inet4Address> {
             public int getMaximumFieldLength() {
                 return 4;
             }
+
+            @Override
+            public Optional<Primitive> getPrimitive() {
+                return Optional.of(Primitive.IPV4_ADDRESS);
+            }
         };
     }
 
@@ -80,6 +80,11 @@ public class UnsignedValue extends Value<UnsignedLong> {
             public int getMaximumFieldLength() {
                 return 1;
             }
+
+            @Override
+            public Optional<Primitive> getPrimitive() {
+                return Optional.of(Primitive.UNSIGNED);
+            }
         };
     }
 
@@ -104,6 +109,11 @@ public class UnsignedValue extends Value<UnsignedLong> {
             public int getMaximumFieldLength() {
                 return 2;
             }
+
+            @Override
+            public Optional<Primitive> getPrimitive() {
+                return Optional.of(Primitive.UNSIGNED);
+            }
         };
     }
 
@@ -128,6 +138,11 @@ public class UnsignedValue extends Value<UnsignedLong> {
             public int getMaximumFieldLength() {
                 return 3;
             }
+
+            @Override
+            public Optional<Primitive> getPrimitive() {
+                return Optional.of(Primitive.UNSIGNED);
+            }
         };
     }
 
@@ -152,6 +167,11 @@ public class UnsignedValue extends Value<UnsignedLong> {
             public int getMaximumFieldLength() {
                 return 4;
             }
+
+            @Override
+            public Optional<Primitive> getPrimitive() {
+                return Optional.of(Primitive.UNSIGNED);
+            }
         };
     }
 
@@ -176,6 +196,11 @@ public class UnsignedValue extends Value<UnsignedLong> {
             public int getMaximumFieldLength() {
                 return 8;
             }
+
+            @Override
+            public Optional<Primitive> getPrimitive() {
+                return Optional.of(Primitive.UNSIGNED);
+            }
         };
     }
 
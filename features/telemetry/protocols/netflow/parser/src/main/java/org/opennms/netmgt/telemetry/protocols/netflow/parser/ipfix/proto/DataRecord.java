@@ -34,10 +34,12 @@ import org.opennms.netmgt.telemetry.protocols.netflow.parser.InvalidPacketExcept
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.MissingTemplateException;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Field;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.FlowRecord;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Session;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Template;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
 
 import io.netty.buffer.ByteBuf;
 
@@ -84,6 +86,8 @@ public final class DataRecord implements Record {
     public final List<Value<?>> fields;
     public final List<Value<?>> options;
 
+    public final FlowRecord record;
+
     public DataRecord(final DataSet set,
                       final Session.Resolver resolver,
                       final Template template,
@@ -97,13 +101,14 @@ public final class DataRecord implements Record {
             scopes.add(parseField(scope, resolver, buffer));
         }
 
-        final List<Value<?>> fields = new ArrayList<>(this.template.fields.size());
-        for (final Field field : this.template.fields) {
-            fields.add(parseField(field, resolver, buffer));
-        }
+        this.record = this.template.decoder.decode(resolver, buffer, DataRecord::parseField);
 
         this.scopes = Collections.unmodifiableList(scopes);
-        this.fields = Collections.unmodifiableList(fields);
+
+        // Options are kept by the session and must not be re-materialized on every lookup
+        this.fields = this.template.type == Template.Type.OPTIONS_TEMPLATE
+                ? ImmutableList.copyOf(this.record.getFields())
+                : this.record.getFields();
 
         // Expand the data record by appending values from
         // TODO fooker: extend fields with packet metadata
@@ -111,7 +116,7 @@ public final class DataRecord implements Record {
         //   observationDomainId, exportingProcessId, meteringProcessId,
         //   templateId, lineCardId, exporterIPv4Address, exporterIPv6Address,
         //   and ingressInterface Information Elements.
-        this.options = resolver.lookupOptions(this.fields);
+        this.options = resolver.lookupOptions(this.record);
     }
 
     @Override
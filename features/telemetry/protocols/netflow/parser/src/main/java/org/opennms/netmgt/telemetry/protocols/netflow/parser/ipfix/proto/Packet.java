@@ -42,7 +42,6 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 
 import io.netty.buffer.ByteBuf;
@@ -186,17 +185,16 @@ public final class Packet implements Iterable<FlowSet<?>>, RecordProvider {
                 .mapToInt(s -> s.records.size())
                 .sum();
 
+        // The header values are the same for all records of the packet
+        final List<Value<?>> header = ImmutableList.of(
+                new UnsignedValue("@recordCount", recordCount),
+                new UnsignedValue("@sequenceNumber", this.header.sequenceNumber),
+                new UnsignedValue("@exportTime", this.header.exportTime),
+                new UnsignedValue("@observationDomainId", this.header.observationDomainId));
+
         return this.dataSets.stream()
                 .flatMap(s -> s.records.stream())
-                .map(r -> Iterables.concat(
-                        ImmutableList.of(
-                                new UnsignedValue("@recordCount", recordCount),
-                                new UnsignedValue("@sequenceNumber", this.header.sequenceNumber),
-                                new UnsignedValue("@exportTime", this.header.exportTime),
-                                new UnsignedValue("@observationDomainId", this.header.observationDomainId)),
-                        r.fields,
-                        r.options
-                ));
+                .<Iterable<Value<?>>>map(r -> r.record.with(header, r.options));
     }
 
     @Override
@@ -32,10 +32,12 @@ import org.opennms.netmgt.telemetry.protocols.netflow.parser.InvalidPacketExcept
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.MissingTemplateException;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Field;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.FlowRecord;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Session;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Template;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
 
 import io.netty.buffer.ByteBuf;
 
@@ -61,6 +63,8 @@ public final class DataRecord implements Record {
     public final List<Value<?>> fields;
     public final List<Value<?>> options;
 
+    public final FlowRecord record;
+
     public DataRecord(final DataSet set,
                       final Session.Resolver resolver,
                       final Template template,
@@ -74,16 +78,17 @@ public final class DataRecord implements Record {
             scopes.add(scope.parse(resolver, slice(buffer, scope.length())));
         }
 
-        final List<Value<?>> fields = new ArrayList<>(this.template.fields.size());
-        for (final Field field : template.fields) {
-            fields.add(field.parse(resolver, slice(buffer, field.length())));
-        }
+        this.record = template.decoder.decode(resolver, buffer, DataRecord::parseField);
 
         this.scopes = Collections.unmodifiableList(scopes);
-        this.fields = Collections.unmodifiableList(fields);
 
-        // Expand the data record by appending values from
-        this.options = resolver.lookupOptions(ScopeFieldSpecifier.buildScopeValues(this));
+        // Options are kept by the session and must not be re-materialized on every lookup
+        this.fields = this.template.type == Template.Type.OPTIONS_TEMPLATE
+                ? ImmutableList.copyOf(this.record.getFields())
+                : this.record.getFields();
+
+        // Expand the data record by appending values from the options of the set
+        this.options = set.options;
     }
 
     @Override
@@ -94,4 +99,10 @@ public final class DataRecord implements Record {
                 .add("options", this.options)
                 .toString();
     }
+
+    private static Value<?> parseField(final Field field,
+                                       final Session.Resolver resolver,
+                                       final ByteBuf buffer) throws InvalidPacketException, MissingTemplateException {
+        return field.parse(resolver, slice(buffer, field.length()));
+    }
 }
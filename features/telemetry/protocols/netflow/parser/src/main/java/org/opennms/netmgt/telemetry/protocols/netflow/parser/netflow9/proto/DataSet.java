@@ -29,6 +29,7 @@ import java.util.Objects;
 
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.InvalidPacketException;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.MissingTemplateException;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Template;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Session;
 
@@ -41,6 +42,8 @@ public final class DataSet extends FlowSet<DataRecord> {
 
     public final Template template;
 
+    public final List<Value<?>> options;
+
     public final List<DataRecord> records;
 
     public DataSet(final Packet packet,
@@ -52,6 +55,9 @@ public final class DataSet extends FlowSet<DataRecord> {
         this.resolver = Objects.requireNonNull(resolver);
         this.template = this.resolver.lookupTemplate(this.header.setId);
 
+        // The scope of all records in the set is the same, so the options are looked up once
+        this.options = this.resolver.lookupOptions(ScopeFieldSpecifier.buildScopeValues(this));
+
         final int minimumRecordLength = template.stream()
                 .mapToInt(f -> f.length()).sum();
 
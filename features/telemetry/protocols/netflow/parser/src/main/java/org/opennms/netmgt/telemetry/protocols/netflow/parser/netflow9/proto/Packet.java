@@ -42,7 +42,6 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 
 import io.netty.buffer.ByteBuf;
@@ -170,18 +169,17 @@ public final class Packet implements Iterable<FlowSet<?>>, RecordProvider {
                 .mapToInt(s -> s.records.size())
                 .sum();
 
+        // The header values are the same for all records of the packet
+        final List<Value<?>> header = ImmutableList.of(
+                new UnsignedValue("@recordCount", recordCount),
+                new UnsignedValue("@sequenceNumber", this.header.sequenceNumber),
+                new UnsignedValue("@sysUpTime", this.header.sysUpTime),
+                new UnsignedValue("@unixSecs", this.header.unixSecs),
+                new UnsignedValue("@sourceId", this.header.sourceId));
+
         return this.dataSets.stream()
                 .flatMap(s -> s.records.stream())
-                .map(r -> Iterables.concat(
-                        ImmutableList.of(
-                                new UnsignedValue("@recordCount", recordCount),
-                                new UnsignedValue("@sequenceNumber", this.header.sequenceNumber),
-                                new UnsignedValue("@sysUpTime", this.header.sysUpTime),
-                                new UnsignedValue("@unixSecs", this.header.unixSecs),
-                                new UnsignedValue("@sourceId", this.header.sourceId)),
-                        r.fields,
-                        r.options
-                ));
+                .<Iterable<Value<?>>>map(r -> r.record.with(header, r.options));
     }
 
     @Override
@@ -119,11 +119,11 @@ public final class ScopeFieldSpecifier implements Field, Scope {
         }
     }
 
-    public static List<Value<?>> buildScopeValues(final DataRecord record) {
+    public static List<Value<?>> buildScopeValues(final DataSet set) {
         final ImmutableList.Builder<Value<?>> values = ImmutableList.builder();
 
-        values.add(new UnsignedValue(ScopeFieldSpecifier.SCOPE_SYSTEM, record.set.packet.header.sourceId));
-        values.add(new UnsignedValue(ScopeFieldSpecifier.SCOPE_TEMPLATE, record.set.template.id));
+        values.add(new UnsignedValue(ScopeFieldSpecifier.SCOPE_SYSTEM, set.packet.header.sourceId));
+        values.add(new UnsignedValue(ScopeFieldSpecifier.SCOPE_TEMPLATE, set.template.id));
 
         return values.build();
     }
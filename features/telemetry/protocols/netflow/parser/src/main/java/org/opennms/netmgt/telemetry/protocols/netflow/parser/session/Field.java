@@ -21,8 +21,11 @@
  */
 package org.opennms.netmgt.telemetry.protocols.netflow.parser.session;
 
+import java.util.Optional;
+
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.InvalidPacketException;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.MissingTemplateException;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.InformationElement;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
 
 import io.netty.buffer.ByteBuf;
@@ -32,4 +35,11 @@ public interface Field {
 
     Value<?> parse(final Session.Resolver resolver,
                    final ByteBuf buffer) throws InvalidPacketException, MissingTemplateException;
+
+    /**
+     * Returns the information element describing this field, if it is backed by a single one.
+     */
+    default Optional<InformationElement> getInformationElement() {
+        return Optional.empty();
+    }
 }
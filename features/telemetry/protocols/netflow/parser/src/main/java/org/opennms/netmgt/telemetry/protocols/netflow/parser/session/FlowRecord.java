@@ -0,0 +1,407 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.protocols.netflow.parser.session;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.InvalidPacketException;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.MissingTemplateException;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.InformationElement;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.DateTimeValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.IPv4AddressValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.IPv6AddressValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.UnsignedValue;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
+import com.google.common.primitives.Longs;
+
+import io.netty.buffer.Unpooled;
+
+/**
+ * A data record decoded by a {@link RecordDecoder}.
+ *
+ * Primitive fields are kept in a {@code long[]} and only turned into {@link Value}s if the record is iterated. Consumers
+ * aware of this class should use {@link #cursor()} to access the fields without materializing them.
+ */
+public final class FlowRecord implements Iterable<Value<?>> {
+
+    /**
+     * Forward-only access to the values of a record.
+     *
+     * The cursor is positioned before the first value and must be advanced using {@link #next()} before accessing a
+     * value.
+     */
+    public interface Cursor {
+        boolean next();
+
+        String getName();
+
+        boolean isUnsigned();
+
+        /**
+         * Returns the value of an unsigned field. Only valid if {@link #isUnsigned()} is {@code true}.
+         */
+        long getUnsigned();
+
+        /**
+         * Returns the address of an IPv4 or IPv6 address field or {@code null} for all other fields.
+         */
+        InetAddress getAddress();
+
+        /**
+         * Returns the time of a date time field or {@code null} for all other fields.
+         */
+        Instant getTime();
+
+        Value<?> getValue();
+    }
+
+    private final RecordDecoder decoder;
+
+    private final long[] data;
+    private final Value<?>[] values;
+
+    private final List<Value<?>> header;
+    private final List<Value<?>> options;
+
+    FlowRecord(final RecordDecoder decoder,
+               final long[] data,
+               final Value<?>[] values,
+               final List<Value<?>> header,
+               final List<Value<?>> options) {
+        this.decoder = Objects.requireNonNull(decoder);
+        this.data = Objects.requireNonNull(data);
+        this.values = values;
+        this.header = Objects.requireNonNull(header);
+        this.options = Objects.requireNonNull(options);
+    }
+
+    /**
+     * Returns a record sharing the decoded fields of this one, surrounded by the given header and option values.
+     */
+    public FlowRecord with(final List<Value<?>> header, final List<Value<?>> options) {
+        return new FlowRecord(this.decoder, this.data, this.values, header, options);
+    }
+
+    private boolean isPrimitive(final int index) {
+        return this.decoder.primitives[index] != null && (this.values == null || this.values[index] == null);
+    }
+
+    private String getName(final int index) {
+        return this.isPrimitive(index) ? this.decoder.names[index] : this.values[index].getName();
+    }
+
+    private Value<?> getValue(final int index) {
+        if (!this.isPrimitive(index)) {
+            return this.values[index];
+        }
+
+        final int slot = this.decoder.slots[index];
+        final int length = this.decoder.lengths[index];
+
+        final byte[] bytes = new byte[length];
+        if (this.decoder.primitives[index] == InformationElement.Primitive.IPV6_ADDRESS) {
+            System.arraycopy(Longs.toByteArray(this.data[slot]), 0, bytes, 0, 8);
+            System.arraycopy(Longs.toByteArray(this.data[slot + 1]), 0, bytes, 8, 8);
+        } else {
+            System.arraycopy(Longs.toByteArray(this.data[slot]), 8 - length, bytes, 0, length);
+        }
+
+        try {
+            return this.decoder.elements[index].parse(null, Unpooled.wrappedBuffer(bytes));
+        } catch (final InvalidPacketException | MissingTemplateException e) {
+            throw new IllegalStateException("Primitive field failed to parse", e);
+        }
+    }
+
+    /**
+     * Returns the decoded fields of the record, materializing them on access.
+     */
+    public List<Value<?>> getFields() {
+        return new AbstractList<Value<?>>() {
+            @Override
+            public Value<?> get(final int index) {
+                return FlowRecord.this.getValue(index);
+            }
+
+            @Override
+            public int size() {
+                return FlowRecord.this.decoder.size();
+            }
+        };
+    }
+
+    public Set<String> getFieldNames() {
+        if (this.decoder.fieldNames != null) {
+            return this.decoder.fieldNames;
+        }
+
+        final Set<String> names = new HashSet<>();
+        for (int i = 0; i < this.decoder.size(); i++) {
+            names.add(this.getName(i));
+        }
+        return names;
+    }
+
+    /**
+     * Returns the decoded fields having one of the given names, materializing only these.
+     */
+    public Set<Value<?>> getFieldValues(final Set<String> names) {
+        final Set<Value<?>> values = new HashSet<>();
+        for (int i = 0; i < this.decoder.size(); i++) {
+            if (names.contains(this.getName(i))) {
+                values.add(this.getValue(i));
+            }
+        }
+        return values;
+    }
+
+    public List<Value<?>> getOptions() {
+        return this.options;
+    }
+
+    @Override
+    public Iterator<Value<?>> iterator() {
+        return Iterators.concat(this.header.iterator(),
+                this.getFields().iterator(),
+                this.options.iterator());
+    }
+
+    public Cursor cursor() {
+        return new RecordCursor();
+    }
+
+    /**
+     * Returns a cursor over the given values, which does not materialize the fields if the values are a
+     * {@link FlowRecord}.
+     */
+    public static Cursor cursor(final Iterable<Value<?>> values) {
+        if (values instanceof FlowRecord) {
+            return ((FlowRecord) values).cursor();
+        }
+        return new ValueCursor(values.iterator());
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("values", Iterables.toString(this))
+                .toString();
+    }
+
+    private static boolean isUnsigned(final Value<?> value) {
+        return value instanceof UnsignedValue;
+    }
+
+    private static long getUnsigned(final Value<?> value) {
+        return ((UnsignedValue) value).getValue().longValue();
+    }
+
+    private static InetAddress getAddress(final Value<?> value) {
+        if (value instanceof IPv4AddressValue) {
+            return ((IPv4AddressValue) value).getValue();
+        }
+        if (value instanceof IPv6AddressValue) {
+            return ((IPv6AddressValue) value).getValue();
+        }
+        return null;
+    }
+
+    private static Instant getTime(final Value<?> value) {
+        if (value instanceof DateTimeValue) {
+            return ((DateTimeValue) value).getValue();
+        }
+        return null;
+    }
+
+    private static final class ValueCursor implements Cursor {
+        private final Iterator<Value<?>> iterator;
+        private Value<?> value;
+
+        private ValueCursor(final Iterator<Value<?>> iterator) {
+            this.iterator = Objects.requireNonNull(iterator);
+        }
+
+        @Override
+        public boolean next() {
+            if (!this.iterator.hasNext()) {
+                this.value = null;
+                return false;
+            }
+
+            this.value = this.iterator.next();
+            return true;
+        }
+
+        @Override
+        public String getName() {
+            return this.value.getName();
+        }
+
+        @Override
+        public boolean isUnsigned() {
+            return FlowRecord.isUnsigned(this.value);
+        }
+
+        @Override
+        public long getUnsigned() {
+            return FlowRecord.getUnsigned(this.value);
+        }
+
+        @Override
+        public InetAddress getAddress() {
+            return FlowRecord.getAddress(this.value);
+        }
+
+        @Override
+        public Instant getTime() {
+            return FlowRecord.getTime(this.value);
+        }
+
+        @Override
+        public Value<?> getValue() {
+            return this.value;
+        }
+    }
+
+    private final class RecordCursor implements Cursor {
+        // Position in the concatenation of header, fields and options
+        private int position = -1;
+
+        // Field index or -1, if the cursor is positioned on a header or option value
+        private int field = -1;
+        private Value<?> value;
+
+        @Override
+        public boolean next() {
+            final int headers = FlowRecord.this.header.size();
+            final int fields = FlowRecord.this.decoder.size();
+
+            this.position++;
+            this.field = -1;
+            this.value = null;
+
+            if (this.position < headers) {
+                this.value = FlowRecord.this.header.get(this.position);
+                return true;
+            }
+
+            if (this.position < headers + fields) {
+                this.field = this.position - headers;
+                if (!FlowRecord.this.isPrimitive(this.field)) {
+                    this.value = FlowRecord.this.values[this.field];
+                }
+                return true;
+            }
+
+            if (this.position < headers + fields + FlowRecord.this.options.size()) {
+                this.value = FlowRecord.this.options.get(this.position - headers - fields);
+                return true;
+            }
+
+            this.position = headers + fields + FlowRecord.this.options.size();
+            return false;
+        }
+
+        private InformationElement.Primitive primitive() {
+            return this.value == null ? FlowRecord.this.decoder.primitives[this.field] : null;
+        }
+
+        private long slot(final int offset) {
+            return FlowRecord.this.data[FlowRecord.this.decoder.slots[this.field] + offset];
+        }
+
+        @Override
+        public String getName() {
+            return this.value != null ? this.value.getName() : FlowRecord.this.decoder.names[this.field];
+        }
+
+        @Override
+        public boolean isUnsigned() {
+            return this.value != null ? FlowRecord.isUnsigned(this.value) : this.primitive() == InformationElement.Primitive.UNSIGNED;
+        }
+
+        @Override
+        public long getUnsigned() {
+            return this.value != null ? FlowRecord.getUnsigned(this.value) : this.slot(0);
+        }
+
+        @Override
+        public InetAddress getAddress() {
+            if (this.value != null) {
+                return FlowRecord.getAddress(this.value);
+            }
+
+            try {
+                switch (this.primitive()) {
+                    case IPV4_ADDRESS:
+                        return InetAddress.getByAddress(new byte[]{
+                                (byte) (this.slot(0) >>> 24),
+                                (byte) (this.slot(0) >>> 16),
+                                (byte) (this.slot(0) >>> 8),
+                                (byte) this.slot(0)});
+                    case IPV6_ADDRESS:
+                        final byte[] bytes = new byte[16];
+                        System.arraycopy(Longs.toByteArray(this.slot(0)), 0, bytes, 0, 8);
+                        System.arraycopy(Longs.toByteArray(this.slot(1)), 0, bytes, 8, 8);
+                        return InetAddress.getByAddress(bytes);
+                    default:
+                        return null;
+                }
+            } catch (final UnknownHostException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public Instant getTime() {
+            if (this.value != null) {
+                return FlowRecord.getTime(this.value);
+            }
+
+            switch (this.primitive()) {
+                case DATE_TIME_SECONDS:
+                    return Instant.ofEpochSecond(this.slot(0));
+                case DATE_TIME_MILLISECONDS:
+                    return Instant.ofEpochMilli(this.slot(0));
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        public Value<?> getValue() {
+            return this.value != null ? this.value : FlowRecord.this.getValue(this.field);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.protocols.netflow.parser.session;
+
+import java.nio.BufferUnderflowException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.InvalidPacketException;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.MissingTemplateException;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.InformationElement;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
+
+import com.google.common.collect.ImmutableSet;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Decoding plan compiled once per {@link Template}.
+ *
+ * Fields backed by an information element with a primitive representation are read straight from the buffer into
+ * the slots of a {@link FlowRecord}. All other fields are handed to the protocol specific {@link FieldParser} and kept
+ * as {@link Value}s.
+ */
+public final class RecordDecoder {
+
+    @FunctionalInterface
+    public interface FieldParser {
+        Value<?> parse(final Field field,
+                       final Session.Resolver resolver,
+                       final ByteBuf buffer) throws InvalidPacketException, MissingTemplateException;
+    }
+
+    final Field[] fields;
+    final InformationElement[] elements;
+    final InformationElement.Primitive[] primitives;
+    final String[] names;
+    final int[] lengths;
+    final int[] slots;
+
+    final int slotCount;
+
+    // Names of all fields or null, if some of the names are only known after parsing
+    final Set<String> fieldNames;
+
+    RecordDecoder(final List<Field> fields) {
+        final int count = fields.size();
+
+        this.fields = fields.toArray(new Field[count]);
+        this.elements = new InformationElement[count];
+        this.primitives = new InformationElement.Primitive[count];
+        this.names = new String[count];
+        this.lengths = new int[count];
+        this.slots = new int[count];
+
+        int slot = 0;
+        boolean named = true;
+        for (int i = 0; i < count; i++) {
+            final Field field = this.fields[i];
+            final Optional<InformationElement> element = field.getInformationElement();
+
+            this.elements[i] = element.orElse(null);
+            this.names[i] = element.map(InformationElement::getName).orElse(null);
+            this.lengths[i] = field.length();
+            this.slots[i] = -1;
+
+            named &= this.names[i] != null;
+
+            final InformationElement.Primitive primitive = element.flatMap(InformationElement::getPrimitive).orElse(null);
+            if (primitive != null && isPrimitiveLength(primitive, this.lengths[i])) {
+                this.primitives[i] = primitive;
+                this.slots[i] = slot;
+                slot += primitive == InformationElement.Primitive.IPV6_ADDRESS ? 2 : 1;
+            }
+        }
+
+        this.slotCount = slot;
+        this.fieldNames = named ? ImmutableSet.copyOf(this.names) : null;
+    }
+
+    private static boolean isPrimitiveLength(final InformationElement.Primitive primitive, final int length) {
+        switch (primitive) {
+            case UNSIGNED:
+                return length >= 1 && length <= 8;
+            case IPV4_ADDRESS:
+            case DATE_TIME_SECONDS:
+                return length == 4;
+            case DATE_TIME_MILLISECONDS:
+                return length == 8;
+            case IPV6_ADDRESS:
+                return length == 16;
+            default:
+                return false;
+        }
+    }
+
+    public int size() {
+        return this.fields.length;
+    }
+
+    public FlowRecord decode(final Session.Resolver resolver,
+                             final ByteBuf buffer,
+                             final FieldParser parser) throws InvalidPacketException, MissingTemplateException {
+        final long[] data = new long[this.slotCount];
+        Value<?>[] values = null;
+
+        for (int i = 0; i < this.fields.length; i++) {
+            final InformationElement.Primitive primitive = this.primitives[i];
+            if (primitive == null) {
+                if (values == null) {
+                    values = new Value<?>[this.fields.length];
+                }
+                values[i] = parser.parse(this.fields[i], resolver, buffer);
+                continue;
+            }
+
+            final int length = this.lengths[i];
+            if (length > buffer.readableBytes()) {
+                throw new BufferUnderflowException();
+            }
+
+            final int index = buffer.readerIndex();
+            final int slot = this.slots[i];
+            switch (primitive) {
+                case UNSIGNED:
+                    data[slot] = unsigned(buffer, index, length);
+                    break;
+
+                case IPV4_ADDRESS:
+                case DATE_TIME_SECONDS:
+                    data[slot] = buffer.getUnsignedInt(index);
+                    break;
+
+                case DATE_TIME_MILLISECONDS:
+                    data[slot] = buffer.getLong(index);
+                    break;
+
+                case IPV6_ADDRESS:
+                    data[slot] = buffer.getLong(index);
+                    data[slot + 1] = buffer.getLong(index + 8);
+
+                    // IPv4-mapped addresses are not representable as IPv6 address values - let the element decide
+                    if (data[slot] == 0 && (data[slot + 1] >>> 32) == 0xFFFFL) {
+                        if (values == null) {
+                            values = new Value<?>[this.fields.length];
+                        }
+                        values[i] = parser.parse(this.fields[i], resolver, buffer);
+                        continue;
+                    }
+                    break;
+            }
+
+            buffer.readerIndex(index + length);
+        }
+
+        return new FlowRecord(this, data, values, Collections.emptyList(), Collections.emptyList());
+    }
+
+    private static long unsigned(final ByteBuf buffer, final int index, final int length) {
+        switch (length) {
+            case 1:
+                return buffer.getUnsignedByte(index);
+            case 2:
+                return buffer.getUnsignedShort(index);
+            case 3:
+                return buffer.getUnsignedMedium(index);
+            case 4:
+                return buffer.getUnsignedInt(index);
+            case 8:
+                return buffer.getLong(index);
+            default:
+                long result = 0;
+                for (int i = 0; i < length; i++) {
+                    result = (result << 8L) | buffer.getUnsignedByte(index + i);
+                }
+                return result;
+        }
+    }
+}
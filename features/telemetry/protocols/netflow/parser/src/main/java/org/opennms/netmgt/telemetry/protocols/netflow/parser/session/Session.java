@@ -33,6 +33,11 @@ public interface Session {
     interface Resolver {
         Template lookupTemplate(final int templateId) throws MissingTemplateException;
         List<Value<?>> lookupOptions(final List<Value<?>> values);
+
+        /**
+         * Looks up the options for a decoded record. Only the fields used as scope are materialized.
+         */
+        List<Value<?>> lookupOptions(final FlowRecord record);
     }
 
     void addTemplate(final long observationDomainId, final Template template);
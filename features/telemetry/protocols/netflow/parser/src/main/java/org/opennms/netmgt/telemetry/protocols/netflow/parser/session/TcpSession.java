@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -68,10 +69,22 @@ public class TcpSession implements Session {
 
         @Override
         public List<Value<?>> lookupOptions(final List<Value<?>> values) {
-            final LinkedHashMap<String, Value<?>> options = new LinkedHashMap<>();
-
             final Set<String> scoped = values.stream().map(Value::getName).collect(Collectors.toSet());
 
+            return this.lookupOptions(scoped, scopeNames -> values.stream()
+                    .filter(s -> scopeNames.contains(s.getName()))
+                    .collect(Collectors.toSet()));
+        }
+
+        @Override
+        public List<Value<?>> lookupOptions(final FlowRecord record) {
+            return this.lookupOptions(record.getFieldNames(), record::getFieldValues);
+        }
+
+        private List<Value<?>> lookupOptions(final Set<String> scoped,
+                                             final Function<Set<String>, Set<Value<?>>> scopeValuesByName) {
+            final LinkedHashMap<String, Value<?>> options = new LinkedHashMap<>();
+
             for (final Map.Entry<TemplateKey, Map<Set<Value<?>>, List<Value<?>>>> e : Iterables.filter(TcpSession.this.options.entrySet(),
                                                                                                e -> e.getKey().observationDomainId == this.observationDomainId)) {
                 final Template template = TcpSession.this.templates.get(e.getKey());
@@ -81,9 +94,7 @@ public class TcpSession implements Session {
                 if (scoped.containsAll(scopes)) {
                     // Found option template where scoped fields is subset of actual data fields
 
-                    final Set<Value<?>> scopeValues = values.stream()
-                            .filter(s -> scopes.contains(s.getName()))
-                            .collect(Collectors.toSet());
+                    final Set<Value<?>> scopeValues = scopeValuesByName.apply(scopes);
 
                     for (final Value<?> value : e.getValue().getOrDefault(scopeValues, Collections.emptyList())) {
                         options.put(value.getName(), value);
@@ -46,6 +46,8 @@ public final class Template implements Iterable<Field> {
     public final List<Field> fields;
     public final Set<String> scopeNames;
 
+    public final RecordDecoder decoder;
+
     private Template(final int id,
                      final Type type,
                      final List<Scope> scopes,
@@ -57,6 +59,8 @@ public final class Template implements Iterable<Field> {
         // The set of scope names are used when processing packets - so we build it here once
         // instead of having to re-compute this everytime
         this.scopeNames = scopes.stream().map(Scope::getName).collect(Collectors.toSet());
+        // Same for the plan used to decode the fields of data records
+        this.decoder = new RecordDecoder(fields);
     }
 
     public int count() {
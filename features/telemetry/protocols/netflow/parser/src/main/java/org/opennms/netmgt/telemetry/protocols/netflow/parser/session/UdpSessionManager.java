@@ -33,6 +33,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -282,10 +283,22 @@ public class UdpSessionManager {
 
             @Override
             public List<Value<?>> lookupOptions(final List<Value<?>> values) {
-                final LinkedHashMap<String, Value<?>> options = new LinkedHashMap<>();
-
                 final Set<String> scoped = values.stream().map(Value::getName).collect(Collectors.toSet());
 
+                return this.lookupOptions(scoped, scopeNames -> values.stream()
+                        .filter(s -> scopeNames.contains(s.getName()))
+                        .collect(Collectors.toSet()));
+            }
+
+            @Override
+            public List<Value<?>> lookupOptions(final FlowRecord record) {
+                return this.lookupOptions(record.getFieldNames(), record::getFieldValues);
+            }
+
+            private List<Value<?>> lookupOptions(final Set<String> scoped,
+                                                 final Function<Set<String>, Set<Value<?>>> scopeValuesByName) {
+                final LinkedHashMap<String, Value<?>> options = new LinkedHashMap<>();
+
                 for (final var e : Iterables.filter(UdpSessionManager.this.templates.entrySet(),
                         e -> Objects.equals(e.getKey().observationDomainId.sessionKey, UdpSession.this.sessionKey) &&
                                 Objects.equals(e.getKey().observationDomainId.observationDomainId, this.observationDomainId))) {
@@ -294,9 +307,7 @@ public class UdpSessionManager {
 
                     if (scoped.containsAll(template.scopeNames)) {
                         // Found option template where scoped fields is subset of actual data fields
-                        final Set<Value<?>> scopeValues = values.stream()
-                                .filter(s -> template.scopeNames.contains(s.getName()))
-                                .collect(Collectors.toSet());
+                        final Set<Value<?>> scopeValues = scopeValuesByName.apply(template.scopeNames);
 
                         final TimeWrapper<List<Value<?>>> optionValues = e.getValue().wrapped.options.get(scopeValues);
                         if (optionValues != null) {
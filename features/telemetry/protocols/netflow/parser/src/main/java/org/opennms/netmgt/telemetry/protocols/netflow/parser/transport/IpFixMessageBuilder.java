@@ -37,6 +37,7 @@ import java.util.Optional;
 
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.RecordEnrichment;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.FlowRecord;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.Direction;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.FlowMessage;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.NetflowVersion;
@@ -123,7 +124,8 @@ public class IpFixMessageBuilder implements MessageBuilder {
         UInt32Value outputSnmp = null;
 
 
-        for (Value<?> value : values) {
+        final FlowRecord.Cursor value = FlowRecord.cursor(values);
+        while (value.next()) {
             switch (value.getName()) {
                 case "@exportTime":
                     exportTime = getLongValue(value);
@@ -33,6 +33,7 @@ import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.DateTimeV
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.IPv4AddressValue;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.IPv6AddressValue;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.UnsignedValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.FlowRecord;
 
 import com.google.common.base.Strings;
 import com.google.common.primitives.UnsignedLong;
@@ -49,6 +50,13 @@ public interface MessageUtils {
         return null;
     }
 
+    static Long getLongValue(FlowRecord.Cursor value) {
+        if (value.isUnsigned()) {
+            return value.getUnsigned();
+        }
+        return null;
+    }
+
 
     static Boolean getBooleanValue(Value<?> value) {
         if (value instanceof BooleanValue) {
@@ -67,6 +75,10 @@ public interface MessageUtils {
         return null;
     }
 
+    static InetAddress getInetAddress(FlowRecord.Cursor value) {
+        return value.getAddress();
+    }
+
     static Instant getTime(Value<?> value) {
         if (value instanceof DateTimeValue) {
             return ((DateTimeValue) value).getValue();
@@ -74,6 +86,10 @@ public interface MessageUtils {
         return null;
     }
 
+    static Instant getTime(FlowRecord.Cursor value) {
+        return value.getTime();
+    }
+
     @SafeVarargs
     public static <V> Optional<V> first(final V... values) {
         return Stream.of(values)
@@ -90,6 +106,10 @@ public interface MessageUtils {
         return Optional.empty();
     }
 
+    static Optional<UInt64Value> getUInt64Value(FlowRecord.Cursor value) {
+        return getUInt64Value(getLongValue(value));
+    }
+
     static Optional<UInt64Value> getUInt64Value(Long value) {
         if (value != null) {
             return Optional.of(UInt64Value.newBuilder().setValue(value).build());
@@ -107,6 +127,15 @@ public interface MessageUtils {
     }
 
 
+    static Optional<UInt32Value> getUInt32Value(FlowRecord.Cursor value) {
+        Long longValue = getLongValue(value);
+        if (longValue != null) {
+            return Optional.of(UInt32Value.newBuilder().setValue(longValue.intValue()).build());
+        }
+        return Optional.empty();
+    }
+
+
     static Optional<DoubleValue> getDoubleValue(Value<?> value) {
         Long longValue = getLongValue(value);
         if (longValue != null) {
@@ -115,6 +144,14 @@ public interface MessageUtils {
         return Optional.empty();
     }
 
+    static Optional<DoubleValue> getDoubleValue(FlowRecord.Cursor value) {
+        Long longValue = getLongValue(value);
+        if (longValue != null) {
+            return Optional.of(DoubleValue.newBuilder().setValue(longValue.doubleValue()).build());
+        }
+        return Optional.empty();
+    }
+
     static Optional<String> getString(String value) {
         if (!Strings.isNullOrEmpty(value)) {
             return Optional.of(value);
@@ -35,6 +35,7 @@ import java.net.InetAddress;
 
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.RecordEnrichment;
 import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.FlowRecord;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.Direction;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.FlowMessage;
 import org.opennms.netmgt.telemetry.protocols.netflow.transport.NetflowVersion;
@@ -85,7 +86,8 @@ public class Netflow9MessageBuilder implements MessageBuilder {
 	    builder.setSamplingInterval(setDoubleValue(this.flowSamplingIntervalFallback));
 	}
 
-        for (final Value<?> value : values) {
+        final FlowRecord.Cursor value = FlowRecord.cursor(values);
+        while (value.next()) {
             switch (value.getName()) {
                 // Header
                 case "@recordCount":
@@ -293,7 +295,7 @@ public class Netflow9MessageBuilder implements MessageBuilder {
         return builder;
     }
 
-    private static Direction getDirection(final Value<?> value) {
+    private static Direction getDirection(final FlowRecord.Cursor value) {
         Long directionValue = getLongValue(value);
         Direction direction = Direction.UNKNOWN;
         if (directionValue != null) {
@@ -311,7 +313,7 @@ public class Netflow9MessageBuilder implements MessageBuilder {
         return direction;
     }
 
-    private static SamplingAlgorithm getSamplingAlgorithm(final Value<?> value) {
+    private static SamplingAlgorithm getSamplingAlgorithm(final FlowRecord.Cursor value) {
         Long saValue = getLongValue(value);
         SamplingAlgorithm samplingAlgorithm = SamplingAlgorithm.UNASSIGNED;
         if (saValue != null) {
@@ -0,0 +1,176 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.protocols.netflow.parser;
+
+import static org.opennms.netmgt.telemetry.listeners.utils.BufferUtils.slice;
+
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.RecordProvider;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.SequenceNumberTracker;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.Session;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.session.TcpSession;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.IpFixMessageBuilder;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageBuilder;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.Netflow9MessageBuilder;
+
+import com.google.common.collect.ImmutableList;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to measure decoding the captured NetFlow v9 and IPFIX packets used by
+ * the blackbox tests and building flow messages from the records.
+ * <p>
+ * The {@code decoded} mode reads the records using their cursor, while {@code materialized} creates a {@link Value} for
+ * every field first, like the parser did before records were decoded by a compiled template.
+ */
+public class RecordDecoderBenchmark {
+    private final static Path FOLDER = Paths.get("src/test/resources/flows");
+
+    public static void main(String[] args) throws Exception {
+        final Options opt = new OptionsBuilder()
+                .include(RecordDecoderBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+    private static class Capture {
+        private final Protocol protocol;
+        private final Session session;
+        private final byte[] packet;
+
+        private Capture(final Protocol protocol, final Session session, final byte[] packet) {
+            this.protocol = protocol;
+            this.session = session;
+            this.packet = packet;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({"decoded", "materialized"})
+        public String mode;
+
+        private final List<Capture> captures = new ArrayList<>();
+
+        private final MessageBuilder netflow9MessageBuilder = new Netflow9MessageBuilder();
+        private final MessageBuilder ipfixMessageBuilder = new IpFixMessageBuilder();
+
+        private final RecordEnrichment enrichment = address -> Optional.empty();
+
+        @Setup
+        public void setup() throws Exception {
+            this.load(Protocol.NETFLOW9, org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.BlackboxTest.data());
+            this.load(Protocol.IPFIX, org.opennms.netmgt.telemetry.protocols.netflow.parser.ipfix.BlackboxTest.data());
+        }
+
+        @SuppressWarnings("unchecked")
+        private void load(final Protocol protocol, final Iterable<Object[]> data) throws Exception {
+            for (final Object[] files : data) {
+                // Templates are learned by the session while parsing the captures in order
+                final Session session = new TcpSession(InetAddress.getLoopbackAddress(), () -> new SequenceNumberTracker(32));
+                for (final String file : (List<String>) files[0]) {
+                    final ByteBuf buffer = Unpooled.wrappedBuffer(Files.readAllBytes(FOLDER.resolve(file)));
+                    while (buffer.isReadable()) {
+                        final int start = buffer.readerIndex();
+                        final RecordProvider packet = parse(protocol, session, buffer);
+
+                        // Only packets containing data records but no templates are part of the benchmark
+                        if (packet.getRecords().findAny().isPresent() && !hasTemplates(packet)) {
+                            final byte[] bytes = new byte[buffer.readerIndex() - start];
+                            buffer.getBytes(start, bytes);
+                            this.captures.add(new Capture(protocol, session, bytes));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean hasTemplates(final RecordProvider packet) {
+        if (packet instanceof org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Packet) {
+            final org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Packet netflow9 = (org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Packet) packet;
+            return !netflow9.templateSets.isEmpty() || !netflow9.optionTemplateSets.isEmpty();
+        }
+        final org.opennms.netmgt.telemetry.protocols.netflow.parser.ipfix.proto.Packet ipfix = (org.opennms.netmgt.telemetry.protocols.netflow.parser.ipfix.proto.Packet) packet;
+        return !ipfix.templateSets.isEmpty() || !ipfix.optionTemplateSets.isEmpty();
+    }
+
+    private static RecordProvider parse(final Protocol protocol, final Session session, final ByteBuf buffer) throws Exception {
+        switch (protocol) {
+            case NETFLOW9: {
+                final org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Header header =
+                        new org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Header(slice(buffer, org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Header.SIZE));
+                return new org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Packet(session, header, buffer);
+            }
+            case IPFIX: {
+                final org.opennms.netmgt.telemetry.protocols.netflow.parser.ipfix.proto.Header header =
+                        new org.opennms.netmgt.telemetry.protocols.netflow.parser.ipfix.proto.Header(slice(buffer, org.opennms.netmgt.telemetry.protocols.netflow.parser.ipfix.proto.Header.SIZE));
+                return new org.opennms.netmgt.telemetry.protocols.netflow.parser.ipfix.proto.Packet(session, header, slice(buffer, header.length - org.opennms.netmgt.telemetry.protocols.netflow.parser.ipfix.proto.Header.SIZE));
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported protocol: " + protocol);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public void decodeAndBuild(final BState state, final Blackhole blackhole) throws Exception {
+        final boolean materialize = "materialized".equals(state.mode);
+
+        for (final Capture capture : state.captures) {
+            final MessageBuilder builder = capture.protocol == Protocol.NETFLOW9
+                    ? state.netflow9MessageBuilder
+                    : state.ipfixMessageBuilder;
+
+            final RecordProvider packet = parse(capture.protocol, capture.session, Unpooled.wrappedBuffer(capture.packet));
+            packet.getRecords().forEach(record -> {
+                final Iterable<Value<?>> values = materialize ? ImmutableList.copyOf(record) : record;
+                blackhole.consume(builder.buildMessage(values, state.enrichment).build());
+            });
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.telemetry.protocols.netflow.parser.session;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.opennms.netmgt.telemetry.listeners.utils.BufferUtils.slice;
+
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.RecordEnrichment;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.RecordProvider;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.Value;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.DateTimeValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.IPv4AddressValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.IPv6AddressValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.StringValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ie.values.UnsignedValue;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ipfix.proto.Header;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.ipfix.proto.Packet;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.FieldSpecifier;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.IpFixMessageBuilder;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.MessageBuilder;
+import org.opennms.netmgt.telemetry.protocols.netflow.parser.transport.Netflow9MessageBuilder;
+
+import com.google.common.collect.ImmutableList;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+public class FlowRecordTest {
+    private final static Path FOLDER = Paths.get("src/test/resources/flows");
+
+    private static final RecordDecoder.FieldParser PARSER = (field, resolver, buffer) -> field.parse(resolver, slice(buffer, field.length()));
+
+    private static Template template(final int... typesAndLengths) throws Exception {
+        final ByteBuf buffer = Unpooled.buffer();
+        for (final int value : typesAndLengths) {
+            buffer.writeShort(value);
+        }
+
+        final List<Field> fields = new ArrayList<>();
+        while (buffer.isReadable()) {
+            fields.add(new FieldSpecifier(buffer));
+        }
+
+        return Template.builder(256, Template.Type.TEMPLATE).withFields(fields).build();
+    }
+
+    @Test
+    public void testDecode() throws Exception {
+        // IN_BYTES(4), IPV4_SRC_ADDR(4), IF_NAME(3), IPV6_SRC_ADDR(16)
+        final Template template = template(1, 4, 8, 4, 82, 3, 27, 16);
+
+        final ByteBuf buffer = Unpooled.buffer();
+        buffer.writeInt(0xFFFFFFFF);
+        buffer.writeBytes(new byte[]{10, 0, 0, 1});
+        buffer.writeBytes("ge0".getBytes());
+        buffer.writeBytes(InetAddress.getByName("2001:db8::1").getAddress());
+        buffer.writeByte(42);
+
+        final FlowRecord record = template.decoder.decode(null, buffer, PARSER);
+        assertThat(buffer.readableBytes(), is(1));
+
+        final FlowRecord.Cursor cursor = record.cursor();
+
+        assertThat(cursor.next(), is(true));
+        assertThat(cursor.getName(), is("IN_BYTES"));
+        assertThat(cursor.isUnsigned(), is(true));
+        assertThat(cursor.getUnsigned(), is(0xFFFFFFFFL));
+
+        assertThat(cursor.next(), is(true));
+        assertThat(cursor.getName(), is("IPV4_SRC_ADDR"));
+        assertThat(cursor.isUnsigned(), is(false));
+        assertThat(cursor.getAddress(), is(InetAddress.getByName("10.0.0.1")));
+
+        assertThat(cursor.next(), is(true));
+        assertThat(cursor.getName(), is("IF_NAME"));
+        assertThat(cursor.getAddress(), is(nullValue()));
+        assertThat(cursor.getValue(), is(new StringValue("IF_NAME", "ge0")));
+
+        assertThat(cursor.next(), is(true));
+        assertThat(cursor.getName(), is("IPV6_SRC_ADDR"));
+        assertThat(cursor.getAddress(), is(InetAddress.getByName("2001:db8::1")));
+
+        assertThat(cursor.next(), is(false));
+
+        // Materialized values are the same as the ones of the information elements
+        final List<Value<?>> values = ImmutableList.copyOf(record);
+        assertThat(values.get(0), is(new UnsignedValue("IN_BYTES", 0xFFFFFFFFL)));
+        assertThat(values.get(1), is(new IPv4AddressValue("IPV4_SRC_ADDR", (Inet4Address) InetAddress.getByName("10.0.0.1"))));
+        assertThat(values.get(3), is(new IPv6AddressValue("IPV6_SRC_ADDR", (Inet6Address) InetAddress.getByName("2001:db8::1"))));
+    }
+
+    @Test
+    public void testHeaderAndOptions() throws Exception {
+        // FIRST_SWITCHED(4)
+        final Template template = template(22, 4);
+
+        final FlowRecord record = template.decoder.decode(null, Unpooled.wrappedBuffer(new byte[]{0, 0, 1, 0}), PARSER)
+                .with(ImmutableList.of(new UnsignedValue("@sourceId", 7)),
+                      ImmutableList.of(new UnsignedValue("SAMPLING_INTERVAL", 100)));
+
+        assertThat(ImmutableList.copyOf(record), contains(
+                new UnsignedValue("@sourceId", 7),
+                new UnsignedValue("FIRST_SWITCHED", 256),
+                new UnsignedValue("SAMPLING_INTERVAL", 100)));
+    }
+
+    @Test(expected = BufferUnderflowException.class)
+    public void testUnderflow() throws Exception {
+        // IN_BYTES(4), IPV4_SRC_ADDR(4)
+        final Template template = template(1, 4, 8, 4);
+
+        template.decoder.decode(null, Unpooled.wrappedBuffer(new byte[]{0, 0, 0, 1, 10, 0}), PARSER);
+    }
+
+    /**
+     * Verifies that reading records from a cursor yields the same values and flow messages as iterating over the
+     * materialized values for all captured packets.
+     */
+    @Test
+    public void testCaptures() throws Exception {
+        int records = 0;
+
+        for (final Object[] files : org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.BlackboxTest.data()) {
+            final Session session = new TcpSession(InetAddress.getLoopbackAddress(), () -> new SequenceNumberTracker(32));
+            for (final ByteBuf buffer : read(files)) {
+                while (buffer.isReadable()) {
+                    final org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Header header =
+                            new org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Header(slice(buffer, org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Header.SIZE));
+                    records += verify(new org.opennms.netmgt.telemetry.protocols.netflow.parser.netflow9.proto.Packet(session, header, buffer),
+                                      new Netflow9MessageBuilder());
+                }
+            }
+        }
+
+        for (final Object[] files : org.opennms.netmgt.telemetry.protocols.netflow.parser.ipfix.BlackboxTest.data()) {
+            final Session session = new TcpSession(InetAddress.getLoopbackAddress(), () -> new SequenceNumberTracker(32));
+            for (final ByteBuf buffer : read(files)) {
+                while (buffer.isReadable()) {
+                    final Header header = new Header(slice(buffer, Header.SIZE));
+                    records += verify(new Packet(session, header, slice(buffer, header.length - Header.SIZE)),
+                                      new IpFixMessageBuilder());
+                }
+            }
+        }
+
+        assertThat(records, greaterThan(0));
+    }
+
+    private static int verify(final RecordProvider packet, final MessageBuilder builder) {
+        final RecordEnrichment enrichment = mock(RecordEnrichment.class);
+
+        final List<Iterable<Value<?>>> records = packet.getRecords().collect(Collectors.toList());
+
+        for (final Iterable<Value<?>> record : records) {
+            final List<Value<?>> values = ImmutableList.copyOf(record);
+
+            final FlowRecord.Cursor cursor = ((FlowRecord) record).cursor();
+            for (final Value<?> value : values) {
+                assertThat(cursor.next(), is(true));
+                assertThat(cursor.getName(), is(value.getName()));
+                assertThat(cursor.isUnsigned(), is(value instanceof UnsignedValue));
+                if (value instanceof UnsignedValue) {
+                    assertThat(cursor.getUnsigned(), is(((UnsignedValue) value).getValue().longValue()));
+                }
+                if (value instanceof IPv4AddressValue || value instanceof IPv6AddressValue) {
+                    assertThat(cursor.getAddress(), equalTo(value.getValue()));
+                } else {
+                    assertThat(cursor.getAddress(), is(nullValue()));
+                }
+                if (value instanceof DateTimeValue) {
+                    assertThat(cursor.getTime(), equalTo(value.getValue()));
+                } else {
+                    assertThat(cursor.getTime(), is(nullValue()));
+                }
+                assertThat(cursor.getValue(), equalTo(value));
+            }
+            assertThat(cursor.next(), is(false));
+
+            assertThat(builder.buildMessage(record, enrichment).build(),
+                       equalTo(builder.buildMessage(values, enrichment).build()));
+        }
+
+        return records.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ByteBuf> read(final Object[] files) throws Exception {
+        final List<ByteBuf> buffers = new ArrayList<>();
+        for (final String file : (List<String>) files[0]) {
+            buffers.add(Unpooled.wrappedBuffer(Files.readAllBytes(FOLDER.resolve(file))));
+        }
+        return buffers;
+    }
+}
@@ -36,7 +36,7 @@ public interface AlarmPersister {
      * <p>persist</p>
      *
      * @param event a {@link org.opennms.netmgt.xml.event.Event} object
-     * @return the new/updated {@link OnmsAlarm}
+     * @return the new/updated {@link OnmsAlarm}, or null if the event was not reduced to an alarm or its reduction was deferred
      */
     OnmsAlarm persist(Event event);
 
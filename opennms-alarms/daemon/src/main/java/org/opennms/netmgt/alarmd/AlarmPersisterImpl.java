@@ -22,6 +22,7 @@
 package org.opennms.netmgt.alarmd;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
@@ -30,6 +31,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
@@ -42,6 +49,7 @@ import org.opennms.netmgt.eventd.EventUtil;
 import org.opennms.netmgt.model.OnmsAlarm;
 import org.opennms.netmgt.model.OnmsEvent;
 import org.opennms.netmgt.model.OnmsSeverity;
+import org.opennms.netmgt.xml.event.AlarmData;
 import org.opennms.netmgt.xml.event.Event;
 import org.opennms.netmgt.xml.event.Parm;
 import org.opennms.netmgt.xml.event.UpdateField;
@@ -52,8 +60,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.support.TransactionOperations;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.Striped;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * Singleton to persist OnmsAlarms.
@@ -70,6 +80,14 @@ public class AlarmPersisterImpl implements AlarmPersister {
     protected static boolean NEW_IF_CLEARED = Boolean.getBoolean("org.opennms.alarmd.newIfClearedAlarmExists");
     protected static boolean LEGACY_ALARM_STATE = Boolean.getBoolean("org.opennms.alarmd.legacyAlarmState");
 
+    public static final String MAX_REDUCTION_STALENESS_SYS_PROP = "org.opennms.alarmd.reductionKeyCache.maxStalenessMs";
+
+    public static final String MAX_DEFERRED_REDUCTIONS_SYS_PROP = "org.opennms.alarmd.reductionKeyCache.maxDeferredEvents";
+
+    private static final int FLUSH_BATCH_SIZE = 100;
+
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
     @Autowired
     private AlarmDao m_alarmDao;
 
@@ -85,6 +103,9 @@ public class AlarmPersisterImpl implements AlarmPersister {
     @Autowired
     private AlarmEntityNotifier m_alarmEntityNotifier;
 
+    @Autowired(required = false)
+    private ReductionKeyCache m_reductionKeyCache;
+
     private Striped<Lock> lockStripes = StripedExt.fairLock(NUM_STRIPE_LOCKS);
 
     private final Set<AlarmPersisterExtension> extensions = Sets.newConcurrentHashSet();
@@ -93,6 +114,43 @@ public class AlarmPersisterImpl implements AlarmPersister {
     
     private boolean m_legacyAlarmState = LEGACY_ALARM_STATE;
 
+    private long m_maxReductionStalenessMs = SystemProperties.getLong(MAX_REDUCTION_STALENESS_SYS_PROP, 0L);
+
+    private int m_maxDeferredReductions = SystemProperties.getInteger(MAX_DEFERRED_REDUCTIONS_SYS_PROP, 10000);
+
+    // Indexed by reduction key, the entry of a key is only modified while holding its lock
+    private final Map<String, DeferredReduction> m_deferredReductions = new ConcurrentHashMap<>();
+
+    private final AtomicInteger m_deferredEventCount = new AtomicInteger();
+
+    private ScheduledExecutorService m_flushExecutor;
+
+    /**
+     * Starts writing the deferred reductions if both the {@link ReductionKeyCache} and a maximum staleness are enabled.
+     */
+    public synchronized void init() {
+        if (m_flushExecutor != null || m_maxReductionStalenessMs <= 0 || m_reductionKeyCache == null || !m_reductionKeyCache.isEnabled()) {
+            return;
+        }
+        final long period = Math.max(1, m_maxReductionStalenessMs / 2);
+        m_flushExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("alarmd-deferred-reductions-%d").build());
+        m_flushExecutor.scheduleWithFixedDelay(this::flushDeferredReductions, period, period, TimeUnit.MILLISECONDS);
+        LOG.info("Deferring the reductions of up to {} events to existing alarms for at most {}ms.", m_maxDeferredReductions, m_maxReductionStalenessMs);
+    }
+
+    /**
+     * Stops deferring reductions and writes the pending ones.
+     */
+    public synchronized void destroy() throws InterruptedException {
+        if (m_flushExecutor == null) {
+            return;
+        }
+        m_flushExecutor.shutdown();
+        m_flushExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        m_flushExecutor = null;
+        flushDeferredReductions();
+    }
+
     @Override
     public OnmsAlarm persist(Event event) {
         Objects.requireNonNull(event, "Cannot create alarm from null event.");
@@ -107,12 +165,43 @@ public class AlarmPersisterImpl implements AlarmPersister {
         // Lock both the reduction and clear keys (if set) using a fair striped lock
         // We do this to ensure that clears and triggers are processed in the same order
         // as the calls are made
-        final Iterable<Lock> locks = lockStripes.bulkGet(getLockKeys(event));
-        final OnmsAlarm alarm;
+        final Collection<String> lockKeys = getLockKeys(event);
+        final Iterable<Lock> locks = lockStripes.bulkGet(lockKeys);
+        OnmsAlarm alarm;
         try {
             locks.forEach(Lock::lock);
-            // Process the alarm inside a transaction
-            alarm = m_transactionOperations.execute((action) -> addOrReduceEventAsAlarm(event));
+            if (deferReduction(event)) {
+                return null;
+            }
+            // Process the alarm inside a transaction, after the reductions that were deferred for the same keys
+            final List<DeferredReduction> deferred = takeDeferredReductions(lockKeys);
+            final List<OnmsAlarm> reducedAlarms = new ArrayList<>(deferred.size());
+            final AtomicBoolean usedCachedAbsence = new AtomicBoolean(false);
+            try {
+                alarm = m_transactionOperations.execute((action) -> {
+                    deferred.forEach(d -> applyDeferredReduction(d, reducedAlarms));
+                    return addOrReduceEventAsAlarm(event, usedCachedAbsence);
+                });
+            } catch (Exception e) {
+                restoreDeferredReductions(deferred, e);
+                reducedAlarms.clear();
+                if (m_reductionKeyCache == null || !m_reductionKeyCache.isEnabled()) {
+                    throw e;
+                }
+                m_reductionKeyCache.invalidate(lockKeys);
+                if (!usedCachedAbsence.get()) {
+                    throw e;
+                }
+                // The cache may have missed an alarm, i.e. one that was created outside of Alarmd, try again without it
+                LOG.debug("Failed to reduce event {} to alarm using the reduction key cache, retrying.", event, e);
+                usedCachedAbsence.set(false);
+                alarm = m_transactionOperations.execute((action) -> addOrReduceEventAsAlarm(event, usedCachedAbsence));
+            }
+            if (m_reductionKeyCache != null) {
+                // Only cache the alarms once they were committed
+                reducedAlarms.forEach(m_reductionKeyCache::put);
+                m_reductionKeyCache.put(alarm);
+            }
         } catch (Exception e) {
             LOG.warn("Exception while reducing event {} to alarm", event, e);
             return null;
@@ -123,7 +212,179 @@ public class AlarmPersisterImpl implements AlarmPersister {
         return alarm;
     }
 
-    private OnmsAlarm addOrReduceEventAsAlarm(Event event) throws IllegalStateException {
+    /**
+     * Finds the alarm with the given reduction key, using the {@link ReductionKeyCache} when it is enabled.
+     */
+    private OnmsAlarm findByReductionKey(String reductionKey, AtomicBoolean usedCachedAbsence) {
+        if (m_reductionKeyCache != null) {
+            final int alarmId = m_reductionKeyCache.getAlarmId(reductionKey);
+            if (alarmId == ReductionKeyCache.NO_ALARM) {
+                usedCachedAbsence.set(true);
+                return null;
+            } else if (alarmId != ReductionKeyCache.UNKNOWN) {
+                final OnmsAlarm alarm = m_alarmDao.get(alarmId);
+                if (alarm != null && reductionKey.equals(alarm.getReductionKey())) {
+                    return alarm;
+                }
+                LOG.debug("findByReductionKey: cached alarm with id: {} no longer has reduction key: {}", alarmId, reductionKey);
+            }
+        }
+        return m_alarmDao.findByReductionKey(reductionKey);
+    }
+
+    /**
+     * Defers the reduction of the given event if it only increments the counter and replaces the last event of an
+     * alarm that is known to the {@link ReductionKeyCache}. Must be called while holding the lock of the reduction key.
+     */
+    private boolean deferReduction(Event event) {
+        if (m_flushExecutor == null || !extensions.isEmpty() || isResolutionEvent(event)) {
+            return false;
+        }
+        final AlarmData alarmData = event.getAlarmData();
+        if (alarmData.hasUpdateFields() || Boolean.TRUE.equals(alarmData.isAutoClean()) || hasRelatedReductionKeys(event)
+                || m_deferredEventCount.get() >= m_maxDeferredReductions) {
+            return false;
+        }
+        final int alarmId = m_reductionKeyCache.getAlarmId(alarmData.getReductionKey());
+        if (alarmId == ReductionKeyCache.UNKNOWN || alarmId == ReductionKeyCache.NO_ALARM) {
+            return false;
+        }
+        final DeferredReduction deferred = m_deferredReductions.computeIfAbsent(alarmData.getReductionKey(),
+                key -> new DeferredReduction(alarmId, key, alarmData.getAlarmType()));
+        if (deferred.alarmId != alarmId || !Objects.equals(deferred.alarmType, alarmData.getAlarmType())) {
+            // Reduced in order by the regular path, after the deferred events
+            return false;
+        }
+        deferred.events.add(event);
+        m_deferredEventCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Writes the deferred reductions, must be called from a transaction while holding the lock of the reduction key.
+     * The alarms that were updated or created are added to the given list.
+     */
+    private void applyDeferredReduction(DeferredReduction deferred, List<OnmsAlarm> alarms) {
+        final OnmsAlarm alarm = m_alarmDao.get(deferred.alarmId);
+        if (alarm == null || !deferred.reductionKey.equals(alarm.getReductionKey()) || !Objects.equals(deferred.alarmType, alarm.getAlarmType())
+                || !alarm.getRelatedAlarmIds().isEmpty() || (m_createNewAlarmIfClearedAlarmExists && OnmsSeverity.CLEARED.equals(alarm.getSeverity()))) {
+            LOG.debug("applyDeferredReduction: alarm with id: {} changed since its reductions were deferred, reducing {} events one by one",
+                    deferred.alarmId, deferred.events.size());
+            for (Event event : deferred.events) {
+                if (m_eventDao.get(event.getDbid()) == null) {
+                    LOG.warn("Event with id {} was deleted before it could be reduced to an alarm.", event.getDbid());
+                } else {
+                    alarms.add(addOrReduceEventAsAlarm(event, new AtomicBoolean(false)));
+                }
+            }
+            return;
+        }
+
+        OnmsEvent lastEvent = null;
+        for (Event event : deferred.events) {
+            final OnmsEvent persistedEvent = m_eventDao.get(event.getDbid());
+            if (persistedEvent == null) {
+                LOG.warn("Event with id {} was deleted before it could be reduced to alarm {}.", event.getDbid(), alarm.getId());
+                continue;
+            }
+            incrementCounter(alarm);
+            persistedEvent.setAlarm(alarm);
+            m_eventDao.update(persistedEvent);
+            if (lastEvent == null || !persistedEvent.getEventTime().before(lastEvent.getEventTime())) {
+                lastEvent = persistedEvent;
+            }
+        }
+        if (lastEvent == null) {
+            return;
+        }
+        // Events reduced by the regular path in the meantime may be more recent
+        if (alarm.getLastEventTime() == null || !lastEvent.getEventTime().before(alarm.getLastEventTime())) {
+            alarm.setLastEvent(lastEvent);
+            alarm.setLastEventTime(lastEvent.getEventTime());
+            alarm.setLogMsg(lastEvent.getEventLogMsg());
+        }
+        m_alarmDao.update(alarm);
+        m_alarmEntityNotifier.didUpdateAlarmWithReducedEvent(alarm);
+        alarms.add(alarm);
+    }
+
+    /**
+     * Removes the reductions deferred for the given keys, must be called while holding the locks of the keys.
+     */
+    private List<DeferredReduction> takeDeferredReductions(Collection<String> reductionKeys) {
+        if (m_deferredReductions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<DeferredReduction> deferred = new ArrayList<>();
+        for (String reductionKey : reductionKeys) {
+            final DeferredReduction reduction = m_deferredReductions.remove(reductionKey);
+            if (reduction != null) {
+                m_deferredEventCount.addAndGet(-reduction.events.size());
+                deferred.add(reduction);
+            }
+        }
+        return deferred;
+    }
+
+    /**
+     * Puts back reductions that could not be written, unless they failed too often.
+     */
+    private void restoreDeferredReductions(List<DeferredReduction> deferred, Exception e) {
+        for (DeferredReduction reduction : deferred) {
+            if (++reduction.failures >= MAX_FLUSH_ATTEMPTS) {
+                LOG.error("Dropping the reductions of {} events to alarm {} with reduction key {} after {} failed attempts.",
+                        reduction.events.size(), reduction.alarmId, reduction.reductionKey, reduction.failures, e);
+                continue;
+            }
+            final DeferredReduction current = m_deferredReductions.putIfAbsent(reduction.reductionKey, reduction);
+            if (current != null) {
+                current.events.addAll(0, reduction.events);
+            }
+            m_deferredEventCount.addAndGet(reduction.events.size());
+        }
+    }
+
+    /**
+     * Writes all of the deferred reductions, {@value #FLUSH_BATCH_SIZE} alarms per transaction.
+     */
+    void flushDeferredReductions() {
+        try {
+            for (List<String> reductionKeys : Lists.partition(new ArrayList<>(m_deferredReductions.keySet()), FLUSH_BATCH_SIZE)) {
+                final Iterable<Lock> locks = lockStripes.bulkGet(reductionKeys);
+                locks.forEach(Lock::lock);
+                try {
+                    final List<DeferredReduction> deferred = takeDeferredReductions(reductionKeys);
+                    if (deferred.isEmpty()) {
+                        continue;
+                    }
+                    final List<OnmsAlarm> alarms = new ArrayList<>(deferred.size());
+                    try {
+                        m_transactionOperations.execute((action) -> {
+                            deferred.forEach(d -> applyDeferredReduction(d, alarms));
+                            return null;
+                        });
+                    } catch (Exception e) {
+                        LOG.warn("Failed to write the deferred reductions of {} alarms.", deferred.size(), e);
+                        restoreDeferredReductions(deferred, e);
+                        continue;
+                    }
+                    if (m_reductionKeyCache != null) {
+                        alarms.forEach(m_reductionKeyCache::put);
+                    }
+                } finally {
+                    locks.forEach(Lock::unlock);
+                }
+            }
+        } catch (Exception e) {
+            LOG.error("Unexpected exception while writing the deferred reductions.", e);
+        }
+    }
+
+    int getDeferredEventCount() {
+        return m_deferredEventCount.get();
+    }
+
+    private OnmsAlarm addOrReduceEventAsAlarm(Event event, AtomicBoolean usedCachedAbsence) throws IllegalStateException {
         
         final OnmsEvent persistedEvent = m_eventDao.get(event.getDbid());
         if (persistedEvent == null) {
@@ -142,11 +403,11 @@ public class AlarmPersisterImpl implements AlarmPersister {
             didSwapReductionKeyWithClearKey = true;
         }
 
-        OnmsAlarm alarm = m_alarmDao.findByReductionKey(key);
+        OnmsAlarm alarm = findByReductionKey(key, usedCachedAbsence);
 
         if (alarm == null && didSwapReductionKeyWithClearKey) {
             // if the clearKey returns null, still need to check the reductionKey
-            alarm = m_alarmDao.findByReductionKey(reductionKey);
+            alarm = findByReductionKey(reductionKey, usedCachedAbsence);
         }
 
         if (alarm == null || (m_createNewAlarmIfClearedAlarmExists && OnmsSeverity.CLEARED.equals(alarm.getSeverity()))) {
@@ -391,6 +652,11 @@ public class AlarmPersisterImpl implements AlarmPersister {
         return reductionKeys.stream().map(reductionKey -> m_alarmDao.findByReductionKey(reductionKey)).filter(Objects::nonNull).collect(Collectors.toSet());
     }
 
+    private static boolean hasRelatedReductionKeys(Event event) {
+        final List<Parm> parms = event.getParmCollection();
+        return parms != null && parms.stream().anyMatch(AlarmPersisterImpl::isRelatedReductionKeyWithContent);
+    }
+
     private static boolean isRelatedReductionKeyWithContent(Parm param) {
         return param.getParmName() != null
                 // TOOD revisit using equals() when event_parameters table supports multiple params with the same name (see NMS-10214)
@@ -499,6 +765,14 @@ public class AlarmPersisterImpl implements AlarmPersister {
         m_alarmEntityNotifier = alarmEntityNotifier;
     }
 
+    public ReductionKeyCache getReductionKeyCache() {
+        return m_reductionKeyCache;
+    }
+
+    public void setReductionKeyCache(ReductionKeyCache reductionKeyCache) {
+        m_reductionKeyCache = reductionKeyCache;
+    }
+
     public void onExtensionRegistered(final AlarmPersisterExtension ext, final Map<String,String> properties) {
         LOG.debug("onExtensionRegistered: {} with properties: {}", ext, properties);
         extensions.add(ext);
@@ -523,4 +797,37 @@ public class AlarmPersisterImpl implements AlarmPersister {
     public void setLegacyAlarmState(boolean legacyAlarmState) {
         m_legacyAlarmState = legacyAlarmState;
     }
+
+    public long getMaxReductionStalenessMs() {
+        return m_maxReductionStalenessMs;
+    }
+
+    public void setMaxReductionStalenessMs(long maxReductionStalenessMs) {
+        m_maxReductionStalenessMs = maxReductionStalenessMs;
+    }
+
+    public int getMaxDeferredReductions() {
+        return m_maxDeferredReductions;
+    }
+
+    public void setMaxDeferredReductions(int maxDeferredReductions) {
+        m_maxDeferredReductions = maxDeferredReductions;
+    }
+
+    /**
+     * The events of an alarm whose reductions were not written yet.
+     */
+    private static class DeferredReduction {
+        private final int alarmId;
+        private final String reductionKey;
+        private final Integer alarmType;
+        private final List<Event> events = new ArrayList<>();
+        private int failures;
+
+        private DeferredReduction(int alarmId, String reductionKey, Integer alarmType) {
+            this.alarmId = alarmId;
+            this.reductionKey = reductionKey;
+            this.alarmType = alarmType;
+        }
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.alarmd;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opennms.netmgt.alarmd.api.AlarmLifecycleListener;
+import org.opennms.netmgt.model.OnmsAlarm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the ID of the alarm stored for every reduction key, allowing the {@link AlarmPersisterImpl}
+ * to avoid querying for alarms by reduction key (or clear key) when processing events.
+ *
+ * The cache is hydrated using the alarm snapshots and kept up-to-date using the lifecycle callbacks
+ * and the alarms persisted by Alarmd. Until the first snapshot was handled, all of the keys are unknown.
+ *
+ * Keys that are not in the cache do not have an alarm. IDs found in the cache may be stale, so callers must verify
+ * that the alarm loaded by ID still has the given reduction key. Keys for which the state is uncertain, i.e. after
+ * failed transactions, can be invalidated and are unknown until the next snapshot or update.
+ */
+public class ReductionKeyCache implements AlarmLifecycleListener {
+    private static final Logger LOG = LoggerFactory.getLogger(ReductionKeyCache.class);
+
+    public static final String CACHE_ENABLED_SYS_PROP = "org.opennms.alarmd.reductionKeyCache";
+
+    /**
+     * Returned by {@link #getAlarmId(String)} when the state of the key is not known.
+     */
+    public static final int UNKNOWN = -1;
+
+    /**
+     * Returned by {@link #getAlarmId(String)} when there is no alarm with the given key.
+     */
+    public static final int NO_ALARM = 0;
+
+    private boolean enabled = Boolean.getBoolean(CACHE_ENABLED_SYS_PROP);
+
+    private volatile boolean ready = false;
+
+    // Read without locking, all modifications are made while holding the monitor
+    private volatile Map<String, Integer> alarmIdsByReductionKey = new ConcurrentHashMap<>();
+    private Map<Integer, String> reductionKeysByAlarmId = new HashMap<>();
+    private final Set<String> invalidatedKeys = ConcurrentHashMap.newKeySet();
+
+    // Keys modified while a snapshot is being processed
+    private Set<String> keysModifiedDuringSnapshot;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Retrieves the ID of the alarm with the given reduction key.
+     *
+     * @param reductionKey reduction key
+     * @return the ID of the alarm, {@link #NO_ALARM} if there is no alarm or {@link #UNKNOWN}
+     */
+    public int getAlarmId(String reductionKey) {
+        if (!enabled || !ready || reductionKey == null || invalidatedKeys.contains(reductionKey)) {
+            return UNKNOWN;
+        }
+        final Integer alarmId = alarmIdsByReductionKey.get(reductionKey);
+        return alarmId != null ? alarmId : NO_ALARM;
+    }
+
+    /**
+     * Marks the given keys as unknown, i.e. when a transaction that could have modified the alarms failed.
+     */
+    public synchronized void invalidate(Collection<String> reductionKeys) {
+        for (String reductionKey : reductionKeys) {
+            if (reductionKey != null) {
+                invalidatedKeys.add(reductionKey);
+                markModified(reductionKey);
+            }
+        }
+    }
+
+    /**
+     * Stores the current reduction key of the given alarm, replacing any previous key of the same alarm.
+     */
+    public synchronized void put(OnmsAlarm alarm) {
+        if (!enabled || alarm == null || alarm.getId() == null || alarm.getReductionKey() == null) {
+            return;
+        }
+        final String reductionKey = alarm.getReductionKey();
+        final Integer alarmId = alarm.getId();
+
+        final String previousKey = reductionKeysByAlarmId.put(alarmId, reductionKey);
+        if (previousKey != null && !previousKey.equals(reductionKey)) {
+            // The key of the alarm changed, i.e. when the alarm was archived
+            alarmIdsByReductionKey.remove(previousKey, alarmId);
+            markModified(previousKey);
+        }
+        final Integer previousId = alarmIdsByReductionKey.put(reductionKey, alarmId);
+        if (previousId != null && !previousId.equals(alarmId)) {
+            reductionKeysByAlarmId.remove(previousId, reductionKey);
+        }
+        invalidatedKeys.remove(reductionKey);
+        markModified(reductionKey);
+    }
+
+    /**
+     * Removes the given alarm.
+     */
+    public synchronized void remove(int alarmId, String reductionKey) {
+        if (!enabled) {
+            return;
+        }
+        final String currentKey = reductionKeysByAlarmId.remove(alarmId);
+        if (currentKey != null) {
+            alarmIdsByReductionKey.remove(currentKey, alarmId);
+            markModified(currentKey);
+        }
+        if (reductionKey != null && !reductionKey.equals(currentKey)) {
+            alarmIdsByReductionKey.remove(reductionKey, alarmId);
+            markModified(reductionKey);
+        }
+    }
+
+    public int size() {
+        return alarmIdsByReductionKey.size();
+    }
+
+    private void markModified(String reductionKey) {
+        if (keysModifiedDuringSnapshot != null) {
+            keysModifiedDuringSnapshot.add(reductionKey);
+        }
+    }
+
+    @Override
+    public synchronized void preHandleAlarmSnapshot() {
+        if (enabled) {
+            keysModifiedDuringSnapshot = new HashSet<>();
+        }
+    }
+
+    @Override
+    public synchronized void handleAlarmSnapshot(List<OnmsAlarm> alarms) {
+        if (!enabled || keysModifiedDuringSnapshot == null) {
+            return;
+        }
+
+        final Map<String, Integer> alarmIds = new ConcurrentHashMap<>();
+        final Map<Integer, String> reductionKeys = new HashMap<>();
+        for (OnmsAlarm alarm : alarms) {
+            if (alarm.getId() != null && alarm.getReductionKey() != null) {
+                alarmIds.put(alarm.getReductionKey(), alarm.getId());
+                reductionKeys.put(alarm.getId(), alarm.getReductionKey());
+            }
+        }
+
+        // The callbacks received after the snapshot was started are more recent than the snapshot
+        for (String reductionKey : keysModifiedDuringSnapshot) {
+            final Integer snapshotId = alarmIds.remove(reductionKey);
+            if (snapshotId != null) {
+                reductionKeys.remove(snapshotId, reductionKey);
+            }
+            final Integer alarmId = alarmIdsByReductionKey.get(reductionKey);
+            if (alarmId != null) {
+                final String snapshotKey = reductionKeys.put(alarmId, reductionKey);
+                if (snapshotKey != null && !snapshotKey.equals(reductionKey)) {
+                    alarmIds.remove(snapshotKey, alarmId);
+                }
+                alarmIds.put(reductionKey, alarmId);
+            }
+        }
+        invalidatedKeys.retainAll(keysModifiedDuringSnapshot);
+
+        alarmIdsByReductionKey = alarmIds;
+        reductionKeysByAlarmId = reductionKeys;
+        if (!ready) {
+            LOG.info("Reduction key cache hydrated with {} alarms.", alarmIds.size());
+        }
+        ready = true;
+    }
+
+    @Override
+    public synchronized void postHandleAlarmSnapshot() {
+        keysModifiedDuringSnapshot = null;
+    }
+
+    @Override
+    public void handleNewOrUpdatedAlarm(OnmsAlarm alarm) {
+        put(alarm);
+    }
+
+    @Override
+    public void handleDeletedAlarm(int alarmId, String reductionKey) {
+        remove(alarmId, reductionKey);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReductionKeyCache[enabled=%s, ready=%s, size=%d]", enabled, ready, size());
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+}
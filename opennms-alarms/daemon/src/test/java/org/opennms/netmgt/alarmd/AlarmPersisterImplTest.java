@@ -0,0 +1,235 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.alarmd;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.netmgt.dao.api.AlarmDao;
+import org.opennms.netmgt.dao.api.AlarmEntityNotifier;
+import org.opennms.netmgt.dao.api.EventDao;
+import org.opennms.netmgt.model.OnmsAlarm;
+import org.opennms.netmgt.model.OnmsEvent;
+import org.opennms.netmgt.model.OnmsSeverity;
+import org.opennms.netmgt.xml.event.AlarmData;
+import org.opennms.netmgt.xml.event.Event;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Counts the alarm lookups made by the {@link AlarmPersisterImpl} with and without the {@link ReductionKeyCache}
+ * and verifies the deferred reductions.
+ */
+public class AlarmPersisterImplTest {
+
+    private static final int ALARMS = 10;
+    private static final int REDUCTIONS = 10;
+
+    private final Map<String, OnmsAlarm> alarmsByReductionKey = new HashMap<>();
+    private final Map<Integer, OnmsAlarm> alarmsById = new HashMap<>();
+    private final AtomicInteger eventIds = new AtomicInteger();
+    private final AtomicInteger alarmIds = new AtomicInteger();
+
+    private AlarmDao alarmDao;
+    private AlarmEntityNotifier alarmEntityNotifier;
+    private AlarmPersisterImpl persister;
+
+    @Before
+    public void setUp() {
+        alarmDao = mock(AlarmDao.class);
+        when(alarmDao.findByReductionKey(anyString())).thenAnswer(inv -> alarmsByReductionKey.get(inv.<String>getArgument(0)));
+        when(alarmDao.get(anyInt())).thenAnswer(inv -> alarmsById.get(inv.<Integer>getArgument(0)));
+        when(alarmDao.save(any(OnmsAlarm.class))).thenAnswer(inv -> {
+            final OnmsAlarm alarm = inv.getArgument(0);
+            alarm.setId(alarmIds.incrementAndGet());
+            alarmsById.put(alarm.getId(), alarm);
+            alarmsByReductionKey.put(alarm.getReductionKey(), alarm);
+            return alarm.getId();
+        });
+
+        final EventDao eventDao = mock(EventDao.class);
+        when(eventDao.get(anyInt())).thenAnswer(inv -> {
+            final OnmsEvent event = new OnmsEvent();
+            event.setId(inv.getArgument(0));
+            event.setEventUei("uei.opennms.org/test");
+            event.setEventTime(new Date());
+            event.setEventSeverity(OnmsSeverity.MAJOR.getId());
+            return event;
+        });
+
+        final TransactionOperations transactionOperations = mock(TransactionOperations.class);
+        when(transactionOperations.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        persister = new AlarmPersisterImpl();
+        persister.setAlarmDao(alarmDao);
+        persister.setEventDao(eventDao);
+        persister.setTransactionOperations(transactionOperations);
+        alarmEntityNotifier = mock(AlarmEntityNotifier.class);
+        persister.setAlarmChangeListener(alarmEntityNotifier);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        persister.destroy();
+    }
+
+    private Event event(final String reductionKey, final int alarmType, final String clearKey) {
+        final Event event = new Event();
+        event.setUei("uei.opennms.org/test");
+        event.setDbid(eventIds.incrementAndGet());
+        final AlarmData alarmData = new AlarmData();
+        alarmData.setReductionKey(reductionKey);
+        alarmData.setAlarmType(alarmType);
+        alarmData.setClearKey(clearKey);
+        alarmData.setAutoClean(false);
+        event.setAlarmData(alarmData);
+        return event;
+    }
+
+    /**
+     * Creates {@value #ALARMS} alarms, reduces {@value #REDUCTIONS} events to each of them and clears them.
+     */
+    private void persistEvents() {
+        for (int i = 0; i < ALARMS; i++) {
+            for (int j = 0; j <= REDUCTIONS; j++) {
+                persister.persist(event("trigger:" + i, OnmsAlarm.PROBLEM_TYPE, null));
+            }
+            persister.persist(event("clear:" + i, OnmsAlarm.RESOLUTION_TYPE, "trigger:" + i));
+        }
+        assertThat(alarmsById.size(), equalTo(ALARMS));
+        for (int i = 0; i < ALARMS; i++) {
+            assertThat(alarmsByReductionKey.get("trigger:" + i).getCounter(), equalTo(REDUCTIONS + 1));
+            assertThat(alarmsByReductionKey.get("trigger:" + i).getSeverity(), equalTo(OnmsSeverity.CLEARED));
+        }
+    }
+
+    @Test
+    public void queriesEveryKeyWithoutCache() {
+        persistEvents();
+
+        // Every event queries its reduction key, the new alarms included
+        verify(alarmDao, times(ALARMS * (REDUCTIONS + 2))).findByReductionKey(anyString());
+        verify(alarmDao, never()).get(anyInt());
+    }
+
+    private void enableCache() {
+        final ReductionKeyCache cache = new ReductionKeyCache();
+        cache.setEnabled(true);
+        cache.preHandleAlarmSnapshot();
+        cache.handleAlarmSnapshot(Collections.emptyList());
+        cache.postHandleAlarmSnapshot();
+        persister.setReductionKeyCache(cache);
+    }
+
+    private void enableDeferredReductions() {
+        enableCache();
+        // Only flushed explicitly by the tests
+        persister.setMaxReductionStalenessMs(TimeUnit.HOURS.toMillis(1));
+        persister.init();
+    }
+
+    @Test
+    public void loadsKnownAlarmsByIdWithCache() {
+        enableCache();
+
+        persistEvents();
+
+        // New alarms do not need a lookup, the reductions and the clears load the alarm by its primary key
+        verify(alarmDao, never()).findByReductionKey(anyString());
+        verify(alarmDao, times(ALARMS * (REDUCTIONS + 1))).get(anyInt());
+    }
+
+    @Test
+    public void defersReductionsUntilFlushed() {
+        enableDeferredReductions();
+
+        for (int i = 0; i < ALARMS; i++) {
+            for (int j = 0; j <= REDUCTIONS; j++) {
+                persister.persist(event("trigger:" + i, OnmsAlarm.PROBLEM_TYPE, null));
+            }
+        }
+
+        // Only the alarms were created
+        assertThat(persister.getDeferredEventCount(), equalTo(ALARMS * REDUCTIONS));
+        for (int i = 0; i < ALARMS; i++) {
+            assertThat(alarmsByReductionKey.get("trigger:" + i).getCounter(), equalTo(1));
+        }
+        verify(alarmDao, never()).update(any(OnmsAlarm.class));
+
+        // Every alarm is updated once with all of its reductions
+        persister.flushDeferredReductions();
+        assertThat(persister.getDeferredEventCount(), equalTo(0));
+        for (int i = 0; i < ALARMS; i++) {
+            assertThat(alarmsByReductionKey.get("trigger:" + i).getCounter(), equalTo(REDUCTIONS + 1));
+        }
+        verify(alarmDao, times(ALARMS)).update(any(OnmsAlarm.class));
+        verify(alarmEntityNotifier, times(ALARMS)).didUpdateAlarmWithReducedEvent(any(OnmsAlarm.class));
+    }
+
+    @Test
+    public void writesDeferredReductionsBeforeClears() {
+        enableDeferredReductions();
+
+        // The clears find the deferred reductions of their alarms and write them first
+        persistEvents();
+
+        assertThat(persister.getDeferredEventCount(), equalTo(0));
+        verify(alarmDao, times(ALARMS * 2)).update(any(OnmsAlarm.class));
+    }
+
+    @Test
+    public void reducesDeferredEventsOneByOneIfAlarmWasDeleted() {
+        enableDeferredReductions();
+
+        for (int j = 0; j <= REDUCTIONS; j++) {
+            persister.persist(event("trigger", OnmsAlarm.PROBLEM_TYPE, null));
+        }
+        final OnmsAlarm deleted = alarmsByReductionKey.remove("trigger");
+        alarmsById.remove(deleted.getId());
+
+        persister.flushDeferredReductions();
+
+        // The first deferred event creates a new alarm, the others are reduced to it
+        final OnmsAlarm alarm = alarmsByReductionKey.get("trigger");
+        assertThat(alarm.getId(), equalTo(deleted.getId() + 1));
+        assertThat(alarm.getCounter(), equalTo(REDUCTIONS));
+        assertThat(persister.getDeferredEventCount(), equalTo(0));
+    }
+}
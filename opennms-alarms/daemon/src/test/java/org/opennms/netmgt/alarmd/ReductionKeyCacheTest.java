@@ -0,0 +1,135 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.alarmd;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.netmgt.model.OnmsAlarm;
+
+public class ReductionKeyCacheTest {
+
+    private ReductionKeyCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new ReductionKeyCache();
+        cache.setEnabled(true);
+    }
+
+    private static OnmsAlarm alarm(int id, String reductionKey) {
+        final OnmsAlarm alarm = new OnmsAlarm();
+        alarm.setId(id);
+        alarm.setReductionKey(reductionKey);
+        return alarm;
+    }
+
+    private void snapshot(OnmsAlarm... alarms) {
+        cache.preHandleAlarmSnapshot();
+        cache.handleAlarmSnapshot(Arrays.asList(alarms));
+        cache.postHandleAlarmSnapshot();
+    }
+
+    @Test
+    public void isUnknownUntilHydrated() {
+        cache.put(alarm(1, "a"));
+        assertThat(cache.getAlarmId("a"), equalTo(ReductionKeyCache.UNKNOWN));
+        assertThat(cache.getAlarmId("b"), equalTo(ReductionKeyCache.UNKNOWN));
+
+        snapshot(alarm(1, "a"));
+        assertThat(cache.getAlarmId("a"), equalTo(1));
+        assertThat(cache.getAlarmId("b"), equalTo(ReductionKeyCache.NO_ALARM));
+    }
+
+    @Test
+    public void isUnknownWhenDisabled() {
+        cache.setEnabled(false);
+        snapshot(alarm(1, "a"));
+        assertThat(cache.getAlarmId("a"), equalTo(ReductionKeyCache.UNKNOWN));
+    }
+
+    @Test
+    public void canTrackUpdatesAndDeletes() {
+        snapshot(alarm(1, "a"));
+
+        // Archiving changes the reduction key of the existing alarm and creates a new one
+        cache.put(alarm(1, "a:ID:1"));
+        assertThat(cache.getAlarmId("a"), equalTo(ReductionKeyCache.NO_ALARM));
+        cache.put(alarm(2, "a"));
+        assertThat(cache.getAlarmId("a"), equalTo(2));
+        assertThat(cache.getAlarmId("a:ID:1"), equalTo(1));
+
+        cache.handleDeletedAlarm(1, "a:ID:1");
+        assertThat(cache.getAlarmId("a:ID:1"), equalTo(ReductionKeyCache.NO_ALARM));
+        assertThat(cache.getAlarmId("a"), equalTo(2));
+
+        // A stale delete does not remove the new alarm
+        cache.handleDeletedAlarm(1, "a");
+        assertThat(cache.getAlarmId("a"), equalTo(2));
+        assertThat(cache.size(), equalTo(1));
+    }
+
+    @Test
+    public void canInvalidateKeys() {
+        snapshot(alarm(1, "a"));
+
+        cache.invalidate(Arrays.asList("a", "b"));
+        assertThat(cache.getAlarmId("a"), equalTo(ReductionKeyCache.UNKNOWN));
+        assertThat(cache.getAlarmId("b"), equalTo(ReductionKeyCache.UNKNOWN));
+
+        // Updates and snapshots make the keys known again
+        cache.put(alarm(1, "a"));
+        assertThat(cache.getAlarmId("a"), equalTo(1));
+        snapshot(alarm(1, "a"));
+        assertThat(cache.getAlarmId("b"), equalTo(ReductionKeyCache.NO_ALARM));
+    }
+
+    @Test
+    public void canKeepChangesMadeWhileProcessingSnapshot() {
+        snapshot(alarm(1, "a"), alarm(2, "b"));
+
+        cache.preHandleAlarmSnapshot();
+        // Changes made after the snapshot was started, but not visible in the snapshot
+        cache.put(alarm(3, "c"));
+        cache.handleDeletedAlarm(2, "b");
+        cache.invalidate(Collections.singletonList("d"));
+        cache.handleAlarmSnapshot(Arrays.asList(alarm(1, "a"), alarm(2, "b"), alarm(4, "d"), alarm(5, "e")));
+        cache.postHandleAlarmSnapshot();
+
+        assertThat(cache.getAlarmId("a"), equalTo(1));
+        assertThat(cache.getAlarmId("b"), equalTo(ReductionKeyCache.NO_ALARM));
+        assertThat(cache.getAlarmId("c"), equalTo(3));
+        assertThat(cache.getAlarmId("d"), equalTo(ReductionKeyCache.UNKNOWN));
+        assertThat(cache.getAlarmId("e"), equalTo(5));
+
+        // The next snapshot is authoritative again
+        snapshot(alarm(1, "a"), alarm(4, "d"));
+        assertThat(cache.getAlarmId("c"), equalTo(ReductionKeyCache.NO_ALARM));
+        assertThat(cache.getAlarmId("d"), equalTo(4));
+        assertThat(cache.getAlarmId("e"), equalTo(ReductionKeyCache.NO_ALARM));
+    }
+}
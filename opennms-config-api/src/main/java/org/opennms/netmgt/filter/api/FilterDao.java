@@ -27,6 +27,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 
+import org.opennms.netmgt.events.api.model.IEvent;
+
 /**
  * <p>FilterDao interface.</p>
  *
@@ -67,6 +69,27 @@ public interface FilterDao {
 
     void flushActiveIpAddressListCache();
 
+    /**
+     * Notifies the DAO that the inventory (interfaces, services, categories, assets, ...) of
+     * the given node has changed. Implementations evaluating rules against an in-memory copy
+     * of the inventory reload the node, all others can ignore it.
+     *
+     * @param nodeId the ID of the changed or deleted node
+     */
+    default void refreshNode(int nodeId) {
+    }
+
+    /**
+     * Same as {@link #refreshNode(int)} for a change announced by the given event. Several
+     * listeners of the event may call this, but the node only needs to be reloaded once.
+     *
+     * @param nodeId the ID of the changed or deleted node
+     * @param event the event announcing the change
+     */
+    default void refreshNode(int nodeId, IEvent event) {
+        refreshNode(nodeId);
+    }
+
     /**
      * Get the (non-deleted) IP addresses that match the specified rule.
      *
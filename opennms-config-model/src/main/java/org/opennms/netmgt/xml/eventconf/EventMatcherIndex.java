@@ -0,0 +1,465 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.xml.eventconf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Compiled index used to find the first event definition matching an event in an {@link Events}
+ * file and the files it loads, without checking the {@link EventMatcher}s of every definition.
+ *
+ * The definitions are laid out in the order {@link Events#findFirstMatchingEvent(org.opennms.netmgt.xml.event.Event)}
+ * searches them: for each file, the definition found by UEI followed by the definitions of the file in
+ * priority order, then the loaded files. Definitions are indexed as follows:
+ * <ul>
+ *   <li>definitions found by UEI are indexed by their UEI and do not need to be matched,</li>
+ *   <li>definitions that belong to a partition are only considered when the partition key of
+ *   the event matches, i.e. the enterprise id of a trap,</li>
+ *   <li>within the unpartitioned definitions and within each partition, the definitions are indexed
+ *   by their most selective mask element or varbind that only has exact values (hash lookup) or
+ *   prefix values ending with '%' (trie lookup),</li>
+ *   <li>definitions without such an element, i.e. that only use regular expressions, are
+ *   fallback candidates that are checked for every event.</li>
+ * </ul>
+ *
+ * A lookup merges the candidate lists in search order and returns the first definition that
+ * is matched by its own {@link EventMatcher}, which is the same result the linear search returns.
+ */
+final class EventMatcherIndex {
+    private static final int[] NONE = new int[0];
+
+    private final Event[] m_events;
+    private final boolean[] m_matchedByUei;
+    private final Partition m_partition;
+    private final Map<String, int[]> m_byUei;
+    private final Level m_unpartitioned;
+    private final Map<String, Level> m_byPartitionKey;
+
+    private EventMatcherIndex(final Builder builder) {
+        m_events = builder.m_events.toArray(new Event[0]);
+        m_matchedByUei = new boolean[m_events.length];
+        m_partition = builder.m_partition;
+
+        final Map<String, IntList> byUei = new HashMap<>();
+        final Map<Event, List<Condition>> conditionsByEvent = new IdentityHashMap<>();
+        m_unpartitioned = new Level();
+        m_byPartitionKey = new HashMap<>();
+        for (int position = 0; position < m_events.length; position++) {
+            final Event event = m_events[position];
+            final String uei = builder.m_ueis.get(position);
+            if (uei != null) {
+                // Found by the UEI lookup of the file
+                m_matchedByUei[position] = true;
+                byUei.computeIfAbsent(uei, k -> new IntList()).add(position);
+                continue;
+            }
+
+            final List<Condition> conditions = conditionsByEvent.computeIfAbsent(event, Condition::of);
+            if (conditions == null) {
+                // Can never match
+                continue;
+            }
+
+            final List<String> partitionKeys = builder.m_partitionKeys.get(position);
+            if (partitionKeys == null) {
+                m_unpartitioned.add(position, conditions);
+            } else {
+                // Only considered when the partition key of the incoming event matches
+                for (final String key : new LinkedHashSet<>(partitionKeys)) {
+                    if (key != null) {
+                        m_byPartitionKey.computeIfAbsent(key, k -> new Level()).add(position, conditions);
+                    }
+                }
+            }
+        }
+
+        m_byUei = compile(byUei);
+        m_unpartitioned.compile();
+        m_byPartitionKey.values().forEach(Level::compile);
+    }
+
+    Event findFirstMatchingEvent(final org.opennms.netmgt.xml.event.Event matchingEvent) {
+        final List<int[]> candidates = new ArrayList<>();
+        final String uei = matchingEvent.getUei();
+        if (uei != null) {
+            addCandidates(candidates, m_byUei.get(uei));
+        }
+        m_unpartitioned.collect(matchingEvent, candidates);
+        final String key = m_partition.group(matchingEvent);
+        if (key != null) {
+            final Level partition = m_byPartitionKey.get(key);
+            if (partition != null) {
+                partition.collect(matchingEvent, candidates);
+            }
+        }
+
+        // Merge the sorted candidate lists and check the definitions in order
+        final int lists = candidates.size();
+        final int[] cursors = new int[lists];
+        while (true) {
+            int next = Integer.MAX_VALUE;
+            for (int i = 0; i < lists; i++) {
+                final int[] positions = candidates.get(i);
+                if (cursors[i] < positions.length && positions[cursors[i]] < next) {
+                    next = positions[cursors[i]];
+                }
+            }
+            if (next == Integer.MAX_VALUE) {
+                return null;
+            }
+            for (int i = 0; i < lists; i++) {
+                final int[] positions = candidates.get(i);
+                if (cursors[i] < positions.length && positions[cursors[i]] == next) {
+                    cursors[i]++;
+                }
+            }
+
+            final Event event = m_events[next];
+            if (m_matchedByUei[next] || event.matches(matchingEvent).matched()) {
+                return event;
+            }
+        }
+    }
+
+    private static Map<String, int[]> compile(final Map<String, IntList> lists) {
+        final Map<String, int[]> compiled = new HashMap<>();
+        lists.forEach((key, positions) -> compiled.put(key, positions.toArray()));
+        return compiled;
+    }
+
+    private static void addCandidates(final List<int[]> candidates, final int[] positions) {
+        if (positions != null && positions.length > 0) {
+            candidates.add(positions);
+        }
+    }
+
+    /**
+     * Lays out the definitions of the files in the order they are searched.
+     */
+    static final class Builder {
+        private final Partition m_partition;
+        private final List<Event> m_events = new ArrayList<>();
+        private final List<String> m_ueis = new ArrayList<>();
+        private final List<List<String>> m_partitionKeys = new ArrayList<>();
+
+        Builder(final Partition partition) {
+            m_partition = partition;
+        }
+
+        /**
+         * Adds the definitions of a single file, as searched by the file itself before the files it loads.
+         */
+        Builder addEvents(final Map<String, Event> eventsByUei, final List<Event> nullPartitionedEvents, final Map<String, List<Event>> partitionedEvents) {
+            eventsByUei.forEach((uei, event) -> add(event, uei, null));
+
+            final Set<Event> nullPartitioned = Collections.newSetFromMap(new IdentityHashMap<>());
+            nullPartitioned.addAll(nullPartitionedEvents);
+            final Set<Event> all = Collections.newSetFromMap(new IdentityHashMap<>());
+            final List<Event> events = new ArrayList<>(nullPartitionedEvents);
+            all.addAll(nullPartitionedEvents);
+            for (final List<Event> partitionEvents : partitionedEvents.values()) {
+                for (final Event event : partitionEvents) {
+                    if (all.add(event)) {
+                        events.add(event);
+                    }
+                }
+            }
+            events.sort(null);
+
+            for (final Event event : events) {
+                if (nullPartitioned.contains(event)) {
+                    add(event, null, null);
+                } else {
+                    add(event, null, m_partition.group(event));
+                }
+            }
+            return this;
+        }
+
+        private void add(final Event event, final String uei, final List<String> partitionKeys) {
+            m_events.add(event);
+            m_ueis.add(uei);
+            m_partitionKeys.add(partitionKeys);
+        }
+
+        EventMatcherIndex build() {
+            return new EventMatcherIndex(this);
+        }
+    }
+
+    /**
+     * Definitions that are searched together, i.e. all unpartitioned definitions or the definitions of a partition.
+     * Each definition is indexed by its most selective condition, if any.
+     */
+    private static final class Level {
+        private final IntList m_positions = new IntList();
+        private final List<List<Condition>> m_conditions = new ArrayList<>();
+        private int[] m_fallback;
+        private FieldIndex[] m_fields;
+
+        private void add(final int position, final List<Condition> conditions) {
+            m_positions.add(position);
+            m_conditions.add(conditions);
+        }
+
+        private void compile() {
+            // Count the number of definitions per value to select the most selective conditions
+            final Map<String, Map<String, Integer>> valueCounts = new HashMap<>();
+            for (final List<Condition> conditions : m_conditions) {
+                for (final Condition condition : conditions) {
+                    final Map<String, Integer> counts = valueCounts.computeIfAbsent(condition.m_key, k -> new HashMap<>());
+                    condition.values().forEach(value -> counts.merge(value, 1, Integer::sum));
+                }
+            }
+
+            final IntList fallback = new IntList();
+            final Map<String, FieldIndex> fields = new LinkedHashMap<>();
+            final int[] positions = m_positions.toArray();
+            for (int i = 0; i < positions.length; i++) {
+                Condition selected = null;
+                long selectedCost = Long.MAX_VALUE;
+                for (final Condition condition : m_conditions.get(i)) {
+                    final Map<String, Integer> counts = valueCounts.get(condition.m_key);
+                    final long cost = condition.values().mapToLong(counts::get).sum();
+                    if (cost < selectedCost) {
+                        selected = condition;
+                        selectedCost = cost;
+                    }
+                }
+
+                if (selected == null) {
+                    fallback.add(positions[i]);
+                } else {
+                    final Condition condition = selected;
+                    fields.computeIfAbsent(condition.m_key, k -> new FieldIndex(condition.m_field)).add(condition, positions[i]);
+                }
+            }
+
+            m_conditions.clear();
+            m_fallback = fallback.toArray();
+            m_fields = fields.values().toArray(new FieldIndex[0]);
+            for (final FieldIndex field : m_fields) {
+                field.compile();
+            }
+        }
+
+        private void collect(final org.opennms.netmgt.xml.event.Event matchingEvent, final List<int[]> candidates) {
+            addCandidates(candidates, m_fallback);
+            for (final FieldIndex field : m_fields) {
+                field.collect(matchingEvent, candidates);
+            }
+        }
+    }
+
+    /**
+     * A mask element or varbind that must be matched by an event for the definition to match.
+     */
+    private static final class Condition {
+        private final String m_key;
+        private final Field m_field;
+        private final List<String> m_exact = new ArrayList<>(1);
+        private final List<String> m_prefixes = new ArrayList<>(0);
+
+        private Condition(final String key, final Field field) {
+            m_key = key;
+            m_field = field;
+        }
+
+        private Stream<String> values() {
+            return Stream.concat(m_exact.stream(), m_prefixes.stream().map(prefix -> prefix + "%"));
+        }
+
+        /**
+         * Mirrors {@link Event#matches(org.opennms.netmgt.xml.event.Event)}: returns the indexable
+         * conditions of the definition, or null if the definition can never match.
+         */
+        private static List<Condition> of(final Event event) {
+            final Mask mask = event.getMask();
+            if (mask == null || mask.getMaskelements().isEmpty()) {
+                if (event.getUei() == null) {
+                    return null;
+                }
+                final Condition uei = new Condition(Maskelement.TAG_UEI, EventMatchers.field(Maskelement.TAG_UEI));
+                uei.m_exact.add(event.getUei());
+                return Collections.singletonList(uei);
+            }
+
+            final List<Condition> conditions = new ArrayList<>(mask.getMaskelements().size() + mask.getVarbinds().size());
+            for (final Maskelement element : mask.getMaskelements()) {
+                final Condition condition = new Condition(element.getMename(), EventMatchers.field(element.getMename()));
+                if (condition.addValues(element.getMevalues())) {
+                    conditions.add(condition);
+                }
+            }
+            for (final Varbind varbind : mask.getVarbinds()) {
+                if (varbind.getVbnumber() == null) {
+                    continue;
+                }
+                final Condition condition = new Condition("varbind#" + varbind.getVbnumber(), EventMatchers.varbind(varbind.getVbnumber()));
+                if (condition.addValues(varbind.getVbvalues())) {
+                    conditions.add(condition);
+                }
+            }
+            return conditions;
+        }
+
+        private boolean addValues(final List<String> values) {
+            for (final String value : values) {
+                if (value == null) {
+                    continue;
+                }
+                if (value.startsWith("~")) {
+                    // Regular expressions are not indexed
+                    return false;
+                } else if (value.endsWith("%")) {
+                    m_prefixes.add(value.substring(0, value.length() - 1));
+                } else {
+                    m_exact.add(value);
+                }
+            }
+            return !m_exact.isEmpty() || !m_prefixes.isEmpty();
+        }
+    }
+
+    /**
+     * Exact values and prefixes of a single field.
+     */
+    private static final class FieldIndex {
+        private final Field m_field;
+        private final Map<String, IntList> m_exactBuilder = new HashMap<>();
+        private final PrefixNode m_prefixes = new PrefixNode();
+        private Map<String, int[]> m_exact;
+        private boolean m_hasPrefixes;
+
+        private FieldIndex(final Field field) {
+            m_field = field;
+        }
+
+        private void add(final Condition condition, final int position) {
+            for (final String value : condition.m_exact) {
+                m_exactBuilder.computeIfAbsent(value, k -> new IntList()).add(position);
+            }
+            for (final String prefix : condition.m_prefixes) {
+                PrefixNode node = m_prefixes;
+                for (int i = 0; i < prefix.length(); i++) {
+                    node = node.child(prefix.charAt(i));
+                }
+                node.m_positionsBuilder.add(position);
+                m_hasPrefixes = true;
+            }
+        }
+
+        private void compile() {
+            m_exact = EventMatcherIndex.compile(m_exactBuilder);
+            m_exactBuilder.clear();
+            m_prefixes.compile();
+        }
+
+        private void collect(final org.opennms.netmgt.xml.event.Event matchingEvent, final List<int[]> candidates) {
+            final String value = m_field.get(matchingEvent);
+            if (value == null) {
+                return;
+            }
+            addCandidates(candidates, m_exact.get(value));
+            if (m_hasPrefixes) {
+                m_prefixes.collect(value, candidates);
+            }
+        }
+    }
+
+    /**
+     * Node of the prefix trie, the children are kept in a sorted array once compiled.
+     */
+    private static final class PrefixNode {
+        private TreeMap<Character, PrefixNode> m_builder = new TreeMap<>();
+        private final IntList m_positionsBuilder = new IntList();
+        private char[] m_chars;
+        private PrefixNode[] m_children;
+        private int[] m_positions;
+
+        private PrefixNode child(final char c) {
+            return m_builder.computeIfAbsent(c, k -> new PrefixNode());
+        }
+
+        private void compile() {
+            m_chars = new char[m_builder.size()];
+            m_children = new PrefixNode[m_builder.size()];
+            int i = 0;
+            for (final Map.Entry<Character, PrefixNode> entry : m_builder.entrySet()) {
+                m_chars[i] = entry.getKey();
+                m_children[i] = entry.getValue();
+                m_children[i].compile();
+                i++;
+            }
+            m_builder = null;
+            m_positions = m_positionsBuilder.toArray();
+        }
+
+        private void collect(final String value, final List<int[]> candidates) {
+            PrefixNode node = this;
+            for (int i = 0; ; i++) {
+                addCandidates(candidates, node.m_positions);
+                if (i == value.length()) {
+                    return;
+                }
+                final int child = Arrays.binarySearch(node.m_chars, value.charAt(i));
+                if (child < 0) {
+                    return;
+                }
+                node = node.m_children[child];
+            }
+        }
+    }
+
+    /**
+     * Ascending list of definition positions, duplicates are ignored.
+     */
+    private static final class IntList {
+        private int[] m_values = NONE;
+        private int m_size;
+
+        private void add(final int value) {
+            if (m_size > 0 && m_values[m_size - 1] == value) {
+                return;
+            }
+            if (m_size == m_values.length) {
+                m_values = Arrays.copyOf(m_values, Math.max(4, m_size * 2));
+            }
+            m_values[m_size++] = value;
+        }
+
+        private int[] toArray() {
+            return m_size == 0 ? NONE : Arrays.copyOf(m_values, m_size);
+        }
+    }
+}
@@ -70,6 +70,11 @@ import org.springframework.util.StringUtils;
 public class Events implements Serializable {
     private static final DefaultResourceLoader RESOURCE_LOADER = new DefaultResourceLoader();
 
+    /**
+     * Set to false to search the event definitions linearly instead of using the {@link EventMatcherIndex}.
+     */
+    public static final String MATCHER_INDEX_SYS_PROP = "org.opennms.eventconf.matcherIndex";
+
     public interface EventCallback<T> {
         public T process(T accum, Event event);
     }
@@ -113,6 +118,10 @@ public class Events implements Serializable {
     @XmlTransient
     private EventOrdering m_ordering;
 
+    private transient boolean m_matcherIndexEnabled;
+
+    private transient volatile EventMatcherIndex m_matcherIndex;
+
     public Global getGlobal() {
         return m_global;
     }
@@ -268,6 +277,10 @@ public class Events implements Serializable {
 
 
     public Event findFirstMatchingEvent(final org.opennms.netmgt.xml.event.Event matchingEvent) {
+        if (m_matcherIndexEnabled) {
+            return getMatcherIndex().findFirstMatchingEvent(matchingEvent);
+        }
+
         // Atempt to match the event definition by UEI
         final String ueiToMatch = matchingEvent.getUei();
         if (ueiToMatch != null) {
@@ -304,6 +317,34 @@ public class Events implements Serializable {
         return null;
     }
 
+    private EventMatcherIndex getMatcherIndex() {
+        // Built by initialize(), or on first use when looking up events of a loaded file directly
+        EventMatcherIndex matcherIndex = m_matcherIndex;
+        if (matcherIndex == null) {
+            synchronized (this) {
+                matcherIndex = m_matcherIndex;
+                if (matcherIndex == null) {
+                    matcherIndex = buildMatcherIndex();
+                    m_matcherIndex = matcherIndex;
+                }
+            }
+        }
+        return matcherIndex;
+    }
+
+    private EventMatcherIndex buildMatcherIndex() {
+        final EventMatcherIndex.Builder builder = new EventMatcherIndex.Builder(m_partition);
+        addToMatcherIndex(builder);
+        return builder.build();
+    }
+
+    private void addToMatcherIndex(final EventMatcherIndex.Builder builder) {
+        builder.addEvents(m_eventsByUei, m_nullPartitionedEvents, m_partitionedEvents);
+        for (final Events subEvents : m_loadedEventFiles.values()) {
+            subEvents.addToMatcherIndex(builder);
+        }
+    }
+
     public Set<Event> findMatchingEvents(final EventCriteria criteria) {
         final Set<Event> results = new HashSet<>();
         for (final Event event : m_events) {
@@ -356,7 +397,20 @@ public class Events implements Serializable {
     }
 
     public void initialize(final Partition partition, final EventOrdering eventOrdering) {
+        initializeEvents(partition, eventOrdering);
+
+        // Lookups running concurrently keep using the previous index until the new one
+        // is complete, it is published with a single volatile write
+        if (m_matcherIndexEnabled) {
+            m_matcherIndex = buildMatcherIndex();
+        } else {
+            m_matcherIndex = null;
+        }
+    }
+
+    private void initializeEvents(final Partition partition, final EventOrdering eventOrdering) {
         m_ordering = eventOrdering;
+        m_matcherIndexEnabled = Boolean.parseBoolean(System.getProperty(MATCHER_INDEX_SYS_PROP, "true"));
 
         for (final Event event : m_events) {
             event.initialize(m_ordering.next());
@@ -365,7 +419,9 @@ public class Events implements Serializable {
         partitionEvents(partition);
 
         for (final Events events : m_loadedEventFiles.values()) {
-            events.initialize(partition, m_ordering.subsequence());
+            events.initializeEvents(partition, m_ordering.subsequence());
+            // Only the index of the root file is used once it is initialized
+            events.m_matcherIndex = null;
         }
 
         // roll up all prioritized events and sort all events by priority
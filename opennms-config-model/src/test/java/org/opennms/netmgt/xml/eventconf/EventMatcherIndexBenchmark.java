@@ -0,0 +1,172 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.xml.eventconf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.core.xml.JaxbUtils;
+import org.opennms.netmgt.xml.event.Parm;
+import org.opennms.netmgt.xml.event.Snmp;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to compare event definition lookups with and without
+ * the {@link EventMatcherIndex} using the eventconf shipped with OpenNMS.
+ * <p>
+ * The events are derived from the mask elements and varbinds of the shipped definitions, mixed with
+ * traps that are not matched by any definition. Run it from the module directory, or point the
+ * eventconf system property to the eventconf.xml to use.
+ */
+public class EventMatcherIndexBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({"true", "false"})
+        public boolean matcherIndex;
+
+        private Events events;
+        private final List<org.opennms.netmgt.xml.event.Event> eventsToMatch = new ArrayList<>();
+        private int next;
+
+        @Setup
+        public void setup() throws Exception {
+            System.setProperty(Events.MATCHER_INDEX_SYS_PROP, Boolean.toString(matcherIndex));
+            final Resource eventconf = new FileSystemResource(System.getProperty("eventconf",
+                    "../opennms-base-assembly/src/main/filtered/etc/eventconf.xml"));
+            events = JaxbUtils.unmarshal(Events.class, eventconf);
+            events.loadEventFiles(eventconf);
+            events.initialize(new EnterpriseIdPartition(), new EventOrdering());
+
+            final Random random = new Random(42);
+            events.forEachEvent(eventsToMatch, (accum, definition) -> {
+                if (definition.getMask() != null) {
+                    accum.add(toEvent(definition));
+                    accum.add(unknownTrap(random));
+                }
+                return accum;
+            });
+            Collections.shuffle(eventsToMatch, random);
+        }
+
+        private org.opennms.netmgt.xml.event.Event nextEvent() {
+            if (next == eventsToMatch.size()) {
+                next = 0;
+            }
+            return eventsToMatch.get(next++);
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public Event findFirstMatchingEvent(BState state) {
+        return state.events.findFirstMatchingEvent(state.nextEvent());
+    }
+
+    private static org.opennms.netmgt.xml.event.Event toEvent(final Event definition) {
+        final org.opennms.netmgt.xml.event.Event event = new org.opennms.netmgt.xml.event.Event();
+        final Snmp snmp = new Snmp();
+        for (final Maskelement element : definition.getMask().getMaskelements()) {
+            final String value = firstValue(element.getMevalues());
+            if (value == null) {
+                continue;
+            }
+            switch (element.getMename()) {
+                case Maskelement.TAG_SNMP_EID:
+                    snmp.setId(value);
+                    break;
+                case Maskelement.TAG_SNMP_TRAPOID:
+                    snmp.setTrapOID(value);
+                    break;
+                case Maskelement.TAG_SNMP_GENERIC:
+                    snmp.setGeneric(Integer.parseInt(value));
+                    break;
+                case Maskelement.TAG_SNMP_SPECIFIC:
+                    snmp.setSpecific(Integer.parseInt(value));
+                    break;
+                case Maskelement.TAG_SOURCE:
+                    event.setSource(value);
+                    break;
+                case Maskelement.TAG_HOST:
+                    event.setHost(value);
+                    break;
+                case Maskelement.TAG_SNMPHOST:
+                    event.setSnmphost(value);
+                    break;
+                default:
+                    if (element.getMename().startsWith("parm[")) {
+                        event.addParm(new Parm(element.getMename().substring(5, element.getMename().length() - 1), value));
+                    }
+            }
+        }
+        for (final Varbind varbind : definition.getMask().getVarbinds()) {
+            final String value = firstValue(varbind.getVbvalues());
+            if (varbind.getVbnumber() == null || value == null) {
+                continue;
+            }
+            while (event.getParmCollection().size() < varbind.getVbnumber()) {
+                event.addParm(new Parm("vb" + event.getParmCollection().size(), "0"));
+            }
+            event.getParmCollection().get(varbind.getVbnumber() - 1).getValue().setContent(value);
+        }
+        event.setSnmp(snmp);
+        return event;
+    }
+
+    private static String firstValue(final List<String> values) {
+        for (final String value : values) {
+            if (value != null && !value.startsWith("~")) {
+                return value.endsWith("%") ? value.substring(0, value.length() - 1) : value;
+            }
+        }
+        return null;
+    }
+
+    private static org.opennms.netmgt.xml.event.Event unknownTrap(final Random random) {
+        final org.opennms.netmgt.xml.event.Event event = new org.opennms.netmgt.xml.event.Event();
+        final Snmp snmp = new Snmp();
+        snmp.setId(".1.3.6.1.4.1." + (100000 + random.nextInt(1000)));
+        snmp.setGeneric(6);
+        snmp.setSpecific(random.nextInt(100));
+        event.setSnmp(snmp);
+        event.addParm(new Parm("vb0", Integer.toString(random.nextInt(10))));
+        return event;
+    }
+}
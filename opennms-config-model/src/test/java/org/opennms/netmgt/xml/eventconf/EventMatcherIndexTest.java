@@ -0,0 +1,342 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.xml.eventconf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.netmgt.xml.event.Parm;
+import org.opennms.netmgt.xml.event.Snmp;
+
+/**
+ * Verifies that looking up event definitions with the {@link EventMatcherIndex} returns
+ * the same definitions as the linear scan for randomly generated configurations and events.
+ */
+public class EventMatcherIndexTest {
+
+    private static final String[] UEIS = { "uei.opennms.org/a", "uei.opennms.org/b", "uei.opennms.org/c", "uei.opennms.org/ab" };
+    private static final String[] IDS = { ".1.3.6.1.4.1.9", ".1.3.6.1.4.1.9.9", ".1.3.6.1.4.1.2636", ".1.3.6.1.4.1.5813" };
+    private static final String[] VALUES = { "0", "1", "2", "6", "10", "12", "up", "down", "downstream", "" };
+    private static final String[] MASK_ELEMENTS = { "uei", "id", "generic", "specific", "source", "host", "snmphost", "trapoid", "parm[ifName]" };
+
+    @After
+    public void tearDown() {
+        System.clearProperty(Events.MATCHER_INDEX_SYS_PROP);
+    }
+
+    @Test
+    public void shouldMatchLikeLinearScan() {
+        for (long seed = 0; seed < 200; seed++) {
+            final Events indexed = createEvents(new Random(seed), true);
+            final Events scanned = createEvents(new Random(seed), false);
+
+            final Random random = new Random(~seed);
+            for (int i = 0; i < 500; i++) {
+                final long eventSeed = random.nextLong();
+                final Event expected = scanned.findFirstMatchingEvent(createEvent(new Random(eventSeed)));
+                final Event actual = indexed.findFirstMatchingEvent(createEvent(new Random(eventSeed)));
+                assertEquals("seed " + seed + ", event seed " + eventSeed,
+                        expected == null ? null : expected.getEventLabel(),
+                        actual == null ? null : actual.getEventLabel());
+            }
+        }
+    }
+
+    @Test
+    public void shouldMatchPrefixesAndVarbinds() {
+        final Events events = new Events();
+        events.addEvent(definition("regex", 0, mask(element("trapoid", "~^\\.1\\.3\\.6\\.1\\.4\\.1\\.9\\..*$"))));
+        events.addEvent(definition("prefix", 0, mask(element("trapoid", ".1.3.6.1.4.1.9%", ".1.3.6.1.4.1.2636.1%"))));
+        events.addEvent(definition("varbind", 5, mask(element("generic", "6"), varbind(2, "down", "up"))));
+        events.initialize(new EnterpriseIdPartition(), new EventOrdering());
+
+        assertEquals("varbind", events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.9", ".1.3.6.1.4.1.9.1.2", "1", "up")).getEventLabel());
+        assertEquals("regex", events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.9", ".1.3.6.1.4.1.9.1.2", "1", "other")).getEventLabel());
+        assertEquals("prefix", events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.2636", ".1.3.6.1.4.1.2636.1.1", "1", "other")).getEventLabel());
+        assertNull(events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.2636", ".1.3.6.1.4.1.2636.2", "1", "other")));
+    }
+
+    @Test
+    public void shouldMatchByUeiBeforeMasks() {
+        final Events events = new Events();
+        events.addEvent(definition("generic", 0, mask(element("generic", "6"))));
+        final Events loaded = new Events();
+        loaded.addEvent(definition("masked", 0, mask(element("specific", "1"))));
+        events.addLoadedEventFile("events/loaded.xml", loaded);
+        events.initialize(new EnterpriseIdPartition(), new EventOrdering());
+
+        final org.opennms.netmgt.xml.event.Event event = trap(".1.3.6.1.4.1.9", ".1.3.6.1.4.1.9.1.2");
+        assertEquals("generic", events.findFirstMatchingEvent(event).getEventLabel());
+        event.setUei("uei.opennms.org/masked");
+        assertEquals("masked", events.findFirstMatchingEvent(event).getEventLabel());
+        event.getSnmp().setGeneric(0);
+        event.getSnmp().setSpecific(0);
+        assertEquals("masked", events.findFirstMatchingEvent(event).getEventLabel());
+    }
+
+    @Test
+    public void shouldMatchWhileReloading() throws Exception {
+        final Events events = new Events();
+        final Events loaded = new Events();
+        for (int i = 0; i < 50; i++) {
+            events.addEvent(definition("root-" + i, 0, mask(element("specific", Integer.toString(i)))));
+            loaded.addEvent(definition("loaded-" + i, 0, mask(element("specific", Integer.toString(100 + i)))));
+        }
+        events.addLoadedEventFile("events/loaded.xml", loaded);
+        final Events programmatic = new Events();
+        events.addLoadedEventFile("events/programmatic.xml", programmatic);
+        events.initialize(new EnterpriseIdPartition(), new EventOrdering());
+
+        // Reload the definitions like DefaultEventConfDao.addEventToProgrammaticStore() while looking up events
+        final AtomicBoolean done = new AtomicBoolean();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Future<?> reloads = executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    programmatic.addEvent(definition("programmatic-" + i, 0, mask(element("specific", Integer.toString(1000 + i)))));
+                    events.initialize(new EnterpriseIdPartition(), new EventOrdering());
+                }
+                done.set(true);
+            });
+            final Future<?>[] lookups = new Future<?>[3];
+            for (int t = 0; t < lookups.length; t++) {
+                lookups[t] = executor.submit(() -> {
+                    final Random random = new Random();
+                    while (!done.get()) {
+                        assertLookups(events, random.nextInt(50));
+                    }
+                });
+            }
+            reloads.get(60, TimeUnit.SECONDS);
+            for (final Future<?> lookup : lookups) {
+                lookup.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < 50; i++) {
+            assertLookups(events, i);
+        }
+        assertEquals("programmatic-499", events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.9", ".1.3.6.1.4.1.9.1.2", 1499)).getEventLabel());
+    }
+
+    private static void assertLookups(final Events events, final int i) {
+        assertEquals("root-" + i, events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.9", ".1.3.6.1.4.1.9.1.2", i)).getEventLabel());
+        assertEquals("loaded-" + i, events.findFirstMatchingEvent(trap(".1.3.6.1.4.1.9", ".1.3.6.1.4.1.9.1.2", 100 + i)).getEventLabel());
+    }
+
+    private static Events createEvents(final Random random, final boolean useIndex) {
+        System.setProperty(Events.MATCHER_INDEX_SYS_PROP, Boolean.toString(useIndex));
+
+        final Events root = new Events();
+        int label = 0;
+        for (int file = 0; file < 3; file++) {
+            final Events events = file == 0 ? root : new Events();
+            final int count = random.nextInt(30);
+            for (int i = 0; i < count; i++) {
+                events.addEvent(createDefinition(random, "def-" + label++));
+            }
+            if (file > 0) {
+                root.addLoadedEventFile("events/file" + file + ".xml", events);
+            }
+        }
+        root.initialize(new EnterpriseIdPartition(), new EventOrdering());
+        return root;
+    }
+
+    private static Event createDefinition(final Random random, final String label) {
+        final Event event = new Event();
+        event.setEventLabel(label);
+        final int uei = random.nextInt(8);
+        if (uei == 1) {
+            // unique UEIs are found by the UEI lookup
+            event.setUei("uei.opennms.org/" + label);
+        } else if (uei > 1) {
+            event.setUei(pick(random, UEIS));
+        }
+        event.setPriority(random.nextInt(5) == 0 ? random.nextInt(3) : 0);
+        if (random.nextInt(5) == 0) {
+            return event;
+        }
+
+        final Mask mask = new Mask();
+        final int elements = random.nextInt(4);
+        for (int i = 0; i < elements; i++) {
+            final String name = pick(random, MASK_ELEMENTS);
+            if (mask.getMaskElement(name) != null) {
+                continue;
+            }
+            final Maskelement element = new Maskelement();
+            element.setMename(name);
+            final int values = 1 + random.nextInt(3);
+            for (int j = 0; j < values; j++) {
+                element.addMevalue(randomMaskValue(random, name));
+            }
+            mask.addMaskelement(element);
+        }
+        final int varbinds = random.nextInt(3);
+        for (int i = 0; i < varbinds; i++) {
+            final Varbind varbind = new Varbind();
+            varbind.setVbnumber(1 + random.nextInt(3));
+            final int values = 1 + random.nextInt(2);
+            for (int j = 0; j < values; j++) {
+                varbind.addVbvalue(randomMaskValue(random, "varbind"));
+            }
+            mask.addVarbind(varbind);
+        }
+        event.setMask(mask);
+        return event;
+    }
+
+    private static String randomMaskValue(final Random random, final String name) {
+        final String value;
+        if ("uei".equals(name)) {
+            value = pick(random, UEIS);
+        } else if ("id".equals(name) || "trapoid".equals(name)) {
+            value = pick(random, IDS);
+        } else {
+            value = pick(random, VALUES);
+        }
+
+        switch (random.nextInt(6)) {
+            case 0:
+                // prefix, possibly empty
+                return value.substring(0, random.nextInt(value.length() + 1)) + "%";
+            case 1:
+                return "~^" + value.replace(".", "\\.") + ".*$";
+            case 2:
+                return "~(?<captured>" + value.replace(".", "\\.") + ")";
+            default:
+                return value;
+        }
+    }
+
+    private static org.opennms.netmgt.xml.event.Event createEvent(final Random random) {
+        final org.opennms.netmgt.xml.event.Event event = new org.opennms.netmgt.xml.event.Event();
+        if (random.nextInt(4) == 0) {
+            event.setUei(random.nextBoolean() ? pick(random, UEIS) : "uei.opennms.org/def-" + random.nextInt(90));
+        }
+        if (random.nextBoolean()) {
+            event.setSource(pick(random, VALUES));
+        }
+        if (random.nextBoolean()) {
+            event.setHost(pick(random, VALUES));
+        }
+        if (random.nextBoolean()) {
+            event.setSnmphost(pick(random, VALUES));
+        }
+        if (random.nextInt(4) != 0) {
+            final Snmp snmp = new Snmp();
+            snmp.setId(randomEventValue(random, IDS));
+            if (random.nextBoolean()) {
+                snmp.setTrapOID(randomEventValue(random, IDS));
+            }
+            if (random.nextBoolean()) {
+                snmp.setGeneric(random.nextInt(7));
+            }
+            if (random.nextBoolean()) {
+                snmp.setSpecific(random.nextInt(13));
+            }
+            event.setSnmp(snmp);
+        }
+        final int parms = random.nextInt(4);
+        for (int i = 0; i < parms; i++) {
+            event.addParm(new Parm(random.nextBoolean() ? "ifName" : "ifIndex", randomEventValue(random, VALUES)));
+        }
+        return event;
+    }
+
+    private static String randomEventValue(final Random random, final String[] values) {
+        final String value = pick(random, values);
+        return random.nextInt(4) == 0 ? value + pick(random, VALUES) : value;
+    }
+
+    private static String pick(final Random random, final String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static Event definition(final String label, final int priority, final Mask mask) {
+        final Event event = new Event();
+        event.setEventLabel(label);
+        event.setUei("uei.opennms.org/" + label);
+        event.setPriority(priority);
+        event.setMask(mask);
+        return event;
+    }
+
+    private static Mask mask(final Maskelement element, final Varbind... varbinds) {
+        final Mask mask = new Mask();
+        mask.addMaskelement(element);
+        for (final Varbind varbind : varbinds) {
+            mask.addVarbind(varbind);
+        }
+        return mask;
+    }
+
+    private static Maskelement element(final String name, final String... values) {
+        final Maskelement element = new Maskelement();
+        element.setMename(name);
+        for (final String value : values) {
+            element.addMevalue(value);
+        }
+        return element;
+    }
+
+    private static Varbind varbind(final int number, final String... values) {
+        final Varbind varbind = new Varbind();
+        varbind.setVbnumber(number);
+        for (final String value : values) {
+            varbind.addVbvalue(value);
+        }
+        return varbind;
+    }
+
+    private static org.opennms.netmgt.xml.event.Event trap(final String id, final String trapOid, final int specific) {
+        final org.opennms.netmgt.xml.event.Event event = trap(id, trapOid);
+        event.getSnmp().setSpecific(specific);
+        return event;
+    }
+
+    private static org.opennms.netmgt.xml.event.Event trap(final String id, final String trapOid, final String... varbinds) {
+        final org.opennms.netmgt.xml.event.Event event = new org.opennms.netmgt.xml.event.Event();
+        final Snmp snmp = new Snmp();
+        snmp.setId(id);
+        snmp.setTrapOID(trapOid);
+        snmp.setGeneric(6);
+        snmp.setSpecific(1);
+        event.setSnmp(snmp);
+        for (int i = 0; i < varbinds.length; i++) {
+            event.addParm(new Parm("vb" + i, varbinds[i]));
+        }
+        return event;
+    }
+}
@@ -0,0 +1,776 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.filter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.opennms.core.utils.IPLike;
+import org.opennms.netmgt.config.api.DatabaseSchemaConfig;
+import org.opennms.netmgt.config.filter.Table;
+import org.opennms.netmgt.filter.api.FilterParseException;
+
+/**
+ * A filter rule compiled to a predicate over the rows of a {@link FilterInventory}.
+ *
+ * The rule grammar is the one accepted by {@link JdbcFilterDao}, including the filter specific
+ * operator aliases, the {@code IPLIKE} operator and the {@code is} and {@code catinc} prefixed
+ * values. Rows are built like the joins generated for the SQL statement:
+ * one row per interface, multiplied by the services and categories of the interface if the rule
+ * references them. Comparisons follow the SQL semantics, including {@code NULL} handling.
+ *
+ * Rules using anything else ({@code notis}, casts, timestamps, application columns, ...) can not be
+ * compiled and throw an {@link UnsupportedRuleException}. These must be evaluated in the database.
+ */
+public class CompiledFilterRule {
+
+    /**
+     * Thrown if a rule uses a construct that can only be evaluated by the database.
+     */
+    public static class UnsupportedRuleException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public UnsupportedRuleException(final String message) {
+            super(message);
+        }
+    }
+
+    enum Source {
+        NODE, IP_INTERFACE, SNMP_INTERFACE, SERVICE, CATEGORY, ASSETS
+    }
+
+    /**
+     * A single row of the joined inventory tables.
+     */
+    static final class Row {
+        final FilterInventory.Node node;
+        final FilterInventory.Interface iface;
+        final Map<String, Object> service;
+        final Map<String, Object> category;
+
+        Row(final FilterInventory.Node node, final FilterInventory.Interface iface,
+            final Map<String, Object> service, final Map<String, Object> category) {
+            this.node = node;
+            this.iface = iface;
+            this.service = service;
+            this.category = category;
+        }
+
+        Map<String, Object> get(final Source source) {
+            switch (source) {
+                case NODE: return node.getColumns();
+                case IP_INTERFACE: return iface.getColumns();
+                case SNMP_INTERFACE: return iface.getSnmpInterface();
+                case SERVICE: return service;
+                case CATEGORY: return category;
+                case ASSETS: return node.getAssets();
+                default: throw new IllegalArgumentException(source.name());
+            }
+        }
+    }
+
+    private static final Pattern VALUE_COLUMN_PATTERN = Pattern.compile("[a-zA-Z0-9_\\-]*[a-zA-Z][a-zA-Z0-9_\\-]*");
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("-?[0-9]+(?:\\.[0-9]+)?");
+    private static final Pattern IPLIKE_RHS_PATTERN = Pattern.compile("[0-9a-fA-F.:*,\\-]+");
+
+    private final String m_rule;
+    private final Expr m_expr;
+    private final Set<Source> m_sources;
+    private final boolean m_mentionsIsManaged;
+
+    private CompiledFilterRule(final String rule, final Expr expr, final Set<Source> sources, final boolean mentionsIsManaged) {
+        m_rule = rule;
+        m_expr = expr;
+        m_sources = sources;
+        m_mentionsIsManaged = mentionsIsManaged;
+    }
+
+    /**
+     * Compiles the rule.
+     *
+     * @throws FilterParseException if the rule is invalid
+     * @throws UnsupportedRuleException if the rule is valid but can not be evaluated in memory
+     */
+    public static CompiledFilterRule compile(final String rule, final DatabaseSchemaConfig schema) throws FilterParseException {
+        final Parser parser = new Parser(rule, schema);
+        final Expr expr = parser.parse();
+        return new CompiledFilterRule(rule, expr, parser.sources, parser.mentionsIsManaged);
+    }
+
+    public String getRule() {
+        return m_rule;
+    }
+
+    /**
+     * {@link JdbcFilterDao} only excludes deleted interfaces from the active addresses if the
+     * generated SQL does not already mention {@code isManaged}.
+     */
+    public boolean mentionsIsManaged() {
+        return m_mentionsIsManaged;
+    }
+
+    /**
+     * Calls the consumer for every row of the node matching the rule.
+     *
+     * @param withServices join the services even if the rule does not reference them, as done
+     *                     when selecting the service name
+     */
+    void forEachMatch(final FilterInventory inventory, final FilterInventory.Node node, final boolean withServices,
+                      final Consumer<Row> consumer) {
+        if (m_sources.contains(Source.ASSETS) && node.getAssets() == null) {
+            return;
+        }
+
+        final List<Map<String, Object>> categories = m_sources.contains(Source.CATEGORY) && !node.getCategories().isEmpty()
+                ? node.getCategories()
+                : Collections.singletonList(null);
+
+        for (final FilterInventory.Interface iface : node.getInterfaces()) {
+            if (m_sources.contains(Source.SNMP_INTERFACE) && iface.getSnmpInterface() == null) {
+                continue;
+            }
+            final List<Map<String, Object>> services = withServices || m_sources.contains(Source.SERVICE)
+                    ? iface.getServices()
+                    : Collections.singletonList(null);
+            for (final Map<String, Object> service : services) {
+                for (final Map<String, Object> category : categories) {
+                    final Row row = new Row(node, iface, service, category);
+                    if (Boolean.TRUE.equals(m_expr.eval(row, inventory))) {
+                        consumer.accept(row);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return m_rule;
+    }
+
+    /*
+     * Expressions evaluate to TRUE, FALSE or null for the SQL UNKNOWN.
+     */
+
+    private interface Expr {
+        Boolean eval(Row row, FilterInventory inventory);
+    }
+
+    private interface Operand {
+        Object value(Row row);
+    }
+
+    private static final class Literal implements Operand {
+        private final Object value;
+        private final boolean quoted;
+
+        private Literal(final Object value, final boolean quoted) {
+            this.value = value;
+            this.quoted = quoted;
+        }
+
+        @Override
+        public Object value(final Row row) {
+            return quoted ? new Untyped((String) value) : value;
+        }
+    }
+
+    /**
+     * A quoted literal, which takes the type of the value it is compared to.
+     */
+    private static final class Untyped {
+        private final String value;
+
+        private Untyped(final String value) {
+            this.value = value;
+        }
+    }
+
+    private static final class Column implements Operand {
+        private final Source source;
+        private final String name;
+
+        private Column(final Source source, final String name) {
+            this.source = source;
+            this.name = name;
+        }
+
+        @Override
+        public Object value(final Row row) {
+            final Map<String, Object> columns = row.get(source);
+            return columns != null ? columns.get(name) : null;
+        }
+    }
+
+    private static Boolean and(final Boolean a, final Boolean b) {
+        if (Boolean.FALSE.equals(a) || Boolean.FALSE.equals(b)) {
+            return false;
+        }
+        return a == null || b == null ? null : true;
+    }
+
+    private static Boolean or(final Boolean a, final Boolean b) {
+        if (Boolean.TRUE.equals(a) || Boolean.TRUE.equals(b)) {
+            return true;
+        }
+        return a == null || b == null ? null : false;
+    }
+
+    private static Boolean not(final Boolean a) {
+        return a == null ? null : !a;
+    }
+
+    private static Object normalize(final Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Untyped) {
+            return value;
+        }
+        if (value instanceof BigDecimal) {
+            return value;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof Float || value instanceof Double) {
+            return BigDecimal.valueOf(((Number) value).doubleValue());
+        }
+        if (value instanceof Character) {
+            return value.toString();
+        }
+        throw new UnsupportedRuleException("Unsupported value type " + value.getClass().getName());
+    }
+
+    private static Object coerce(final Untyped untyped, final Object other) {
+        if (other instanceof BigDecimal) {
+            try {
+                return new BigDecimal(untyped.value.trim());
+            } catch (final NumberFormatException e) {
+                throw new UnsupportedRuleException("Can not compare number to '" + untyped.value + "'");
+            }
+        }
+        if (other instanceof Boolean) {
+            switch (untyped.value.trim().toLowerCase(Locale.ROOT)) {
+                case "t": case "true": case "y": case "yes": case "on": case "1":
+                    return true;
+                case "f": case "false": case "n": case "no": case "off": case "0":
+                    return false;
+                default:
+                    throw new UnsupportedRuleException("Can not compare boolean to '" + untyped.value + "'");
+            }
+        }
+        return untyped.value;
+    }
+
+    /**
+     * Compares two values, returning null if any of them is NULL.
+     */
+    private static Integer compare(final Object left, final Object right, final boolean ordering) {
+        Object a = normalize(left);
+        Object b = normalize(right);
+        if (a == null || b == null) {
+            return null;
+        }
+        if (a instanceof Untyped && b instanceof Untyped) {
+            a = ((Untyped) a).value;
+            b = ((Untyped) b).value;
+        } else if (a instanceof Untyped) {
+            a = coerce((Untyped) a, b);
+        } else if (b instanceof Untyped) {
+            b = coerce((Untyped) b, a);
+        }
+
+        if (a instanceof BigDecimal && b instanceof BigDecimal) {
+            return ((BigDecimal) a).compareTo((BigDecimal) b);
+        }
+        if (a instanceof Boolean && b instanceof Boolean) {
+            return Boolean.compare((Boolean) a, (Boolean) b);
+        }
+        if (a instanceof String && b instanceof String) {
+            if (ordering) {
+                // Ordering depends on the collation of the database
+                throw new UnsupportedRuleException("Ordering of strings is not supported");
+            }
+            return a.equals(b) ? 0 : 1;
+        }
+        throw new UnsupportedRuleException("Can not compare " + a.getClass().getSimpleName() + " to " + b.getClass().getSimpleName());
+    }
+
+    private static String stringValue(final Object value) {
+        final Object v = normalize(value);
+        if (v == null) {
+            return null;
+        }
+        if (v instanceof Untyped) {
+            return ((Untyped) v).value;
+        }
+        if (v instanceof String) {
+            return (String) v;
+        }
+        throw new UnsupportedRuleException("Expected a string but got " + v.getClass().getSimpleName());
+    }
+
+    static Pattern likePattern(final String like) {
+        final StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < like.length(); i++) {
+            final char c = like.charAt(i);
+            if (c == '\\' && i + 1 < like.length()) {
+                regex.append(Pattern.quote(String.valueOf(like.charAt(++i))));
+            } else if (c == '%') {
+                regex.append(".*");
+            } else if (c == '_') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private enum TokenType {
+        STRING, WORD, OPERATOR, LPAREN, RPAREN, COMMA, END
+    }
+
+    private static final class Token {
+        private final TokenType type;
+        private final String text;
+
+        private Token(final TokenType type, final String text) {
+            this.type = type;
+            this.text = text;
+        }
+
+        private boolean isKeyword(final String keyword) {
+            return type == TokenType.WORD && text.equalsIgnoreCase(keyword);
+        }
+
+        private boolean isOperator(final String... operators) {
+            if (type != TokenType.OPERATOR) {
+                return false;
+            }
+            for (final String operator : operators) {
+                if (text.equals(operator)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Parser {
+        private final String rule;
+        private final DatabaseSchemaConfig schema;
+        private final Set<Source> sources = EnumSet.noneOf(Source.class);
+        private boolean mentionsIsManaged = false;
+
+        private int position = 0;
+        private Token token;
+
+        private Parser(final String rule, final DatabaseSchemaConfig schema) {
+            this.rule = Objects.requireNonNull(rule);
+            this.schema = Objects.requireNonNull(schema);
+        }
+
+        private Expr parse() throws FilterParseException {
+            advance();
+            if (token.type == TokenType.END) {
+                return (row, inventory) -> true;
+            }
+            final Expr expr = parseOr();
+            if (token.type != TokenType.END) {
+                throw new UnsupportedRuleException("Unexpected '" + token.text + "'");
+            }
+            return expr;
+        }
+
+        private Expr parseOr() throws FilterParseException {
+            Expr expr = parseAnd();
+            while (token.isKeyword("OR") || token.isOperator("|", "||")) {
+                advance();
+                final Expr left = expr;
+                final Expr right = parseAnd();
+                expr = (row, inventory) -> or(left.eval(row, inventory), right.eval(row, inventory));
+            }
+            return expr;
+        }
+
+        private Expr parseAnd() throws FilterParseException {
+            Expr expr = parseNot();
+            while (token.isKeyword("AND") || token.isOperator("&", "&&")) {
+                advance();
+                final Expr left = expr;
+                final Expr right = parseNot();
+                expr = (row, inventory) -> and(left.eval(row, inventory), right.eval(row, inventory));
+            }
+            return expr;
+        }
+
+        private Expr parseNot() throws FilterParseException {
+            if (token.isKeyword("NOT") || token.isOperator("!")) {
+                advance();
+                final Expr expr = parseNot();
+                return (row, inventory) -> not(expr.eval(row, inventory));
+            }
+            return parsePredicate();
+        }
+
+        private Expr parsePredicate() throws FilterParseException {
+            if (token.type == TokenType.LPAREN) {
+                advance();
+                final Expr expr = parseOr();
+                expect(TokenType.RPAREN);
+                return expr;
+            }
+
+            if (token.isKeyword("IPLIKE")) {
+                advance();
+                expect(TokenType.LPAREN);
+                final Operand address = parseOperand();
+                expect(TokenType.COMMA);
+                final Operand pattern = parseOperand();
+                expect(TokenType.RPAREN);
+                return ipLike(address, pattern);
+            }
+
+            if (token.type == TokenType.WORD && VALUE_COLUMN_PATTERN.matcher(token.text).matches()) {
+                final String word = token.text;
+                if (word.startsWith("is")) {
+                    advance();
+                    final String serviceName = word.substring(2);
+                    sources.add(Source.SERVICE);
+                    return (row, inventory) -> {
+                        final Object name = row.service.get("servicename");
+                        return name == null ? null : serviceName.equals(name);
+                    };
+                } else if (word.startsWith("notis")) {
+                    // Depends on the services of other nodes with the same address
+                    throw new UnsupportedRuleException("notis is not supported");
+                } else if (word.startsWith("catinc")) {
+                    advance();
+                    final String categoryName = word.substring(6);
+                    return (row, inventory) -> row.node.hasCategory(categoryName);
+                }
+            }
+
+            final Operand left = parseOperand();
+
+            if (token.isOperator("=", "==", "!=", "<>", "<", "<=", ">", ">=")) {
+                final String operator = token.text;
+                advance();
+                final Operand right = parseOperand();
+                return comparison(operator, left, right);
+            }
+
+            boolean negated = false;
+            if (token.isKeyword("NOT")) {
+                negated = true;
+                advance();
+                if (!token.isKeyword("LIKE") && !token.isKeyword("IN")) {
+                    throw new UnsupportedRuleException("Unexpected '" + token.text + "' after NOT");
+                }
+            }
+
+            if (token.isKeyword("LIKE")) {
+                advance();
+                final Operand right = parseOperand();
+                final Expr like = like(left, right);
+                return negated ? (row, inventory) -> not(like.eval(row, inventory)) : like;
+            }
+
+            if (token.isKeyword("IN")) {
+                advance();
+                expect(TokenType.LPAREN);
+                final List<Operand> values = new ArrayList<>();
+                values.add(parseOperand());
+                while (token.type == TokenType.COMMA) {
+                    advance();
+                    values.add(parseOperand());
+                }
+                expect(TokenType.RPAREN);
+                final Expr in = (row, inventory) -> {
+                    final Object value = left.value(row);
+                    Boolean result = false;
+                    for (final Operand operand : values) {
+                        final Integer cmp = compare(value, operand.value(row), false);
+                        result = or(result, cmp == null ? null : cmp == 0);
+                    }
+                    return result;
+                };
+                return negated ? (row, inventory) -> not(in.eval(row, inventory)) : in;
+            }
+
+            if (token.isKeyword("IS")) {
+                advance();
+                boolean isNot = false;
+                if (token.isKeyword("NOT")) {
+                    isNot = true;
+                    advance();
+                }
+                if (token.isKeyword("NULL")) {
+                    advance();
+                    final boolean expectNull = !isNot;
+                    return (row, inventory) -> (left.value(row) == null) == expectNull;
+                }
+                if (token.isKeyword("DISTINCT")) {
+                    advance();
+                    if (!token.isKeyword("FROM")) {
+                        throw new UnsupportedRuleException("Expected FROM after DISTINCT");
+                    }
+                    advance();
+                    final Operand right = parseOperand();
+                    final boolean distinct = !isNot;
+                    return (row, inventory) -> {
+                        final Object a = left.value(row);
+                        final Object b = right.value(row);
+                        final boolean equal = a == null || b == null ? a == b : compare(a, b, false) == 0;
+                        return equal != distinct;
+                    };
+                }
+                throw new UnsupportedRuleException("Unexpected '" + token.text + "' after IS");
+            }
+
+            if (token.isKeyword("IPLIKE")) {
+                // The right hand side of the IPLIKE operator does not need to be quoted
+                final Operand pattern;
+                final String raw = rawIpLikePattern();
+                if (raw != null) {
+                    pattern = new Literal(raw, true);
+                    advance();
+                } else {
+                    advance();
+                    pattern = parseOperand();
+                }
+                return ipLike(left, pattern);
+            }
+
+            throw new UnsupportedRuleException("Unexpected '" + token.text + "'");
+        }
+
+        private Operand parseOperand() throws FilterParseException {
+            final Token current = token;
+            if (current.type == TokenType.STRING) {
+                advance();
+                return new Literal(current.text, true);
+            }
+            if (current.type == TokenType.WORD) {
+                if (NUMBER_PATTERN.matcher(current.text).matches()) {
+                    advance();
+                    return new Literal(new BigDecimal(current.text), false);
+                }
+                if (current.text.startsWith("is") || current.text.startsWith("notis") || current.text.startsWith("catinc")) {
+                    throw new UnsupportedRuleException("Unexpected '" + current.text + "'");
+                }
+                if (VALUE_COLUMN_PATTERN.matcher(current.text).matches() && !isReserved(current.text)) {
+                    advance();
+                    return column(current.text);
+                }
+            }
+            throw new UnsupportedRuleException("Unexpected '" + current.text + "'");
+        }
+
+        private Operand column(final String name) throws FilterParseException {
+            final Table table = schema.findTableByVisibleColumn(name);
+            if (table == null) {
+                throw new FilterParseException("Could not find the column '" + name + "' in filter rule");
+            }
+            final Source source;
+            switch (table.getName().toLowerCase(Locale.ROOT)) {
+                case "node": source = Source.NODE; break;
+                case "ipinterface": source = Source.IP_INTERFACE; break;
+                case "snmpinterface": source = Source.SNMP_INTERFACE; break;
+                case "service": case "ifservices": source = Source.SERVICE; break;
+                case "categories": case "category_node": source = Source.CATEGORY; break;
+                case "assets": source = Source.ASSETS; break;
+                default: throw new UnsupportedRuleException("Columns of table " + table.getName() + " are not supported");
+            }
+            sources.add(source);
+            return new Column(source, name.toLowerCase(Locale.ROOT));
+        }
+
+        private static boolean isReserved(final String word) {
+            switch (word.toUpperCase(Locale.ROOT)) {
+                case "AND": case "OR": case "NOT": case "LIKE": case "IN": case "IS":
+                case "NULL": case "DISTINCT": case "FROM": case "IPLIKE":
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private Expr comparison(final String operator, final Operand left, final Operand right) {
+            switch (operator) {
+                case "=": case "==":
+                    return (row, inventory) -> test(compare(left.value(row), right.value(row), false), c -> c == 0);
+                case "!=": case "<>":
+                    return (row, inventory) -> test(compare(left.value(row), right.value(row), false), c -> c != 0);
+                case "<":
+                    return (row, inventory) -> test(compare(left.value(row), right.value(row), true), c -> c < 0);
+                case "<=":
+                    return (row, inventory) -> test(compare(left.value(row), right.value(row), true), c -> c <= 0);
+                case ">":
+                    return (row, inventory) -> test(compare(left.value(row), right.value(row), true), c -> c > 0);
+                case ">=":
+                    return (row, inventory) -> test(compare(left.value(row), right.value(row), true), c -> c >= 0);
+                default:
+                    throw new UnsupportedRuleException("Unsupported operator " + operator);
+            }
+        }
+
+        private static Boolean test(final Integer comparison, final java.util.function.IntPredicate predicate) {
+            return comparison == null ? null : predicate.test(comparison);
+        }
+
+        private Expr like(final Operand left, final Operand right) {
+            if (right instanceof Literal) {
+                final String value = stringValue(right.value(null));
+                final Pattern pattern = likePattern(value);
+                return (row, inventory) -> {
+                    final String s = stringValue(left.value(row));
+                    return s == null ? null : pattern.matcher(s).matches();
+                };
+            }
+            return (row, inventory) -> {
+                final String s = stringValue(left.value(row));
+                final String p = stringValue(right.value(row));
+                return s == null || p == null ? null : likePattern(p).matcher(s).matches();
+            };
+        }
+
+        private Expr ipLike(final Operand address, final Operand pattern) {
+            return (row, inventory) -> {
+                final String a = stringValue(address.value(row));
+                final String p = stringValue(pattern.value(row));
+                if (a == null || p == null) {
+                    return null;
+                }
+                try {
+                    return IPLike.matches(a, p);
+                } catch (final RuntimeException e) {
+                    throw new UnsupportedRuleException("Can not evaluate IPLIKE(" + a + ", " + p + "): " + e.getMessage());
+                }
+            };
+        }
+
+        private void expect(final TokenType type) {
+            if (token.type != type) {
+                throw new UnsupportedRuleException("Expected " + type + " but got '" + token.text + "'");
+            }
+            advance();
+        }
+
+        /**
+         * Returns the unquoted pattern following the current IPLIKE token, if any, and moves behind it.
+         */
+        private String rawIpLikePattern() {
+            int start = position;
+            while (start < rule.length() && Character.isWhitespace(rule.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < rule.length() && IPLIKE_RHS_PATTERN.matcher(String.valueOf(rule.charAt(end))).matches()) {
+                end++;
+            }
+            if (end == start) {
+                return null;
+            }
+            position = end;
+            return rule.substring(start, end);
+        }
+
+        private void advance() {
+            token = nextToken();
+        }
+
+        private Token nextToken() {
+            while (position < rule.length() && Character.isWhitespace(rule.charAt(position))) {
+                position++;
+            }
+            if (position >= rule.length()) {
+                return new Token(TokenType.END, "<end>");
+            }
+
+            final char c = rule.charAt(position);
+            if (c == '\'' || c == '"') {
+                final StringBuilder value = new StringBuilder();
+                int i = position + 1;
+                while (true) {
+                    if (i >= rule.length()) {
+                        throw new FilterParseException("Unmatched " + c + " in filter rule '" + rule + "'");
+                    }
+                    final char d = rule.charAt(i);
+                    if (d == c) {
+                        if (i + 1 < rule.length() && rule.charAt(i + 1) == c) {
+                            value.append(c);
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    value.append(d);
+                    i++;
+                }
+                position = i + 1;
+                if (value.indexOf("isManaged") >= 0) {
+                    mentionsIsManaged = true;
+                }
+                return new Token(TokenType.STRING, value.toString());
+            }
+            if (c == '(') {
+                position++;
+                return new Token(TokenType.LPAREN, "(");
+            }
+            if (c == ')') {
+                position++;
+                return new Token(TokenType.RPAREN, ")");
+            }
+            if (c == ',') {
+                position++;
+                return new Token(TokenType.COMMA, ",");
+            }
+            for (final String operator : new String[] { "&&", "||", "==", "!=", "<>", "<=", ">=", "&", "|", "!", "=", "<", ">" }) {
+                if (rule.startsWith(operator, position)) {
+                    position += operator.length();
+                    return new Token(TokenType.OPERATOR, operator);
+                }
+            }
+            if (Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.') {
+                final int start = position;
+                while (position < rule.length()) {
+                    final char d = rule.charAt(position);
+                    if (!(Character.isLetterOrDigit(d) || d == '_' || d == '-' || d == '.')) {
+                        break;
+                    }
+                    position++;
+                }
+                return new Token(TokenType.WORD, rule.substring(start, position));
+            }
+            throw new UnsupportedRuleException("Unsupported character '" + c + "'");
+        }
+    }
+}
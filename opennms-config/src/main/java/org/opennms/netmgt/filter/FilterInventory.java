@@ -0,0 +1,271 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.filter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.opennms.core.utils.DBUtils;
+
+/**
+ * In-memory copy of the inventory tables referenced by filter rules.
+ *
+ * Every node is stored as an immutable snapshot with its interfaces, services, categories and
+ * assets. The rows are kept as maps from the lower-cased column name to the value returned by
+ * JDBC, so every column of the database schema can be referenced by a rule. Snapshots are
+ * replaced as a whole when a node is reloaded.
+ */
+public class FilterInventory {
+
+    private static final String NODE_QUERY = "SELECT * FROM node";
+    private static final String INTERFACE_QUERY = "SELECT * FROM ipInterface";
+    private static final String SNMP_INTERFACE_QUERY = "SELECT * FROM snmpInterface";
+    private static final String SERVICE_QUERY = "SELECT ifServices.*, service.serviceName FROM ifServices JOIN service ON ifServices.serviceID = service.serviceID JOIN ipInterface ON ifServices.ipInterfaceID = ipInterface.id";
+    private static final String CATEGORY_QUERY = "SELECT category_node.nodeID, categories.* FROM category_node JOIN categories ON category_node.categoryID = categories.categoryID";
+    private static final String ASSET_QUERY = "SELECT * FROM assets";
+
+    public static final class Node {
+        private final int id;
+        private final Map<String, Object> columns;
+        private final Map<String, Object> assets;
+        private final List<Map<String, Object>> categories;
+        private final List<Interface> interfaces;
+
+        public Node(final int id, final Map<String, Object> columns, final Map<String, Object> assets,
+                    final List<Map<String, Object>> categories, final List<Interface> interfaces) {
+            this.id = id;
+            this.columns = columns;
+            this.assets = assets;
+            this.categories = Collections.unmodifiableList(categories);
+            this.interfaces = Collections.unmodifiableList(interfaces);
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getLabel() {
+            return (String) columns.get("nodelabel");
+        }
+
+        public Map<String, Object> getColumns() {
+            return columns;
+        }
+
+        /**
+         * @return the asset record or {@code null} if the node has none.
+         */
+        public Map<String, Object> getAssets() {
+            return assets;
+        }
+
+        public List<Map<String, Object>> getCategories() {
+            return categories;
+        }
+
+        public List<Interface> getInterfaces() {
+            return interfaces;
+        }
+
+        public boolean hasCategory(final String name) {
+            return categories.stream().anyMatch(c -> name.equals(c.get("categoryname")));
+        }
+    }
+
+    public static final class Interface {
+        private final Map<String, Object> columns;
+        private final Map<String, Object> snmpInterface;
+        private final List<Map<String, Object>> services;
+
+        public Interface(final Map<String, Object> columns, final Map<String, Object> snmpInterface,
+                         final List<Map<String, Object>> services) {
+            this.columns = columns;
+            this.snmpInterface = snmpInterface;
+            this.services = Collections.unmodifiableList(services);
+        }
+
+        public String getIpAddr() {
+            return (String) columns.get("ipaddr");
+        }
+
+        public Map<String, Object> getColumns() {
+            return columns;
+        }
+
+        /**
+         * @return the SNMP interface or {@code null} if the interface is not linked to one.
+         */
+        public Map<String, Object> getSnmpInterface() {
+            return snmpInterface;
+        }
+
+        public List<Map<String, Object>> getServices() {
+            return services;
+        }
+    }
+
+    private final Map<Integer, Node> m_nodes = new ConcurrentHashMap<>();
+
+    public Collection<Node> getNodes() {
+        return Collections.unmodifiableCollection(m_nodes.values());
+    }
+
+    public Node getNode(final int nodeId) {
+        return m_nodes.get(nodeId);
+    }
+
+    public int size() {
+        return m_nodes.size();
+    }
+
+    /**
+     * Adds or replaces the node.
+     *
+     * @return the replaced node or {@code null}
+     */
+    public Node put(final Node node) {
+        return m_nodes.put(node.getId(), node);
+    }
+
+    /**
+     * @return the removed node or {@code null}
+     */
+    public Node remove(final int nodeId) {
+        return m_nodes.remove(nodeId);
+    }
+
+    /**
+     * Replaces the content of the inventory with all nodes from the database.
+     */
+    public synchronized void load(final DataSource dataSource) throws SQLException {
+        final Map<Integer, Node> nodes = query(dataSource, null);
+        m_nodes.keySet().retainAll(nodes.keySet());
+        m_nodes.putAll(nodes);
+    }
+
+    /**
+     * Reloads a single node from the database, removing it if it no longer exists.
+     *
+     * @return the node as it was before the reload or {@code null}
+     */
+    public Node reload(final DataSource dataSource, final int nodeId) throws SQLException {
+        final Node node = query(dataSource, nodeId).get(nodeId);
+        return node != null ? put(node) : remove(nodeId);
+    }
+
+    private static Map<Integer, Node> query(final DataSource dataSource, final Integer nodeId) throws SQLException {
+        final DBUtils d = new DBUtils(FilterInventory.class);
+        try {
+            final Connection conn = dataSource.getConnection();
+            d.watch(conn);
+
+            final Map<Integer, Map<String, Object>> nodes = new HashMap<>();
+            for (final Map<String, Object> row : select(d, conn, NODE_QUERY, "node", nodeId)) {
+                nodes.put(intValue(row.get("nodeid")), row);
+            }
+
+            final Map<Integer, Map<String, Object>> snmpInterfaces = new HashMap<>();
+            for (final Map<String, Object> row : select(d, conn, SNMP_INTERFACE_QUERY, "snmpInterface", nodeId)) {
+                snmpInterfaces.put(intValue(row.get("id")), row);
+            }
+
+            final Map<Integer, List<Map<String, Object>>> services = new HashMap<>();
+            for (final Map<String, Object> row : select(d, conn, SERVICE_QUERY, "ipInterface", nodeId)) {
+                services.computeIfAbsent(intValue(row.get("ipinterfaceid")), k -> new ArrayList<>()).add(row);
+            }
+
+            final Map<Integer, List<Interface>> interfaces = new HashMap<>();
+            for (final Map<String, Object> row : select(d, conn, INTERFACE_QUERY, "ipInterface", nodeId)) {
+                final Object snmpInterfaceId = row.get("snmpinterfaceid");
+                interfaces.computeIfAbsent(intValue(row.get("nodeid")), k -> new ArrayList<>())
+                        .add(new Interface(row,
+                                           snmpInterfaceId != null ? snmpInterfaces.get(intValue(snmpInterfaceId)) : null,
+                                           services.getOrDefault(intValue(row.get("id")), Collections.emptyList())));
+            }
+
+            final Map<Integer, List<Map<String, Object>>> categories = new HashMap<>();
+            for (final Map<String, Object> row : select(d, conn, CATEGORY_QUERY, "category_node", nodeId)) {
+                categories.computeIfAbsent(intValue(row.get("nodeid")), k -> new ArrayList<>()).add(row);
+            }
+
+            final Map<Integer, Map<String, Object>> assets = new HashMap<>();
+            for (final Map<String, Object> row : select(d, conn, ASSET_QUERY, "assets", nodeId)) {
+                assets.put(intValue(row.get("nodeid")), row);
+            }
+
+            final Map<Integer, Node> result = new HashMap<>();
+            nodes.forEach((id, columns) -> result.put(id, new Node(id, columns, assets.get(id),
+                                                                   categories.getOrDefault(id, Collections.emptyList()),
+                                                                   interfaces.getOrDefault(id, Collections.emptyList()))));
+            return result;
+        } finally {
+            d.cleanUp();
+        }
+    }
+
+    private static List<Map<String, Object>> select(final DBUtils d, final Connection conn, final String query,
+                                                    final String table, final Integer nodeId) throws SQLException {
+        final PreparedStatement stmt = conn.prepareStatement(nodeId != null ? query + " WHERE " + table + ".nodeID = ?" : query);
+        d.watch(stmt);
+        if (nodeId != null) {
+            stmt.setInt(1, nodeId);
+        }
+        final ResultSet rset = stmt.executeQuery();
+        d.watch(rset);
+
+        final ResultSetMetaData meta = rset.getMetaData();
+        final String[] names = new String[meta.getColumnCount()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = meta.getColumnLabel(i + 1).toLowerCase(Locale.ROOT);
+        }
+
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        while (rset.next()) {
+            final Map<String, Object> row = new HashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) {
+                // Keep the first occurrence of duplicated column names, the joined tables are listed last
+                if (!row.containsKey(names[i])) {
+                    row.put(names[i], rset.getObject(i + 1));
+                }
+            }
+            rows.add(Collections.unmodifiableMap(row));
+        }
+        return rows;
+    }
+
+    private static int intValue(final Object value) {
+        return ((Number) value).intValue();
+    }
+}
@@ -0,0 +1,446 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.filter;
+
+import static org.opennms.core.utils.InetAddressUtils.addr;
+
+import java.lang.ref.WeakReference;
+import java.net.InetAddress;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.opennms.core.utils.InetAddressComparator;
+import org.opennms.netmgt.config.api.DatabaseSchemaConfig;
+import org.opennms.netmgt.events.api.model.IEvent;
+import org.opennms.netmgt.filter.CompiledFilterRule.UnsupportedRuleException;
+import org.opennms.netmgt.filter.api.FilterDao;
+import org.opennms.netmgt.filter.api.FilterParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link FilterDao} evaluating rules against an in-memory copy of the inventory.
+ *
+ * The inventory is loaded from the database on first use and kept up to date by calls to
+ * {@link #refreshNode(int)}. The active addresses of every rule are kept per node, so
+ * rebuilding the package membership of the daemons after a change only re-evaluates the rules
+ * for the changed node instead of querying the database for every package.
+ *
+ * Rules which can not be evaluated in memory, and all calls if the in-memory evaluation is
+ * disabled by the {@value #ENABLED_SYS_PROP} system property, are passed to the delegate.
+ */
+public class InMemoryFilterDao implements FilterDao, InitializingBean {
+    private static final Logger LOG = LoggerFactory.getLogger(InMemoryFilterDao.class);
+
+    public static final String ENABLED_SYS_PROP = "org.opennms.netmgt.filter.inMemory";
+
+    public static final String MAX_CACHED_RULES_SYS_PROP = "org.opennms.netmgt.filter.inMemory.maxCachedRules";
+
+    private FilterDao m_delegate;
+    private DataSource m_dataSource;
+    private DatabaseSchemaConfig m_databaseSchemaConfigFactory;
+    private boolean m_enabled = Boolean.getBoolean(ENABLED_SYS_PROP);
+    private int m_maxCachedRules = Integer.getInteger(MAX_CACHED_RULES_SYS_PROP, 1000);
+
+    private final FilterInventory m_inventory = new FilterInventory();
+    private volatile boolean m_loaded = false;
+
+    /**
+     * Guards loading the inventory, refreshing nodes and creating memberships, so that no
+     * membership misses a refresh.
+     */
+    private final Object m_lock = new Object();
+
+    /**
+     * The event that caused the last refresh, by node ID. Guarded by {@link #m_lock}.
+     */
+    private final Map<Integer, WeakReference<IEvent>> m_refreshedFor = new HashMap<>();
+
+    /**
+     * Compiled rules, empty if the rule must be evaluated by the delegate.
+     */
+    private Map<String, Optional<CompiledFilterRule>> m_rules;
+
+    /**
+     * Active addresses matching a rule, by node ID.
+     */
+    private Map<String, Map<Integer, List<InetAddress>>> m_memberships;
+
+    public void setDelegate(final FilterDao delegate) {
+        m_delegate = delegate;
+    }
+
+    public FilterDao getDelegate() {
+        return m_delegate;
+    }
+
+    public void setDataSource(final DataSource dataSource) {
+        m_dataSource = dataSource;
+    }
+
+    public void setDatabaseSchemaConfigFactory(final DatabaseSchemaConfig factory) {
+        m_databaseSchemaConfigFactory = factory;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        m_enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return m_enabled;
+    }
+
+    public void setMaxCachedRules(final int maxCachedRules) {
+        m_maxCachedRules = maxCachedRules;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.state(m_delegate != null, "property delegate cannot be null");
+        Assert.state(m_dataSource != null, "property dataSource cannot be null");
+        Assert.state(m_databaseSchemaConfigFactory != null, "property databaseSchemaConfigFactory cannot be null");
+        m_rules = Collections.synchronizedMap(lruMap(m_maxCachedRules));
+        m_memberships = Collections.synchronizedMap(lruMap(m_maxCachedRules));
+    }
+
+    private static <K, V> Map<K, V> lruMap(final int maxEntries) {
+        return new LinkedHashMap<K, V>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Loads the inventory if not done yet.
+     *
+     * @return false if the inventory is not available
+     */
+    private boolean ensureLoaded() {
+        if (m_loaded) {
+            return true;
+        }
+        synchronized (m_lock) {
+            if (!m_loaded) {
+                try {
+                    final long start = System.currentTimeMillis();
+                    m_inventory.load(m_dataSource);
+                    m_memberships.clear();
+                    m_refreshedFor.clear();
+                    m_loaded = true;
+                    LOG.info("Loaded {} nodes into the in-memory filter inventory in {}ms.", m_inventory.size(), System.currentTimeMillis() - start);
+                } catch (final SQLException e) {
+                    LOG.warn("Failed to load the in-memory filter inventory, evaluating rules in the database.", e);
+                }
+            }
+            return m_loaded;
+        }
+    }
+
+    private CompiledFilterRule compile(final String rule) {
+        return m_rules.computeIfAbsent(rule, r -> {
+            try {
+                return Optional.of(CompiledFilterRule.compile(r, m_databaseSchemaConfigFactory));
+            } catch (final FilterParseException | UnsupportedRuleException e) {
+                // Let the delegate evaluate the rule, which reports errors the same way as before
+                LOG.debug("Rule '{}' can not be evaluated in memory: {}", r, e.getMessage());
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Evaluates the rule in memory if possible, otherwise using the delegate.
+     */
+    private <T> T evaluate(final String rule, final Function<CompiledFilterRule, T> inMemory, final Supplier<T> delegate) {
+        if (!m_enabled || rule == null || !ensureLoaded()) {
+            return delegate.get();
+        }
+        final CompiledFilterRule compiled = compile(rule);
+        if (compiled == null) {
+            return delegate.get();
+        }
+        try {
+            return inMemory.apply(compiled);
+        } catch (final UnsupportedRuleException e) {
+            LOG.debug("Rule '{}' can not be evaluated in memory: {}", rule, e.getMessage());
+            m_rules.put(rule, Optional.empty());
+            m_memberships.remove(rule);
+            return delegate.get();
+        }
+    }
+
+    @Override
+    public SortedMap<Integer, String> getNodeMap(final String rule) throws FilterParseException {
+        return evaluate(rule, compiled -> {
+            final SortedMap<Integer, String> nodes = new TreeMap<>();
+            for (final FilterInventory.Node node : m_inventory.getNodes()) {
+                compiled.forEachMatch(m_inventory, node, false, row -> nodes.put(node.getId(), node.getLabel()));
+            }
+            return Collections.unmodifiableSortedMap(nodes);
+        }, () -> m_delegate.getNodeMap(rule));
+    }
+
+    @Override
+    public Map<InetAddress, Set<String>> getIPAddressServiceMap(final String rule) throws FilterParseException {
+        final Map<Integer, Map<InetAddress, Set<String>>> nodeIpServices = getNodeIPAddressServiceMap(rule);
+
+        // Flatten the map, remove the node
+        final Map<InetAddress, Set<String>> ipServices = new TreeMap<>(new InetAddressComparator());
+        nodeIpServices.values().forEach(ipServicesForNode -> {
+            ipServicesForNode.forEach((ipAddr, services) -> {
+                ipServices.computeIfAbsent(ipAddr, key -> new TreeSet<>()).addAll(services);
+            });
+        });
+
+        return ipServices;
+    }
+
+    @Override
+    public Map<Integer, Map<InetAddress, Set<String>>> getNodeIPAddressServiceMap(final String rule) throws FilterParseException {
+        return evaluate(rule, compiled -> {
+            final Map<Integer, Map<InetAddress, Set<String>>> nodeIpServices = new TreeMap<>();
+            for (final FilterInventory.Node node : m_inventory.getNodes()) {
+                compiled.forEachMatch(m_inventory, node, true, row -> {
+                    final InetAddress ipaddr = addr(row.iface.getIpAddr());
+                    final Object serviceName = row.service.get("servicename");
+                    if (ipaddr == null || serviceName == null) {
+                        return;
+                    }
+                    nodeIpServices.computeIfAbsent(node.getId(), key -> new TreeMap<>(new InetAddressComparator()))
+                            .computeIfAbsent(ipaddr, key -> new TreeSet<>()).add(serviceName.toString());
+                });
+            }
+            return nodeIpServices;
+        }, () -> m_delegate.getNodeIPAddressServiceMap(rule));
+    }
+
+    /**
+     * The active addresses are kept up to date by {@link #refreshNode(int)}, so only the delegate
+     * is flushed.
+     */
+    @Override
+    public void flushActiveIpAddressListCache() {
+        m_delegate.flushActiveIpAddressListCache();
+    }
+
+    @Override
+    public void refreshNode(final int nodeId) {
+        refreshNode(nodeId, null);
+    }
+
+    /**
+     * The listeners of an event all receive the same instance, so the node is only reloaded by
+     * the first of them. The others wait for that reload to complete.
+     */
+    @Override
+    public void refreshNode(final int nodeId, final IEvent event) {
+        m_delegate.refreshNode(nodeId, event);
+        if (!m_enabled) {
+            return;
+        }
+        synchronized (m_lock) {
+            // A load in progress holds the lock, so it either completed or has not started yet
+            if (!m_loaded) {
+                return;
+            }
+            if (event != null) {
+                final WeakReference<IEvent> refreshedFor = m_refreshedFor.get(nodeId);
+                if (refreshedFor != null && refreshedFor.get() == event) {
+                    LOG.debug("Node {} was already refreshed for event {}.", nodeId, event.getUei());
+                    return;
+                }
+            }
+            try {
+                final FilterInventory.Node node;
+                m_inventory.reload(m_dataSource, nodeId);
+                node = m_inventory.getNode(nodeId);
+                if (event != null && node != null) {
+                    m_refreshedFor.put(nodeId, new WeakReference<>(event));
+                } else {
+                    m_refreshedFor.remove(nodeId);
+                }
+
+                final List<String> rules;
+                synchronized (m_memberships) {
+                    rules = new ArrayList<>(m_memberships.keySet());
+                }
+                for (final String rule : rules) {
+                    final Map<Integer, List<InetAddress>> membership = m_memberships.get(rule);
+                    final CompiledFilterRule compiled = compile(rule);
+                    if (membership == null || compiled == null) {
+                        continue;
+                    }
+                    try {
+                        update(membership, compiled, nodeId, node);
+                    } catch (final UnsupportedRuleException e) {
+                        LOG.debug("Rule '{}' can not be evaluated in memory: {}", rule, e.getMessage());
+                        m_rules.put(rule, Optional.empty());
+                        m_memberships.remove(rule);
+                    }
+                }
+                LOG.debug("Refreshed node {} in the in-memory filter inventory, re-evaluated {} rules.", nodeId, rules.size());
+            } catch (final SQLException e) {
+                // Start over on the next use
+                LOG.warn("Failed to refresh node {} in the in-memory filter inventory, reloading it on next use.", nodeId, e);
+                m_loaded = false;
+            }
+        }
+    }
+
+    private void update(final Map<Integer, List<InetAddress>> membership, final CompiledFilterRule compiled,
+                        final int nodeId, final FilterInventory.Node node) {
+        final List<InetAddress> addresses = node != null ? activeAddresses(compiled, node) : Collections.emptyList();
+        if (addresses.isEmpty()) {
+            membership.remove(nodeId);
+        } else {
+            membership.put(nodeId, addresses);
+        }
+    }
+
+    private List<InetAddress> activeAddresses(final CompiledFilterRule compiled, final FilterInventory.Node node) {
+        final Set<String> ipAddrs = new LinkedHashSet<>();
+        compiled.forEachMatch(m_inventory, node, false, row -> {
+            if (!compiled.mentionsIsManaged() && "D".equals(row.iface.getColumns().get("ismanaged"))) {
+                return;
+            }
+            ipAddrs.add(row.iface.getIpAddr());
+        });
+        final List<InetAddress> addresses = new ArrayList<>(ipAddrs.size());
+        for (final String ipAddr : ipAddrs) {
+            addresses.add(addr(ipAddr));
+        }
+        return Collections.unmodifiableList(addresses);
+    }
+
+    private Map<Integer, List<InetAddress>> membership(final String rule, final CompiledFilterRule compiled) {
+        final Map<Integer, List<InetAddress>> existing = m_memberships.get(rule);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (m_lock) {
+            Map<Integer, List<InetAddress>> membership = m_memberships.get(rule);
+            if (membership == null) {
+                membership = new ConcurrentHashMap<>();
+                for (final FilterInventory.Node node : m_inventory.getNodes()) {
+                    update(membership, compiled, node.getId(), node);
+                }
+                m_memberships.put(rule, membership);
+            }
+            return membership;
+        }
+    }
+
+    @Override
+    public List<InetAddress> getActiveIPAddressList(final String rule) throws FilterParseException {
+        return evaluate(rule, compiled -> {
+            final Set<InetAddress> addresses = new LinkedHashSet<>();
+            new TreeMap<>(membership(rule, compiled)).values().forEach(addresses::addAll);
+            return new ArrayList<>(addresses);
+        }, () -> m_delegate.getActiveIPAddressList(rule));
+    }
+
+    @Override
+    public List<InetAddress> getIPAddressList(final String rule) throws FilterParseException {
+        return evaluate(rule, compiled -> {
+            final Set<String> ipAddrs = new LinkedHashSet<>();
+            for (final FilterInventory.Node node : nodesById().values()) {
+                compiled.forEachMatch(m_inventory, node, false, row -> ipAddrs.add(row.iface.getIpAddr()));
+            }
+            final List<InetAddress> addresses = new ArrayList<>(ipAddrs.size());
+            for (final String ipAddr : ipAddrs) {
+                addresses.add(addr(ipAddr));
+            }
+            return addresses;
+        }, () -> m_delegate.getIPAddressList(rule));
+    }
+
+    private Map<Integer, FilterInventory.Node> nodesById() {
+        final Map<Integer, FilterInventory.Node> nodes = new TreeMap<>();
+        for (final FilterInventory.Node node : m_inventory.getNodes()) {
+            nodes.put(node.getId(), node);
+        }
+        return nodes;
+    }
+
+    @Override
+    public boolean isValid(final String addr, final String rule) throws FilterParseException {
+        if (rule.length() == 0) {
+            return true;
+        }
+        return evaluate(rule, compiled -> {
+            final InetAddress address = addr(addr);
+            if (address == null) {
+                return false;
+            }
+            for (final List<InetAddress> addresses : membership(rule, compiled).values()) {
+                if (addresses.contains(address)) {
+                    return true;
+                }
+            }
+            return false;
+        }, () -> m_delegate.isValid(addr, rule));
+    }
+
+    @Override
+    public boolean isRuleMatching(final String rule) throws FilterParseException {
+        return evaluate(rule, compiled -> {
+            final boolean[] matches = { false };
+            for (final FilterInventory.Node node : m_inventory.getNodes()) {
+                compiled.forEachMatch(m_inventory, node, false, row -> matches[0] = true);
+                if (matches[0]) {
+                    return true;
+                }
+            }
+            return false;
+        }, () -> m_delegate.isRuleMatching(rule));
+    }
+
+    @Override
+    public void validateRule(final String rule) throws FilterParseException {
+        // Rules which compile are valid, everything else is checked by the database
+        if (!m_enabled || rule == null || compile(rule) == null) {
+            m_delegate.validateRule(rule);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.netmgt.config.DatabaseSchemaConfigFactory;
+import org.opennms.netmgt.filter.CompiledFilterRule.UnsupportedRuleException;
+import org.opennms.netmgt.filter.api.FilterParseException;
+
+public class CompiledFilterRuleTest {
+
+    private DatabaseSchemaConfigFactory m_schema;
+
+    private FilterInventory m_inventory;
+
+    @Before
+    public void setUp() throws Exception {
+        try (InputStream is = getClass().getResourceAsStream("/database-schema.xml")) {
+            m_schema = new DatabaseSchemaConfigFactory(is);
+        }
+
+        m_inventory = new FilterInventory();
+        m_inventory.put(node(1, "router", "Default", assets("building", "HQ"), Arrays.asList("Routers", "Production"),
+                             iface("192.168.1.1", "router.example.org", snmp(1, "eth0"), "ICMP", "SNMP"),
+                             iface("10.0.0.1", "router-mgmt.example.org", null, "ICMP")));
+        m_inventory.put(node(2, "server", "Remote", null, Collections.singletonList("Servers"),
+                             iface("192.168.1.2", null, snmp(2, "eth1"), "ICMP", "HTTP"),
+                             iface("fe80:0000:0000:0000:0000:0000:0000:0001", "server.example.org", null)));
+        m_inventory.put(node(3, "switch", "Default", assets("building", "Lab"), Collections.emptyList(),
+                             iface("172.16.0.1", "switch.example.org", null, "SNMP")));
+    }
+
+    @Test
+    public void testComparisons() {
+        assertEquals(nodes(1), matchingNodes("ipaddr == '192.168.1.1'"));
+        assertEquals(nodes(1, 2, 3), matchingNodes("IPADDR != '0.0.0.0'"));
+        assertEquals(nodes(2), matchingNodes("nodeLabel = \"server\""));
+        assertEquals(nodes(2, 3), matchingNodes("nodeID > 1"));
+        assertEquals(nodes(1, 2), matchingNodes("nodeID <= '2'"));
+        assertEquals(nodes(1, 3), matchingNodes("location == 'Default'"));
+        assertEquals(nodes(), matchingNodes("location == 'DOESN_T_EXIST'"));
+    }
+
+    @Test
+    public void testLogicalOperators() {
+        assertEquals(nodes(1), matchingNodes("location == 'Default' & nodeLabel like 'r%'"));
+        assertEquals(nodes(1, 2), matchingNodes("nodeLabel == 'router' || nodeLabel == 'server'"));
+        assertEquals(nodes(2, 3), matchingNodes("!(nodeLabel == 'router')"));
+        assertEquals(nodes(2), matchingNodes("NOT location = 'Default' AND (nodeID = 1 OR nodeID = 2)"));
+        assertEquals(nodes(1, 3), matchingNodes("nodeLabel NOT IN ('server', 'printer')"));
+    }
+
+    @Test
+    public void testNullHandling() {
+        // 192.168.1.2 has no host name, comparisons with NULL are neither true nor false
+        assertEquals(nodes(2), matchingNodes("ipHostname IS NULL"));
+        assertEquals(nodes(1, 2), matchingNodes("ipHostname IS NOT DISTINCT FROM 'router.example.org' | ipHostname IS NULL"));
+        assertEquals(nodes(1, 3), matchingNodes("ipHostname != 'server.example.org'"));
+        assertEquals(nodes(3), matchingNodes("NOT (ipHostname LIKE '%.example.org') | ipAddr IPLIKE 172.16.*.*"));
+    }
+
+    @Test
+    public void testPrefixedValues() {
+        assertEquals(nodes(1, 3), matchingNodes("isSNMP"));
+        assertEquals(nodes(2), matchingNodes("isHTTP | catincServers"));
+        assertEquals(nodes(1), matchingNodes("catincRouters & catincProduction"));
+        assertEquals(nodes(1), matchingNodes("categoryName == 'Routers'"));
+    }
+
+    @Test
+    public void testJoinedTables() {
+        // Nodes without assets or SNMP interfaces are excluded like by the inner joins of the SQL statement
+        assertEquals(nodes(3), matchingNodes("building == 'Lab'"));
+        assertEquals(nodes(1, 3), matchingNodes("building LIKE '%'"));
+        assertEquals(nodes(2), matchingNodes("snmpIfDescr == 'eth1'"));
+        assertEquals(nodes(1, 2), matchingNodes("snmpIfIndex >= 1"));
+    }
+
+    @Test
+    public void testIpLike() {
+        assertEquals(nodes(1, 2), matchingNodes("ipaddr IPLIKE 192.168.1.*"));
+        assertEquals(nodes(1), matchingNodes("IPLIKE(ipaddr, '*.*.*.1') & ipaddr IPLIKE '192.*.*.*'"));
+        assertEquals(nodes(2), matchingNodes("ipaddr IPLIKE fe80:*:*:*:*:*:*:*"));
+    }
+
+    @Test
+    public void testMatchingRows() {
+        final CompiledFilterRule rule = CompiledFilterRule.compile("nodeID == 1", m_schema);
+
+        final Set<String> services = new TreeSet<>();
+        rule.forEachMatch(m_inventory, m_inventory.getNode(1), true, row -> services.add(row.iface.getIpAddr() + "/" + row.service.get("servicename")));
+        assertEquals(new TreeSet<>(Arrays.asList("10.0.0.1/ICMP", "192.168.1.1/ICMP", "192.168.1.1/SNMP")), services);
+    }
+
+    @Test
+    public void testInvalidRules() {
+        try {
+            CompiledFilterRule.compile("nodeLabel == 'router", m_schema);
+            fail("Unmatched quote should fail");
+        } catch (final FilterParseException e) {
+            // expected
+        }
+
+        try {
+            CompiledFilterRule.compile("doesNotExist == 1", m_schema);
+            fail("Unknown column should fail");
+        } catch (final FilterParseException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testUnsupportedRules() {
+        assertUnsupported("notisICMP");
+        assertUnsupported("nodeCreateTime > '2020-01-01'::TIMESTAMP");
+        assertUnsupported("nodeLabel > 'a'");
+        assertUnsupported("nodeLabel == 1");
+    }
+
+    private void assertUnsupported(final String rule) {
+        try {
+            matchingNodes(rule);
+            fail("Rule '" + rule + "' should not be evaluated in memory");
+        } catch (final UnsupportedRuleException e) {
+            // expected
+        }
+    }
+
+    private Set<Integer> matchingNodes(final String rule) {
+        final CompiledFilterRule compiled = CompiledFilterRule.compile(rule, m_schema);
+        final Set<Integer> nodeIds = new TreeSet<>();
+        for (final FilterInventory.Node node : m_inventory.getNodes()) {
+            compiled.forEachMatch(m_inventory, node, false, row -> nodeIds.add(node.getId()));
+        }
+        return nodeIds;
+    }
+
+    private static Set<Integer> nodes(final Integer... nodeIds) {
+        return new TreeSet<>(Arrays.asList(nodeIds));
+    }
+
+    private static FilterInventory.Node node(final int id, final String label, final String location,
+                                             final Map<String, Object> assets, final List<String> categories,
+                                             final FilterInventory.Interface... interfaces) {
+        final Map<String, Object> columns = new HashMap<>();
+        columns.put("nodeid", id);
+        columns.put("nodelabel", label);
+        columns.put("location", location);
+        columns.put("nodetype", "A");
+
+        final List<Map<String, Object>> categoryRows = new ArrayList<>();
+        for (final String category : categories) {
+            final Map<String, Object> row = new HashMap<>();
+            row.put("nodeid", id);
+            row.put("categoryname", category);
+            categoryRows.add(row);
+        }
+
+        if (assets != null) {
+            assets.put("nodeid", id);
+        }
+
+        return new FilterInventory.Node(id, columns, assets, categoryRows, Arrays.asList(interfaces));
+    }
+
+    private static FilterInventory.Interface iface(final String ipAddr, final String hostname,
+                                                   final Map<String, Object> snmpInterface, final String... services) {
+        final Map<String, Object> columns = new HashMap<>();
+        columns.put("ipaddr", ipAddr);
+        columns.put("iphostname", hostname);
+        columns.put("ismanaged", "M");
+
+        final List<Map<String, Object>> serviceRows = new ArrayList<>();
+        for (final String service : services) {
+            final Map<String, Object> row = new HashMap<>();
+            row.put("servicename", service);
+            row.put("status", "A");
+            serviceRows.add(row);
+        }
+        return new FilterInventory.Interface(columns, snmpInterface, serviceRows);
+    }
+
+    private static Map<String, Object> snmp(final int ifIndex, final String ifDescr) {
+        final Map<String, Object> columns = new HashMap<>();
+        columns.put("snmpifindex", ifIndex);
+        columns.put("snmpifdescr", ifDescr);
+        return columns;
+    }
+
+    private static Map<String, Object> assets(final String column, final Object value) {
+        final Map<String, Object> columns = new HashMap<>();
+        columns.put(column, value);
+        return columns;
+    }
+}
@@ -22,6 +22,7 @@
 package org.opennms.netmgt.dao.api;
 
 import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
@@ -45,6 +46,27 @@ public interface InterfaceToNodeCache {
 
 	Optional<Entry> getFirst(String location, InetAddress ipAddr);
 
+	/**
+	 * Looks up the first entry for the raw octets of an IPv4 (4 octets) or IPv6 (16 octets) address.
+	 */
+	default Optional<Entry> getFirst(String location, byte[] ipAddr) {
+		if (ipAddr == null) {
+			return Optional.empty();
+		}
+		try {
+			return this.getFirst(location, InetAddress.getByAddress(ipAddr));
+		} catch (final UnknownHostException e) {
+			throw new IllegalArgumentException("Invalid address length: " + ipAddr.length, e);
+		}
+	}
+
+	/**
+	 * Looks up the first entry for an IPv4 address in network byte order, see {@link org.opennms.core.utils.InetAddressUtils#toIpv4Long(String)}.
+	 */
+	default Optional<Entry> getFirstIpv4(String location, int ipAddr) {
+		return this.getFirst(location, new byte[] { (byte) (ipAddr >>> 24), (byte) (ipAddr >>> 16), (byte) (ipAddr >>> 8), (byte) ipAddr });
+	}
+
 	default Optional<Integer> getFirstNodeId(String location, InetAddress ipAddr) {
 		return this.getFirst(location, ipAddr).map(e -> e.nodeId);
 	}
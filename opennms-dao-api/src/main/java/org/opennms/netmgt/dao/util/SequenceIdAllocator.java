@@ -0,0 +1,95 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.dao.util;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+import javax.persistence.SequenceGenerator;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Allocates IDs for rows that are inserted with plain JDBC the same way Hibernate's "seqhilo"
+ * generator does for an entity: every value fetched from the entity's sequence reserves a block
+ * of {@link SequenceGenerator#allocationSize()} IDs, so that these rows never collide with the
+ * ones inserted by Hibernate. The blocks needed for a batch are fetched with a single query.
+ */
+public class SequenceIdAllocator {
+    private final JdbcTemplate m_jdbcTemplate;
+    private final String m_sequenceQuery;
+    private final int m_blockSize;
+    private final Deque<Long> m_blocks = new ArrayDeque<>();
+    private long m_next;
+    private long m_end;
+
+    public SequenceIdAllocator(final JdbcTemplate jdbcTemplate, final Class<?> entityClass) {
+        m_jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        final SequenceGenerator sequence = getSequenceGenerator(entityClass);
+        m_sequenceQuery = "SELECT nextval('" + sequence.sequenceName() + "') FROM generate_series(1, ?)";
+        m_blockSize = sequence.allocationSize();
+    }
+
+    public synchronized int[] next(final int count) {
+        final int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            if (m_next >= m_end) {
+                if (m_blocks.isEmpty()) {
+                    final int remaining = count - i;
+                    m_blocks.addAll(m_jdbcTemplate.queryForList(m_sequenceQuery, Long.class, (remaining + m_blockSize - 1) / m_blockSize));
+                }
+                final long hi = m_blocks.poll();
+                m_next = hi * m_blockSize;
+                m_end = m_next + m_blockSize;
+                if (hi == 0) {
+                    // Hibernate never uses 0 as an ID
+                    m_next++;
+                }
+            }
+            ids[i] = Math.toIntExact(m_next++);
+        }
+        return ids;
+    }
+
+    /**
+     * Finds the sequence of the entity, which is declared either on its ID field or on its getter.
+     */
+    private static SequenceGenerator getSequenceGenerator(final Class<?> entityClass) {
+        for (Class<?> clazz = entityClass; clazz != null; clazz = clazz.getSuperclass()) {
+            final List<AnnotatedElement> members = new ArrayList<>();
+            members.addAll(Arrays.asList(clazz.getDeclaredFields()));
+            members.addAll(Arrays.asList(clazz.getDeclaredMethods()));
+            for (final AnnotatedElement member : members) {
+                final SequenceGenerator sequence = member.getAnnotation(SequenceGenerator.class);
+                if (sequence != null) {
+                    return sequence;
+                }
+            }
+        }
+        throw new IllegalArgumentException("No sequence found for " + entityClass);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.dao.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.opennms.netmgt.model.OnmsEvent;
+import org.opennms.netmgt.model.OnmsNode;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class SequenceIdAllocatorTest {
+
+    private final List<String> queries = new ArrayList<>();
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+        private long sequence;
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> List<T> queryForList(final String sql, final Class<T> elementType, final Object... args) {
+            queries.add(sql);
+            final List<Long> values = new ArrayList<>();
+            for (int i = 0; i < (Integer) args[0]; i++) {
+                values.add(sequence++);
+            }
+            return (List<T>) values;
+        }
+    };
+
+    @Test
+    public void canAllocateIdsLikeHibernate() {
+        final SequenceIdAllocator allocator = new SequenceIdAllocator(jdbcTemplate, OnmsEvent.class);
+
+        // The first block skips 0
+        final int[] ids = allocator.next(60);
+        assertEquals(1, ids[0]);
+        assertEquals(49, ids[48]);
+        assertEquals(50, ids[49]);
+        assertEquals(59, ids[58]);
+        assertEquals(60, ids[59]);
+
+        // Remaining IDs of the current block are used first
+        assertEquals(61, allocator.next(1)[0]);
+        assertEquals(1, queries.size());
+        assertEquals("SELECT nextval('eventsNxtId') FROM generate_series(1, ?)", queries.get(0));
+    }
+
+    @Test
+    public void canFindSequencesOnGetters() {
+        final SequenceIdAllocator allocator = new SequenceIdAllocator(jdbcTemplate, OnmsNode.class);
+        assertEquals(1, allocator.next(1)[0]);
+        assertEquals("SELECT nextval('nodeNxtId') FROM generate_series(1, ?)", queries.get(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEntitiesWithoutSequence() {
+        new SequenceIdAllocator(jdbcTemplate, String.class);
+    }
+}
@@ -24,26 +24,28 @@ package org.opennms.netmgt.dao.hibernate;
 import static org.opennms.core.utils.InetAddressUtils.str;
 
 import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 
 import org.opennms.core.criteria.CriteriaBuilder;
+import org.opennms.core.utils.InetAddressUtils;
 import org.opennms.core.utils.LocationUtils;
 import org.opennms.netmgt.dao.api.AbstractInterfaceToNodeCache;
 import org.opennms.netmgt.dao.api.InterfaceToNodeCache;
@@ -60,14 +62,17 @@ import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.google.common.collect.ComparisonChain;
-import com.google.common.collect.Maps;
-import com.google.common.collect.Multimaps;
-import com.google.common.collect.SortedSetMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * This class represents a singular instance that is used to map IP
  * addresses to known nodes.
+ * <p>
+ * The addresses of each location are kept in an immutable {@link IpAddressTrie}. All tries are published together
+ * as a snapshot through a volatile reference, so lookups never block. Updates are serialized and replace the
+ * snapshot by a copy that only differs in the path to the updated address.
  *
  * @author Seth
  * @author <a href="mailto:joed@opennms.org">Johan Edstrom</a>
@@ -84,56 +89,13 @@ public class InterfaceToNodeCacheDaoImpl extends AbstractInterfaceToNodeCache im
     private final ExecutorService executorService = Executors.newSingleThreadExecutor(threadFactory);
     private final CountDownLatch initialNodeSyncDone = new CountDownLatch(1);
 
-    private static class Key {
-        private final String location;
-        private final InetAddress ipAddress;
-
-        public Key(String location, InetAddress ipAddress) {
-            // Use the default location when location is null
-            this.location = LocationUtils.getEffectiveLocationName(location);
-            this.ipAddress = Objects.requireNonNull(ipAddress);
-        }
-
-        public InetAddress getIpAddress() {
-            return ipAddress;
-        }
-
-        public String getLocation() {
-            return location;
-        }
-
-        @Override
-        public boolean equals(final Object obj) {
-            if (obj == null) {
-                return false;
-            }
-            if (obj == this) {
-                return true;
-            }
-            if (obj.getClass() != getClass()) {
-                return false;
-            }
-            final Key that = (Key) obj;
-            return Objects.equals(this.ipAddress, that.ipAddress)
-                    && Objects.equals(this.location, that.location);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(this.ipAddress, this.location);
-        }
-
-        @Override
-        public String toString() {
-            return String.format("Key[location='%s', ipAddress='%s']", this.location, this.ipAddress);
-        }
-    }
-
     private static class Value implements Comparable<Value> {
         private final int nodeId;
         private final int interfaceId;
         private final PrimaryType type;
 
+        // pre-allocated lookup result
+        private final Optional<Entry> entry;
 
         private Value(final int nodeId,
                       final int interfaceId,
@@ -141,6 +103,7 @@ public class InterfaceToNodeCacheDaoImpl extends AbstractInterfaceToNodeCache im
             this.nodeId = nodeId;
             this.interfaceId = interfaceId;
             this.type = type;
+            this.entry = Optional.of(new Entry(nodeId, interfaceId));
         }
 
         public int getNodeId() {
@@ -201,8 +164,21 @@ public class InterfaceToNodeCacheDaoImpl extends AbstractInterfaceToNodeCache im
     @Autowired
     private TransactionOperations transactionOperations;
 
-    private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
-    private SortedSetMultimap<Key, Value> m_managedAddresses = Multimaps.newSortedSetMultimap(Maps.newHashMap(), TreeSet::new);
+    private static class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(ImmutableMap.of(), 0);
+
+        private final Map<String, IpAddressTrie<ImmutableSortedSet<Value>>> locations;
+        private final int size;
+
+        private Snapshot(final Map<String, IpAddressTrie<ImmutableSortedSet<Value>>> locations, final int size) {
+            this.locations = locations;
+            this.size = size;
+        }
+    }
+
+    // Serializes updates - lookups only read the current snapshot
+    private final Lock m_updateLock = new ReentrantLock();
+    private volatile Snapshot m_managedAddresses = Snapshot.EMPTY;
 
     private final Timer refreshTimer = new Timer(getClass().getSimpleName());
 
@@ -289,11 +265,11 @@ public class InterfaceToNodeCacheDaoImpl extends AbstractInterfaceToNodeCache im
 
     private void dataSourceSyncWithinTransaction() {
         /*
-         * Make a new list with which we'll replace the existing one, that way
+         * Make a new snapshot with which we'll replace the existing one, that way
          * if something goes wrong with the DB we won't lose whatever was already
          * in there
          */
-        final SortedSetMultimap<Key, Value> newAlreadyDiscovered = Multimaps.newSortedSetMultimap(Maps.newHashMap(), TreeSet::new);
+        final Map<String, Map<InetAddress, ImmutableSortedSet.Builder<Value>>> newAlreadyDiscovered = new HashMap<>();
 
         // Fetch all non-deleted nodes
         final CriteriaBuilder builder = new CriteriaBuilder(OnmsNode.class);
@@ -307,33 +283,65 @@ public class InterfaceToNodeCacheDaoImpl extends AbstractInterfaceToNodeCache im
                     continue;
                 }
                 LOG.debug("Adding entry: {}:{} -> {}", node.getLocation().getLocationName(), iface.getIpAddress(), node.getId());
-                newAlreadyDiscovered.put(new Key(node.getLocation().getLocationName(), iface.getIpAddress()), new Value(node.getId(), iface.getId(), iface.getIsSnmpPrimary()));
+                newAlreadyDiscovered.computeIfAbsent(LocationUtils.getEffectiveLocationName(node.getLocation().getLocationName()), l -> new HashMap<>())
+                        .computeIfAbsent(iface.getIpAddress(), a -> ImmutableSortedSet.naturalOrder())
+                        .add(new Value(node.getId(), iface.getId(), iface.getIsSnmpPrimary()));
+            }
+        }
+
+        final ImmutableMap.Builder<String, IpAddressTrie<ImmutableSortedSet<Value>>> locations = ImmutableMap.builder();
+        int size = 0;
+        for (final Map.Entry<String, Map<InetAddress, ImmutableSortedSet.Builder<Value>>> location : newAlreadyDiscovered.entrySet()) {
+            IpAddressTrie<ImmutableSortedSet<Value>> trie = IpAddressTrie.empty();
+            for (final Map.Entry<InetAddress, ImmutableSortedSet.Builder<Value>> address : location.getValue().entrySet()) {
+                final ImmutableSortedSet<Value> values = address.getValue().build();
+                trie = trie.put(address.getKey().getAddress(), values);
+                size += values.size();
             }
+            locations.put(location.getKey(), trie);
         }
 
+        m_updateLock.lock();
         try {
-            m_lock.writeLock().lock();
-            m_managedAddresses = newAlreadyDiscovered;
+            m_managedAddresses = new Snapshot(locations.build(), size);
         } finally {
-            m_lock.writeLock().unlock();
+            m_updateLock.unlock();
         }
 
-        LOG.info("dataSourceSync: initialized list of managed IP addresses with {} members", m_managedAddresses.size());
+        LOG.info("dataSourceSync: initialized list of managed IP addresses with {} members", size);
     }
 
     @Override
     public Optional<Entry> getFirst(String location, InetAddress ipAddr) {
+        if (ipAddr == null) {
+            return Optional.empty();
+        }
+        return getFirst(location, ipAddr.getAddress());
+    }
+
+    @Override
+    public Optional<Entry> getFirst(String location, byte[] ipAddr) {
         if (ipAddr == null) {
             return Optional.empty();
         }
         waitForInitialNodeSync();
-        m_lock.readLock().lock();
-        try {
-            var values = m_managedAddresses.get(new Key(location, ipAddr));
-            return values.isEmpty() ? Optional.empty() : Optional.of(new Entry(values.first().nodeId, values.first().interfaceId));
-        } finally {
-            m_lock.readLock().unlock();
+        final var trie = m_managedAddresses.locations.get(LocationUtils.getEffectiveLocationName(location));
+        if (trie == null) {
+            return Optional.empty();
+        }
+        final var values = trie.get(ipAddr);
+        return values == null ? Optional.empty() : values.first().entry;
+    }
+
+    @Override
+    public Optional<Entry> getFirstIpv4(String location, int ipAddr) {
+        waitForInitialNodeSync();
+        final var trie = m_managedAddresses.locations.get(LocationUtils.getEffectiveLocationName(location));
+        if (trie == null) {
+            return Optional.empty();
         }
+        final var values = trie.getIpv4(ipAddr);
+        return values == null ? Optional.empty() : values.first().entry;
     }
 
     private void waitForInitialNodeSync() {
@@ -344,6 +352,37 @@ public class InterfaceToNodeCacheDaoImpl extends AbstractInterfaceToNodeCache im
         }
     }
 
+    /**
+     * Applies the given function to the values of an address and publishes a new snapshot if the values changed.
+     *
+     * @return <code>true</code> if the values changed
+     */
+    private boolean update(final String location, final byte[] addr, final UnaryOperator<ImmutableSortedSet<Value>> function) {
+        final String effectiveLocation = LocationUtils.getEffectiveLocationName(location);
+        m_updateLock.lock();
+        try {
+            final Snapshot snapshot = m_managedAddresses;
+            final IpAddressTrie<ImmutableSortedSet<Value>> trie = snapshot.locations.getOrDefault(effectiveLocation, IpAddressTrie.empty());
+            final ImmutableSortedSet<Value> values = Objects.requireNonNullElse(trie.get(addr), ImmutableSortedSet.of());
+            final ImmutableSortedSet<Value> updated = function.apply(values);
+            if (updated.equals(values)) {
+                return false;
+            }
+
+            final IpAddressTrie<ImmutableSortedSet<Value>> updatedTrie = updated.isEmpty() ? trie.remove(addr) : trie.put(addr, updated);
+            final Map<String, IpAddressTrie<ImmutableSortedSet<Value>>> locations = new HashMap<>(snapshot.locations);
+            if (updatedTrie.isEmpty()) {
+                locations.remove(effectiveLocation);
+            } else {
+                locations.put(effectiveLocation, updatedTrie);
+            }
+            m_managedAddresses = new Snapshot(ImmutableMap.copyOf(locations), snapshot.size - values.size() + updated.size());
+            return true;
+        } finally {
+            m_updateLock.unlock();
+        }
+    }
+
     /**
      * Sets the IP Address and Node ID in the Map.
      *
@@ -365,12 +404,8 @@ public class InterfaceToNodeCacheDaoImpl extends AbstractInterfaceToNodeCache im
 
         LOG.debug("setNodeId: adding IP address to cache: {}:{} -> {}", location, str(addr), nodeid);
 
-        m_lock.writeLock().lock();
-        try {
-            return m_managedAddresses.put(new Key(location, addr), new Value(nodeid, iface.getId(), iface.getIsSnmpPrimary()));
-        } finally {
-            m_lock.writeLock().unlock();
-        }
+        final Value value = new Value(nodeid, iface.getId(), iface.getIsSnmpPrimary());
+        return update(location, addr.getAddress(), values -> ImmutableSortedSet.<Value>naturalOrder().addAll(values).add(value).build());
     }
 
     /**
@@ -388,51 +423,48 @@ public class InterfaceToNodeCacheDaoImpl extends AbstractInterfaceToNodeCache im
 
         LOG.debug("removeNodeId: removing IP address from cache: {}:{}", location, str(address));
 
-        m_lock.writeLock().lock();
-        try {
-            final Key key = new Key(location, address);
-            return m_managedAddresses.get(key).removeIf(e -> e.nodeId == nodeId);
-        } finally {
-            m_lock.writeLock().unlock();
-        }
+        return update(location, address.getAddress(), values -> withoutNode(values, nodeId));
+    }
+
+    private static ImmutableSortedSet<Value> withoutNode(final ImmutableSortedSet<Value> values, final int nodeId) {
+        return ImmutableSortedSet.copyOf(values.stream().filter(e -> e.nodeId != nodeId).iterator());
     }
 
     @Override
     public int size() {
         waitForInitialNodeSync();
-        m_lock.readLock().lock();
-        try {
-            return m_managedAddresses.size();
-        } finally {
-            m_lock.readLock().unlock();
-        }
+        return m_managedAddresses.size;
     }
 
     @Override
     public void clear() {
-        m_lock.writeLock().lock();
+        m_updateLock.lock();
         try {
-            m_managedAddresses.clear();
+            m_managedAddresses = Snapshot.EMPTY;
         } finally {
-            m_lock.writeLock().unlock();
+            m_updateLock.unlock();
         }
     }
 
     @Override
     public void removeInterfacesForNode(int nodeId) {
-        m_lock.writeLock().lock();
+        m_updateLock.lock();
         try {
-            List<Map.Entry<Key, Value>> keyValues = m_managedAddresses.entries().stream()
-                    .filter(keyValueEntry -> keyValueEntry.getValue().getNodeId() == nodeId)
-                    .collect(Collectors.toList());
-            keyValues.forEach(keyValue -> {
-                boolean succeeded = m_managedAddresses.remove(keyValue.getKey(), keyValue.getValue());
-                if (succeeded) {
-                    LOG.debug("removeInterfacesForNode: removed IP address from cache: {}", str(keyValue.getKey().getIpAddress()));
+            for (final Map.Entry<String, IpAddressTrie<ImmutableSortedSet<Value>>> location : m_managedAddresses.locations.entrySet()) {
+                final List<byte[]> addresses = new ArrayList<>();
+                location.getValue().forEach((address, values) -> {
+                    if (values.stream().anyMatch(value -> value.getNodeId() == nodeId)) {
+                        addresses.add(address);
+                    }
+                });
+                for (final byte[] address : addresses) {
+                    if (update(location.getKey(), address, values -> withoutNode(values, nodeId))) {
+                        LOG.debug("removeInterfacesForNode: removed IP address from cache: {}", InetAddressUtils.toIpAddrString(address));
+                    }
                 }
-            });
+            }
         } finally {
-            m_lock.writeLock().unlock();
+            m_updateLock.unlock();
         }
     }
 }
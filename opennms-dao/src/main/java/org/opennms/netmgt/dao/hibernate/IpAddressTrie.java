@@ -0,0 +1,295 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.dao.hibernate;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable, path compressed binary radix trie (crit-bit tree) that maps IPv4 and IPv6 addresses to values.
+ * <p>
+ * Addresses are given as raw octets or as numbers and are stored as two longs. IPv4 and IPv6 addresses are kept in
+ * separate tries, so that an IPv4 address never matches an IPv6 address with the same numerical value. Inner nodes
+ * only exist where the keys below them differ, i.e. the depth of the trie is bounded by the number of addresses and
+ * by the address length.
+ * <p>
+ * Updates do not modify the trie but return a new trie that shares all nodes not on the path to the updated
+ * address. Therefore, instances can be read by any number of threads without synchronization.
+ *
+ * @param <V> the type of the values
+ */
+final class IpAddressTrie<V> {
+
+    private static final IpAddressTrie<?> EMPTY = new IpAddressTrie<>(null, null, 0);
+
+    private final Node<V> ipv4;
+    private final Node<V> ipv6;
+    private final int size;
+
+    private IpAddressTrie(final Node<V> ipv4, final Node<V> ipv6, final int size) {
+        this.ipv4 = ipv4;
+        this.ipv6 = ipv6;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> IpAddressTrie<V> empty() {
+        return (IpAddressTrie<V>) EMPTY;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @param address the octets of an IPv4 (4 octets) or IPv6 (16 octets) address
+     * @return the value for the address or <code>null</code> if the address is not contained
+     */
+    public V get(final byte[] address) {
+        if (address.length == 4) {
+            return get(this.ipv4, 0L, ipv4(address));
+        } else if (address.length == 16) {
+            return get(this.ipv6, high(address), low(address));
+        }
+        throw new IllegalArgumentException("Invalid address length: " + address.length);
+    }
+
+    /**
+     * @param address an IPv4 address in network byte order
+     */
+    public V getIpv4(final int address) {
+        return get(this.ipv4, 0L, address & 0xffffffffL);
+    }
+
+    /**
+     * @param high the upper 64 bits of an IPv6 address
+     * @param low  the lower 64 bits of an IPv6 address
+     */
+    public V getIpv6(final long high, final long low) {
+        return get(this.ipv6, high, low);
+    }
+
+    /**
+     * Returns a trie that maps the given address to the given value, replacing any existing value for the address.
+     */
+    public IpAddressTrie<V> put(final byte[] address, final V value) {
+        Objects.requireNonNull(value);
+        if (address.length == 4) {
+            final long low = ipv4(address);
+            final boolean contained = get(this.ipv4, 0L, low) != null;
+            return new IpAddressTrie<>(put(this.ipv4, 0L, low, value), this.ipv6, contained ? this.size : this.size + 1);
+        } else if (address.length == 16) {
+            final long high = high(address), low = low(address);
+            final boolean contained = get(this.ipv6, high, low) != null;
+            return new IpAddressTrie<>(this.ipv4, put(this.ipv6, high, low, value), contained ? this.size : this.size + 1);
+        }
+        throw new IllegalArgumentException("Invalid address length: " + address.length);
+    }
+
+    /**
+     * Returns a trie that does not contain the given address.
+     */
+    public IpAddressTrie<V> remove(final byte[] address) {
+        if (address.length == 4) {
+            final long low = ipv4(address);
+            if (get(this.ipv4, 0L, low) == null) {
+                return this;
+            }
+            return new IpAddressTrie<>(remove(this.ipv4, 0L, low), this.ipv6, this.size - 1);
+        } else if (address.length == 16) {
+            final long high = high(address), low = low(address);
+            if (get(this.ipv6, high, low) == null) {
+                return this;
+            }
+            return new IpAddressTrie<>(this.ipv4, remove(this.ipv6, high, low), this.size - 1);
+        }
+        throw new IllegalArgumentException("Invalid address length: " + address.length);
+    }
+
+    /**
+     * Calls the consumer for all addresses (as octets) and their values; IPv4 addresses first, each in ascending
+     * order.
+     */
+    public void forEach(final BiConsumer<byte[], V> consumer) {
+        forEach(this.ipv4, true, consumer);
+        forEach(this.ipv6, false, consumer);
+    }
+
+    private static <V> V get(Node<V> node, final long high, final long low) {
+        while (node instanceof Branch) {
+            final Branch<V> branch = (Branch<V>) node;
+            node = bit(high, low, branch.bit) ? branch.one : branch.zero;
+        }
+        if (node != null) {
+            final Leaf<V> leaf = (Leaf<V>) node;
+            if (leaf.high == high && leaf.low == low) {
+                return leaf.value;
+            }
+        }
+        return null;
+    }
+
+    private static <V> Node<V> put(final Node<V> root, final long high, final long low, final V value) {
+        if (root == null) {
+            return new Leaf<>(high, low, value);
+        }
+
+        // Find the leaf with the longest common prefix
+        Node<V> node = root;
+        while (node instanceof Branch) {
+            final Branch<V> branch = (Branch<V>) node;
+            node = bit(high, low, branch.bit) ? branch.one : branch.zero;
+        }
+        final Leaf<V> closest = (Leaf<V>) node;
+
+        final int bit = criticalBit(closest.high ^ high, closest.low ^ low);
+        return insert(root, high, low, value, bit);
+    }
+
+    private static <V> Node<V> insert(final Node<V> node, final long high, final long low, final V value, final int bit) {
+        if (node instanceof Branch && ((Branch<V>) node).bit < bit) {
+            final Branch<V> branch = (Branch<V>) node;
+            return bit(high, low, branch.bit)
+                    ? new Branch<>(branch.bit, branch.zero, insert(branch.one, high, low, value, bit))
+                    : new Branch<>(branch.bit, insert(branch.zero, high, low, value, bit), branch.one);
+        }
+
+        if (bit == 128) {
+            // Same address - replace the value
+            return new Leaf<>(high, low, value);
+        }
+
+        final Leaf<V> leaf = new Leaf<>(high, low, value);
+        return bit(high, low, bit)
+                ? new Branch<>(bit, node, leaf)
+                : new Branch<>(bit, leaf, node);
+    }
+
+    private static <V> Node<V> remove(final Node<V> node, final long high, final long low) {
+        if (node instanceof Leaf) {
+            return null;
+        }
+
+        final Branch<V> branch = (Branch<V>) node;
+        if (bit(high, low, branch.bit)) {
+            final Node<V> one = remove(branch.one, high, low);
+            return one == null ? branch.zero : new Branch<>(branch.bit, branch.zero, one);
+        } else {
+            final Node<V> zero = remove(branch.zero, high, low);
+            return zero == null ? branch.one : new Branch<>(branch.bit, zero, branch.one);
+        }
+    }
+
+    private static <V> void forEach(final Node<V> node, final boolean ipv4, final BiConsumer<byte[], V> consumer) {
+        if (node instanceof Branch) {
+            forEach(((Branch<V>) node).zero, ipv4, consumer);
+            forEach(((Branch<V>) node).one, ipv4, consumer);
+        } else if (node != null) {
+            final Leaf<V> leaf = (Leaf<V>) node;
+            consumer.accept(ipv4 ? octets((int) leaf.low) : octets(leaf.high, leaf.low), leaf.value);
+        }
+    }
+
+    /**
+     * The index of the first differing bit, counting from the most significant bit of the high part. Returns 128 if
+     * there is no difference.
+     */
+    private static int criticalBit(final long high, final long low) {
+        if (high != 0) {
+            return Long.numberOfLeadingZeros(high);
+        }
+        return 64 + Long.numberOfLeadingZeros(low);
+    }
+
+    private static boolean bit(final long high, final long low, final int bit) {
+        return bit < 64
+                ? (high << bit) < 0
+                : (low << (bit - 64)) < 0;
+    }
+
+    private static long ipv4(final byte[] address) {
+        return ((address[0] & 0xffL) << 24)
+                | ((address[1] & 0xffL) << 16)
+                | ((address[2] & 0xffL) << 8)
+                | (address[3] & 0xffL);
+    }
+
+    private static long high(final byte[] address) {
+        return toLong(address, 0);
+    }
+
+    private static long low(final byte[] address) {
+        return toLong(address, 8);
+    }
+
+    private static long toLong(final byte[] address, final int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (address[i] & 0xffL);
+        }
+        return value;
+    }
+
+    private static byte[] octets(final int address) {
+        return new byte[]{(byte) (address >>> 24), (byte) (address >>> 16), (byte) (address >>> 8), (byte) address};
+    }
+
+    private static byte[] octets(final long high, final long low) {
+        final byte[] octets = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            octets[i] = (byte) (high >>> (56 - 8 * i));
+            octets[8 + i] = (byte) (low >>> (56 - 8 * i));
+        }
+        return octets;
+    }
+
+    private interface Node<V> {
+    }
+
+    private static final class Leaf<V> implements Node<V> {
+        private final long high;
+        private final long low;
+        private final V value;
+
+        private Leaf(final long high, final long low, final V value) {
+            this.high = high;
+            this.low = low;
+            this.value = value;
+        }
+    }
+
+    private static final class Branch<V> implements Node<V> {
+        private final int bit;
+        private final Node<V> zero;
+        private final Node<V> one;
+
+        private Branch(final int bit, final Node<V> zero, final Node<V> one) {
+            this.bit = bit;
+            this.zero = zero;
+            this.one = one;
+        }
+    }
+}
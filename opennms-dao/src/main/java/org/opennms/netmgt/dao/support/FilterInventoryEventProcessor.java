@@ -0,0 +1,95 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.dao.support;
+
+import org.opennms.netmgt.events.api.EventConstants;
+import org.opennms.netmgt.events.api.annotations.EventHandler;
+import org.opennms.netmgt.events.api.annotations.EventListener;
+import org.opennms.netmgt.events.api.model.IEvent;
+import org.opennms.netmgt.events.api.model.IParm;
+import org.opennms.netmgt.filter.api.FilterDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Notifies the {@link FilterDao} about inventory changes, so that filter implementations
+ * evaluating rules in memory only need to reload the changed nodes.
+ */
+@EventListener(name="OpenNMS.FilterInventory", logPrefix="eventd")
+public class FilterInventoryEventProcessor {
+    private static final Logger LOG = LoggerFactory.getLogger(FilterInventoryEventProcessor.class);
+
+    @Autowired
+    private FilterDao m_filterDao;
+
+    @EventHandler(ueis = {
+            EventConstants.NODE_ADDED_EVENT_UEI,
+            EventConstants.NODE_UPDATED_EVENT_UEI,
+            EventConstants.NODE_DELETED_EVENT_UEI,
+            EventConstants.NODE_LABEL_CHANGED_EVENT_UEI,
+            EventConstants.NODE_LOCATION_CHANGED_EVENT_UEI,
+            EventConstants.NODE_CATEGORY_MEMBERSHIP_CHANGED_EVENT_UEI,
+            EventConstants.NODE_GAINED_INTERFACE_EVENT_UEI,
+            EventConstants.INTERFACE_DELETED_EVENT_UEI,
+            EventConstants.NODE_GAINED_SERVICE_EVENT_UEI,
+            EventConstants.SERVICE_DELETED_EVENT_UEI,
+            EventConstants.ASSET_INFO_CHANGED_EVENT_UEI,
+            EventConstants.PRIMARY_SNMP_INTERFACE_CHANGED_EVENT_UEI,
+            // Issued when the status changes on a service
+            EventConstants.SUSPEND_POLLING_SERVICE_EVENT_UEI,
+            EventConstants.RESUME_POLLING_SERVICE_EVENT_UEI
+    })
+    public void handleInventoryChanged(final IEvent event) {
+        final Long nodeId = event.getNodeid();
+        LOG.debug("Received event: {} with nodeId = {}", event.getUei(), nodeId);
+        if (nodeId == null || nodeId <= 0) {
+            LOG.debug("{}: Event with no node ID: {}", event.getUei(), event);
+            return;
+        }
+        m_filterDao.refreshNode(nodeId.intValue(), event);
+    }
+
+    @EventHandler(uei = EventConstants.INTERFACE_REPARENTED_EVENT_UEI)
+    public void handleInterfaceReparented(final IEvent event) {
+        LOG.debug("Received event: {}", event.getUei());
+        refreshNode(event, EventConstants.PARM_OLD_NODEID);
+        refreshNode(event, EventConstants.PARM_NEW_NODEID);
+    }
+
+    private void refreshNode(final IEvent event, final String parmName) {
+        final IParm parm = event.getParm(parmName);
+        if (parm == null || parm.getValue() == null || parm.getValue().getContent() == null) {
+            LOG.error("{}: Event with no {}: {}", event.getUei(), parmName, event);
+            return;
+        }
+        try {
+            m_filterDao.refreshNode(Integer.parseInt(parm.getValue().getContent()), event);
+        } catch (final NumberFormatException e) {
+            LOG.error("{}: Event with invalid {}: {}", event.getUei(), parmName, event);
+        }
+    }
+
+    public void setFilterDao(final FilterDao filterDao) {
+        m_filterDao = filterDao;
+    }
+}
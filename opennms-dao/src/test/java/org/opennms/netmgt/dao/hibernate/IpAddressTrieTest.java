@@ -0,0 +1,126 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.dao.hibernate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import org.opennms.core.utils.InetAddressUtils;
+
+public class IpAddressTrieTest {
+
+    private static byte[] addr(final String address) {
+        return InetAddressUtils.toIpAddrBytes(address);
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        IpAddressTrie<String> trie = IpAddressTrie.empty();
+        trie = trie.put(addr("10.0.0.1"), "a");
+        trie = trie.put(addr("10.0.0.2"), "b");
+        trie = trie.put(addr("::a00:1"), "c");
+        trie = trie.put(addr("fe80::1"), "d");
+
+        assertEquals(4, trie.size());
+        assertEquals("a", trie.get(addr("10.0.0.1")));
+        assertEquals("b", trie.get(addr("10.0.0.2")));
+        assertEquals("c", trie.get(addr("::a00:1")));
+        assertEquals("d", trie.get(addr("fe80::1")));
+        assertNull(trie.get(addr("10.0.0.3")));
+        assertNull(trie.get(addr("::a00:2")));
+
+        // IPv4 and IPv6 addresses with the same numerical value are distinct
+        assertEquals("a", trie.getIpv4(0x0a000001));
+        assertEquals("c", trie.getIpv6(0L, 0x0a000001L));
+
+        final IpAddressTrie<String> replaced = trie.put(addr("10.0.0.1"), "x");
+        assertEquals(4, replaced.size());
+        assertEquals("x", replaced.get(addr("10.0.0.1")));
+
+        final IpAddressTrie<String> removed = replaced.remove(addr("10.0.0.1"));
+        assertEquals(3, removed.size());
+        assertNull(removed.get(addr("10.0.0.1")));
+        assertEquals("b", removed.get(addr("10.0.0.2")));
+        assertSame(removed, removed.remove(addr("10.0.0.1")));
+
+        // Previous versions are not modified
+        assertEquals("a", trie.get(addr("10.0.0.1")));
+        assertEquals("x", replaced.get(addr("10.0.0.1")));
+    }
+
+    @Test
+    public void testForEachOrder() {
+        IpAddressTrie<Integer> trie = IpAddressTrie.empty();
+        trie = trie.put(addr("192.168.0.1"), 2);
+        trie = trie.put(addr("::1"), 3);
+        trie = trie.put(addr("10.0.0.1"), 1);
+        trie = trie.put(addr("255.255.255.255"), 2);
+
+        final List<String> addresses = new ArrayList<>();
+        trie.forEach((address, value) -> addresses.add(InetAddressUtils.toIpAddrString(address)));
+        assertEquals(List.of("10.0.0.1", "192.168.0.1", "255.255.255.255", "0000:0000:0000:0000:0000:0000:0000:0001"), addresses);
+    }
+
+    @Test
+    public void testRandomAgainstMap() {
+        final Random random = new Random(42);
+        final Map<ByteBuffer, Integer> expected = new HashMap<>();
+        final List<byte[]> keys = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            final byte[] key = new byte[random.nextBoolean() ? 4 : 16];
+            random.nextBytes(key);
+            // cluster keys so that they share long prefixes
+            key[0] = (byte) (key[0] & 0x03);
+            keys.add(key);
+        }
+
+        IpAddressTrie<Integer> trie = IpAddressTrie.empty();
+        for (int i = 0; i < 20000; i++) {
+            final byte[] key = keys.get(random.nextInt(keys.size()));
+            if (random.nextInt(3) == 0) {
+                trie = trie.remove(key);
+                expected.remove(ByteBuffer.wrap(key));
+            } else {
+                trie = trie.put(key, i);
+                expected.put(ByteBuffer.wrap(key), i);
+            }
+        }
+
+        assertEquals(expected.size(), trie.size());
+        for (final byte[] key : keys) {
+            assertEquals(expected.get(ByteBuffer.wrap(key)), trie.get(key));
+        }
+
+        final Map<ByteBuffer, Integer> actual = new HashMap<>();
+        trie.forEach((address, value) -> actual.put(ByteBuffer.wrap(address), value));
+        assertEquals(expected, actual);
+    }
+}
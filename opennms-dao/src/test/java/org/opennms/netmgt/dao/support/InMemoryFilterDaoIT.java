@@ -0,0 +1,276 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.dao.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+import javax.sql.DataSource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.opennms.core.spring.BeanUtils;
+import org.opennms.core.test.OpenNMSJUnit4ClassRunner;
+import org.opennms.core.test.db.annotations.JUnitTemporaryDatabase;
+import org.opennms.core.utils.InetAddressComparator;
+import org.opennms.core.utils.InetAddressUtils;
+import org.opennms.netmgt.config.DatabaseSchemaConfigFactory;
+import org.opennms.netmgt.dao.DatabasePopulator;
+import org.opennms.netmgt.dao.api.IpInterfaceDao;
+import org.opennms.netmgt.dao.api.MonitoringLocationDao;
+import org.opennms.netmgt.dao.api.NodeDao;
+import org.opennms.netmgt.events.api.EventConstants;
+import org.opennms.netmgt.events.api.model.IEvent;
+import org.opennms.netmgt.events.api.model.ImmutableMapper;
+import org.opennms.netmgt.filter.CompiledFilterRule;
+import org.opennms.netmgt.filter.InMemoryFilterDao;
+import org.opennms.netmgt.filter.JdbcFilterDao;
+import org.opennms.netmgt.model.OnmsIpInterface;
+import org.opennms.netmgt.model.OnmsNode;
+import org.opennms.netmgt.model.events.EventBuilder;
+import org.opennms.test.JUnitConfigurationEnvironment;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Evaluates the rules of {@link JdbcFilterDaoIT} in memory and verifies that the results are
+ * identical to the ones of the database.
+ */
+@RunWith(OpenNMSJUnit4ClassRunner.class)
+@ContextConfiguration(locations={
+        "classpath:/META-INF/opennms/applicationContext-soa.xml",
+        "classpath:/META-INF/opennms/applicationContext-dao.xml",
+        "classpath:/META-INF/opennms/applicationContext-mockConfigManager.xml",
+        "classpath:/META-INF/opennms/applicationContext-databasePopulator.xml",
+        "classpath:/META-INF/opennms/applicationContext-commonConfigs.xml",
+        "classpath:/META-INF/opennms/applicationContext-minimal-conf.xml"
+})
+@JUnitConfigurationEnvironment
+@JUnitTemporaryDatabase
+public class InMemoryFilterDaoIT implements InitializingBean {
+    @Autowired
+    NodeDao m_nodeDao;
+
+    @Autowired
+    IpInterfaceDao m_interfaceDao;
+
+    @Autowired
+    DatabasePopulator m_populator;
+
+    @Autowired
+    TransactionTemplate m_transTemplate;
+
+    @Autowired
+    DataSource m_dataSource;
+
+    JdbcFilterDao m_jdbcDao;
+
+    JdbcFilterDao m_delegate;
+
+    InMemoryFilterDao m_dao;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        BeanUtils.assertAutowiring(this);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        m_populator.populateDatabase();
+
+        DatabaseSchemaConfigFactory.init();
+        m_jdbcDao = new JdbcFilterDao();
+        m_jdbcDao.setDataSource(m_dataSource);
+        m_jdbcDao.setDatabaseSchemaConfigFactory(DatabaseSchemaConfigFactory.getInstance());
+        m_jdbcDao.afterPropertiesSet();
+
+        // A separate instance, so that we can verify that the in-memory DAO did not fall back to it
+        m_delegate = spy(new JdbcFilterDao());
+        m_delegate.setDataSource(m_dataSource);
+        m_delegate.setDatabaseSchemaConfigFactory(DatabaseSchemaConfigFactory.getInstance());
+        m_delegate.afterPropertiesSet();
+
+        m_dao = new InMemoryFilterDao();
+        m_dao.setDelegate(m_delegate);
+        m_dao.setDataSource(m_dataSource);
+        m_dao.setDatabaseSchemaConfigFactory(DatabaseSchemaConfigFactory.getInstance());
+        m_dao.setEnabled(true);
+        m_dao.afterPropertiesSet();
+    }
+
+    @After
+    public void tearDown() {
+        m_populator.resetDatabase();
+    }
+
+    private List<String> getRules() {
+        return Arrays.asList(
+                String.format("(catincIMP_mid) & (catincDEV_AC) & (catincOPS_Online) & (nodeId == '%s') & (ipAddr == '192.168.1.1') & (serviceName == 'ICMP')", m_populator.getNode1().getId()),
+                String.format("(catincIMP_mid) & (catincDEV_AC) & (catincOPS_Online) & (nodeId == '%s') & (ipAddr == '192.168.2.1') & (serviceName == 'ICMP')", m_populator.getNode2().getId()),
+                "ipaddr == '192.168.1.1'",
+                "ipaddr == '1.1.1.1'",
+                "ipaddr == '10.1.1.1'",
+                String.format("location == '%s'", MonitoringLocationDao.DEFAULT_MONITORING_LOCATION_ID),
+                "location == 'DOESN_T_EXIST'",
+                "IPADDR != '0.0.0.0'",
+                "ipaddr IPLIKE *.*.*.*",
+                "ipaddr IPLIKE *:*:*:*:*:*:*:*",
+                "ipaddr IPLIKE 192.168.1-2.*",
+                "isICMP",
+                "isSNMP & (catincIMP_mid)",
+                "serviceName == 'ICMP' | serviceName == 'SNMP'",
+                "catincDEV_AC | catincServers",
+                "(catincDEV_AC) & !(catincSwitches)",
+                "catincIMP_mid & !isHTTP",
+                "nodeLabel == 'node1'",
+                "nodeType == 'A' & nodeLabel != 'node1'");
+    }
+
+    @Test
+    public void testRulesMatchJdbc() throws Exception {
+        final List<InetAddress> addresses = new ArrayList<>();
+        for (final OnmsIpInterface iface : m_interfaceDao.findAll()) {
+            addresses.add(iface.getIpAddress());
+        }
+        addresses.add(InetAddress.getByName("1.1.1.1"));
+
+        for (final String rule : getRules()) {
+            // Must not be passed to the database by the in-memory DAO
+            CompiledFilterRule.compile(rule, DatabaseSchemaConfigFactory.getInstance());
+            assertSameResults(rule, addresses);
+        }
+
+        verify(m_delegate, never()).getNodeMap(anyString());
+        verify(m_delegate, never()).getIPAddressServiceMap(anyString());
+        verify(m_delegate, never()).getNodeIPAddressServiceMap(anyString());
+        verify(m_delegate, never()).getIPAddressList(anyString());
+        verify(m_delegate, never()).getActiveIPAddressList(anyString());
+        verify(m_delegate, never()).isRuleMatching(anyString());
+        verify(m_delegate, never()).isValid(anyString(), anyString());
+    }
+
+    @Test
+    public void testRefreshedNodesMatchJdbc() throws Exception {
+        final List<InetAddress> addresses = new ArrayList<>();
+        for (final OnmsIpInterface iface : m_interfaceDao.findAll()) {
+            addresses.add(iface.getIpAddress());
+        }
+        // Build the memberships before changing the nodes
+        for (final String rule : getRules()) {
+            assertSameResults(rule, addresses);
+        }
+
+        // Same as JdbcFilterDaoIT#testGetActiveIPListWithDeletedNode()
+        final OnmsNode node1 = m_populator.getNode1();
+        setManaged("192.168.1.1", "D");
+        m_dao.refreshNode(node1.getId());
+
+        // Move an interface of node 5 to node 2
+        final OnmsNode node2 = m_populator.getNode2();
+        final OnmsNode node5 = m_populator.getNode5();
+        m_transTemplate.execute(status -> {
+            final List<OnmsIpInterface> ifaces = m_interfaceDao.findByIpAddress("10.1.1.2");
+            assertEquals("should be 1 interface", 1, ifaces.size());
+            final OnmsIpInterface iface = ifaces.get(0);
+            iface.setNode(m_nodeDao.get(node2.getId()));
+            m_interfaceDao.save(iface);
+            m_interfaceDao.flush();
+            return null;
+        });
+        m_dao.refreshNode(node2.getId());
+        m_dao.refreshNode(node5.getId());
+
+        assertTrue(m_jdbcDao.getActiveIPAddressList("ipaddr == '192.168.1.1'").isEmpty());
+        for (final String rule : getRules()) {
+            assertSameResults(rule, addresses);
+        }
+    }
+
+    @Test
+    public void testRefreshNodeOncePerEvent() throws Exception {
+        final String rule = "ipaddr IPLIKE 192.168.1.*";
+        final int node1 = m_populator.getNode1().getId();
+        assertSameResults(rule, new ArrayList<>());
+
+        final IEvent event = ImmutableMapper.fromMutableEvent(new EventBuilder(EventConstants.NODE_UPDATED_EVENT_UEI, "test")
+                .setNodeid(node1).getEvent());
+        setManaged("192.168.1.1", "D");
+        m_dao.refreshNode(node1, event);
+        assertEquals(sorted(m_jdbcDao.getActiveIPAddressList(rule)), sorted(m_dao.getActiveIPAddressList(rule)));
+
+        // Another listener of the same event does not reload the node
+        setManaged("192.168.1.2", "D");
+        m_dao.refreshNode(node1, event);
+        assertTrue(m_dao.getActiveIPAddressList(rule).contains(InetAddressUtils.addr("192.168.1.2")));
+
+        m_dao.refreshNode(node1, ImmutableMapper.fromMutableEvent(new EventBuilder(EventConstants.NODE_UPDATED_EVENT_UEI, "test")
+                .setNodeid(node1).getEvent()));
+        assertEquals(sorted(m_jdbcDao.getActiveIPAddressList(rule)), sorted(m_dao.getActiveIPAddressList(rule)));
+    }
+
+    private void setManaged(final String ipAddr, final String isManaged) {
+        m_transTemplate.execute(status -> {
+            final List<OnmsIpInterface> ifaces = m_interfaceDao.findByIpAddress(ipAddr);
+            assertEquals("should be 1 interface", 1, ifaces.size());
+            final OnmsIpInterface iface = ifaces.get(0);
+            iface.setIsManaged(isManaged);
+            m_interfaceDao.save(iface);
+            m_interfaceDao.flush();
+            return null;
+        });
+    }
+
+    private void assertSameResults(final String rule, final List<InetAddress> addresses) {
+        assertEquals(rule, m_jdbcDao.getNodeMap(rule), m_dao.getNodeMap(rule));
+        assertEquals(rule, m_jdbcDao.getIPAddressServiceMap(rule), m_dao.getIPAddressServiceMap(rule));
+        assertEquals(rule, m_jdbcDao.getNodeIPAddressServiceMap(rule), m_dao.getNodeIPAddressServiceMap(rule));
+        // The order of the addresses is not specified
+        assertEquals(rule, sorted(m_jdbcDao.getIPAddressList(rule)), sorted(m_dao.getIPAddressList(rule)));
+        assertEquals(rule, sorted(m_jdbcDao.getActiveIPAddressList(rule)), sorted(m_dao.getActiveIPAddressList(rule)));
+        assertEquals(rule, m_jdbcDao.isRuleMatching(rule), m_dao.isRuleMatching(rule));
+        for (final InetAddress address : addresses) {
+            final String addr = InetAddressUtils.str(address);
+            assertEquals(rule + " / " + addr, m_jdbcDao.isValid(addr, rule), m_dao.isValid(addr, rule));
+        }
+    }
+
+    private static TreeSet<InetAddress> sorted(final List<InetAddress> addresses) {
+        final TreeSet<InetAddress> sorted = new TreeSet<>(new InetAddressComparator());
+        sorted.addAll(addresses);
+        assertEquals("duplicate addresses", addresses.size(), sorted.size());
+        return sorted;
+    }
+}
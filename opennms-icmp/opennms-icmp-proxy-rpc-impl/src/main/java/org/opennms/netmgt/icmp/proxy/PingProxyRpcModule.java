@@ -37,7 +37,7 @@ public class PingProxyRpcModule extends AbstractXmlRpcModule<PingRequestDTO, Pin
     private PingerFactory pingerFactory;
 
     public PingProxyRpcModule() {
-        super(PingRequestDTO.class, PingResponseDTO.class);
+        super(PingRequestDTO.class, PingResponseDTO.class, new PingRequestProtobufCodec(), new PingResponseProtobufCodec());
     }
 
     @Override
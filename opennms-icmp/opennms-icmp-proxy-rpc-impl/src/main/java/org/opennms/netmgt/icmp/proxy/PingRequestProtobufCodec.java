@@ -0,0 +1,88 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.icmp.proxy;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import org.opennms.core.rpc.xml.RpcMessageCodec;
+import org.opennms.netmgt.icmp.proxy.proto.PingProxyProtos;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * Protobuf representation of the {@link PingRequestDTO}, see <code>ping-proxy.proto</code>.
+ */
+public class PingRequestProtobufCodec implements RpcMessageCodec<PingRequestDTO> {
+
+    public static final int VERSION = 1;
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] encode(PingRequestDTO request) {
+        final PingProxyProtos.PingRequest.Builder builder = PingProxyProtos.PingRequest.newBuilder()
+                .setRetries(request.getRetries())
+                .setTimeout(request.getTimeout())
+                .setPacketSize(request.getPacketSize())
+                .putAllTracingInfo(request.getTracingInfo());
+        if (request.getInetAddress() != null) {
+            builder.setAddress(ByteString.copyFrom(request.getInetAddress().getAddress()));
+        }
+        if (request.getLocation() != null) {
+            builder.setLocation(request.getLocation());
+        }
+        if (request.getSystemId() != null) {
+            builder.setSystemId(request.getSystemId());
+        }
+        return builder.build().toByteArray();
+    }
+
+    @Override
+    public PingRequestDTO decode(byte[] bytes) throws IOException {
+        final PingProxyProtos.PingRequest proto = PingProxyProtos.PingRequest.parseFrom(bytes);
+        final PingRequestDTO request = new PingRequestDTO();
+        request.setRetries(proto.getRetries());
+        request.setTimeout(proto.getTimeout());
+        request.setPacketSize(proto.getPacketSize());
+        proto.getTracingInfoMap().forEach(request::addTracingInfo);
+        if (proto.hasAddress()) {
+            try {
+                request.setInetAddress(InetAddress.getByAddress(proto.getAddress().toByteArray()));
+            } catch (UnknownHostException e) {
+                throw new InvalidProtocolBufferException(e.getMessage());
+            }
+        }
+        if (proto.hasLocation()) {
+            request.setLocation(proto.getLocation());
+        }
+        if (proto.hasSystemId()) {
+            request.setSystemId(proto.getSystemId());
+        }
+        return request;
+    }
+}
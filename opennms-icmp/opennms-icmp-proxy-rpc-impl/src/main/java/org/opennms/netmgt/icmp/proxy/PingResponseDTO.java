@@ -61,6 +61,10 @@ public class PingResponseDTO implements RpcResponse {
         return error;
     }
 
+    public void setErrorMessage(String error) {
+        this.error = error;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
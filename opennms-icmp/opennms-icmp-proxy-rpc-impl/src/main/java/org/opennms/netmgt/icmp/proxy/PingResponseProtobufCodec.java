@@ -0,0 +1,61 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.icmp.proxy;
+
+import java.io.IOException;
+
+import org.opennms.core.rpc.xml.RpcMessageCodec;
+import org.opennms.netmgt.icmp.proxy.proto.PingProxyProtos;
+
+/**
+ * Protobuf representation of the {@link PingResponseDTO}, see <code>ping-proxy.proto</code>.
+ */
+public class PingResponseProtobufCodec implements RpcMessageCodec<PingResponseDTO> {
+
+    public static final int VERSION = 1;
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] encode(PingResponseDTO response) {
+        final PingProxyProtos.PingResponse.Builder builder = PingProxyProtos.PingResponse.newBuilder()
+                .setRtt(response.getRtt());
+        if (response.getErrorMessage() != null) {
+            builder.setError(response.getErrorMessage());
+        }
+        return builder.build().toByteArray();
+    }
+
+    @Override
+    public PingResponseDTO decode(byte[] bytes) throws IOException {
+        final PingProxyProtos.PingResponse proto = PingProxyProtos.PingResponse.parseFrom(bytes);
+        final PingResponseDTO response = new PingResponseDTO();
+        response.setRtt(proto.getRtt());
+        if (proto.hasError()) {
+            response.setErrorMessage(proto.getError());
+        }
+        return response;
+    }
+}
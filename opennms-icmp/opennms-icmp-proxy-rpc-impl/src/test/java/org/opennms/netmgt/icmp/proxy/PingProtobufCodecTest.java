@@ -0,0 +1,154 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.icmp.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.InetAddress;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opennms.core.rpc.xml.AbstractXmlRpcModule;
+
+public class PingProtobufCodecTest {
+
+    private static final String CODEC_PROPERTY = AbstractXmlRpcModule.CODEC_SYS_PROP_PREFIX + PingProxyRpcModule.RPC_MODULE_ID + AbstractXmlRpcModule.CODEC_SYS_PROP_SUFFIX;
+
+    private final PingProxyRpcModule module = new PingProxyRpcModule();
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CODEC_PROPERTY);
+    }
+
+    @Test
+    public void canRoundTripRequest() throws Exception {
+        final PingRequestDTO request = createRequest("MINION");
+        request.addTracingInfo("uber-trace-id", "42");
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        module.unmarshalResponse("MINION", module.marshalResponse(new PingResponseDTO()));
+        final String marshaled = module.marshalRequest(request);
+        assertTrue(marshaled, marshaled.startsWith("!ON1:"));
+
+        final PingRequestDTO actual = module.unmarshalRequest(marshaled);
+        assertEquals(request, actual);
+        assertEquals(request.getTracingInfo(), actual.getTracingInfo());
+        assertEquals(request.getTimeToLiveMs(), actual.getTimeToLiveMs());
+    }
+
+    @Test
+    public void canRoundTripResponse() throws Exception {
+        final PingResponseDTO response = new PingResponseDTO();
+        response.setRtt(10.253);
+        final PingResponseDTO error = new PingResponseDTO(new IllegalStateException("unreachable"));
+
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        final String request = module.marshalRequest(createRequest("MINION"));
+        final String marshaled = module.marshalResponse(request, response);
+        assertTrue(marshaled, marshaled.startsWith("!ON1:"));
+        assertEquals(response, module.unmarshalResponse("MINION", marshaled));
+        assertEquals(error, module.unmarshalResponse("MINION", module.marshalResponse(request, error)));
+    }
+
+    @Test
+    public void onlySendsBinaryRequestsToLocationsThatAcceptThem() throws Exception {
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        final PingRequestDTO request = createRequest("Pittsboro");
+        String marshaled = module.marshalRequest(request);
+        assertTrue(marshaled, marshaled.startsWith("<"));
+        assertEquals(request, module.unmarshalRequest(marshaled));
+
+        // An upgraded Minion advertises the binary requests in its responses
+        final String response = module.marshalResponse(new PingResponseDTO());
+        module.unmarshalResponse("Pittsboro", response);
+        assertTrue(module.marshalRequest(request).startsWith("!ON"));
+        assertTrue(module.marshalRequest(createRequest("Raleigh")).startsWith("<"));
+
+        // An older Minion does not
+        module.unmarshalResponse("Pittsboro", response.substring(0, response.lastIndexOf("<?opennms-codec")));
+        marshaled = module.marshalRequest(request);
+        assertTrue(marshaled, marshaled.startsWith("<"));
+    }
+
+    @Test
+    public void onlySendsBinaryRequestsWhenAllMinionsAtTheLocationAcceptThem() throws Exception {
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        final PingRequestDTO request = createRequest("Pittsboro");
+        final String upgraded = module.marshalResponse(new PingResponseDTO());
+        final String older = upgraded.substring(0, upgraded.lastIndexOf("<?opennms-codec"));
+        final String otherUpgraded = upgraded.replaceFirst("<\\?opennms-codec protobuf:(\\d+) [^?]+\\?>$", "<?opennms-codec protobuf:$1 other-minion?>");
+        assertTrue(otherUpgraded, otherUpgraded.endsWith("other-minion?>"));
+
+        module.unmarshalResponse("Pittsboro", upgraded);
+        module.unmarshalResponse("Pittsboro", otherUpgraded);
+        assertTrue(module.marshalRequest(request).startsWith("!ON"));
+
+        // The most recent response is not enough, the older Minion can still receive requests
+        module.unmarshalResponse("Pittsboro", older);
+        module.unmarshalResponse("Pittsboro", upgraded);
+        module.unmarshalResponse("Pittsboro", otherUpgraded);
+        final String marshaled = module.marshalRequest(request);
+        assertTrue(marshaled, marshaled.startsWith("<"));
+    }
+
+    @Test
+    public void onlyAnswersInBinaryWhenRequested() throws Exception {
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        final PingResponseDTO response = new PingResponseDTO();
+        response.setRtt(1.5);
+
+        // Requests sent by an older version of OpenNMS do not advertise the binary responses
+        final String request = module.marshalRequest(createRequest("MINION"));
+        final String marshaled = module.marshalResponse(request.substring(0, request.lastIndexOf("<?opennms-codec")), response);
+        assertTrue(marshaled, marshaled.startsWith("<"));
+        assertEquals(response, module.unmarshalResponse(marshaled));
+    }
+
+    @Test
+    public void fallsBackToXmlWhenResponsesCannotBeDecoded() throws Exception {
+        System.setProperty(CODEC_PROPERTY, AbstractXmlRpcModule.CODEC_PROTOBUF);
+        try {
+            module.unmarshalResponse("Apex", "!ON1:not-base64!");
+            fail("Expected the response to be rejected.");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        final String marshaled = module.marshalResponse(module.marshalRequest(createRequest("Apex")), new PingResponseDTO());
+        assertTrue(marshaled, marshaled.startsWith("<"));
+        assertTrue(module.marshalResponse(module.marshalRequest(createRequest("Pittsboro")), new PingResponseDTO()).startsWith("!ON"));
+    }
+
+    private static PingRequestDTO createRequest(String location) throws Exception {
+        final PingRequestDTO request = new PingRequestDTO();
+        request.setInetAddress(InetAddress.getByName("fe80::1"));
+        request.setLocation(location);
+        request.setSystemId("00000000-0000-0000-0000-000000ddba11");
+        request.setRetries(2);
+        request.setTimeout(800);
+        request.setPacketSize(64);
+        return request;
+    }
+}
@@ -35,6 +35,8 @@ import org.opennms.netmgt.provision.persist.AbstractRequisitionVisitor;
 import org.opennms.netmgt.provision.persist.OnmsNodeRequisition;
 import org.opennms.netmgt.provision.persist.RequisitionVisitor;
 import org.opennms.netmgt.provision.persist.requisition.Requisition;
+import org.opennms.netmgt.provision.service.bulk.BulkImporter;
+import org.opennms.netmgt.provision.service.bulk.RequisitionDiff;
 import org.opennms.netmgt.provision.service.lifecycle.LifeCycleInstance;
 import org.opennms.netmgt.provision.service.lifecycle.Phase;
 import org.opennms.netmgt.provision.service.lifecycle.annotations.Activity;
@@ -57,11 +59,17 @@ public class CoreImportActivities {
     private static final Logger LOG = LoggerFactory.getLogger(CoreImportActivities.class);
     
     private final ProvisionService m_provisionService;
+
+    private BulkImporter m_bulkImporter;
     
     public CoreImportActivities(final ProvisionService provisionService) {
         m_provisionService = provisionService;
     }
 
+    public void setBulkImporter(final BulkImporter bulkImporter) {
+        m_bulkImporter = bulkImporter;
+    }
+
     @Activity( lifecycle = "import", phase = "validate", schedulingHint="import")
     public RequisitionImport loadSpecFile(final Resource resource, final ProvisionMonitor monitor) {
         Objects.requireNonNull(monitor);
@@ -94,6 +102,24 @@ public class CoreImportActivities {
         monitor.beginAuditNodes();
 
         final String foreignSource = specFile.getForeignSource();
+
+        if (m_bulkImporter != null && BulkImporter.isEnabled()) {
+            // Only the existing nodes that changed are handled by import operations, see bulkDeleteNodes and bulkInsertNodes
+            final RequisitionDiff diff = m_bulkImporter.audit(specFile, rescanExisting);
+
+            final Requisition updates = new Requisition(foreignSource);
+            updates.setNodes(diff.getUpdates());
+
+            final ImportOperationsManager opsMgr = new ImportOperationsManager(diff.getUpdatedNodeIds(), m_provisionService, rescanExisting);
+            opsMgr.setForeignSource(foreignSource);
+            opsMgr.setRequisitionDiff(diff);
+            opsMgr.auditNodes(updates, monitor.getName());
+
+            monitor.finishAuditNodes();
+            debug("Finished auditing nodes: {}", diff);
+            return opsMgr;
+        }
+
         final Map<String, Integer> foreignIdsToNodes = m_provisionService.getForeignIdToNodeIdMap(foreignSource);
 
         final ImportOperationsManager opsMgr = new ImportOperationsManager(foreignIdsToNodes, m_provisionService, rescanExisting);
@@ -169,6 +195,36 @@ public class CoreImportActivities {
         info("Finished Running persist phase of {}", operation);
     }
     
+    @Activity( lifecycle = "import", phase = "delete", schedulingHint = "import" )
+    public void bulkDeleteNodes(final ImportOperationsManager opsMgr, final RequisitionImport ri) {
+        if (ri.isAborted() || opsMgr.getRequisitionDiff() == null) {
+            return;
+        }
+
+        info("Deleting {} nodes in bulk", opsMgr.getRequisitionDiff().getDeletes().size());
+        try {
+            m_bulkImporter.delete(opsMgr.getRequisitionDiff());
+        } catch (final Throwable t) {
+            ri.abort(t);
+        }
+    }
+
+    @Activity( lifecycle = "import", phase = "insert", schedulingHint = "import" )
+    public void bulkInsertNodes(final ImportOperationsManager opsMgr, final RequisitionImport ri, final ProvisionMonitor monitor) {
+        if (ri.isAborted() || opsMgr.getRequisitionDiff() == null) {
+            return;
+        }
+        Objects.requireNonNull(monitor);
+
+        info("Inserting {} nodes in bulk", opsMgr.getRequisitionDiff().getInserts().size());
+        try {
+            m_bulkImporter.insert(opsMgr.getRequisitionDiff(), monitor.getName());
+            m_bulkImporter.sendUpdatedEvents(opsMgr.getRequisitionDiff(), monitor.getName());
+        } catch (final Throwable t) {
+            ri.abort(t);
+        }
+    }
+
     @Activity( lifecycle = "import", phase = "relate" , schedulingHint = "import" )
     public void relateNodes(final BatchTask currentPhase, final RequisitionImport ri, final ProvisionMonitor monitor) {
         if (ri.isAborted()) {
@@ -0,0 +1,120 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision.service.bulk;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import javax.persistence.Column;
+import javax.persistence.Id;
+
+import org.opennms.netmgt.model.OnmsAssetRecord;
+import org.opennms.netmgt.model.OnmsGeolocation;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+/**
+ * Maps the properties of {@link OnmsAssetRecord}, including the embedded {@link OnmsGeolocation},
+ * to the columns of the assets table using their JPA annotations.
+ */
+final class AssetColumns {
+
+    static final class AssetColumn {
+        private final String m_column;
+        private final String m_propertyPath;
+        private final Class<?> m_type;
+
+        private AssetColumn(final String column, final String propertyPath, final Class<?> type) {
+            m_column = column;
+            m_propertyPath = propertyPath;
+            m_type = type;
+        }
+
+        String getColumn() {
+            return m_column;
+        }
+
+        String getPropertyPath() {
+            return m_propertyPath;
+        }
+
+        Class<?> getType() {
+            return m_type;
+        }
+
+        Object getValue(final BeanWrapper assetRecord) {
+            return assetRecord.getPropertyValue(m_propertyPath);
+        }
+
+        /**
+         * Whether the column is maintained by OpenNMS rather than by the requisition.
+         */
+        boolean isBookkeeping() {
+            return "lastmodifieddate".equals(m_column) || "userlastmodified".equals(m_column);
+        }
+    }
+
+    private static final List<AssetColumn> COLUMNS;
+
+    static {
+        final List<AssetColumn> columns = new ArrayList<>();
+        addColumns(columns, OnmsAssetRecord.class, "");
+        addColumns(columns, OnmsGeolocation.class, "geolocation.");
+        columns.sort(Comparator.comparing(AssetColumn::getColumn));
+        COLUMNS = Collections.unmodifiableList(columns);
+    }
+
+    private AssetColumns() {
+    }
+
+    static List<AssetColumn> getColumns() {
+        return COLUMNS;
+    }
+
+    static BeanWrapper wrap(final OnmsAssetRecord assetRecord) {
+        if (assetRecord.getGeolocation() == null) {
+            assetRecord.setGeolocation(new OnmsGeolocation());
+        }
+        final BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(assetRecord);
+        wrapper.setAutoGrowNestedPaths(true);
+        return wrapper;
+    }
+
+    private static void addColumns(final List<AssetColumn> columns, final Class<?> clazz, final String prefix) {
+        for (final PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(clazz)) {
+            final Method getter = pd.getReadMethod();
+            if (getter == null || pd.getWriteMethod() == null || getter.isAnnotationPresent(Id.class)) {
+                continue;
+            }
+            final Column column = getter.getAnnotation(Column.class);
+            if (column != null && column.table().isEmpty()) {
+                columns.add(new AssetColumn(column.name().toLowerCase(Locale.ROOT), prefix + pd.getName(), pd.getPropertyType()));
+            }
+        }
+    }
+}
@@ -0,0 +1,512 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision.service.bulk;
+
+import static org.opennms.core.utils.InetAddressUtils.addr;
+import static org.opennms.core.utils.InetAddressUtils.str;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.opennms.netmgt.dao.util.SequenceIdAllocator;
+import org.opennms.netmgt.events.api.EventForwarder;
+import org.opennms.netmgt.model.OnmsCategory;
+import org.opennms.netmgt.model.OnmsIpInterface;
+import org.opennms.netmgt.model.OnmsMetaData;
+import org.opennms.netmgt.model.OnmsMonitoredService;
+import org.opennms.netmgt.model.OnmsNode;
+import org.opennms.netmgt.model.OnmsNode.NodeLabelSource;
+import org.opennms.netmgt.model.events.AddEventVisitor;
+import org.opennms.netmgt.model.events.EventUtils;
+import org.opennms.netmgt.model.monitoringLocations.OnmsMonitoringLocation;
+import org.opennms.netmgt.provision.persist.requisition.Requisition;
+import org.opennms.netmgt.provision.service.ProvisionService;
+import org.opennms.netmgt.provision.service.bulk.AssetColumns.AssetColumn;
+import org.opennms.netmgt.provision.service.bulk.ForeignSourceSnapshot.ExistingInterface;
+import org.opennms.netmgt.provision.service.bulk.ForeignSourceSnapshot.ExistingNode;
+import org.opennms.netmgt.provision.service.bulk.ForeignSourceSnapshot.ExistingService;
+import org.opennms.netmgt.xml.event.Event;
+import org.opennms.netmgt.xml.event.Log;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Imports a requisition by computing the complete difference to the database up front.
+ *
+ * The nodes of the foreign source are loaded with a handful of queries and compared to the requisition
+ * in memory, see {@link RequisitionDiff}. New nodes and the nodes that are no longer requisitioned are
+ * then written with JDBC batches, {@code batchSize} nodes per transaction, and the events of every
+ * batch are sent in a single log. Existing nodes that differ from the requisition are still merged one
+ * by one by the regular import operations, nodes that did not change are not touched at all.
+ *
+ * The SNMP data of new nodes is not collected while importing, the node scan that follows the
+ * nodeAdded event collects it anyway.
+ */
+public class BulkImporter implements InitializingBean {
+    private static final Logger LOG = LoggerFactory.getLogger(BulkImporter.class);
+
+    public static final String ENABLED_SYS_PROP = "org.opennms.provisiond.bulkImport";
+
+    public static final String BATCH_SIZE_SYS_PROP = "org.opennms.provisiond.bulkImport.batchSize";
+
+    private static final String PROVISIOND = "Provisiond";
+
+    private static final String SELECT_NODES = "SELECT n.nodeid, n.foreignid, n.nodelabel, n.nodelabelsource, n.location%s "
+            + "FROM node n LEFT JOIN assets a ON a.nodeid = n.nodeid WHERE n.foreignsource = ?";
+
+    private static final String SELECT_NODE_METADATA = "SELECT m.id, m.context, m.key, m.value FROM node_metadata m "
+            + "JOIN node n ON n.nodeid = m.id WHERE n.foreignsource = ?";
+
+    private static final String SELECT_INTERFACES = "SELECT i.nodeid, i.id, i.ipaddr, i.ismanaged, i.issnmpprimary FROM ipinterface i "
+            + "JOIN node n ON n.nodeid = i.nodeid WHERE n.foreignsource = ?";
+
+    private static final String SELECT_INTERFACE_METADATA = "SELECT m.id, m.context, m.key, m.value FROM ipinterface_metadata m "
+            + "JOIN ipinterface i ON i.id = m.id JOIN node n ON n.nodeid = i.nodeid WHERE n.foreignsource = ?";
+
+    private static final String SELECT_SERVICES = "SELECT s.ipinterfaceid, s.id, t.servicename, s.status FROM ifservices s "
+            + "JOIN service t ON t.serviceid = s.serviceid JOIN ipinterface i ON i.id = s.ipinterfaceid "
+            + "JOIN node n ON n.nodeid = i.nodeid WHERE n.foreignsource = ?";
+
+    private static final String SELECT_SERVICE_METADATA = "SELECT m.id, m.context, m.key, m.value FROM ifservices_metadata m "
+            + "JOIN ifservices s ON s.id = m.id JOIN ipinterface i ON i.id = s.ipinterfaceid "
+            + "JOIN node n ON n.nodeid = i.nodeid WHERE n.foreignsource = ?";
+
+    private static final String INSERT_NODE = "INSERT INTO node (nodeid, nodecreatetime, nodetype, nodelabel, nodelabelsource, "
+            + "foreignsource, foreignid, location) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ASSETS = "INSERT INTO assets (id, nodeid%s) VALUES (?, ?%s)";
+
+    private static final String INSERT_NODE_METADATA = "INSERT INTO node_metadata (id, context, key, value) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_CATEGORY = "INSERT INTO category_node (categoryid, nodeid) VALUES (?, ?)";
+
+    private static final String INSERT_INTERFACE = "INSERT INTO ipinterface (id, nodeid, ipaddr, iphostname, ismanaged, issnmpprimary) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_INTERFACE_METADATA = "INSERT INTO ipinterface_metadata (id, context, key, value) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_SERVICE = "INSERT INTO ifservices (id, ipinterfaceid, serviceid, status) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_SERVICE_METADATA = "INSERT INTO ifservices_metadata (id, context, key, value) VALUES (?, ?, ?, ?)";
+
+    private static final String DELETE_NODE = "DELETE FROM node WHERE nodeid = ?";
+
+    private DataSource m_dataSource;
+    private PlatformTransactionManager m_transactionManager;
+    private ProvisionService m_provisionService;
+    private EventForwarder m_eventForwarder;
+    private int m_batchSize = Integer.getInteger(BATCH_SIZE_SYS_PROP, 1000);
+
+    private JdbcTemplate m_jdbcTemplate;
+    private TransactionTemplate m_transactionTemplate;
+    private TransactionTemplate m_readOnlyTransactionTemplate;
+    private SequenceIdAllocator m_nodeIds;
+    private SequenceIdAllocator m_ids;
+    private String m_selectNodes;
+    private String m_insertAssets;
+
+    /**
+     * Whether requisitions are imported in bulk rather than node by node.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_SYS_PROP);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(m_dataSource, "dataSource must be set");
+        Assert.notNull(m_transactionManager, "transactionManager must be set");
+        Assert.notNull(m_provisionService, "provisionService must be set");
+        Assert.notNull(m_eventForwarder, "eventForwarder must be set");
+        Assert.isTrue(m_batchSize > 0, "batchSize must be positive");
+
+        m_jdbcTemplate = new JdbcTemplate(m_dataSource);
+        m_transactionTemplate = new TransactionTemplate(m_transactionManager);
+        m_readOnlyTransactionTemplate = new TransactionTemplate(m_transactionManager);
+        m_readOnlyTransactionTemplate.setReadOnly(true);
+        m_nodeIds = new SequenceIdAllocator(m_jdbcTemplate, OnmsNode.class);
+        m_ids = new SequenceIdAllocator(m_jdbcTemplate, OnmsIpInterface.class);
+
+        final List<AssetColumn> columns = AssetColumns.getColumns();
+        m_selectNodes = String.format(SELECT_NODES, columns.stream().map(c -> ", a." + c.getColumn()).collect(Collectors.joining()));
+        m_insertAssets = String.format(INSERT_ASSETS, columns.stream().map(c -> ", " + c.getColumn()).collect(Collectors.joining()),
+                columns.stream().map(c -> ", ?").collect(Collectors.joining()));
+    }
+
+    /**
+     * Loads the nodes of the requisition's foreign source and compares them to the requisition.
+     */
+    public RequisitionDiff audit(final Requisition requisition, final String rescanExisting) {
+        final long start = System.currentTimeMillis();
+        final ForeignSourceSnapshot snapshot = loadSnapshot(requisition.getForeignSource());
+        final long loaded = System.currentTimeMillis();
+        final RequisitionDiff diff = RequisitionDiff.compute(requisition, snapshot, rescanExisting);
+        LOG.info("Loaded {} existing nodes in {}ms, computed {} in {}ms.", snapshot.getNodeCount(), loaded - start,
+                diff, System.currentTimeMillis() - loaded);
+        return diff;
+    }
+
+    public ForeignSourceSnapshot loadSnapshot(final String foreignSource) {
+        final ForeignSourceSnapshot snapshot = new ForeignSourceSnapshot(foreignSource);
+        final List<AssetColumn> columns = AssetColumns.getColumns();
+        m_readOnlyTransactionTemplate.execute(status -> {
+            m_jdbcTemplate.query(m_selectNodes, rs -> {
+                final ExistingNode node = snapshot.addNode(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5));
+                for (int i = 0; i < columns.size(); i++) {
+                    final Object value = rs.getObject(6 + i);
+                    if (value != null) {
+                        node.getAssets().put(columns.get(i).getColumn(), value instanceof Timestamp ? new Date(((Timestamp) value).getTime()) : value);
+                    }
+                }
+            }, foreignSource);
+            m_jdbcTemplate.query(SELECT_NODE_METADATA, rs -> {
+                snapshot.addNodeMetaData(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4));
+            }, foreignSource);
+            m_jdbcTemplate.query(SELECT_INTERFACES, rs -> {
+                snapshot.addInterface(rs.getInt(1), rs.getInt(2), rs.getString(3), rs.getString(4), rs.getString(5));
+            }, foreignSource);
+            m_jdbcTemplate.query(SELECT_INTERFACE_METADATA, rs -> {
+                snapshot.addInterfaceMetaData(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4));
+            }, foreignSource);
+            m_jdbcTemplate.query(SELECT_SERVICES, rs -> {
+                snapshot.addService(rs.getInt(1), rs.getInt(2), rs.getString(3), rs.getString(4));
+            }, foreignSource);
+            m_jdbcTemplate.query(SELECT_SERVICE_METADATA, rs -> {
+                snapshot.addServiceMetaData(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4));
+            }, foreignSource);
+            return null;
+        });
+        return snapshot;
+    }
+
+    /**
+     * Deletes the nodes that are no longer requisitioned. The interfaces, services, assets, categories
+     * and meta-data of the nodes are removed by the foreign keys of the database.
+     */
+    public void delete(final RequisitionDiff diff) {
+        final long start = System.currentTimeMillis();
+        for (final List<ExistingNode> batch : Lists.partition(diff.getDeletes(), m_batchSize)) {
+            m_transactionTemplate.execute(status -> {
+                m_jdbcTemplate.batchUpdate(DELETE_NODE, batch, m_batchSize, (ps, node) -> ps.setInt(1, node.getId()));
+                sendEvents(batch, (node, events) -> createDeletedEvents(diff.getForeignSource(), node, events));
+                return null;
+            });
+        }
+        if (!diff.getDeletes().isEmpty()) {
+            LOG.info("Deleted {} nodes of foreign source {} in {}ms.", diff.getDeletes().size(), diff.getForeignSource(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Inserts the nodes that are not in the database yet.
+     */
+    public void insert(final RequisitionDiff diff, final String monitorKey) {
+        final List<OnmsNode> nodes = diff.getInserts();
+        if (nodes.isEmpty()) {
+            return;
+        }
+
+        final long start = System.currentTimeMillis();
+        resolveReferences(nodes);
+        resolveHostnames(nodes);
+        final long resolved = System.currentTimeMillis();
+
+        for (final List<OnmsNode> batch : Lists.partition(nodes, m_batchSize)) {
+            m_transactionTemplate.execute(status -> {
+                insertNodes(batch);
+                sendEvents(batch, (node, events) -> node.visit(new AddEventVisitor(events, monitorKey)));
+                return null;
+            });
+        }
+        LOG.info("Inserted {} nodes of foreign source {} in {}ms, {}ms of which were spent resolving locations, categories, services and hostnames.",
+                nodes.size(), diff.getForeignSource(), System.currentTimeMillis() - start, resolved - start);
+    }
+
+    /**
+     * Sends the nodeUpdated events for the existing nodes that did not need to be updated, so that these
+     * nodes are rescanned just like the updated ones.
+     */
+    public void sendUpdatedEvents(final RequisitionDiff diff, final String monitorKey) {
+        if (!RequisitionDiff.isUpdatingExisting(diff.getRescanExisting())) {
+            return;
+        }
+        for (final List<ExistingNode> batch : Lists.partition(diff.getUnchanged(), m_batchSize)) {
+            sendEvents(batch, (node, events) -> events.sendNow(EventUtils.createNodeUpdatedEvent(PROVISIOND, node.getId(), node.getLabel(),
+                    getLabelSource(node.getLabelSource()), diff.getRescanExisting(), monitorKey)));
+        }
+    }
+
+    private void resolveReferences(final List<OnmsNode> nodes) {
+        final Map<String, OnmsMonitoringLocation> locations = new HashMap<>();
+        final Map<String, OnmsCategory> categories = new HashMap<>();
+        for (final OnmsNode node : nodes) {
+            node.setLocation(locations.computeIfAbsent(RequisitionDiff.getLocationName(node), m_provisionService::createLocationIfNecessary));
+
+            final Set<OnmsCategory> nodeCategories = new LinkedHashSet<>();
+            for (final OnmsCategory category : node.getCategories()) {
+                nodeCategories.add(categories.computeIfAbsent(category.getName(), m_provisionService::createCategoryIfNecessary));
+            }
+            node.setCategories(nodeCategories);
+
+            for (final OnmsIpInterface iface : node.getIpInterfaces()) {
+                for (final OnmsMonitoredService service : iface.getMonitoredServices()) {
+                    service.setServiceType(m_provisionService.createServiceTypeIfNecessary(service.getServiceName()));
+                }
+            }
+        }
+    }
+
+    private void resolveHostnames(final List<OnmsNode> nodes) {
+        if (!System.getProperty("org.opennms.provisiond.reverseResolveRequisitionIpInterfaceHostnames", "true").equalsIgnoreCase("true")) {
+            return;
+        }
+        final List<CompletableFuture<Void>> lookups = new ArrayList<>();
+        for (final OnmsNode node : nodes) {
+            for (final OnmsIpInterface iface : node.getIpInterfaces()) {
+                lookups.add(m_provisionService.getHostnameResolver().getHostnameAsync(iface.getIpAddress(), node.getLocation().getLocationName())
+                        .thenAccept(iface::setIpHostName));
+            }
+        }
+        LOG.debug("Waiting for {} DNS lookups.", lookups.size());
+        CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0])).exceptionally(t -> {
+            LOG.warn("Failed to resolve the hostname of some interfaces.", t);
+            return null;
+        }).join();
+    }
+
+    private void insertNodes(final List<OnmsNode> nodes) {
+        final List<OnmsIpInterface> interfaces = new ArrayList<>();
+        final List<OnmsMonitoredService> services = new ArrayList<>();
+        final List<Object[]> nodeMetaData = new ArrayList<>();
+        final List<Object[]> interfaceMetaData = new ArrayList<>();
+        final List<Object[]> serviceMetaData = new ArrayList<>();
+        final List<int[]> categories = new ArrayList<>();
+
+        final int[] nodeIds = m_nodeIds.next(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            final OnmsNode node = nodes.get(i);
+            node.setId(nodeIds[i]);
+            for (final OnmsCategory category : node.getCategories()) {
+                categories.add(new int[] { category.getId(), node.getId() });
+            }
+            addMetaData(nodeMetaData, node.getId(), node.getMetaData());
+            for (final OnmsIpInterface iface : node.getIpInterfaces()) {
+                interfaces.add(iface);
+                services.addAll(iface.getMonitoredServices());
+            }
+        }
+
+        final int[] ids = m_ids.next(nodes.size() + interfaces.size() + services.size());
+        int next = nodes.size();
+        for (final OnmsIpInterface iface : interfaces) {
+            iface.setId(ids[next++]);
+            addMetaData(interfaceMetaData, iface.getId(), iface.getMetaData());
+        }
+        for (final OnmsMonitoredService service : services) {
+            service.setId(ids[next++]);
+            addMetaData(serviceMetaData, service.getId(), service.getMetaData());
+        }
+
+        m_jdbcTemplate.batchUpdate(INSERT_NODE, nodes, m_batchSize, (ps, node) -> {
+            ps.setInt(1, node.getId());
+            ps.setTimestamp(2, new Timestamp(node.getCreateTime().getTime()));
+            ps.setString(3, node.getType().toString());
+            ps.setString(4, node.getLabel());
+            ps.setString(5, node.getLabelSource().toString());
+            ps.setString(6, node.getForeignSource());
+            ps.setString(7, node.getForeignId());
+            ps.setString(8, node.getLocation().getLocationName());
+        });
+
+        final List<AssetColumn> columns = AssetColumns.getColumns();
+        final int[] assetIds = new int[nodes.size()];
+        System.arraycopy(ids, 0, assetIds, 0, nodes.size());
+        final List<Integer> indexes = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            indexes.add(i);
+        }
+        m_jdbcTemplate.batchUpdate(m_insertAssets, indexes, m_batchSize, (ps, index) -> {
+            final OnmsNode node = nodes.get(index);
+            node.getAssetRecord().setId(assetIds[index]);
+            ps.setInt(1, assetIds[index]);
+            ps.setInt(2, node.getId());
+            final BeanWrapper assets = AssetColumns.wrap(node.getAssetRecord());
+            for (int i = 0; i < columns.size(); i++) {
+                setValue(ps, 3 + i, columns.get(i).getType(), columns.get(i).getValue(assets));
+            }
+        });
+
+        m_jdbcTemplate.batchUpdate(INSERT_NODE_METADATA, nodeMetaData, m_batchSize, BulkImporter::setMetaDataValues);
+        m_jdbcTemplate.batchUpdate(INSERT_CATEGORY, categories, m_batchSize, (ps, category) -> {
+            ps.setInt(1, category[0]);
+            ps.setInt(2, category[1]);
+        });
+
+        m_jdbcTemplate.batchUpdate(INSERT_INTERFACE, interfaces, m_batchSize, (ps, iface) -> {
+            ps.setInt(1, iface.getId());
+            ps.setInt(2, iface.getNode().getId());
+            ps.setString(3, str(iface.getIpAddress()));
+            ps.setString(4, iface.getIpHostName());
+            ps.setString(5, iface.getIsManaged());
+            ps.setString(6, iface.getIsSnmpPrimary() == null ? null : iface.getIsSnmpPrimary().getCode());
+        });
+        m_jdbcTemplate.batchUpdate(INSERT_INTERFACE_METADATA, interfaceMetaData, m_batchSize, BulkImporter::setMetaDataValues);
+
+        m_jdbcTemplate.batchUpdate(INSERT_SERVICE, services, m_batchSize, (ps, service) -> {
+            ps.setInt(1, service.getId());
+            ps.setInt(2, service.getIpInterface().getId());
+            ps.setInt(3, service.getServiceType().getId());
+            ps.setString(4, service.getStatus());
+        });
+        m_jdbcTemplate.batchUpdate(INSERT_SERVICE_METADATA, serviceMetaData, m_batchSize, BulkImporter::setMetaDataValues);
+    }
+
+    private static void addMetaData(final List<Object[]> rows, final int id, final List<OnmsMetaData> metaData) {
+        for (final OnmsMetaData entry : metaData) {
+            rows.add(new Object[] { id, entry.getContext(), entry.getKey(), entry.getValue() });
+        }
+    }
+
+    private static void setMetaDataValues(final PreparedStatement ps, final Object[] row) throws SQLException {
+        ps.setInt(1, (Integer) row[0]);
+        ps.setString(2, (String) row[1]);
+        ps.setString(3, (String) row[2]);
+        ps.setString(4, (String) row[3]);
+    }
+
+    private static void setValue(final PreparedStatement ps, final int index, final Class<?> type, final Object value) throws SQLException {
+        if (Date.class.isAssignableFrom(type)) {
+            ps.setTimestamp(index, value == null ? null : new Timestamp(((Date) value).getTime()));
+        } else if (Double.class.equals(type)) {
+            if (value == null) {
+                ps.setNull(index, Types.DOUBLE);
+            } else {
+                ps.setDouble(index, (Double) value);
+            }
+        } else {
+            ps.setString(index, value == null ? null : value.toString());
+        }
+    }
+
+    private static void createDeletedEvents(final String foreignSource, final ExistingNode node, final EventForwarder events) {
+        // Same order as the DeleteEventVisitor: the services of each interface, the interface and finally the node
+        for (final ExistingInterface iface : node.getInterfaces().values()) {
+            for (final ExistingService service : iface.getServices().values()) {
+                events.sendNow(EventUtils.createServiceDeletedEvent(PROVISIOND, node.getId(), addr(iface.getIpAddress()), service.getServiceName()));
+            }
+            events.sendNow(EventUtils.createInterfaceDeletedEvent(PROVISIOND, node.getId(), addr(iface.getIpAddress()), iface.getId()));
+        }
+        final ExistingInterface primary = node.getPrimaryInterface();
+        events.sendNow(EventUtils.createNodeDeletedEvent(PROVISIOND, node.getId(), node.getLabel(), node.getLabel(),
+                new OnmsMonitoringLocation(node.getLocation(), node.getLocation()), node.getForeignId(), foreignSource,
+                primary == null ? null : new OnmsIpInterface(addr(primary.getIpAddress()), null)));
+    }
+
+    private static NodeLabelSource getLabelSource(final String code) {
+        for (final NodeLabelSource labelSource : NodeLabelSource.values()) {
+            if (labelSource.toString().equals(code)) {
+                return labelSource;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sends the events of a batch of nodes in a single log. Within a transaction, the log is only sent
+     * once the transaction was committed.
+     */
+    private <T> void sendEvents(final List<T> nodes, final BiConsumer<T, EventForwarder> eventFactory) {
+        final EventLog events = new EventLog();
+        for (final T node : nodes) {
+            eventFactory.accept(node, events);
+        }
+        if (events.m_log.getEvents() != null) {
+            m_eventForwarder.sendNow(events.m_log);
+        }
+    }
+
+    private static class EventLog implements EventForwarder {
+        private final Log m_log = new Log();
+
+        @Override
+        public void sendNow(final Event event) {
+            m_log.addEvent(event);
+        }
+
+        @Override
+        public void sendNow(final Log eventLog) {
+            m_log.addAllEvents(eventLog);
+        }
+
+        @Override
+        public void sendNowSync(final Event event) {
+            sendNow(event);
+        }
+
+        @Override
+        public void sendNowSync(final Log eventLog) {
+            sendNow(eventLog);
+        }
+    }
+
+    public void setDataSource(final DataSource dataSource) {
+        m_dataSource = dataSource;
+    }
+
+    public void setTransactionManager(final PlatformTransactionManager transactionManager) {
+        m_transactionManager = transactionManager;
+    }
+
+    public void setProvisionService(final ProvisionService provisionService) {
+        m_provisionService = provisionService;
+    }
+
+    public void setEventForwarder(final EventForwarder eventForwarder) {
+        m_eventForwarder = eventForwarder;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        m_batchSize = batchSize;
+    }
+}
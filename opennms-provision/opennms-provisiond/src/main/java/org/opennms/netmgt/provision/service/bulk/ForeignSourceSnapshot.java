@@ -0,0 +1,274 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision.service.bulk;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.opennms.netmgt.model.OnmsMetaData;
+import org.opennms.netmgt.model.PrimaryType;
+
+/**
+ * The parts of the nodes of a foreign source that can be changed by importing a requisition,
+ * as currently stored in the database.
+ */
+public class ForeignSourceSnapshot {
+
+    private final String m_foreignSource;
+    private final Map<String, ExistingNode> m_nodesByForeignId = new LinkedHashMap<>();
+    private final Map<Integer, ExistingNode> m_nodesById = new HashMap<>();
+    private final Map<Integer, ExistingInterface> m_interfacesById = new HashMap<>();
+    private final Map<Integer, ExistingService> m_servicesById = new HashMap<>();
+
+    public ForeignSourceSnapshot(final String foreignSource) {
+        m_foreignSource = foreignSource;
+    }
+
+    public String getForeignSource() {
+        return m_foreignSource;
+    }
+
+    public ExistingNode addNode(final int nodeId, final String foreignId, final String label, final String labelSource, final String location) {
+        final ExistingNode node = new ExistingNode(nodeId, foreignId, label, labelSource, location);
+        m_nodesByForeignId.put(foreignId, node);
+        m_nodesById.put(nodeId, node);
+        return node;
+    }
+
+    public ExistingInterface addInterface(final int nodeId, final int interfaceId, final String ipAddress, final String isManaged, final String isSnmpPrimary) {
+        final ExistingNode node = m_nodesById.get(nodeId);
+        if (node == null) {
+            return null;
+        }
+        final ExistingInterface iface = new ExistingInterface(node, interfaceId, ipAddress, isManaged,
+                isSnmpPrimary == null ? null : PrimaryType.get(isSnmpPrimary));
+        node.m_interfaces.put(ipAddress, iface);
+        m_interfacesById.put(interfaceId, iface);
+        return iface;
+    }
+
+    public ExistingService addService(final int interfaceId, final int serviceId, final String serviceName, final String status) {
+        final ExistingInterface iface = m_interfacesById.get(interfaceId);
+        if (iface == null) {
+            return null;
+        }
+        final ExistingService service = new ExistingService(iface, serviceId, serviceName, status);
+        iface.m_services.put(serviceName, service);
+        m_servicesById.put(serviceId, service);
+        return service;
+    }
+
+    public void addNodeMetaData(final int nodeId, final String context, final String key, final String value) {
+        final ExistingNode node = m_nodesById.get(nodeId);
+        if (node != null) {
+            node.m_metaData.add(new OnmsMetaData(context, key, value));
+        }
+    }
+
+    public void addInterfaceMetaData(final int interfaceId, final String context, final String key, final String value) {
+        final ExistingInterface iface = m_interfacesById.get(interfaceId);
+        if (iface != null) {
+            iface.m_metaData.add(new OnmsMetaData(context, key, value));
+        }
+    }
+
+    public void addServiceMetaData(final int serviceId, final String context, final String key, final String value) {
+        final ExistingService service = m_servicesById.get(serviceId);
+        if (service != null) {
+            service.m_metaData.add(new OnmsMetaData(context, key, value));
+        }
+    }
+
+    public ExistingNode getNode(final String foreignId) {
+        return m_nodesByForeignId.get(foreignId);
+    }
+
+    public Collection<ExistingNode> getNodes() {
+        return Collections.unmodifiableCollection(m_nodesByForeignId.values());
+    }
+
+    public int getNodeCount() {
+        return m_nodesByForeignId.size();
+    }
+
+    public static class ExistingNode {
+        private final int m_id;
+        private final String m_foreignId;
+        private final String m_label;
+        private final String m_labelSource;
+        private final String m_location;
+        private final Map<String, Object> m_assets = new HashMap<>();
+        private final Set<OnmsMetaData> m_metaData = new HashSet<>();
+        private final Map<String, ExistingInterface> m_interfaces = new LinkedHashMap<>();
+
+        private ExistingNode(final int id, final String foreignId, final String label, final String labelSource, final String location) {
+            m_id = id;
+            m_foreignId = Objects.requireNonNull(foreignId);
+            m_label = label;
+            m_labelSource = labelSource;
+            m_location = location;
+        }
+
+        public int getId() {
+            return m_id;
+        }
+
+        public String getForeignId() {
+            return m_foreignId;
+        }
+
+        public String getLabel() {
+            return m_label;
+        }
+
+        public String getLabelSource() {
+            return m_labelSource;
+        }
+
+        public String getLocation() {
+            return m_location;
+        }
+
+        /**
+         * The values of the asset record, keyed by the lower case column name.
+         */
+        public Map<String, Object> getAssets() {
+            return m_assets;
+        }
+
+        public Set<OnmsMetaData> getMetaData() {
+            return m_metaData;
+        }
+
+        /**
+         * The interfaces of the node, keyed by the IP address as formatted by
+         * {@link org.opennms.core.utils.InetAddressUtils#str(java.net.InetAddress)}.
+         */
+        public Map<String, ExistingInterface> getInterfaces() {
+            return m_interfaces;
+        }
+
+        public ExistingInterface getPrimaryInterface() {
+            for (final ExistingInterface iface : m_interfaces.values()) {
+                if (PrimaryType.PRIMARY.equals(iface.getIsSnmpPrimary())) {
+                    return iface;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "ExistingNode[id=" + m_id + ", foreignId=" + m_foreignId + ", label=" + m_label + "]";
+        }
+    }
+
+    public static class ExistingInterface {
+        private final ExistingNode m_node;
+        private final int m_id;
+        private final String m_ipAddress;
+        private final String m_isManaged;
+        private final PrimaryType m_isSnmpPrimary;
+        private final Set<OnmsMetaData> m_metaData = new HashSet<>();
+        private final Map<String, ExistingService> m_services = new LinkedHashMap<>();
+
+        private ExistingInterface(final ExistingNode node, final int id, final String ipAddress, final String isManaged, final PrimaryType isSnmpPrimary) {
+            m_node = node;
+            m_id = id;
+            m_ipAddress = ipAddress;
+            m_isManaged = isManaged;
+            m_isSnmpPrimary = isSnmpPrimary;
+        }
+
+        public ExistingNode getNode() {
+            return m_node;
+        }
+
+        public int getId() {
+            return m_id;
+        }
+
+        public String getIpAddress() {
+            return m_ipAddress;
+        }
+
+        public String getIsManaged() {
+            return m_isManaged;
+        }
+
+        public PrimaryType getIsSnmpPrimary() {
+            return m_isSnmpPrimary;
+        }
+
+        public Set<OnmsMetaData> getMetaData() {
+            return m_metaData;
+        }
+
+        /**
+         * The services of the interface, keyed by the service name.
+         */
+        public Map<String, ExistingService> getServices() {
+            return m_services;
+        }
+    }
+
+    public static class ExistingService {
+        private final ExistingInterface m_interface;
+        private final int m_id;
+        private final String m_serviceName;
+        private final String m_status;
+        private final Set<OnmsMetaData> m_metaData = new HashSet<>();
+
+        private ExistingService(final ExistingInterface iface, final int id, final String serviceName, final String status) {
+            m_interface = iface;
+            m_id = id;
+            m_serviceName = serviceName;
+            m_status = status;
+        }
+
+        public ExistingInterface getInterface() {
+            return m_interface;
+        }
+
+        public int getId() {
+            return m_id;
+        }
+
+        public String getServiceName() {
+            return m_serviceName;
+        }
+
+        public String getStatus() {
+            return m_status;
+        }
+
+        public Set<OnmsMetaData> getMetaData() {
+            return m_metaData;
+        }
+    }
+}
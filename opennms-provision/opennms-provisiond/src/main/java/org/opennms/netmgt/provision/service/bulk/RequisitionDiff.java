@@ -0,0 +1,244 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision.service.bulk;
+
+import static org.opennms.core.utils.InetAddressUtils.str;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opennms.netmgt.dao.api.MonitoringLocationDao;
+import org.opennms.netmgt.model.OnmsIpInterface;
+import org.opennms.netmgt.model.OnmsMonitoredService;
+import org.opennms.netmgt.model.OnmsNode;
+import org.opennms.netmgt.model.PrimaryType;
+import org.opennms.netmgt.provision.persist.OnmsNodeRequisition;
+import org.opennms.netmgt.provision.persist.requisition.Requisition;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionNode;
+import org.opennms.netmgt.provision.service.bulk.AssetColumns.AssetColumn;
+import org.opennms.netmgt.provision.service.bulk.ForeignSourceSnapshot.ExistingInterface;
+import org.opennms.netmgt.provision.service.bulk.ForeignSourceSnapshot.ExistingNode;
+import org.opennms.netmgt.provision.service.bulk.ForeignSourceSnapshot.ExistingService;
+import org.springframework.beans.BeanWrapper;
+
+import com.google.common.base.Strings;
+
+/**
+ * The complete difference between a requisition and the nodes of its foreign source in the database.
+ *
+ * Nodes that are only in the requisition are inserted, nodes that are only in the database are deleted.
+ * Nodes in both are compared using the same rules {@link OnmsNode#mergeNode} applies when a node is
+ * updated by an import: only the nodes the merge would actually change are updated, all others are
+ * left alone. When {@code rescanExisting} is {@code false}, existing nodes are never updated.
+ */
+public class RequisitionDiff {
+
+    private final String m_foreignSource;
+    private final String m_rescanExisting;
+    private final List<OnmsNode> m_inserts = new ArrayList<>();
+    private final List<RequisitionNode> m_updates = new ArrayList<>();
+    private final Map<String, Integer> m_updatedNodeIds = new LinkedHashMap<>();
+    private final List<ExistingNode> m_unchanged = new ArrayList<>();
+    private final List<ExistingNode> m_deletes = new ArrayList<>();
+
+    private RequisitionDiff(final String foreignSource, final String rescanExisting) {
+        m_foreignSource = foreignSource;
+        m_rescanExisting = rescanExisting;
+    }
+
+    public static RequisitionDiff compute(final Requisition requisition, final ForeignSourceSnapshot snapshot, final String rescanExisting) {
+        final String foreignSource = requisition.getForeignSource();
+        final RequisitionDiff diff = new RequisitionDiff(foreignSource, rescanExisting);
+
+        // Like the regular import, the last node wins if a foreign ID is used more than once
+        final Map<String, RequisitionNode> nodes = new LinkedHashMap<>();
+        for (final RequisitionNode node : requisition.getNodes()) {
+            nodes.put(node.getForeignId(), node);
+        }
+
+        final boolean updateExisting = isUpdatingExisting(rescanExisting);
+        for (final RequisitionNode node : nodes.values()) {
+            final ExistingNode existing = snapshot.getNode(node.getForeignId());
+            if (existing == null) {
+                diff.m_inserts.add(new OnmsNodeRequisition(foreignSource, node).constructOnmsNodeFromRequisition());
+            } else if (updateExisting && !isUnchanged(new OnmsNodeRequisition(foreignSource, node).constructOnmsNodeFromRequisition(), existing)) {
+                diff.m_updates.add(node);
+                diff.m_updatedNodeIds.put(node.getForeignId(), existing.getId());
+            } else {
+                diff.m_unchanged.add(existing);
+            }
+        }
+
+        for (final ExistingNode existing : snapshot.getNodes()) {
+            if (!nodes.containsKey(existing.getForeignId())) {
+                diff.m_deletes.add(existing);
+            }
+        }
+        return diff;
+    }
+
+    /**
+     * Existing nodes are merged with the requisition unless {@code rescanExisting} is {@code false}.
+     */
+    public static boolean isUpdatingExisting(final String rescanExisting) {
+        return rescanExisting == null || Boolean.valueOf(rescanExisting) || "dbonly".equalsIgnoreCase(rescanExisting);
+    }
+
+    /**
+     * Whether merging the requisitioned node into the existing node would leave the latter as is.
+     */
+    static boolean isUnchanged(final OnmsNode requisitioned, final ExistingNode existing) {
+        if (hasNewValue(requisitioned.getLabel(), existing.getLabel())
+                || hasNewValue(requisitioned.getLabelSource() == null ? null : requisitioned.getLabelSource().toString(), existing.getLabelSource())
+                || !Objects.equals(getLocationName(requisitioned), existing.getLocation())) {
+            return false;
+        }
+
+        if (requisitioned.getAssetRecord() != null) {
+            final BeanWrapper assets = AssetColumns.wrap(requisitioned.getAssetRecord());
+            for (final AssetColumn column : AssetColumns.getColumns()) {
+                final Object value = column.getValue(assets);
+                if (!column.isBookkeeping() && value != null
+                        && !String.valueOf(value).equals(String.valueOf(existing.getAssets().get(column.getColumn())))) {
+                    return false;
+                }
+            }
+        }
+
+        if (!new HashSet<>(requisitioned.getMetaData()).equals(existing.getMetaData())) {
+            return false;
+        }
+
+        OnmsIpInterface requisitionedPrimary = null;
+        for (final OnmsIpInterface iface : requisitioned.getIpInterfaces()) {
+            final ExistingInterface existingIface = existing.getInterfaces().get(str(iface.getIpAddress()));
+            if (existingIface == null || !isUnchanged(iface, existingIface)) {
+                return false;
+            }
+            if (requisitionedPrimary == null && iface.isPrimary()) {
+                requisitionedPrimary = iface;
+            }
+        }
+
+        // The merge demotes any other primary interface
+        if (requisitionedPrimary != null) {
+            final ExistingInterface existingPrimary = existing.getPrimaryInterface();
+            if (existingPrimary != null && !existingPrimary.getIpAddress().equals(str(requisitionedPrimary.getIpAddress()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUnchanged(final OnmsIpInterface requisitioned, final ExistingInterface existing) {
+        if (hasNewValue(requisitioned.getIsManaged(), existing.getIsManaged())) {
+            return false;
+        }
+        final PrimaryType primaryType = requisitioned.getIsSnmpPrimary();
+        if (primaryType != null && !primaryType.equals(existing.getIsSnmpPrimary()) && primaryType != PrimaryType.NOT_ELIGIBLE) {
+            return false;
+        }
+        if (!new HashSet<>(requisitioned.getMetaData()).equals(existing.getMetaData())) {
+            return false;
+        }
+
+        for (final OnmsMonitoredService service : requisitioned.getMonitoredServices()) {
+            final ExistingService existingService = existing.getServices().get(service.getServiceName());
+            if (existingService == null) {
+                return false;
+            }
+            // The merge never overwrites services that are not monitored
+            if (!"N".equals(existingService.getStatus()) && hasNewValue(service.getStatus(), existingService.getStatus())) {
+                return false;
+            }
+            if (!new HashSet<>(service.getMetaData()).equals(existingService.getMetaData())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String getLocationName(final OnmsNode node) {
+        if (node.getLocation() == null || Strings.isNullOrEmpty(node.getLocation().getLocationName())) {
+            return MonitoringLocationDao.DEFAULT_MONITORING_LOCATION_ID;
+        }
+        return node.getLocation().getLocationName();
+    }
+
+    private static boolean hasNewValue(final Object newValue, final Object oldValue) {
+        return newValue != null && !newValue.equals(oldValue);
+    }
+
+    public String getForeignSource() {
+        return m_foreignSource;
+    }
+
+    public String getRescanExisting() {
+        return m_rescanExisting;
+    }
+
+    /**
+     * The nodes to insert, built from the requisition. The nodes do not have an ID yet.
+     */
+    public List<OnmsNode> getInserts() {
+        return Collections.unmodifiableList(m_inserts);
+    }
+
+    /**
+     * The existing nodes that differ from the requisition.
+     */
+    public List<RequisitionNode> getUpdates() {
+        return Collections.unmodifiableList(m_updates);
+    }
+
+    /**
+     * The IDs of the nodes returned by {@link #getUpdates()}, keyed by the foreign ID.
+     */
+    public Map<String, Integer> getUpdatedNodeIds() {
+        return Collections.unmodifiableMap(m_updatedNodeIds);
+    }
+
+    /**
+     * The existing nodes that do not need to be updated.
+     */
+    public List<ExistingNode> getUnchanged() {
+        return Collections.unmodifiableList(m_unchanged);
+    }
+
+    /**
+     * The existing nodes that are no longer in the requisition.
+     */
+    public List<ExistingNode> getDeletes() {
+        return Collections.unmodifiableList(m_deletes);
+    }
+
+    @Override
+    public String toString() {
+        return "RequisitionDiff[foreignSource=" + m_foreignSource + ", inserts=" + m_inserts.size() + ", updates=" + m_updates.size()
+                + ", unchanged=" + m_unchanged.size() + ", deletes=" + m_deletes.size() + "]";
+    }
+}
@@ -39,6 +39,7 @@ import org.opennms.netmgt.model.OnmsNode;
 import org.opennms.netmgt.provision.persist.requisition.Requisition;
 import org.opennms.netmgt.provision.service.ProvisionService;
 import org.opennms.netmgt.provision.service.RequisitionAccountant;
+import org.opennms.netmgt.provision.service.bulk.RequisitionDiff;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,6 +66,8 @@ public class ImportOperationsManager {
     private String m_rescanExisting;
     
     private String m_foreignSource;
+
+    private RequisitionDiff m_requisitionDiff;
     
     /**
      * <p>Constructor for ImportOperationsManager.</p>
@@ -296,6 +299,20 @@ public class ImportOperationsManager {
     public String getRescanExisting() {
         return m_rescanExisting;
     }
+
+    /**
+     * The nodes to insert and delete in bulk, if the requisition is imported in bulk. The operations of
+     * this manager then only cover the existing nodes that need to be updated.
+     *
+     * @return the difference between requisition and database or <code>null</code>
+     */
+    public RequisitionDiff getRequisitionDiff() {
+        return m_requisitionDiff;
+    }
+
+    public void setRequisitionDiff(final RequisitionDiff requisitionDiff) {
+        m_requisitionDiff = requisitionDiff;
+    }
     
     /**
      * <p>auditNodes</p>
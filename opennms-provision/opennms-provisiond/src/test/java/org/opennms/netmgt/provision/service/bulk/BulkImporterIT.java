@@ -0,0 +1,370 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision.service.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.joda.time.Duration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.opennms.core.test.MockLogAppender;
+import org.opennms.core.test.OpenNMSJUnit4ClassRunner;
+import org.opennms.core.test.db.annotations.JUnitTemporaryDatabase;
+import org.opennms.core.xml.JaxbUtils;
+import org.opennms.netmgt.dao.mock.MockEventIpcManager;
+import org.opennms.netmgt.events.api.EventConstants;
+import org.opennms.netmgt.events.api.EventListener;
+import org.opennms.netmgt.events.api.model.IEvent;
+import org.opennms.netmgt.model.PrimaryType;
+import org.opennms.netmgt.provision.persist.MockForeignSourceRepository;
+import org.opennms.netmgt.provision.persist.foreignsource.ForeignSource;
+import org.opennms.netmgt.provision.persist.requisition.Requisition;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionAsset;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionCategory;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionInterface;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionMetaData;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionMonitoredService;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionNode;
+import org.opennms.netmgt.provision.service.ProvisionService;
+import org.opennms.netmgt.provision.service.Provisioner;
+import org.opennms.netmgt.provision.service.operations.NoOpProvisionMonitor;
+import org.opennms.test.JUnitConfigurationEnvironment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Imports the same requisitions node by node and in bulk and verifies that both leave the same rows
+ * in the database and send the same node events.
+ */
+@RunWith(OpenNMSJUnit4ClassRunner.class)
+@ContextConfiguration(locations={
+        "classpath:/META-INF/opennms/applicationContext-soa.xml",
+        "classpath:/META-INF/opennms/applicationContext-commonConfigs.xml",
+        "classpath:/META-INF/opennms/applicationContext-minimal-conf.xml",
+        "classpath:/META-INF/opennms/applicationContext-dao.xml",
+        "classpath:/META-INF/opennms/applicationContext-mockConfigManager.xml",
+        "classpath*:/META-INF/opennms/component-dao.xml",
+        "classpath:/META-INF/opennms/applicationContext-daemon.xml",
+        "classpath:/META-INF/opennms/applicationContext-proxy-snmp.xml",
+        "classpath:/META-INF/opennms/mockEventIpcManager.xml",
+        "classpath:/META-INF/opennms/applicationContext-provisiond.xml",
+        "classpath:/META-INF/opennms/applicationContext-rpc-dns.xml",
+        "classpath:/META-INF/opennms/applicationContext-snmp-profile-mapper.xml",
+        "classpath:/META-INF/opennms/applicationContext-tracer-registry.xml",
+        "classpath*:/META-INF/opennms/provisiond-extensions.xml",
+        "classpath*:/META-INF/opennms/detectors.xml",
+        "classpath:/mockForeignSourceContext.xml",
+        "classpath:/importerServiceTest.xml"
+})
+@JUnitConfigurationEnvironment(systemProperties={
+        "org.opennms.provisiond.enableDiscovery=false",
+        "org.opennms.provisiond.reverseResolveRequisitionIpInterfaceHostnames=false"
+})
+@JUnitTemporaryDatabase
+public class BulkImporterIT {
+    private static final Logger LOG = LoggerFactory.getLogger(BulkImporterIT.class);
+
+    private static final String REGULAR = "regular";
+
+    private static final String BULK = "bulk";
+
+    /**
+     * The node counts imported by {@link #testInsertAndDeleteTimings()}, 100000 takes a couple of minutes.
+     */
+    private static final String TIMING_NODES_SYS_PROP = "org.opennms.provisiond.bulkImport.timingNodes";
+
+    private static final Set<String> IGNORED_COLUMNS = new HashSet<>(Arrays.asList("id", "nodeid", "ipinterfaceid", "snmpinterfaceid", "foreignsource"));
+
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+
+    @Autowired
+    private Provisioner m_provisioner;
+
+    @Autowired
+    private ProvisionService m_provisionService;
+
+    @Autowired
+    private BulkImporter m_bulkImporter;
+
+    @Autowired
+    private MockEventIpcManager m_eventIpcManager;
+
+    @Autowired
+    private JdbcTemplate m_jdbcTemplate;
+
+    private final List<IEvent> m_events = Collections.synchronizedList(new ArrayList<>());
+
+    private final Map<String, List<IEvent>> m_eventsByForeignSource = new HashMap<>();
+
+    private final Map<Long, String> m_foreignIds = new HashMap<>();
+
+    private final EventListener m_listener = new EventListener() {
+        @Override
+        public String getName() {
+            return BulkImporterIT.class.getSimpleName();
+        }
+
+        @Override
+        public void onEvent(final IEvent e) {
+            m_events.add(e);
+        }
+    };
+
+    @Before
+    public void setUp() {
+        MockLogAppender.setupLogging();
+
+        // Negative scan intervals keep the node scans from changing the imported nodes
+        final MockForeignSourceRepository foreignSourceRepository = new MockForeignSourceRepository();
+        for (final String name : Arrays.asList(REGULAR, BULK)) {
+            final ForeignSource foreignSource = new ForeignSource();
+            foreignSource.setName(name);
+            foreignSource.setScanInterval(Duration.millis(-1));
+            foreignSourceRepository.save(foreignSource);
+        }
+        final ForeignSource defaultForeignSource = new ForeignSource();
+        defaultForeignSource.setName("default");
+        defaultForeignSource.setScanInterval(Duration.millis(-1));
+        foreignSourceRepository.putDefaultForeignSource(defaultForeignSource);
+        m_provisionService.setForeignSourceRepository(foreignSourceRepository);
+
+        m_eventIpcManager.addEventListener(m_listener);
+    }
+
+    @After
+    public void tearDown() {
+        m_eventIpcManager.removeEventListener(m_listener);
+        System.clearProperty(BulkImporter.ENABLED_SYS_PROP);
+    }
+
+    @Test
+    public void testImportMatchesRegularImport() throws Exception {
+        // Initial import
+        importAndCompare(false, false);
+        assertEquals(Integer.valueOf(5), countNodes(BULK));
+
+        // Unchanged re-import
+        importAndCompare(false, false);
+        assertEquals(Integer.valueOf(5), countNodes(BULK));
+
+        // A node is relabeled, one gains an interface, one loses a category, one is removed and one is added
+        importAndCompare(true, false);
+        assertEquals(Integer.valueOf(5), countNodes(BULK));
+
+        // All nodes are removed
+        importAndCompare(true, true);
+        assertEquals(Integer.valueOf(0), countNodes(BULK));
+    }
+
+    @Test
+    public void testInsertAndDeleteTimings() {
+        for (final String count : System.getProperty(TIMING_NODES_SYS_PROP, "1000,10000").split(",")) {
+            final int nodes = Integer.parseInt(count.trim());
+            final String foreignSource = "timing" + nodes;
+
+            final Requisition requisition = new Requisition(foreignSource);
+            for (int i = 0; i < nodes; i++) {
+                requisition.putNode(createNode(i, false));
+            }
+
+            long start = System.currentTimeMillis();
+            final RequisitionDiff inserts = m_bulkImporter.audit(requisition, "dbonly");
+            final long audited = System.currentTimeMillis();
+            m_bulkImporter.insert(inserts, "timing");
+            final long inserted = System.currentTimeMillis();
+            assertEquals(Integer.valueOf(nodes), countNodes(foreignSource));
+
+            final RequisitionDiff unchanged = m_bulkImporter.audit(requisition, "dbonly");
+            final long reaudited = System.currentTimeMillis();
+            assertEquals(nodes, unchanged.getUnchanged().size());
+
+            final RequisitionDiff deletes = m_bulkImporter.audit(new Requisition(foreignSource), "dbonly");
+            final long deleteAudited = System.currentTimeMillis();
+            m_bulkImporter.delete(deletes);
+            final long deleted = System.currentTimeMillis();
+            assertEquals(Integer.valueOf(0), countNodes(foreignSource));
+
+            LOG.info("{} nodes: audit {}ms, insert {}ms, unchanged audit {}ms, delete audit {}ms, delete {}ms", nodes,
+                    audited - start, inserted - audited, reaudited - inserted, deleteAudited - reaudited, deleted - deleteAudited);
+            m_events.clear();
+        }
+    }
+
+    private void importAndCompare(final boolean changed, final boolean empty) throws Exception {
+        updateForeignIds();
+        importRequisition(createRequisition(REGULAR, changed, empty), false);
+        importRequisition(createRequisition(BULK, changed, empty), true);
+        updateForeignIds();
+
+        assertEquals(rows("SELECT * FROM node WHERE foreignsource = ?"),
+                rows("SELECT * FROM node WHERE foreignsource = ?", BULK));
+        assertEquals(rows("SELECT n.foreignid, a.* FROM assets a JOIN node n ON n.nodeid = a.nodeid WHERE n.foreignsource = ?"),
+                rows("SELECT n.foreignid, a.* FROM assets a JOIN node n ON n.nodeid = a.nodeid WHERE n.foreignsource = ?", BULK));
+        assertEquals(rows("SELECT n.foreignid, c.categoryname FROM category_node cn JOIN categories c ON c.categoryid = cn.categoryid "
+                + "JOIN node n ON n.nodeid = cn.nodeid WHERE n.foreignsource = ?"),
+                rows("SELECT n.foreignid, c.categoryname FROM category_node cn JOIN categories c ON c.categoryid = cn.categoryid "
+                + "JOIN node n ON n.nodeid = cn.nodeid WHERE n.foreignsource = ?", BULK));
+        assertEquals(rows("SELECT n.foreignid, m.* FROM node_metadata m JOIN node n ON n.nodeid = m.id WHERE n.foreignsource = ?"),
+                rows("SELECT n.foreignid, m.* FROM node_metadata m JOIN node n ON n.nodeid = m.id WHERE n.foreignsource = ?", BULK));
+        assertEquals(rows("SELECT n.foreignid, i.* FROM ipinterface i JOIN node n ON n.nodeid = i.nodeid WHERE n.foreignsource = ?"),
+                rows("SELECT n.foreignid, i.* FROM ipinterface i JOIN node n ON n.nodeid = i.nodeid WHERE n.foreignsource = ?", BULK));
+        assertEquals(rows("SELECT n.foreignid, i.ipaddr, m.* FROM ipinterface_metadata m JOIN ipinterface i ON i.id = m.id "
+                + "JOIN node n ON n.nodeid = i.nodeid WHERE n.foreignsource = ?"),
+                rows("SELECT n.foreignid, i.ipaddr, m.* FROM ipinterface_metadata m JOIN ipinterface i ON i.id = m.id "
+                + "JOIN node n ON n.nodeid = i.nodeid WHERE n.foreignsource = ?", BULK));
+        assertEquals(rows("SELECT n.foreignid, i.ipaddr, t.servicename, s.* FROM ifservices s JOIN service t ON t.serviceid = s.serviceid "
+                + "JOIN ipinterface i ON i.id = s.ipinterfaceid JOIN node n ON n.nodeid = i.nodeid WHERE n.foreignsource = ?"),
+                rows("SELECT n.foreignid, i.ipaddr, t.servicename, s.* FROM ifservices s JOIN service t ON t.serviceid = s.serviceid "
+                + "JOIN ipinterface i ON i.id = s.ipinterfaceid JOIN node n ON n.nodeid = i.nodeid WHERE n.foreignsource = ?", BULK));
+        assertEquals(rows("SELECT n.foreignid, i.ipaddr, t.servicename, m.* FROM ifservices_metadata m JOIN ifservices s ON s.id = m.id "
+                + "JOIN service t ON t.serviceid = s.serviceid JOIN ipinterface i ON i.id = s.ipinterfaceid "
+                + "JOIN node n ON n.nodeid = i.nodeid WHERE n.foreignsource = ?"),
+                rows("SELECT n.foreignid, i.ipaddr, t.servicename, m.* FROM ifservices_metadata m JOIN ifservices s ON s.id = m.id "
+                + "JOIN service t ON t.serviceid = s.serviceid JOIN ipinterface i ON i.id = s.ipinterfaceid "
+                + "JOIN node n ON n.nodeid = i.nodeid WHERE n.foreignsource = ?", BULK));
+
+        assertEquals(events(REGULAR), events(BULK));
+    }
+
+    private void importRequisition(final Requisition requisition, final boolean bulk) throws Exception {
+        final File file = m_folder.newFile(requisition.getForeignSource() + "-" + System.nanoTime() + ".xml");
+        JaxbUtils.marshal(requisition, file);
+
+        if (bulk) {
+            System.setProperty(BulkImporter.ENABLED_SYS_PROP, "true");
+        } else {
+            System.clearProperty(BulkImporter.ENABLED_SYS_PROP);
+        }
+
+        m_events.clear();
+        m_provisioner.doImport(file.toURI().toURL().toString(), "dbonly", new NoOpProvisionMonitor());
+        synchronized (m_events) {
+            assertTrue(m_events.stream().anyMatch(e -> EventConstants.IMPORT_SUCCESSFUL_UEI.equals(e.getUei())));
+            assertFalse(m_events.stream().anyMatch(e -> EventConstants.IMPORT_FAILED_UEI.equals(e.getUei())));
+            m_eventsByForeignSource.put(requisition.getForeignSource(), new ArrayList<>(m_events));
+        }
+    }
+
+    private void updateForeignIds() {
+        m_jdbcTemplate.query("SELECT nodeid, foreignid FROM node WHERE foreignsource IN (?, ?)", rs -> {
+            m_foreignIds.put(rs.getLong(1), rs.getString(2));
+        }, REGULAR, BULK);
+    }
+
+    private Integer countNodes(final String foreignSource) {
+        return m_jdbcTemplate.queryForObject("SELECT count(*) FROM node WHERE foreignsource = ?", Integer.class, foreignSource);
+    }
+
+    /**
+     * Returns the rows without their generated IDs, dates are only compared for whether they are set.
+     */
+    private List<String> rows(final String sql, final String foreignSource) {
+        return m_jdbcTemplate.queryForList(sql, foreignSource).stream().map(row -> {
+            final Map<String, Object> normalized = new TreeMap<>();
+            row.forEach((column, value) -> {
+                if (!IGNORED_COLUMNS.contains(column.toLowerCase())) {
+                    normalized.put(column.toLowerCase(), value instanceof java.util.Date ? "<set>" : value);
+                }
+            });
+            return normalized.toString();
+        }).sorted().collect(Collectors.toList());
+    }
+
+    private List<String> rows(final String sql) {
+        return rows(sql, REGULAR);
+    }
+
+    /**
+     * Returns the node events of the last import with the node IDs replaced by foreign IDs.
+     */
+    private List<String> events(final String foreignSource) {
+        return m_eventsByForeignSource.get(foreignSource).stream()
+                .filter(e -> e.getNodeid() != null && e.getNodeid() > 0)
+                .map(e -> String.join(" ", e.getUei(), m_foreignIds.get(e.getNodeid()), String.valueOf(e.getInterface()), String.valueOf(e.getService())))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static Requisition createRequisition(final String foreignSource, final boolean changed, final boolean empty) {
+        final Requisition requisition = new Requisition(foreignSource);
+        if (empty) {
+            return requisition;
+        }
+        for (int i = 0; i < 5; i++) {
+            if (!changed || i != 4) {
+                requisition.putNode(createNode(i, changed));
+            }
+        }
+        if (changed) {
+            requisition.putNode(createNode(5, true));
+        }
+        return requisition;
+    }
+
+    private static RequisitionNode createNode(final int i, final boolean changed) {
+        final RequisitionNode node = new RequisitionNode();
+        node.setForeignId("node" + i);
+        node.setNodeLabel(changed && i == 1 ? "renamed" + i : "node" + i);
+        node.putCategory(new RequisitionCategory("Servers"));
+        if (!changed || i != 3) {
+            node.putCategory(new RequisitionCategory("Routers"));
+        }
+        node.putAsset(new RequisitionAsset("city", "Fulda"));
+        node.putAsset(new RequisitionAsset("description", "node " + i));
+        node.getMetaData().add(new RequisitionMetaData("requisition", "rack", Integer.toString(i % 42)));
+        final int interfaces = changed && i == 2 ? 3 : 2;
+        for (int j = 0; j < interfaces; j++) {
+            final RequisitionInterface iface = new RequisitionInterface();
+            iface.setIpAddr(String.format("10.%d.%d.%d", (i >> 16) * 3 + j, (i >> 8) & 0xff, i & 0xff));
+            iface.setSnmpPrimary(j == 0 ? PrimaryType.PRIMARY : PrimaryType.NOT_ELIGIBLE);
+            iface.getMetaData().add(new RequisitionMetaData("requisition", "port", Integer.toString(j)));
+            final RequisitionMonitoredService icmp = new RequisitionMonitoredService("ICMP");
+            icmp.getMetaData().add(new RequisitionMetaData("requisition", "timeout", "2000"));
+            iface.putMonitoredService(icmp);
+            iface.putMonitoredService(new RequisitionMonitoredService(j == 0 ? "SNMP" : "HTTP"));
+            node.putInterface(iface);
+        }
+        return node;
+    }
+}
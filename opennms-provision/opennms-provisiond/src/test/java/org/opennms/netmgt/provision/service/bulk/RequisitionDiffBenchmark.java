@@ -0,0 +1,135 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision.service.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opennms.netmgt.model.PrimaryType;
+import org.opennms.netmgt.provision.persist.requisition.Requisition;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionAsset;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionCategory;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionInterface;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionMetaData;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionMonitoredService;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionNode;
+import org.opennms.netmgt.provision.service.bulk.ForeignSourceSnapshot.ExistingNode;
+
+/**
+ * Use the Java Microbenchmarking Harness (JMH) to measure how long it takes to compare synthetic
+ * requisitions with the nodes of their foreign source.
+ * <p>
+ * Every node has two interfaces with two services each, a category, an asset and a meta-data entry.
+ * The requisition is either imported for the first time, re-imported without changes or re-imported
+ * with one percent of the nodes changed. Loading the snapshot and applying the difference depend on
+ * the database and are timed by {@link BulkImporterIT#testInsertAndDeleteTimings()} instead.
+ */
+public class RequisitionDiffBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BState {
+
+        @Param({"1000", "10000", "100000"})
+        public int nodes;
+
+        @Param({"initial", "unchanged", "changed"})
+        public String scenario;
+
+        private Requisition requisition;
+        private ForeignSourceSnapshot snapshot;
+
+        @Setup
+        public void setup() {
+            final List<RequisitionNode> requisitionNodes = new ArrayList<>(nodes);
+            snapshot = new ForeignSourceSnapshot("benchmark");
+            for (int i = 0; i < nodes; i++) {
+                requisitionNodes.add(createNode(i, "changed".equals(scenario) && i % 100 == 0));
+                if (!"initial".equals(scenario)) {
+                    addExistingNode(i);
+                }
+            }
+            requisition = new Requisition("benchmark");
+            requisition.setNodes(requisitionNodes);
+        }
+
+        private static RequisitionNode createNode(final int i, final boolean changed) {
+            final RequisitionNode node = new RequisitionNode();
+            node.setForeignId("node" + i);
+            node.setNodeLabel(changed ? "changed" + i : "node" + i);
+            node.putCategory(new RequisitionCategory("Servers"));
+            node.putAsset(new RequisitionAsset("city", "Fulda"));
+            node.getMetaData().add(new RequisitionMetaData("requisition", "rack", Integer.toString(i % 42)));
+            for (int j = 0; j < 2; j++) {
+                final RequisitionInterface iface = new RequisitionInterface();
+                iface.setIpAddr(getIpAddress(i, j));
+                iface.setSnmpPrimary(j == 0 ? PrimaryType.PRIMARY : PrimaryType.NOT_ELIGIBLE);
+                iface.putMonitoredService(new RequisitionMonitoredService("ICMP"));
+                iface.putMonitoredService(new RequisitionMonitoredService("SSH"));
+                node.putInterface(iface);
+            }
+            return node;
+        }
+
+        private void addExistingNode(final int i) {
+            final ExistingNode node = snapshot.addNode(i + 1, "node" + i, "node" + i, "U", "Default");
+            node.getAssets().put("category", "Unspecified");
+            node.getAssets().put("city", "Fulda");
+            snapshot.addNodeMetaData(i + 1, "requisition", "rack", Integer.toString(i % 42));
+            for (int j = 0; j < 2; j++) {
+                final int interfaceId = (i + 1) * 10 + j;
+                snapshot.addInterface(i + 1, interfaceId, getIpAddress(i, j), "M", j == 0 ? "P" : "N");
+                snapshot.addService(interfaceId, interfaceId * 10, "ICMP", "A");
+                snapshot.addService(interfaceId, interfaceId * 10 + 1, "SSH", "A");
+            }
+        }
+
+        private static String getIpAddress(final int i, final int j) {
+            return String.format("10.%d.%d.%d", (i >> 16) * 2 + j, (i >> 8) & 0xff, i & 0xff);
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public RequisitionDiff compute(BState state) {
+        return RequisitionDiff.compute(state.requisition, state.snapshot, "true");
+    }
+}
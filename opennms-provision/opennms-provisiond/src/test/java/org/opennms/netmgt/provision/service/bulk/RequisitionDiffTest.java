@@ -0,0 +1,224 @@
+/*
+ * Licensed to The OpenNMS Group, Inc (TOG) under one or more
+ * contributor license agreements.  See the LICENSE.md file
+ * distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * TOG licenses this file to You under the GNU Affero General
+ * Public License Version 3 (the "License") or (at your option)
+ * any later version.  You may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at:
+ *
+ *      https://www.gnu.org/licenses/agpl-3.0.txt
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the
+ * License.
+ */
+package org.opennms.netmgt.provision.service.bulk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opennms.netmgt.model.OnmsNode;
+import org.opennms.netmgt.model.PrimaryType;
+import org.opennms.netmgt.provision.persist.requisition.Requisition;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionAsset;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionInterface;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionMetaData;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionMonitoredService;
+import org.opennms.netmgt.provision.persist.requisition.RequisitionNode;
+import org.opennms.netmgt.provision.service.bulk.ForeignSourceSnapshot.ExistingNode;
+
+public class RequisitionDiffTest {
+    private static final String FOREIGN_SOURCE = "fs";
+
+    private Requisition m_requisition;
+    private ForeignSourceSnapshot m_snapshot;
+
+    @Before
+    public void setUp() {
+        m_requisition = new Requisition(FOREIGN_SOURCE);
+        m_snapshot = new ForeignSourceSnapshot(FOREIGN_SOURCE);
+    }
+
+    @Test
+    public void shouldInsertAndDelete() {
+        m_requisition.putNode(createNode("new"));
+        addExistingNode(1, "gone");
+
+        final RequisitionDiff diff = RequisitionDiff.compute(m_requisition, m_snapshot, "true");
+
+        assertEquals(1, diff.getInserts().size());
+        final OnmsNode inserted = diff.getInserts().get(0);
+        assertEquals("new", inserted.getForeignId());
+        assertEquals(FOREIGN_SOURCE, inserted.getForeignSource());
+        assertEquals(1, inserted.getIpInterfaces().size());
+        assertEquals(1, inserted.getIpInterfaces().iterator().next().getMonitoredServices().size());
+
+        assertEquals(Collections.singletonList("gone"), foreignIds(diff.getDeletes()));
+        assertTrue(diff.getUpdates().isEmpty());
+        assertTrue(diff.getUnchanged().isEmpty());
+    }
+
+    @Test
+    public void shouldSkipUnchangedNodes() {
+        m_requisition.putNode(createNode("node"));
+        addExistingNode(1, "node");
+
+        final RequisitionDiff diff = RequisitionDiff.compute(m_requisition, m_snapshot, "true");
+
+        assertEquals(Collections.singletonList("node"), foreignIds(diff.getUnchanged()));
+        assertTrue(diff.getInserts().isEmpty());
+        assertTrue(diff.getUpdates().isEmpty());
+        assertTrue(diff.getDeletes().isEmpty());
+    }
+
+    @Test
+    public void shouldUpdateChangedLabel() {
+        final RequisitionNode node = createNode("node");
+        node.setNodeLabel("renamed");
+        m_requisition.putNode(node);
+        addExistingNode(1, "node");
+
+        assertUpdated(RequisitionDiff.compute(m_requisition, m_snapshot, "true"));
+    }
+
+    @Test
+    public void shouldUpdateChangedLocation() {
+        final RequisitionNode node = createNode("node");
+        node.setLocation("elsewhere");
+        m_requisition.putNode(node);
+        addExistingNode(1, "node");
+
+        assertUpdated(RequisitionDiff.compute(m_requisition, m_snapshot, "true"));
+    }
+
+    @Test
+    public void shouldUpdateNewInterface() {
+        final RequisitionNode node = createNode("node");
+        node.putInterface(createInterface("10.0.0.2", PrimaryType.NOT_ELIGIBLE));
+        m_requisition.putNode(node);
+        addExistingNode(1, "node");
+
+        assertUpdated(RequisitionDiff.compute(m_requisition, m_snapshot, "true"));
+    }
+
+    @Test
+    public void shouldUpdateNewService() {
+        final RequisitionNode node = createNode("node");
+        node.getInterface("10.0.0.1").putMonitoredService(new RequisitionMonitoredService("HTTP"));
+        m_requisition.putNode(node);
+        addExistingNode(1, "node");
+
+        assertUpdated(RequisitionDiff.compute(m_requisition, m_snapshot, "true"));
+    }
+
+    @Test
+    public void shouldIgnoreStatusOfUnmonitoredServices() {
+        m_requisition.putNode(createNode("node"));
+        addExistingNode(1, "node");
+        m_snapshot.getNode("node").getInterfaces().get("10.0.0.1").getServices().clear();
+        m_snapshot.addService(10, 100, "ICMP", "N");
+
+        assertEquals(1, RequisitionDiff.compute(m_requisition, m_snapshot, "true").getUnchanged().size());
+    }
+
+    @Test
+    public void shouldUpdateChangedAsset() {
+        final RequisitionNode node = createNode("node");
+        node.putAsset(new RequisitionAsset("city", "Stuttgart"));
+        m_requisition.putNode(node);
+        addExistingNode(1, "node").getAssets().put("city", "Fulda");
+
+        assertUpdated(RequisitionDiff.compute(m_requisition, m_snapshot, "true"));
+
+        m_snapshot.getNode("node").getAssets().put("city", "Stuttgart");
+        assertEquals(1, RequisitionDiff.compute(m_requisition, m_snapshot, "true").getUnchanged().size());
+    }
+
+    @Test
+    public void shouldUpdateChangedMetaData() {
+        final RequisitionNode node = createNode("node");
+        node.getMetaData().add(new RequisitionMetaData("requisition", "key", "new"));
+        m_requisition.putNode(node);
+        addExistingNode(1, "node");
+        m_snapshot.addNodeMetaData(1, "requisition", "key", "old");
+
+        assertUpdated(RequisitionDiff.compute(m_requisition, m_snapshot, "true"));
+    }
+
+    @Test
+    public void shouldUpdateWhenPrimaryInterfaceMoves() {
+        m_requisition.putNode(createNode("node"));
+        addExistingNode(1, "node");
+        m_snapshot.getNode("node").getInterfaces().get("10.0.0.1").getServices().clear();
+        m_snapshot.addInterface(1, 11, "10.0.0.2", "M", "P");
+
+        // 10.0.0.1 is still primary, so the merge has to demote 10.0.0.2
+        assertUpdated(RequisitionDiff.compute(m_requisition, m_snapshot, "true"));
+    }
+
+    @Test
+    public void shouldNotUpdateExistingNodesWithoutRescan() {
+        final RequisitionNode node = createNode("node");
+        node.setNodeLabel("renamed");
+        m_requisition.putNode(node);
+        addExistingNode(1, "node");
+
+        final RequisitionDiff diff = RequisitionDiff.compute(m_requisition, m_snapshot, "false");
+
+        assertTrue(diff.getUpdates().isEmpty());
+        assertEquals(1, diff.getUnchanged().size());
+
+        assertUpdated(RequisitionDiff.compute(m_requisition, m_snapshot, "dbonly"));
+    }
+
+    private static void assertUpdated(final RequisitionDiff diff) {
+        assertEquals(1, diff.getUpdates().size());
+        assertEquals(Collections.singletonMap("node", 1), diff.getUpdatedNodeIds());
+        assertTrue(diff.getUnchanged().isEmpty());
+        assertTrue(diff.getInserts().isEmpty());
+        assertTrue(diff.getDeletes().isEmpty());
+    }
+
+    private static List<String> foreignIds(final List<ExistingNode> nodes) {
+        return nodes.stream().map(ExistingNode::getForeignId).collect(Collectors.toList());
+    }
+
+    private ExistingNode addExistingNode(final int nodeId, final String foreignId) {
+        final ExistingNode node = m_snapshot.addNode(nodeId, foreignId, foreignId, "U", "Default");
+        // Default of every asset record
+        node.getAssets().put("category", "Unspecified");
+        m_snapshot.addInterface(nodeId, nodeId * 10, "10.0.0.1", "M", "P");
+        m_snapshot.addService(nodeId * 10, nodeId * 100, "ICMP", "A");
+        return node;
+    }
+
+    private static RequisitionNode createNode(final String foreignId) {
+        final RequisitionNode node = new RequisitionNode();
+        node.setForeignId(foreignId);
+        node.setNodeLabel(foreignId);
+        final RequisitionInterface iface = createInterface("10.0.0.1", PrimaryType.PRIMARY);
+        iface.putMonitoredService(new RequisitionMonitoredService("ICMP"));
+        node.putInterface(iface);
+        return node;
+    }
+
+    private static RequisitionInterface createInterface(final String ipAddress, final PrimaryType primaryType) {
+        final RequisitionInterface iface = new RequisitionInterface();
+        iface.setIpAddr(ipAddress);
+        iface.setSnmpPrimary(primaryType);
+        return iface;
+    }
+}
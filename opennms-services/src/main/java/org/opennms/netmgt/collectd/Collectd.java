@@ -85,6 +85,7 @@ import org.opennms.netmgt.model.events.EventUtils;
 import org.opennms.netmgt.scheduler.LegacyScheduler;
 import org.opennms.netmgt.scheduler.ReadyRunnable;
 import org.opennms.netmgt.scheduler.Scheduler;
+import org.opennms.netmgt.scheduler.TimingWheelScheduler;
 import org.opennms.netmgt.snmp.InetAddrUtils;
 import org.opennms.netmgt.threshd.api.ThresholdingService;
 import org.slf4j.Logger;
@@ -133,6 +134,11 @@ public class Collectd extends AbstractServiceDaemon implements
      * Log4j category
      */
     static final String LOG4J_CATEGORY = "collectd";
+
+    /**
+     * Set to {@value TimingWheelScheduler#TYPE} to use the {@link TimingWheelScheduler} instead of the {@link LegacyScheduler}.
+     */
+    public static final String SCHEDULER_SYS_PROP = "org.opennms.netmgt.collectd.scheduler";
     
     /**
      * Instantiated service collectors specified in config file
@@ -317,7 +323,11 @@ public class Collectd extends AbstractServiceDaemon implements
             // Create a scheduler
             try {
                 LOG.debug("init: Creating collectd scheduler");
-                setScheduler(new LegacyScheduler("Collectd", m_collectdConfigFactory.getThreads()));
+                if (TimingWheelScheduler.TYPE.equals(System.getProperty(SCHEDULER_SYS_PROP))) {
+                    setScheduler(new TimingWheelScheduler("Collectd", m_collectdConfigFactory.getThreads()));
+                } else {
+                    setScheduler(new LegacyScheduler("Collectd", m_collectdConfigFactory.getThreads()));
+                }
             } catch (final RuntimeException e) {
                 LOG.error("init: Failed to create collectd scheduler", e);
                 throw e;
@@ -480,8 +490,8 @@ public class Collectd extends AbstractServiceDaemon implements
                 // Add new collectable service to the collectable service list.
                 m_collectableServices.add(cSvc);
 
-                // Schedule the collectable service for immediate collection
-                getScheduler().schedule(0, cSvc.getReadyRunnable());
+                // Schedule the collectable service for immediate collection, unless the scheduler spreads the first collections
+                getScheduler().schedule(getScheduler().getStartDelay(spec.getInterval()), cSvc.getReadyRunnable());
 
                 LOG.debug("scheduleInterface: {}/{} collection, scheduled", iface, svcName);
             } catch (CollectionInitializationException e) {
@@ -1117,6 +1127,8 @@ public class Collectd extends AbstractServiceDaemon implements
         // during initialization
         
         m_filterDao.flushActiveIpAddressListCache();
+        // Make sure the filters see the new service, even if the inventory listener did not get the event yet
+        m_filterDao.refreshNode(event.getNodeid().intValue(), event);
 
         scheduleInterface(event.getNodeid().intValue(), event.getInterface(),
                           event.getService());
@@ -40,6 +40,7 @@ import org.opennms.netmgt.events.api.EventListener;
 import org.opennms.netmgt.events.api.model.IEvent;
 import org.opennms.netmgt.events.api.model.IParm;
 import org.opennms.netmgt.events.api.model.IValue;
+import org.opennms.netmgt.filter.FilterDaoFactory;
 import org.opennms.netmgt.model.events.EventBuilder;
 import org.opennms.netmgt.model.events.EventUtils;
 import org.opennms.netmgt.poller.pollables.PollableInterface;
@@ -186,6 +187,9 @@ final class PollerEventProcessor implements EventListener {
         final Long nodeId = event.getNodeid();
         final String svcName = event.getService();
 
+        // Make sure the package filters see the new service, even if the inventory listener did not get the event yet
+        FilterDaoFactory.getInstance().refreshNode(nodeId.intValue(), event);
+
         String nodeLabel = EventUtils.getParm(event, EventConstants.PARM_NODE_LABEL);
         try {
             nodeLabel = getPoller().getQueryManager().getNodeLabel(nodeId.intValue());
@@ -640,6 +644,7 @@ final class PollerEventProcessor implements EventListener {
             LOG.error("Unable to retrieve nodeLocation for node {}", nodeId, e);
         }
 
+        FilterDaoFactory.getInstance().refreshNode(nodeId.intValue(), event);
         getPollerConfig().rebuildPackageIpListMap();
         serviceReschedule(nodeId, nodeLabel, nodeLocation, event, rescheduleExisting);
     }
@@ -41,6 +41,8 @@ import org.opennms.netmgt.poller.pollables.PollableService;
 import org.opennms.netmgt.scheduler.LegacyScheduler;
 import org.opennms.netmgt.scheduler.ReadyRunnable;
 import org.opennms.netmgt.scheduler.Schedule;
+import org.opennms.netmgt.scheduler.Scheduler;
+import org.opennms.netmgt.scheduler.TimingWheelScheduler;
 
 /**
  * <p>Pollerd class.</p>
@@ -196,37 +198,53 @@ public class Pollerd extends AbstractSpringContextJmxServiceDaemon<org.opennms.n
     public TabularData getSchedule() throws OpenDataException {
         final long currentTimeMs = System.currentTimeMillis();
         final TabularData tabularData = new TabularDataSupport(SCHEDULE_TABULAR_TYPE);
-        final Map<Long, BlockingQueue<ReadyRunnable>> queue = ((LegacyScheduler) getDaemon().getScheduler()).getQueue();
+        final Scheduler scheduler = getDaemon().getScheduler();
+        if (scheduler instanceof TimingWheelScheduler) {
+            for (final LegacyScheduler.TimeKeeper timeKeeper : ((TimingWheelScheduler) scheduler).getScheduledEntries()) {
+                addToSchedule(tabularData, timeKeeper, currentTimeMs);
+            }
+            return tabularData;
+        }
+        final Map<Long, BlockingQueue<ReadyRunnable>> queue = ((LegacyScheduler) scheduler).getQueue();
         synchronized (queue) {
             for (final Map.Entry<Long, BlockingQueue<ReadyRunnable>> entry : queue.entrySet()) {
                 final List<LegacyScheduler.TimeKeeper> pollableServiceList = entry.getValue().stream().map(r -> (LegacyScheduler.TimeKeeper) r).collect(Collectors.toList());
                 for (final LegacyScheduler.TimeKeeper timeKeeper : pollableServiceList) {
-                    final long readyTimeAbsoluteMs = timeKeeper.getTimeToRun();
-                    final long readyTimeMs = readyTimeAbsoluteMs - currentTimeMs;
-                    final PollableService pollableService = ((PollableService)((Schedule.ScheduleEntry)timeKeeper.getRunnable()).getSchedulable());
-                    final String ipAddress = pollableService.getIpAddr();
-                    final int nodeId= pollableService.getNodeId();
-                    final String nodeLabel = pollableService.getNodeLabel();
-                    final String nodeLocation = pollableService.getNodeLocation();
-                    final String service=pollableService.getSvcName();
-                    final String status = pollableService.getStatus().getStatusName();
-                    final long statusChangeTimeMs = pollableService.getStatusChangeTime();
-                    tabularData.put(new CompositeDataSupport(
-                            SCHEDULE_COMPOSITE_TYPE,
-                            SCHEDULE_ITEMS,
-                            new Object[]{nodeId, nodeLabel, nodeLocation, ipAddress, service, readyTimeMs, readyTimeAbsoluteMs, status, statusChangeTimeMs}
-                    ));
+                    addToSchedule(tabularData, timeKeeper, currentTimeMs);
                 }
             }
             return tabularData;
         }
     }
 
+    private static void addToSchedule(final TabularData tabularData, final LegacyScheduler.TimeKeeper timeKeeper, final long currentTimeMs) throws OpenDataException {
+        final long readyTimeAbsoluteMs = timeKeeper.getTimeToRun();
+        final long readyTimeMs = readyTimeAbsoluteMs - currentTimeMs;
+        final PollableService pollableService = ((PollableService)((Schedule.ScheduleEntry)timeKeeper.getRunnable()).getSchedulable());
+        final String ipAddress = pollableService.getIpAddr();
+        final int nodeId= pollableService.getNodeId();
+        final String nodeLabel = pollableService.getNodeLabel();
+        final String nodeLocation = pollableService.getNodeLocation();
+        final String service=pollableService.getSvcName();
+        final String status = pollableService.getStatus().getStatusName();
+        final long statusChangeTimeMs = pollableService.getStatusChangeTime();
+        tabularData.put(new CompositeDataSupport(
+                SCHEDULE_COMPOSITE_TYPE,
+                SCHEDULE_ITEMS,
+                new Object[]{nodeId, nodeLabel, nodeLocation, ipAddress, service, readyTimeMs, readyTimeAbsoluteMs, status, statusChangeTimeMs}
+        ));
+    }
+
     private ThreadPoolExecutor getExecutor() {
-        return (ThreadPoolExecutor) ((LegacyScheduler) getDaemon().getScheduler()).getRunner();
+        final Scheduler scheduler = getDaemon().getScheduler();
+        if (scheduler instanceof TimingWheelScheduler) {
+            return (ThreadPoolExecutor) ((TimingWheelScheduler) scheduler).getRunner();
+        }
+        return (ThreadPoolExecutor) ((LegacyScheduler) scheduler).getRunner();
     }
 
     private boolean getThreadPoolStatsStatus() {
-        return (getDaemon().getScheduler() instanceof LegacyScheduler);
+        final Scheduler scheduler = getDaemon().getScheduler();
+        return scheduler instanceof LegacyScheduler || scheduler instanceof TimingWheelScheduler;
     }
 }
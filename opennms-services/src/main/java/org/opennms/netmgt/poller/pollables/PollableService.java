@@ -464,10 +464,19 @@ public class PollableService extends PollableElement implements ReadyRunnable, M
      * <p>schedule</p>
      */
     public void schedule() {
+        schedule(0L);
+    }
+
+    /**
+     * Schedules the first poll after the given delay.
+     *
+     * @param startDelay the delay in milliseconds
+     */
+    public void schedule(long startDelay) {
         if (m_schedule == null)
             throw new IllegalStateException("Cannot schedule a service whose schedule is set to null");
         
-        m_schedule.schedule();
+        m_schedule.schedule(startDelay);
     }
 
     public void sendDeleteEvent(final boolean ignoreUnmanaged) {
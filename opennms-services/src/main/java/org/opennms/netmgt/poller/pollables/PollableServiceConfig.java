@@ -209,6 +209,16 @@ public class PollableServiceConfig implements PollConfig, ScheduleInterval {
         return m_timer.getCurrentTime();
     }
 
+    /**
+     * Returns the interval configured for the service in the package, ignoring the downtime model.
+     *
+     * @return the interval in milliseconds
+     */
+    public synchronized long getConfiguredInterval() {
+        final Long interval = m_configService.getInterval();
+        return interval != null ? interval : -1;
+    }
+
     /**
      * <p>getInterval</p>
      *
@@ -261,6 +261,7 @@ public class CollectdMoreIT {
         assertEquals(1, m_serviceCollector.getCollectCount());
 
         verify(m_filterDao, atLeastOnce()).flushActiveIpAddressListCache();
+        verify(m_filterDao, atLeastOnce()).refreshNode(eq(1), any());
         verify(m_collectdConfigFactory, atLeastOnce()).getCollectors();
         verify(m_collectdConfigFactory, atLeastOnce()).getPackages();
         verify(m_collectdConfigFactory, atLeastOnce()).interfaceInPackage(any(OnmsIpInterface.class), any(Package.class));
@@ -190,6 +190,8 @@ public class DuplicatePrimaryAddressIT {
         verify();
 
         Mockito.verify(m_filterDao, times(3)).flushActiveIpAddressListCache();
+        Mockito.verify(m_filterDao).refreshNode(eq(1), any());
+        Mockito.verify(m_filterDao).refreshNode(eq(3), any());
         Mockito.verify(m_collectdConfigFactory, atLeastOnce()).getCollectors();
         Mockito.verify(m_collectdConfigFactory, atLeastOnce()).getPackages();
         Mockito.verify(m_collectdConfigFactory, atLeastOnce()).interfaceInPackage(any(OnmsIpInterface.class), any(Package.class));